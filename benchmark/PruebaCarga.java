@@ -0,0 +1,147 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+
+// Generador de carga HTTP para cualquiera de los tres servicios: N clientes concurrentes (por
+// defecto 1000) repiten la misma peticion durante un tiempo fijo y se informa throughput, p50 y p99.
+// No depende de ningun modulo; se corre con el launcher de archivos fuente de Java 21:
+//
+//   java -Dcarga.url=http://localhost:8082/duodeal/products benchmark/PruebaCarga.java
+//
+//   java -Dcarga.url=http://localhost:8083/duodeal/cart/add -Dcarga.metodo=POST \
+//        -Dcarga.cuerpo='{"token":"<jwt>","userid":1,"productid":1,"quantity":1}' benchmark/PruebaCarga.java
+//
+//   java -Dcarga.url=http://localhost:8080/duodeal/auth/login -Dcarga.metodo=POST -Dcarga.clientes=200 \
+//        -Dcarga.cuerpo='{"mail":"admin@gmail.com","password":"admin123"}' benchmark/PruebaCarga.java
+//
+// Para comparar hilos virtuales con hilos de plataforma se levanta el servicio con
+// VIRTUAL_THREADS=true y luego con false, y se corre lo mismo contra cada uno.
+// Las respuestas >= 400 (por ejemplo 503 de BCrypt saturado) cuentan como errores.
+//
+// Medicion del 2026-10-18 (1000 clientes, 10 s de calentamiento y 20 s medidos, servicio con H2 en
+// memoria y la carga en la misma maquina de 1 CPU; con MySQL y mas nucleos los numeros cambian):
+//   GET  /duodeal/products   virtuales:  498 req/s  p50  212 ms  p99 5370 ms  0 errores
+//                            plataforma: 334 req/s  p50 3220 ms  p99 6280 ms  0 errores
+//   POST /duodeal/cart/add   virtuales:  473 req/s  p50 2677 ms  p99 5079 ms   528 errores
+//   (siempre el mismo        plataforma: 252 req/s  p50 3871 ms  p99 7751 ms  2157 errores
+//    carrito)
+// Los errores del carrito son 400 por esperar mas de 5 s una de las 30 conexiones de Hikari: todas
+// las compras pelean por la misma fila, y con hilos virtuales el pool es el limite, no Tomcat.
+public class PruebaCarga {
+
+    public static void main(String[] args) throws Exception {
+        String url = System.getProperty("carga.url", "http://localhost:8082/duodeal/products");
+        String metodo = System.getProperty("carga.metodo", "GET");
+        String cuerpo = System.getProperty("carga.cuerpo");
+        String token = System.getProperty("carga.token");
+        int clientes = Integer.getInteger("carga.clientes", 1000);
+        int segundos = Integer.getInteger("carga.segundos", 30);
+        int calentamiento = Integer.getInteger("carga.calentamiento", 10);
+
+        HttpClient http = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofSeconds(30))
+                .method(metodo, cuerpo == null
+                        ? HttpRequest.BodyPublishers.noBody()
+                        : HttpRequest.BodyPublishers.ofString(cuerpo));
+        if (cuerpo != null) {
+            builder.header("Content-Type", "application/json");
+        }
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest peticion = builder.build();
+
+        // Primero sin medir, para que el JIT y los pools del servicio lleguen a regimen
+        if (calentamiento > 0) {
+            correr(http, peticion, clientes, calentamiento);
+        }
+        Resultado resultado = correr(http, peticion, clientes, segundos);
+
+        long[] todas = resultado.latencias();
+        System.out.printf("%s %s | clientes=%d | %d s%n", metodo, url, clientes, segundos);
+        long errores = resultado.errores().values().stream().mapToLong(LongAdder::sum).sum();
+        System.out.printf("peticiones=%d errores=%d throughput=%.1f req/s%n",
+                todas.length, errores, todas.length / (double) segundos);
+        if (errores > 0) {
+            // Por codigo HTTP o por tipo de excepcion del cliente
+            Map<String, Long> porCausa = new TreeMap<>();
+            resultado.errores().forEach((causa, cantidad) -> porCausa.put(causa, cantidad.sum()));
+            System.out.println("errores por causa: " + porCausa);
+        }
+        if (todas.length > 0) {
+            System.out.printf("p50=%.1f ms p99=%.1f ms max=%.1f ms%n",
+                    percentil(todas, 0.50), percentil(todas, 0.99), todas[todas.length - 1] / 1e6);
+        }
+    }
+
+    private record Resultado(long[] latencias, Map<String, LongAdder> errores) {}
+
+    private static Resultado correr(HttpClient http, HttpRequest peticion, int clientes, int segundos) {
+        List<Latencias> porCliente = new ArrayList<>();
+        Map<String, LongAdder> errores = new ConcurrentHashMap<>();
+        long fin = System.nanoTime() + Duration.ofSeconds(segundos).toNanos();
+
+        try (ExecutorService clientesVirtuales = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < clientes; i++) {
+                Latencias latencias = new Latencias();
+                porCliente.add(latencias);
+                clientesVirtuales.submit(() -> {
+                    while (System.nanoTime() < fin) {
+                        long inicio = System.nanoTime();
+                        try {
+                            HttpResponse<Void> r = http.send(peticion, HttpResponse.BodyHandlers.discarding());
+                            if (r.statusCode() >= 400) {
+                                errores.computeIfAbsent("HTTP " + r.statusCode(), k -> new LongAdder()).increment();
+                            }
+                        } catch (Exception e) {
+                            errores.computeIfAbsent(e.getClass().getSimpleName(), k -> new LongAdder()).increment();
+                        }
+                        latencias.agregar(System.nanoTime() - inicio);
+                    }
+                });
+            }
+        }
+
+        long[] todas = new long[porCliente.stream().mapToInt(l -> l.cantidad).sum()];
+        int pos = 0;
+        for (Latencias l : porCliente) {
+            System.arraycopy(l.valores, 0, todas, pos, l.cantidad);
+            pos += l.cantidad;
+        }
+        Arrays.sort(todas);
+        return new Resultado(todas, errores);
+    }
+
+    // Latencias de un cliente; cada cliente escribe solo en la suya
+    private static final class Latencias {
+        long[] valores = new long[1024];
+        int cantidad;
+
+        void agregar(long nanos) {
+            if (cantidad == valores.length) {
+                valores = Arrays.copyOf(valores, cantidad * 2);
+            }
+            valores[cantidad++] = nanos;
+        }
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        int i = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, i)] / 1e6;
+    }
+}
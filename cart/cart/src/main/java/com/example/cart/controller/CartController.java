@@ -1,18 +1,23 @@
 package com.example.cart.controller;
 
 import java.util.List;
+import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.cart.model.Cart;
 import com.example.cart.model.CartItem;
 import com.example.cart.model.dto.AddItemRequest;
+import com.example.cart.model.dto.CheckoutRequest;
 import com.example.cart.model.dto.DeleteItem;
 import com.example.cart.model.dto.UpdateItemRequest;
 import com.example.cart.service.CartService;
+import com.example.cart.webclient.ReservaRechazadaException;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.*;
@@ -29,16 +34,31 @@ public class CartController {
     private CartService cartService;
 
     //obtener carrito
-    @Operation(summary = "Obtener carrito del usuario", description = "Devuelve el carrito asociado al usuario; si no existe, lo crea")
+    @Operation(summary = "Obtener carrito del usuario", description = "Devuelve el carrito asociado al usuario; si no existe, lo crea. El ETag es la versión del carrito; con If-None-Match responde 304 si no cambió")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Carrito obtenido correctamente"),
+            @ApiResponse(responseCode = "304", description = "El carrito no cambió (If-None-Match)"),
             @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping("/{userId}")
-    public ResponseEntity<?> obtenerCarrito(@PathVariable Long userId) {
+    public ResponseEntity<?> obtenerCarrito(@PathVariable Long userId, WebRequest request) {
         try {
+            // Solo se consulta la version; el carrito y sus items se cargan si cambio
+            Long version = cartService.obtenerVersion(userId);
+            if (version != null && request.checkNotModified(String.valueOf(version))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(String.valueOf(version))
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+
             Cart cart = cartService.getOrCreateCart(userId);
-            return ResponseEntity.ok(cart);
+            ResponseEntity.BodyBuilder respuesta = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+            if (version == null) {
+                // Recien creado: checkNotModified no llego a poner el ETag
+                respuesta.eTag(String.valueOf(cart.getVersion()));
+            }
+            return respuesta.body(cart);
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ErrorResponse("Error al obtener carrito", e.getMessage()));
@@ -166,6 +186,32 @@ public ResponseEntity<?> eliminarItem(
     
     
     
+    // Comprar carrito
+
+    @Operation(summary = "Comprar el carrito completo", description = "Reserva el stock de todos los items en una sola operación (todo o nada) y vacía el carrito")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Compra realizada, se devuelve el resultado por línea"),
+            @ApiResponse(responseCode = "400", description = "Usuario inválido o carrito vacío"),
+            @ApiResponse(responseCode = "409", description = "Algún producto no tiene stock suficiente; el carrito no se modifica"),
+            @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PostMapping("/checkout")
+    public ResponseEntity<?> comprarCarrito(@RequestBody CheckoutRequest request) {
+        try {
+            Map<String, Object> resultado = cartService.checkout(request.getToken(), request.getUserid());
+            return ResponseEntity.ok(new SuccessResponse("Compra realizada correctamente", resultado));
+        } catch (ReservaRechazadaException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getDetalle());
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse("Error al comprar carrito", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Error interno del servidor", e.getMessage()));
+        }
+    }
+
+    
     @Schema(description = "Respuesta de error estandarizada")
     public static class ErrorResponse {
         @Schema(description = "Tipo de error", example = "Error de validación")
@@ -1,5 +1,6 @@
 package com.example.cart.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,4 +29,10 @@ public class Cart {
     @OneToMany(mappedBy = "cart", cascade = CascadeType.ALL, orphanRemoval = true)
     @JsonManagedReference
     private List<CartItem> items = new ArrayList<>();
+
+    // ETag de GET /cart/{userId}. Los items viven en otra tabla, asi que CartService la sube a mano
+    // en cada operacion que los cambia, con la fila bloqueada por CartRepository.findParaModificar.
+    // No es @Version: un conflicto optimista haria fallar cambios concurrentes que son validos
+    @JsonIgnore
+    private long version;
 }
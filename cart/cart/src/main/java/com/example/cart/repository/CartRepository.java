@@ -3,12 +3,27 @@ package com.example.cart.repository;
 import java.util.Optional;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.cart.model.Cart;
 
+import jakarta.persistence.LockModeType;
+
 @Repository
 public interface CartRepository extends JpaRepository<Cart, Long>{
 
     Optional<Cart> findByUserId(Long userId);
+
+    // Para agregar, cambiar o quitar items: bloquea la fila del carrito (SELECT ... FOR UPDATE)
+    // hasta el commit, asi dos cambios concurrentes sobre el mismo carrito se hacen uno tras otro
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select c from Carrito c where c.userId = :userId")
+    Optional<Cart> findParaModificar(@Param("userId") Long userId);
+
+    // Solo la version, para responder If-None-Match sin cargar el carrito ni sus items
+    @Query("select c.version from Carrito c where c.userId = :userId")
+    Optional<Long> findVersionByUserId(@Param("userId") Long userId);
 }
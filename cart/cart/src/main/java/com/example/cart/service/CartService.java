@@ -2,17 +2,22 @@ package com.example.cart.service;
 
 import com.example.cart.model.Cart;
 import com.example.cart.model.CartItem;
+import com.example.cart.model.dto.LineaReserva;
 import com.example.cart.repository.CartItemRepository;
 import com.example.cart.repository.CartRepository;
+import com.example.cart.webclient.productclient;
 import com.example.cart.webclient.usuarioclient;
 import com.fasterxml.jackson.databind.JsonNode;
 
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Transactional
@@ -21,32 +26,67 @@ import org.springframework.stereotype.Service;
 public class CartService {
 
     private final usuarioclient usuarioclient;
+    private final productclient productclient;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
+    private final JwtVerifier jwtVerifier;
+
+    // Si es false, un token sin el claim userId (o con otro id) se rechaza sin consultar al servicio de usuarios
+    @Value("${usuario-service.fallback:true}")
+    private boolean fallbackRemoto = true;
 
 
   
+    // Valida el token localmente (firma y expiracion). Solo se llama al servicio de usuarios
+    // cuando el token no trae el id del usuario o trae un id distinto al pedido
+    private void validarUsuario(String token, Long idusuario, String mensaje) {
+        Optional<Long> idToken = jwtVerifier.obtenerUserId(token);
+        if (idToken.isPresent() && idToken.get().equals(idusuario)) {
+            return;
+        }
+        if (!fallbackRemoto) {
+            throw new RuntimeException(mensaje);
+        }
+        // Se espera aquí: los pedidos corren en hilos virtuales, donde bloquear no ocupa un hilo de Tomcat
+        Map<String, Object> usuario = usuarioclient.existeUsuario(idusuario, token).block();
+        if (usuario == null || usuario.isEmpty()) {
+            throw new RuntimeException(mensaje);
+        }
+    }
+
     //metodo para crear o buscar un carrito
     public Cart getOrCreateCart(Long userId) {
         return cartRepository.findByUserId(userId)
-                .orElseGet(() -> {
-                    Cart newCart = new Cart();
-                    newCart.setUserId(userId);
-                    return cartRepository.save(newCart);
-                });
+                .orElseGet(() -> crearCarrito(userId));
+    }
+
+    // Version del carrito (cambia con cada operacion sobre sus items), o null si no existe
+    public Long obtenerVersion(Long userId) {
+        return cartRepository.findVersionByUserId(userId).orElse(null);
+    }
+
+    // Como getOrCreateCart, pero con la fila del carrito bloqueada hasta el commit y la version
+    // ya incrementada; los cambios concurrentes sobre el mismo carrito esperan en vez de fallar
+    private Cart carritoParaModificar(Long userId) {
+        Cart cart = cartRepository.findParaModificar(userId)
+                .orElseGet(() -> crearCarrito(userId));
+        cart.setVersion(cart.getVersion() + 1);
+        return cart;
+    }
+
+    private Cart crearCarrito(Long userId) {
+        Cart newCart = new Cart();
+        newCart.setUserId(userId);
+        return cartRepository.save(newCart);
     }
 
   //metodo para agregar un item a un carrito
    public Cart addItem(String token, Long idusuario, Long productId, int quantity) {
 
-// Validar si el usuario existe antes de agregar el producto, enviando token
-Map<String, Object> usuario = usuarioclient.obtenerUsuarioPorId(idusuario, token);
+// Validar el token y el usuario antes de operar
+validarUsuario(token, idusuario, "Usuario no encontrado, no se puede agregar el producto");
 
-if (usuario == null || usuario.isEmpty()) {
-    throw new RuntimeException("Usuario no encontrado, no se puede agregar el producto");
-}
-
-Cart cart = getOrCreateCart(idusuario);
+Cart cart = carritoParaModificar(idusuario);
 
 // Limpiar items corruptos que tengan productId nulo
 cart.getItems().removeIf(item -> item.getProductId() == null);
@@ -78,14 +118,10 @@ return cartRepository.save(cart);
 
    public Cart updateItemQuantity(String token, Long idusuario, Long itemId, int quantity) {
 
-    // validar si el usuario existe antes de agregar el producto, enviando token
-    Map<String, Object> usuario = usuarioclient.obtenerUsuarioPorId(idusuario, token);
-
-    if (usuario == null || usuario.isEmpty()) {
-        throw new RuntimeException("Usuario no encontrado, no se puede actualizar el producto");
-    }
+    // Validar el token y el usuario antes de operar
+    validarUsuario(token, idusuario, "Usuario no encontrado, no se puede actualizar el producto");
 
-    Cart cart = getOrCreateCart(idusuario);
+    Cart cart = carritoParaModificar(idusuario);
 
     CartItem item = cartItemRepository.findById(itemId)
             .orElseThrow(() -> new RuntimeException("Item no encontrado"));
@@ -108,13 +144,10 @@ return cartRepository.save(cart);
   
     public Cart removeItem(String token, Long idusuario, Long productId) {
 
-    // Validar si el usuario existe
-    Map<String, Object> usuario = usuarioclient.obtenerUsuarioPorId(idusuario, token);
-    if (usuario == null || usuario.isEmpty()) {
-        throw new RuntimeException("Usuario no encontrado");
-    }
+    // Validar el token y el usuario antes de operar
+    validarUsuario(token, idusuario, "Usuario no encontrado");
 
-    Cart cart = getOrCreateCart(idusuario);
+    Cart cart = carritoParaModificar(idusuario);
 
     // Buscar el item por productId y carrito
     Optional<CartItem> optionalItem = cart.getItems().stream()
@@ -136,18 +169,49 @@ return cartRepository.save(cart);
    
     public void clearCart(String token, Long idusuario) {
 
-           // validar si el usuario existe antes de agregar el producto, enviando token
-        Map<String, Object> usuario = usuarioclient.obtenerUsuarioPorId(idusuario, token);
-        
-         if (usuario == null || usuario.isEmpty()) {
-            throw new RuntimeException("Usuario no encontrado, no se puede agregar el producto");
-        }
+           // Validar el token y el usuario antes de operar
+           validarUsuario(token, idusuario, "Usuario no encontrado, no se puede agregar el producto");
 
-        Cart cart = getOrCreateCart(idusuario);
+        Cart cart = carritoParaModificar(idusuario);
 
         cartItemRepository.deleteAll(cart.getItems());
         cart.getItems().clear();
 
         cartRepository.save(cart);
     }
-}
\ No newline at end of file
+
+    // Compra todo el carrito: reserva el stock de todos los items en una sola llamada
+    // al servicio de productos y, si se reservo, vacia el carrito.
+    // La reserva remota no se puede deshacer (los productos que quedan en 0 se borran), asi que
+    // todo el trabajo local se hace antes de llamar: la fila del carrito queda bloqueada y el
+    // vaciado ya esta escrito (flush). Si eso falla no se reserva nada; si la reserva falla se
+    // lanza una excepcion y el vaciado se revierte. Despues de la reserva solo queda el commit
+    public Map<String, Object> checkout(String token, Long idusuario) {
+
+        // Validar el token y el usuario antes de operar
+        validarUsuario(token, idusuario, "Usuario no encontrado, no se puede realizar la compra");
+
+        Cart cart = carritoParaModificar(idusuario);
+
+        if (cart.getItems().isEmpty()) {
+            throw new RuntimeException("El carrito está vacío");
+        }
+
+        List<LineaReserva> lineas = cart.getItems().stream()
+                .map(item -> new LineaReserva(item.getProductId(), item.getQuantity()))
+                .collect(Collectors.toList());
+
+        cartItemRepository.deleteAll(cart.getItems());
+        cart.getItems().clear();
+        cartRepository.saveAndFlush(cart);
+
+        // Si falta stock lanza ReservaRechazadaException y el vaciado se revierte.
+        // Se espera aquí, en el hilo virtual del pedido
+        Map<String, Object> resultado = productclient.reservarStock(lineas, token).block();
+        if (resultado == null) {
+            throw new RuntimeException("El servicio de productos no confirmó la reserva");
+        }
+
+        return resultado;
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.cart.service;
+
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// Verifica en este proceso los JWT emitidos por el servicio de usuarios (HMAC con el mismo
+// jwt.secret): firma y expiracion. El parser se arma una sola vez y es thread-safe.
+//
+// Copia duplicada a proposito: la misma clase, salvo el package, esta en product/product (com.example.product.Service.JwtVerifier).
+// Los servicios son proyectos Maven separados, sin parent ni modulo comun donde compartirla.
+// Un cambio aqui se repite en la otra copia y tiene que seguir el formato de JwtUtil del servicio
+// de usuarios (claim userId). JwtVerifierTest de cart cubre las dos copias mientras sean iguales.
+@Component
+public class JwtVerifier {
+
+    public static final String CLAIM_USER_ID = "userId";
+
+    private final JwtParser parser;
+
+    public JwtVerifier(@Value("${jwt.secret}") String secret) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser().verifyWith(key).build();
+    }
+
+    // Devuelve el id del usuario del token si la firma y la expiracion son validas.
+    // Vacio si el token es valido pero no trae el claim (tokens emitidos antes de agregarlo).
+    // Lanza TokenInvalidoException si la firma no corresponde, esta vencido o esta mal formado
+    public Optional<Long> obtenerUserId(String token) {
+        if (token == null || token.isBlank()) {
+            throw new TokenInvalidoException("Token ausente");
+        }
+        Claims claims;
+        try {
+            claims = parser.parseSignedClaims(token).getPayload();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new TokenInvalidoException("Token inválido o expirado");
+        }
+        Object id = claims.get(CLAIM_USER_ID);
+        if (id instanceof Number numero) {
+            return Optional.of(numero.longValue());
+        }
+        return Optional.empty();
+    }
+
+    public static class TokenInvalidoException extends RuntimeException {
+        public TokenInvalidoException(String mensaje) {
+            super(mensaje);
+        }
+    }
+}
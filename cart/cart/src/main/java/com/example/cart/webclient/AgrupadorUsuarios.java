@@ -0,0 +1,102 @@
+package com.example.cart.webclient;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+// Junta los pedidos de un usuario por id que llegan casi a la vez (dentro de "ventana") en una
+// sola llamada por lote. Los lotes son por token: el servicio de usuarios autoriza con el token
+// de quien pregunta, asi que nunca se mezclan pedidos de tokens distintos. Un lote se envia al
+// cerrarse la ventana o apenas junta "maxLote" ids distintos; el mismo id pedido dos veces
+// dentro de la ventana comparte la respuesta
+public class AgrupadorUsuarios {
+
+    private final BiFunction<List<Long>, String, Mono<Map<Long, Map<String, Object>>>> buscarLote;
+    private final Duration ventana;
+    private final int maxLote;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Map<String, Lote> abiertos = new HashMap<>();
+
+    private static final class Lote {
+        final String token;
+        final Map<Long, Sinks.One<Map<String, Object>>> pedidos = new LinkedHashMap<>();
+
+        Lote(String token) {
+            this.token = token;
+        }
+    }
+
+    public AgrupadorUsuarios(BiFunction<List<Long>, String, Mono<Map<Long, Map<String, Object>>>> buscarLote,
+                             Duration ventana, int maxLote) {
+        this.buscarLote = buscarLote;
+        this.ventana = ventana;
+        this.maxLote = maxLote;
+    }
+
+    public Mono<Map<String, Object>> pedir(Long id, String token) {
+        return Mono.defer(() -> {
+            Sinks.One<Map<String, Object>> respuesta;
+            Lote completo = null;
+            Lote nuevo = null;
+            lock.lock();
+            try {
+                Lote lote = abiertos.get(token);
+                if (lote == null) {
+                    lote = new Lote(token);
+                    abiertos.put(token, lote);
+                    nuevo = lote;
+                }
+                respuesta = lote.pedidos.computeIfAbsent(id, k -> Sinks.one());
+                if (lote.pedidos.size() >= maxLote) {
+                    abiertos.remove(token);
+                    completo = lote;
+                }
+            } finally {
+                lock.unlock();
+            }
+
+            if (completo != null) {
+                enviar(completo);
+            } else if (nuevo != null) {
+                Lote programado = nuevo;
+                Mono.delay(ventana).subscribe(t -> cerrar(programado));
+            }
+            return respuesta.asMono();
+        });
+    }
+
+    private void cerrar(Lote lote) {
+        lock.lock();
+        try {
+            // Si ya se envio por llenarse, no queda nada que hacer
+            if (!abiertos.remove(lote.token, lote)) {
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        enviar(lote);
+    }
+
+    private void enviar(Lote lote) {
+        List<Long> ids = new ArrayList<>(lote.pedidos.keySet());
+        buscarLote.apply(ids, lote.token)
+                .defaultIfEmpty(Map.of())
+                .subscribe(encontrados -> lote.pedidos.forEach((id, respuesta) -> {
+                    Map<String, Object> usuario = encontrados.get(id);
+                    if (usuario != null) {
+                        respuesta.tryEmitValue(usuario);
+                    } else {
+                        respuesta.tryEmitError(new UsuarioRechazadoException("Usuario no encontrado: " + id));
+                    }
+                }), error -> lote.pedidos.values().forEach(respuesta -> respuesta.tryEmitError(error)));
+    }
+}
@@ -0,0 +1,18 @@
+package com.example.cart.webclient;
+
+import java.util.Map;
+
+// El servicio de productos rechazo la reserva (409); trae el detalle por linea
+public class ReservaRechazadaException extends RuntimeException {
+
+    private final Map<String, Object> detalle;
+
+    public ReservaRechazadaException(Map<String, Object> detalle) {
+        super("No hay stock suficiente para completar la compra");
+        this.detalle = detalle;
+    }
+
+    public Map<String, Object> getDetalle() {
+        return detalle;
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.cart.webclient;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import reactor.core.publisher.Mono;
+
+// Cache de la validacion de usuario contra el servicio de usuarios.
+// La clave es (userId, SHA-256 del token) y cada entrada vence con el TTL configurado
+// o con el exp del JWT, lo que ocurra primero. Las respuestas 4xx tambien se guardan
+// (cache negativa) con un TTL mas corto.
+@Component
+public class UsuarioCache {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final AsyncCache<String, Entrada> cache;
+    private final Duration ttl;
+    private final Duration ttlNegativo;
+
+    public UsuarioCache(
+            @Value("${cart.usuario-cache.max-entries:10000}") long maxEntradas,
+            @Value("${cart.usuario-cache.ttl:5m}") Duration ttl,
+            @Value("${cart.usuario-cache.ttl-negativo:30s}") Duration ttlNegativo,
+            MeterRegistry registry) {
+        this.ttl = ttl;
+        this.ttlNegativo = ttlNegativo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfter(new Expiry<String, Entrada>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entrada entrada, long ahora) {
+                        return entrada.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entrada entrada, long ahora, long restante) {
+                        return entrada.ttlNanos();
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entrada entrada, long ahora, long restante) {
+                        return restante;
+                    }
+                })
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(registry, cache, "usuarios-token");
+    }
+
+    // Devuelve el usuario cacheado o lo busca con la llamada remota, sin bloquear.
+    // Las llamadas concurrentes con la misma clave comparten una sola llamada en curso
+    public Mono<Map<String, Object>> obtener(Long userId, String token, Supplier<Mono<Map<String, Object>>> llamada) {
+        Duration vidaToken = vidaRestante(token);
+        if (vidaToken != null && (vidaToken.isNegative() || vidaToken.isZero())) {
+            // Token vencido: no se cachea, el servicio de usuarios decide
+            return llamada.get();
+        }
+        Duration positivo = minimo(ttl, vidaToken);
+        Duration negativo = minimo(ttlNegativo, vidaToken);
+
+        CompletableFuture<Entrada> entrada = cache.get(clave(userId, token), (k, executor) -> llamada.get()
+                .map(usuario -> new Entrada(usuario, null, positivo.toNanos()))
+                .onErrorResume(UsuarioRechazadoException.class,
+                        e -> Mono.just(new Entrada(null, e.getMessage(), negativo.toNanos())))
+                .toFuture());
+
+        return Mono.fromFuture(entrada).flatMap(e -> e.error() != null
+                ? Mono.error(new UsuarioRechazadoException(e.error()))
+                : Mono.justOrEmpty(e.usuario()));
+    }
+
+    public void invalidarTodo() {
+        cache.synchronous().invalidateAll();
+    }
+
+    static String clave(Long userId, String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return userId + ":" + HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    // Tiempo hasta el exp del JWT leyendo el payload (sin verificar firma: solo acota el TTL).
+    // null si el token no trae exp legible
+    static Duration vidaRestante(String token) {
+        if (token == null) {
+            return null;
+        }
+        String[] partes = token.split("\\.");
+        if (partes.length < 2) {
+            return null;
+        }
+        try {
+            JsonNode payload = MAPPER.readTree(Base64.getUrlDecoder().decode(partes[1]));
+            JsonNode exp = payload.get("exp");
+            if (exp == null || !exp.canConvertToLong()) {
+                return null;
+            }
+            return Duration.ofSeconds(exp.asLong() - System.currentTimeMillis() / 1000);
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static Duration minimo(Duration a, Duration b) {
+        return b == null || a.compareTo(b) <= 0 ? a : b;
+    }
+
+    private record Entrada(Map<String, Object> usuario, String error, long ttlNanos) {
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.cart.webclient;
+
+// El servicio de usuarios respondio 4xx: token invalido o usuario inexistente
+public class UsuarioRechazadoException extends RuntimeException {
+
+    public UsuarioRechazadoException(String mensaje) {
+        super(mensaje);
+    }
+}
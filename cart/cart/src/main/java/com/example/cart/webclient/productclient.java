@@ -1,33 +1,65 @@
 package com.example.cart.webclient;
 
+import java.util.List;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import com.example.cart.model.dto.LineaReserva;
+
+import reactor.core.publisher.Mono;
+
 @Component
 public class productclient {
 
+    private static final ParameterizedTypeReference<Map<String, Object>> MAPA =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
 
-    public productclient(@Value("${usuario-service.url}") String usuarioServidor) {
+    public productclient(@Value("${product-service.url}") String productoServidor) {
         this.webClient = WebClient.builder()
-                .baseUrl(usuarioServidor)
+                .baseUrl(productoServidor)
                 .build();
     }
 
-    // Método para obtener un usuario por id enviando token JWT para autenticación
-    public Map<String, Object> obtenerUsuarioPorId(Long id, String token) {
+    // Método para obtener un producto por id enviando token JWT para autenticación.
+    // No bloquea; quien lo use decide dónde esperar el resultado
+    public Mono<Map<String, Object>> obtenerProductoPorId(Long id, String token) {
         return this.webClient.get()
                 .uri("/products/{id}", id)
                 .headers(headers -> headers.setBearerAuth(token))  // Aquí se agrega el token JWT
                 .retrieve()
                 .onStatus(status -> status.is4xxClientError(),
                     response -> response.bodyToMono(String.class)
-                        .map(body -> new RuntimeException("Usuario no encontrado")))
-                .bodyToMono(Map.class)
-                .block();
+                        .defaultIfEmpty("")
+                        .map(body -> new RuntimeException("Producto no encontrado")))
+                .bodyToMono(MAPA);
+    }
+
+    // Reserva el stock de todas las lineas en una sola llamada; si alguna no alcanza
+    // el servicio de productos no descuenta nada y responde 409 con el detalle.
+    // Los 4xx sin cuerpo (p. ej. 401/403 del filtro de seguridad) tambien son error:
+    // sin defaultIfEmpty el handler no emite nada y WebClient lo tomaria como exito
+    public Mono<Map<String, Object>> reservarStock(List<LineaReserva> lineas, String token) {
+        return this.webClient.post()
+                .uri("/products/stock/reserve")
+                .headers(headers -> headers.setBearerAuth(token))
+                .bodyValue(Map.of("items", lineas))
+                .retrieve()
+                .onStatus(status -> status.value() == HttpStatus.CONFLICT.value(),
+                    response -> response.bodyToMono(MAPA)
+                        .defaultIfEmpty(Map.of())
+                        .map(ReservaRechazadaException::new))
+                .onStatus(status -> status.is4xxClientError(),
+                    response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> new RuntimeException("Reserva de stock inválida: " + body)))
+                .bodyToMono(MAPA);
     }
 
-}
\ No newline at end of file
+}
@@ -2,10 +2,14 @@ package com.example.cart.controller;
 
 import com.example.cart.model.Cart;
 import com.example.cart.model.dto.AddItemRequest;
+import com.example.cart.model.dto.CheckoutRequest;
 import com.example.cart.model.dto.UpdateItemRequest;
 import com.example.cart.service.CartService;
+import com.example.cart.webclient.ReservaRechazadaException;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.util.Map;
+
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -42,6 +46,30 @@ class CartControllerTest {
                 .andExpect(jsonPath("$").exists());
     }
 
+    @Test
+    void obtenerCarrito_noModificado() throws Exception {
+        Mockito.when(cartService.obtenerVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/duodeal/cart/{userId}", 1L)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"3\""));
+
+        Mockito.verify(cartService, Mockito.never()).getOrCreateCart(1L);
+    }
+
+    @Test
+    void obtenerCarrito_modificadoDevuelveNuevoEtag() throws Exception {
+        Mockito.when(cartService.obtenerVersion(1L)).thenReturn(4L);
+        Mockito.when(cartService.getOrCreateCart(1L)).thenReturn(new Cart());
+
+        mockMvc.perform(get("/duodeal/cart/{userId}", 1L)
+                        .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(jsonPath("$.version").doesNotExist());
+    }
+
     @Test
     void obtenerCarrito_errorInterno() throws Exception {
         Mockito.when(cartService.getOrCreateCart(1L))
@@ -173,4 +201,30 @@ class CartControllerTest {
                 .andExpect(jsonPath("$.error")
                         .value("Error al vaciar carrito"));
     }
+
+       // COMPRAR CARRITO
+
+    @Test
+    void comprarCarrito_ok() throws Exception {
+        Mockito.when(cartService.checkout("token123", 1L))
+                .thenReturn(Map.of("status", "RESERVADO"));
+
+        mockMvc.perform(post("/duodeal/cart/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckoutRequest("token123", 1L))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("RESERVADO"));
+    }
+
+    @Test
+    void comprarCarrito_sinStock() throws Exception {
+        Mockito.when(cartService.checkout("token123", 1L))
+                .thenThrow(new ReservaRechazadaException(Map.of("status", "RECHAZADO")));
+
+        mockMvc.perform(post("/duodeal/cart/checkout")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(new CheckoutRequest("token123", 1L))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value("RECHAZADO"));
+    }
 }
@@ -0,0 +1,196 @@
+package com.example.cart.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.cart.model.Cart;
+import com.example.cart.model.CartItem;
+import com.example.cart.service.CartService;
+import com.example.cart.service.JwtVerifier;
+import com.example.cart.webclient.ReservaRechazadaException;
+import com.example.cart.webclient.productclient;
+import com.example.cart.webclient.usuarioclient;
+
+import reactor.core.publisher.Mono;
+
+// Cada hilo corre su propia transaccion contra H2, como pedidos concurrentes sobre el mismo carrito;
+// el servicio de productos es un mock. LOCK_TIMEOUT alto: los hilos esperan el bloqueo de la fila del carrito en vez de fallar
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:carrito;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(CartService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CartConcurrencyTest {
+
+    private static final int HILOS = 8;
+    private static final Long USUARIO = 10L;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private JwtVerifier jwtVerifier;
+
+    @MockBean
+    private usuarioclient usuarioclient;
+
+    @MockBean
+    private productclient productclient;
+
+    @BeforeEach
+    void preparar() {
+        // El token trae el mismo userId: no se consulta al servicio de usuarios
+        when(jwtVerifier.obtenerUserId(anyString())).thenReturn(Optional.of(USUARIO));
+    }
+
+    @AfterEach
+    void limpiar() {
+        cartRepository.deleteAll();
+    }
+
+    @Test
+    void dosCambiosConcurrentes_ambosSeAplican() throws Exception {
+        Cart inicial = cartService.getOrCreateCart(USUARIO);
+
+        List<Future<Cart>> resultados = ejecutarALaVez(2, i -> cartService.addItem("token", USUARIO, 100L + i, 1));
+
+        for (Future<Cart> resultado : resultados) {
+            assertNotNull(resultado.get());
+        }
+        Cart cart = cartRepository.findByUserId(USUARIO).orElseThrow();
+        assertEquals(inicial.getVersion() + 2, cart.getVersion());
+        assertEquals(2, contarItems());
+    }
+
+    @Test
+    void cambiosConcurrentesSobreElMismoItem_noPierdenCantidad() throws Exception {
+        Cart inicial = cartService.getOrCreateCart(USUARIO);
+
+        List<Future<Cart>> resultados = ejecutarALaVez(HILOS, i -> cartService.addItem("token", USUARIO, 100L, 1));
+
+        for (Future<Cart> resultado : resultados) {
+            assertNotNull(resultado.get());
+        }
+        Cart cart = cartRepository.findByUserId(USUARIO).orElseThrow();
+        assertEquals(inicial.getVersion() + HILOS, cart.getVersion());
+        assertEquals(HILOS, cantidadDe(100L));
+    }
+
+    // ---------------- CHECKOUT ----------------
+
+    @Test
+    void checkout_reservaRechazada_elCarritoQuedaIntacto() {
+        cartService.addItem("token", USUARIO, 100L, 2);
+        when(productclient.reservarStock(anyList(), anyString()))
+                .thenReturn(Mono.error(new ReservaRechazadaException(Map.of("status", "RECHAZADO"))));
+
+        assertThrows(ReservaRechazadaException.class, () -> cartService.checkout("token", USUARIO));
+
+        // El vaciado ya se habia escrito antes de llamar; se revierte con la transaccion
+        assertEquals(2, cantidadDe(100L));
+    }
+
+    @Test
+    void cambioDuranteElCheckout_esperaYNoSePierde() throws Exception {
+        cartService.addItem("token", USUARIO, 100L, 2);
+        CountDownLatch enReserva = new CountDownLatch(1);
+        when(productclient.reservarStock(anyList(), anyString())).thenAnswer(inv -> {
+            enReserva.countDown();
+            Thread.sleep(300);
+            return Mono.just(Map.of("status", "RESERVADO"));
+        });
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Map<String, Object>> compra = pool.submit(() -> cartService.checkout("token", USUARIO));
+            assertTrue(enReserva.await(5, TimeUnit.SECONDS));
+            // Llega mientras la reserva remota esta en curso: espera el bloqueo del carrito
+            Future<Cart> cambio = pool.submit(() -> cartService.addItem("token", USUARIO, 200L, 1));
+
+            assertEquals("RESERVADO", compra.get().get("status"));
+            assertNotNull(cambio.get());
+        } finally {
+            pool.shutdown();
+        }
+
+        // Solo se reservo lo que habia al empezar; el item nuevo queda para la proxima compra
+        verify(productclient).reservarStock(argThat(l -> l.size() == 1 && l.get(0).getProductId() == 100L),
+                anyString());
+        assertEquals(0, cantidadDe(100L));
+        assertEquals(1, cantidadDe(200L));
+    }
+
+    private List<Future<Cart>> ejecutarALaVez(int hilos, Operacion operacion) throws InterruptedException {
+        CountDownLatch largada = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(hilos);
+        List<Future<Cart>> resultados = new ArrayList<>();
+        try {
+            for (int i = 0; i < hilos; i++) {
+                int n = i;
+                resultados.add(pool.submit(() -> {
+                    largada.await();
+                    return operacion.ejecutar(n);
+                }));
+            }
+            largada.countDown();
+        } finally {
+            pool.shutdown();
+        }
+        return resultados;
+    }
+
+    // Los items son LAZY: se leen dentro de una transaccion
+    private int contarItems() {
+        return new TransactionTemplate(transactionManager).execute(estado ->
+                cartRepository.findByUserId(USUARIO).orElseThrow().getItems().size());
+    }
+
+    private int cantidadDe(Long productId) {
+        return new TransactionTemplate(transactionManager).execute(estado ->
+                cartRepository.findByUserId(USUARIO).orElseThrow().getItems().stream()
+                        .filter(item -> productId.equals(item.getProductId()))
+                        .mapToInt(CartItem::getQuantity)
+                        .sum());
+    }
+
+    @FunctionalInterface
+    private interface Operacion {
+        Cart ejecutar(int indice);
+    }
+}
@@ -0,0 +1,64 @@
+package com.example.cart.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Date;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.crypto.SecretKey;
+
+import org.junit.jupiter.api.Test;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// Tambien vale para el JwtVerifier de product, que es una copia identica (ver el comentario de la clase)
+class JwtVerifierTest {
+
+    private static final String SECRET = "defaultSecretKeyForDevelopmentOnlyNotForProduction";
+
+    private final JwtVerifier jwtVerifier = new JwtVerifier(SECRET);
+
+    @Test
+    void obtenerUserId_tokenValido() {
+        String token = token(SECRET, Map.of("rol", "ROLE_USER", "userId", 10), 60_000);
+
+        assertEquals(Optional.of(10L), jwtVerifier.obtenerUserId(token));
+    }
+
+    @Test
+    void obtenerUserId_tokenSinClaim() {
+        String token = token(SECRET, Map.of("rol", "ROLE_USER"), 60_000);
+
+        assertEquals(Optional.empty(), jwtVerifier.obtenerUserId(token));
+    }
+
+    @Test
+    void obtenerUserId_tokenExpirado() {
+        String token = token(SECRET, Map.of("userId", 10), -1_000);
+
+        assertThrows(JwtVerifier.TokenInvalidoException.class, () -> jwtVerifier.obtenerUserId(token));
+    }
+
+    @Test
+    void obtenerUserId_firmaDeOtraClave() {
+        String token = token("otraClaveSecretaDeDesarrolloQueNoEsLaDelServicioDeUsuarios", Map.of("userId", 10), 60_000);
+
+        assertThrows(JwtVerifier.TokenInvalidoException.class, () -> jwtVerifier.obtenerUserId(token));
+        assertThrows(JwtVerifier.TokenInvalidoException.class, () -> jwtVerifier.obtenerUserId("token"));
+    }
+
+    // Mismo formato que JwtUtil del servicio de usuarios
+    private String token(String secret, Map<String, Object> claims, long vigenciaMs) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        return Jwts.builder()
+                .claims(claims)
+                .subject("matias")
+                .issuedAt(new Date())
+                .expiration(new Date(System.currentTimeMillis() + vigenciaMs))
+                .signWith(key)
+                .compact();
+    }
+}
@@ -4,14 +4,20 @@ import com.example.cart.model.Cart;
 import com.example.cart.model.CartItem;
 import com.example.cart.repository.CartItemRepository;
 import com.example.cart.repository.CartRepository;
+import com.example.cart.webclient.ReservaRechazadaException;
+import com.example.cart.webclient.productclient;
 import com.example.cart.webclient.usuarioclient;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+
+import reactor.core.publisher.Mono;
 
 import java.util.*;
 
@@ -25,6 +31,12 @@ class cartServiceTest {
     @Mock
     private usuarioclient usuarioclient;
 
+    @Mock
+    private productclient productclient;
+
+    @Mock
+    private JwtVerifier jwtVerifier;
+
     @Mock
     private CartRepository cartRepository;
 
@@ -68,13 +80,37 @@ class cartServiceTest {
         verify(cartRepository).save(any(Cart.class));
     }
 
+    // ---------------- obtenerVersion ----------------
+
+    @Test
+    void obtenerVersion_noCargaElCarrito() {
+        when(cartRepository.findVersionByUserId(10L)).thenReturn(Optional.of(2L));
+        when(cartRepository.findVersionByUserId(11L)).thenReturn(Optional.empty());
+
+        assertEquals(2L, cartService.obtenerVersion(10L));
+        assertNull(cartService.obtenerVersion(11L));
+        verify(cartRepository, never()).findByUserId(any());
+    }
+
+    @Test
+    void cambioDeItems_subeLaVersion() {
+        cart.setVersion(4L);
+        when(jwtVerifier.obtenerUserId("token")).thenReturn(Optional.of(10L));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+        when(cartRepository.save(any(Cart.class))).thenReturn(cart);
+
+        cartService.addItem("token", 10L, 100L, 1);
+
+        assertEquals(5L, cart.getVersion());
+    }
+
     // ---------------- addItem ----------------
 
     @Test
     void addItem_newProduct_createsNewItem() {
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Map.of("id", 10L));
-        when(cartRepository.findByUserId(10L)).thenReturn(Optional.of(cart));
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
         when(cartRepository.save(any(Cart.class))).thenReturn(cart);
 
         Cart result = cartService.addItem("token", 10L, 100L, 2);
@@ -95,9 +131,9 @@ class cartServiceTest {
         item.setCart(cart);
         cart.getItems().add(item);
 
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Map.of("id", 10L));
-        when(cartRepository.findByUserId(10L)).thenReturn(Optional.of(cart));
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
         when(cartRepository.save(any(Cart.class))).thenReturn(cart);
 
         Cart result = cartService.addItem("token", 10L, 100L, 3);
@@ -109,8 +145,8 @@ class cartServiceTest {
 
     @Test
     void addItem_userNotFound_throwsException() {
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Collections.emptyMap());
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Collections.emptyMap()));
 
         RuntimeException ex = assertThrows(RuntimeException.class,
                 () -> cartService.addItem("token", 10L, 100L, 1));
@@ -129,9 +165,9 @@ class cartServiceTest {
         item.setCart(cart);
         cart.getItems().add(item);
 
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Map.of("id", 10L));
-        when(cartRepository.findByUserId(10L)).thenReturn(Optional.of(cart));
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
         when(cartItemRepository.findById(1L)).thenReturn(Optional.of(item));
         when(cartRepository.save(any(Cart.class))).thenReturn(cart);
 
@@ -151,9 +187,9 @@ class cartServiceTest {
         item.setCart(cart);
         cart.getItems().add(item);
 
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Map.of("id", 10L));
-        when(cartRepository.findByUserId(10L)).thenReturn(Optional.of(cart));
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
         when(cartItemRepository.findById(1L)).thenReturn(Optional.of(item));
         when(cartRepository.save(any(Cart.class))).thenReturn(cart);
 
@@ -173,9 +209,9 @@ class cartServiceTest {
         item.setCart(cart);
         cart.getItems().add(item);
 
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Map.of("id", 10L));
-        when(cartRepository.findByUserId(10L)).thenReturn(Optional.of(cart));
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
         when(cartRepository.save(any(Cart.class))).thenReturn(cart);
 
         Cart result = cartService.removeItem("token", 10L, 100L);
@@ -193,13 +229,134 @@ class cartServiceTest {
         item1.setCart(cart);
         cart.getItems().add(item1);
 
-        when(usuarioclient.obtenerUsuarioPorId(eq(10L), anyString()))
-                .thenReturn(Map.of("id", 10L));
-        when(cartRepository.findByUserId(10L)).thenReturn(Optional.of(cart));
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
 
         cartService.clearCart("token", 10L);
 
         verify(cartItemRepository).deleteAll(anyList());
         assertTrue(cart.getItems().isEmpty());
     }
+
+    // ---------------- checkout ----------------
+
+    @Test
+    void checkout_reservaTodoYVaciaCarrito() {
+        CartItem item1 = new CartItem();
+        item1.setProductId(100L);
+        item1.setQuantity(2);
+        item1.setCart(cart);
+        cart.getItems().add(item1);
+
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+        when(productclient.reservarStock(anyList(), eq("token")))
+                .thenReturn(Mono.just(Map.of("status", "RESERVADO")));
+
+        Map<String, Object> result = cartService.checkout("token", 10L);
+
+        assertEquals("RESERVADO", result.get("status"));
+        verify(productclient).reservarStock(argThat(l -> l.size() == 1 && l.get(0).getCantidad() == 2), eq("token"));
+        assertTrue(cart.getItems().isEmpty());
+
+        // El vaciado queda escrito antes de reservar: despues de la llamada solo falta el commit
+        InOrder orden = inOrder(cartRepository, productclient);
+        orden.verify(cartRepository).saveAndFlush(cart);
+        orden.verify(productclient).reservarStock(anyList(), eq("token"));
+    }
+
+    @Test
+    void checkout_sinStock_noVaciaCarrito() {
+        CartItem item1 = new CartItem();
+        item1.setProductId(100L);
+        item1.setQuantity(5);
+        item1.setCart(cart);
+        cart.getItems().add(item1);
+
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+        when(productclient.reservarStock(anyList(), eq("token")))
+                .thenReturn(Mono.error(new ReservaRechazadaException(Map.of("status", "RECHAZADO"))));
+
+        // La excepcion sale del metodo transaccional, asi que el vaciado ya escrito se revierte
+        assertThrows(ReservaRechazadaException.class, () -> cartService.checkout("token", 10L));
+    }
+
+    @Test
+    void checkout_reservaSinRespuesta_falla() {
+        CartItem item1 = new CartItem();
+        item1.setProductId(100L);
+        item1.setQuantity(1);
+        item1.setCart(cart);
+        cart.getItems().add(item1);
+
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+        when(productclient.reservarStock(anyList(), eq("token"))).thenReturn(Mono.empty());
+
+        assertThrows(RuntimeException.class, () -> cartService.checkout("token", 10L));
+    }
+
+    @Test
+    void checkout_fallaElGuardadoLocal_noReservaStock() {
+        CartItem item1 = new CartItem();
+        item1.setProductId(100L);
+        item1.setQuantity(1);
+        item1.setCart(cart);
+        cart.getItems().add(item1);
+
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+        when(cartRepository.saveAndFlush(cart))
+                .thenThrow(new CannotAcquireLockException("timeout esperando el carrito"));
+
+        assertThrows(CannotAcquireLockException.class, () -> cartService.checkout("token", 10L));
+        verifyNoInteractions(productclient);
+    }
+
+    @Test
+    void checkout_carritoVacio() {
+        when(usuarioclient.existeUsuario(eq(10L), anyString()))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+
+        assertThrows(RuntimeException.class, () -> cartService.checkout("token", 10L));
+        verifyNoInteractions(productclient);
+    }
+
+    // ---------------- validacion local del token ----------------
+
+    @Test
+    void addItem_tokenConUserId_noLlamaAlServicioDeUsuarios() {
+        when(jwtVerifier.obtenerUserId("token")).thenReturn(Optional.of(10L));
+        when(cartRepository.findParaModificar(10L)).thenReturn(Optional.of(cart));
+        when(cartRepository.save(any(Cart.class))).thenReturn(cart);
+
+        cartService.addItem("token", 10L, 100L, 1);
+
+        verifyNoInteractions(usuarioclient);
+    }
+
+    @Test
+    void addItem_tokenDeOtroUsuario_consultaAlServicioDeUsuarios() {
+        when(jwtVerifier.obtenerUserId("token")).thenReturn(Optional.of(99L));
+        when(usuarioclient.existeUsuario(10L, "token")).thenReturn(Mono.just(Map.of()));
+
+        assertThrows(RuntimeException.class, () -> cartService.addItem("token", 10L, 100L, 1));
+        verify(cartRepository, never()).save(any());
+    }
+
+    @Test
+    void addItem_tokenInvalido_rechazaSinLlamadaRemota() {
+        when(jwtVerifier.obtenerUserId("token"))
+                .thenThrow(new JwtVerifier.TokenInvalidoException("Token inválido o expirado"));
+
+        assertThrows(JwtVerifier.TokenInvalidoException.class, () -> cartService.addItem("token", 10L, 100L, 1));
+        verifyNoInteractions(usuarioclient);
+    }
 }
@@ -0,0 +1,122 @@
+package com.example.cart.webclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
+class UsuarioCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private UsuarioCache usuarioCache;
+    private AtomicInteger llamadas;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        usuarioCache = new UsuarioCache(100, Duration.ofMinutes(5), Duration.ofSeconds(30), registry);
+        llamadas = new AtomicInteger();
+    }
+
+    // ---------------- aciertos ----------------
+
+    @Test
+    void obtener_segundaVezNoLlamaAlServicio() {
+        String token = jwt(60);
+
+        usuarioCache.obtener(10L, token, this::usuario).block();
+        Map<String, Object> result = usuarioCache.obtener(10L, token, this::usuario).block();
+
+        assertEquals(10L, result.get("id"));
+        assertEquals(1, llamadas.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "usuarios-token").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void obtener_otroTokenOtroUsuario_esOtraEntrada() {
+        usuarioCache.obtener(10L, jwt(60), this::usuario).block();
+        usuarioCache.obtener(10L, jwt(120), this::usuario).block();
+        usuarioCache.obtener(11L, jwt(60), this::usuario).block();
+
+        assertEquals(3, llamadas.get());
+    }
+
+    // ---------------- cache negativa ----------------
+
+    @Test
+    void obtener_rechazoSeCachea() {
+        String token = jwt(60);
+
+        for (int i = 0; i < 3; i++) {
+            assertThrows(UsuarioRechazadoException.class, () ->
+                    usuarioCache.obtener(10L, token, () -> {
+                        llamadas.incrementAndGet();
+                        return Mono.error(new UsuarioRechazadoException("Usuario no encontrado"));
+                    }).block());
+        }
+
+        assertEquals(1, llamadas.get());
+    }
+
+    @Test
+    void obtener_errorDelServidorNoSeCachea() {
+        String token = jwt(60);
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(RuntimeException.class, () ->
+                    usuarioCache.obtener(10L, token, () -> {
+                        llamadas.incrementAndGet();
+                        return Mono.error(new RuntimeException("503"));
+                    }).block());
+        }
+
+        assertEquals(2, llamadas.get());
+    }
+
+    // ---------------- expiracion del token ----------------
+
+    @Test
+    void obtener_tokenVencidoNoSeCachea() {
+        String token = jwt(-10);
+
+        usuarioCache.obtener(10L, token, this::usuario).block();
+        usuarioCache.obtener(10L, token, this::usuario).block();
+
+        assertEquals(2, llamadas.get());
+    }
+
+    @Test
+    void vidaRestante_leeExpDelPayload() {
+        Duration vida = UsuarioCache.vidaRestante(jwt(90));
+
+        assertTrue(vida.getSeconds() > 80 && vida.getSeconds() <= 90);
+        assertNull(UsuarioCache.vidaRestante("no-es-jwt"));
+    }
+
+    // La llamada remota se cuenta al suscribirse, como hace WebClient
+    private Mono<Map<String, Object>> usuario() {
+        return Mono.fromSupplier(() -> {
+            llamadas.incrementAndGet();
+            return Map.<String, Object>of("id", 10L);
+        });
+    }
+
+    // JWT sin firmar valida; la cache solo lee el exp del payload
+    private String jwt(long segundosHastaExp) {
+        long exp = System.currentTimeMillis() / 1000 + segundosHastaExp;
+        Base64.Encoder b64 = Base64.getUrlEncoder().withoutPadding();
+        String header = b64.encodeToString("{\"alg\":\"HS256\"}".getBytes(StandardCharsets.UTF_8));
+        String payload = b64.encodeToString(("{\"sub\":\"matias\",\"exp\":" + exp + "}").getBytes(StandardCharsets.UTF_8));
+        return header + "." + payload + ".firma";
+    }
+}
@@ -1,20 +1,35 @@
 package com.example.product.Controller;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.CollectionModel;
+import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import com.example.product.model.Dto.DeleteByiduserDto;
+import com.example.product.model.Dto.FiltroProductos;
+import com.example.product.model.Dto.FotoInfo;
+import com.example.product.model.Dto.PaginaBusqueda;
+import com.example.product.model.Dto.PaginaProductos;
 import com.example.product.model.Dto.ProductoDTO;
+import com.example.product.model.Dto.ProductoResumen;
+import com.example.product.model.Dto.ReservaStockDto;
+import com.example.product.model.Dto.ReservaStockRequest;
 import com.example.product.model.Dto.UpdateStockDto;
 import com.example.product.model.Product;
+import com.example.product.model.TamanoFoto;
 import com.example.product.Service.ProductService;
+import com.example.product.Service.ReservaStockException;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -33,61 +48,183 @@ public class ProductController {
     @Autowired
     private ProductService productService;
 
-    @Operation(summary = "Obtener todos los productos", description = "Devuelve una lista de todos los productos registrados")
+    @Operation(summary = "Obtener productos paginados", description = "Devuelve una página de productos (sin foto) ordenada por id o precio; el enlace next trae la página siguiente. Responde 304 si la página no cambió desde el ETag enviado en If-None-Match")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de productos obtenida correctamente"),
+        @ApiResponse(responseCode = "200", description = "Página de productos obtenida correctamente"),
+        @ApiResponse(responseCode = "304", description = "La página no cambió (If-None-Match)"),
+        @ApiResponse(responseCode = "400", description = "Tamaño, orden o cursor inválido"),
         @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping
-    public ResponseEntity<?> listarProductos() {
+    public ResponseEntity<?> listarProductos(
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor,
+            WebRequest request) {
         try {
-            List<Product> products = productService.listarProductos();
+            PaginaProductos pagina = productService.listarProductosPaginado(size, sort, cursor);
+
+            // La pagina ya viene sin foto; si el cliente tiene esta version no se arman los modelos
+            String etag = pagina.etag();
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
 
-            if (products.isEmpty()) {
+            if (pagina.getProductos().isEmpty() && cursor == null) {
                 SuccessResponse response = new SuccessResponse("No hay productos registrados");
                 EntityModel<SuccessResponse> model = EntityModel.of(response);
-                model.add(linkTo(methodOn(ProductController.class).listarProductos()).withSelfRel());
-                return ResponseEntity.ok(model);
+                model.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withSelfRel());
+                return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(model);
             }
 
-            List<EntityModel<Product>> productModels = products.stream()
-                .map(product -> {
-                    EntityModel<Product> model = EntityModel.of(product);
-                    model.add(linkTo(methodOn(ProductController.class).obtenerProducto(product.getId())).withSelfRel());
-                    model.add(linkTo(methodOn(ProductController.class).actualizarProducto(product.getId(), null)).withRel("update"));
-                    model.add(linkTo(methodOn(ProductController.class).eliminarProducto(product.getId())).withRel("delete"));
-                    return model;
+            // Los enlaces de cada item se arman sobre una base comun en vez de un methodOn por enlace
+            WebMvcLinkBuilder base = linkTo(ProductController.class);
+            List<EntityModel<ProductoResumen>> productModels = pagina.getProductos().stream()
+                .map(producto -> {
+                    WebMvcLinkBuilder item = base.slash(producto.getId());
+                    return EntityModel.of(producto,
+                            item.withSelfRel(),
+                            item.withRel("update"),
+                            item.withRel("delete"));
                 }).collect(Collectors.toList());
 
-            CollectionModel<EntityModel<Product>> collectionModel = CollectionModel.of(productModels);
-            collectionModel.add(linkTo(methodOn(ProductController.class).listarProductos()).withSelfRel());
-            collectionModel.add(linkTo(ProductController.class).slash("duodeal/products").withRel("create-product"));
+            CollectionModel<EntityModel<ProductoResumen>> collectionModel = CollectionModel.of(productModels);
+            collectionModel.add(linkTo(methodOn(ProductController.class)
+                    .listarProductos(pagina.getSize(), pagina.getSort(), cursor, null)).withSelfRel());
+            if (pagina.getSiguienteCursor() != null) {
+                collectionModel.add(linkTo(methodOn(ProductController.class)
+                        .listarProductos(pagina.getSize(), pagina.getSort(), pagina.getSiguienteCursor(), null)).withRel("next"));
+            }
+            collectionModel.add(base.withRel("create-product"));
 
-            return ResponseEntity.ok(collectionModel);
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(collectionModel);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse("Parámetros de paginación inválidos", e.getMessage()));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ErrorResponse("Error al obtener productos", e.getMessage()));
         }
     }
 
-    @Operation(summary = "Buscar producto por ID", description = "Devuelve los datos del producto solicitado")
+    @Operation(summary = "Filtrar productos", description = "Devuelve productos (sin foto) por rango de precio, con stock y de un vendedor, ordenados por precio; los filtros son opcionales y se combinan. El enlace next trae la página siguiente")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de productos filtrados"),
+        @ApiResponse(responseCode = "400", description = "Filtros, tamaño, orden o cursor inválidos"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @GetMapping("/filter")
+    public ResponseEntity<?> filtrarProductos(
+            @RequestParam(required = false) Double precioMin,
+            @RequestParam(required = false) Double precioMax,
+            @RequestParam(required = false) Boolean conStock,
+            @RequestParam(required = false) Long iduser,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(required = false) String cursor) {
+        try {
+            PaginaProductos pagina = productService.filtrarProductos(
+                    new FiltroProductos(precioMin, precioMax, conStock, iduser), size, sort, cursor);
+
+            WebMvcLinkBuilder base = linkTo(ProductController.class);
+            List<EntityModel<ProductoResumen>> productModels = pagina.getProductos().stream()
+                .map(producto -> EntityModel.of(producto, base.slash(producto.getId()).withSelfRel()))
+                .collect(Collectors.toList());
+
+            CollectionModel<EntityModel<ProductoResumen>> collectionModel = CollectionModel.of(productModels);
+            collectionModel.add(linkTo(methodOn(ProductController.class).filtrarProductos(
+                    precioMin, precioMax, conStock, iduser, pagina.getSize(), pagina.getSort(), cursor)).withSelfRel());
+            if (pagina.getSiguienteCursor() != null) {
+                collectionModel.add(linkTo(methodOn(ProductController.class).filtrarProductos(
+                        precioMin, precioMax, conStock, iduser, pagina.getSize(), pagina.getSort(),
+                        pagina.getSiguienteCursor())).withRel("next"));
+            }
+            collectionModel.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withRel("all-products"));
+
+            return ResponseEntity.ok(collectionModel);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse("Filtros inválidos", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Error al filtrar productos", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Buscar productos por texto", description = "Busca en nombre y descripción, sin importar tildes ni mayúsculas; las palabras pueden estar incompletas. Devuelve productos (sin foto) ordenados por relevancia y paginados")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Página de resultados"),
+        @ApiResponse(responseCode = "400", description = "Búsqueda vacía o paginación inválida"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<?> buscarProductos(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size) {
+        try {
+            PaginaBusqueda resultado = productService.buscarProductos(q, page, size);
+
+            WebMvcLinkBuilder base = linkTo(ProductController.class);
+            List<EntityModel<ProductoResumen>> productModels = resultado.getProductos().stream()
+                .map(producto -> EntityModel.of(producto, base.slash(producto.getId()).withSelfRel()))
+                .collect(Collectors.toList());
+
+            CollectionModel<EntityModel<ProductoResumen>> collectionModel = CollectionModel.of(productModels);
+            collectionModel.add(linkTo(methodOn(ProductController.class)
+                    .buscarProductos(q, resultado.getPage(), resultado.getSize())).withSelfRel());
+            if ((long) (resultado.getPage() + 1) * resultado.getSize() < resultado.getTotal()) {
+                collectionModel.add(linkTo(methodOn(ProductController.class)
+                        .buscarProductos(q, resultado.getPage() + 1, resultado.getSize())).withRel("next"));
+            }
+            collectionModel.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withRel("all-products"));
+
+            return ResponseEntity.ok(collectionModel);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse("Parámetros de búsqueda inválidos", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Error al buscar productos", e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "Buscar producto por ID", description = "Devuelve los datos del producto solicitado. El ETag es la versión del producto; con If-None-Match responde 304 si no cambió")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Producto encontrado correctamente"),
+        @ApiResponse(responseCode = "304", description = "El producto no cambió (If-None-Match)"),
         @ApiResponse(responseCode = "404", description = "Producto no encontrado"),
         @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping("/{id}")
-    public ResponseEntity<?> obtenerProducto(@PathVariable Long id) {
+    public ResponseEntity<?> obtenerProducto(@PathVariable Long id, WebRequest request) {
         try {
+            // Solo se consulta la version (id, stock y version); el producto se arma si cambio
+            String version = String.valueOf(productService.obtenerVersion(id));
+            if (request.checkNotModified(version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(version)
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+
             Product product = productService.getProducto(id);
 
             EntityModel<Product> model = EntityModel.of(product);
-            model.add(linkTo(methodOn(ProductController.class).obtenerProducto(id)).withSelfRel());
+            model.add(linkTo(methodOn(ProductController.class).obtenerProducto(id, null)).withSelfRel());
             model.add(linkTo(methodOn(ProductController.class).actualizarProducto(id, null)).withRel("update"));
             model.add(linkTo(methodOn(ProductController.class).eliminarProducto(id)).withRel("delete"));
-            model.add(linkTo(methodOn(ProductController.class).listarProductos()).withRel("all-products"));
-
-            return ResponseEntity.ok(model);
+            model.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withRel("all-products"));
+
+            // checkNotModified ya puso el ETag. Si el producto cambio despues de consultar la
+            // version, el cuerpo es mas nuevo que el ETag: como la version solo sube, el proximo
+            // If-None-Match no coincide y se responde 200 de nuevo, nunca un 304 equivocado
+            return ResponseEntity.ok()
+                    .cacheControl(CacheControl.noCache())
+                    .body(model);
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                     .body(new ErrorResponse("Producto no encontrado", e.getMessage()));
@@ -97,6 +234,61 @@ public class ProductController {
         }
     }
 
+    @Operation(summary = "Obtener foto del producto", description = "Devuelve los bytes de la foto con su Content-Type, ETag y Cache-Control. Con size=medium (800px) o size=thumb (200px) devuelve una copia reducida; mientras se genera se sirve la original sin max-age")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Foto del producto"),
+        @ApiResponse(responseCode = "304", description = "La foto no cambió (If-None-Match)"),
+        @ApiResponse(responseCode = "400", description = "Tamaño inválido"),
+        @ApiResponse(responseCode = "404", description = "Producto sin foto o inexistente"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @GetMapping("/{id}/photo")
+    public ResponseEntity<?> obtenerFoto(@PathVariable Long id,
+                                         @RequestParam(required = false) String size,
+                                         WebRequest request) {
+        try {
+            TamanoFoto tamano = TamanoFoto.desde(size);
+            FotoInfo info = productService.obtenerInfoFoto(id);
+            Optional<String> tipoVariante = productService.obtenerTipoVariante(id, tamano, info.getPhotoHash());
+
+            // Variante pedida pero todavia no generada: la original sin max-age, asi el cliente
+            // vuelve a preguntar y recibe la variante cuando este lista (el ETag es distinto)
+            boolean original = tipoVariante.isEmpty();
+            String etag = original ? info.getPhotoHash() : info.getPhotoHash() + "-" + tamano.getParametro();
+            CacheControl cacheControl = original && tamano != TamanoFoto.ORIGINAL
+                    ? CacheControl.noCache()
+                    : CacheControl.maxAge(1, TimeUnit.HOURS).cachePublic();
+
+            // Si el cliente ya tiene esta version no se leen los bytes
+            if (request.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+
+            byte[] foto = original
+                    ? productService.obtenerBytesFoto(id)
+                    : productService.obtenerBytesVariante(id, tamano, info.getPhotoHash());
+
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(original ? info.getPhotoContentType() : tipoVariante.get()))
+                    .contentLength(foto.length)
+                    .eTag(etag)
+                    .cacheControl(cacheControl)
+                    .body(foto);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse("Parámetro inválido", e.getMessage()));
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                    .body(new ErrorResponse("Foto no encontrada", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Error interno", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "Crear un nuevo producto", description = "Permite registrar un nuevo producto en el sistema")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "201", description = "Producto creado correctamente"),
@@ -118,7 +310,7 @@ public class ProductController {
         );
 
         EntityModel<Product> model = EntityModel.of(newProduct);
-        model.add(linkTo(methodOn(ProductController.class).obtenerProducto(newProduct.getId())).withSelfRel());
+        model.add(linkTo(methodOn(ProductController.class).obtenerProducto(newProduct.getId(), null)).withSelfRel());
         return ResponseEntity.status(HttpStatus.CREATED).body(model);
 
     } catch (IllegalArgumentException e) {
@@ -142,9 +334,9 @@ public class ProductController {
             Product updatedProduct = productService.actualizarProducto(id, datosNuevos);
 
             EntityModel<Product> model = EntityModel.of(updatedProduct);
-            model.add(linkTo(methodOn(ProductController.class).obtenerProducto(id)).withSelfRel());
+            model.add(linkTo(methodOn(ProductController.class).obtenerProducto(id, null)).withSelfRel());
             model.add(linkTo(methodOn(ProductController.class).eliminarProducto(id)).withRel("delete"));
-            model.add(linkTo(methodOn(ProductController.class).listarProductos()).withRel("all-products"));
+            model.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withRel("all-products"));
 
             return ResponseEntity.ok(model);
         } catch (RuntimeException e) {
@@ -186,6 +378,29 @@ public ResponseEntity<UpdateStockDto> restarStock(
     }
 }
 
+    @Operation(summary = "Reservar stock de varios productos", description = "Descuenta el stock de todas las líneas en una sola transacción; si alguna no alcanza no se descuenta ninguna")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Stock reservado para todas las líneas"),
+        @ApiResponse(responseCode = "400", description = "Datos inválidos"),
+        @ApiResponse(responseCode = "409", description = "Alguna línea no tiene stock suficiente; se devuelve el detalle por línea"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    })
+    @PostMapping("/stock/reserve")
+    public ResponseEntity<?> reservarStock(@RequestBody ReservaStockRequest request) {
+        try {
+            ReservaStockDto resultado = productService.reservarStock(request.getItems());
+            return ResponseEntity.ok(resultado);
+        } catch (ReservaStockException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getResultado());
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("Datos inválidos", e.getMessage()));
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .body(new ErrorResponse("Error al reservar stock", e.getMessage()));
+        }
+    }
+
 
     @Operation(summary = "Eliminar producto", description = "Elimina un producto del sistema por su ID")
     @ApiResponses(value = {
@@ -199,7 +414,7 @@ public ResponseEntity<UpdateStockDto> restarStock(
             String mensaje = productService.eliminarProducto(id);
             SuccessResponse response = new SuccessResponse(mensaje);
             EntityModel<SuccessResponse> model = EntityModel.of(response);
-            model.add(linkTo(methodOn(ProductController.class).listarProductos()).withRel("all-products"));
+            model.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withRel("all-products"));
             model.add(linkTo(methodOn(ProductController.class).crearProducto((ProductoDTO) null)).withRel("create-product"));
             return ResponseEntity.ok(model);
         } catch (RuntimeException e) {
@@ -227,7 +442,7 @@ public ResponseEntity<UpdateStockDto> restarStock(
 
         SuccessResponse response = new SuccessResponse(mensaje);
         EntityModel<SuccessResponse> model = EntityModel.of(response);
-        model.add(linkTo(methodOn(ProductController.class).listarProductos()).withRel("all-products"));
+        model.add(linkTo(methodOn(ProductController.class).listarProductos(null, null, null, null)).withRel("all-products"));
 
         return ResponseEntity.ok(model);
 
@@ -0,0 +1,23 @@
+package com.example.product.Service;
+
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+
+// Arma el indice de busqueda al arrancar: se llama con todos los singletons creados y antes de
+// arrancar el servidor web, asi la busqueda no recibe pedidos con el indice a medio armar.
+// Es un bean aparte para que indexarCatalogo pase por el proxy de ProductService y corra sin
+// transaccion; llamado desde el propio servicio quedaria dentro de su @Transactional de clase
+@Component
+public class CargaIndiceBusqueda implements SmartInitializingSingleton {
+
+    private final ProductService productService;
+
+    public CargaIndiceBusqueda(ProductService productService) {
+        this.productService = productService;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        productService.indexarCatalogo();
+    }
+}
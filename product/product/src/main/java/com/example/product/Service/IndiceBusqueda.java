@@ -0,0 +1,308 @@
+package com.example.product.Service;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+import org.springframework.stereotype.Component;
+
+// Indice invertido en memoria sobre el nombre y la descripcion de los productos, para
+// GET /products/search. Los textos se normalizan (minusculas y sin tildes: "Pokémon" y "pokemon"
+// son el mismo termino) y cada termino guarda en que productos aparece y en que campo.
+// Los terminos van ordenados, asi una palabra de la consulta tambien encuentra las que empiezan
+// con ella ("ps" encuentra "ps4" y "ps5"). Las consultas toman el lock de lectura y no se
+// bloquean entre si; indexar o quitar toma el de escritura. Los cambios hechos dentro de una
+// transaccion se aplican despues del commit. La carga inicial del catalogo (iniciarCarga, cargar,
+// terminarCarga) no pisa lo que indexan o quitan las transacciones que terminan mientras tanto
+@Component
+public class IndiceBusqueda {
+
+    // Puntaje de un termino segun donde aparece y si coincide entero o solo como prefijo
+    static final int NOMBRE_EXACTO = 6;
+    static final int NOMBRE_PREFIJO = 4;
+    static final int DESCRIPCION_EXACTO = 2;
+    static final int DESCRIPCION_PREFIJO = 1;
+
+    static final int MAX_TERMINOS_CONSULTA = 8;
+
+    private static final int EN_NOMBRE = 1;
+    private static final int EN_DESCRIPCION = 2;
+    private static final Pattern MARCAS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARADORES = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // termino -> (id de producto -> campos donde aparece)
+    private final TreeMap<String, Map<Long, Integer>> terminos = new TreeMap<>();
+    // id de producto -> sus terminos, para quitarlos al actualizar o borrar
+    private final Map<Long, String[]> documentos = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // Ids quitados durante la carga inicial; null fuera de ella
+    private Set<Long> quitadosDuranteCarga;
+
+    public record Resultado(List<Long> ids, int total) {}
+
+    private record Coincidencia(long id, int puntaje) {}
+
+    /**
+     * Agrega el producto o reemplaza lo indexado antes para ese id
+     */
+    public void indexar(long id, String nombre, String descripcion) {
+        Transacciones.despuesDelCommit(() -> aplicarIndexar(id, nombre, descripcion));
+    }
+
+    public void quitar(long id) {
+        Transacciones.despuesDelCommit(() -> aplicarQuitar(id));
+    }
+
+    /**
+     * Empieza la carga inicial: desde aca se recuerdan los ids quitados, para que cargar no
+     * vuelva a agregar un producto borrado despues de leer su pagina
+     */
+    public void iniciarCarga() {
+        lock.writeLock().lock();
+        try {
+            quitadosDuranteCarga = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Agrega un producto leido en la carga inicial, en el momento y fuera de transaccion. Si el id
+     * ya esta (lo indexo un alta o una actualizacion mas nueva que la pagina) o se quito durante
+     * la carga, no se toca. Devuelve si lo agrego
+     */
+    public boolean cargar(long id, String nombre, String descripcion) {
+        Map<String, Integer> campos = campos(nombre, descripcion);
+
+        lock.writeLock().lock();
+        try {
+            if (documentos.containsKey(id) || (quitadosDuranteCarga != null && quitadosDuranteCarga.contains(id))) {
+                return false;
+            }
+            agregar(id, campos);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void terminarCarga() {
+        lock.writeLock().lock();
+        try {
+            quitadosDuranteCarga = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Ids que contienen todas las palabras de la consulta (entera o como prefijo), del mas
+     * relevante al menos relevante; a igual puntaje, el id mas nuevo primero
+     */
+    public Resultado buscar(String consulta, int desde, int cantidad) {
+        List<String> palabras = new ArrayList<>(new LinkedHashSet<>(terminos(consulta)));
+        if (palabras.isEmpty()) {
+            return new Resultado(List.of(), 0);
+        }
+        if (palabras.size() > MAX_TERMINOS_CONSULTA) {
+            palabras = palabras.subList(0, MAX_TERMINOS_CONSULTA);
+        }
+
+        // Solo se ordenan las primeras desde + cantidad: un monticulo con las mejores hasta ahora,
+        // la peor arriba para descartarla rapido
+        Comparator<Coincidencia> orden = Comparator.comparingInt(Coincidencia::puntaje)
+                .thenComparingLong(Coincidencia::id);
+        int necesarias = (int) Math.min(Integer.MAX_VALUE - 1, (long) desde + cantidad);
+        PriorityQueue<Coincidencia> mejores = new PriorityQueue<>(Math.min(necesarias, 1024) + 1, orden);
+        int[] encontrados = {0};
+
+        lock.readLock().lock();
+        try {
+            // Terminos de cada palabra (ella misma y los que empiezan con ella); sin terminos no hay resultados
+            List<Rango> rangos = new ArrayList<>();
+            for (String palabra : palabras) {
+                Rango rango = rango(palabra);
+                if (rango.terminos().isEmpty()) {
+                    return new Resultado(List.of(), 0);
+                }
+                rangos.add(rango);
+            }
+            // Se recorren los productos de la palabra mas selectiva; para el resto solo se pregunta
+            // si el producto esta en alguno de sus terminos
+            rangos.sort(Comparator.comparingLong(Rango::productos));
+            rangos.get(0).recorrer((id, puntaje) -> {
+                for (int i = 1; i < rangos.size() && puntaje > 0; i++) {
+                    int otro = rangos.get(i).puntaje(id);
+                    puntaje = otro == 0 ? 0 : puntaje + otro;
+                }
+                if (puntaje > 0) {
+                    encontrados[0]++;
+                    Coincidencia coincidencia = new Coincidencia(id, puntaje);
+                    if (mejores.size() < necesarias) {
+                        mejores.add(coincidencia);
+                    } else if (orden.compare(coincidencia, mejores.peek()) > 0) {
+                        mejores.poll();
+                        mejores.add(coincidencia);
+                    }
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<Coincidencia> ordenadas = new ArrayList<>(mejores);
+        ordenadas.sort(orden.reversed());
+        List<Long> ids = ordenadas.stream()
+                .skip(desde)
+                .map(Coincidencia::id)
+                .toList();
+        return new Resultado(ids, encontrados[0]);
+    }
+
+    public int tamano() {
+        lock.readLock().lock();
+        try {
+            return documentos.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Minusculas, sin tildes ni signos, separado en palabras
+    static List<String> terminos(String texto) {
+        if (texto == null || texto.isBlank()) {
+            return List.of();
+        }
+        String normalizado = MARCAS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        List<String> resultado = new ArrayList<>();
+        for (String termino : SEPARADORES.split(normalizado)) {
+            if (!termino.isEmpty()) {
+                resultado.add(termino);
+            }
+        }
+        return resultado;
+    }
+
+    private Rango rango(String palabra) {
+        List<Map.Entry<String, Map<Long, Integer>>> encontrados =
+                new ArrayList<>(terminos.subMap(palabra, true, palabra + Character.MAX_VALUE, false).entrySet());
+        long productos = 0;
+        for (Map.Entry<String, Map<Long, Integer>> termino : encontrados) {
+            productos += termino.getValue().size();
+        }
+        return new Rango(palabra, encontrados, productos);
+    }
+
+    // Los terminos de una palabra de la consulta. "productos" es la suma de las listas de cada
+    // termino (un producto puede contarse mas de una vez), alcanza para elegir la mas selectiva
+    private record Rango(String palabra, List<Map.Entry<String, Map<Long, Integer>>> terminos, long productos) {
+
+        // Mejor puntaje de un producto entre todos los terminos; 0 si no esta en ninguno
+        int puntaje(long id) {
+            int mejor = 0;
+            for (Map.Entry<String, Map<Long, Integer>> termino : terminos) {
+                Integer campos = termino.getValue().get(id);
+                if (campos != null) {
+                    mejor = Math.max(mejor, IndiceBusqueda.puntaje(campos, termino.getKey().equals(palabra)));
+                }
+            }
+            return mejor;
+        }
+
+        // Cada producto que aparece en algun termino, una vez y con su mejor puntaje
+        void recorrer(Visitante visitante) {
+            if (terminos.size() == 1) {
+                // Un solo termino: no hay repetidos que combinar
+                Map.Entry<String, Map<Long, Integer>> termino = terminos.get(0);
+                boolean exacto = termino.getKey().equals(palabra);
+                termino.getValue().forEach((id, campos) -> visitante.visitar(id, IndiceBusqueda.puntaje(campos, exacto)));
+                return;
+            }
+            Map<Long, Integer> puntajes = new HashMap<>();
+            for (Map.Entry<String, Map<Long, Integer>> termino : terminos) {
+                boolean exacto = termino.getKey().equals(palabra);
+                for (Map.Entry<Long, Integer> aparicion : termino.getValue().entrySet()) {
+                    puntajes.merge(aparicion.getKey(), IndiceBusqueda.puntaje(aparicion.getValue(), exacto), Math::max);
+                }
+            }
+            puntajes.forEach(visitante::visitar);
+        }
+    }
+
+    private interface Visitante {
+        void visitar(long id, int puntaje);
+    }
+
+    private static int puntaje(int campos, boolean exacto) {
+        return (campos & EN_NOMBRE) != 0
+                ? (exacto ? NOMBRE_EXACTO : NOMBRE_PREFIJO)
+                : (exacto ? DESCRIPCION_EXACTO : DESCRIPCION_PREFIJO);
+    }
+
+    // Termino -> campos donde aparece
+    private static Map<String, Integer> campos(String nombre, String descripcion) {
+        Map<String, Integer> campos = new HashMap<>();
+        terminos(nombre).forEach(t -> campos.merge(t, EN_NOMBRE, (a, b) -> a | b));
+        terminos(descripcion).forEach(t -> campos.merge(t, EN_DESCRIPCION, (a, b) -> a | b));
+        return campos;
+    }
+
+    private void aplicarIndexar(long id, String nombre, String descripcion) {
+        Map<String, Integer> campos = campos(nombre, descripcion);
+
+        lock.writeLock().lock();
+        try {
+            quitarTerminos(id);
+            agregar(id, campos);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void aplicarQuitar(long id) {
+        lock.writeLock().lock();
+        try {
+            quitarTerminos(id);
+            if (quitadosDuranteCarga != null) {
+                quitadosDuranteCarga.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Con el lock de escritura tomado
+    private void agregar(long id, Map<String, Integer> campos) {
+        campos.forEach((termino, donde) -> terminos.computeIfAbsent(termino, k -> new HashMap<>()).put(id, donde));
+        documentos.put(id, campos.keySet().toArray(String[]::new));
+    }
+
+    // Con el lock de escritura tomado
+    private void quitarTerminos(long id) {
+        String[] anteriores = documentos.remove(id);
+        if (anteriores == null) {
+            return;
+        }
+        for (String termino : anteriores) {
+            Map<Long, Integer> productos = terminos.get(termino);
+            if (productos != null) {
+                productos.remove(id);
+                if (productos.isEmpty()) {
+                    terminos.remove(termino);
+                }
+            }
+        }
+    }
+}
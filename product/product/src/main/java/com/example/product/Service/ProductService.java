@@ -1,15 +1,40 @@
 package com.example.product.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Base64;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 
 import com.example.product.model.Product;
+import com.example.product.model.TamanoFoto;
+import com.example.product.model.Dto.FiltroProductos;
+import com.example.product.model.Dto.FotoInfo;
+import com.example.product.model.Dto.LineaReserva;
+import com.example.product.model.Dto.PaginaBusqueda;
+import com.example.product.model.Dto.PaginaProductos;
+import com.example.product.model.Dto.ProductoResumen;
+import com.example.product.model.Dto.ReservaStockDto;
+import com.example.product.model.Dto.ResultadoLineaReserva;
+import com.example.product.model.Dto.StockProducto;
 import com.example.product.model.Dto.UpdateStockDto;
+import com.example.product.repository.FotoVarianteRepository;
 import com.example.product.repository.ProductRepository;
+import com.example.product.repository.ProductoSpecs;
 import com.example.product.webclient.usuarioclient;
 
 import jakarta.transaction.Transactional;
@@ -18,11 +43,29 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class ProductService {
 
+    public static final int TAMANO_PAGINA_DEFECTO = 20;
+    public static final int TAMANO_PAGINA_MAXIMO = 100;
+    public static final String ORDEN_DEFECTO = "id,asc";
+    static final int LOTE_INDEXACION = 1000;
+
     @Autowired
     private ProductRepository productRepository;
+    @Autowired
+    private FotoVarianteRepository fotoVarianteRepository;
      @Autowired
     private usuarioclient usuarioClient;
+    @Autowired
+    private JwtVerifier jwtVerifier;
+    @Autowired
+    private ProductoCache productoCache;
+    @Autowired
+    private IndiceBusqueda indiceBusqueda;
+    @Autowired
+    private VariantesFoto variantesFoto;
 
+    // Si es false, un token sin el claim userId (o con otro id) se rechaza sin consultar al servicio de usuarios
+    @Value("${usuario-service.fallback:true}")
+    private boolean fallbackRemoto = true;
 
 
 
@@ -33,20 +76,31 @@ public class ProductService {
 
 
 
-    // Crear un nuevo producto
-    public Product crearProducto(Long idusuario, String token, String name, String description, double price, int stock, byte[] photo) {
 
-         try {
-       // validar si el usuario existe antes de agregar el producto, enviando token
-       Map<String, Object> usuario = usuarioClient.obtenerUsuarioPorId(idusuario, token);
+    // Valida el token localmente (firma y expiracion). Solo se llama al servicio de usuarios
+    // cuando el token no trae el id del usuario o trae un id distinto al pedido
+    private void validarUsuario(String token, Long idusuario, String mensaje) {
+        Optional<Long> idToken = jwtVerifier.obtenerUserId(token);
+        if (idToken.isPresent() && idToken.get().equals(idusuario)) {
+            return;
+        }
+        if (!fallbackRemoto) {
+            throw new RuntimeException(mensaje);
+        }
+        try {
+            // Se espera aquí: los pedidos corren en hilos virtuales, donde bloquear no ocupa un hilo de Tomcat
+            usuarioClient.existeUsuario(idusuario, token).block();
+        } catch (RuntimeException e) {
+            // Aquí entra si el WebClient devolvió 4xx o 5xx
+            throw new RuntimeException(mensaje, e);
+        }
+    }
 
-        // Si llegó aquí, el usuario existe
-        System.out.println("Usuario encontrado: " + usuario);
+    // Crear un nuevo producto
+    public Product crearProducto(Long idusuario, String token, String name, String description, double price, int stock, byte[] photo) {
 
-      } catch (RuntimeException e) {
-      // Aquí entra si el WebClient devolvió 4xx o 5xx
-      throw new RuntimeException("Usuario no encontrado, no se puede agregar el producto", e);
-      }
+        // Validar el token y el usuario antes de agregar el producto
+        validarUsuario(token, idusuario, "Usuario no encontrado, no se puede agregar el producto");
 
         // Validaciones básicas
         if (name == null || name.trim().isEmpty()) {
@@ -58,6 +112,8 @@ public class ProductService {
         if (stock < 0) {
             throw new RuntimeException("El stock no puede ser negativo");
         }
+        // Solo el encabezado de la imagen; las variantes se generan despues del commit
+        variantesFoto.validar(photo);
 
         Product product = new Product();
         product.setIduser(idusuario);
@@ -67,7 +123,10 @@ public class ProductService {
         product.setStock(stock);
         product.setPhoto(photo);
 
-        return productRepository.save(product);
+        Product guardado = productRepository.save(product);
+        indiceBusqueda.indexar(guardado.getId(), guardado.getName(), guardado.getDescription());
+        variantesFoto.programar(guardado.getId(), guardado.getPhotoHash());
+        return guardado;
     }
 
 
@@ -112,12 +171,17 @@ public Product crearProductoPrecarga(
 
     // 🔥 Convertir base64 → byte[] si viene
     if (base64Photo != null && !base64Photo.isEmpty()) {
-        product.setPhoto(Base64.getDecoder().decode(base64Photo));
+        byte[] photo = Base64.getDecoder().decode(base64Photo);
+        variantesFoto.validar(photo);
+        product.setPhoto(photo);
     } else {
         product.setPhoto(null);
     }
 
-    return productRepository.save(product);
+    Product guardado = productRepository.save(product);
+    indiceBusqueda.indexar(guardado.getId(), guardado.getName(), guardado.getDescription());
+    variantesFoto.programar(guardado.getId(), guardado.getPhotoHash());
+    return guardado;
 }
 
 
@@ -126,8 +190,32 @@ public Product crearProductoPrecarga(
         if (id == null || id <= 0) {
             throw new RuntimeException("ID de producto inválido");
         }
-        return productRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Producto no encontrado con ID: " + id));
+        // Desde ProductoCache: la base solo se consulta si el producto (o su stock) no esta en memoria,
+        // y sin la foto (el cache no la guarda en el detalle)
+        Product product = productoCache.obtener(id,
+                k -> productRepository.findSinFotoById(k).orElse(null),
+                this::buscarStock);
+        if (product == null) {
+            throw new RuntimeException("Producto no encontrado con ID: " + id);
+        }
+        return product;
+    }
+
+    // Version actual de un producto (cambia con cualquier modificacion, incluido el stock).
+    // Alcanza para responder un If-None-Match sin cargar el producto
+    public long obtenerVersion(Long id) {
+        if (id == null || id <= 0) {
+            throw new RuntimeException("ID de producto inválido");
+        }
+        Long version = productoCache.version(id, this::buscarStock);
+        if (version == null) {
+            throw new RuntimeException("Producto no encontrado con ID: " + id);
+        }
+        return version;
+    }
+
+    private StockProducto buscarStock(long id) {
+        return productRepository.findStockByIdIn(List.of(id)).stream().findFirst().orElse(null);
     }
 
     // Obtener todos los productos
@@ -135,13 +223,191 @@ public Product crearProductoPrecarga(
         return productRepository.findAll();
     }
 
+    // Cantidad de productos, sin cargar entidades
+    public long contarProductos() {
+        return productRepository.count();
+    }
+
+    // Listar productos por paginas usando cursor (keyset).
+    // sort admite "id,asc", "id,desc", "price,asc" y "price,desc"; el cursor es opaco
+    // y se obtiene de la pagina anterior
+    public PaginaProductos listarProductosPaginado(Integer size, String sort, String cursor) {
+        int tamano = size == null ? TAMANO_PAGINA_DEFECTO : size;
+        if (tamano < 1 || tamano > TAMANO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + TAMANO_PAGINA_MAXIMO);
+        }
+        String orden = sort == null || sort.isBlank() ? ORDEN_DEFECTO : sort.trim().toLowerCase();
+        boolean porPrecio = orden.startsWith("price,");
+        boolean ascendente = orden.endsWith(",asc");
+        if (!orden.equals("id,asc") && !orden.equals("id,desc")
+                && !orden.equals("price,asc") && !orden.equals("price,desc")) {
+            throw new IllegalArgumentException("Orden no soportado: " + sort);
+        }
+
+        // Valores iniciales cuando no hay cursor: antes del primero segun el orden pedido
+        long ultimoId = ascendente ? 0L : Long.MAX_VALUE;
+        double ultimoPrecio = ascendente ? -Double.MAX_VALUE : Double.MAX_VALUE;
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = decodificarCursor(cursor);
+            if (!partes[0].equals(orden)) {
+                throw new IllegalArgumentException("El cursor no corresponde al orden " + orden);
+            }
+            ultimoPrecio = Double.parseDouble(partes[1]);
+            ultimoId = Long.parseLong(partes[2]);
+        }
+
+        // Se pide un elemento extra solo para saber si existe una pagina siguiente
+        Pageable limite = PageRequest.of(0, tamano + 1);
+        List<ProductoResumen> filas;
+        if (porPrecio) {
+            filas = ascendente
+                    ? productRepository.findPaginaPorPrecioAsc(ultimoPrecio, ultimoId, limite)
+                    : productRepository.findPaginaPorPrecioDesc(ultimoPrecio, ultimoId, limite);
+        } else {
+            filas = ascendente
+                    ? productRepository.findPaginaPorIdAsc(ultimoId, limite)
+                    : productRepository.findPaginaPorIdDesc(ultimoId, limite);
+        }
+
+        String siguiente = null;
+        if (filas.size() > tamano) {
+            filas = filas.subList(0, tamano);
+            ProductoResumen ultimo = filas.get(tamano - 1);
+            siguiente = codificarCursor(orden, ultimo.getPrice(), ultimo.getId());
+        }
+        return new PaginaProductos(filas, tamano, orden, siguiente);
+    }
+
+    // Filtra por rango de precio, stock disponible y vendedor, ordenado por precio (y por id a
+    // igual precio). Pagina por cursor igual que listarProductosPaginado; sort admite
+    // "price,asc" (por defecto) y "price,desc"
+    public PaginaProductos filtrarProductos(FiltroProductos filtro, Integer size, String sort, String cursor) {
+        int tamano = size == null ? TAMANO_PAGINA_DEFECTO : size;
+        if (tamano < 1 || tamano > TAMANO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + TAMANO_PAGINA_MAXIMO);
+        }
+        String orden = sort == null || sort.isBlank() ? "price,asc" : sort.trim().toLowerCase();
+        if (!orden.equals("price,asc") && !orden.equals("price,desc")) {
+            throw new IllegalArgumentException("Orden no soportado: " + sort);
+        }
+        boolean ascendente = orden.equals("price,asc");
+        if (filtro.getPrecioMin() != null && filtro.getPrecioMin() < 0
+                || filtro.getPrecioMax() != null && filtro.getPrecioMax() < 0) {
+            throw new IllegalArgumentException("El precio no puede ser negativo");
+        }
+        if (filtro.getPrecioMin() != null && filtro.getPrecioMax() != null
+                && filtro.getPrecioMin() > filtro.getPrecioMax()) {
+            throw new IllegalArgumentException("El precio mínimo no puede ser mayor que el máximo");
+        }
+
+        Specification<Product> spec = ProductoSpecs.de(filtro);
+        if (cursor != null && !cursor.isBlank()) {
+            String[] partes = decodificarCursor(cursor);
+            if (!partes[0].equals(orden)) {
+                throw new IllegalArgumentException("El cursor no corresponde al orden " + orden);
+            }
+            spec = spec.and(ProductoSpecs.despuesDe(Double.parseDouble(partes[1]), Long.parseLong(partes[2]), ascendente));
+        }
+        Sort porPrecio = ascendente
+                ? Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"))
+                : Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id"));
+
+        // Se pide un elemento extra solo para saber si existe una pagina siguiente
+        List<ProductoResumen> filas = productRepository.buscarResumenes(spec, porPrecio, tamano + 1);
+
+        String siguiente = null;
+        if (filas.size() > tamano) {
+            filas = filas.subList(0, tamano);
+            ProductoResumen ultimo = filas.get(tamano - 1);
+            siguiente = codificarCursor(orden, ultimo.getPrice(), ultimo.getId());
+        }
+        return new PaginaProductos(filas, tamano, orden, siguiente);
+    }
+
+    // Busqueda por texto en nombre y descripcion, ordenada por relevancia. Las palabras pueden
+    // estar incompletas ("ps" encuentra "ps4") y no importan tildes ni mayusculas
+    public PaginaBusqueda buscarProductos(String q, Integer page, Integer size) {
+        if (q == null || q.isBlank()) {
+            throw new IllegalArgumentException("La búsqueda no puede estar vacía");
+        }
+        int pagina = page == null ? 0 : page;
+        int tamano = size == null ? TAMANO_PAGINA_DEFECTO : size;
+        if (pagina < 0) {
+            throw new IllegalArgumentException("La página no puede ser negativa");
+        }
+        if (tamano < 1 || tamano > TAMANO_PAGINA_MAXIMO) {
+            throw new IllegalArgumentException("El tamaño de página debe estar entre 1 y " + TAMANO_PAGINA_MAXIMO);
+        }
+
+        IndiceBusqueda.Resultado resultado = indiceBusqueda.buscar(q, pagina * tamano, tamano);
+        if (resultado.ids().isEmpty()) {
+            return new PaginaBusqueda(List.of(), q, pagina, tamano, resultado.total());
+        }
+        // La base devuelve los resumenes en cualquier orden; se vuelven a poner en el del indice.
+        // Un id que ya no esta (borrado y aun no quitado del indice) simplemente no aparece
+        Map<Long, ProductoResumen> porId = productRepository.findResumenesByIdIn(resultado.ids()).stream()
+                .collect(Collectors.toMap(ProductoResumen::getId, Function.identity()));
+        List<ProductoResumen> productos = resultado.ids().stream()
+                .map(porId::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PaginaBusqueda(productos, q, pagina, tamano, resultado.total());
+    }
+
+    // Arma el indice de busqueda con todo el catalogo, de a paginas y sin leer fotos; lo llama
+    // CargaIndiceBusqueda al arrancar. Fuera de transaccion (solo si se llama desde otro bean, a
+    // traves del proxy): cada pagina usa su propia conexion y entra al indice apenas se lee; los
+    // productos borrados o actualizados mientras tanto no se pisan con la pagina leida antes
+    @Transactional(Transactional.TxType.NOT_SUPPORTED)
+    public int indexarCatalogo() {
+        int indexados = 0;
+        long ultimoId = 0L;
+        List<ProductoResumen> pagina;
+        indiceBusqueda.iniciarCarga();
+        try {
+            do {
+                pagina = productRepository.findPaginaPorIdAsc(ultimoId, PageRequest.of(0, LOTE_INDEXACION));
+                for (ProductoResumen producto : pagina) {
+                    if (indiceBusqueda.cargar(producto.getId(), producto.getName(), producto.getDescription())) {
+                        indexados++;
+                    }
+                    ultimoId = producto.getId();
+                }
+            } while (pagina.size() == LOTE_INDEXACION);
+        } finally {
+            indiceBusqueda.terminarCarga();
+        }
+        return indexados;
+    }
+
+    private String codificarCursor(String orden, double precio, long id) {
+        String valor = orden + "|" + precio + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String[] decodificarCursor(String cursor) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] partes = valor.split("\\|");
+            if (partes.length != 3) {
+                throw new IllegalArgumentException("Cursor inválido");
+            }
+            Double.parseDouble(partes[1]);
+            Long.parseLong(partes[2]);
+            return partes;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Cursor inválido", e);
+        }
+    }
+
     // Actualizar un producto
+    // Con UPDATE por campos: la foto actual no se lee, y solo se escribe si llega una nueva
     public Product actualizarProducto(Long id, Product datosNuevos) {
         if (id == null || id <= 0) {
             throw new RuntimeException("ID de producto inválido");
         }
 
-        Product productoExistente = productRepository.findById(id)
+        Product productoExistente = productRepository.findSinFotoById(id)
                 .orElseThrow(() -> new RuntimeException("Producto no encontrado con ID: " + id));
 
         // Validaciones
@@ -154,6 +420,10 @@ public Product crearProductoPrecarga(
         if (datosNuevos.getStock() < 0) {
             throw new RuntimeException("El stock no puede ser negativo");
         }
+        boolean fotoNueva = datosNuevos.getPhoto() != null && datosNuevos.getPhoto().length > 0;
+        if (fotoNueva) {
+            variantesFoto.validar(datosNuevos.getPhoto());
+        }
 
         // Actualizar campos
         productoExistente.setName(datosNuevos.getName().trim());
@@ -161,12 +431,25 @@ public Product crearProductoPrecarga(
         productoExistente.setPrice(datosNuevos.getPrice());
         productoExistente.setStock(datosNuevos.getStock());
 
+        // Con la version leida: si otra transaccion cambio el producto en el medio, falla como
+        // fallaba el save de la entidad
+        if (productRepository.actualizarDatos(id, productoExistente.getVersion(), productoExistente.getName(),
+                productoExistente.getDescription(), productoExistente.getPrice(), productoExistente.getStock()) == 0) {
+            throw new ObjectOptimisticLockingFailureException(Product.class, id);
+        }
+        productoExistente.setVersion(productoExistente.getVersion() + 1);
+
         // Actualizar foto solo si se proporciona
-        if (datosNuevos.getPhoto() != null && datosNuevos.getPhoto().length > 0) {
+        if (fotoNueva) {
             productoExistente.setPhoto(datosNuevos.getPhoto());
+            productRepository.actualizarFoto(id, productoExistente.getPhoto(), productoExistente.getPhotoHash(),
+                    productoExistente.getPhotoContentType());
+            variantesFoto.programar(id, productoExistente.getPhotoHash());
         }
 
-        return productRepository.save(productoExistente);
+        productoCache.invalidar(id);
+        indiceBusqueda.indexar(id, productoExistente.getName(), productoExistente.getDescription());
+        return productoExistente;
     }
 
     // Eliminar un producto por ID
@@ -178,21 +461,15 @@ public Product crearProductoPrecarga(
             throw new RuntimeException("Producto con ID " + id + " no existe");
         }
         productRepository.deleteById(id);
+        productoCache.invalidar(id);
+        indiceBusqueda.quitar(id);
         return "Producto con ID " + id + " eliminado exitosamente";
     }
      // Eliminar todos los productos de un usuario
 public String eliminarporUserid(Long idusuario, String token) {
 
-    try {
-        // Validar si el usuario existe antes de eliminar
-        Map<String, Object> usuario = usuarioClient.obtenerUsuarioPorId(idusuario, token);
-
-        System.out.println("Usuario encontrado: " + usuario);
-
-    } catch (RuntimeException e) {
-        // Si el WebClient devolvió 4xx o 5xx
-        throw new RuntimeException("Usuario no encontrado, no se pueden eliminar los productos", e);
-    }
+    // Validar el token y el usuario antes de eliminar
+    validarUsuario(token, idusuario, "Usuario no encontrado, no se pueden eliminar los productos");
 
     // Optional: revisar si el usuario tiene productos antes de borrar
     long count = productRepository.countByIduser(idusuario);
@@ -202,48 +479,154 @@ public String eliminarporUserid(Long idusuario, String token) {
     }
 
     // Borrar todos los productos del usuario
+    List<Long> ids = productRepository.findIdsByIduser(idusuario);
     productRepository.deleteByIduser(idusuario);
+    ids.forEach(productoCache::invalidar);
+    ids.forEach(indiceBusqueda::quitar);
 
     return "Productos eliminados correctamente";
 }
 
     //eliminar stock(como si fuera compra)
-  public UpdateStockDto restarStockProducto(Long id, int cantidadARestar) {
+    // El descuento es un solo UPDATE condicional; el numero de filas afectadas indica si hubo stock
+    public UpdateStockDto restarStockProducto(Long id, int cantidadARestar) {
 
-    if (id == null || id <= 0 || cantidadARestar < 0) {
-        return new UpdateStockDto("ERROR", null);
-    }
+        if (id == null || id <= 0 || cantidadARestar < 0) {
+            return new UpdateStockDto("ERROR", null);
+        }
 
-    Product productoExistente = productRepository.findById(id)
-            .orElse(null);
+        int filas = productRepository.restarStockSiAlcanza(id, cantidadARestar);
 
-    if (productoExistente == null) {
-        return new UpdateStockDto("ERROR", null);
-    }
+        if (filas == 0) {
+            // No existe o el stock no alcanza: se devuelve el estado actual si el producto existe
+            return new UpdateStockDto("ERROR", productRepository.findSinFotoById(id).orElse(null));
+        }
 
-    int stockActual = productoExistente.getStock();
+        // Solo la compra que dejo el stock en 0 logra borrar la fila
+        if (productRepository.eliminarSiSinStock(id) == 1) {
+            productoCache.invalidar(id);
+            indiceBusqueda.quitar(id);
+            return new UpdateStockDto("ELIMINADO", null);
+        }
+        productoCache.invalidarStock(id);
 
-   
-    if (cantidadARestar > stockActual) {
-        return new UpdateStockDto("ERROR", productoExistente);
+        Product actualizado = productRepository.findSinFotoById(id).orElse(null);
+        return new UpdateStockDto("ACTUALIZADO", actualizado);
     }
 
-    int stockNuevo = stockActual - cantidadARestar;
+    // Reserva el stock de varios productos en una sola transaccion (todo o nada).
+    // Las lineas repetidas del mismo producto se suman antes de descontar
+    public ReservaStockDto reservarStock(List<LineaReserva> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("La reserva debe tener al menos un producto");
+        }
 
-   
-    if (stockNuevo == 0) {
-        productRepository.deleteById(id);
-        return new UpdateStockDto("ELIMINADO", null);
+        Map<Long, Integer> cantidades = new LinkedHashMap<>();
+        for (LineaReserva item : items) {
+            if (item == null || item.getProductId() == null || item.getProductId() <= 0 || item.getCantidad() <= 0) {
+                throw new IllegalArgumentException("Cada línea necesita un productId válido y una cantidad mayor que 0");
+            }
+            cantidades.merge(item.getProductId(), item.getCantidad(), Integer::sum);
+        }
+        List<LineaReserva> lineas = cantidades.entrySet().stream()
+                .map(e -> new LineaReserva(e.getKey(), e.getValue()))
+                .collect(Collectors.toList());
+
+        int[] filas = productRepository.restarStockEnLote(lineas);
+
+        boolean todasAplicadas = true;
+        for (int f : filas) {
+            todasAplicadas &= f == 1;
+        }
+
+        Map<Long, Integer> stockActual = productRepository.findStockByIdIn(cantidades.keySet()).stream()
+                .collect(Collectors.toMap(StockProducto::getId, StockProducto::getStock));
+
+        List<ResultadoLineaReserva> resultados = new ArrayList<>();
+        if (!todasAplicadas) {
+            for (int i = 0; i < lineas.size(); i++) {
+                LineaReserva linea = lineas.get(i);
+                Integer stock = stockActual.get(linea.getProductId());
+                if (filas[i] == 1) {
+                    // Se revierte junto con el resto; se informa el stock previo al descuento
+                    resultados.add(new ResultadoLineaReserva(linea.getProductId(), linea.getCantidad(),
+                            "NO_APLICADO", stock + linea.getCantidad()));
+                } else {
+                    resultados.add(new ResultadoLineaReserva(linea.getProductId(), linea.getCantidad(),
+                            stock == null ? "NO_EXISTE" : "SIN_STOCK", stock));
+                }
+            }
+            throw new ReservaStockException(new ReservaStockDto("RECHAZADO", resultados));
+        }
+
+        // Igual que restarStockProducto: los productos que quedan en 0 se eliminan
+        productRepository.eliminarSinStock(cantidades.keySet());
+        for (LineaReserva linea : lineas) {
+            boolean agotado = Integer.valueOf(0).equals(stockActual.get(linea.getProductId()));
+            if (agotado) {
+                productoCache.invalidar(linea.getProductId());
+                indiceBusqueda.quitar(linea.getProductId());
+            } else {
+                productoCache.invalidarStock(linea.getProductId());
+            }
+            resultados.add(new ResultadoLineaReserva(linea.getProductId(), linea.getCantidad(),
+                    agotado ? "ELIMINADO" : "RESERVADO", null));
+        }
+        return new ReservaStockDto("RESERVADO", resultados);
     }
 
-    
-    productoExistente.setStock(stockNuevo);
-    Product actualizado = productRepository.save(productoExistente);
+    // Hash y tipo de la foto de un producto, sin cargar el LONGBLOB
+    public FotoInfo obtenerInfoFoto(Long id) {
+        if (id == null || id <= 0) {
+            throw new RuntimeException("ID de producto inválido");
+        }
+        FotoInfo info = productRepository.findFotoInfoById(id).orElse(null);
+        if (info == null || info.getPhotoHash() == null) {
+            throw new RuntimeException("El producto con ID " + id + " no tiene foto");
+        }
+        return info;
+    }
 
-    return new UpdateStockDto("ACTUALIZADO", actualizado);
-}
+    // Bytes de la foto; solo se leen cuando el cliente realmente la pide.
+    // Si el detalle del producto esta en ProductoCache la foto queda guardada con el
+    public byte[] obtenerBytesFoto(Long id) {
+        byte[] foto = productoCache.foto(id, k -> productRepository.findFotoById(k).orElse(null));
+        if (foto == null) {
+            throw new RuntimeException("El producto con ID " + id + " no tiene foto");
+        }
+        return foto;
+    }
+
+    // Content-Type de la variante de la foto con ese hash, o vacio si no hay (o se pidio la
+    // original). Si falta se pide generarla y mientras tanto se sirve la original
+    public Optional<String> obtenerTipoVariante(Long id, TamanoFoto tamano, String hashOriginal) {
+        if (tamano == TamanoFoto.ORIGINAL) {
+            return Optional.empty();
+        }
+        Optional<String> tipo = fotoVarianteRepository.findContentType(id, tamano, hashOriginal);
+        if (tipo.isEmpty()) {
+            variantesFoto.programar(id, hashOriginal);
+        }
+        return tipo;
+    }
 
+    public byte[] obtenerBytesVariante(Long id, TamanoFoto tamano, String hashOriginal) {
+        return fotoVarianteRepository.findDatos(id, tamano, hashOriginal)
+                .orElseThrow(() -> new RuntimeException("El producto con ID " + id + " no tiene foto " + tamano.getParametro()));
+    }
 
+    // Completa photo_hash y photo_content_type de fotos guardadas antes de existir esas columnas
+    public int completarMetadatosFotos() {
+        List<Long> ids = productRepository.findIdsConFotoSinHash();
+        for (Long id : ids) {
+            productRepository.findById(id).ifPresent(product -> {
+                product.setPhoto(product.getPhoto());
+                productRepository.save(product);
+            });
+            productoCache.invalidar(id);
+        }
+        return ids.size();
+    }
 
     public String obtenerFotoBase64(Product product) {
         if (product.getPhoto() == null) return null;
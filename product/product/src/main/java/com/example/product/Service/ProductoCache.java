@@ -0,0 +1,164 @@
+package com.example.product.Service;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongFunction;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.example.product.model.Product;
+import com.example.product.model.Dto.StockProducto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Detalle de productos en memoria para GET /products/{id}. Cada entrada guarda el producto sin
+// la foto (el JSON del detalle no la incluye) y, si alguien la pidio, los bytes de la foto.
+// El limite es por peso en bytes aproximados: las fotos cuentan entero y cada entrada pesa al
+// menos PESO_MINIMO, asi que el peso acota tambien la cantidad de entradas.
+// El stock (con la version de la fila, que sube tambien al restar stock) va en una cache aparte:
+// restar o reservar stock solo invalida ese par y el resto del detalle sigue en memoria.
+// La version sola alcanza para responder un If-None-Match sin armar el producto. Las invalidaciones se repiten despues del commit, para que una
+// lectura que corrio durante la transaccion no deje el valor viejo
+@Component
+public class ProductoCache {
+
+    static final int PESO_MINIMO = 256;
+
+    private final Cache<Long, Entrada> detalles;
+    private final Cache<Long, Stock> stocks;
+    // Cambia con cada invalidacion de stock; el stock leido junto con el detalle solo se
+    // guarda si no hubo invalidaciones mientras se leia
+    private final AtomicLong generacionStock = new AtomicLong();
+
+    private record Entrada(Product producto, byte[] foto) {}
+
+    private record Stock(int cantidad, long version) {}
+
+    @Autowired
+    public ProductoCache(@Value("${productos.cache.max-peso:64MB}") DataSize maxPeso,
+                         @Value("${productos.cache.max-stock:100000}") long maxStock,
+                         MeterRegistry registry) {
+        this(maxPeso.toBytes(), maxStock, registry);
+    }
+
+    ProductoCache(long maxPeso, long maxStock, MeterRegistry registry) {
+        this.detalles = Caffeine.newBuilder()
+                .maximumWeight(maxPeso)
+                .weigher((Long id, Entrada entrada) -> peso(entrada))
+                .recordStats()
+                .build();
+        this.stocks = Caffeine.newBuilder()
+                .maximumSize(maxStock)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, detalles, "productos");
+        CaffeineCacheMetrics.monitor(registry, stocks, "productos-stock");
+    }
+
+    /**
+     * Copia del producto (sin foto) con su stock y version actuales, o null si no existe.
+     * "cargar" y "cargarStock" se usan solo si falta el detalle o el stock
+     */
+    public Product obtener(long id, LongFunction<Product> cargar, LongFunction<StockProducto> cargarStock) {
+        Entrada entrada = detalles.get(id, k -> {
+            long generacion = generacionStock.get();
+            Product producto = cargar.apply(k);
+            if (producto == null) {
+                return null;
+            }
+            sembrarStock(k, new Stock(producto.getStock(), producto.getVersion()), generacion);
+            return new Entrada(copia(producto, producto.getStock(), producto.getVersion()), null);
+        });
+        if (entrada == null) {
+            return null;
+        }
+        Stock stock = stocks.get(id, k -> stock(cargarStock.apply(k)));
+        if (stock == null) {
+            // Se borro entre las dos lecturas
+            detalles.invalidate(id);
+            return null;
+        }
+        return copia(entrada.producto(), stock.cantidad(), stock.version());
+    }
+
+    /**
+     * Version actual del producto, o null si no existe. No carga ni arma el detalle
+     */
+    public Long version(long id, LongFunction<StockProducto> cargarStock) {
+        Stock stock = stocks.get(id, k -> stock(cargarStock.apply(k)));
+        return stock == null ? null : stock.version();
+    }
+
+    /**
+     * Bytes de la foto. Si el detalle esta en cache la foto queda guardada junto a el
+     */
+    public byte[] foto(long id, LongFunction<byte[]> cargar) {
+        Entrada entrada = detalles.getIfPresent(id);
+        if (entrada != null && entrada.foto() != null) {
+            return entrada.foto();
+        }
+        byte[] foto = cargar.apply(id);
+        if (entrada != null && foto != null) {
+            // Solo si la entrada sigue siendo la misma (no se invalido mientras se leia)
+            detalles.asMap().replace(id, entrada, new Entrada(entrada.producto(), foto));
+        }
+        return foto;
+    }
+
+    // El producto cambio o se borro. Se invalida ya y otra vez despues del commit (sin transaccion,
+    // las dos veces en el momento)
+    public void invalidar(long id) {
+        detalles.invalidate(id);
+        invalidarStock(id);
+        Transacciones.despuesDelCommit(() -> detalles.invalidate(id));
+    }
+
+    // Solo cambio el stock
+    public void invalidarStock(long id) {
+        generacionStock.incrementAndGet();
+        stocks.invalidate(id);
+        Transacciones.despuesDelCommit(() -> {
+            generacionStock.incrementAndGet();
+            stocks.invalidate(id);
+        });
+    }
+
+    // Ejecuta ahora el mantenimiento pendiente (desalojos); Caffeine lo hace en segundo plano
+    void mantenimiento() {
+        detalles.cleanUp();
+        stocks.cleanUp();
+    }
+
+    private void sembrarStock(long id, Stock stock, long generacion) {
+        if (generacionStock.get() != generacion) {
+            return;
+        }
+        stocks.put(id, stock);
+        // Una invalidacion entre la verificacion y el put: se descarta lo sembrado
+        if (generacionStock.get() != generacion) {
+            stocks.invalidate(id);
+        }
+    }
+
+    private static Stock stock(StockProducto fila) {
+        return fila == null ? null : new Stock(fila.getStock(), fila.getVersion());
+    }
+
+    private static Product copia(Product p, int stock, long version) {
+        return new Product(p.getId(), p.getIduser(), p.getName(), p.getDescription(), p.getPrice(), stock,
+                null, p.getPhotoHash(), p.getPhotoContentType(), version);
+    }
+
+    private static int peso(Entrada entrada) {
+        Product p = entrada.producto();
+        long texto = (p.getName() == null ? 0 : p.getName().length())
+                + (p.getDescription() == null ? 0 : p.getDescription().length());
+        long foto = entrada.foto() == null ? 0 : entrada.foto().length;
+        return (int) Math.min(Integer.MAX_VALUE, PESO_MINIMO + 2 * texto + foto);
+    }
+}
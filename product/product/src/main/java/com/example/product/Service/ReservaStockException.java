@@ -0,0 +1,19 @@
+package com.example.product.Service;
+
+import com.example.product.model.Dto.ReservaStockDto;
+
+// Se lanza cuando alguna linea de la reserva no se puede aplicar; al ser RuntimeException
+// la transaccion se revierte completa y ninguna linea queda descontada
+public class ReservaStockException extends RuntimeException {
+
+    private final ReservaStockDto resultado;
+
+    public ReservaStockException(ReservaStockDto resultado) {
+        super("No hay stock suficiente para todos los productos de la reserva");
+        this.resultado = resultado;
+    }
+
+    public ReservaStockDto getResultado() {
+        return resultado;
+    }
+}
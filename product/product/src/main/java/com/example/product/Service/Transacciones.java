@@ -0,0 +1,29 @@
+package com.example.product.Service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// Acciones sobre estado en memoria (caches, indice, cola de fotos) que solo deben verse despues
+// de que la transaccion que cambio la base se confirme
+final class Transacciones {
+
+    private Transacciones() {
+    }
+
+    /**
+     * Ejecuta la accion despues del commit de la transaccion actual; si la transaccion se revierte
+     * no se ejecuta. Sin transaccion activa se ejecuta en el momento
+     */
+    static void despuesDelCommit(Runnable accion) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    accion.run();
+                }
+            });
+        } else {
+            accion.run();
+        }
+    }
+}
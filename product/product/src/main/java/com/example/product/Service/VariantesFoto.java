@@ -0,0 +1,298 @@
+package com.example.product.Service;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.product.model.FotoVariante;
+import com.example.product.model.Product;
+import com.example.product.model.TamanoFoto;
+import com.example.product.model.Dto.FotoInfo;
+import com.example.product.model.Dto.FotoOriginal;
+import com.example.product.repository.FotoVarianteRepository;
+import com.example.product.repository.ProductRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import jakarta.annotation.PreDestroy;
+
+// Variantes de tamaño fijo (TamanoFoto.VARIANTES) de la foto de un producto, para que una grilla
+// no descargue fotos de resolucion completa. Al subir la foto solo se lee su encabezado (formato y
+// dimensiones), asi crearProducto no tarda mas con fotos grandes; las variantes se generan despues
+// del commit en un pool propio y acotado: pocos hilos de plataforma, porque el trabajo es de CPU y
+// cada imagen decodificada ocupa memoria, y una cola limitada que solo guarda ids. La foto se
+// decodifica una sola vez y cada variante sale de la anterior.
+// Cada variante guarda el hash de la foto de la que salio, asi nunca se sirve una variante vieja.
+// Si falta (la cola estaba llena o la foto es anterior a las variantes) se vuelve a pedir al servirla
+@Component
+public class VariantesFoto {
+
+    // Limite de pixeles de la foto subida: una imagen chica en bytes puede ocupar gigas decodificada
+    static final long MAX_PIXELES = 50_000_000L;
+    static final float CALIDAD_JPEG = 0.85f;
+
+    // Formatos que ImageIO lee sin librerias externas
+    private static final Set<String> FORMATOS = Set.of("jpeg", "png", "gif");
+
+    private final ProductRepository productRepository;
+    private final FotoVarianteRepository fotoVarianteRepository;
+    private final TransactionTemplate transaccion;
+    private final ThreadPoolExecutor executor;
+    // Productos en la cola o generandose
+    private final Set<Long> pendientes = ConcurrentHashMap.newKeySet();
+    // Hashes de fotos que no se pudieron decodificar: no se reintentan en cada pedido
+    private final Cache<String, Boolean> fallidas = Caffeine.newBuilder().maximumSize(10_000).build();
+    private final Counter errores;
+
+    public record Imagen(String formato, int ancho, int alto) {}
+
+    public record Variante(TamanoFoto tamano, String contentType, int ancho, int alto, byte[] datos) {}
+
+    @Autowired
+    public VariantesFoto(ProductRepository productRepository,
+                         FotoVarianteRepository fotoVarianteRepository,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${productos.fotos.hilos:2}") int hilos,
+                         @Value("${productos.fotos.cola:200}") int cola,
+                         MeterRegistry registry) {
+        this.productRepository = productRepository;
+        this.fotoVarianteRepository = fotoVarianteRepository;
+        this.transaccion = new TransactionTemplate(transactionManager);
+        this.executor = new ThreadPoolExecutor(hilos, hilos, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cola),
+                Thread.ofPlatform().name("fotos-", 0).daemon(true).factory());
+        this.errores = Counter.builder("productos.fotos.errores")
+                .description("Fotos cuyas variantes no se pudieron generar")
+                .register(registry);
+        new ExecutorServiceMetrics(executor, "productos-fotos", List.of()).bindTo(registry);
+    }
+
+    /**
+     * Formato y dimensiones de la foto, leyendo solo el encabezado. Falla con
+     * IllegalArgumentException si no es JPEG, PNG o GIF o si tiene demasiados pixeles
+     */
+    public Imagen validar(byte[] foto) {
+        if (foto == null || foto.length == 0) {
+            return null;
+        }
+        try (ImageInputStream entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(foto))) {
+            ImageReader lector = lector(entrada);
+            try {
+                String formato = lector.getFormatName().toLowerCase(Locale.ROOT);
+                if (!FORMATOS.contains(formato)) {
+                    throw new IllegalArgumentException("Formato de imagen no soportado: " + formato + " (se aceptan JPEG, PNG y GIF)");
+                }
+                int ancho = lector.getWidth(0);
+                int alto = lector.getHeight(0);
+                if (ancho <= 0 || alto <= 0 || (long) ancho * alto > MAX_PIXELES) {
+                    throw new IllegalArgumentException("La imagen es demasiado grande: " + ancho + "x" + alto
+                            + " pixeles (máximo " + MAX_PIXELES + ")");
+                }
+                return new Imagen(formato, ancho, alto);
+            } finally {
+                lector.dispose();
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("La foto no es una imagen JPEG, PNG o GIF válida", e);
+        }
+    }
+
+    /**
+     * Pide generar las variantes de la foto actual del producto. Dentro de una transaccion se
+     * encola despues del commit; si el producto ya esta en la cola, o la cola esta llena, no hace nada
+     */
+    public void programar(long id, String hash) {
+        if (hash == null || fallidas.getIfPresent(hash) != null) {
+            return;
+        }
+        Transacciones.despuesDelCommit(() -> {
+            if (!pendientes.add(id)) {
+                return;
+            }
+            try {
+                executor.execute(() -> procesar(id));
+            } catch (RejectedExecutionException e) {
+                // Cola llena: la variante se vuelve a pedir la proxima vez que alguien la quiera
+                pendientes.remove(id);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void cerrar() {
+        executor.shutdownNow();
+    }
+
+    // El id sigue en "pendientes" hasta terminar: mientras se genera, los pedidos de la variante
+    // no encolan otra decodificacion de la misma foto. Si la foto cambia mientras tanto, guardar
+    // descarta el resultado y la variante nueva se pide la proxima vez que alguien la quiera
+    private void procesar(long id) {
+        try {
+            FotoOriginal original = productRepository.findFotoOriginalById(id).orElse(null);
+            if (original == null || original.getPhoto() == null || original.getPhotoHash() == null) {
+                return;
+            }
+            String hash = original.getPhotoHash();
+
+            List<Variante> variantes;
+            try {
+                variantes = renderizar(original.getPhoto());
+            } catch (IOException | RuntimeException e) {
+                fallidas.put(hash, Boolean.TRUE);
+                errores.increment();
+                return;
+            }
+            try {
+                transaccion.executeWithoutResult(estado -> guardar(id, hash, variantes));
+            } catch (RuntimeException e) {
+                // Se reintenta la proxima vez que se pida la variante
+                errores.increment();
+            }
+        } finally {
+            pendientes.remove(id);
+        }
+    }
+
+    private void guardar(long id, String hash, List<Variante> variantes) {
+        // Mientras se generaban pudo cambiar la foto o borrarse el producto
+        String actual = productRepository.findFotoInfoById(id).map(FotoInfo::getPhotoHash).orElse(null);
+        if (!hash.equals(actual)) {
+            return;
+        }
+        fotoVarianteRepository.borrarDeProducto(id);
+        Product producto = productRepository.getReferenceById(id);
+        for (Variante variante : variantes) {
+            fotoVarianteRepository.save(new FotoVariante(null, producto, variante.tamano(), hash,
+                    variante.contentType(), variante.ancho(), variante.alto(), variante.datos()));
+        }
+    }
+
+    /**
+     * Decodifica la foto una vez y arma las variantes, de mayor a menor. Las fotos con
+     * transparencia quedan en PNG y el resto en JPEG
+     */
+    static List<Variante> renderizar(byte[] foto) throws IOException {
+        BufferedImage imagen = decodificar(foto, 2 * TamanoFoto.VARIANTES.get(0).getLadoMaximo());
+        boolean alfa = imagen.getColorModel().hasAlpha();
+        String contentType = alfa ? "image/png" : "image/jpeg";
+
+        List<Variante> variantes = new ArrayList<>();
+        BufferedImage actual = imagen;
+        for (TamanoFoto tamano : TamanoFoto.VARIANTES) {
+            actual = reducir(actual, tamano.getLadoMaximo(), alfa);
+            variantes.add(new Variante(tamano, contentType, actual.getWidth(), actual.getHeight(), codificar(actual, alfa)));
+        }
+        return variantes;
+    }
+
+    // Una foto mucho mas grande que lo necesario se lee salteando filas y columnas: ocupa menos
+    // memoria y se decodifica mas rapido
+    private static BufferedImage decodificar(byte[] foto, int ladoUtil) throws IOException {
+        try (ImageInputStream entrada = ImageIO.createImageInputStream(new ByteArrayInputStream(foto))) {
+            ImageReader lector = lector(entrada);
+            try {
+                int paso = Math.max(1, Math.max(lector.getWidth(0), lector.getHeight(0)) / ladoUtil);
+                ImageReadParam parametros = lector.getDefaultReadParam();
+                parametros.setSourceSubsampling(paso, paso, 0, 0);
+                return lector.read(0, parametros);
+            } finally {
+                lector.dispose();
+            }
+        }
+    }
+
+    private static ImageReader lector(ImageInputStream entrada) throws IOException {
+        if (entrada == null) {
+            throw new IOException("No se pudo leer la imagen");
+        }
+        Iterator<ImageReader> lectores = ImageIO.getImageReaders(entrada);
+        if (!lectores.hasNext()) {
+            throw new IOException("Formato de imagen desconocido");
+        }
+        ImageReader lector = lectores.next();
+        lector.setInput(entrada, true, true);
+        return lector;
+    }
+
+    // Reduce de a la mitad como mucho por paso: una sola reduccion bilineal grande saltea pixeles
+    // y deja bordes dentados. Si la imagen ya entra en el tamaño solo se convierte de tipo
+    private static BufferedImage reducir(BufferedImage imagen, int ladoMaximo, boolean alfa) {
+        int tipo = alfa ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        double escala = Math.min(1.0, (double) ladoMaximo / Math.max(imagen.getWidth(), imagen.getHeight()));
+        int anchoFinal = Math.max(1, (int) Math.round(imagen.getWidth() * escala));
+        int altoFinal = Math.max(1, (int) Math.round(imagen.getHeight() * escala));
+
+        BufferedImage actual = imagen;
+        int ancho = imagen.getWidth();
+        int alto = imagen.getHeight();
+        do {
+            ancho = Math.max(anchoFinal, ancho / 2);
+            alto = Math.max(altoFinal, alto / 2);
+            actual = dibujar(actual, ancho, alto, tipo);
+        } while (ancho != anchoFinal || alto != altoFinal);
+        return actual;
+    }
+
+    private static BufferedImage dibujar(BufferedImage origen, int ancho, int alto, int tipo) {
+        BufferedImage destino = new BufferedImage(ancho, alto, tipo);
+        Graphics2D g = destino.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(origen, 0, 0, ancho, alto, null);
+        } finally {
+            g.dispose();
+        }
+        return destino;
+    }
+
+    private static byte[] codificar(BufferedImage imagen, boolean alfa) throws IOException {
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        if (alfa) {
+            ImageIO.write(imagen, "png", salida);
+            return salida.toByteArray();
+        }
+        ImageWriter escritor = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream destino = ImageIO.createImageOutputStream(salida)) {
+            escritor.setOutput(destino);
+            ImageWriteParam parametros = escritor.getDefaultWriteParam();
+            parametros.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            parametros.setCompressionQuality(CALIDAD_JPEG);
+            escritor.write(null, new IIOImage(imagen, null, null), parametros);
+        } finally {
+            escritor.dispose();
+        }
+        return salida.toByteArray();
+    }
+}
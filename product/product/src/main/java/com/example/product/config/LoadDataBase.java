@@ -1,8 +1,14 @@
 package com.example.product.config;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Base64;
+
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.io.ClassPathResource;
 
 import com.example.product.Service.ProductService;
 
@@ -13,7 +19,12 @@ public class LoadDataBase {
     CommandLineRunner initDatabase(ProductService productService) {
         return args -> {
 
-            if (!productService.listarProductos().isEmpty()) return;
+            int fotosCompletadas = productService.completarMetadatosFotos();
+            if (fotosCompletadas > 0) {
+                System.out.println("Metadatos de foto completados para " + fotosCompletadas + " productos");
+            }
+
+            if (productService.contarProductos() > 0) return;
 
             System.out.println("insertando productos de precarga...");
 
@@ -27,7 +38,7 @@ public class LoadDataBase {
             "Vendo minecraft de ps4",
               12000,
                3,
-              "/9j/4AAQSkZJRgABAQAAAQABAAD/2wCEAAQEBAQEBAUFBQUHBwYHBwoJCAgJCg8KCwoLCg8WDhAODhAOFhQYExITGBQjHBgYHCMpIiAiKTEsLDE+Oz5RUW0BBAQEBAQEBQUFBQcHBgcHCgkICAkKDwoLCgsKDxYOEA4OEA4WFBgTEhMYFCMcGBgcIykiICIpMSwsMT47PlFRbf/CABEIAYIBLAMBIQACEQEDEQH/xAAdAAABBQEBAQEAAAAAAAAAAAAGAAMEBQcIAQIJ/9oACAEBAAAAAO/vM8tS+AFFV0NUB+6CxdE8zy1L4AUVXQ1QH7oLF0TzPLUvgBS0JsMnlFfkI30jzXSkc75HCVD1ncwx68kwYMqbTQSlaPPKK8XUWUdNAF/zJjVaSUNbroAL7by4ulOQNK0kly+zsqa9wsR7RFv0XaAL8lQg6SxKBrkKp+6olym4M853LmKF0tWs/UPO9U+c+1HnrKt16R66iUE+7TvmeWpfhfFnPXRVRquRRb2i1GhD9ioBQxA/rUMh92IUWRdD9iWRfACkaNQHLCn4NxzsrkGwqVr2XOKYx8WjVF8WTTGn9+4BxR2T0Y5YR4SoJR00AX5LTChpYCFXoazyUctAN+SUoqaWAhVaH7nkk6aAL8lVKkkkkvfF778+ffni+vPPfflJJJJJXXmeWpfACiq6GuSnvEkkkkklWb4ZRdE8zy1L4AUr/wC7JqA/NixJnDYPZe+r31e/X17777nHZe+u1X3ZNQH5qC5R00AX5LSippw9xEHpJJJJJLcO6epPc7lHTQBfkqaaHJV9ApLW1pOGOOA+Uy2kkkkluH6Gaw0VMjcu/r6VF4jwDrU/43U3uhrhbj8P6G6SzzNc4AWvEkluH6LH0XRPM8tS+AFKUH/m9OoG/wBeZtATcO8TCHZ+tJKJn2d5xnMJLcO7+mHQh8wjh9uQrPRH85vvEY/7tyRU04e4iE/0VsUkkl8gmdZtZ9z9Se53KOmgC/JUgr8qfvEY/wCzGmXQ1wvx9P7rhzvlJJJeffJ36Fn0XRPM8tS+AFLQq/A5P3Cw48uYmV8iah1DxCM6TtOpJJJfXPPTt03UG+mTyivF1FlHTQBf/mPmuUJLtXTvzljLp/otVmL6MapcL56iPUepu5GgC/JUIOksSgsPy/zfKEnP0VBOIUu6dBWU8WeWnelv+c7CJNQ6p7ciUE+7TvmeWpfB/KnPMoS0HunLOZwWT+jX15zHzkrf9E8z4hSJNQ6y6UtS+AFI0agOWEf8tc6yhLo7pxKHjVJomg8P54tg7K5trdLLrSbrmuu2EeEqCUdNAF/+Y+a5Qve09Q+4M3m7mr227TzTM9d3ribs7b9v9zuUdNAF+SqlSS9/LjOMoT36Cz/rm/n6TVrVu1EvWvzl/RLos7SSSSV15nlqXwfypzzKEd9m/bvFgEknTnsy/Wd8N/o71MouieZ5al8AKV/92TUB7lKVHsMmpCv54KaSSsP0Ld+ueuYv0f6D0d2qCs5sbC61VBco6aAL8lpRU04SzYyCOTHG0lp/YP25x/lH6P7ft/ud8ccGaaT7T+kKaZG5d/X0tra0nCOdlWLYl1pMB8xBehd8c+uCK/8AR7pi+aKuFPzx00n13v5F/meWpfACiq6GuEczIgHPejn3sUw7rI+cEeOV+jHVX1F0TjXg0nl6x3cpXzUxhabt1dQE3CWJ3LzzzruPZj13Jex/n1H/AOi2tPD4wNtgE/uZZ6Nfm45iUb92JgqacI4JYuvPOvOvuPO8750kkSaf1T3EyAkBIkO/kq5iUb9ldPuhrhHDX3nnXXnXnnXuV69JIl0/rXpG1L4AUtCFvyeJyVvvI4uB7hHnv6deeddededquefF0oRp0A6q6enlFeLqKOcY7F9edhQxcu4J5ededddedeecDsqS6H6YlIfJuz2gC/JUIOksWhn/AJe5sGTn3nXXXnXXXnXs6Ektw736NdFnSSJQT7tO+Z5al8H8qc9BnHftx1111x151/L4aW3fouexdE8zy1L4AUjRqA5YR/y10rR15xeBOOOuOuuO/Gr9KpYF2TsnxatQHLCPCVBKOmgC/wCCNJ8QHySMfbjn26447XnfZ/iqNL6e+s7lHTQBfkqpUkkKOyoXF/Iwl9/f39ufbjlaafrjKYncHYrdGPR/UKSSuvM8tS+AFFV0NcKYekvr33369YifrpAoD/8APzBn67rXpK1L4AUr/wC7JqA/NixJnDV1YJJJJLMu5iKTX4AFLnzeuzWoD81Bco6aAL8lpRU05Pq0kkkkqHp3Rp4hg4kqyf2w0AX5KmmRuXf19La2tJn9nOEGDZgQnFFWO3Wm1sC/oABg2nfUu/r6VF/meWpfACiq6GqA/dBYuieZ5al8AKKroaoD90Fi6J5nlqXwApS3zCOH25DT0BNYi8AydCHzCOH25DT0BNYi8AydCHzCOH25Cs9lHTQBfktKKms8QqtD9zuUdNAF+S0oqazxCq0P3O5R00AX5Kl5nlqXwAoquhqgP3QWLonmeWpfACiq6GqA/dBYuieZ5al8AKWhNhk8orxi/uB6oL5Iewbthk8orxi/uB6oL5Iewbthk8orxdRZR00AX5LSiprPEKrQ/c7lHTQBfktKKms8QqtD9zuUdNAF+SrO5R00AX5LSiprPEKrQ/c7lHTQBfktKKms8QqtD9zuUdNAF+Sr/8QAGwEBAAIDAQEAAAAAAAAAAAAAAAECBQYHAwT/2gAIAQIQAAAAAAACQAIBcKykragLhBMxWagsmJISpaoAAAAAAAAAAXkCtQBNgKAAAAARIAF58zE6HuOwgAmDXeesht2yWAA1DSh9m27WADQ9ZqHYrALTXmu8a3qA7HeIAOWdSw3Ncx8Hzda+oAOV9U1nQeg7BybrcgD5eZ9L1fTum5TlfVwAxHMrbVgul+OidMgAa5oFukZXQcxieg1AGpad0bK/JyluO61AGla11D6mk6jv20VATOA0nqZp2odGzlQBiNR6KaJr3TshUAYrXsxh9t0fE9V9KgDGa59WC3fS6dJtVMAY7VaU27Svt3uYm9IB8Gt+dPPzyu2gA+LAedPPzzWwgF6Pjw1PPz889lrKhefNjvi86edM991rVqB8HlTzp50z3uAHy086U86ZywAm/n8lKUrmZpAC8+fjStJ++1agBWtavolAASiJJQAWsFIm9IAXkK1m9agJAhKAAAAAAAAAAAAAAAAAAAAAAB//xAAbAQEBAAIDAQAAAAAAAAAAAAAAAQIGAwUHBP/aAAgBAxAAAAAAAAARYFBCKAoMQpFKCJZYsZSggAWUAAAAAAASAWgCAFAEoEoAiglBiyTqdB3PYaSgxyJrnnbsdw2XKUGORNP0gfZt+15AxyJoOsYh7JyAlh5rvGt6cPZM1BK8o9W6XzLuuv8Al9d+uUEryj1fV/P/AETYfIvX7KCX5PMfTtU031DtPKfWkoJen8vy2zoPTuLQfTbKCXWvPOT0vtfP+56n0CgJdQ0v0nt/k8lbnulAS6PrPqn1TR9Q9A2egI6DSPVq0vTfS+6oA6bUPR60LW/U/tpjkDqdd7nptu0XqPWMqkyB1Wt/X0O8aVx+mypMgdbqnHx7hpP278QrHI6/WuPj4+PttvMchjkfDr/Hhx8fd7ESjG18PTYcWGHfdvCjFk6z4+PDj4tg+/EyBPg4sOPDiw7/AOiUBj82HHhhx8ffZSgMWPBx4YY9tLQGKceOGF+xaARMcMbz0lAQkZVFASBaxZAJAtYsgEBSUAAAAAAAAAAAAAAAAAAAAAAP/8QANxAAAQIFAgUCBAUEAwADAAAABAMFAAECBhAHNAgUFRY1ERITFyREIDEyNjcYITAzIiUmI0FG/9oACAEBAAEIAIN2ZOGTyaGLj2KeLZ+7xce+TwyeMQwfvism7MnDJ5NDFx7FPFs/d4uPfJ4ZPGIYP3xWTdmThk8mhi49innnQ4IXErFXoo5A6GsdYY5FVfnQ4elEzBaExrwurs+tuQrD17aLaXFquCtybBR1CFV9aFXiQxiAGuLU71LotaXEQ0MMhQXdbXdYdJZVR41MbaGq3nwBTWIMFUSbshr0sQOismtrgSqiqnKWriCc16Cg9V1wyqFo+dykH60iGByRmHq1zw1BKDdrAuB8WJcQjWSumAI4auLHLUqS+Z6//wBMPEIzuodcmU7X8ZtpQrMP1fRQoIcS2rWUN9b0XJsnre6Tr9tDDrlRcK7WMRyB0NY6wxyKq/Ohw9KJmC0JjcgdHIHYA3wuHvxi+Lc3ykajkpXdqC8E06h2sCVaTjVXYt33kdaqNsXUHcIbKu8rr6LBq02cu4rPaJB+sNotizk1Duqc0l7cEclnEq3atahDR7YbxpAVnTWkiW53nrQgeRJFmua+zLvYRrsOfRwkClCZawaj+kWPdFyPSzA4nlHvoNqvyAVqmORVqthrxabiCTrNdFQFy3Qfp9cdbo8aYOjq9IHu6+mXq2XbqAxT1NKvQJpCWtVF71uTE6TQ2X7fNpiTZg7adpPlvNLpKwbS1AufVRwZpQ9+MXxbm+Uz0RzgdrOGWSXV622QccM4jKCi9Ec4LOlZjW6vjnbhBhKdYhlpXhO7Dn5NBpvCt4u99YEdWnaprsB3nK0mubNazI3zt9zCI1bvJ2I1PvlJrtSutla7tYCQRqEtSiUXl901FFXq+H8ZSsnX6kuYk1KL4+ZN82p6u9VSDE6VQzcGbK5s7YdXcek6OkR2mzUIbeDWM2GHDW28Nd/W0I6HSa2y1tbGMVsuFjt5xqDdHq0gbbTEMNtuUps2vFcqn90VY2NydEpa9exwrcJX/NxXugpwP0ZvBpQtSbU5aWXQ0S1EoFF622QccM4jKCi9Ec4bkFWhapczrbZHW2zBuzJwyeTQxxCvoTRarMAfcLmxUD3C502zdbqwSmMjp05W4xDvBZuqVwslwl2i1IoX5b1Tm6SV0pudtaGG43QvXO6gHcBlBb9NboYmHTb4dT4526bqBYg1bRc1pBUOwlbj8slCG9EKoe02+/rYIaSr4teSHrU7P9hBtRSwdxvtuDX1aZbaBdNuJWpUCTpM9WoJZqSLpelyMdeo1iugZ932iaC4CVaTH2ZK0qkX27XK2G6+LIdmQy77MKELGX0h4a1yyrduq4+MJj9j7a9xU6NXN2/cRQ5xWoNviLtTiKpTKhSqmTJ5NDFx7FPPcYMVPAhdFQyfbh0ItyzQrSav3GDD4Cz3u1EsZWoehN3WI609MA0bu10uy3RV9R9CLHdmw06yXDTnUBxCrRgXTnVZBuBkclpZqLQ7FrjvWnN9OLcslF5aJ3CxMthuTTLR3Ud9cWUQTs6/1vZXXKyb8nP0k16U3+VRcRNU7A1BolKdc7L1BRrRVRlp3e69tHLUjaWagvDo2tUm3TvUFqBSGrq0nv0c8B2rL0x1Ke20kZuD02v4ANEeivS3UgF6XVc9NNI3W5LqQndFTISXVNdLiV0zfbp0yUk2h6c30Cmn6aJ6PC2t7H65u3DoRblmhWk1fuMGCik3xPlxu3Do7cOwBvhcPfjF8W5vlMXNOf0uLc2SmHvya8es4C2Y2PWcAznM0XD34xePWcW5vlMXNPaR6zi3P7hKYepzk5r4C2Y2PWcAb4XD34xfFub5TPbMdD5H6qO5o6n1j6GO2Y5Xt/6qO5o/ccdsxzXb/wBLHcc6pRNs6vPnZ9sx1qoP0FjuOqO2Y6HyX1Mu46om41PH0M+2Y5SbD9TLuOqJyncP59sxIibB9LLuOqJtnV587PtmOucj9LHc0dsx0Pkfqo7mjqfWPoY7Zjle3/qo7mjubBuzJwyeTQxcexTxbP3eLj3ycaqP/RdTGpFecpynOU/w+n+D0h5dhWNuWOI4eTy3PTUcwo/fFZN2ZOGTyaGLj2Kee4zoTeijK6RlO3AYXbUGhKo1DuM6Bya32uYxXbgMFf8An/ZyvcZ0CipvifMEcUIaQd/NSNDRqpbrU2jCP/zk06j5yadR849Oo+cWnMfOLTmPnDpzHzh05j5v6cx83tOY+bmnMS1b06j5s6dR82NOo+a+ncXhcvcTjKaHD06Lg6YAUJ0s4hdFJKnbgMdxnQm9FGV0jKduAwu2oNCVRqHcZ0Dk1vtcxiu3AY7cBwBvhcPfjF8W5vlMXN9pi3NipHFb/IjTF574b/Oj/oRjQb+MwIC2Y2QN8Lh78Yvi3N8pnojZC7UCMgqsj1h2gIstxKTGL6I2Q4oJtKNK4PW3SGz/ALj4vPdEbIcV1WhalAPiUJXKvpqUWvPfDYECLPV+EIolWlXOiv8Axo/6EY4cARCNKwK1iHQ4ZZVBLrbnHRGyCGsAVBVdLrbnAJxTiUmKV0RshyQSaEKVwutucdbc8akrLiafXauOw6tO6UqEHoC4VnBCkoDrDzCjq7V0TlW21VVtoNVVs/d4uPfJxxGfvZri898Njh8bJ1u7w7TcmZnefJuei9hOHvmk6cPrhR76mp30qvxnlOpVZBcZWpJf0/Gj/oRjhq/ikCD98Vk3Zk4ZPJoYuPYp5586NQyy1LAu2VcvylDc4HNZVJAK+tt/prq0S+eF/wA5TlFkUon2RbBhD79Fy/K8+dDKnQYLWoTxUpJI6htNKd574aJRom1SbrFRJnmU5yn6yOAAdKPhuDppBYLpVVXJ04e05ynU0umjl+Nf96TW5wbVZpG5R/0IxoEQujpkBJNBASsVCuvkg4586BCylSkE1OSDh0QQGAWVQ586GZSssmugrkg45IPGoH7Bu2JflKKf1UwZuyMac/x7Z8XN9pi3NipHFb/IjTF574aEk61VKU02dtpZ2hubaf8AAtQmSlNEh00wsN3lOarpw/NKspzanTQ++gPWY1FFaadFFeg38ZgQFsxsgb4XD34xfFub5T8Gp/8AG95RL8pRT+qUF7sjFnfs214tn7vFx75OOIz97NcXnvho0vaqXe/GNBSc5zn6zUcW5IuQStVNdP6v8Kf+yiCt2THDV/FIEH74rJuzJwyeTQxcexTzzocPQzQ9Mjk1k/ILTyA9A9MuZo5uvhm4faqpzmZwyaFTRo5NfWR+tZ7cremzazGLpKKBfOF9gjVF0LrlWtfoot8kIuCt/CLguyKC/D+z1KOLw8Vxq679Xv11nS1XldTJ6Sb2zXi7xPZSdY2qQF7nVN6f46P10w3Wa8vZa6krHuR3sG3R2JrUv5/VUrUqqvx8opnVU5cSZjdOqiWkGrz5qWrdA7lyB0NY6wxyKq/Ohw9KJmC0JjcgdHIHYA3wuHvxi+Lc3ykagfyBeEXN4Qr8OjDRNrsQVasktEAUg1YwpY0pcpbHD41ToEfHerD05psrM5OajXr+wryppc2zUexnaVPL0f8AyJyUoxqo6dXv17Wli1JSm8JynHC15i48PfjF8W5vlM9Ec4Hazhlkl1ettkHHDOIygovRHOG1BZpXmuZf1dNd+3dXTc3hCvwJp1q100UM7dJnZ21slq+6zarCcpUZ0raej2GzpzxrQ6SbrCKRlhueXdoU+I32hU5V2syquZ5ybWAY4KkLqErKLK4tPzKeOFlOubpdSsdbbIOOGcRlBReiOcNyCrQtUuZ1tsjrbZg3Zk4ZPJoYuHaIxev71uiLm8IV+DS1ok9X0zIVznOc5znqlZT5ewDcM2Oml99tEqql1kVh1JprNgKrm5BgpUIpDJpoJY4g3SVRzG1U4YGtV7em5tSqlTTP20avuc2ywHOVObT8ynjhX/XfmGTyaGLj2Kee4wYqeBC6Khk+3DoRblmhWk1fuMGFiEnumkYW+qJp3zdac7m8IV+Dh8apVmPjtXiU5y/vI9ubnWj4bjfrBaNhAIXU1NXEGNX6UurZq3YDp6SkGUK4pSVB1VdZu1+vaksaHtfP3ykTVHEI6T9rC00h8Px5I6C6lvcJIb010GrJ8DNS1FFdDZwRrthkiaf6Zgo0m00F03WfKKO3DoRblmhWk1fuMGCik3xPlxu3Do7cOwBvhcPfjF8W5vlI1A/kC8IubwhWZfnGjzZJrsQJScq4lVDi7tTQkms4jrIGJSVF4g3b/mxs9Mes4YkjyHgAcB50qsR3qrmq68PolUp1M7ro5fzbOqdGhLAU1gPphsawu0nS/XOmlu8aBFkft5KAtmNkDfC4e/GL4tzfKZ7ZjofI/VR3NHU+sfQx2zEhegTkTF91/Fvu7VIubwhWR0FSV0kEm4RJqbwm9KSkSrjX1495DKz0iHmt6slQ3V6dn0mkpzxow1VOl/N9cTlOX9p4nOc/zXJSCQWLWcDFHA8sxRu8a3xpwzc/aySsdc5H6WO5o7ZjofI/VR3NHU+sfQx2zHK9v/VR3NHc2DdmThk8mhi4dojF6/vW6IubwhWdNW/qN6s1E5K+s/WJKRTXOc5SjU106te7wrL8CSyiFdKiTTqffTNKmge13A90ttoPcfWWNV3bpFhO1VM4bvGt8aT/ALPSg/fFZN2ZOGTyaGLj2Kee4zoTeijK6RlO3AYXbUGhKo1DuM6BCKnpTliHjhhuZ3uZ7c1lOHIRoSoTK+Q7FAvDm1GozVTv9paNI32hsEtZ2OdBjFzJKwuemCKQWqsoospUqp+FqAUdHMIBNOlIehNBGVcSrjiCc5yDYWumG7xrfGnjuSDbCKSdLOIXRSSp24DHcZ0XrrDbNiDhTur+o3QCA+ITRn2843f1LafRbesVi388jW+J24DHbgOAN8Lh78Yvi3N8pi5vtMW5sVI4o/5JBizK/aAVKKVY1LdJgWYfKmPhK/D+L+HSBv52+A1ZyUiSkSUjWV06je5SUobvGt8WT+3kYC2Y2eMbwVl4tHxFWOHj+X7ez0RsghrAFQVXS625wCcU4lJildEbIckEmhClcLrbnDZ/3Hxee6I2Q4rqtC1KAfEeuqRf4Valq1+0MiKVo1gc/fNqbaYsAKTdZzahWfZdoukp8w4aNtSspzbrn0/ebWFkYVGh4Pw0npynJWJKRUUiOnWus6nqurkacrDd41vjS9uDKtNKtYh0OGWVQS625x0RsjjgEQEaLHpRi0fEVY0IVUQ1UY1E+tucdbc8G7MnDJ5NDFx7FPFs/d4uPfJxxE/vwKLfU9gy0UrRdFj9yH1H0k6bXKhXKSaXw0E00U5LRJaUaxufv6S20xpsH02zm+U5KxJWNQXTp1lvFcsMhQxzK2Ei6U1Sps5Kcz98VnjNth/uUCzE2j5U6hw22zcFttvw3eNDv5QZc8+dCjxySdZR8tZNFoM1j0i5evk566aZ/lMDXTSX4tXOhTZnNvFODffouX5XnzoZU6DBa1CeKBOhLUcGVDQp7EVIktFK8UrRJaJLRJaL5tO43t5VcBVmB3GKRHKHpTDHRGSpWiS0axuXo3NTfLFiahPFkGT+Dp3rBYFVpiKQjqzo/Ugl8WnVTR5afso+aNnRczuNetINDD2ldMKWrcskqviu+j/UfdWNo7pjd9u6pspbhyQcckHi9P2Xc8Ufopin9VMGbsjGmn8c2ZFzfaYtzYqRxR/ySDASnsoqlElopWilaKVpxSvFK0SWiS8/T0iS0SWiS0aoHzMuepGX4bU/u8px6Sjha8rcmHqUpNa8pRbm+U/BqL/H13xR+imKf1SgzdkYsr9k2pFs/d4uPfJxxE/v0OE6/Z/aJLRStFK0UrRStOKVopWilacSWileKV6af+VbobW5OJZlf4bT8ynjhW/K/cMnk0MXHsU886HGoZgddgXdTTR+imLdtdzuJX1Qr0Fs9SuquqegVmylFuNJAltsYqDH9DzHNc6HDynWWTRWLxGJqJ3+HTXWtKdc/SlaJLRStFK0SWiSsUrRJaKVoktFxuHJsLgrKc/XNq6RWXcrSkVL5AWlHyAtKEdDmRunWQ3GBFtxSghfCvVT7r6ojkDoax1hjkVV+dDh6UTMFoTG5A6OQOxeVNVdm3LTRa2mxa9CJb2mLUglQkl8NWJpLTpn6W4pTTbrNTO5K6K+VlL/AIwwr0JBKSjivKpR1GBlRStEloktEloktFKsSWiS0opWiSsSVi+Tfa2jDSzbb2UwFCmoAniuYaBgnrHrFxW2BcYsk1+HBnPZLhuUU2Hvxi+Lc3ymeiOcINZ4q6S6vW2yDTxnAZQUTpDvDekQ1rzWNv6dKt/XfXK5aKZMpU4BpooHoiU05xSpTT+UlokrElYktFK0UrRJaJLRJaJLRJaLvL+O40Iyyj/oRjh/AMK0wbqkEHQEZBJBXrbZHRXSEGw8ZdJZbrbZBxwziMoKL0RzhuQVaFqlzOttkdbbMG7MnDJ5NDFw7RGL2/et0Rckp1MpNMqZ1UylKUq6olXVElJy/OSsSWiS0SViSsSVilaJLRJaKVfWcoPVrLNIXl7Ko9lUeyqEP9CMcNf8UN0H74rJuzJwyeTQxcexTz3GDFTwIXRUMn24dCLcs0K0mr9xgwsQk900jC31TNG+bsoqsG2JtY0nQv31x8SuJqzplOqrUp8rfblmbOSkSViSsSViSsSViS0SViSsFFfAFWUjh/c5oydG6r3Tj3Tj3Ti/2HpTtziPDo5jB6Wt1CqjKUZXUSn24dHcYMVPAhdFQyfbh0ItyzQrSav3GDBRSb4ny43bh0duHYA3wuHvxi+Lc3ykK2x1bUu8HEufrOfrPGoTz01lmGndtXtOGiSkSUiSkSUiSkSUiSsSViS0Oq/09NEaYuPSSEDonL0nP0w/M6T81EAKaGpKj6cBoLB1ykENkDfC4e/GL4tzfKZ7ZjofI/VR3NHU+sfQx2zHK9v/AFUKtdoLrKrKDWbarv7/AIPyzt2CLUtJqrkirxDjNwl7tybfeU/Q4aJVxKuJVxKuJKRKuJKRJSJKQcp71KaYtWfozmzhg0+YS2NqWrItW1GquSK3SLNhCwracEqSU+IXUC99NdRVWG1ZcROtdMpSkwa+6yHuVCC3zX1Mjh1ue57qJuhZ87mjqfWPoY7Zjle3/qo7mjubBuzJwyeTQxcexTxbP3eLj3yccRf75bolpa83sim4i/0+3HH9Ptxx/T9ccf0/3HHyAuSJaBXLHyCuWPkJcsfIW5Yr0AuSuqdUzrIcbFErENtn9us0XHvk8MnjEI4kdKHi8dT13IX+n244R0ZuC2/iulcv7xwrf/vcMnk0MXHsU89xnQm9FGV0jKduAwu2oNCVRqHcZ0Dk1vtcxiu3AYK/8/7OV7jOgUVN8T5gjicBkNqI2DoNLdQ0NgYFH+LVUGS9vJFyYXwpBjaKKRRU3xPmCO3AYWcVmhWoJDUIlQu6Flq8XtbkmFz+KPwsqzpNu1CO3AYXbUGhKo1DuM6Bya32uYxXbgMduA4A3wuHvxi+Lc3ymLm+0xbmxUjWpr6hrS0rV/47qB6lbLwLJmn6sjROLc2KmHvya8Xv+4VMvLSM+Nq4BHDOES3XDdQZUPfjF8W5vlM9EbIIawBUFV0utucAnFOJSYpXRGyHJBJoQpXC625w2f8AcfF57ojZDiuq0LUoBvduttwuU3I9u0stcsNJav5SWpBNgW8iSsnLsW34+UlqQTpRayIyykuxbfhu08twoxJGv5SWpDtphbAI1CifYlvw06Z2y40kUqpMDQGMggm4rqtC1KAfW3OAQRnEZMop405tt3MqMIKsC3kiVk5diW/HyktSGmwbetZRwcm/rbnAJxTiUmKV0RshyQSaEKVwutucdbc8G7MnDJ5NDFx7FPFs/d4uPfJ4ZPGIYP3xWTdmThk8mhi49ini2fu8XHvk8MnjEMH74rJuzJwyeTQxcexTzz50CFlKlIJqckHDoggMAsqhz50MylZZNdBXJBw+/RcvyvPnQyp0GC1qE8kHDoQuMcskhz50IICVioV18kHHPnQIWUqUgmpyQcOiCAwCyqHPnQzKVlk10FckHD79Fy/K8+dDKnQYLWoTyQcOhC4xyySHPnQggJWKhXXyQcc+dAhZSpSCanJBw6IIDALKoc+dDMpWWTXQVyQcckHgDfC4e/GL4tzfKYub7TFubFTD35NfAWzGyBvhcPfjF8W5vlMXN9pi3Niph78mvgLZjZA3wuHvxi+Lc3yn4DdmThk8mhi49ini2fu8XHvk8MnjEMH74rJuzJwyeTQxcexTxbP3eLj3yeGTxiGD98Vk3Zk4ZPJoYuPYp550OCFxKxV6KOQOhrHWGORVX50OHpRMwWhMbkDoY/oeY5rnQ4eU6yyaKxeQOhrIQFARSX50OCxClSl1E+QOjnQ4IXErFXoo5A6GsdYY5FVfnQ4elEzBaExuQOhj+h5jmudDh5TrLJorF5A6GshAUBFJfnQ4LEKVKXUT5A6OdDghcSsVeijkDoax1hjkVV+dDh6UTMFoTG5A6OQOwBvhcPfjF8W5vlMXN9pi3Niph78mvgLZjZA3wuHvxi+Lc3ymLm+0xbmxUw9+TXwFsxsgb4XD34xfFub5T8AG+Fw9+MXxbm+Uxc32mLc2KmHvya+AtmNkDfC4e/GL4tzfKYub7TFubFTD35NfAWzGyBvhcPfjF8W5vlM//8QAURAAAQIEAgMKCQgIBAUFAQAAAQIDAAQREgUQIVOyBhMiMVFikZKi0RQjQXGjsbPS4SAyQlRVYYLBFTBScnOTlMIzNIGDJDVDY9N1oaS0w5X/2gAIAQEACT8AjVL9WXP2TlrhsnLmfnlqRtHLn7Ry1y9rPVL9WXP2TlrhsnLmfnlqRtHLn7Ry1y9rPVL9WXP2TlrhsnOZa64h9pbimlJSlKgSSRQACJV7qGGlttpuqtaSlIqCBUmJlrriFB5YdBKWzeQKHTQRhM3Ozc9vym5dpbbJDTATe4ovFIoCsCNz0/hkhOTjMqZxyZlXW2VLrRSw24VWiJxgNobLi13ggISLirzUjcTi29OsoLd03JIJSvhAkFyNzmJzUzKOONT7Iflm/BXUOKQEFa1gLutqCmNzmJSb0y0/4Akvyr3hT6CKMgtrNqlX6CqNw2KhDSFrWfDJHiQP4sYZN4g3uibcmZRlpbTK0NoQFrKy6oJqgqCSI3NYhISj801LGaXMyrqG1vGiSpLayY3C4vY62lxNZuRBosVFQXY3DYqL0FP+dkfKP4sbl8SYdTKLmWkGYlnN9DbzLBTVCyE6XxG5KfNteKclfejcdiH9ZKe/G5qeROHEWZdEuZmWqsOS7r9919KANmNyeIFtZWBdNyoNUKKDou5RG5GfN9OKclPJ+ONzs+7OoYcem5cPyyTL2PqlwFKK6EqKLo3Iz4ogJ/zkp78bkp8nkE5K+9GAYhPS8stLbjoflmgHVoDqkUWv6F9I3KT7LbroaDi5yTCEqKSoXqK6AGkbmZ9qUTV554TUs7Y1Wql2oUSoJGmgjc1PvyT5XvLpmZZsrCFlFSlSqjijcPNEVoCcRlY3LzchLYq6ZRqaXNMOht9wKShK0I0i5YsiVe6hhpbbabqrWkpSKggVJiZa64hQeWHQSls3kCh00ESr3UMSr3UOWuRtZczaGWpO0Im5ttjCUIwlgyz62Llo8dME28fCWE/hhrFcTmWU3SbJmHpgpfWbAsIHJWDjmHyGHyj0q0WmZlpydZmaANOltBJSykECJrFnJCWlmFy5mpaYUKtoWpy1RaFBxDTCvH4piD76l/cngbQMTa5tGHyq51ZWhCLFcJf0AP2Ew/NobU2ttaGJhbKVpcFCFhPHCMUkMC3OPzgwZxLjjRUifU2XEBagb0BTRV+KMUm5lM3ibSAy+GTpShWkLQhJjDkyrbYSkETCXq26KUSBSGsSQwqaW2wDhqSCCo2JSS1pgTjYmXRLS+/Solah15pSqUSm4VQIZnJaxpxQcXLrW2CkEg3thaaRjn/xmPcgmfmpjHZlpAq3LhQlJAjyAAWh+JCdlcXYcnHpUJYL6CFv76mxwJKFkpXAW3OeClc4XW95UlSCblKTQW6BE2zMys7hqXEOsrC0EoDROkRiy53Cp4LEnhLaSFottqq8ptFsY+MRk3XUpZZUhSHJNxPDLaqpANAoCojQlvEBMtJ5EKWoepSYDy3jMKbmWWpdMyVtrTUEpUlWgERK4mWW5VLRZOHIUQysFABq3WhAIjEFyjUu64CwthtSm1k8IG9JIggmalG3F/xKUWOsDGJuyu5XDsWZn33A03Xx7ommmWl21vUrLmbQy1J2hnL9tPfDNrba0rWbgaJSak0BiY7Cu6HL3l0tTQpraanSaCJftp74RZLSki86dINxbF9op5TSJWYbxJsImJ9TgQQuYnlKecIKFK41ViQLUphs34O3M75f4QaqFaUFugRJ0ZwpCd8m99rc4SBZZSFkLmt7lUf7qqq7IMJotmRaCx/3Fi9faMOObzKMiRaKWnHQCkpbP+GlWrMYmtrEFzTKEKQlbbiU6VK+eByRi/hzrbDSHXWWnX7nAgXVLaCLjCt9YnMQEwkgEXtqW0AYBokLWR9yQTG5s/8ADzKJhNJ6lVtgjVRLOYa5JvgMWOJmbnFupJPDQAKJELUtSMOmaqNAVENK0mlI3Q4olc1JsPKSGWaAuoCyInH5pqax7FX1OvhCFBT0o00EgI/chMzMlhh51CUyswEOFoE0Dm9lIBI44w6XSHVPI8HdUHrLVFB0kDjESbcpKzmFLBbbBtvKHB60Q0hbWEpfeG+ALZsWii98QQbgAKwtC5LEJkvkM6GUrSLCG0AJtGiAUpxjCOlSEd7MS4mFScup7eSuy8I0q4VDTRG58eNlUMFkTeqWpYWVb3z4wdzC3MRaZnkSy13myZQFhdaD5/HE+zLvSs06WEuEi9pyizTzKjEGXm8Tw+q0oNaPYavfEn/Vta+rEx2Fd0OXvLpamhTW01Ok0ES/bT3wne21IKAa3VUSDTg15ImOwruiY7Cu7LVL9WXP2Tk9vErieMsNzDpSoo3uXBmbCU+VxSAmJvBsRm3t/faD0lMKf+YENthVwTwAIm325R5d5Sh1TQCzRN/BjEENzmIzaXXKhbhKUpqFXAGtxUTE8hUivEt8nHiFJQgApQK3DkJjEmQ0w4z4Om1YLiS2FlQ0aQSbREyn9IzeJBxbPCrZUC4kDiBcJicMw0H33XSAsAEAJSDcBGIoRO0nXy0ErJ3zSEDQPuETaHMKkMMaQ47RaU3oC+QA+QRiATLmeWWm3A84Cy6y3xXgm0kmGcHl21LeMw6MNQ6QEIqgUcQQKmJuVbksMlEvTbwYLanVuPqRUhCBUi8Q8p+VcfRKvLS3VKA+k0K0qootniJAMOSqnmmgW0b29Q0IFoFIfukJSbbW8G76BSi5povy0EYq0HlyUyFoscIQXwtdhNum26kNy5mkz7oF0rvy7FWm4m08EROIdQyuyYUELFiN84yCORRjE0727KOtqWWnLPHIUmlbYZkxMtzzu9rcYKlqbKUkUWkQ+lQbmd7mkp302t3jSA59yjGLtby8w604Shyli0lJ+jE7IzOCuyyJ5EggO786oiraHg4hIshP+bknpJ3zyi709lyHixJv4fQqAUUpUCHEKNvLUxim/TcjiUq+y0lDpW7Ve9ONJFukrbWpIEGoBIjn7Jy1w2Tm290DvhDoW8ktpKgAAV6BWhhxnpPdCkKbbrUIJKjcLdFQOWG3ugd8SKJiVfR49mYAsWji8lSFAmoMYbP4/gswSJdyTadfmmP+2+GRXzORuXx6Vw+Yn2WZtczhz7KGWFO3OLK3EJFADGF/ovHw4t9DYcWJWa8qmC2VFDQV9AoAAMbhN0LgUPqLoKFj8MbjMdXVLhYWmScccCErso4EglBJFaGNx2MCXXLLdmmXZJ1qtmrCwLlmtQmNx+PlwC9s/o5/56fwxufnppM5gMqzjErIyynXmZ1loG9SBxXg2qjcpjMo6mYCEPzUk80y2ilauLKdAqI3G7owd6QgJOGvm0J/DG4zdFX/ANNf92NzG6JDzGC3ywmZB0XvInJchtoWi5RTcaRuM3Q6ONRwx8f2xuNx5S232VgHDnyKIWFckbkcZM8Mew4tg4e6pzeG5WZ3xdgANt7gjcvjrMtPTLEvMTL+GvS4l23VhLjhUbgEpTG4rdGhSC4P+XPGtVHygRuXxpbb7L5bYEm+44wW172N9FCUlelQEbj8aYdal3n3XXZV5AdQ2nS0kLTpcV9EJjcVuitbRT/lr+k9WNyWMrVZLraRLyrriUoW2HAkrbHzhfRY8hjAp/D8AkbX5tuaYWyZ1QPAl0B2hKSdLkLaS25w0JJIKUq0gUA8giSXPYhh8+xNMMSyVOuuBVWVhKQORdY3Kbp1KQ0lCqYa6Auz8ENJe3Svt2ybGhbOFh3af/bXDjPSe6FIU23WoQSVG4W6KgcsNvdA74BStB3wlzQKDR5K8sOM9J7ocZ6T3Za5G1lzNoZak7Qy5/5Za4+oZczZGWpR6s9cj15czaGWpO0Muf8Allrj6hlzNkZapHqz1yNrLmbQy1J2hnN+j+MTF+8+MtspWzTStYlPSfCGt6336d11LeFxUHJE36P4wvfr/F20spXTWunkiU9J8I8RvH47r+jkib9H8YRv1/jLq2UropTTyRJ9v4Q7vRd+hbdS3g8dRyRN+j+MSxXvPi7rqXWaK0pEn2/hE36P4xMFe8+MtspWzTStTEn2/hDO9b79O66lvC4qDkib9H8YVv1/i7aWUrprXTyRJ9v4QN43j8d1/RyRN+j+MN7/AH+MurZSuilNPJEn2/hDu9F36Ft1LeDx1HJE36P4xL37z4u6+lbNFaUiU9J8Im/R/GJi/efGW2UrZppWsSnpPhDW9b79O66lvC4qDkib9H8YXv1/i7aWUrprXTyRKek+ESnpPhlql+rLn7Jy1w2TlzPzy1I2jC6Sc5g7KHORC9+ctXBPTBPSYJ6YJgnpME9JgmCemCekwT0wTBPTBPSYJ6YrBJSgUQgGhcWeJIhwreexGfUr+caARrl7WeqX6sufsnLXDZObbPQe+ENBDyg2opBqAvQaVMOPdI7oUtTjdKBZBTwjbpoByw2z0HvgJQhCd8Bb0Go0eWvLDj3SO6OHv1bt800s4qUpyw2z0HvglC0HewG9AoNPlrp0wSUnA2zp/juxOOtTjabQoMrdDjY0JUSnyxir39K7GLO/0rsYu7/Su90Yu5/Svd0Yw5/Sve7GMr/pXvdjGlf0r/uxjZ/pn/cjHP8A4z/uRjo/p3/cjHR/Tv8AuRjyP5D/ALkY+j+Q/wC5GPt/yH/chR8AY0S44r68bhB5YQ2R4dPfO/iwt0LeSHFBJAAK9JpUQ490juhtnoPfCGgh5QbUUg1AXoNKmHHukd0KWpxulAsgp4Rt00A5YbZ6D3wEoQhO+At6DUaPLXlhx7pHdDj3SO7LXI2suZtDLUnaGXP/ACy1x2RH2C17d2NR/cf1+rR6o+vT3tY1SPVnrkbWXM2hlqTtDOX7au+GaOtoK0KuJopIqDQmHj1E90LK2V1uTQJrQVGkU8oiX7au+EFtxS7CrSrgkE0oqvJD/YT3R43erbPo0urX5tOSJftq74VvbakBZFLqqJIrwq8kLuUMFbHpnI1H9xyl3X3LSqxpBWq1Okmg8ghKkqHGlQoR+s1aPVDVx8OnvbQ9a22tSEC0GiUmgFSImOwnuiX7au+GbXG0FaDco0UkVBoTEx2E90OXsrrcmgTW0VGkUMS/bV3wnenFLCCalXBIJpwq8kTHYT3RMdhPdk8tp9rBZ1ba2yUrQpLRIIIiamnUfWW3V3/jTXTGLvut+Rbcwuo+46agxik9/Uud8YlOKHIZhw+swSVKlWSSTUklAjmfnlqRtGPsZv2zkaj+45DRLyqWEHnvqr6kRhspN6KVfZS4oD7lEVESkxJLV5Zd406rl8Y3LvfsomG1MnrJvEYK6+2PpypEwOhuphpbTiTRSFpKVDzg/qNWj1R9fn/bGNcvaz1S/Vlz9k5a4bJzmnuuYfdUP0LO8ajqjlMLYdqKlJ0KHIocRETUrRK1D/KtxMyn9K3DDJefweSdcO9gVUtlJMeJvvu3vgXUpStImnuuYQl5YdKbnBeQAAaVMISgfoJrQP47saj+45JIcn5l18/uIO9J2fkycvNI5H2ku7QMYc5JrP0pV0oHVVcmMe8zc01/e33RhqZ1FPnyjgd7OhUSb8s4PoPNqbPQr5GrR6oeWj/jp7iUR/1YYaW4tpClKUkEkkVJJiWa6giae65h91SFOoSpKlkggmhBESzXUENIacTbRaEhKhVQBoRE091zC1PIDRUEuG8AgjTQxLNdQRLNdQZfYs77I5csa1fry+wsP9giOf8AllrjsiPsFr27saj+4wkqWshKQPKToAjilJVpn/VCQCen9S2h5oihQ4kLSf8ARVYwNlhf7cqTLnoRwYxqYYP7Ey2HR1kWwxLT6B9XdF3VctMJKVoSEqSeMFIoQY+vT3tY1SPVnrkbWXM2hlqTtD5H2FP+xOXLGtX68vsTD/8A66I5n55akbRj7Gb9s5Go/uMIKm0P7+vzMAuflHGYnZZuaKA4lhbqUuFBJAUEk1IqISR+q/aEa9zaMfX5/wBsY1y9rPVL9WXP2TlrhsnOZa64hbb7M5KusONJcoVpdSUlIKTWpjcvM/1E178bnHm2dNy1zc0gbcbnGiSftOb/APNG5W9y8VDeIzizb/NhlIw3Cpx6QlQ0hO+NMSqi02k75W4hKY3RMNVALiH22mlDriN1GHdaVjdFh6lAUBulo3QSIn2GAwirzIaWgEqANp0Gp44CL0saShaXEnhHSFIJBgcBiXTLI/feNx6AnI1blCmUR/sCiu1WManWEDiQl0lHVNRDEjPIHGVNllw/ibIEYVMS0yhhTyzelxoJSQOPQf1HKISmVli+4d+fNtRcdKE8aomJVxhpx1y95AKyp5V6uJQhUlcpRJojyn8ULkgAKklFAO1EzJzTo+hLsFXbKwIlZVhuTlpfwZLdb1qfvB2YlXuoYaW22m6q1pKUioIFSYmWuuIUHlh0EpbN5AodNBEq91DEq91DlrkbWXM2hlqTtCPt7EPbqjlb2x8kUcn33Zk/u/4aNmDRqWZW8s81pJUYVc6+6t1Z5VLNTmNDi2pRv8HjF5gKTKSrj1vFcUCoT/qYwiblVeVbCkvo6DYYx6VQo/QmCZdXpKCCFtkVC0m5JHnGa7m2X/BkfcJcBv1jPVubOXJh225lzNoZak7Qzl+2nvhm1ttaVrNwNEpNSaAxMdhXdDl7y6WpoU1tNTpNBEv2098J3ttSLAahXCJBpwa8kGoVjuIEeYvqjlb2x8hJUtRCUgcZJg18DlGWCeUtpAMLo5OLblE+Zw3L7KfkCjkyhU25/vmqeyBmaLnphmXT5gd9VsZ4hMyqx5WXVN7JiYW/Ouybbrzi6XEui8A+YECNDcpLuPq8zSSqFXOOLUtZ5VKNSc9W5s5fMZbw9azyALcMTHYV3Q5e8ulqaFNbTU6TQRL9tPfCd7bUgoBrdVRINODXkiY7Cu6JjsK7stUv1Zc/ZOWvT6jH2zPe2VHK3tj5CatMveEufuy4vjjMTMq2mWccdW2+pSN8UoAChAI0RgUw42n6cvSYT6OsNrbWONKgUkf6GPnzMw2ynzuKCRAAaZQltA5EoFozV/gsOTLg/jGxOxmKrmppprrqoTAAQNCQPIBoEGi5tbUqn8arldlJ+Rq3NnL6nI+t7Ln7Jy1w2Tm290DvhDoW8ktpKgAAV6BWhhxnpPdCkKbbrUIJKjcLdFQOWG3ugd8JKFIUHCXNAIGjyV5Y4043PjoeVHK3tj5CdLTLcs2f4pvVsZmJKWm0UpR9pLu0DGEMs4nLzzAlkXr3lSySTc3XkEYCtHK5Ku17DnfGKmVcP0JppTXaFUxMszLZ4lsOJdHSkmFVbYf8Gb+4S4DfrGY4EhLPTH4iN7TtZK8js24PRojdBKoDrSHKJZWsgLFY3buMLK1oKE4YHALD/HTG7wWqAIrhtD7aN3KF0BH/AC7lH8aN2j3/APMH/njG3cRXizTDKayolg0WivkcXUG+HGek90KQptutQgkqNwt0VA5Ybe6B3wClaDvhLmgUGjyV5YcZ6T3Q4z0nuy1yNrLmbQy1J2hH29iHt1Ryt7Y+Qmjk887NL8xNiOynOdYlGnHA2hbywhJWQTSph5t9sioW0sOJ6U1hXzUOTbqfvWbEeo5vuszMxMNstrbUUqCnFBIoRGF707xb/LuKbWo/tHjBJjHFoPkbm2rh12+6MNTONgVvlHA52TRUSrzD7sw3LhDqChQS0LzoVylWSgW5MIlEf7I4XaJj6ox7MRr3tqNUj1Z65G1lzNoZak7Qzm/R/GJi/efGW2UrZppWsSnpPhDW9b79O66lvC4qDkib9H8YXv1/iraWUrprXTyQKX45Pqp531Ryt7YzTc46tKEDlUo0Aj5kpLtsJP8ADSE5q0NtLmnB97hsRsmJp6XcH02lltXSkiJx2afS2lsOOquVYjiFc01RJodmlD+GKJ7RHyCTBo1LtreWea2Co+qPnzDzjqvO4oqMfVGPZiH7P+JfFLa8Sol7958XdfStmitKRKek+ETfo/jExfvPjLbKVs00rWJT0nwhret9+nddS3hcVByRN+j+ML36/wAXbSyldNa6eSJT0nwiU9J8MtUv1Zc/ZOWvT6jH2zPe2VHK3tjNFyGXvCF/cGBfBzXc2094O35mBZ6x8lakLTxKSSkj/URjb7jQ/wCnMUmE+kBgNiampVDzgbTYkb5pFB5s1AOTQRKI/wB48Lsg5fVGPZiPrUxtxrl7WeqX6sufsnLXDZObbPQe+ENBDyg2opBqAvQaVMOPdI7oUtTjdKBZBTwjbpoByw2z0HvgJQhI3wFvQSU6PLXljG8OalZzEZmYabTeXbHXCsBRKIl8OnN88r7rjtbfuKAIwHAeofdjBNzoSFW6UL9yNz2FjE3pFLwmGAQ2lp1ZTTiBJqiHAtfhFEgJCUpFoNABkq1uXZW6o8gbSVQqq1qKlHlKjX5Xz5mYbZT9xcUEwKNNIS2gDyJQLRn9Nx6aX+GjaMvqjHsxCGyPCHzwgfKqFuhbyQ4oJIABXpNKiHHukd0Ns9B74nRJy+IKdaaUiXdeJsAv+ZdSgVG6mb/oZn/xRj806tBIF0jMW7AjE1f0EzGIOLmXg44yhMq8zUtJKjVTgpDj3SO6HHukd2WuRtZczaGWpO0Muf8AllrjsiPsGW9s7H1j+0ZLouZU3Lp+8LNVdkZIVvdaXUNK8lfkiqJNp2ZV+FNqe0ofINUSLLUsPOBertKy+qMezEa97ajVI9Wf1yf2GsvrC/UMtVO+wXnL9tXfDNrjaCtBuUaKSKg0JiY7Ce6HL2V1uTQJraKjSKGJftq74TvTilhBNSrgkE04VeSJjsJ7o8bvVtn0aXVr82nJEv21d8K3ttSAsil1VEkV4VeSDVX6FYHpXY1/9oyVoSlcwsfergJ9RySDv6FTDiSKgl41FQfupGEMJUfps1YV2KCMUfYPkS+kOp6U2mHpV2WU6G0raXpKlAkcFQByHzi1LIPbXmqjTSFOOHkSgXGCb5l9x5VeVxRVl9UY9mIauV4S/pqR9OHrW21qQgWg0Sk0AqREx2E90S/bV3wi0Gan9lrL6wv1DI0UGZ32ComOwnuiY7Ce7LVL9WXP2TlrhsnLmfnlqRtGPsZj2rka38hliRadsSgNrbuQAkeQgwhh9BUAVtODQOUhVDHzG0JQnzIFBmriC5hY8/ATkKLmCuYV/uGieyBmeE80JdPnfNp7Nc3kPMrlGbXEG5JKUAEecGPrUxtxrl7Wcg5NKafnisI8lUtxuemelHfGGvypU8pQKxVJBA8oqMtRO+wVnNPdcxPKbk2El2YW4slCWkaVlQ5AI3TYTG6rC0PaLVIJSodCY3fyH8133Y3cYY83YaJWtaxX8SYRLvSs0y28y6hAKVtugKSofcQY8TffdvfAupSlaRNPdcwhLyw6U3OC8gAA0qYQEj9BS3tXY1n5fLZbeZsbQ2hLgCwlA8oVSJJ9hbriW0lxBAJUaChj/DYbQ0jzIFozP+K8t9fmbFo2syX8PdUDMSajwVc5H7K43YSEiXHHVmWmZpMu83U8S0Exu03MlwoF6lTrBJMbr9zRUfIJxgxu2w7+tEYg3jK5Za99Eq6Jgtb7QJuoTS6kYHPfyjGCTm9EUVcySkg8sYTNyL58rTZLZP3oMYUteHIanAuZA4AvYUkXgxLNdQRLNdQZfY077FUcgjljWr9eX2Bh3sERz/yy1x2RH2DLe2dj9r9QdHJ8hVUyrDbQ85F52vlatzZy5cO23MuZtDLUnaHyPsPEPYLjkEcsa1fry+wsO/8ArojmfnlqRtGPsZj2rnyjkfkGiQKqP3CCavvLc0+QKNQPlatzZy+qyP8A+2XP2TlrhsnOZa64iYaJOBz9AFjUKjkEDepVKqOTKxwR9yR9IxiGK3KJJotr3IxDFuuz7kMPraYw2UabUUkkpbaSkEkCPE32W75wK0rWlYmWuuIQp5AaCSpsXgEE6KiEFJ/QsvoP8VyDxZmD8owaKLJbT53eD8jEsTRMJSkTDQLRsWRWo4PzTGKYp6L3YxTFPRe7GKThmkoIbD9hbJPkVaAYZU0+2aKQfWOUHyGCLly0gEDlNXolXuoYaW22m6q1pKUioIFSYmWuuIUHlh0EpbN5AodNBEq91DEq91DkkqUrCJ0BKRUkllQAAESz6G6AolAhQWr+IfIPuiVW20gUShLRSlI5AKQ051TDTh0fsGDQiQl6/wAsQtNRfWpA46QtHWEKTUun6Q5BBBUvApb2ruZzOZzOl164+Zsd5+RwhvSEuteRxsgVT3Qu9l5NyT6wfvHlisV6IBbfQDvMwkVUj7jyp+6GrV1w4oWPmOJvc0pOXM2hlqTtDOX7ae+GbW21ha1XJNEpNSdBiY7Cu6HCt5dLU0Ka0NTpNPIIaPXT3xVttSbAa3VUSDTg15IJIVjs+R5i+qBpq3tCBpOnpgfrToZaA/ErSfkatHqhq4eGz3lGth61xtCULTaTRSRQjQImOwruiX7Se+GrW21hazck0Sk1JoDEx2Fd0OXvLpamhTW01Ok0ES/bT3wne21IKAa3VUSDTg15ImOwruiY7Cu7LVL9WXP2Tlr0+ox9sz3tlQKklug/EIQugFPmmEL6phKuqYBHnFP1YJCnFUMAwDAMatHqj69P+2Ma5e1nql+rLn7Jy1w2Tm290DvhDoW8ktpKgAAV6BWhhxnpPdCkKbbrUIJKjcLdFQOWG3ugd8JKFIUHCXNAIGjyV5YIqjG58H/R5UIpOPo8UkjSy0f7lQowqF0SASSeIAaSYJ3otWMA+RpCiE/quMINPOdAhWh9QdR++0O4/IRSVnSVjkQ79JP+vGIQsnw2e4v4xhbQQ8ouJCiagL0itBDjPSe6G3ugd8IdC3kltJUAACvQK0MOM9J7oUhTbdahBJUbhboqByw290DvgFK0HfCXNAoNHkryw4z0nuhxnpPdlrkbWXM2hlqTtCEVkpbdDiFoPE86H1dlPyFUfnqt/eGh88/lGo/uP6r6SvVHzWp5JX+4pISr/wBjBzolSxc0s/QcT80wgodan59C0nyKS9GpR6s9cj15czaGWpO0M5v0fxiYv3nxltlK2aaVrEp6T4Q1vW+/TuupbwuKg5Im/R/GF79f4u2llK6a108kbmpQuOuLcWeK5bhuUo0HGSYweWlt6pWib7ruiJWW/lH3owSVmVKF4WRbQHRTyxJNyjP6HaJbRxFRdcqY1H9x/VcSR648jitiJWXuXIyxNWySSWx98YHKzClC+8iygOinljczKRh0sylfE2G7qU0cdRGOP4bhokZZ/wAGYCQjfXgb1xu1n+hv3Y3aT9hQs0Aa9yN1mIdj3YxmYnhhzck6yl6mgqLhIFAOO2JT0nwhret9+nddS3hcVByRN+j+ML36/wAXbSyldNa6eSJT0nwiU9J8MtUv1Zc/ZOWuGycuZ+eWpG0Y+xmvauROSsuyirID19VlJqSLQYxjDfS+5GMYb6X3IxjDfS+5GM4b6X3IxjDfS+7GMYZ6X3YxjDfS+7GMYZ6X3YxjDPS+7GMYb6X3ImGHzMocdQtm60Wi0g3AR9nyvskxqRtHLn7RifkmGv0dKItdvuqAeRJjGMN9L7kT0nMoYaUVtM33lJFCRckZfVZH/wDbLn7Jy1w2Tm2z0HvhDQQ8oNqKQagL0GlTDj3SO6FLU43SgWQU8I26aAcsNs9B74CUIQnfAW9BqNHlryw490jujh79W7fNNLOKlKcsNs9B74JQtB3sBvQKDT5a6dMXLK8FYCQeMqU+6I4mGglR5V8aj/qf1Y0yzpSTzHk09YENtEDD5XjB1SfvglC0HewG9AoNPlrp0w490juhKFNt0oVglRuF2mhHLAAUZZji8xzRSRmiVNcja/pN90fMfRh7a/MVOw490juhS1ON0oFkFPCNumgHLDbPQe+AlCEJ3wFvQajR5a8sOPdI7oce6R3Za5G1lzNoZak7Qy5/5Za47IgVaksAZfV+/v7oR+sFVLk3Cj99AvT/AO4jy4fK+yTGuOyMuZsiPq7PqOehLgqhflbWPmqEIteZcw5Cx+NzLmbQy1J2hnL9tXfDNrjaCtBuUaKSKg0JiY7Ce6HL2V1uTQJraKjSKGJftq74TvTilhBNSrgkE04VeSJjsJ7o8bvVtn0aXVr82nJEv21d8K3ttSAsil1VEkV4VeSN+VNFhDBWhdgKGypSRQDlWYM5cqvE9yEjkhU7/O+EeF0Q4pI8dyHzR4X/ADvhCp3+d8IVOXIbUoeO5B5o8L/nfCPCwlVa0e5ATyQqd/nfCDOElwJ0vfcfujwv+d8IM5RISND37VfuiXNjTaG0VWr5qBaPLCt7bUgLIpdVRJFeFXkiY7Ce6G73l1uVUpraaDQKCPCUOFCUUQ7RNER4XRDikjx3IfNHhf8AO+EKnf53wht7wt6XQFLcXd/l7lI6CqJjsJ7ocvZXW5NAmtoqNIoYl+2rvhO9OKWEE1KuCQTThV5ImOwnuiY7Ce7LVL9WXP2TlrhsnLmfnlqRtHLn7Ry1y9rPVL9WXP2TlrhsnLmfnlqRtHLn7Ry1y9rPVL9WXP2TlrhsnOae65h91SFOoSpKlkggmhBESzXUENIacTbRaEhKhVQBoRE091zC1PIDRUEuG8AgjTQxLNdQR4m++7e+BdSlK0iae65hCXlh0pucF5AABpUxLNdQQ6tttNtEIUUpFQCaARNPdcww0txbSFKUpIJJIqSTEs11BE091zD7qkKdQlSVLJBBNCCIlmuoIaQ04m2i0JCVCqgDQiJp7rmFqeQGioJcN4BBGmhiWa6gjxN99298C6lKVpE091zCEvLDpTc4LyAADSpiWa6gh1bbabaIQopSKgE0Aiae65hhpbi2kKUpSQSSRUkmJZrqCJp7rmH3VIU6hKkqWSCCaEERLNdQQ0hpxNtFoSEqFVAGhETT3XMLU8gNFQS4bwCCNNDEs11BEs11BlrkbWXM2hlqTtDLn/llrjsjLmbIy1SPVnrkbWXM2hlqTtDLn/llrjsjLmbIy1SPVnrkbWXM2hlqTtD5GqX6sufsnLXDZOXM/PLUjaOXP2jlrl7WeqX6sufsnLXDZOXM/PLUjaOXP2jlrl7WeqX6sufsnLXDZOcy11xD7S3FNKSlKVAkkigAESr3UMNLbbTdVa0lKRUECpMTLXXEKDyw6CUtm8gUOmgiVe6hjxN9lu+cCtK1pWJlrriEKeQGgkqbF4BBOioiVe6hh1DbibqoWQlQqokVBiZa64hh1SFOqUlSUkggmoIMSr3UMTLXXEPtLcU0pKUpUCSSKAARKvdQw0tttN1VrSUpFQQKkxMtdcQoPLDoJS2byBQ6aCJV7qGPE32W75wK0rWlYmWuuIQp5AaCSpsXgEE6KiJV7qGHUNuJuqhZCVCqiRUGJlrriGHVIU6pSVJSSCCaggxKvdQxMtdcQ+0txTSkpSlQJJIoABEq91DDS2203VWtJSkVBAqTEy11xCg8sOglLZvIFDpoIlXuoYlXuoctcjay5m0MtSdoZc/8stcdkZczZGWqR6s9cjay5m0MtSdoZc/8stcdkZczZGWqR6s9cjay5m0MtSdofI1yNrLmbQy1J2hlz/yy1x2RlzNkZapHqz1yNrLmbQy1J2hlz/yy1x2RlzNkZapHqz1yNrLmbQy1J2hn/8QAOhEAAQMCAggEBAQEBwAAAAAAAQACAwQRBRIGEBMhMDFRkSBBUqEiYXGxI2JjchQygZJAQlBgcKLB/9oACAECAQE/AP8ADWVlYqxVirFZSrFWKylWKsVY+O25DcF5BEat6JQXRDmvJXKPLgX3Lpq8yr3TkF01DzRN1/l8QRKuLK4VxdXC3K4QIVxZXF1cari3+whwHcMGyuFcK4VwrhXCuP8AQHOawFziABvJK3Hkbjiix8OOPEeFVR6tDf7iAqLF6+hsI5Ls9Dt7VQ6R0VVZkv4Mh9X8vdAggEEEHiXPg0nkyYaG+uVo/wDddFildQH8GX4PQ7e1UOk1JPZlS3Yv682FNc17Q5rgWnkRvHG0sktHSR9XPd2sPDSYhWULrwSlo8282n+iotKYJLMq2bN3rbvaufE0qfethZ5Nhv3JTmPYGlzCA4XaSOY+XhPJM/kb9BwRZWaiFpFJnxWYegNb7XVLSQyYbTQTRte0RMuHC++yxXR2CCGSpp5C1rASWO39j4CoxeNv0Cyo24WJONRilVbeTMWj+hsmtDWho5AWWkL8mEz/AJsre5GrDsGlxKnllikDXMcGhp5HcqqjqqJ2WoiczoTvB+h1ULNlRUzPTEwe3EogKnFID5PqGuPe+rSqTLQxM9Uw7AHVouzLhrneuVx7ABSRxysLJGBzTzBFwVMxr6uRkYAaZSGgeQJsEAAAByHDrpNlRVMnpiefZYZUxUddBPK1xYwm4bz3iypa6krW5qeUP6jzH1C0tf8AFSM6B7vsNWBM2eE0w6hx7klSvEcT3nk1pPZYawyYhSN6zMJ/ob8THn7PCak9Q1v9xA1Me+N4exxa4ciDYhQYdUY9QtqJqg7ZhLGEjcWjrZVmGV1AfxoiG+Txvb3VDHsqKmZ6YmD2WKybLDat36Th3Flo/Hnxan6NzHs0oi3D0neW4exvrlaOwJVkYpWxiQsdsybB1t25YBHs8Jp+rszu5KkLRG8uALQ0kg9AqDSWsp7MnAmZ2cFiuK0dZhExglBcSwFh3OG/otFo82ISP8mwnuSEeXD0pf8ADSx/NzlZYJC0YRAx7QQ4OJBFwblRxsiY2ONoaxosAOQWJv2eHVbukL/ca9Emb6uT9jfujy4ekzs1ZC30xfcohUTNlR0zPTEwe2ogEEEXC0kw+jpmRzQxhj3vsQNwO7pq0Vjy0Er/AFTHsAEeXBFlcdFj8MBo3y7Nu0u0Zrb+aDC9waPMgIAAADXpW+7qWPoHnvZELR9mTCYPzFx/7FHlw8c34e/9zfuqKPPW0zf1W+xRIGvSV2bEGD0xNHuSrLDGbPDqRv6TT3F0eXDxgXoX/ub91hEebEIvlc+y0gcRSxtHMyD2BVJjVXTWbIdqz8x+LuqSqirIRLHcAm2/qFjZz4nP8so7ALKSbAbymNDGNYOTQB2R5cPFheif+5v3VFU/wc+1yZt1rXtzWLVkNYyDZk7s2YEbwi1YOzJh8Pzue5VcdpWVDusjvuqSPPV07esrPvqPLXY8DE99G/6j7otRai1YfWUzqaKNrxmYwAtO47k67iXdSsKjL8Rg+RJ7DVfdqHNXHVEDx4jvpXfUItRai1FqLVgsd60u9MZPFrxemd9Qi1FqLUWotWCM+Od/QNHBG9ZRrrXAQ5fMn7ItRai1FqLVhDbQyO6vt2GoALKPEB4Ks5ngDyCLUWotRai1Yc3LSt+ZJ1N1O4Egu5x+aLUWosRai1FqpW5aeMfK/fiFpRai1FqIRYi1NGVrR0AHDGqXeyyLUQi1FqDLuA6kIctR58EctT1ZFqIRamN/Eb9U3U7hlWRCIRaox8eq5VzwwLrKsi2a2aEdtYF1Y8Jvidz1N56juPBby8TtTeep3BBIWYrMVmKzFZiiSdQNlmKuf+Cf/8QAOREAAgAEAQsBBgUDBQAAAAAAAQIAAwQRBQYQEhMgITAxQVGRUjJxcoGhsSIjYWJjFDSSQFBwosH/2gAIAQMBAT8A/wBZfPfhddobQ4loEHZ67Yz9NnrsdeLb/fRxLRaLRaLRaLQOH14A4fWGZUUsxAAFyTuAgEEXG0OH1jHpmrwmqPdQv+RAiixivoLLKmaUv0PvWKHKWhqrJO/ImH1ez5gEMAQbg7A4Fs/WMqZmhhoX1zVHi5z0WK11ARqZp0PQ29YocqKSfZKldS/fmh+fSFdXUMjAqeRBuMw4fWMrplpdJL7s7eLD/wB2aPEKyga9PNKjqvNT8oocq5EyyViatvWu9YBvw+sZWPeukJ6ZN/JhkdApZGAYXUkWuNk8ol+wvwjbtn35so5mni04ehUX6Xiko5EzDKWROlq6iSlww62jFsm5FPJm1NNNKqg0mRt/g7BiX7C/CI38PEmM/FKq2+85lHyNoVQqhRyAAEZRTNDCZ/7iq+WGbDcGm4nTzpkqYFZGChW5GKqiqqJ9GolMnYnkfcc1BL1VDSp6ZKA+Mw4PKKEf1OKyD66hWP8AlfNlXM0aCUnqnDwAc2S0vRw1m9c5j4AETJcuchSYgdTzBFxE5FesmJLACmaQoHQE2EAAAAchmHBr5mqoamZ6ZTnwIwyplUVfInzVJRCbgc94tFJX0lculTzlfuOo94jK6Z+Kjl/o7fbNgCavCKYdwzeSTE1xKlO55KpPiMMTW4jSKes5Cfkb5xwcfmavCKk9wq+WAzI7ynDo7Kw5EGxinw6px+hSonVJ1yEolwLFR3itwytw8/nyiF6ON6n5xQS9VQ0qemSg+kYtM1WGVbfxMPItGT0vTxen7LpN4U57cHKl9HDlT1zVHyAJzGVNEtZpltqySA9t1xGT8vV4RTd20m8sYmlRKcsAVCkkGKDKasprJUKJ0vwwjFsWo63B5xp5oLEoCh3MN/aMlJeliEx+iyT5JEDh5Vv+Gllju7H6CCIwOQowenR1BDBiQRcHSJMS5cuTLWXLUKiiwA5CMUfVYdVv2kv9RnyRl76yZ8Cj6wOHlO2lWSk9Mq/kwRFDL1VFTJ6ZSD6ZiARYi4MZS4dRUqSp0mWEd3IIXcCLXvbNkpL0aCa/Vpx8ACBwbZsfkSTRvN1a60FRp232vAQswXuQIAAAAz5WPdqSX2Dt5sIIjJ1NDCZH7ix/7GBw8cF8PmfEv3ihlh66mX+VfoYJAz5TNp4gq+mUo8kmCsYWmrw6kX+JT5F4Gc8DGhegf4l+8YPL0sQk7vZufpGUTkUkpQd5mg+AYo8bq6YhZh1qfu9ofOKSrlVskTZdwL2sR1EY4dPE5/YaI8ARokkAczEtBLREHJVA8QM54GL76J/iX7xQ1P8ART9aU0txFr25xi9ZJrUkaondpaQPTlBWMGTQw6SO9z5MV51lZUt3mN94pJenWU695qD65hw8UF6N/iH3grBSCsYdWUrU0qUswB0QAqdx3Q4LEsepvGEy9PEZHYEnwNm3AxL+1b3iCsFYKCCsFYwOXeuJ9Mtj9hxa8Xp294grBWCsFYKRgcuzz37ADzsDavnriBJ0epMFYKwVgrBWMHS0mY3d7eBmvF4HBqzpTLekQVgrBWCsFYw1dGlH6kniTBdif1grBWCsFYKwVilXRp5Y/bfzmHCKwVgrBWCsFYKwg0UUdgMw4b71i0FYKwRAS7KP1g5hwzygrBEFYKxLX8xffBzDg2iwzERaCIIiWPxcbrF81hFhAUKdi8DgnaGY8M7QzHiWi0Wi0W2Lf8Ff/9k=", 
+              leerFotoBase64("precarga/minecraft-ps4.jpg"), 
               null
             );
 
@@ -38,7 +49,7 @@ public class LoadDataBase {
             "Vendo ps4",
               150000,
                3,
-               "iVBORw0KGgoAAAANSUhEUgAAASwAAAEsCAYAAAB5fY51AAAACXBIWXMAAA7EAAAOxAGVKw4bAAAgAElEQVR4nOy9WZAkR3om9rlH5J1Zd1cf1Qe6G2igG8egAQwwM5whtTTT7kpGSSbpbVfL5QPXqGeRtg+y1drKRIlPaybJliJXMi4l8kGzmjUOORpes0MOxWOGM7gHGDTQ3QAa6Oqr7iPviHDXgx/hERmRGXlUZVR1fI1EVkZGuHtEenzx30445xwZMmTIcARApz2ADBkyZEiKjLAyZMhwZJARVoYMGY4MMsLKkCHDkUFGWBkyZDgyyAgrQ4YMRwYZYWXIkOHIICOsDBkyHBlkhJUhQ4Yjg4ywMmTIcGSQEVaGDBmODDLCypAhw5FBRlgZMmQ4MsgIK0OGDEcGGWFlyJDhyCAjrAwZMhwZZISVIUOGI4OMsDJkyHBkkBFWhgwZjgwywsqQIcORgT3tAQCA53n49NPPsLe7C04IAICAQPznv4uvCAgAQggAjq7TxfLyCSwtLaFYLMrtQL3ewPbWNlzPQ862QS0qjlVtEPG3ah+yTeZ5KFfKqFQqoNTnc8dx0Gq1wLneXf6hP8m2AXD/O84ZisUi8vn8AVy5DBkeL6SCsN5440387u9+HZ12B2IJHwLJUqCEgFAKwgHOOTjnYIwBAG7d/hAfffQRZmdn8Nxzz+Hll6/jKz/1ZZw+dRrf/vYf4YOffIRGo4mlpUXYdh6EEHBwSX4UlACEir4IAW7fvokPP7yB8xfO4dVXv4ivfe2ruHbtKsrlCv7w23+Cjz66BYCAUqqJEVyxFBPbCAE4h52zsb29iQ9ufIBz587iK1/5Ml794is4s7KCmZmaf3yGDBkSg0x7ma9Op4P/4X/8NbzxxlvgDPpGVsMSJACAAxwc4BycA67n4Z2330bX6Yov5Sufz+GJJy6iUMihUe/i1OmTyOdyIMQCIYpoZIOyfYsAjWYTP/rhj+B5LjgX5GPbNpaXl/Hi9evodhx4rislM6KJzicsX+oDBSihePutt7C3vwtKKSzbQq1axcVLl/DSS9fxpddexbPPPYvTp0+hWCwe3gXPkOEIY+oSVr1ex+ef30W32wUM7jR5lMOXrtT2drsDx3XAOZN7MRAKtJoM9T1gHzvI5Wx0Ol20mm2xCyFQCicI0+1TDmxtbcH1HHApvTHG4Hke7q7eRalUwszMjO4/QKqE6DFRtR0c7VYb+/U9vZ/netje2cH2m2/h7bfexv/52/8Xlk8u4erVq/jyl7+E1157DZcuXcTCwkImfWXIEIOpExZjDJ7ransR4xwcQorinIvtnIMyaCMR5xyu64B5rpCTOMDhgnAKihoqxRXUW58BxIOUy0AI138LqchXPgGCTqcDz3PlqMT3nAv10bIseMzzCdOQSQklepumQAJ0na4mMpNoFVzXxYMHD/DgwQP8xff+AsVSESsrK3jhhefx1a9+FV/4wgu4cOECSqVSRmAZMkhMnbAAmHZrYwOHZVnayC1MQ/KmJz7hgEurFAc4Y7CsAkiuBNa2QOCBcwJQFiAZkBgtWHKRzw9EC30BwgmNl4AoKtR2smHAOEOr1cInH3+CTz7+BN/6g/8Xc3OzuHz5Sbzyysv40pe/hGeeeRrLyydh21ZGYBkeW6SDsAAgdJMHbkppyFbbiNqdEHDGQABYnIoWLIAXbXh16aoLuPWGAdEkaZJVJFko/lS+Aj5ch6p9j3ughMLzPGxubmFr63W8/vrr+Df/5rexuLSIq1ev4qd/+mu4fv1FXLlyBaVSCZZljXJyGTIcSaSQsGS4AaHwPKbDEBAiCh7+xAEOBgKOXKEgPYwAkSqlEMGi+iX+m7ZxiTaH8keoEAnjb9Pe1fdQYx8mDf6iGfHe6XSwurqKe/fu4Xvf+x5qtRrOnj2L69dfxKuvvorr11/E6dOnkc/nA6EYGTIcN6SIsHwo+5V5I5t/m1IPkdIXIxyMAzYlyNm2JCfp0YOUemKEI6L/mQZ+ZsRTDUYPMY0g1YUJ0lQzKaHg4GAew+7OLvb29nDjxg184xv/DrOzs3j6yhV89atfxcsvv4Rnrj6DarUK207lz5shw8hIxYwmXNmBfPLotQNFSzu+YVu3BkgpQxjDk0tJgqyY/qCM7iNFfvAY9RE+GUsno0Y/acy33/mfOefotDtY765jbW0NP/jbv0WxWMCJE8t48cUv4JVXXsGXvvQaVlZWUC6XM+krw5FHOggr8H8V3xTeydgQlkQ4BycchAkG0DfmEDyjYrx0ezJANdBWQqkpCcEJ0uKStPo3HAjxUJKlqcoCoJSCMYZWq427d+/i7t27+NM/+Q6q1SouXb6El19+CV/84iu4evUaFhcXUCgUMuN9hiOHVBBWEINvXo8xpTcKcoGvRoJzUMsC50yoUMMa3VUMKkIG91Ab7XZbhDt4HooFI/AzJDEdVFyuktJIxMmp7xzHwc7ODt5+62288/Y7+J3f+V0sLCzg2rVr+OIrr+C1L72G8+fPYWZmJjPeZzgSSCFhScUw8PT3FUSTRHyyUrFbgqQsywI4BeBFKpdRCN74UvoBEyETYYM/56jX66CEotPpYH5+HoVCQbRjBI8GzmkKwoxKQ1LXy3EcrK2tYX19HX/913+NcqmMlbMrePbaNbz2pdfw7LPXcObMGZTL5Uz6ypBKpJCwom4UoqUVAqH+ICS9cA5wJjyBlmVLuuAyor2/bUhESMhgUTBwMGnDYgCnYh/GpbNStJXL5dBpd1CbqcFxHRSLRUGaTEXky3Z0DEbScz14iMBbF/VGHTdv3sTtW7fx7W//IebmZnHp8mW89NJ1vPbaq7h06RIWFxcz6StDapBCwjIkLOJv09xEiEiIBgJSlyAbYcOyqA0CagZs9e0tvEV7CBWBcRExb+YNeq6HdqeFcrksvHEq31FHw3MjBoxH9gQcPhH0pBZBnKXHPGxtb2P7zTfx5ptv4nd+53dx8uRJPHn5Ml770ms68r5arWbSV4apISWEFXEzk+AH8yYbdLtwEk8RPd0QookmEWSMVblSRrFURM7O+RIYfAlM+Q4GjBSI8EIeFCEI/qQ6VUn1ysClp1Z4Lam0f62uruL+vfv467/+G8zMzuDs2RW88PwLeOnl63j66adx8uRJ5HK5jMAyHBqmT1g98ZzjT34Vm5VoX/jpNIp4VG6gCjuIuiEJIdjZ2cHszCxKpVJEu8nPIxBTdpCIEDZ92jLj3KT9y3hI7O/v48aND/HRRzfxzd//fSwuLuLSpUu4fv06XnjhBVy+fAm1WjVTHzMcKKZOWEoaAhGSE6e+mmJCRTXEBZAGvHmGfUtJDrH9h9pRYNwDwEBgg1ACQvXe4BzY3t7C3OwMul0HAFAul0MtU/Tk7PSA9JxTcAxMRKWFvu8bryW/5zJbgBM5DhXFryVAKkeg2pL7cYATAo8TUBUbR4jIyQTAGMAcBw8fPcLaxgZ++KM3UC5Xsby8jKtXn8b1F5+XxvsVFIuFLPYrw0QxdcICELqXhwh4Mo/Sap24OYcOJuCyUgTnYMwgMFX/KuBv5Cjk8yiVSigWCfb394OnY9TwGldgVJ6+xOjhxj7HauIz90mgyxoPBQ4P9cY+Wp83sbr6Ob73F3+BSqWMc+dWcP3FF/GFF17AlStPYWZmBrZtZ+pjhrGQDsIKYMQJzRm04V2+iDTQAwMIrI/6qAUSI+aJg+uSya7rIZ/Py4J+5lkoKS9ZPuFhQFAf1Z8ADiZLRWueIirfoF9DSmrzpSdVBZZ3u9h1Xezt7ePGjY/wjX/3TczNzuKpK0/iheeew4svvoBz586hXC5n6mOGoZFCwhpFLPFN7IRw5PN5zM7MAu6m2Ka/nQwIIVhcXMTGxgaqtRkUS8WedKKw6npopNXn8kVY4iL+nsA4pfGPMY5ut4v1jQ1sbm3hjdffRKlUwKmTJ3Ht2jU8//xzePrpp7G0uCiuYUqIPUN6kULCGm7S+vYnpiUFy7JQq9XQ3N2WBniCkAAkVD+d5jIcOOdotVuYm5sDY4DTFXFYQq2UFUs5A+McROUNHpKkpYUk+FY0tV1n8xhSI9RiHNK5QAiJLRc2CJxzqKg3yowa9/Bjv5oNF3c+vYPP7nyG7/zpd1CpVHDx4hN47rnn8MIXXsCFC+e1+pghQxgpmRVKHxlDDlKOQc7guA7u37+PmTLrs784YGCIhJKOQsOjlMJjHh4+WMPZs2cjhjOU5elwECt9TXaksa0pb6x0DXueh/39ffz4x+/hvffex+/93jdx8tRJXLp4Ec8+9yyeeeZpnDp1CpVKFTT8xMnwWCIdhBUoeDeipVoGaHLGxEuHJkSToApnEF32l36i4qRKxRIePnqIxaVF5At5vV3/I+Hg1xTgAMaia3dp54QvuSGkFgO+lTEKnU4Hd+/exerqKv7mb76ParWGMysreObpK3j2uWdlzfv5bMm0xxjpIKyeOylqSvvpOf2aMWtIJelVue0DtbeM7dowbHTLOcf6+jqYx5Czc2i325GxWAeOPg49EvOlVhHN6q3mngOE3IFXdcB11+MKkZruVv7hegw7O3vY3d3HzZu38Yd/9KdYWJjHhfPn8MzVp3H16jM4f04kbos1JzM8Dpg6YREOUFV3CsLmE7NnbBsilYb7WTCAdLvLJ7tps+k9WN4/BmHJ6HdVs4oSfx1CJhOs5xfmwZgMOTjAqgyxIEGiNd8poQBo9PdGoGiArIxId71NHBhZSJEYazNq6YoE1eDwcTomi8py1mEpTI6KyIBdMTkIPO7Bcz2sr69jY30db731NkqlEpaXl/HUlSfx7LNXcfnyZZw4cQKlzHh/rDF1whJIEPsTg54SMCHDcpK+SfgA40/OWSA4VRFrsVAUxvdWZ4i+jg58g/xwJxdFoAEyC30f0wg4/GXTFMzqE81mE3fu3MHnn3+Ov/z//gqVagWnT53E1WtXce3aVVy4cAHz83OwrGzRjuOEFBHWdFrRczkmn48xJl4y6lz0Q9BoNsA5sPZoDSdOLB8ru4qpNo5ys/dKdabqGd9eWE0F4P8uUuo1va3KROA4Dna2d7Czs4Nbtz7Gn/zJdzA/N4eLFy/imatP48qVp3D69Kks9usYICWElTRVechWOdeEFNu6zpwJ3kimvSzKTLy1tQXOOJaXT4rAUfnkV9VPhep4+DZ3fSUDupl4JRc6fanIjCHr9x5WB+PbNruJUDVjVNBEkJ7HdquNB+2HWFtbxxtvvIlyuYzl5RN48imhPl68+AQWFhayxO0jiHQQFpkkYZmeKRkV1GdOCrtZ/5stXNmTc46Tyydh52xsrG8BACzb0gnU4JBJ1OwQbogQLRLD6WqqyL17JibUKEkr7KSI8w5GHRMnuYUNA6RPW3FQNksKUTJaJW7v7+/jk08+xZ//+fdQqVRwduUMrj17Dc888zTOnTubLdpxRHBkfyEWYeTWmX4cAKcgxDKM8NHtmOk2cdBR7NwwHhPRz9zcXLDOesDAfxhP7yFvaIO/k5LVMNUk+tmwkpKPX6LHNCYOIyIGczDNRT+croud7i52tndx48ZNFAoFLC0t4tKli7h67RlcunRRG++zxO30YfqENco9Ha7QoLeLfDluiBgDpQilMoYWevA/+zdKbyIyD05qU4wh6sY7ZO9hAhy0qhomrajvYg4U60iG9+GK/JNfS5+kzBWKgu0yxtFud7C6eh/37j/A33z/b1Epl3HmzBk8c/UKnnnmCp588jJqtVrifjMcLKZPWFAu7EGx4f7kY6qapwKXczpiPidWyUSdGUlWchM3VNVw2yEpQEt3kt8U6R12hLZIq+GSM2XJHiUl0dAVHsFWxDkXpGJuQzICjCtUGLCB6X3MB4GqlgGAqJLW0O9RnYvzNtVKEvSrBD0BMuCYY3+/jlu3PsbHH3+C73znu7h29Rn8o5//hzh16mSCM8xw0EiNzOsHOsa9wgeEn8LQpAOopypTjfeHwUmiCW68ECIrw2tFSOTwjFCw6cCMSYvh2yiySkJao8iLflBoP7Xb2F97DcTLXNKMR73H9MkhTAceE3md+veVD0j9t+pFPXw4h+cxdDodvPfeT/C97/0VGEufpPw4Ih2ENYrrvN+XHACoVA37n6JacSfkSx+1Z92maPIwGCv5jTRqUrMJSoghicao5v0wToAtJxClbUYHob40p9YG8IemzkcmsHscjuPhxk8+QqvZHKvfDJNBOghrUgg4y2jie5lgkDpqYogb7lBErMMX4w49qr9nAMPt7hvx/bdkKrCQ8Pb29tHICCsVSAdhhRPJAjCLpCRpyyjil+AwUw1IhmSeMr1yTgpAuXgdNgLrR44ijU18QJCOmWScJ2xrHI7Tgeu6Bzy4DEmQDsLSiJtGSd3hUmvQmTrkoGJSB4xjWsar9CId1G2EryQkTnMh2gzTRyq8hL4UFcWffWpaDYDyKCYpHZOcZKYRv+73rAJDU/ak8cF7I9pGjlzPkCGE1M77kcH9aOekZu+olWn0dz2bE7RoJmNPEsQYkJ8EOeFOJoCARDKt8WXEeByREglLlHDhYGCcwJeqOCihPVHtkeSiN7FAVYVB85aHBCbBCdQYg1ltIGGsEqDHMIkbVrnfo8MPesdE1RJeKsKcBuOdVK5gb1sRffNgcCxHbxWFAHq+i/9sBneKJCozRkSlNUX1RY0gLL9N/5yoP1izT6Mp/RspT6GKl1N9KtsmIeM6JjNMECn4KYygmkkFAkjDKswJ2bf73nUJHwdMRT0bocvD/W0yySzNSAFhwZgjg57OydBjRenTDFVR1BO8KZTbPG0kyIh4TXpUhBjLqA0655E654G6ZAeLdP1mGYJIgUrIA+/SBI5xJk4gpWaoYyaECUsuaX/m+2V4INTNuP0AJMjunDLSPLYMKSAsgZCVSr5G8xCqlJrhPYDDI5xXB7m8FVFpO5PqR97nOu0Hhk0K/jma9quBEBnBkxmfapKxUAKzpCmZLqRUdRjXLc6e5lNbcnubgDlvjGMTnW80oaZNWn5ckQ6VcEgoFSRuEonNx2+CEe5T+WQaTOKRSIZ4v2Dy0YZV+Yk/ZhJHt2dIK1JHWImmlHpa9mlF+ngQXELs6GOihDUASaSKQDS7v3GkvtIqxfjJ2BmmjdQRlm8DMW1a5tf+t5EqghC9pOsefjgCCb0i2o2akr6XO/ht3+nLQ+9TQKAygQTBYMILfB91nUYZS6jWmPwjYr9gYoJvizysCxmjCvLBC+5mOBykxoalQABwIiZJVP0kc1u0rYj7tdx1zFHvvadtKbIdFZRJVKElY0TEtIOo43W3kkBDY522tBAmKsBXKfszFjH+jP57EjBrxZu2RtPWFa4pf1CIsqEFSBbH0cBwNJE+CQvGDUaAuOkyeAr3N3qT2A/jQy/HnvY0lEhSHefW7N/eYBI/YLVw5LYzukoLUidhBWFOlODTPj7OicAPTe4z0Uh8Os7Y0PWwDh9DmVsiz3+cUfdvj/fZCxjBaTlshMQYv3fanz2PC1JLWOG0jB5u6juD1LEcwsUdLUhqwjqopzoZL55sGBjJAgCmQ5YBSPYJLBOG4LjC6p7+OdTn2KZD6rc8+CDPOaX+gMcOqVQJAW1SirORxxtCdVqOsteweMo4sMfmARNhCGqNBkXPyR2jE1b/QnafMHok2h47JQl8Fze+QG0tZahPcq0z1jnySK2EBSD2ztMu8IjwBk4AzpTlSxpwOQNHSAU0bpbJx/uYBuNJN963W4HEqtJk1T8zrIFABJGaF4BhQOJ0wvENU4M+dOBw+ysc07i+o4jUSlgC8Y74uCe4rtKgduqj9vXE/kwoFmia6tigsIUADkLi6FNZNBCrNURbgePHqgk//LGjLOaa4eCQGgnLXIRULCARVAloKLpdOBDjpSShUirjfFSHvUZ3HfUj+xY3COtNpk5wNn6jwXULe3s0h0R6Ppu1ugiNlixUuEJSVdBcqDSw1Bb869bvOM45wFhkeo2JQDoOfKlTfVZla/wyMwyEUC09M4hVueXRsmxMhLNFLvAt3yLHpNoUETM8NnUqbkXqFFgFMyAlElbvUzNaTiChdx71pbmpf2RDaBAAZzzadjLyQz1ELAGJMUlgBjE/TBw9qlUfSSJJjfp+ZGe2o2KsYoyTxguBd1GxgSHyB+HBvfv1L1sbsKdAJmGlCykgrEj6kaCIWoRCTeegTYqCM7F0qBkrz1QycsSy44RSI3Ke62OOKggXr8QLTgypInGgp5iiCSYl3kGtCrsiFzauDBmGwNQJi3MOalnoL0L0V1GCiFjqvG8E6fF6eg51NkOe+yD7kRm+kCHDQWDqhKVsUZNDWHU5nOVM0wRT1aPEKPFsSJqDE8jj2xUILt2lJKv4YAQfzDyOMfHqY6zPkEFh6oQF+Ebu8RC2cD2e6H8lQ9cmoYQVm1EwcEuGDJNFKghrbKjISRk9qe+vx+xpzYn/isQYa9WbIQX97FiD2ggM55ip4xkOHkeWsHRgYsQ3XMdfRUgBcS57kOG8iv1GNoH78EAU2TCThdWwPp+HqY2VIcNBITVxWGH0Eov4rOKxEHLJa7VS3lzEP6Snvd54J6rd18K2I6KHopax94+NvjkJJYEYsCRSRHgfVeY4yXGEEClghmK2QjFIIuYpFAIfEaekY5QM0orysMYhqhxMeEyDwh+mKXmFy2onCefIcHg4khKWvlFjvu/3pD9uashY99J4ByfsImK/lJJVhvQjFYQ1qUmq469i0kLivjvKMC8dG2TDGtHonqitGCh10pSytFfxmP0WGQ4eqSAsABOMh3q8boKh7vkxjO6ir9Fy8dIuMwUfZn5alv5+OsPKEIGpE5aKWJ/UtH7cJhcZhoRijO7DYGjSkrbBpMdNV/IKSn7+34/brEovpk5YgMovm9SkMNNtHwcMQ/Sh63II9qJhe0jqqDh8PE5zKr2YOmHprL/MnjES0m50P5oIS6LTGUWGXqQirGE4O0xQeUykPpDesIZ+y031SiJRw1AG/og2cXjeLkIG30/+WCZndOccuvKYKdNG1tqPcoKEx6cKMsIPjRi0Yk5vP/Drock2wxlINByiYSRrq7LcJDSODOnB1CWsYTEKWcUFkEZXFgirlMnta9OY3IdpdPf75H7dMHUNw8X2YFzFGMIyt4a9uCN5dXlobPqd95alUWF7obEE4+wy0SptOHKENRS4oXIeU5hGdyrvsVhemoDRvc9AoruMG0qfvkf1Rprvqp0geYlyQ/3CKvxtabWlPd5IBWGFV8gZG1xKUMeYqHyQPp/COHije0++YMx+8cu0jQmjw17JL4KkeoYQlK4zpAupICxKqS7/OwmI5NxgqspxBZcS1Uja3hSN7pxzvSCFmRYU3ofDLww4qD0AompsaJRJR+pLYqEc1eM9hY4Upk9YBEbNpkkNh4ucvsdgoo0XrH7wke7xXYdSqyLIynwfCxNpY/wmMoyPVHgJBVTCcRRpcUBtlxUaVHG6qHoN6gE5zUiJw5LsDOea6hlhMjETetPu+RpnfJrc5O8fvWiHMsCHdEeq32A2MrmHaIZJIDW/Rv+AwVCFgUELHSTo72CjqaNulAPqSXeRsC/zvMe5BkmOjfTCHi4S/wI88Bb3dYYpIzUSVtBzY8YzRXCq3C+JbSOuL9E20e1NGpMoKxO3vFfwOLHwBgKvaJjSCx+ybEy4jYBBm3PAXNBD7kMojRIBB7cdkrL0SjswV/s2fzOj7PMQ/UQhvbJnBiANEhYPP72OwbMsJk7zIDCtSPfIcFszYdjMyZtkJweMPsEWhziKDHGYOmGZcTITg+kyS7q66EHgEOZ4j6DACQKLtw518BD9xmwPxDcZ75wxLRmP3ckBIpOw0o2pExYQJqxxpwwXVncjAPCwQdCHhAkHCBOvURs3kLYUzL62yBQb+8M4rvXTjjpSYMOafDkRDgYOT97MB3uTRJVRjhtV0mApRlTb8l39TXrPxtxn6Ks4hH0p4mD0u7bKzkXk34i0v43Xx0FA9ej/njx9T4XHGCmQsA5iQnJjjk0hv2/gtwyIDMg4ZBxwHJaZlZcIPcQwHek4Q3qRAsIysvUBHIzh53CnoZYqYr+lmNSlT5PRXTTpq1LC38sjbVjK1sVC3t7ASkhTNLpHe2QzTBupIKwgkrnoAWMyxbqok+Uo6hVz9FJfxPguURM90CqFPpVk5xQ4xDwi8uaNqyOR7E6P3SuUNAyu1CIj3CRRD8E9h+UfFcVljmMoJw3vl5oTbJvrnXtXsJ5+NFkGhRTYsASGisJWqTwwjbwRNy9FoF5UuO1A/Sr1Pw6AUBCo5dOTL9cVHGNUn8ksTcTgOtFGcLseLCfg4XEFd4pETzxW+LqIL3oTlDmR9aXGi5aPO56H+jTnhMo3hPE+aAxxxCbaAwAj7itUR0u3of+XIQ1IgYTll0eehvgdNgqHEZCUhkFfe/GIYltMS2aXw91bY+mTyfYKB+lOvIcJIyOnVCMFhIUxvVXRmFxrMmp7iBY5pkO+yimaPPTsYI3uAHzJaITrMRXrUWaySjXSQVhD0UESqATXZH0PbI0Pt0hGdBwWj3iNj7FaiamQMG6/4VLRevXkkNE98G62Gdo38Zii9pcN915x6RKIGo/xE012gZQM4yI1NqyREC7YLRGenELl6yP19JmPRBnBRpmzPWphz8hGaDSIkeKv9MHxdqQk/fZD2E5mWtaUBNpjs4JxLmS0h1hUXf1+xOebxUK2LGOHjK7SgxRIWHJSDXlUwP0d2eKkMEZr+tAwUaVEwpoGsjCBDGMgBYQVsZLJAESrXL44f+Ru4jEw3u0/+pUaOTshQgLKkCEpUqESDj1tjbQPBSHOA9oukeCG0upez407+o3sx4YFI3mCf8ccE/M5pic/3ELHeQ092qGPMFU9xrl+4hFdAsYfiyqDPBItRVZ6UIX3dMCH2ll8Ipbu10Tc9eyvKpptP06PwHQjFRLWKDdbMD7INJxKYyrgu8369h3+MJZVyBwheid7TFwQhvNCGgf2t80NwjiR7iFCCSz5ZWLiQpT6fSfpxOh3fEZYacLUJazJRST1wi82N+0JdxiZS8EAACAASURBVDiTniJR3Kj0wPXuczAqWqb2ZZgc0iFh4QCm9aQEpVH7Tj2mdHGOot1q2s+7DBpTl7AOChwAKMG0omgOc7EHwgVHsiG7ixCyJo9wUPAwQcKTvH7cD2LlOhg4bMfi6HmGZ3FYqUJqJKyJTQkOgKlYnzG8WWPgqMgQqR7nAZG9Jp+sxtWRxLGSsMzFEQh8e46QdsZpePyxpREHJWGFPYnKTkmHSXBXXsc+xzBJOuGluXxEL+oxoGMc2x/8GCA1EtY4CDwrCfXz14CR89h026MmPx8BHOQpBWq7G9uGbKSnftbBI1S5QjkoMqQCqZGwRraRm2FP8lHOZXwQV3rhmC5vlfzcz5YRSEPhBJwRw1xzkL5QiHUnDqz1AX2bZV/EBqjyPwiVp9HXiDHACBbuK/kYkpbuL+a4cGWIngVTAV+ACtmyIs8LAAHFVBcyyRDAkZWwzADFHnDoYnzTfDimPZL7IK8NR59shKEbSxYIPFSTfeOuzK4PS7LLkASpIaxhpgQPPXUBI/6I+38r+8e4023YoE4u/026BsUgMEhpK6kT7kBHI6AXVR2DvPvVK5s80v2QedyRGsIaCgmLwmmNcArgQG810GGOhR+oH7TRjTuyYD+HhrCUkqDKxnQwuTStDJNHamxYw0CL6QNEdc6UlHPwk05JNbqnMWxnpoTk5+eJ1yT596C5PGB3CtmKkvx+01Gpw+H/hsieYepIDWGp2zuYdCq2jj5d1KISfCoPSnGjDjff02jf1SlOjIEMWVljrH7Rm+AehlnvPYWXLsOEkWKV0M/IH24q8sg/Dxs6JmxIHOaQB/UVDikYdzXkcY3XOsHaXCSCD7mSTpI+MjUwtUiNhAUYT8tRoSsGyBsrlJgT+YQecWzEfPxHSIUqkKGfdEVMHU+VzJFG837HcWJIpPBvLyKHoOTS8Goz4SDMQeeugnDV+en1I0Mr7kT2gYjrbaTDhMcS2RZ6qUOfs2HH9NtRhBqyXWqdus+56vbCmurkPZQZRkeKJawRIR63/s0yYK4lnook+NJkZNz8ShYURDRYMlTxXYQQoQqatqv4iI3AuxnbHY72CksfUXXUB8EPWwrGQUW99/Q1KKxhUFvBA4OvEIgeLQfAZAyWsj8ll5r88clj9FzKSCsNmDphCU/YYLd1IIQhMnHVaJHIgEE+2dIyyj0vXhSE9Ll80n41Uj9D2HnHsdsMpWiPIGVMQk1LuvagIstJ9JnFXaUXUycsAPCYB+YNXuWm30KoMQdMLKzBXLpcLdwad8sr+9VhTPzU31qhazCU548Hl7Hvv2uEVJbh2CEVNiwCAmpRsD4LS4wEpT1MgrQ4kWka4qNvVJ/MLaITtYcc6zinNqlLk6gvSTo9yTKhVJuAXUt9f4AewMFkmNmw0oTpE5bO2ToKIH0+Tablw7w1pnXNA0TJ9RMgaHiHr/rTA47HirrmZMD3GaaD6RPWBOHbfXxDKyFHq/waNQabpCDfOFLSYUlYYSICfGcBBXSMF7WsyDHqEjUpz83McPBIhQ3rYCAI62jR1fDIbmEf48aJKWTEmF6kR8KSxuzwpBs4ebhQGQgh8qlNAh62ySXmhFx3XHA9DRnY+41XhTAkhWXGP8kh6Mj54KahEYiVGuClNaUhsUFuiYp6JwScS2cHD42bUHBwUCq2K1UvKi5r1JPTZZC5vwSZsINRAGacmNGf7MNUPf1xTM5xk2F8pEbCGndOhH12E0//6jPA8Fexu07E+B98H6vJAzAm89D4RjtYNTFcI5ESlo7Hi475ikLvQyVjrLQgPRLWBBBFUgemEJIeuePoYaKiAwE4FdJTwKs3XB/hAn1mnFXgocR5pIQXjp4fZlVxxvlwZZwzHDqO8N02ACpV43ibsMY7vUnl30Fof4xwUMuaoDxy+LaoYz5djjyOJ2FxZXAHjvsUHIscxpIihETFiQUOgi9+8VX83f/w74JI+xSbCBmOR32jRL5nclW6cTwJCxBBnn2i0Y8L0kLHs3Pz+K9+/h/hV/7pP8XiiRN99kw+4h570xA5kEn3i7OTBfMH03KVM0yfsMhBuJElUXH19/HFmDLImEdzcO6BcxFDZdl5vPzyq/iffu3XcO3ZZ8EYB2NMSzo9q+j0azsmIZoZbXHGxCuqbfM4/WKhz8JkwJlvOuDG8Yyp/ca6TBkmiOkTFoS7fzxbTODNaHjYWuLqqTpNGpA4IJ4N3txGCgyGj2PS0fkyRAKEAoTg1KlT+Gf/7L/FpUsXe8+Dx/czjaRj36jfS6Y8sN/hjSlDPFJBWLqQk8SwCxeIJ70KEhWEI6opjLr4wfDH0IgKEgQElFD9SpoRR+joizbE2W2YTCSOOUgsvWUcmyjHjohYJ8KFCk5A0O508Fu//duYm1/AP/mvfwkMImI/rFzp3EIjwVlLTQfEDr6UFZTKTEmLs7jrlDFWGpAKwiK6ktTk280QBBtSihoM/8anlMJjHn7wtz8A4xwvPP8CLl281HvExMcwYXD/ZQYFZ5g+UkFYk7KN+02IHELg+E+26Z6dcWeDANQCIRYc1wMhBJVqBVevPTPVEQ6LsI1L2c4ypAPpICyFWNIyRffBniK/2iTTxHVckQJrmw8CgFBQQsAYAwFw4fx5MHa4gZhRlUuP9yx4fJCaSHchZPl5Xb2SUbSLO9iGqDDKOIORIpYhFpO6Qn47lBJQSrV0Ui6X5QPEnmiP/RAlVQunQDYjjjpSJGElNEgrQ3o4MTjcxJC1vKNAKYVlWdqonyEMqcsTgMMDOAfhwnivHiiu64LKxGNgcH6gkqJVyILehgjJiQcl736Bor0zQQYXp92eliGAdBDWCHNF1UeKrpPEJ6IDeJ4n1JlMVusDoisfwCAr5jF4HsPa+obwBDK1MER/sBDxJHpPHIfV+0pCWtmvnx6kQyUkxkvOGXNB1STc049URFMxe/R5snJ5o5EoaS7qcEWgat+Y1Z/1FmLEoJHB5xE3fAIeq+5EJfKqSLOkSb6BAnxExCiIz+LXYeBwPU8q5CKBmBKCn7z/Pr7xb7+BnGX5F4r7v6hZUsYki8D41LtUM9UkIYSIwn4Ry4vFq34xvzXRwTCha8Il/2bSV1qQCgmr/02TJOTBNFgFgyH9NmI710dFDyN5TJg/BJ+44nbkskMu/+bwPw8HFbHdn3hDG+K/69OGr4YRfSNzcBBKwJgHx3HQbrfguA5WV1fx3/+Lf4G1Rw9FPFpMZYVA233G549zOEnL6K3/KyTV+RHuGVmlCSmQsLSVXS7sMPoE4TAX8ByhHd57I0SrnAlBoqmS42jbf5U0wzlw9uw5/J2f/Vm0Wm0QcNz88EPsbe/gV3/1V/H66z/CufMXJFkp0fkIEsAR/q2OG1JAWGoCD5GgM0AiGwX+0l0HD0KO7nNbKbnVag0/8x/8NJ7/wheQz+XwwY0P8OjhPfzr3/hXqNf3sL+/izMrZwAweF4XlFpH9sbPbJjpQQoIS0oz0eaeSGgpKpK4lJ1jlDHwQ2GTKCFDmtlScWuE1SpTwuQcuPTEE/g7P/uzWFpchE0JNjbW0Om08fWvfx0/+tGPMDc7h82NDYBSFAoFzNRqmJubQ6lcFp6/fmWkxxA99bhDfWTF+I4PUkFYwFB8BcTuO8ZkhzJgTwhaYks+0rTfVoQQ5HI5vPLKF1EsFNBut/H9H/wNfvjDH6JSK+O9d9+F0+3AcTrwuIeCbSOft8G4i/36HvIFG5TY8kIf8NkafSR1LmRIP1JCWMEyHmGvUeQRkd4vHmlynwpGtaOlHJxzOE4XXcfBH//xH+POZ59ibn4On35yG3t7e7BtG4QSlEtFnDx1GrVaDYyJVJ3Z2VnU602kn5qjcBTHfPyQCi8hAOE5S+qxUocYHj6xXYQSqGx85XrPMCFwjm63g3fefRee6+Gnfuqn8Nqrr2JzfR2e58ldOObm5vDExUuoVitgnIFSC0tLJzA7OzeUpOOXfpnE0LPg3+OA1EhYwlXeW1pEf46Y5wTS7KTiRInaxgEwiKqj/TlZx+5wET/EwjcUEcQoorUBliD4cRB0GEMIqmc14vDNPW21hkNE/39251N85zttnD59Gt/+9rdRbzQwU6uBwAKlOdh2Aa7joVFvolypYOnkEmZmZvHo0SMwTy7GFrM4hApx0N5ZIxYrbjmy8C8SWI4sFEMXWJRVx4bpHtEzXxgBT7KibYZDQSoIazQzeb/2ZN2jIZ7NfcmAmH+OF3pxHOAxD/cfPMDnn3+O+YUFzM3Po9VsIpfLoVgqodPpwHEczNRqWFpaAmMMd+7cCS45fxh2rBACZoQJO20yHA5SQVgCDCAMI0RORsCMpaLofQZnGBUccsFRzmHncsjl8yIjwPOQLxRgSc9gsVhEsVTC3t6ezhboKYzHec9SXQclRfZE1BuR8dGRcgr0sX9ApQmpsGEF41wSTA7TPhU3v0ewlSTad0KTl0S8gMN5tuv47nC0uPgAFfk9uCGuX+VyGcvLyyhXKsjn82CModPpgLExHhaB6Ho1vsG/V+DbmH2T/+bH03lyVJECCct3PZufkxyliiIzIplXheGA+3wl00dU/puJaRlh44K9D1ND8vMCg3l4gWyUmOvD0PukI5SiUqmgXC6DeR5yudxQi5gGxqUbJb7qpsfHE4UYK9lancfo2QoZYaUJKZCwwpNpghIMGXJxi0Seysy+AcT/SoFfMuSZizzmMB4aPfmIoa/RR45SD7yMtFKBlEhYw6XFKCKavIQ02KA+XIDrsOGwRwemTSjgcYusaOFfA3MZeWMHbcs6NBtW3H5RW7JwiNQgBRKWr9olJa5w/JWmBaVB8MGWpnDlUlVbK6gT+fua/xIhyY0nQyYImX7IwlDg/pt6cARqTPWptsDjfpsIUogu2Me1rW3yxfd4xCtDmpACCQtybhDpIRw8Scw9AnFYakJz+XcMB0RVZID+KzQGbYOOuzmiO0lCPz5JHSGyArRNUIMYbpMeQhLXM1hPi8dIWgg8QnvqZalaXJK0wt+PR/q+YT8U/TZGmxkmjXQQ1nAaYSyCEREkvOFQ8Tg9m/slSw/FIVP4uXrGDmgyzJA+pEAlHL4EcWS4X2CjkgCmaEM6prmExx3Zr5ZupEDCCtqjkmA4pXFMDJHjmBSaS+O7PEYIKlnh/EBTNSTG3omueMTvEq1G8oDkNDk1MsNhIwUS1vAYbopNgmwmvBAFiTbvHs+ne/R1izpXXea4T2uB40IGft0GDOO+aXs8EEN9hsNECghr+IkTfYRvMNfRV4RjEmk5hm8qw5DwnbFZtYQM4yMFhHUAIrkRqjA+IrxZjylGIZ1M48owSaTAhhW0aYRBiErIMLb17MNAuErYkJUaCAMBAQUBD9UeDhBZIO5KKRyjG+upLIFC9Kt3n17X+cGjf9nj6O/UQqbhoM5+bQ2LQLmXMdEvkj1cqiacBRHuX42rX7sZDh+pkbA46/f0DuUAxu4iyY17ULmDA21PkV+Pd/MMOvqoCh0jqXUJ9o/bYxJEEbB3GW0madncJ+OsdCAFEpZhIE2IyBteud5kICnx/wDlIkF6EuPMkBCK3OQy9XHSmQKD8btK716/XNBAjCnrXxQw2XDjx8WyEJXUIAUSlkLyCdG7pxnVzgB4qciyVyb/x3uqP95nn2GySIWEBWAC89q3QzHu6cokaUCYOglS9aSYCDh829BY5VzGGUPI5hb4Dn4FD9OWBcPmmCH9OJL3TWxkjwpjCNTWSjYRdV7hJCfudLODpoMx4px64rJ0kxOMnRqlrZQ8+DKkScIaAuFifzwgTQni8u0hyT1+WazV5KF9rgkJwrRlhT164fIwKsIubtGOocbZZ3zZvEgPjqSEBShxHoYApZ3QuryMLhmDpHJWlGow/E3Ae/4YBeOPYyBiosQn3QdnrKev0Zqa/PgStTh9c2gGiSMjYZm5YdzcBhHbLiBM3JwzQK6HJ0KwCEKhWIk9k6pWVfzTOxjP5Nds8sTIInRCLmPD6KCgi54BksCfwXzvYJoKH7C4g76WxjEkZPhLKrGEq4qGFXH923E+licv3JdCWNJCEluWGhsM21tMgb9MwkoPjqyEBcQ8cVVWDiRRxVFCZmQ9NPRUFz2COJqjPn5IBWENne4ROk6t+Cw3GrmEfXuNbDeLtcqQIb1IBWERk3CGOa5n8Yp4sT6q1/i2MhwYElxmZTIKeAeNV5zXsMfUNGAeBProt3/2DEsN0mHDilv3KgbKVhQsMewZS3tlC6emFjxsfAt9bZJGaBkyvRmI9BrqNpIMAyqbq7deVng82ao56UEqJKzJecCEzSo4wRKGNAyZHjQ+HtcbYNrnPSA2LzMJpBopIaxJgIJzAh4Myhoah6MackQoMBkyZBiAVKiEOqZqAJTbnfeQihLbiVAHOZN50Lxv3Gi0qhHemfSt+hBIudEBjqq12D2jB5QShEsIq/LFw9gZg6G9we1mnNww4xkWHAD3GAilyNk5WLYF8XuKNB6PeQDneiVr/fuplJ3HHJxzuK4Lz/O0BkIJgWXZsG1rKnbfVBDWUOWH9fqBZqkT31vIuQcOBlEjgBsEEu7TuKl66mNFDjJ6nLxnN5mzZm4MSVNc7ZlehMnKJJg4p0bk9yR01Qyyimon7iYYhbTyuRzm5xdw+vQKWq1moP1OpwvPc3Dy1Ek8evQI62trYIzF2rIeJzRbLaytreHu6j288cabuH//ITzXBeMMpUIRc7OzePW1L+PSpSdw4sQ8yuXyoY0tFYTVs85dEvRkN8vPBGCuC5rzW48jBxXGoMv4qnYnjR5D8+N7MxwEeryFhKBYKGBhYQFLSydQLBZQKhWRy+XBOANnHI7jYHdvB7s7OygUCiiXy+h0OnAcV5KpMso/PmYtzjlu3PgQv/fNb2FtfR1O18He/r78Ur4xhg+bN3Hjxi2UiiWUKwX8F//lf4bXXnsVtn3wdJIKwhr1aRaeR0KO8bCwOIvFxRoerq2ir3SvVABz00gjiWvelNwOh6TiVLHpIf6BMbEeQp7ETqcD5nkglKLruJidmcPs7Cwcx4HnMe1lzufy6DodNOp1gBAUCkUQ4qDbdQxJS/Thuh663a7uz7ZtbG1ta8nt4JDk2plmDaOGGAHK5TIW5ueD+bfiSR3Y1um08f77P8G//Jf/M+7eu4dCoYC52QWUSiWRt+F66DpdgAOdThtrtz5Co1FHp9PBv//338E//oWfxy/90j9BtVqd2JlHIRWENT4IACZVMYZczkY+nxcqXD/GMsqhTBIiO0cUaPZtYgf7mE6vEBCREgSI9Bkj5SlJ7Fw/6uOcw/M8tNttMMZQqVTQbDbhOA6azQY2tzZgWRQEFHbORj6fQyFfQD6fx9zsPNgMg+u48JiHbtdBqVgCYx485iFn5/CN/+ebKJdL4JxhZ3cHL11/Eb//+99Cs9WG6zE5hZR9lcsHFJHbxagpCCixxPeSYDnEiky+2ZPoyyZ5BeFf1zyOUy6mNwEoE32IKiEcoMDCwjz+8//0P8GjtQ1YloVu14HjdGFRC5QQuK4HSoGdnR28/vob2N3ZxfzsHAqFAsA5GvU6ODjanQ5arRZc14PnOnC6XW3f6na7+N9+/Tfw2Wef4Z//8/8OS0uLA3/LUZECwprgrUYYCOG4f38Vm1sPUakU+nuwJ9dzj4qqo+8jJtykoSmR+H9bB9rjhJDAuB3rqggdyzlHs9mE53nI5/PodjrodDrI5/NwHAfdTgd2LgcCgnw+B8aKUjKjKBQKKOZLKM4WUCqVkcvnwDwPjx6twfNcXL16Fd12B++99xMsLy+h2+3if/lf/xW2dnYwMzsLl9mgdAZADcwqgYGCEwsMFJTaINSCbedhW3nYVg4gBBa1YVkWLMsCpRSU0oC9z2MMzGNgjIExDs9z4XkuHKcLj3XBmAvGPUn0Im+VchcUbVC2B8J2YBMH91ZX8cntT/Dyy6/AdT1sbG5gZWUFtWoVDx88BPM85PM2XNfFwsICKpUKWu0WXMdFt+PCc110ug66bhdMOio8xuB6Hrqeq6Vbxjj+6I/+CGfOnMYv//IvI5c7GGpJAWGNqC70McISIp4+jCULIJ3YAgiKsOTEC5fBieh57H4DrZkZSenRCUfGMIb2brcLz/NACAGlFKViEflCAbZtBw38BOh0u3BcF81GA81iCzO1GdRmZuB5ObiuB8YA13Vw7959XH/xOhr1JgiARqOB1bsdFEslbKxvodFsgDOAcQLmbcJjFkBKALXAwEEo9FoFlFoA56CUyucYAyVUTxmqE7WFTdXzBFGZFUdA/DlNKQHjTCaTczDOYVEOgi4IPBDugoCj02pjdraLZrOJ/f19tFtttJottJottJst7Ozu4NLFi6hUauh2u2i326DUws7OLjrdDjqdLrqOi1w+j4WFRTiug2ajAc4ZPNeB53loNZpoNpvgnONbf/BtfOUrX8HXvvbVA3FcpICwRkDfIE/lMQxHwx8gCJFeyX6qzeEwSFp5atQczSS/oee6cLpd5HI5VCoVFItFXWFD2asUiRFK0W61wDwPHufodBzs7u4hZ+ewsLCAQqEIgKDb7aLT6eKjmx+h0WiAgsOyLDzc3YVlWdjd3UGhUITT6QDSkA9OATRAKAeFByoJhoGAEArGPHCLAqCCeKiQTAAORig4ZzL7iEPVdNPVLYgkNU8pxlyGbAiFkjAGTgk8Jp1YlgXOhQNqb28PH928iVazhcXFBbz743dBCMFstQbGGNbW11EoFMAYw+7OLtY31tFqtcAJQAnFxScu4czZc8hXSuh229jZWMcnH99Gw3VgUYparYZqtQrHcdBud/Cvf/P/wOXLl7Gycmak37wfjgxh6ZwvteCA+kJPTCMGVoYRxC1HzkIlVMIOPEpFe+LY/uMilIpYHlPCku89bYePHXAPJyVbtdewlBCusqpibcLjDtqdAEL6xxuHlxCLalN/P8CWFQ5/4DBiphgD4xytdhv5fB7VWg2WZfX85pxz5GxbjEUa4z3HEW1RKryGroP1jXXk7BwoJfA8Btd10Wrn0Ww1AM9DPp9Dq9WAZVlot5soFgtgzBPhEISAUPmQpAScUbGAhZSiGAE4peCEQpo44UnnOKViG+ME1Kb64adixNR1YupBLVPPRBtcLy0HQkEsdZUE2aycO4dms4X6/r6Op+q028jl83BcF+1WSxA6oag36mg2m6KIIuFgjOPkmTM4c+4COqDInT0F2m7CajTw1JUreO/dt+F5ak4QFItF5HI53LnzGX7rt/4NfuVX/puJhzykJ9J9BNEgmEsIwyo7/Fp3at+RJDJ5MwZuEox0SunHiOY4rkg9+su+x0UNgXMOxhg67TYq5TJmZme1WmX+Do7joNvtolqroVqroVar6RAGZagXDzfRZtfpot3pwHGEUZkSCotS5As5WJZvGTRJm4ODEcDlnngxJrZJguGc6SKGSuJT2xnzwOS1YZwJyc/z4LkuPMYEyUiy8piyaQnCUu8cHAzyeCb255zB8xzMz8+jUq2Ac4jzoRZKpRKqlSqq5QoajQY2NjawsbmBVqsl/AEygpFzjlOnzqDhOCifWsbWvXV0Oy7o4jwcl+HUydNoNpsBaZZSCtu28Zd/+Vf45jf/QF7fySEVhDVq/e+44ziXa9VwFcb5eIAYr7Riku6HVruNUrmMSrUqbUO+lMaYkJDW19Zw+fJlnD9/HmdXVnDq1GmcPn0GlWoVq6urYEyGObDgCyBwXAczMzOYn19ApVLF+sa6kIa4CkmWMAJslQE9cJ5aAiKg6uEGQ7qSEiFV0iQhoJbw4pHQixpkrIoOqj7UZ6VGqvsjZ9ugFoVl2cjlcjh58iTOnDmN3f09NBoNAD75aRWTA67nAY4HlPJwcgxsfQtbn95Dde4E2jkbds5Gq9WKtBW7joOv/99fx+uvvz6yOSAKU1cJxY93ALfYYxyp/DjAdV0U8nmUS6VYO1ejXgdjDAvzCyjk8wAIXNeFKz2JW1tbOHHihHDhmyCA53mwLRvvvvsO2u02nE4bMzMzKJfKcBxHz1nT2cIAv9qplqJ4QNr2lKQFSO8aEyTE/VAHCmgiBRf2KLNNTZCmycO063Jfw6DUkuqzUFVv3rqppTfuMczOzEReXwLAbXXQ8rpYuXAKzW4HtfNLqMGCyz088eRlvPPpJ3AcJ/Y32t/fx2/+5v+OJ564iFOnTsbuNwymTlhG2EmGY4Kessuh75QdKoCQLWsQPMYwMzOjbT0mzDYotWBZNgixpeRNkbPz4Ew8Kl3XRaFQAKFB2VSpl9VqTQRgFgsoFAoBu1+ANCgVRnapFmm7lqkKSw+mOF2mPd3KDmr2q9oAfG2Cyv04E95BzoOmj4BJQqmRngfLskAoAeUUpWIJruei3W6jWpsJSGz6WEpAuDjmwb1VFG9U4UqHgCuvIW83cefO57AskVLCOBOSmf4NxXjvfHoH3/rWt/CLv/iLoHT8u3zqhMVHNPbE2qjSEEGZSXcGJmzN4xyu56FQKOibO9LOJW9wz/Pguq6UBHwpxPNcUEIGppNQi8KiFrrtFiilyOVzgRAJXZbIsE0xabdRjhil5sEgL5PsOGP6KinC41LC0mq+OaeUKqjak8crySoQuyZJgnme5nXXdZHP5UMZHgQEljanMHDkS0V8/PEtuNzF0sISbEuQfqPRwMe3b2Pt0UOcWTktg1yDTg5qEX21v/vdP8Pf//t/D+fPn+97rZNg6oQFiKcN81ivd6mPSzvWhpUCrlAxWIcWVpFqTO78CYRkRQjRapxSm3TEm+FVpJYlgx2FPYtLu6bruuh0OsjlcsjlclplUp2EJZV8Po9uuwXHcQIqECUUHvOENCR/b0uRqDke413tq/ZRc0XvB39eK6Li0hMY2A6AK3uYlLyUhGcZ8Vqe68HOCYeB53noOg44Y7ALeXntfAHVEqFiwuBOOBgYiqUCbt/8CDe9G7AtC2CeCHngwPz8LPL5XI9Jx3EcWJyCUiFRbm5u4rvf/TP8wi/86LuLgAAAIABJREFUYyPebDSkgrCUwVT9yL1EFC82mX7CuL3UEy7kU5yMMBZjUCTA8ZW0lMSQaNfxSdu8oV1XBDHqOSO9Z8qt3mw0xANQSVjMw40PPsDc3Bxcz4Nl2XC6Xdy8eROlchmuI8jLojaKxSIKxSIa9UZAerMsC7lcDp12B07XNaQy3zutvX8hMtKeQhjhNMY+SgJTxnfVqmn7Mj/DOIYxFrgOYcKzpFpp25ben0nVW3IVZmdncWJ5GZVqDd12F4/u38fG3hY4FW3Yto1iuYR2qwmXdUEIUKiUUCwUUMgXhGoKgHkM1UoNJ2dnkctRNDodPNpeh8sAm3v47nf/DD/3cz+H5eUTY82FVBCWfAT54rOE+bQk1PegqB+8R0zu0zyMG2eY/LWBQzdE/MC2ATFYh42o+Kax2uI8chmtqLb72bT69mEco9SjruOgIhNsmeeBA9jd3cH16y8hn8/Dc11Qy4LjOLh9+zYqlQo+/fRjnD9/AWfOnEWn08EHH3wAACgWS6jNzOLUqVPI2TkQSlDIF/Dxx7fx4MEDzEiDNCEEtpVHi3fgeQyEMBBiAbJgJKVEhgNAkIEkBTUntQHc8Pb5aqXvNTSlMXCxvqa2bxn7KdIxPaN6ToeuH+ccriuuE2NC/cwXigAHTp84iVdeekUSGoHHgcunz+L7772Bew9XhYRkWyiQAizLFAlEapFt58AJget5qJVn8PLTz+PMwiwc1gXnwNrGGt777DPU93dxf/UR3nzjLfxH//HfS/T7x2HqYQ3HUggxSDXD5ODKGKV8Pg9CCCzbRqPRQD6fRy6XQ7vdhuuJQM5CoYCVlRVYlgXbtvHZZ5/h7updvP/+++h0RXrNU08+hTOnz4Azjm63I8qp7O0hl8tjc3ML3W5XEwG1qJZSPFfYqDj8PDp9O6uHbugBpo5VxnClQnJZgwuA9v6Zx3NjP8APP4DcR7fJWKAf6IeyiMlyHReO60ibF0fezuHSuQs4Ob+A7n4L3Xob9f0GlpdPYWXlHDzmwXEdEALkbEteY/nK5wIpT47j4Oq5i3hyeQmrG/dwa+0R7jx4iJW5k7h+7hK448FxHPzZn/85XMcdaw5MnbAmfl+ngCfUk3KS8ScZ4BMI57qGVavZRLlUDhimTWP7mTMi5qpcLmNrcxO5fA45O4cXnn8eFy6cF6RDRdwTkSKMiHT3QKmFWq0WuDkZY3Bl0q8Zf6S9Y8T0lMnvxA5CwpJSETGOC6uT8gv/WBg229DcCquOZiwYiEr9kcTFGJR+Wi6V4VCC3W4H9zY3cX9zE+ubm+h0ugA4yuUy2u2WJmWVqG1ZFigxYt4YQz5n4/zCLDbru9jpuHA8jj3u4oON+7hw4gRmZmfR7nTwwfu3cffuvbHmwNQJC4BSvCfXVobUI2CT8Tf2SCcmut0uLEph2TYKhQJyuRw4gGKxCMb94EtFGLZtw7ZtVCsVdDodLC4toVgswrYtLC8vo9lsgRqqlVD9bDkUJuw1hSKKhaIes5KuVJUFQTTMJxspPel4q5AZI0xMKgNAqGwyeFOqlYHsACVlGfYvpT76MVcUVMZsMb2v6F9IdGKTiD4n+rOynBFGwQlBntogjMNzHBCOQPt+EKsfR0YIRYu74B4H9wAPDBYYCOdwGYPHGVy3g62tdbzzzrvDTxYD6SCsCSKTao4GYiXQKCKT8DxPq1Kq1pVlWejIxGdiSDDq5lpdXcXtjz9GbWYGjx4+EioYIXjzrbekpzAPi9KAxLO/vy8rJVB0uh00W376idon6NE2JB7VDoJeQCUZgQdDDxTJUoN45BfiHOTfOl5LSZHErwiiDPoqdQdAQEUkgAyd4CBceDcb9QYoCPJWDvO1WczPzuLk8gnky0Vw5mJ7cwP5fB46dMoU4fQGMbZ6o46H+/uYr8zifG0OOZeh5hJ8YfksVrc2sLW7DUIBx2vhL//yL+C6o6uF6TC6SwxDNlH7qh9bxcEkMZBlAlkKESYtzuG4LlzXFa51CPLqdjooFgp49OgRZmdm0Gq3dQiAxxju3buH7a0tzC8swKIUX/nKV7C/v49bt29hZ2cHP/rRD/Hkk08B4FIlJGjUG/j4k09g2zY4OOqyRLAiAEIILGqhXCrj3Nlz+PTOp2KMhtNIG9+VCGM4DYCgYVzELFk9HkB1Dcy/qXkc0JObaUa9U+kJdF0Pm1tbvoGeAgwMO/vbuLf2AOWZKnJVURus6zi4decmfnLzJ9jc2cSp02ck0SqilqdKCUSBSgLbstBkDDdu3wQcFxdOnsHV+UuwGMPmxhZ+8sktbG5uYnZ+Hq7r4OatW1hfX8fp06dHmhpTJywiHzfiaSIyxAcSV2gChLdv72yjWq32emTiBmDYATL5bAgodWciTYXCH0L2HNdxQAlBu9OB57qwbBuu56EsK4u+9/77cGUFBmWg5gAq1SoWFxfx2quvoVqdgW1bmJ+fxw9+8H3U63X8+Mc/ltU5AJWS47kelpaWAqEGnU5HBFzmhdGZUop/8A//AX79138dm1ubvhfa8BKahGWqq0pt1OetovylRzDK46cISqthsiqF+l7NYTOCvtt18O6772J2dhYLCws+CRIOK2fhzXfewN0Hd7G0tARCKLpuF3c//xQPH97HzEwN+XweKnRVqIayyimMe48QVCoV3L13D5v7u/j03l3kqA0OD1u7O1i9dw+V2RqsnI1ms4FHjx7hxo0bR5ewAIiJwlhfYjFtBNqbEt5HxqV0Ol1s7+zgTLncNx5KTR7VLiEE6M3jjB6H/my0FfH9tKDDQULnniSsYNhzMCWKQH5bgnGZn+PGLFzzQo1wHAeOJCzVT61Wg8cYbMsCoVSkosj2GvU6nr5yBRsbG1hf39AOkUqlit3dXczM1IRtStV6B0epWESlUvElIs7RbrcBQHsd87k8fuM3fgPb29uo1+tg3Jfq1cPUL7bnVxM1z1EHURoPzfB5m/Fg5jVTgaTMkOjMIFJAFAEsVypYOrEkVWFRcwtc1KQvlQq4e/cz3LnzMQCZXkOA2uwMqtUaCKFQwRSUEFTKFeTsPDqdtggeFaOBbedRrc1gd3cXNzZ3xDVwHXAClKtVlMtVMJeh23WRz7n4/vd/iJ/5mZ8JVL9IinQQ1rD3eB/DrNL9d7a3sby8LH7ImH21nYEQ7Q3pVxpQDDX8fUqVSp9JRzscg89M20cMr1cS0gr3Y4436ljz4WRRiv29PVmzX5CBKtynEomVZN1stVAql0X9K+aIBGAiiulZMgq+UCj02KOUV0xt9zwPzWYTuZyQrJTB3c7ZWFpawszsjNDXjIcpECIseR5qKTEYhEVDnj91HdS7Ijpt8uB++o5JWIHAVc5lKZkywAGX+W17noh+zxcKmJ2dRbfb8fulBPl8HoVcUf8+lXIZ589fQKVUBSWiQsP29iYePnoonRME+XwB8/ML6Gi1HLAtEQ5BKcXOzo6sO+bivR+/h52dHSwuDl/7ffqEdRACCeeASkAdqYt+N1qCFmMkhQzx6EeQjpSuCCGwczk0mk3MyaRecK69huqmVte93migXC4JkqFUB7rmcjZKpRJs20Yul5c2GbOqgh/0yTjH1uYWAGBpcQlLJ5YwNzcn+wMY87C3v4d6s452qwXPiD5X809LWCYZy3cRPuEb03XIQ3juKBKMsFtp6YyLQNP5uTmUymXkcyIS3XEctJpN7O3vo1GvoymlIztvSW+rHSBLP31GjPfy5adw+sw5PLj/CJRyWLkCrj77AjwAD+7fAyVce2WtcgUggAWfYB3HQavV0qVr7q6u4s6dz44oYR3QPU2MJ20yFSf0RAu1Ze41qDXTA5QWFfGoQgUmwrjRmeehUa9jdm5OX19Lpojo3x3CRFAqloTdyc7pmCRqWWi324IsLKn2EPgVFozfu91qwbJtvHT9JSyfXEatVkOpVNISWLfbxWxjFvuNfezt7WFvb08XBzQ9fuG4q0a9js3NTSwvL+PRo0dYXl7G7u4u7FwOhUIBOzvbOHnyFO7du4ezKysoFoXEEzn/CEE+l8PiwgIWFhdRq1ZRKBZBqQXP9WTuZBf7+3vY2dnB1vY2NtbXYeWKoJSAECvUnB8Qurx8UpSVbndw4eJl3HuwhvPnzuLzT26iUipBcD3XGgqo/A2k5MUYE7XvOQeYuMbtVgvvvPMOXn75paHnw/QJa5KIkmgSSjmmzaH3O5JMRzLailVZMwwFM0CTGOEH9XodpVJJGoYRLI0sf/NcLgfHdbG9vY12uw3OhK10f28Pq6t3NUFRIpZjsy1bLxqhvGYcwJUrVzA7O6vrlj98+BDMY6AWRaVcQalSRKlUQrPZRKlYBJNLX5llYHqmj7yZlS2o3W6LsIROR9bHArqdjk6m7glEVaAU5XJZ1/UqlUoAIXjw4AF2tnfQdVxYMgBWLChbRr5eR7Vaw15jD5VKOVYTcF0X5XIZnHOsb6zBoyU898pX8e7r30dzfw+Eiuvd6YiSy4FxKmJuNtButfWDxfVcdB0Hb7/9DjqdTm8tsgGYPmEdwH0dG+Mz6lBM51XSAWfq4MRAAIBSWIbUTChFU0o/ytgciGMCMDM7i/W1NbzzzjuSiIhIOek6qNfrWDpxQh5LoKiQyYLqKmxieXkZxaKIqv/000/x+eef6zLLFrXQbDZR6VRQrpRFUcDNTVGWWUqFdk7UiwpL2+VyGXPzc7h9+zYuX34Sq3fvYnFxEe12C/v7+1hZWcGtW7dw9epVESAbE8JQKpVEET5pSG81m/jwww+xs7uLaqWKUrkCQghc10GxJJOWC0V43jY459jf39ce9TA8j0lnA0e5XMHS3Aw+fOv7uHhuBR/W19FuNtHpdITNTwfR+neI4zho1Bu6lrwKvGW2h1u3bmFra2tob+H0CWvC97WeGOZryOPD4Gy4NpQ9IcOYICKxVsUgUWnsNm+QdruNQqGg12E0VbF8Po9ypYK9vT10O10wGTQJAiwuLWFudq63HhbnepHQSqUCAKhWq/j888/x2Wef4amnnsK5c+e0uuM6LuqtOrg04BdLJWxsbuoSzZRS5KWxPmxmsO0czp+/gM2NDSwsLqLrOLDsHIrFEra3t/HEE0+AUKpJQZU+VjauXC4Hxhj29vextLQExhjeevttuI6DZ69dw+LiEjyPodPpotlqwnVc2HYOpVIRuXwerLEH13WxubmFmZkacrkcABHFTilFoZDH/fv3sLJyBidPncJnt2+h29zBp/VdPHH+An784zewtb2FxYVFrY4r+1en1cSmvA7MiADwPJFXuLmxiY8+unkECWuY+zqKBMJue72rX0h/qOFEuZd1Kn4yaKOpGTaRYiT16B02OGNwHEeMj1LYlgXLtrWnTtmp2u02craNnEyKVqCUYmZmBvl8HjMzs7AtIans1/fAPFF2xQRjDNvbW+h0OlhYWITreajItJ6PP/4Yzz/3PE6fETeYkhoIFcTRdRyUSiXUaiJMQsVtEQh1zwxnMO1knudhf38fxVIJ9b09FIpFeJ6Hvd1dlMpluTCEH0Sqji1IFQyco1ypIJ/P4/69e2jU63jli1/E3OwsHNcTJXFcVxNsq9VCtVrDzMwMHq49hOe5YqmvtTVUKhXU5MpDAHQZ6Q8//BDdjoccsUAtgm57H+++cw8ffXQD4Fx4T6Wg4HkMrXYTu9vbYDIRXYRfSHOLB7geRbvdxus/eh0//dNfG6pG1vQJi/hvUbe2GUSnVT1TnzcN64rFXReeNAZqt2+/IYQMrYHcMAgbliJAfx9tWo9veAARpIkiolzqyiOlyuhGxUnp0AZES6fjjEfF5hEI6UrVpRLePaFqOY4DzxV2Ec/zRFG+fF4XsyNSEvE8FzMzNdT398E5A7UIRDQkh+e62Nvfx9raGnK2LVRFwkEIx8xMDY8ePcL83DwWFhfgdB1AGZrl8mCdbgcuc3U4BGMMjXo9YE9Tc0EnPxM/kPTkyZOgloWl5WV9/sp2pAoGmr+Pkqy63S6cbhc1WQZnfWMDp8+cQbFYRL3RkOMTgbCO48B1RQHCaq2KUrEkpEnH0aSyurqKSrmCU6dPoVwugzGGWq2Gzz+/i4cP1rC0uIBSoYR6s47NrS24roO5+XkwIsIrOp0OmlJNZNyFy1ypCiopS62tCLheDh988AGazRaq1UrieTF9wpowiHRhi/yw5PFAgFQno+zuaWKWYwzTMK2jtgFYMonZzuV0KZm8lDBs29aVQF3HEeqTjM0yi9u1Wy2sdbuBfLtOp4NWq4Wd7W3pdqdYXl4W4Qay1rttW2DMw4nlEyIKHiJA1HVdEd/kiZShTret8xkdx0HbNJgbhnNbqrWgYt1CFSOochzljoHVdMIgkItZyGBZdXy328XS0hIcfZ4cruOBMQ9dpwun68BxHWHMtyxhz5OEBYgk8r39PdQbDczMzGBhYR6lUgkzMzV0Oh08Wnuk643lCwVUqhVhN2sJkup2RRlqUwDwyUolX8swDM7x6Z07WF9fQ7V6MfEcmT5hHYTRXXqWhnDs+ZIC56Ex8UTEF1Y9hwupyKDAuIziNtRBVS5FxfoUCgVNWLokMRfVDFQ5ZNd19c3BuL9wg+e6Yql6eaMq1Y5aYr2+QqGgK3UqW1ZBhhQABJ7n6mNUP812U9t9PM/TS19p6RCCfC1KwWXbFCLgVi0swRgT5VtsG67jAEZakInwohFKygIhmJ2dBZNldcSahgzME+PsdruiPA/ESjoe8+A6rrYxqfmqvK2tVhOPHnVFEKmsjGHnbJ2WJIi5C8fp6usIaYLxPEGSSlMxTcna+O55aNQbuHHjQ1y8mJywpl+tYdLSi+E9sW17KG9dLCFlEtahQhtojax+FYBpWZaWspT6Z0u7lqluqXbUDelJAjRVoP+/vS9rkuy4zvsy71Zbb9M9KwHMEOBgmSExAAlaBEVQlChSIgMEaVGS/eAH/RhHWPaLwlLI4Re9UIyQQ+EnSYyQIkTZZMgWBUXI5ADgglkxay/Te1dXV917M/2QeTLPvXWrurrRw+7G1AFqupa75s388pzvLMk5oTAMMWG9ZTIIEMWxKwg4PTVtgzwz4+WyAzTLzOozaS+16ToRVpaX0bOhCVorKE0AmsIXS/aaBmBAenJyEnNzc5iamsLs7Kw3Bdm1EpcH+PI23V4PnY6pNz9riXty+hDop5kxm5VSaFpv5qOlR2yRU2HbqZg2RBNuluUWhMx954ybKoOq+92mOpVzg/kz6Xa7uHr16p4WWz18wHpMGlaapr5qw1iOlwhTbcG8tTO/5a1MEGjoyqvwbQR7XxDtc+/ouFTShephhZYjqyUJImuCbnc6WF9fRxSFmJiYNCBlB2TaS13wabPZxJmzZ7HVNpUeqOyNMYcyKJUiz1P0el0oraCRA8IkPKdpilqS4N79+y5BeXt7G6dOnUKva1JmtK0qSkndQRg6zUdKiUfLy2i329Z8m0RmQZkKDRLATE5M4plnnsHy8iMsLi7YgH5PlitlxgtptKOQ4Vr7ShbcI1gFViQE9lmW4erVq9je3h65axy+SUicJA7WW+Vm3ZGvg2rGY7Rw9l2kavYZy2hCg4z6QyCl02AoRIBv6waK+cKXbWKaSVVsHjfbQ8s/xTa3MLDm49rqKmampxGFBiCSJEFqubJG3kCr1UK9Wcf8wjzef/99bLfb3kMM6tMSSmnkeRe1Wg0mCdlsEscxNjc3kaYp3nzzTZw9exZ/9md/htXVVVcdotw2QRCYdghMQOjC/DxWVlYgrYMhDM2CGipXAEyeYhRFthTPIu7cuYM0zRxfq3VuX34Mmgh40Xdu0/b+e7ewBeCAEYDTJpnPoXCcLMvQS3u4c+cuHj58iImJiZH6xuEDFon1JpDS92GASyllvEashtFuItCfp7Vf2W/g6pMkuz2XAq8ShgiDwCxXRWa+1ZbyLHMaRZ7n5pnb/angX7moHY8LAuA0rFwpkw9nta2JyUksLC5iZuYEGrWGMylJk8nzHNvtbdy8dRP3H9zDxsaGyx/kLn3AXKcQvF9rx11BCDz78Y+j0WxicWkJrVYTtz/4wGlzBYC2Cd5JkiC04LS0uAgpJTY2NiCDALVazcSRNZo2SFRhc3MDN65fx/LKCjqdjuG+MmN2ujUbtTZVJ0QA75f31UXL5nalQ0BQ+Rmf6kbbc6F4rHa7jXfeeRfPP//8SP3m8AHroMe1JQ4Lhy+FQlSdnkIWjGkhHoelejhCHeVxx1nt4zyDOj0R6BrGdAukRBhFiCyYkFZkzJ7czfLKamVl00QzEKPPJPz8RJbXajUopTA3N4ef//zn6HZ3EIYhttpbjlg3XrGeceV3ttGz5DMtMQbAcUJ5rpBlOaI4suczLw0DQFdefhlf+tKXAG0KBr788hXcuHGTaTTFkJLUOgIoqXvmxAksLi7i8qVLWFxcxPr6esHUcxpNt2sj+HfQ7XYgoJBmGbTKIYS0rlltrkwDWgEyMOPBXLHwQASAwhOlrZFFVSeEFsjttZo2KEXpw2vR3W4XV39yFd/61jdHKjdz+IDF+utumtAwS83FvFivUGE2AAYGcLr4Ku2PQ6DVd4Hl8w0+7JGRcuxUVSzV4zrmblpmlRdVCOG0E6dd2YVAqSqoEAIKcCvGcFKav0oX0wdW7KTuN+KCpM3RO336NG7fvo3PvPYa0izF+voa0iwzsV/W85bnOTJbp4vCJtJez0a3CwAKBrskoAUgJCgZKMtzLC0t4bvf/a5rv42NDbTbbTQaDeR57r43xH+Ora0tAKZ8i5ISZ8+exS9+8Qusra1hanoa2w8eGCCyxD45HHK7gOzOTge5st69NLW5sj4zRBhEAaBNhoEw+ZYBf75WB5BCQAtTADGQAXSufCI06wPFuEbf5r1eD+/99Kfo9XomD3IXOXzA0qZkq5EPpwXQAOAk7EHIMPOlCkQdhzKWoTKoXTOrKYVBYGLq3GotrO45EbuDAKokg7YrpLwIgeVHj3Dy5ElQZPjs7Cy01viXf/kXnDl92hDlFqiykscszzLnJeN9kXg1CmaVSiGHJbeFwN27d5HUaoitZ7LdbiO2+YN5nrvrA4BAa3R7PayurODM2bOQSiOJY5x/5hlcu37d5ArWasizDKn1DJKGRWYYaYNZZjUrN/60C89gDWS0XIofKz03PlntNZSHzPaHDx7i7t17eP75i7vuc/heQjbiy3byfqQQcb3H45Cau7edROG6nab3uE2wj6horV2pYwpjoMj2MIogbBxTRvFGlrci0p1zVGRyue9K2hUt6kD9RUqJrXYb8/Pzbh8hBCYnJzE1NYX5hQUsLS6aMs0EUjbuq2sBjAj7gJmvsKAYBAGyNEVmgYQ4tiiKkKUpVldW0O3uoGbBy3vbjLmr7PbQGnfu3jVpO8IEsYZRhJMnT6Lb62F5eRk75RI3WrP4NCLQbd5gYBeDtYAVhhGCwJib/BmExCXaiaQqhGQv3K15JhqdnQ6uXbs20j6Hr2ENkMKNjzD2eQTtfu00YWfAvu+d3S4qrqWYpmLfPJGkOwVK7jdNRwjhBjPFAoU23ipJEsdxuMHOOCvHVVE/AAtSHBAzROfkf6UwpVlqSYLWxIQ7ZhRFaLVa2NraQmdjwwUZc76MNBBBeY6wOYeZWd5eSGnoCu2XmXcWgZTGg8iqTlT1p9wmg6s8x82bN/Hcs88a0LRBto1GAzudjikmaMN6yDnhlxEDhJAQwreHuQdhU6AoydpXxnDLmilVCUyqon09oFWHcGutkeUZOp0O3nnnHfz2b//WrjzWoWtYg8c1eQ3htJ7dIMAFzLHvRh042mxc+RtxWu4v+w+i+NKl8z9p4pwY+wBtN1AB5zyh2CtOtpcJfgKPYWererKC7e+u35p212/cwMrKCnrWM0gckKteCu9HIy2Nax1CSpOQbTWTyPJwXOMptI/WjoPlbce3UdoUL6T772xv4+atW0h7vcL6hYW69vBBt5wDNHFWAaQMQGEWAJDENQtm0t1rIV6NNEe6V9ZuRevI0vSifwzyT1mWIe2leOfqO65u/jA5dA1rMJ6Ivt9GDY/aD4dFnX7Qj7zygxDC1QenRFgS3tEOMq7sSRHSWGhQUPwVgQE3k8x7VRisbrCXn2VfZ/KmjBbCaXUkWincvXMHU1NTqNfrzpxC6ZkW6AelDDFtwTaw0fe0gEbh+FoDyqx+45LLwYCXAAC+L5X9bUII9Lpd3L9/H/VGwy9MQaajMOsZaDJL7XUKCASBBPciUrxYHMcQNqxBMpOQnB7g/fsA+jbxdPMLC1haWnIlfQbJoQPW8El4fw3iZk7Wyfd/MSVOTQPdXhdpmiKKYiT1hvMKxWxBgzFM7V2UNhkKgrQrG9EdhKFZu89yOeSlMyDCS5h4wKL8QYps73u22nsMFVBY0ov/XVtfxxbzHHKNSpBWBNvnWK0u2lZSPJnVVIqX4IHIaSql8zuvKJssAaY12TCL9tYWC9pk+0ppgNFqhUoIkCVoTEYFyvlzwdbCaEfScnFxkiC2UfVamVCIwLbxYKuE/u4+/pRSWF9fx80bN3HhwoWh2x66SVi+391MibLmRJ8LhDf9hv5k0UEyiHcpf6OUwtLiEm7fvo07d+4g76XIeimWFpdMx9A+XkWSGTngdVyEA0FZm+wzX0oazl5MQ9o2sIGcFBgZhqEzmSgQlACpHAxKK8mUqYHdrsH9zsx64uSojlTPEtkk1PfI20dVQojv4e8JCMo5j9ryT3meew7OHps0Jqdt8T5T+uz4OhYSQuOBzEFpyXOjQdFS9QIG5wSiKIHxGvrxRBoWmbauiCIzFem98+CKoikoRL+1xEUpU9Ps2rXruz6nQ9ew9iTWxh/2feEhYo9Ov4pW7ev0Anjqqadw7mPnsL6+jq4t1SGlrQ1upy9pzcVhsHScuK6CKVL1u2bLewGFpb9GPwkbnBa0YorBEj6/sHxNNFD7THMGmlXOFE5ql++N12OnganZtmWyvgpMQps+wxelEFJCaO0Wsihclba17vc1AAAgAElEQVT/2P2zNHXeUHd+dp1BEHiAZbmXfRxuBdeU594czHNTpoYqjgIoeDrJS0jtwXk6ISUEA0ghJaRWUCDAMzmVRL7zx0BtluUZsjTD+9fe35VGOXTAGtVaG+1YtjPZA/OE0d1EAAO2LWoR5AkKgxACpla2pNpbFC2Pik48ll2FwhNoFqdUHF4vvBDVXuGx4lqf44TULsu90fNlWlBuzUkpJcKSNkPmHypSv0iziqIISa2GXq9narLDaxpamWubn5+HtP2IE+Sm6qfE6tqaWXcxDBHZyHYuVCOs1+shLw2kQZpKmd+lPh/bsjq0F9WVI4cBEfZSFsMZ2IHNd5rugsdk8fGgvRONLEpt0oNu3bqNdrs9NK/w0AHrIMc0NShXl/eCh6ZpKy6oTH+wEiGccxhwwLGMKC4dxw6W2KbjkBbBs/x5HJYDKGsOOi6nFAk/qkjrWs9sWICA50O5ED/EPwfWlE2ShKX4nLErzBgnQZ5m6HUznJo7ZVawtg4mDVNzPqkl2Ol00Gy0UG/UbeJyDTLggGWKElJydFcpF8ZQBc5EuJPJnRPPFgRoUtyXzWvk3k5aqJZrkpL9Ri/SYqm+l8msFtDa79cf9kB3otFLTfzYwwcPMfHCEQasg9CwnO1s/+Z57macPZHudLDyNVbAnou9EWwm0d5s/Ch7Cculk0kK/E7pMxy3Mbg9UuaF41wPHbscb8WBCiCLqqRpVFxflRnHucUgCBDVakiSxFcgYOYuAMejBbaeOUlky7689OKLmDs5B2iBIAhtUT0f/KmVyTE0AZvmQk1KmbYJzwEAX21ESMM5JXFs+5dCmvYAAI+WH+HWrZumQB8Dd+75LGtWtERaz4ZEUJE/Z+px/ssew90ne45lPpnUJsG0LP77oLGotcmjvH//Pp5/YXAi9KED1uMQFysziPMaWSx5yL4pg1CaZo6oHDnu4gmQvYI1B3jiTwxBLBy35bYzb1xTVwUt7lnsYArDEI1GA7Ozs3jqqaewtLiINMswMzONxcVFtNttVzvKaHImSjwIQkxPTeHyJy/jm299A2984VeRJInXIjTxN9pbTX2OS8fKse/Y78V/3PadTgff/4f/hb/667/BzRs3sd3pWK1HkTfJkucmP/LC+fP4yld+E6+8cgXf//4/4K/++ntYW10t8IQCvt9z/o8DuxQCiv0FcX1CAJCQUkPrYQpD0VxM0wx3790b2nc+koBFHhfwGJ09iQC0XaCuQtI0RRRGaDQauHbtBuI4xqnTpwo81lhGE058c+9WyOKYyNxw/JXll/jn/gOPfg10zigMMTU1hbm5OURxjGvXrkEAmJubw3/5z/8JOzs7eP/993Hjxg0sLCyis9NBvV7Hx86dw8WLn8DlS5dx/vwzfTWsHrdMTLTw7//d7+Gtt97EtWvX8N57P8PNmzcwv7CIXq+LKIxw5uwZPPfss7h06SU8f/EiGg2zgOrLn/okPvXJT+JP/vS/4d69+9ja2nKapIsDI56QReFXer2tQ4HCIgjMtRYwwamqpGUVQSlXOW7evHXUAWsPPatkYgxSMYMgQL1Wc1zE7octT2NcBIrzDbC8vIKTc3NIkgSfuPgJSGHSKjTV2+C7DpMPYS3u2QfHp/VdNJ8PY8pWes1GuTx2XueGtwPE8VPKlyam1BxHujMtzFwABnatwv1ZzSCQEs1mEydPnYLWGouLi24bpXLUkgQvvvA8rrz8qT5OzHGnhyhCCDQbDbxy5QquvPxywWQeFk4ThiG++tXfhFIKf/wnf4o7d++g1+1VxoXZExV7HjP1udOLnAxkFkopoXJLl4AdnIFblmW488EHSNN04IrQRwCwSkQm4yy4OJ5Ce/f5IFVT2VK2e0EE783g2esAtG1QIg+lWVlHytBwCixYlK7fpfHsMmh/mfyWub/RJgcXnrDH69svWAH9/JL94EJTNIo5hJRTx6/X9QnyKHKea4AXTcDwTvVaDSdmZ1Gr1fDg/n3PWUkNCF85c5Tnetiy12uUUuLLX/51vP3221h5tIQtlZuAXMttpVmGMM8dGU8AxUMa+HmFEBDaKAvFsUBVKxSLSaGtJLQWWFlZw9ZWeyBgHXrg6H5Jn4EPRJsVUGoDbrh6l6prKGpV/ttqgK367UmTQgBp9QaD92VxRFUeOSLdC9UZmCmo0R/gamiB4f1LWG9kvdHA9PS0qRrK9jkIp9BxkCRJ8Gu/9kXESey9ghawqGwON9nLhkT/eBy94biSsrXVxsb6+sBtDx2wRpsJKjw/JQ1As1k1swtj8lVX9nhVGARYWpuiY8u28H97q43t9rYtb/KE9O4hMgi09BBtR1iyl7vM3bPVxQjuymNa8NrPkCGCnxYubbfbu17vR1U+9alPYtIuysqHpZsI7GfSsgAf8sE9iHsRMhc1zIS0vb2Njc3NgdsfAZNwlHsU/Z9EtabjCNsRl/jitnpVNHVZlFKYmprC/Qf3EUexsc2VwtmzZzExOWFCG4QftEfdfPili3V787bhoQnEkXDQ0rY8ilsOqqxJcY1o2KmhC1qwsGCVxDHq9Tq2t7fNJPeEPrOpqWl85tOfxsOHD1079bW9FTelk5fQmod+A1HYFuBhDT5Vx4Ww2K12dnbw6NGjgdd4JABrPxPYsJlPA2YxSu3rMw0WAW0TQKuPW9S0hBCYmp5Ca6LlGpmK+lMcloCPy3rCrcShwtuZ8v98HE+Jm4LlsFgZ4sp8Qp4IrYqF/exZHRBKO7kltRpqSYLFxcUnFqwAIIpCvPHGF/CDH/wQaZohTzMorX1757l3ZBGRrjXzDDKTnqqu2mNLIaApqBTeVC87zvI8x/LyysBrPHSTcJD0EYcVGpWbgVF0j5OaOhoO9q/w0X8tRTtbColABq7mkJQSvV5vqOmgK17HXRQnttn33CwcNLEUAkCJjyJCF2BVAzx/5Uj3igh23qZ931edH17DqtVqZsVlRiGQk8Lh6IdrqmMjr776Ks6eO4s49supufZnnljONXJOqzLkgW8nilHyBaCzYUHra2sDr+/IAhbJSJ4n1kGrAt+GiY8IGba1MP9LARnIgVzVMI3voyhc+3F/2W/lbdkH/8wY98jNDAIupbVbGQf8+Pu4Vi5SCMR2rb6JVgvb29uulrwHXDrTR/UJ9svMiRm88soVTLQmXOAuT4kaOClXeCadac/+Go7SmIDlMUdtv3YcAMt1+iH8hGuUIeDl9qHYkA99ZcKhP/2X9lLcvXfXDaIgCAqFx1wXF/6aKwPt9iiD2qfqxd0Gfa89HGegdsR5I6ZR8cmjfIwyqA3WaH37cK1KWa9f1fH5uQugWbpWN8NbnrNWr6PRaBiyvfJ+R536PhoShiFef/11XwPLmmxUiz5nzo0y18i9hVV93IdEDNDE7Kvd3h4IjEcGsEYhskYd5IbvyJ1rdi8yDEy0rdyglMLm5ia2trYghEAcx2i2ipUStYCr9DjwtRepsimHvXY9nh7+2qNwMNKwnqXS7wBGCjUAiiZ4+Rx937O/hYkPg5uCajyZgF+gbZfO6n/2BrCeHMgCLl++hI+dO4dakhjnFWxdeMogAQcf4ethlUw/LmVQGzhZQWC7s+3WdCzL0QGsAxDeCNNT00hqtdGBQVQvQNG/nfkzNzeHtbU1KJtuMKxLH3fuamQXf4Xm1RcbNUiLo23Z+QZpVbtcbOGYXJxmQCVg4hjNZhPr6+vOCzaqlvlRlpmZGbz6mVdRr9dN8UTYZ8lM8zLocC6rD4wGaF2DrI5er4dBI+VIANZuZt5eJY4izM3NwRDkox1XwA6GXTaXNtE5kAFOnDiBpcWlkdIyqkDruALYXmW3+yyQ9gyYeHVRWk2HbzNQU6sCK9bHqM5Twy45v8FWSq7aVz9BpDtgzMLPv/466o1GYeEMx2PZ7TwnxbQsIuDLQMSBCv0gBWG13tivx1glRwKwRi2yN4pIKXHKLni5n+PupvzTbCuEQLPZdObhsN0ETEPTq7zp49DAtNL+tU8N4aC1DcXAqIpz47/Re57gXFm7vVTAr0rczM8+x1a7yrIMO93u7hf/JCEWgIsXL+LjH7+Ami0cqLVdQZqR7xroAyVXhZQ5TgrEuxB9uokQwiw2YldHytKs4LHlcjQAC3unNasGj9YaYRig1WoVjn3Q4jkSjdnZWayurvZdC3f1DjyOAKUoPl45QoOt6lIIqB3Rrs1iFHwpeLctJ9f3CZ7CJlfXGw2srKwgTdOKiyof+wg14i9BpqYm8dnXXkOz2UQcRQCMYsG9hbzrFgh3+55XJ3VA5l6U5E4rI8UIwgAqNxVnj7SGtVcRwEBzQNvkWAAu2/9AzimEMwcXFhZw6/Yt/OLnv8AHH3yAnW4X250ORCBdrvRIx9SAOILjQGsfG8Vfe9p/D4BC56O64nmeu1VxKFh04PlHMPn57E6LKtTrdQBwLvQ+eGJtYPrak0S7m/Z6/XP/BidmZmytdzOR5DbxnIoa7tb+Za9h+UXxjJSFUK/XISCqSwbhyES6Hwyx6fCdVNARuCVuipSdikat7d9nZmYGURzhxMwJV/87SuI+l+9HrY+74M6S7CVEg0yJArdon7+0UeeNRsNU1oThTaj6hjNF2EOijl9FsldJYE2PWq2GnU4HHVvsjl8fPzZp0k+ahgUA588/g8uXL+HuvXvGVLPPQpXi1arEPRfBVv+x31NJaAFT3ZWeB1/he9CxjwRgAQfUHQrE3oh4YVFK21nUrTYtqu01IQRaEy3Umg0TWAcgYsehfZVAKXNtdHFtMcC1ux/RB3AsIc099umt3DMoiuZdlakMFKtY0vZm0jCduNlqYWpyErnlCDc2NrynSvsaT3x5+uIl6cL5nIYlTDpOq9XC+traULCl6wF3CjxBEscx3vjC5/HDH/xvtDdhgFvnUHmKPAsgwqhvH6c9lR0jwqdZhWGAKAgRhAHCwK6KHRrgCsMIQehX7ynLEQAs35H2Vx20fLi9B2a6wYKitmCO06+lhUGIIBLO5Q6gf3bX9M9HR80i0FOyqK5L3kb2lt1gLx+j6hkTgUsvAn8hEEURpqemMDkxge1OB9vb29ja3DQmOEx80LDZXgAFDUoIgcTO5uvr64UFVIEB9erFwVELx01effUVXLhwAcvLy+YLbbReKTPAakhciK/iJjwt2Var1dwakwErK85NwyiKEEfJQM/7EQAsFoRW8VvfDD1omSGU7GT2eZBhqKy/2jRyUW2lhE4pTX6TLulL5QBIxfu3gNl/F7wqm6x79WoeWnxQ6TLLAGaUVa/Z7Cr8udnnq2EGRmgHhFIKgZSo12oIggC1et2Q8t0uur0e0l7PR2KXtCp3LTAm4dzcHLbbbaOplWpqFe7D3sxeJ8CPkkxOTuG3vvpV/PxnP0d3p2vXMgRSkRZiF4lzUnnuJhpqbzcpWK+usUaK2i/lFpJZGEXV0HTogCUEI8eFGHEQagtwBkzohrXWhcUe3QmGHtOgihTWewGvHRita0BHHeREEhW/PQapbCdxcOEhQ88NWWwXXfhDQW3uu1EHO0+IdSELdol64r4opEHAxFMltRqiOHaLjlJF0jRNXZWBzK7GE0URTp86hdOnT+Nf//Vfd70eepT1Wg01S9I/aSIE8LnXfwU/+OGrePvtt7G5sQkhpCPgA5tv6DyCtZrfWftYOn88wawPOCcILdYaRTEmJycd0V+WQwcsoEhQ00AYpuZrbf4RUkAo4dZC40DjVlIZUQsxg0WYlACG/Bosnklob/5IC5iFOCANoYXFSL2rQThMo6JBOQzA3W/CksKsIxy88Dvxz0aUJxlnzXlOSpfM7CqRNvKcYnG01sizzJmHVKHBVWtgnkhyBhjTwkw6MpCF9A4hBJI4xtlz5/Do0aOBXigutPcnnnsOM9PTozbUR07OnDmD1z7zGdy9cw9JvGI0WW0WmSXAKmQiuLAfI47PNBsYM5BcZLaggJQU3hBhbm62z9QkORKAZbs+hOCpGVUrobBcMjCVX0oEgCvhqpVyVkt5Caiq+CgaWFJIaOQGr7imJOhBePNnABUDN4FAjBxlvx8p0MC2E/TZagd8Rh8Fo2z7lLRZ+AiAopbKL7XghnVvPX8RIbTR1VQ9gbbjKTfcb8cHhgNHXQTTQEo0mk20Wi3cuH7dkftSGp6StLsgkBBCIrTxQdMzM/jd3/udX/pKOEdJwjDEZz/7Gv7xH/8v1tc3jLdWaeRQEEoNBJeydUNWFABnapsl+ax2FUeIkwSnTs0NnNgOHbBMpwGyLIW2hb3yAQmyGt61TjYygZZSyhD3SqGXpgikxM7ODpIk6dd0eGNoQOe5U03NANGQAo5Uz9LMt5Qys4MagEW5HaChlJBCQpWBpeoa3M/Vni6/jxmm3qNZ2BiPPair75kMeEb2vSiBWTEVw5sRRLA2Gg0kbEl2ledWkzafiWAvrO5sAcxptaXZHTDaWxzHOHHiBL74xhfwrW++idhqc3EcIY5MHfPIvg8jsyYipe/Mzs5+2JY79vLcJ57F5cuXsLi4hOXlDFIDCkbj5c+1OHl5rats7QgpnJIghEAQBojCCK1WCx976tzA6zh0wGq1Wjh77ixu3LxltSFlFQbGgdhtNTSUMoOgWa+b2VHDc1fWfMvSFDKO0W5voVZLAAi7wq5Rm1TOQhesGUd2tNYKUgPacmFaA1vtLbSaLZPoDFa2xkZ+Ch0UKCwAfiFL+FQEVwCNa3klD5n9qkI8d2M0B67N2Ybaqy+Lm61+4rPnYgd21qaP8Hf9z3FVfjsfDaIL4RTTU1N466038Suf+xxqiVkhOY4TxHGE6zdu4i//8n8iCiPkKvfgpOzzgA/k5IGkDtSdulVsPCFM3as4SfDiiy/gd7/9bzEz8+Sad/uVJEnwpS99Ee+99zNsbmwhy42XUGvjHAmCwFoocP3E/R0iPJg3CAPMzk7j9OlTA7c/dMCKoghvvfUm3n33PaytrkFDAEJD07Jabkuj7UiYhphoNTE1MYHNrU1QaARgGiDt7aBRT6CVRrfTQRiFUAQ0WiNXudsWAKAl4iTG9PQU1tZXoZV0ZD60wPKjZVO/PSj7G40pFigDfLkUCKQBoyiOUK/XsdPZcYNJkq1J5qYGhJB+sNPg554rBwh55cN3OXZKQ+myt440EQtAGlCa4pZouXX/GUxLoX38hNnPLbqYKuVLTA+TtdVlfO9vvocXnn8Bp06fQhiYhUvPnD6Fp59+Gv/0f/4JGxub2NnZgcq6zrzP4TWrjJZ6Z9eitS/yRyWRSaQdECdOnMBvffUrmJ6e2vU6x1ItL116EZcuvYSFhUXs9LpQKrf9FsihoUS53w6wLkpCoBXHEZ5+5mNDJ5RDByzAxHr84R/+R7zzznsmihZVZDMj9WBuMs9zk3istVvaPLKRzDIIsLGxAWiNMIoKqpo/BlDQbbRGZ6eD3JqIxmthzIRms4mtdruUlCkAhJCiA6FC9KCRWfd6mqbodHbwne/8ORYWFhygePWY7kp7wHEmTzGh11ymdtfoeB0yn3krsfYpJgb7BvBqu9cLy85UahvSuIr3bK9cF70/nqMoEvSA4UFqtRq6vRR/9Ef/1XFGlIQ8PT1lOKZmC2mauusvJD4LFEh3ek8R8GWwEoCLpH7tM5/G65/7lSc2POEgJEkSfOUrX8Z77/3MrErV3WGOj5JHXbA1Elg/LFAEVong3sFPf/rTrqRNlRwJwJJS4uLFi7h48eJhX8pIQg8pz3K02x0sLT/AnQ8e4L33foaf/OQqHj58aLRFrbHd3ka9VvdAZE1a7ikBigQxOQ/YGaFR8oxZbq3b6xng0N4sE9IE4mW5L8liwpGkOxc/r4uDESYZlX9HbmiKVeNhB6QoElA5TkIWg3fpe9MRi4GalOC8vrGOqckpXHnlCtrtNgKbAJuzNBBXRE6biHe3yAQrO+Oj0412FcgA586exbd/51toNhsH3BOePHnxpefxxhu/ioXFRfSyFJnKWP/jUtS2+idgMwZ4bucnnnsOzz8/HAOOBGAdtgxKHzGztoZSObrdLtbWNrC0tIQPPvgAt27exvvXruHm9dtYePQQG2vrboaXQjotoDD4lYAWJa9a/5MunV8hy2kxywy5Krr1jWPA70eDlXg6IrA5we2ABKKP/OQoVAhdsHwUX0xTCmm2A+mpFogZL+H+2m0B6QGwpO10u11sbGxgamoKaZqi2+u6e3Sr5GhfSM4tqOrMZntP1I5SoFGv4+tf+zo+du4pbG22EcWR9QT68x/2MvPHScIwxDe+8TX84v338aN//me0M1/4kP+FKH0u8guG/mX9ZHb2BH7jy7+OGo/jqjr/Ad/PY5VRI7v74kJGPG6WZej1UrTbbWxubmJ+fgH37t3D9Ws3cOPGDdy9dw+PHj1CZ9ss6yWEKGpNQF/EPB2fv6rOTwOTaxVK68KquxqGj+IiRXFRDGdu0hi0P/lIZOVAhQNWGUDodwgwsLG/MWDi25f3425rOk8YGO8cBfqWAwRv3riJK1euoNVqodvtIs9yD1raTB4FsGJBpfbiABhTMEkSXLp0GUlcw9/97d8DMAMuCCRkIBAEEhOTLXz2s6+hXq8XwHws/UIT8MyJGfzBH/wHrG2s4erVd6F28kKNMrOxz/EscIp2DUJh+1UURZiZmcGXf+PX8dJLL+56DUKPigKHKHsBH77PIHDIc4Vet4v2dgcb6xtYXlnB8vIyVpbX8HD+AeYfzuP27Q+wsLCItbVVdLs9y/Eo5MrwW9y044R5gSdzHjfPH5VdvTQY0yyFyv1S7ORh67uPQugC95B5Por/GSR96SvwAFPmGbz5Wi4P4u+VA7YPXfC8WCADSPuCMNUpgzBAEBgACQKTwpEkCVrNJp597jlsrK9jeWUZaZoiy3LkeQZlPYg5KyJXKNtrLgITExM4efIkkiRBo96wPEmIZqOJZquByYkWZmdnceHCeVy69BImJiaQJHH//YvB2RdHBdx4zNt+9t3L9/y3//fjq/jjP/nvuHX7Fjodu/o5jQVtHDEunMFwEqDg3kCY9KpTp07im2+9id///W+7kj/D5MgDliNTB2gofMAZMhrQymhLaS9FZ6eL7k4Xm5ttrK9vYnNzHZubbWysb6C9vY1Op4OtrU0sL6/g/v37WFiYx9raqq8nzq4DUC60gc7teKeyl0zDaURKaUeQO3PGebV0wczrHwQ+xKB47yUvTHXruXMD8JUgQYOtCHLOCWH/8vskwOKAKOjl9iHTjAGWgu2o1gxzHJYJJVF2AqDfg8CkSE1OTOLy5UsQUmJjfR3b29vopT0oy8tllsPi3kIicKenZvDyKy/j/PmnEccx6rUa6vU6kiRBvV5HrVZDo1FHs9FAq9VCq9lEvV5DZFfyNiEw1DT9gcZVmiW9ryKXD1oGTcS7febf+YkT8A4t/p5ty/7haxNqDbx/7Tq+8+d/gR9fvYrtdhu5yu1Em7t8Wweotv9FUYRmrYmzZ8/gzTe/hre+8XU0Go1iwb8KygA44oDF+Qsa4MSdpFmG7s4OVK7R2eki7eXodLax2d5Cr9tDu93BdnsHvV6Kbm8HWgHdbg9ZliJNe8hVhu5OF6urq/jpT3+KBw8fuCC4LO057x2R2UVvW/HBl2c3pRXy3JCR2gFSbs29zAEVDzkgL11V2ABpacWVRIZ3UPquqJ2VyXYAENClY1GgprA5gxJEpFtgcWaktMfQ1jnI+Dr7IpNQCqNFBWHgM/PjGFFoopylzSVL4hhRHKGW1NBsNHHy1ClsbGzgwYOH2NraMGvkpSlSqvGuTQiMkCY05Zmnn8bnP/85XLhwHlEUIghDRGHkPL5RFNlg0ch9jihQNCAtULqmEtbrKWwqFrWZILO6MAEMNpPL4hwXpd+GaUtVlkbxO836ULU2T32J9zXN9gM/DtfyURyPfkLXWFlZw9/+3d/jn370I6ytriG3uZxZlrooeK0BLYAkrmFicgIvvfAC3vrG1/DqK68gjkOXS0i8Zxm8XLsdVcCiy6JFHHu9HhYXl/A//uIvMT8/j3pSQ73exLvvvGu0qF6KXppaDgkIwoAO5AYRHU9DI027WFvdwObmJiO+6ZyZq/2k7TGKg7rcObjtbuOFstSpyMqpxzaC37HUZvUWriHAaj5SsIcmhf0sHGC4BSmlUbFpoHGi26S7mEEbBsb8iiJbf8j+jUJTi0gEgVmcIQic+eaSUoPQvjelhQNbYljK0KezuHNKN/CDwIKVLYVLXkjyJLqVs0sds8z5ZVmO5ZVV3L17F/ML89jY3DQrqygNKSUadRMW8fHnnsWzF86jNdFyJmDI7tEAV4AwCEzdJZt+4+/HtLHzdEIUF1fg12k5GNO3itdPQcrlAdcPXH5CGmUs8LapaifiPbWyAMMtE6ttF7ZlHlilCLg020/Zfez6kNpzrJRk7hPOFR7Oz+Pdd3+G6zdvYm1l1dfKF4AMAkxOTOD80+dx5eVP4tKlFzA9PYVaUkOtliBJEv/MKoDLtdhxAaxOp4P19Q38+Mc/wcL8PLLMkMcrq2s2AtqkCmhPF7kZWGkzG6Sp9bZZbSfLlDu+ypXVhDTyPIXScOabi5OCf5CcmxKkHgHOhAiCwC4nFTiNI5DS8jaBHdQeWIjD8aBgB3zgB757iIHPfXM5cDIofF/+zAdj3wxmNQo+OCWtzstJeVkeuNZ8Et7LSIGaZa5LgDiMMi/mnzVlOuS5fy5ZlqGX9tDrpeh0OlhbX8fa+jq2O9vQWY4wCNCoN9FoNtBsNmy6TYLYRdIbwJLUlrZdAt52HDil936SqerzDUv3TisoBf3cnjOBh4LWMLORg5T/PBywaHI0YOUzRxgoEQgp5T7Tb8q9V2x7+qy8s4NAizmJ8sw/r612G48eLWNlddWu3SlRr9cwe+IEzp45g6npKTTrdTRbTTQbDdRqxkyP4hBxFCIMo0K/5e12ZAGLhACDgjHT1Ghb9D5NU2S5aag895Hb3PXOZx+49/1mmTHhfDS4f4e+UnIAAAL5SURBVOilF0WmV4QkAHCg5cwJ14nZLFwCC17eRvAZnvaT1kQj4CDzxA40FM5BBef6z03Xxa/NXrI/lrsN0vj87/6+Sp+FcPW/CsfWBUu01E6wz8N8dFoA0QAqtxNJcWbPbYQ+GD8H1m4OkO0kUQQZ1n7Se6ucOdv3Ozd/zf3KkklcBqZKU2aAljWI69qNpyqbh1XaVrHP835d3sZ/7/q7AzMUt2HjhoeaaPucyJpQuednBUxFhiiwCc5xjDjyuZzeLI8Qht5a4JaRa6+jDliAfxjcdjazsAGpzHJDfEkrIcxy5G7GtykzmvFFgC/iVyYe+0GJ7Hq3UWWnKopw56IB7ylpz4fQ9Xqymx9CgG3mwcC+1+hPMKbNneVZOUj4PuXf/PsqEnnQ+8L1VgpdVbXsZu4Ql+LbH4VBRfvRqYpXItx9CnoOBeAta0J+Ww/AxUkH6K9mOuzvwFap+L3ct6p4rarPg3gu3lbeOuinNJRiNEjl8Yqclv+ajRnaB4a44mYzAZGzHJilwX8vt7Nrh+MAWCSFWYElxyqn3npCnG6eIrhp5ifta7fbHvb7QTXZqB3ZAV7F74772uXY5XsedG7+fdWxB51v2LlHlUEDcthAHfR+FBkGvLu16Shtvtv3ByF8QhkF0Eb5zAHL/+Z+6b8Gv4Hb1isF/RVbnfXDzL1hIMXlWAEWSdVMbN4DfOYcZYYbtTMN6xj7lapjPa7O7cGvXL+q+vyD7vFxDr4qqQLZX1aXPWpt8WGl6j6q7nEU8NuPlCfYYRPuwGMcR8ACDr7THrfON5axPIlyrFJzuIwBZixjefJknPU5lrGM5djIGLDGMpaxHBsZA9ZYxjKWYyNjwBrLWMZybGQMWGMZy1iOjYwBayxjGcuxkTFgjWUsYzk2MgassYxlLMdGxoA1lrGM5djIGLDGMpaxHBsZA9ZYxjKWYyNjwBrLWMZybGQMWGMZy1iOjYwBayxjGcuxkTFgjWUsYzk2MgassYxlLMdGxoA1lrGM5djI/wc8h3kwczFdegAAAABJRU5ErkJggg==",
+               leerFotoBase64("precarga/ps4.png"),
               null
             );
 
@@ -48,7 +59,7 @@ public class LoadDataBase {
             "Vendo ps3",
               100000,
                3,
-               "iVBORw0KGgoAAAANSUhEUgAAAOEAAADhCAIAAACx0UUtAAAQAElEQVR4nOy9B7wdZZk//s7M6eX2kpveC2kEEkpoAoJSLagoi/uzK21Xdv/o4vpDV1SKoK67iF1XxPLTFVFAbCgISAs1hJCQkHZTbr+n13n/3/d9Zua8Z86cm9yYkJtwHvI5zJ0zZ+p3nvJ9nvd5fZxz1pCGTGDxsYY0ZGJLA6MNmejSwGhDJro0MNqQiS4NjDZkoksDow2Z6NLAaEMmujQw2pCJLg2MNmSiSwOjDZno0sBoQya6NDDakIkuDYw2ZKJLA6MNmejSwGhDJro0MNqQiS4NjDZkoksDow2Z6NLAaEMmujQw2pCJLg2MNmSiSwOjDZno0sBoQya6NDDakIkuDYw2ZKJLA6MNmejSwGhDJro0MNqQiS4NjDZkoksDow2Z6PI6xKhZWeQ609ghEpyGzhqyD/J6w6jJuI1RL3SmUplQKGT4fIVCCX/6fD6zXNZ1nXGNadzQNfErzjLZXCQcwnK5xArFPLBu+DRD93Fm+nx63UN7/9lA6l5Ee531yCWM8iqEagIlwGLZNP3+YC6X8wdCgGU2mw+Hg5lUHhj1CdFMk2EjTdMMQ8MGuVwJEouFaDfFIhfrjfqH9l5uuFt7kdcnRm3RKjosny+apsm5Fo4IzJVKAosPPfTQXXfdnc1mZ8+efd555y1bdpTYhck0DQguRCIB+m2hIDb2+wXuNbqdmtehvZcbGN2LvN4wyiowFTBS7ayeK+SDgWCxWE4mk36//3vf+963vvWtbKEIFYqvOzo6zjzzzIsvvvioRfPpB/lCGXcvFLRAZnJmOHvU6hzavaA3bP1e5XWJUUeUmAnQ9PmNPXsGY81NGzduvOyyy5555plVq1aVyubQ0FAgEIjH4729vSMjI295y1s+/vGPz5kzJxYNMoFUUyJV2PhcthQN+zTnju5Fm5I0MLoXeX1j1MYH3YKRZAom/rvf/e5Xv/rVYDA4adIkOAOpbCYAVakbxXKJl018JkZGB4eHPvzBD73x7LNOOenkSDig2R4uFHRAZ2NilNXAtIHRvcjrEKNV4lw8bsMzz6/93H9c/5eHHuzu7m5tbYV7OjA85A8GAsFgKBjkMq4qIcyH76nr27ZujcXjp5166qXvfe8Jxx+PNeVSKRr0G/sEugpMtQZG9yavX4yqlw3I3Pb1b37y364tFArHHXfcwMAA031dXV39gwNQouWyCKcQ3cNJxScIAITz+IQD0NfXh42PP/74q6666uyzz46Eg8F9VYwWTBsY3ascsRgFhQR9Bxjhkwk1ya0F+S1i80IZTJNeKvHt27d/8YYbf/e73/mDYYhhGNgYsbshRDPlLzQp6gLwCt8ULgH8VCB1cHAQzus73n7RP1z8LhBQiPG1GkOPoEqXK8tmGaeHcwv6/Icsh3D4yJGsR6EUJSXkZxKyUIGARTKVicQizjZ/fODB6677zBOP/W3arLnYQMDSjzheINuU4gvg56ZmC5MwZRL0+XweC4Ap1qTTaRwCDuuShYv+8dJ/uPDCC8NhPzipYFCoyeGRZDQaDfjFcjaX57wcCYtzKJVLQaPBPe1FjliMAqBAJBNMZwnXSEgtg4SHLdaRKCoCUtddd933v//99vbOlrY2JJZEVMQ5EBoMhuFfFovFQjEXiURUDeosCx2raTkpgGlTUxPWp5OJ0cGhHa9umTZzJqz/xRe/E34t9gl8FkuS4bf0KBcHMgRkDdaQvciRj1FcIGBKkCqVue7Te3f1JxIJoBPxe1tnRzgUHU0mOjq64GKKu6FrPkP8EEoUP4xEBaUvOCpdEyG78B/Fp1kqB8OhEPjUcimfzcEliITCAHQulcRX/f39IFmPOmrhJZdcAvJ/6tRuJt0Mbpt70qbCtWBaw9yPLUeyrQfm8Al04jOTyQCjoXA4lSs99fSzH/vYxzasXbt4xQpoQeQ8SyYCoJAucSwxjYyn+CFCJL/MvzvodJAKNqrMTb/hQ1AFUKazGRh6vBX5bBqfUJ/Qx/B0Ada5c2efdNJJ//Zvn4zFYlDnwL0/II7EJDelM9bA6NhyxGIUUKD8kBMtQfr6B//7G9+6/jP/0dzZibAdDiVwBruNjU2uYXvgEuozXxIFJYBaOBDkZllXwibH1sO/FM5AoYD9iy3DYazEWxEJBZA7xXraDHsuFHJYPzo68ta3vvX973//ypXHQJVmcjkcKOgPhPy+BkbHliMWo6lUCnqLiQRSkZzRxx9//Bf/e9ctX/nPju4eJhL0+Wi8SQKLpzMZmGkmgyMmsSVqSPxBKFGtWNIFjt0uKWAHXGLPshZFEEmAI/YJvLa0tARDfmhugFUoY78gChCQ7dixIxIJn3vuue+55OIVK1YYckcNPbpXOQIwWlXkZuV75N+ZjNBVMRnFP/roEzfeeOM99/ymvXvyaDLZ3NyK+B3kEej6pKzHE3F6CXgWniv+FNG6KMnjumlq3KzlnsiFoJIo8lyJ6iLfFyuAXXyFXWE9Yq9UMhONhbESBwVSTz311Pe85z2nrj5Bq8On/t3APXLqUw93jJq5QjYYEHnzQrEU8AdMEZPgkgALE1wPFByQ9v9+8euPfuSy5PDwtFmzEukUl9UkFtps5HHdXpDosBDJWcgf0DUPYYpa1aXYK3nl55WNRUUVgItACtod3uru3buxPGfurKuuuOL4E1ZNmSRUO2GK0GktcxlplcVVMKG8TcO/7/WpurKnw1iMz372s+wwFi4eqcah/wAShqw6mCYm8KIb4lmnUqUbb7r1n6/6eKFQnLtw8ZaNrwSiEQIPs9WttSyhoQKUNvB5FYS6X2wb6xKe3KpO1cVaTlXRYFuhVpFQYDqWDd0HBBk6VLn/xz/98Y4dvfgzHI02NzVxmV/IZPN+v69cYrlsHspYnIIGgMrz1uvfioqY9hp+BGD0sNejYDzBn8eigp5MpDOxqPBBR0YTzc1NIEG/+IWbb/rCF1ggiBBpdCQByz40OuRSclzRo8xWpQ5MQ4aVMiJN6alEnU+xIPVoLQ8A4x+KhKFPs/mcSEQFA1gulPKGT8tk0vAWFi9efNHb3g4foKu9A7BEpkt4E2W4uWXsMhisflVeT/Wph70/ysXzMHP5gkgR+YKwjYlEqrkp/tTTz//rv/7r02ueR1iTLRThF+qaeMxFs8iqbTGvtvVMalMHo0Hdp40pKkaF/q6TO8XZUca/IAUhGhRkMjlqBPRgMAAKbHR0FGieOXPm+eece8EFF0ybOlU4uDKwwilSYXWFSn091aceGRiF6IlkolAy21pb8MfDjzz2/g98EGn0YgFuQDEUjYloKJMB5eSwQvJHVS6p2Fu1NmUSo0zRmio0ma1cFSWqGcKce2AUoESkj1AMMMUCIIvlTD6j+WSWoSDKVhBRgQpoisamTZv21gvfctxxxy1bdpQmdLDQqVgoFllAVYuvj/rUIwCjIuvtk1nvZCYLffm73/3hX/7lX155eUO0uTUaiSM0yRVFkhNWMxyPE09kaVCtSpVCTMUfJWPtkw6gqjI1Ja7XlICpFqOagv54PI6IHoE/YiYAEe8M1bvgAIVyvpDLA7LAMfyWbCot2AAufnL22Wd/4AMfmDwZrxYvF4vIqTL2uqtPPRLoCQB0cHAY2ItGwjfffMuF51+46ZXN7d096USib9cuPHsxVrOQ84fD2UyGS6F6EWZay8xeqYHKN7kc2AQFbW02hji7ckTAXP5DMI5/zP6zXDTps1QoY8EsQXcKYhVgLRdL5AAwqW4j8Zgf3Fc4hOzXt7/7naOWLH73Jf/44kvrwtFAXvgp4uWx/jHPf7r65xEgh70eLZaE2gAKR0ZSN93ypdtvvz0xNNLc1jY6PNLS0ZFOZWFbkYCH6opEhMV39ChzDLHjiTrhvF5RUKoedUy8ZteUuF1SZKegSb30KLSmU4dFJQTiJz4NMRPSWWUp2KeAbLkMPVrMifGoeMHwKzgtvmDgzWedjUzVWWee9nqrTz2cMAo7iAykayXOHpYT4dK///u/33rLLW2dnSMjCWyG8Fl+LcclKzZR5/aoOGnZNSVIUo2+Ay+F+KysZ3LovcvjpP+V8iW/yC0JMewCAIiKaUXE2TGhvd2+hHV1jtYXjrdYPnHVyvPPP/+ss86iqj9VnPpU+85wnaphDnM5bDCKyBfaJZFIABywh1TWBOcNsTz8vMVHLR0a6u/qmQLjHm9pQSJU90mypgajhlINp0ZILm3q8jtZndo893qQRQWhDhEZIQEFkBKTXuYcy5zITR3UrSZYUo2YU64JosnNbVlnKKqtuSOapE97t29DUPXhD38YmaqWlmh1swCqrrJsBYKzeDji2qEoTjDNoBgxcHjI4aRHt2zZAmoGC8PDw0jV0Mo1T7/wT1d9/NFH/0aZlY7ubiTNYdmrGO1qPSqSNwq7pGaYXNqUSegw5mG7qWClVpWaJTmqxPDhJQEPKqgDeTgQ8SpjCh5fuAQ63hju7JwrGS3TdiYJo4yKY7hpcNYUi+MlHBgYmD17JmB64YUXdne30cbJVBonFg5V8AeHl2gvZw0NdGlg9MALlYZQNRONLsKNfvzxJz/+8U88+eSa5uZmXEi2IEo6ECohQi7K2iWSKj1qyrS+VoGXK5YnVap51TWry54+gPyUVluikDDq1PKpGLWQKrFqSDhihw5G1aSXKoB1SywKVxs3Af7M4GA/WNUVK1acd955b3nrhd1d7cVS2S8NCC0US0VDnoxztoejHH4xE04YJgxP6E9/+tO73vXuoaFke/ukwcEBfNXS1j4yNChUDx6Jodh0rcJp62bFH1W1qYVj3a0vWX2MMm+u3idrBIRWF9bctuw+XSf7rn5iqwCUnF2zAowKpMqzkqadTrKyf+x2uL+/q6MDbo8z+mVgoO/VV18tl0s33XTT2972tpaWlkg0FJBqPpvNxcKhw90hPWww6pSBkhL92c9+9r73vS+XKzU1dSQSyWAwJE1YyfAHYvHI6NAQ8ylkt6aMFTYrNtoTo8wVHil4Vdc7GHWtN/whim/wKZwGvCxSm4qku7T70JyOHtUlRh1zT3qU3hNZ2Ko5sRStxE9iQKXPB6uCCBL3BCbbNEvAa6GQx6vb1taG2P89l1zc09ODG9Xa1KTW/pFTS8uq9Z/gctjUlBBGQcjjGf3whz+8/PLL8ZBaW9pHR5PRSBOySNzkoBVLhbyoWS6WqsNZ5T3kFasn6j14DYlYHYM4vqC6xnMlE9l17vMH8Cmq9biIw8ty90Qg0LL4RFCjkZvJfSLDb3LnyBqVOkmQM+sNcbQ7djOwpz+bhrdtQpX6JFjxZmIBhH9LSysc8fvuu++xx/5G6dapkyenUkmzbKqsAnwk/MrnO2zy+Iefrb/5pi9fe+21eIRdnV19/f3hcFM+X4xF44nkCBRTOBKhuLUs8/KWOHqUiCdepQIt508U9In/LGWmOAMWaGUayfmZ1IlU21RZxi6CkbAIScocSKB1csgJ9JZPtfNc52AYAE8AzalPFc6prY8F3aRbSSypR4UIAkCN3gAAEABJREFU59IUlK0gfXWegwNeyNL4acBu586dbW0t2CybzSC+BEw/+MEPXv6RD8djkba2jqammHM/nMFeh4VMOIxS/h3Ovt8nAs9kMh2PRwsFMRYeZ3r95278j//4HNZDZ0CDQhmIMnjNlJpKAtG5nHHaMgeL1bdDDMDjrIJBZ8ydE7M7MZC1rIu/meSZyKJz2qvwjznhXBd2X/7HxDBUK9cl8wWiMMbngzsgXBrbiXByBLo8OcqFajqdBSftq/uFXlRTX1LdlwvZ1PnnvBmO+9Kli6FZicKClofHIN5K22LItpVctAWwbYJmM7uH3CuYcBjFvUomR5viLflCMeAP4p4lk9l4PFwssGuv/ffvf/8OmHvKnUAzFQo5oRNd6KSF8WO0diWXR+GaXruNk693x0y+ysaWl6lwBarfafuvPof+NCRGA9gFTp4anVLsr+muwFyryZOpGFVo/3JA50PDg9jncSee8I//cOnpbzwzYLBEOueHUvYZQZ+Ot7tcMAvlEgItTatyXukQNMrgEOrdiYhRmRX0K7eLjY5mbvnSl//rv/4rkUi3t3cMDQ7j9seizel0soJRVg3TA4dRlZxyFurF9ZQ7VVFoxWHq9opNB41KtQFM5BescX+iV0qp7ChRQ5JHpFZNxjVPXkxSTrxaxO00C7FYFF/s6O0dGhxcsHDhRz784Uv+4R+gqgPBgE+vjK7BZ0bhAfAUNJu+OLQyAW29EKeUiYla+vz111//pZtvCQTC0agoXEqnMqbsuQyVlC8VRC7RpUQZYweIDtSEHq3aoYpRVpt/IiRpbj2q2RkslQdlUh87ec56tt5HfinTVFqXud4QwrpzG7ndNIgXsL9wIIhYLTkymspmWpuauyf3XHnZ5bPnzZ0zc1Yg6NOVkSWGEjFSFQGN2WKHTiZiXD8qi9NyhSKcuDJnN9x404033IBbFwhH0njTc7l4czOeWi6XDYRBORWZRdFUqKKqhb9XrPoiTTqCmrLABIPJ6B8tq4pccxiDGjVg7Ue43uLMzbLlPlICQLdjJlPE/dLgMosEoJ+XGWlIzinzqTFKSqnUErOJ3XAonM5lUql0WRBVIX8QBl3PF4s/+tGdvbt2BQLBaFNTIBjWDQRjrFgoiyKsfI7Lfi3idYJLe6gV6sTSo1y8u1wzLHhlc8Vbb731xhtuyqWz0aYWECswojLbhFtZEIbRbyCCV/Xo/l9OvR9qdi5AJfaZhz5zrWE1Ft/RpqqI1KyNLbL1ZOwtZLCKrddsR5biNg9VWn0y8k/TF0C2Ke8UtVAvFuwNSZAdO3YgTbVgwYKLLroICdWZM2dAnUcMMfSK8nmGMSE6/Uw4jILvM/xGLl9KJdM/+clPPvGJTxRzBWThwQsagUBzk2gLOgKKXoCH2HjLH/17YTr2r1xKegyMShxxBYrkzjoJJNuxtLYnXUVxvaFbtl6Xtp7ZCS3RJ8oRQyffseqgmqYWBCrlKSKIx1tGRf5MlhlQWQm4KupbgRgUVNScOXPe8pa3vOnss6Z2dbXEBUslWgsWCqGQCJUAbMPwtksHylqNIRMPoyaTvbrYzTd/5VOf/CQeYltn5/DwMBYQWsIY4QGEwxFY/GI+F4pECsVc5ec11Pp4jr23X9XAlHlpUF3WVakYZapC9dKmFIcziVcXRqsGSxHDVZ3f0ivvBnMA6vwKSMsXc2BmqWcqjQIQDn0ajF4cn1QFocl+Kjh0JBy+9F0Xv+mNZy5atIDJBgUROYOFylK57wo76HLIMJrP56n0xikWwYIBy+Q3imX2mc987uYvfhFvfc+kKYODgzTjh/NbFYuaXczr0qOaU9ZE6/caS433PtRYdhIQqkyxvMzOCFhvHnOXBFg6j3uvd3Zl87OM4veKyuTW0f0yrCEV7QxWMaUS5W7/wnoxPK6JmSP9A+FQ6IQTTnjPe95z4oknAtYiZjIq2bdUWnTWiEYjuKB8Nh8JW/VTULp4iFSXrWkHErqHDKPOm63JDol0YaJgOW/++/+97of/86NUKsUkwqhfDcwN89SUYkCGvahi14VRZqPwIGC0aoG560odiDjBPlPGoNL4/QrWbUxXCFGtgl3sQbcxqrMKk8DqYpRJjFb6pzqUmTdGEZfB0ecmNAg07kknnQRXdeXKlZFwIJ3JRyMe5Xyvgcd6yDDq9AyD297c3IwF6Mu29vbPff5Lt375q8nh0bauLsAU2GxqahoZGVH991o9Wotd9THs0zXW3cb0Xl2LTrGgUw21ZtWsVMGU2Uaf2XBkojZKJ5C5CvOs63Wysk6xiwzANatsygIrQOmX4wLI4hvWvD5yV4oera3zd18TN1ub47t37YRe6JQu1tDQ0Mknn/ze9773TWefSduURCsKYRXKwmHNyx6/7h7C2pGhR0kQqsNzd9LH137qulu/8t+gJKnzPEWg+ISidX7iRp6tR8e29Xu/zPFilKTG1hvMz+znZFYbfabUU2t2eO5TklhO2F7Rwcp62glXoGBYHrD4pLblVk1qDUZdtdVOXtf1KUpZysXmpjhUA2IpGDeoDyB106ZNy5Yte+c73/mOd7xjyuTuQlHOmeajo1RcUhouRl71AeSqDiVGE4kEtT+mDonf/OY3r/nEp7DY1N5Fzg2+xQK0Ke5UOpOiX6lYlCMgy2yf9ehYF1vnK42PiVEPc1/lj2p2AahKv6v9JmTdk/WtikWtekS1o3dNRRMDc4atOwmjjh51dCrDOy7KqDXXJ26dKYdZq5+SxSvD0IOfppsP44adtLW1wej19fVNmzbt0ksvPf/889vaWjVRuC1cUuhUyo0dWPVZucOH0B8lopj+vP322y+//PLWtq5gpHk0maFZO0QrUNlznpIstKVbX5ZL6p/Ot/X0aN3rHSdGudLWtPrZ6EotnWXx5ae1paY6psAor2hZlyoljKperAz17S49jtaUmwqM2p6oilEnqiJLz6qqtCpZUOtTM2ULQWviFGJVCXx4ELB4cMxg/ZcsWfKBD3zg3HPP7Wxvlplfa5jrQUpHHUqM4uLhaLa0tHzjG98AQCdPnpzNlZgRyRetEWHQoNLcs3w6HYiGmRtqEj0ld8zEqgHkQuf+YFQzvTav8iisBa5L38yo4kdVpa5XU1Fi7ArTqkl+wafSZtVOKu2KG2IDgUJuR0gSrCG/cJbIyrswSqit1aa1ehQ8QL4oOFEakCOnBhCDp2H3W1tbAVDq/L979+6dO3ceddRR557z5ve999KW5jgUreakx0ya9veARVOvAUa9J8HO5UUT5Hg8+s1vfvvqq68ucYaLLxZKzBf2+wJyam6805FMJpWRDWxLZaseVMGcRGfZO8lU19YfUIwyF0zhfXCt0jhStfXytakM65PWllVY1aqvGLNaPKhr6OecdsItf9TBIjCq2b6p4bwgnBFGPcXzeoVvQO0wZDtVgJLIWqtrhk3iwvUcETK0asWKk09efcEFF8BhBbHrsP0H0OofbIya4DJgA2QhknixZP2xCR4UtxM4vP/++999yaVwOWcsWIjXVCSZ5PRIcpyFLEWXDDejml9WVQNvLZQr/KizUqTLFZ+9in4yueZ1xW4a1SKqTOlj7MUlVaRuDzC9Wq84FlbUlEgdpjqpjNwb3YM6MHwBrZbAV8Cqvh6suj6rNq6vBa7OTXW9sx/HNLkgjh9ArUKPvu1tb3vnRW+fN2+eT1S3sKDfOkQuZyWrzBJdV4X9KxbF7JZQSWPP/3PQMQqyLZtOhsNR0BXlkmhTAJAUyqVwKHj3fb+76Py3dUydgkAe8dOkKVP27NkT0MnDqcFi9cIYK606DEkIWGdRWRB6dyyMsmqYHjSMOqdDGCVRsajWValf+f1BZ73mwmg19WN9Gt4YJcx5CLccBtd+XCfjfJsv5adOnYpw6oU1a3CjPvjRj1720Y8dddQi8DT5vBnwWdcNOPp0S2/gvhYKZiBAxTOM+hiPoXgPPkZNMXxGcB4BP4xzMp2KNzXhmf/udw985IrLerfvDkbC8aYWPKo9AwNiHoV0mtUAke0bRtUFzTPPxGVPEK8rJj3N7N/YS2Wmjff+jA+jwpLa4RStVPUfq8Gozxdg1QDyXNCqkwIuYWNi1Hs/1SejfMVl9/QInt3wwODmzZt7JneDUn3TWW+EAxCL+NPpArVSo/tayJVDIXErQODglaEoq1xmY6jSg+6P5rLpUDgIDYo8NPK/8KUi4cifH3rkssuv2LBxw8xZ83OFPGADPRqOxYq5vM/QPVRjNVJV7Do+AKtGqnoOFZjWx6j7h46tF7LvepSNC6PyEFUD/DXV1lc2UWy94WfVWGH1dSobU4+qGzsugauiSj2057ECAR+1skKAC58Y2alEcmT79u2hgP+MM8644rLLTj75+Hxe8Fk0UiXgNY0Kl+0w6slrFTPJmeJTqUw0FnnuuRff8va37d7TN3na1C0btyxYuiSZElNwRKNRvJF+WZjD6mCUeelRT4ByL8pJkxj1PstaPepQBwcCo1o9TrtGRY3xpxDDo88Uqz+WWsWoKmqPy6qelZr3fuqNOyjL4a8w6bK/lShe0WQsi/0AqQN7dh173HFfuP761atXF4uFpqY4KNVMpgjItraK6qpSidLd2iG09UJoogJTRAX6q9u2f+hDH/nzH/84e/6CbL6IEEB8G2+Ox+Nbt27t6elJjI564k+z4/R6etT1rYo5dXu97H293nqUUY7gIGKUDlOLxXoLXPceR1WLUVbf1muykNT5oYpFV/2As+CM33If3ZBV+iaXs1LlRCcfMVWvLkcDisGxu3btGh0ePvHEEy+77GNnn312W0vcuXbLE7Uuj9WTg45RvDGGz5oTcffuvi/ceMO3v/WdBYsWJhKpELR/LL5lyxakkcAMN7eIpkV5mfasheleMera3rW+csGlupy8a8HWpmV2QGSMHEytsqyPUVPz7uNXT8/V06P1MFpvLKHDz6sba5KfgpYBhw8zGA6GAEoaXoKcqqBoyia0D/yBV155BXTViuXL//HS9x533HHz5s1kUonSXuEMBEN1+dSDjlFuj5VJpHNXXXXVHT/4wdErV+Gq8ArhYtLZHGhRJNxEV06pgbQ6rqemeFFj2Hrncqik1wN5Jtf3FjPxqjDr4GNU2UCr3qwWqZ4YHWvB8O6fSvfHWbmPGHUdlMlJLqmBOpP2XdZQix4TYkyBXy8XS7KdaoAmAsjlci+vW7dk8ZJ3v/vdyP7Pnz9LTpbyGsb1AwMDHR0dTGkxkEpnEbbjJHLZ0lf+86vXfepTM+fOFT0RfD7K0ZvyBJxR4UyWfHuKM7GiS4+69CuvcUPdPkCpOr/PbVbfsTqqHuWVsk9eE725N7buaJ2bvVeMujfXagEqAyz3QGqtWvu6MGT4vbFVtxdQHZvOlRhLxbSmK70vqbmagJvIURVkg3Qac4Iv/YYoFSrnc9BQQPby5csvv/yy889/MyOF6q97Kw7kQCoCKN4hx9rKWd5YwWTf/58ffuf731t2zErN8H6EKvwAABAASURBVMO7pjSGamWcP31eQrXizOteuxa0OurE83nQWvpXtcZZ0DVW30F0b3yghXvFi07M52Ei7D/VNfVeYJfZ4fXFc597E1ETjBsVDIRpbBbwmk6nwd5EYlGgAl7eb+//7WOPPYa9Dg8nx87zH+AiAKoKddBg6Bq01o/u/OktX/4qMj+pTC7W1Ixz9YkJ6URuUzdNXn3LdL2iL52OBswe7u3cKVrWFKqPKZp1jDO0+uJS4xzaOSlEzcYZ55UFqRcc96N6wYtP5Xz8fOpYwpXCg9qVrgsnca2xIGPvhNvRp8Ntcc7Vl7asxPus+ivnT+qqTms1sb2u2elAsXNGs6eaosDS7wMkOBcVJ6KWwTQBVqrVP/WUU9/whjdg362tcag1mcr1lgOGURry4TS7su4FY0898+JNN30pEApSAy2qxwNMKefpQM00nbS7pq539k+FpJrd4MXz8Tji3HdPTDPlybk0BGPe8xyoxk59E6zfysdpLRwgfeoCooIAj29ZnfvApDVzrt11T5iNRRWmmr2e1dgcB9y0T3sbGp2vTPvrtFPlGtVPGXJiKqyEe4qMd6lQnDFjBgA6f/78TKYQiQTGVisHDKM4FZxHOBxmdk0TFp5++tmv/udtpTKfNnlyb28vQj+ceiGf5bLoq6I7GTmm4tKKZZPXiH3NHkaqitdURFMcKRWRev1cq2sPnNHYeU2rj4nKsgPTcYo+xo+cQzh9LW3dzmreGRXKVfswTU/AOXdJczlF9fLytjgAtU+pbG/DDa2iEaBpC6Uinqy44YavDLzmC3j0CAimTZl65plnivG9IyPTp09G2PQa2Xq1dzUBdM2aNV/+2m1PrnkO+dzdu3e3t7fLsbChfC5DfjS3DbrsJmuBSTM9Xin1RVcxyusbd13N1yt61AV0Z40L69YRGbMhMZYetVZaj5Z5Ct8vBDMX+BSzy6rfGdcBKj/hlZNUEaly+JpqZOr4/VodMbk6T4vis2pSbRk6njiOhSCpXCgiAF00f9HqE4+HLcURZ86cyQQzIPp5jXEHDhhG6SyJ0QD+tm3b9uMf//ihhx7qnjpzV19fOBIBwxuPRPbs2YPELiy+rqt2toIb0erQBk0tHHmN7VZ5UFXVaXsLYrRqQ69VG1bNNnzktjIvmHqtPGDOaO0VWbeIcZffrMKU1Zhyda4ftg/+qDiEnLraiSVZ5XUVK3XNckZpDeO1kYBUtLIZvGTyNZBOoMnb2tpmTp968vEnNjfF+vv7TzvttKamSCqVA6/K+Vgx5wFukELdi5DzvPe++3//hz9NnjwZZw9oxsIRnOymTZumT58+0N8fi0brvJbI6gvfhWJ5NbTX6r/f0ijLki9uLUs4a7RGbqdb29Q3Yc6frFYx61S46bFQtVL+47b1rv30FHPMV8lb+3Kr5IBifJ00pVxW16jrPd929RXlitBEarX/dHltrjW8RmhvRMXQ6F+Kk/DoTzrppKbm2EsvrVu58tgzzjgFW8biIbwsSIWPcRP2gx81i3JGNr9gQIU9paHx/kAI8CoWy7li4Rc/+8VNt3wJ702pbGpGUM6MgQNZzCf131L9Qm6To+qCa73DyXMl3gdXUBTHYHIkufivDPdILhnMcK2RXgRMk3fdvrpQdbu96lPV87c+HbqUUF4zok1gRWPVIzNov3VyBGV7fTU7Rt0iVM7L2Z+z7IwDGYNPVV/1qrfU8J5HpV6uNRCM4LnmpfhEe44w8va4IcGAwGhyNAGATprUtXTpUhCixXy2nM+ecfppp556KjZjthankXqsjuyPrRcxmnLBNF8Wl+lXsJ/33X3/l75866xZs7Zt3wGzns2XxdtmszKc1cwRr9hK9WaxasurVcf45Lmb1qPTuWxbKz65YS/LqngBEUP2B9PtYUDW0CjuFQZp1Xac2VwVt6Ii272T1ClXbSvFTJptA8n2Kp92Z1vm/hxDRTgOYn1DqO6JTsAd4XHuXIJW40PXXi+T85nJXVHA6MSC1vk730oLJubPMKTF0zTLeSK1QkNNaOzk0UcfPW/ePFD3+Wx61YqlPT3dBFC1XxCrL+PGKJQoaVBnDV1BNpsPh4Nrnn3ha1/7WigcGU0kQelzhQPi9gVo1TSQ0/BIs/0krrxb9CtWx0IxWcqsM++Qnymsnb1e3A8i8DQv/9IRZ6XKebm+qrxmzNagYxilOjjT6qzn9Niq31i2N+F1+FRWJ9obeye8OlT1WKODXSpzmXkR+xfNdKFVDXLVNm3YMHnK5CVLlkBhwQlEXN/V0blq1aqpU3roQNTAh+1Nxo1RZ6eOfranhOU79/R99rOfzWazU6dNF92WZQMSwxfiijh41ZQg3YGjVs2kqBy+c/uqga7L+TuqoOyJ6cqeYfqZzrzUZz3Uqt/y6tCtshNn4zoE6b4gTBWqN+U13kg94XX4VNPZg9f23IveZ57xPl2di2o1hd9ZlE6n/LtMjxJ/ZjPpUDQKE79y5Ur4aQiSkiOj5593DvAa8FdNHcj2JuPGqC5rbC03kdZIR2UkmfrKV/5zZ++ultY2hO2gQqkZjsMBueJ05764sMVqgOUCmQNQuZYwyriVeOfM4lkZHU2zv5K7ZRROOEdRF1xHVJ8Hq494VbhlautgdJx6VOWPuXIBY4jnaTtkg+LBqidlv2LWEjc1t9/lwihTEawxn6GZstemGJ1Hac+8yIKapfI73vGOrq4OaCufLkbib9+xddasGX5/RXE6obBDqHvKfnJPdvsQazhV0eQw8Q888MDkqVNBzMbjcZreMxyO5sQIT2+9yL1sOmN1Q8Va4AqhPsh1QtfaH2oK58IU9eNA33kYfMy8VN3cwQFKNNk2yqq24dUx2RjCq9Uhq9ajtW8Xr1bAZg2HzxWOTzX0hNFSIS9bkWnUWkYs+/3A69HLlk+Z0kP+aDYvJj+JWFO+iPZHzs7ZPpiIcWOUbpmwRPZ57xkY/u1vf/vL/71r/sIFQ0NDkyZNSqaz4WgcL1BLS6xQSvM6/qWmOKDOI3dDsB40bRFsiGXELWVKy6Qb6GCOS8qUeThr7fsYV11PvzJFe1lbHjiM0s0pOwE+XV/9JAGdKHOFRzY2GXezp8zLfyU2Sds3PlWYLTGjoEZaHxoUiri7sws008qVx+zatSsSDMXikYG+3VBYSxcvkYQUo+moFE3Px/ZKxx8zybKmgDgnyzddt27dN77xjaXLlyHEQzJJBHqyuh40xODgYDAY9rwXrPaNt2VffBRnSzH+vYZjdHS2614zBUOep1T7bLTqp177w31UBvt+Ua7dju+H9UDshHTOt7zKA6hoAeYdINaukT9jwUhQNFAxTVhO4YOGQiBzli5dDG0VCAQi0VBfX58sK+EALvSXyA8oUfzYrJN1xL3eXPfFinnks1HZNWQ0lR0dHf3oRz+KnQRDMlPPlUhIosEsVXqGqUpUdU9rhdVEP/Xq7UvVHLUnn8oVc+no8trDufavnmft+dfjd3VWBVlnoaIOq8XMZTXDCoSthuJS0omEEQjgPcdXRIPTk648CJeTWs/frdN90RP6soeZN59KTXWYXYDmlwWWUFiBUJDG04nNTL5o0aJly5aIUXjZHIIF8KPYprOzHT+85ppreiZPCo6/fcm49Wg+XySAJhIpBFAf/OAH8eoEgsGy5LpVS0fLrrx55dsxOL86ZFCdjav+dA7nOq4DTcfZqudQ8hrd6XlozYsKkP5f5Wy5lxp2CchFLvMgRMQ4eTW4b/lcLjU6im1ER5tgEA8e+FBbCFrXP04tM7YIh1T3OHm8JFTRRn2g5Lwuwu/MFwqxWAyqCt8ec/QKREUwpKJEU2fJpAiaOzs7M5nU1VdfLXCyX/11xo3RYNAvJqAoIQDUv3zrrQjhociisTjus2k1YhGBiSaXGXPCbe+YplafufJMrNqMOisdcBjUN6/mn4UWgUXurJTcu8689LETE7gOoeaTNIU4c6kZR+q9efUwyp2Lkr2BnD1DMwGUUFGFfL6Ef9BYEqZaLUFW/0WyDjBO4V7ZDWaHlbSF02wHhh5+HTTo/LnzFi6cDwRnkqlIZ9vo8Ahg3dbWMjIydMpJJy1dPD+XK7H9kvFhlK43XygHA8YPf/7zhx56aPacObg/cD6icdFCzX6EamxkXTarxoRzO1yi1ZQmsWrTyavNsbpe5Q2cm0tJqcr2uqEeyHVKvIbwctazGvfDFfNZf9bkclgdy0ACKy4SC/aACiY9fmqjTIoKTxqUs2iOVSg4g5BYtTd/oMROoXrAlNoY0gIdl2w9k/VNixYuRDIJf0KJhkN+nDCYR2hQanH81re+lTpBQAX7jHHHlOPWo4lEJtYU+c09v73rrrvaOzpHRxNdXZNEB2zi8zTF2wNVLu5gxS9kdbDFa9L0tcv1sKuGhy4t6KxXfVAHoy5xzsd1CNdxWQ1eSRzXQrMz566f62OMr7dnWSAPhN4omvqbdBW8UhhKWd5WgJPKXd7FmL5EvWEBnlubjjrQPGoRYcGZzITjWdObgz9hwI9auGDJksUwA4lh0QUxGPJv3bq1raUZG+azhXdedFF3dxs5Vsb4Acr2A6NNTZEX12/89re/3dbWli8UQYWOJBJ4YyjeV1M+JqenJX7lApazN24rP626jpN76d0xsFKLUc/YiM6QecVSrp274ln1oFwxfM5O6Aw12eej9um6rlqVcDRKE9MQAjSZV8TJ5+xSoGy5LCem4kw5CmN1WZEDI9xd+AdQMqnyy1KhFuQpGcHg5MmT58yZg/OHS9re0goEDwwM4CcAxs6dO0868cTVq1c7Y5T3T8b90z17BsE06XDu/QGaxlL3cTErjSg/skb8mHYlA6+Jf1lNBK3VyXmyGn9RVY3OEzJkXZHrn9iMFjRJg9vrTZ2ZTGNe6Ff9S/UrrSYRWou5KiqK1YvtvNdTp09Nmd2LxLArEgEO2FTa2KiZWPaAm3vOvetTxXrJ1GuyXy4MfLi5GQCdNw/OnpjUABgwfNrQ8EAmle7o6IAdmDp16rnnnoP0E14uMYLeb5RFocm4y0HHjdHbbrtt29btHZ0dlJGXgz8jmj3NBZdlsJJV58zqvSqje0qTKx1ZnR6tZblcrllf9S3jtF6UfcvWxLQ9GVdWJ07XanIEml0i5UjFRtehPxlz19NpwkRYKRnrW7sWjtvXz2oCjnoYhf0Rrzn0jzTiNEUnvE9kSYqSbIJhDUkGiskXFfqV77Ozy+q3WBlL8XrBVLjLsmUuzlb06dA0cOFz586Nx8WMGtFoHJZ9+7ZePKGe7knAa2/v9vd/4H3Llh0lbzIgXUzkMs3NcTZ+8XldhYV0GkanfnHnnT/bvn1HS0tbuWhGQlFnfVHUDloXRXdAxtJ4WD4LOqI6SawWz5WWffIZa6KrrBikLdeLZ49FuSPaksbvyakrdGc9EGfYfIFQP1TST29GpQmufZflP01qdb1iH0l5O9vjHavM0a04BpIypAo3LmtAhTYWXoxhUHt6UxR0mpbtEObPHteRXtkEAAAQAElEQVSqWY/bXiirGFD0t0+UNZbkRdGJcV3MdyeKdGXNO14ypJpLxRJZJMRYxKdSjGXKibvpZNXJEsh/EDffKp+qvIGWjXLqUG0mwaIUytyTCoDDYYTDom0HonjGuqcKATxSo8loKFLMF0GIjg4neiZ346Dbt29/ywXnHb9ylWZPyxEVc5EFlLlzxyEORt2/JAKMKYz9o4888eCDD8r5h9x70Zi74Fw+9woz4ighKpSl+6Tba9RP5rWlWCNvJK035WBEOpZ9h901fvW0S70gw5s3le6LTgPN7LGPnIa5yGVKPNMnnae6W5cL4VppnaRum1fOKsWpjFlD+7VKkb9Jjd3saT8tCNqpgZDt1xalY2BNmSentnLScKZJg/bkpxPDaWqdK3fdrMqyYcBlRtCGH7Z3dPT09ECnQoMGfYK1RXDy7LPPrDzmWLxNg4P9ixYtOOussxC62JpEbe124Gw9LpL0KL2Xa9euu/vuu5HX6mjv9rQT6rgZ9THoetUbzGsCHVVY/RhF/bPiwjLXvqtq/zwPUW+97sWbEj50O+A1q71huuvOP3V97XuiOhVjL1jLyjx3zk3GV4hFuNSdlvrUdTamPwokFU0BXOQJRNSlSZTjZMy9zDvlWuMPhYqyNWxrRwc0KA2aM+3W99u2bZsyZcrw8HBLaxMM/cUXX7xwofBTi8USdayRV2Xq2v6MTRrLH5UnIS6yr2/ggQce2LVrV3d3t4g7NM9Lq/hevCr6qcQorDouZl5gZXXid2dB5QG4ddy97IQr3Fa9g3qC25q7m1Vy9w4PoGlVlZTOr/Sa4lTn5DWv5JPrlJw1aplFZXsmkpBl2bCdDqpLEkD4iPk86U6yfqRTBTZNm1K1GzbRp6k8ZfqfjXXLwXeOTf+nG4g4CWn31tZWEGH4E0wTUjf9/X2w5u3trcNDQ2vXbrnqqqtWr17FrLZ4ugySBJOqG+D99ie8r/sbnDq9AcVi+YUXXli7di3OrGSWS0XuiVEXkpQF7/HsriC9ts1dPcBVKULb1js78fyJWnfnWl+LUVU0qrBkFQDV6jwHo5Yl4fqYd8O94LooZ701L0DNTxAvk6HnZOV12cFbs8fhKE4XLZgyvjFCQiidAbg49Zrqzbcwqqo6RZHDykdaWhDIQ4PSC0BnCIACJ83NzbTymGOOOeOMM5hog1/CSYVkW3zqpKcxbV8qSGqlLkY1a1CfieQnzArIhWgkns9mAv6wVt/Wq/fUfpYGr8EcUzDq4kd5HZg6e1bFtCBirdft6YrVH6pEJqvW31pNqqmyZ3lW4nbq1u4d1eUcy1nJ7IBD7JNbAwqY2+fxrlutPbRWnYOt+lZmmMm8kmNKy/iEuav1R0WRvOmj80TsIrWaj6appZ5wvPoFloF8BQFM8TRg62FFBSmez2NjKE58Dg4O5nK5OXNm4XPX7t7Jk3quueZfu7s7S2Vw+z7nep3Ypl6NxNgylu6ViQQdGMXbM2nSJEZ5sDosiqu+kFc8s6rBRsztCbj5UV7f3PMasc0Tdz1gFXasPtZdRau1W4oF6mUk6+idTzkLiJwLRJalaTq9CdbQwjE8Tublqnp+y+qo3kAgpLq8piVOwOlcI80eoTc1RYFaYAjgrXISqt+xKqmJ8yAIkmhecdKgmiRuwT92d7Tn8hldVktdeumls2bNAhrVXtmyAtonW3uV9kOJsrExGpWj4GFVsLBs2bJdO/cMj47khQ5n+y6qfXSt91x21rh+4vlm0CrdflrqxuogPtdXY++TpFI2Vf3AtJrnp3iktMY7RamNwb961rlWr3HuBvxLn2aV8JHWFBl/XKB0TF3+qOgDGhBsFJ4gkzYXWjCXSuFrGG71ougFpVes9m5gAyjRrJRIJIJDwB+Vipkh85nJpHbv7rv88o+tXn0Cpfx1kToR6AwGrLNikspUm9nsu4yF0VQqFYnEiGlJJBLz54v5FTZu2Jwt5Enhy4aoHO+T05GfV2c1IcGgFdaxar2oqi5XLyfPBbXnraonTUkL8RqpV/dZr27Vtb1zrJLpXcbBFXPhqCV51Yx5+dmaTHJyWYbH7Xaq1GbQ4TJpD7od0Tt/Vt03OXUPXYPglf0BXbbupLnjdZsfFWStLlrTZ0ZGxAkFAoApIILDITgvAWK0HvsPhYiZx3MsyplCyQ2gs8V6BEbIG1GCHjEJUIFdAQ84yZ6eSS0tTU899eSb33zO//k//xgJWWx6sVQO+pAUE9foBH9U7X6AMQqagxZwfq+88kpiNDV3/rzTTz+9d/euLVu2DA0NmXIMNc3YR24Q/em8NzIH7X4vnefK9iaeesgl4hF6kc71ttfq6Aleh1J17IBLH7vOQeFla05PiRGdC1f/1KrpKvVbXqNitTr8K5OvMb3J9BREfbTfGBZZhhIgnB4ZSeNJyclqg3Leb9LEYryR1KwyC6dTGSulBrAA1UMPF1vC31u3bt3SpUv37NmDrxDgJ5OjWHP8CasuuujtNAdL2UQWQ/P7DuS09nvhAqirPqgvnB9sfTafa23pwMuE8969e/eOHTvwPkHz40qc0jKKHOmhysur1D1p1alw7uUCVlFLyq+8+Uta9lCjewm8WP1+Uq41Bi0zrjqjtMZZz+1Rn2KllW9zixPS6sqc5w5GnZXM1qOe4/qZ42/W9E8V/UWc26VZHX7AmiFjCbzB0IEQEPPNy0HG2HlApl5FeT8CfzvnFAAJWixb3TnLZege+KDQrAAoEI8nvnjx4oGBAcIrmfuWluaLLnrb6W84pSTnscOxRO7M+DtKSGrE+Oxnr6M7oKysLCOzAOsBex0MhnK5/KbNm15atz6ZTkH/4zVCLAV0wh/HS0lXTq8gDWygG2GaFWvoct2ch6FuwKpnEVC3cW1JS8ymu127rbf/saX20GNsputV84LSGqqz8VgvrZ5mq0ZKWvKa4WZOTQmvJl+VHVbNp6h+K3P+QpzWydlsLij+1GUhfxDehuhXm89nksmyNI8lWD/isAwjiHRiOAzjR28U8q0xKX45UoCKWU3ZAa+rqwuIx0nu3Ln96quvPPfcc0LBEPUqM3RjeGQ4Eo5oNajab8Eto5oaNeCqYqHlMhsaGu7vG3ziqSeff+7FZCaNr4DRhQsX0pQgO3fuRKZB88ouUocI5qUvmZf28vQ7661x+aNmdd/nsfdfq+f4ePxXVkcf09Q6tefjdA8mp4igSW+yxbdLl9SBPpXqedwEqSRrT4MpeDXtRBSiJmT6NUOT48jDNAgJyg9qpSRJeCZPBbySU7mM0J/mY2+SQoiHwAcFLvGsAVDsCnjFEz/66CV3/PA7kVAgX8wH/FDMpqEZmWwOGHXS2n+/1MUoEzSsGCPP7IloA37fwNDople2vPzKxmeffRZpJ5w3uIa5c+fivDdt2oTsLQgzMdmNLHqguNJnT3xTizbP9VSito8/IQiUmRdWqrGo7t8TQ/uI6bHzVdyehcIlTCotFaNO/EQYdeaLd/QuYbT2fBj35puZHcvTGgIW1HcqmSgX8/hOl2GTnKFAMN+Du3bJR60biGXC4LwFl5TP5cKRGJ4g0AxTSXEwTkZOas8RhMybNw8Qx8mLlCznt9xy4+rjV8gqNA0wDfmDSC0Ymp8ppRd/v9S19XTjREt7kciAbRIHDSNy84enTZ8+c+ZMXADeqt7eXtD7OG8yBE5U4SDA57PmDlTNH6s2UqpV5Urc4LKYHrZP/ayhgTz3X2/P9Y6iS4ZUmHD6p9UsKP9kFYi3hyCsp1HpFOcMAdWquTBN8XmYF1NGk4Kp29OCXj13o70fcOlBn9/H5Dh9YmDIE4PFF7VbgYDThFEocoFIxOMCzZRldM5n+/bt06ZNs2YI8fuhUz/3uc+ddtoJMlQqi3y0BiXqs+tnuTUegR0A8dWrQyE3OZfD9TBqRpJKZ2LRSFd3M06qq6MN3ktTLLJu/fr+PXueffbpgM/X3Nra2d4ei7UXcrkk/BWGKMGws3SM2R0IxxatPo9YK9g7DKS4haYs5CmbZa/6VLV6VV0PorHETLU+1VW3Kt60OuNaPUWAQg7312rqWVU8sb8jrmeMugfpwASdq2CjNNwEQ/dpfu43cRdKvCC8zjwsWSwedcZFiRGb+Oeckx2lyfYh4hVCgiCTy0bjsXA0ImLfcilkBEmpYyd44kJtmeX+3f3vf//7Tz7xBJ8clAolBpQEfEGR1GB6LitmbGL7Rdd7yriruHE5or5RlpIV8sX1L7/8xOOPv7R+PcxMOpMxZOFWe1sbF7PZZgvFYr5UzuYEmSp8ds0gYhUXXCqqvLoTN1AdWVXaidtuH/Oy0Zxb/DNVgzqfOrWFoYky7PXCf5XawrW9eI3kTj22r+/vqg6AWZlzgjEvPriev6vuRD2EpmRKTaXfqnRamcSnQGkZ/5fLNlYrayQXVKnndh0X5y+fiEbeJzH/8O5i8SZDNA0TmjUSEQOpUqkE1k/q6i6VCqGALzmaMHz6E0880dwk8gISiVVVoQdEd6oyboxie6KWnJwB3FCY+/vvvx/sbl9fH5bxFRK74t0tFUW7J2l5mE275PNikKOuWbXAch+OrqrCKK8OTZi3X+g9bknTvP1Cx2Nz+a+e78BeYzIXsJybyWtd571hlNdgvfY8RZN5qT25l0tau1K0Wq6uR6t8VVN4IOGggW9qa+8cHhoAarva27du3ZrPZY499tj+PbthPBOjI7Cu37jtvxctWhSPRzOZnCxePrgCf/Sz49neMk/0pMnBIsoDhFlnZyeTQ1tAReHNo/sN6gket9/vk75QXqoHEbSCz5L0C+VFuGPi7D+1WuOoirLG2//zZI7oEnRd18b0X13L6rSw9c5kzDP0/qGmzIyont5YO9Espk12VpcNfzXLOaZlWllZVg6hPkF6amKklKz2oFphLvUOOE/y8IHFVDKJDWZMn4avwPVHwqHe3h2f/vSnzz/3zXh8cGvhBB5wrVkr+8O1UqDnWokAv6enBzAFJ/Xiiy9u2LChv7/fQMLBH47j8iIRJt9jaVl0KsAhdefoPGtQiTDdhkvZsGpNYFbV2lVsIt/fOlHulTWgH8gnWtFnmldtnuvnbG/pA3UzTRlcSkB07UTVo5q08rx6D+qC6yoYs4YG8Drlf47mdt7bgOEjTgAkAWLiWDyClE3v9m0tTbFnnnnmso999LzzzqNroVTnayDjtvX7IjAQTz311Nq1a/sG+odH08SugWzz09CFMpc3QThAzv1kFbu/l7HLNfkhD7+N1WDa9Sz3URxuyyWu0zCV+U49bTrbh/mhHbhUX13lEIzmZ+L2WD+vzWqPqym3znVc0VtZxPfCHyUetCSKTgqTpkwGiSjaN8TjiLpam0FDNW19dRMYxt/d/9ueSZ3QzIODwx3trTRWiR1k2R+MOjwcmRJ6BWE4nFk9maxHAWP6yuZNa556ZldfPxwAqF45TTTYjqDMZ1RqNRAzKUbT22/T6ozxcHzZMfzLmp9UPXte3981CTpa3f3U+qP1o146MgAAEABJREFUeFleh/RVka1indcRk1VhlFXzvrWH0JXYS12gUB2f1GwCSgQYFRafaYFwCMjFDrs6wdLE0skEtgGH881vfuP0005mdnwEMpX6QbCDLONW1wCfUyerric6DS8WbjEuGNe2fPnymbNntba0b92xHaYfuSj4qbgqUYbIy9wkb8lHVLNkqQzVKrnMVn2MMuct41XjQitrZHklJ6+Xc/d4f1ZR4Uw9Ipc/Jltf57hW8aumlMCqP1eXtTpYUU616m001XbVVX9agx4rZ2IPfrdWsqp+q7Rz1dDTMuWcqEKeSchqkviMxeNQKFTfhAVoEyhahMXXfvIaAFSXYzBj0TB+i/wnshDs4Mu4YyaqUKQLcyrKHAcf31K8T7cDl9E9qWfGzJkdHR3YMpVK5+ULiojK7/Nzy9+zogckp5yAiY6l1ZDVLtFqGMfa9TXba7Vbem7sCPf6RqtDszs4qD0Zz+tie7s6prxCYv/2+Wv1eX7Pnbu+wkPEs6AMrSaDYHzC1u3Zs6cg5zZKJEfCoXAiMZLP5T/0gfdd938/BfomKJhWP5dlQz6fnkmnA4H9KQkdlxwUf1QVKEwaDbh9e++jjz66Zs2aPXv6ZQ0lg0JFuh+wzueKBH3cqVhzk/NOW0WNMuTEgiZLMClfArVNNWPw3GW7rgK9HmSw8Kcz7Iamj6IJhEDuiuH4MuajrnRUGwHFn5TDxh2l5WhLET2MWQ/A6/vBqli9hqqFKRrOJWbdelbuuR9ex6MwZf2kJgsAnIZNkN27d5fk7TBkaaWTuy5ks+3d3ankKCJgv+HbuGH98ccd97vf/TYWCegO9yl0i0NvHzCuvp4cdIxy0Wcvb5ZZOCxeuM2bt/zpT39+/PHHi0VRaAuDArMyY/os0VwgnRZOQnOTHVea1CmOyqmIBxB9uST5jPsLZSzvPncqvakCCxwtbBNYBWyGdwCePrQ49sxlfjyRyNC4WyqgRDiAn1PPFQ+g0GPWPHiDcefx6+QgzH2ruXYeU8n0+CEbE6PEgOKEqa6UEk4QOiXiWJwpInxgEoFYHa963iyVOzrb7vzhHUcvX+qnXhLWU1VTaIc/RkkpOp411BiwCAX24zt/CrMyNDSMFxr3a86cOQDTzt27wtE4YZTKUkVHYHlPcR+BJ/i7+DliL9zfUdk/trkZsWd5YGDgpZdeeu655wb27GGyL5LzqKGpAMoZM2aAdgYvBm07KINWqooAvQLlAQRbXFgNRqmHAv+7MappdWtNPPdTW+PCrPCf2Qv7VP9atoc86XISOtxYXPJQf79VdaKUC9q6gMr4GTAa9Pu//e1vXnDemzXNVSNCJ2HKQaSHP0ZVoQiGYi1o1jVrnrnnnnu3bdsGywvlB506feYM5Eh1OVEo0AkY0TgvYJTuoMpKUq0kbiWg+fDDD+/cvn2sYxvGlClTQN+uXHlcW1sHnhZ0J1Au6rngLvh8VI7kwoorrt8PW6+qT8/tnU44Lqmfl/L2DXgNmh2MUuqEXni84Xif84kETL5PFpRwaV6YnYsBRrFN0O+DOvjSTTdcftmHk8lMPB4hHUNZQPtxyv5u3Hfgs5/VctAxWijkAtXz4klPvQhcIqDP50oPPvjgL395F5FTu/v2gAcIIb8mJ5Q2xXCoILQgkApUQe/SfUwkErjjSLfiPt59912vbtm8Z+dOJnty07Q7WTk1FAmtBAqxcSadbW/vXLx46VFHHYWVVARUy56q/qiIJ+rU/vExbS6vqR9l9RklNmZtYfVCXYxyL0yDUnWq6XCxsFpZAFQm9Dwx6jcQAwgn6tJLL73l5s9r4i3ifp9mOaPkicrzFTf3yMAofE4ZyljjwrhkPZxvE6OyRoZpf/nLX37/+9+PJEaHBkfE0Eefj8YfUnxDZBbN8QM/Ejd95syZcDp//etfPfbII7gITVpqpsyLIPrJU9tO8GLhMNWTI0QH+VwqlLomTVq5cuXcuXMpxsLhgOxarHDprpW9oGWOs/bZGc/uubFrn2ysWm93Xk09HKuJsQAoMTpUiijw3b1b1JKGw8Th19h6LZ/FfShfcsklX//6fwclM4mHFvRpbivvyME396+BrRfXQwO4qL4JdwfWRBrzgFHpBsU2bdr6xFNPbtywaf3GDXjdgSrRqkV6ZvSKT548GXgFmGgkLmB9/72/kRSgUkIFsIpGdpRXFT0TaQ+a7JKA9EFLS1suVxAuaaEwc86c1atXT5s2jQb1ci8Qca88Ex8/Rp2aZefnzPY7+d70qLpbOXt0Xf/V9RNhAXSNZibBuy2GSeK9hbMlZ6H1ipnK2URy9Skn3XHHHVOniHxSLl8OBw281UEr86liVCjVIwGj8BedKfdqL0YyQeI73GEEJ8gMrN+w+U9/fvCxRx4dTSWRUckVC9FQuK2zIxwI9g8BWMWlRy+fNnnKr37z61/fdZdst2e1lBGf1SWbuoy6iKwW48ozYnCZERCz79EI3cToKFTHvHnzYPqhmFmNLTalHSyL+l2ufgoPFXlDr/XOp8AH8r72elGTWrM9Puvp133EqCOeMVZZdKnQI7FoNp3ZvOXV/GiCAY3+QLmQD0aixXIBkbvh94UCQXxiWXB0qdTzL76waOHcQpEH/RpjXtESU1TpEaFHxylyxM7a59f/8ld3bdr4Clz+XCY7mkw0x5tiTfFCLo/Pl15c98ijj4hWvFTyS00kpWVWdqTpkhwgaloMx0llR0aG5TeitZeT/RPttUqlFatWzZo1C/QCYA3nGGYRd4Z6JEkImDgT+pQdcpHs0WlWeuGdUd5MrtfErM7cWe98clmXWru+UPLOfNYbd8WqHQNV+xLjy2TzDkAfxgoXGI83I8O3a0evWSwIoCF3ohtiaBzTcpkkrFC0WUy2USiVdAbrr7+ycWPILxwtp+GyZme/qp/Ta8ePjjvPdLAlmy0CAD09Hcceswph+K6du2ChWltaEIb39/XhZjXFm3p7e3HfkQXRZe9F3D3hDASDXDawxd+RqGgg4xdRf7EkOskUkgkwoPr0WTPFJMFcUOqFXM6UPQRElVqptGv79t2SW8CfHVIoExMOhjQauk6NaGTnOj8NgJEnbH9a+RwnZbQvn7LltcbHE3PUy4cRCW/aI1JopBQCzUI2D3ORohH0uuy6K7NVhWwqFIuFwvB/fJlMOhQEvnPf/MbXlyxa5PchQ02F7PbZehzUKQM86DIR9ShJNlsKhRAJsQceePAnP/kJeahwRgVY+/s3btyI1EAoGMwVQKxwmucgnyvQbwU6C0WftPJ4Zp0dorkwfFAAtqmlJZPLUt2ksONS8eBpiTYHcrm1s/OYY45ZuHAh+AQ89eHBISK5aMgEdUPg9f1O7iWsum6/IhorieaLHt/U83d5hSg1XUqUqkPIt6EF3JZdO3bBE00nRkS0JWNQMRBGYg7X29TWIv1RY2D37v/4whc+de0neMmU5ZHuqtZDKBMOo9lMMRy2An+4arLpFwelt379+h/96EdYgObbjrxqby8YKNjkYinv/DYQDBPNJAEhYDEyLIx7T8/UY489FuBGMra9qzOVSVtZFllvIj6FkxagKYiyMikKC4jAf8mSJZO6uhNSsJKG/1JXGVdvRAc99aqWPG03jg2MjitH4AKxc2icj8Mii4IPWeALEwSMiu4PJdF/2aBWULIQBNYcuc8c8nxiHrr0+eef/8Mf/jDo14ljojQyk0h1unscKpmIejSVyslhYgIEoC8DAWrwLmoWf/WrX/30pz/FXYPvCHP/yiuv9A/2IbMMfh5R/4IFi+bPn4+7j6c1PCzSoZB169YlRlMnnHAC1t93331r1jwRicfxCAFZXHtMatA0QTAWgycH+56UvZBArCJPe8opp4GIbW9vxykJhlUOS6ekFPPCollnTIsn5lwY3ZccgehWo+zEoZxoYCeF51SBAK96w4YNOGOalkSE9z7dyTmVS4Wu7m7chGw6ee4FF9x8880LF8wV9Qm2A0oD8XSlx/6hkgmH0WQiG4/L6XHLolM1tbFE9jQaDRJet23bedtttz3yyCM0OqVQyp922mmnn346UEpvO54+HFBkVdLpQjgc2LNn4LlnXwhLRhD5gm9991twzmgIOZEyZL4FVy/TktA3IGPxYASIQRgZ/tmzZy9fvhxvRTRq9UmkLuzcS0ylZtlZyRTMmdXjk8jWs33PEZS8x1GRA+pUMEHgHW3dtEkwHsQxCUNvzUgLsIKJSwoynx+1ePGdd94J3wZEPWOVGXCJzJ4IenTCxUzw4QGMQqEEOFJoKQdPw3wjMNLw2nd1tZ111pnLl6+ASnvssceytnMZCsEQh2gkD3RwPm/KHhaBpqbILCFTZ82atnTpimOOPQY2Hc+PelWQtqCWRlDdILJNoFYwVblwJAJNgzikb9eu9evWbd6yBdtDp1IOzGmnw1jVQH7G9j5+v7IsehIyVrNBbVldRaRKcXmKVBFGyREqcUJODtcIMkknla9xTXcG2VkppVw23dndDQ9q2bIluNXQCLKUt7JPp4CdHVKZcBhlctZZh/iA7pQFO4hXEP3gnQaXBP1qdnV1wXzjc0fvduTrwefjqTQ3t8Aog6qXqT5QTgGaYhP8rMS92dQU7Jk8Fbz90qVLgcMtW7bA0STPUg4MFJoVts20jV1aTCFcFlMja1oKpnPjRjx4+AzTp0+3xw+6C0O5V1uAeutFJbIppxDxqkPVPOtiveweZSg0zWrmDZ9k69athUzGJ7uSyAjIrm2Vs2iIfPLIEF7rW2655ayzzgJngV/hnY8g58erAqZDDlA2ETHKFFoDLJRPA6FHCwK+hmCaxEofbJexcOH8k04+ZerUqQjzpa/5tOiJHo11dnYzMfoUvoFRKMAuG+Qn5HJl6OlIODRr5owVRx89fdpUuGt7du/KppGwBRWQxzGRwxYTd8CHI9taFk3VqKkBHDvkanbI5lZwHqCcqWFgVs7rRfqYwK3JcZU0m7dTwamqW0tFifyF6N5QK5T7IV+QPq2fcBYWpQ4GWW1SfDRwNS8zcIDa2hdeAEABwVIuB2oJvrBgbcslkEq4MLq1uMAbvvjFS//hPVHcDpGlFw0ZbWrq0ONSlQmJ0fFIIBBcvHjRueeet2DBgs2bX7377rsfeOABaNYZM2bKHpRiPq5UMod8EzaGY0BUCwSJ1uOPX/XmN58DqMG/BOzIBSRtShY4IByPMpOQFbWkUo2JKtWRkVdffRUvBk1N1NzczOwRQlRpAFxCQ5flrMNiQLCMuD3OXipK7qFetXrLpnQTKTyiii36CpcgJtUolRBHjgwOipHycgYSCqGgKWOxOEhhnC1+lUomrv/859/97nf39HRJ5kQMp4GP44B+Qslhj9GcaIKCzEp43rz5M2cKxQZa6m9/+9szzzyDBTwpaFnoTthzEK6AUBAoMoR1LcLl9RvxWGT+vIVLFi+eOWMmVMimVzal06l8Lo9MQSgYQiYoEIqUqXGVLP0XboAY2lpGCmBocDAYDoPfAXaqZMkAABAASURBVBxh/SlBZdod46nRF5WqgBEDhrRaEbMraVpNL0iX0JXScsDnp7pvMWjDHpNEFYb4c8eOHZsQJ3GryAavo5gIRnQGRdI1H/QHfKKyZOjMM868/nPXT5vWIxVqWXaqFzrU73uNhiOPSw57jAJ2siZVdE2bPn3qokWLEe/jESLwx9OCW6aJGufW5ua4wIJsJJvJIDAXxfzQm1iWTNY0/BCJezi4uWwOLGwqnSrkCwjwpQNomecKa4hnaZqnnXHGxRdfDMf0l7/8Jcw9UNLd3Q2dShQV6TmujGmubUtBXS+06g6pek2jVmcZnk5UKmmKkGiQDP0Ex4V7DSWKgI8Ka/Au6ZUp7MT/4QmMjA4vW7rs1ltvnTtvNu4YTk0OvPEfcoJpDDnsMQoGQOoVENdQFbC8TUuXLr7wwgtbW9tx3x9//PH/+Z//WfPU0/l8afr0Gc0tYThewB9Y60DQHwyBA/VDK+byeZ/fmDN39gknHr9s2dKOjnYE9jJFMOoT83lq1NZLGk05MRKerWGAkwLPD4b1t/fcs23LlnUvvUSBF7wImF2adoMUHp2qXtvLV/xnqH1QdEWn6rW9duU/s1jyG3hJOF4FfAfUQrkW8vnnnn02lUjAppsloemxrSl7K8PVLpVLHe0duOq21rbvfOc7J5+y2o5KkaByRpybbN/6xr3GcthjFO8/jDcCI3z6/XYZhMaOPfboFStWwtDD4j/xxJN//vOfoduCIWDUBycsHo9BAadSGU1UnohOadSYE5oP6YAVK1YsWrQIa9KZ7M7e3lJRsFFc5mZELorqQ0xzy+bNL6xdC6Xbu3OnKfsjb9ywYfeePTDrcPugkqmGkFc3EWeqQae+OHqtC2Btz6oZKwQ1YuRgoUjJJJoqA0eBR/Hyyy8jqYE3CqcNLDI5CyMyScyaZkzHm9na0gJq+ayzz0QQad8oq4pKll9Rrr+B0QMtco4VGeEaFkDzeZhj8C+FlpbmY45ZdtJJp0bC0bVr1wKmf/zjH+BEBoKB2bNnMVkpRcOJdHs+BkrD4DHDYYDpX7ly1Y4dvQiXoJ8QfxRkNXRAOqZifmzGkGvdtn07DQMEcLEeyXHEUvAx8LwBU2AIh7CHB9aYb73K1rMaDlX91GRrJ8Efmdyp/kRMhldioxRT1Ib7KSXB5IhWhEpMZKZKPjlo8fLLL//nf74ilUqHQkFnxlFN8Km4Cdw29w2MHgTBvRXDTvJClTJGExUh3hezLcDdnDKl641nnX7OOefiCcND/cMffv/IIw9v3rQVT3fK5GnhSMCUzEw6lUVE4TNgFsE66bFYZFJ31+xZcy+48MK5c2YXioWBwYFMKpnPZUtiOkre1tYqhrD6/DnQitBkyImDE5ADVrGQGB6G6UfsDxDASUW2FsktrZY3JYJNduLlsuMpk04nlxWo1rLoxEIdR8VPoiEk4UzZeVhMPx2JhIaGhteseVK+bFwmRIugLqAU6c0BWSW8aLP8L//y8euu+wwW4nFky8owI5qdQ5I30OrPr2mNuP5Ai9VMTkDT0KqoVTm0XMIXy91dHUuXLDnzzNP9vsBjjz3+14cf/utDD0MfxuPN4XAkFg2JHBVnsjbAAGM1PJSQHU14S3N07uzZRx+9bOrUydA3Q0ODuUwOB00mRpHdx/6xDIYRtA4ISFlFitSmaYiT4UMD/etfWjc6MozNFh+1iIvZVgvERHJRiVqGHo2EwyK4F6V/BaSFTNHlV9DshpwHVJfJCJomHJ9YiW3AZ3IRgYnCwuGhgReef35gsE/eDLOzozOTSWFzEB14r0REr4FQM88//7wbbvhCW1sLoAnyQZfF+co7Y92zCQhQdmTo0XqC5y0eue3ehcOhtrb2N77xLARPqWTqmWeevfe+e9c8tQaab+7c+fE4Mpza0NAoHpWM+inhqaVHEyE5G+XyZcuOWXH05J6edCa9Y8f2gD8oBk9rAEoMCwiVwtFo3p4IgcuaQCqt6uvrg+mHDwAXAtZfk4QUNWIAMHXDR+ORAzTkjZpc5GXzLGtfVMFtXVQhl5H1WWVqbbd58+aNGzeIen/GAdD+gT6/D/vxZ8TMroJmw8uDO/HMM08jthMeOS5MFm5rE4yoH0OOWIxS5agznRxlbuCHAQ/HH3/s29/+TkTl69evf/755//whz/85je/kTMXIHU0NRj0pdM54iAhsSgySVommwUQaV6i444/4fzzz29taYMpF4SoTCwBN8jvp9NpjSaUlwl0wMGQjmMmncbGz7/wArZHGDdjxgycFaJ+cRSjMmU3VY04pJXjmDLFT+XlEjUEwDZwXV588cW0jJDA5iaSCWhQ4BXnE42I8pdiqTBnzuynn15DwxWJYSCajB0+csRiVM13E2dE2hQhLdKcWF616ugzzngjvFLw3oj977nnHuTim5tbY7Gmzs4WOSWVyN6PDA0bPtGSFg4lJffb2tsR+69efdK0adM2v/rq7l27iLCE0p4ydaouyQERKcNBlu+G0wIE2EHoDRYTKOno6KCIKpvL00lSnQcVD9DZ1gZPYjOZegVvgPfhL3/5y8joCM7UKaBm0r2Fg5MXeV1t7ty53/3ed5YvX0ZDt6lAVg3LDgs58jHK7BINmY9hoyOpWAzo0xKJzLRpk974xtNPPvlUKB4om7UvrkUeFfkYcKtdXd3YGI8eeSnRLVYOqsSuwH3G5BSV6XQG/BQifSS0qCkVovdEMhmTM3EJJks2RwYuKSEZQvpeRlRgXV9evx6vBREIHZ1dVI1alEL8l+x9WayN8UVYI/KrcZwk8r2bNm9iYoSSryTGv5iApl9kYsO5fK65qRnb3HfffatPOh7OBk2rSSwbVZ+ww0eOWIw69ZckmpUqQowSkmNQOfWNGRgYmTNn5gUXnHvaaacj+obdf/ChB7/1rW+BvceznDd/lmjn5/cRUwNIAaOG1EkjI6NI7Sxdtuz0009ftnx5Z1dXoVSCKU+OjkLDyVk4BFiZ3ZedClXx6sABAGoBeZjprdu2hSOijU97ezuVV8Nl1GRPETFlgK7X2HpeyOWRYsBvH374YSa1JgBKll2TdczwRMVIL12/++67Tz1tdTabBwcH/d0iJ1qmfhATNqXkKUcyRp1oiSvzGmazRFFpVN6P/JEh+AA2c+b0Y49dtXz5cvwQfiq01IYNG9a/vH7erDngoaKy/Qnoepj7DMxzPg82AGumTZ+2ePGCZctWIKhqleUa8ByKcjBJXrbyI58Y4BYKjKqiZFV8c0sLTgZk7YvrXoJjCjQDQzQZO43ZclzGanPPQoEgAPfEE08kU0mf4SMTgQVBdooC6FIcej4e/9GPfnT22WdywVSIrxAw6fYkPlSd3bD1h15cFXHEeFtP1KdT2ynZR4fS6OInsMzg/I8++pglS5bcf//9r2559cknn3haUo9Tp03r7Oyk3pGmtMtTpkyF8gMtlEikAIKZM2fOmj0bmrittRVAEJ0TBZFEkx4FxDB/2VxNAFQeDCkA5HDhABRL5b5du5597rk9e/bAOUZEBfWsSe2rXo7la2qss73997///ZatW3QxD47Q0AF/AN6nLjlWMVVSofCDH/zgwgvPxcYFSWZRMRe14aChB69B8+UDKBNvPNMhErD9ETmNC5Xg7d7d9/Of//zHP/7xmscfM7k5d978q6666pJLLgGARpMp0VghHAOdJJNESB8URBMUmU0d6OuDnrv33nt/9atfgRgSA97FtEo6FcXhT+HXyntu9VAR89lYcPTBu5g374QTTli2bFl/fz+zZxukPhFyzs/g7++777HHH2WyKFuq83DGmflTusvXX3/9lVdezmRfrWDQzw5/OZL50XGJYVg9jWiq6VgsumzZ8tNOOy0WCQ8ODq7f8PJfH/rrCy+8AD00e87clpamxKjoYwWenEqQWlvjZZMhOpkyeTJidqjVOXPmQC+CDRCNTk0zm8lQkR5gRDV1cAm47AtB7cF0yYzCo8VOEPuD5CLTjzVc9knFT8DL3nvPb5Digi8B7AKgWFCvAgBFwpMKweDS8Eq38cNYGhi1xHmWCNDx+CXyfJ2dHatPOPGUU04BI/D000+ve2ndw399ePuOHXBGZ86YBb0r5hgGf5TN9vUNwHYDSUUZ42NhnhQkQoGzkZERCvMRTjlkrSE71paKJfKXdVnnj3AqMTLSu2PHcy+8gJPBz+FjtLa2YidgQ5944vGhgT4oVlhwGhKDSAyMPbJUXV2dV1115b/92yfxJ76161HYESANjFZEbZ3grIQf2TNlyrnnnPOGN7yhv68fqvTJp5664447Xn0Vqq5n8pTJCHGQU20RBXmx3t7dYVF2JARYxLplUqBTqdYTQVJBllDJQYKiw09JdIUSRfBmtQMKAw9X4ZVNm6jAHr9FuuG5p9fIHFYZL4aY31tSDVQWc+WVV954441wNKF3aTasI0YaGK2IOgLYjlE0sEHQqGCgZs6Y8a53vWvp0qU7dwlZt+6lNWvWbNu+HQZ3wYKFCPmRrQe4aUYYgM+UM8VT4TMSSwinEGNxOTFLKpnMycBfllCFSKdqhlHm1qwoiLO6urvTyST+vbplC1xYWH9ANptOyayo1QmQHFwsXH311ddcc41AvD1dGw5NvYB8E7K0flzSiJmqhMrmRRJRDk4SyUPOsqmULhObtM3uPX2I+q+84p+QhISFXrhw4RVXXHnyySfPnT8f32bTaeo8T+MzaR4VGtgERxO85qOPPvrXv/513bp1RELpfpFAB7BEiWcqlZFdUkTzVFn7R2V7pqylkgc3kdEsFIQGRZpKdHDIZv/pn/7ppptuwk7g+ELjMvkagGyiISvs8JcGRi2htg607ChRfCaGhpvkg3cknckK3JTZV77ylf/3i5+vXbsWOD56xYqz3vSmSy+9dEpPD01jotlJUcl2+aALqR09NC4x8A899BCQKqvudBGxi55q3JmXuiipK1HpBx9AjsWW4b+YLB7b0mwW+MkVV1zx+c9/niabI9aTprVAcEZeNTv8pWHrK+JkX6j4l8mnHgpH4EE6/egQEhmi1j2gG/qKFUdfcMGF0GdA266dvY8/9tjGDRsoBgelTzN4wGsEYmTf/iJNtQP8IepHJh00FkAGehX7zOeyeWSADJ8oVtIFBQs6XpcD94LhME6F+uHgjJBnzWYzhPvLLrvsM5/5DE0+QTQwNXHHbhGlQTcfXlx9PWlg1BI1PUgFv1auXAznB3gMe7y/QQX/+B5w6uhoO/XUk0866aSRkeFtW7e8vP6lRx9+9KV1LyFdvnDBQqR8RJ9jTRedJanSVTgTIi2EDcBSHbXoqFg4nEyM7unbLd4Is5zNpvP5HGJ2XQ4n1GXZaCYFB4BHm+LFQi4gVKwYZ/ehD30ITBOMO1X6OWdOC9ST7AgAKGvY+v0WxzegKg0s/PGPf7ztttvv/+3vxQg+w3fmmWe+973vPfbYY6ELqd8+TSNG9pecVGDIxzS4p8+vXYuo6OWXXxYN/RgHgY/xgdR7AAAFK0lEQVTNQPvrPgP5J7wwYgy0aWp+g8t6UERIMPGiH47oF3TQZ5A/tNLA6P4L8AEfgMbRMwlWxEiP/e2Jr3/99t/c8xus6ZnUc+65577jHe8A/USVTc60fRSZ4c+g4QM6mRxQBboAa9auexHZdmTekeSkbvZFuakhhvuVgdHPfOb/XnvttXgxKJHLZCkqVTYdkdKw9fsvlIvX5JzTorpZ0+LxWE/PlIsvvri9rR1R0dDw0PqXRBn1xo0bFyxYADYeKSjRhz+R4LJjKEC2aeNGwGvmrFmw2lDM0J1Nzc2Iynt39KbFAGshWTlBihgzzc2Pf/yfr7nm/4vLmWepGeDu3bvBarEjVxoY3X9xvD2aqhQIQwAUj0XAx59yygmXX35lPBZ74YXnN76yAfH7L3/5vwBTVAp8Wdm7HAxX0W8YPT2TfAEf0qqIh8TcJ37/9OnTRArUNEPhEKIf4R5ooun+Re9619e++hW8CaLSXg6MppplZwj/ESkNjO6/kOGmYcSgJGX/nBCyP6EQrLOg2c866/QLL3wrXIL169cPDg0+/9zz27dvBwTB6hN/KYJ9OZt6Kp2GUpw9ezacy9FEAhZ8/vz5+PaRR0X5CBELn7n+c9de+8nO9la7hZPV7QwAxdEPr+Ef45KGP7qf4oRKzrgOJlErRj+XrN7TQCq+yWZzSLUjygF7D/Mdi8bOOeec008/fdWqVWCg1jz+hJgqze+jSU6gNUE8we5jAV7pL/73F5FoFAdCJvbHP/upmG9O9FC35vOlTqg46JEdNjUwup9CRpbZ7cCdempGs/HINlGcV+aNAnAfeOCBO++889577x0eGQ4GghdccMGb3vSmM097Q29vbyqbAdQQzmNX7XKW6K9//et3//puJlNNH/nIR26//b9A32eyuXjYA45HBg9aTxoYfY0kl4O2C4yMJEBR3X777cArVk6fPv30k08977zz5i6YD30MmglxVcksf+1rX7vnnnsQh7W0tl511VVXXnllZ2c7TYh0JCQ3xykNjL52AlVKncC2bt1+xx13wJSDEAXmVh6z8pQ3nPbOd74T6nPnzp3PPPfsJz/5SSbb3H386qs//elPIx4DuANhZJACDYw25GCJw/mDSKL0+jPPPANl+atf/C8iqmxBdDyFh4rNHvzrQ0xWjiKN9IEPfRBpKpOb4lPY+kw8fETV3e2LNDD6moqknErEqtKap5948gc/+MH3fvAD0bBcdiOJxmJNTU033HADNGsoHM7msmHR44nligWw+g092pDXSJxeDIBlJpl89vnnQQI+8sgjQCQwCtRedNFFCN6RC6V5H8XcorIZUwOjDTlY4lRzAnmGnGyXiUYS6Shst9SpoyMjGzZswJr5CxdMnjzZmhBMdGaUg7ClrWcNjDbkoEpW0vWUH3KqPMt5kYhXNxsYHEDKlPjXopyAF6oUejQHHjQYamC0IQddoEed7CWXs4nnYdN13S+RWkLiKmAV2gGmAblZMpWMx2QDH6QAIlH2OpMGRhsy0eVIGEvQkCNbGhhtyESXBkYbMtGlgdGGTHRpYLQhE10aGG3IRJcGRhsy0aWB0YZMdGlgtCETXRoYbchElwZGGzLRpYHRhkx0aWC0IRNdGhhtyESXBkYbMtGlgdGGTHRpYLQhE10aGG3IRJcGRhsy0aWB0YZMdGlgtCETXRoYbchElwZGGzLRpYHRhkx0aWC0IRNdGhhtyESXBkYbMtGlgdGGTHRpYLQhE10aGG3IRJcGRhsy0aWB0YZMdPn/AQAA///XTBKBAAAABklEQVQDAEfjEJyofqgtAAAAAElFTkSuQmCC",
+               leerFotoBase64("precarga/ps3.png"),
               null
             );
             productService.crearProductoPrecarga(
@@ -57,7 +68,7 @@ public class LoadDataBase {
             "Vendo ps5",
               300000,
                3,
-               "iVBORw0KGgoAAAANSUhEUgAAASwAAAEsCAIAAAD2HxkiAAAQAElEQVR4nOyda4xcV7Xn93lUVVc/qt3dbtvxI7bjJHZIQiDkYScTYi6PmRiFZAYpX0aZyb0ghEZIfEV8AQLKFULiAwgYRlcQ8gEkhJKBAMYwucklTqK8bJLYTpz4/Ur8aLvb3fU+5+z5772qdp+uV1e3u32cc9ZPVvnUqX0eVb3/Z6291n64UkrBMEx0uIJhmEhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWIQMEzEsQoaJGBYhw0QMi5BhIoZFyDARwyJkmIhhETJMxLAIGSZiWITMAiClpA3LssLbgukCWzDMJeP7Mp8vTk0VsO15XhAEgukatoRMl4R1Nf3s9nwJ0Y2Pj09NTeGtZbuuazuuw1awe6adB4bpSINxUzpE1blwYRL4vq/dTwsSXL16OeqUzSLsGraEzKwEzdvVarVQrE4WiqViGc9xagpawi4oe7i8UYDdPOetdh5s/FtMLEJmTtgQW9X3oL6pQqVYKMHkKYlZIoD5k9wUnA8sQqZLAlJgoVSezJchP18GtpvSMRipVFgHYrSwB3YRxk1y5G92WITMrEBIsHMWgp6FfEm5oOUK3tq2Y2kawgpBIB2S3hwVSG5t06XjD4uQ6YQya0oXNpR3MV/QBhB7HFsHXqSm4RCYRmeuYRl1FilMvtFy8FKpVhDyKZfLK69aGe8oD4uQ6QQUWKl45UqFYjC+Cnu6MH4wWe2SgXq/I+aEtqhCizAQVn5q0qsGiP1UKpUTJ05AhCLWsAgTDglp2usL2zUkAKHAUqkEc+QF0rZtbRghFBWM0c4jlBOQfoxfWrdmbS5IF6BYaMhf1e6ujwuVq34+ny8UShBzT08PpR/jDYuQacvkJMRQUB6nZUNjjpOSgS/rNGjPoKyZFE47EVpah3U31+yEzKH2STQ6SxV8VCyVYAlx8lwuJ+IOizCBNLmR9eim1C06/Ct7yhWsBr7luIHvw0WEsOCBWsrPlMoimg6iSlFaikLAYgaB73leJpPyQxchuRnRYUOnMwKd3XDQ2iwWylOFPDL+6oq241Wqru26PQ7uoWZd6UART1iEjKjlEiwlP7igEJ3n+T6CochCQJO6W5Wxe6Ju/ZqjMplMxvfdycmpgYGs2UlFwgWlalI6MKrFcgV2DwrEFQPdGsRnlgyVkzKVyoi4wyJMOHWDpUOgkEq+WILifNJgAGHAZlGsM9BNwBb9HEmZusUI0Qav7dp1/PfH77333mXLlg0NDTqOVqAlvKBmDH3Ph6spPVkoFCtlT/W0UZe2VG7RspWlVbbWtmz1CEin0yLusAgZoQMzdtUL8vliWalC+Z6Qk1TpwZqrajJ4YTOou6rVoLeO45w+ffrRRx+FJqHkm266aevWrddcc80NN9ywcePG3t4UfFwEXRB6KZcqvg/TZ6dsV8Vaa21Lqa+ARwOcVSvwqz098Rchd+BOIA19QZUVQhQ0XygXEBRRifkWOUAjQjJ3RoR23X000Zrz58//4Q9/OHLkyNGjR/fv3w+9aTfVX758+aZN12/YsGHTpk2bN2/OZLLpVC/ahMhGqAtZgWXVk/+ej9ag67pT+YnhkYF161bX7kHEExZhApkRmFFhmHJ1Cm5oxdfxFT08Ipxs0Jg9YYTuNEr6JGXCEiIw88wzz0B4qpdptTo2NnZCc+zYsQ8++ADBFzTz4GT+06c+97Wvfb2vd8B105CoPramQpyrXC6izPjE2MpVIytXLqN7YBEysWE6N4jKXyiWVdvMI0PkhGtDWGyyCSpjLGGgcbSSnnvuOciPPg6fDQXeP3nqvffeO3r0+PiFScfO/Ou/fn/NmjXptIq+qJGItr6LQJYrSoTnz59Zv+GqpUuX0Bk4OsrEhlqKvOoJZMWnCsUgIG+ztr95Woqw/9lUZsbEFgiuViv+xHheiqoSpGPj1dboTKMDya1efbVjp5ABmbxYfPvttwcGculUz2BuqXQySmjSD6xqIGw6IQdmmA8/DY6O8vUQ9hQTE5OUe3DTym+UgRr0EKjcnRs2fWKmU1o7Ry3xpyyqJaedKd1EdILAzeeh66Jlw79F0r7uZWpSqVQ63ePbnmW7QyPDaBmeHTubSeW86mCmJ9uTTbkp37EDx02Vq76bSedyvSow2+KLxadvN4swWUAviIJWqyr/rkIy5Eyq7mO6gVePfIpWzcIwOlsxLT806mDrsOE4rgzsifFisTJm2R4kDesHP7NuD7HpplJV7NeFIchiqVSAtSsXEb9J5wad/hw+9DMZZRPL5ZJIACzCBCGVWpCIl74ntALDPTkbu56JNoMkpgsoGyiohQkTWjd1Dj4qlapnz03Yjmepni82rF9dh27awZsMFdWCTBXKmbTjVrPldBqB0op0erK9yBf6CPFI4YsEwCJMEJ7no5r7HvLkAalFtKrlnW1g06eNhUld58cmlSVMCTcFF1R5oY6TgbOasmuCpCai2p9OuY4llxSzWTwfym7Glg6U7aUcDxoNEjCmkEWYDKhLWlUiV66GGqmOKYHVZvKXhj7ZzWqcaSFn+LFS+rZjDwwMTIwXbFuKVNlNSdelyGe6LsI0NAjftOapplOIoabdvO34FYRzJlAowOMim6n09SSifrIIE4DuAQMb6OkhEL6wxBzzUi1jM2anGVhISQh8NDw8nJ+qWpYvUkXbrdh2oH3RtJAQobJ/Km5aRzUb7aAve76vf41TdYtFP19UnXVSdtCzpEckABZhjNHaQOtK2UC/6kmtFpqronVjT0tr+m1zsRaTasvatBTUYUbFVx17eHhJueSpC3llyylCjToHj2SD7Vo2aU9FaVIqViNVjCfI5caGRwq9/XBJRbVqVVNoctqpnqxIACzC+KPSd4EekCTs5iZcN4eH3zboUMoZc8OoXIcle3uhJR2wgd21q8JSIwP1XGyuq6KqNTNoV1S/b5XvD1IXLoxNTk3Ybh9EWi47ruOXS9WEzOTNIkwctrQDbSSlGsEkLhGVCbR0nrE255O0HYE2oadGQ/lVURB2wXEDlcBQYg6qemoMq/ZK8VQ0Cd397+xds+aWgYEqkh2Bj/hqJdcnlwwM0i2LWMMiTCJKh20m25Vyzro0TqzueoqoTzCQ64MRgw6rsiqtCvL3RoRWkwhV3xhZtK18uThVrZbTSoRoPLaYxy2usAiZRjqkB5vLWFp78HWpY5oehR/09WVNN3Hdl83TIqQhURRNlTQ4saZDWbJlvlScqFaKnuf6vkX9whE7FQmA52ZNCkeOHJlL8U4msW1HtppVDNLpdE1d9fJBHV+Nolev5K96Gt+rVCtTpfJkpVrwqkXpqzakm1J5fZEAWIRJYc+ePc8+++ycDmmpw4adtSxh3XWkDZi9Po2vCToidePRC/LVykWvOukHFdWWFMhqqCy/SAAswqSwbNkyqEIsNGHt6Q2ViYS0RkdHRd1rDWbHt5CY8Kb8oBRI/KvAp1UZxGS0lliESQEKhA47l+ncYa25cLj1GO75jczEmjVrmkvWNelpC0gW0vOQQJEVy1az7Pt+WR2tkhkqymrPcQ7hDykswgRx+PDhfD7fTcmwtLrZD0tIEz2J+oxPo6MjFIORM8YE++qfqM1eo9/WZGnJaqAUWLZFRVlCFddJSHCUo6PJIK9Zv3497OFiJMAlsh46b6/DpeoCQ0uHLZcGCtszSwZmBTU5Y3ZDP0A+Q1TwD66p67jJCMoo2BImgrNnz4o5MqfoaBNBOqM0pKYwlG5tTjZlGFs/AFAI3qnyRf2i0Dp0HJnJqI7dSaigLML4Axt45swZNAjXrVsnLhcZ11HDFtVwYadezYKQDgPzz66NSKwgLqqNYdmS5VRKZjNpio3GPkLK7mj8gQt6xx13eNWu3NBL6VYaJpV2av3F9dzeYpYucjpTEZQDWYYZFJYPS5hOu3YCFChYhEwz3UdH238YDA0N5vOTluX4vrSmV4cJ2oxhFPWoaUVKT1ieY4t0KhmxUXZHk0ZdOUG75tlCMTwyWKmUbMtVKUCyh7PcmMoWSuEjTCqkZzsyxSJk4oGeDMaemQBc/PFBVjA8nINBS6fTtu12U810ktEXga8nvAkQWLUd63Lc6hUAu6Mxpm3VN1MIhsbjGpUuTCusf6DPcYXjWqrntl4DNNylO1ySLkzzUCOBYanZF1VJmr4tCbAIY4usvxbVxIGWtNVaS2qymdowXL3oBOlDTpdeoPS4WuJsYCDrBWjgVZEDtEKyb3fM2NiY0NrDcyHbm+nv7xXJgN3RJGD5cnpAQ+eiC9dLJRgaztlq2sKK6RnT9uTaBUUbUhlpW422r4/ACJLgkbIljDkNc8bo/wM9zYyYB7LNvMAtBjfZcsmS3MWLU7Zq5wWituxZq+W160fQjPc0C5vj2B1CqTGDLWH86WSC5nKGuZxEdcLODfbToArT8hQdLe3Q0JDQk85AgWo4r5WIqIxgS8gQHQIz8xMwjsrlcrVZZ6hraX2Yb7sT9vSoCQ5hCfWM3QkyD2wJk0XLURGX1k20Ncj69fZmlTWzAjPmsMWMiSHKxTzCRjQVYkImtiBYhDGHRNTgTLZr2jUde0lObF9fn7mumlQNbqbolH+nYVYwnmpqYDch/UYV7I4y86Td2EJDNpuVoSlJO5tBfFpVPdx8y1YzsumJoeyApiUVMYctYYLoYABlqwUn2p2kyyDNqlWraHVR0dGoUhbCcp2loyOO66u1nGy1doWyncKmCKmMdZyURRh/OucSwh91llaX2jOsWLGi+8JQXV9f1k1Zji17UmrJNGM5Yx8kZXc00cxqpi7lzKOjoySkbqbxhf+ZyWRojYpU2tEpCiF5KBMTA0xgRlxGaG2mJUuWkEGj9So6H1KtVoVau9ehJbVTCZntUMPuaHJZqPG7zdT6f2aztNHNIRCh7/uu7VCeEGoUiYFFyLRg1rBNN8AeIv+uNRjMehKao41Em06nWYRMrGhazEwutndKmQnP8yyrlqOf9YpIKsJy0pJpbAmZWDG9XtLlbRaSCBFrCa9I0aF8f38/dOiq1IStm4R6sjaRCDgwE3MCPbaPRtWa2UFlTZwWjR+sTxna1XDCrmegUatQQFqwaTrmUsMRTsurOFCcH6RoBIVlu3ZNgTzlIfOhp5aEsC53gFRoY0gB0vCdtGN8fJxW8KWhTFZyYqNsCWNPvB+1pwAAEABJREFUeMXpRcoHmo1w1pEmxl+yJJdOu82Fm8nn8xSVIR2yCJn40NDLrGU37obubM17Op+nHdDS0NCQGQ/R+RA0CEm3hEgSLMJEILvrubbg5HK5LuOcK1asSKwl5DZhzGkwa5cNyAmeMEQYtmydh9VTMoPahCJJsCWMOYuaFWz2V0VIaYiODg4OWnU63wYKk1zJEookwSJkFgVSHaKj1B204aPm8oVCgduETDwx8ZTQa1vz1U1UpiFC0+G60FI2m4VTCh3SISTIlscifqMmtlADmvrgxIokwSKMOZe5KRiGRFWtVhtE2LKwnjC/hpWosAyLMAnIVnOoXR4grUqlQtKS9f7Z7UqaqAy7o0ysiNASCu1k6m7clhnd240lZBEysSJaEaKB19vbS71hyB2ljeaSxhHt4LLGFRYhs7ggQBqOfHYwhom1hJysjzmyCbH4odEwNN0T2TfT5GuGZsSoF2BLyDCXDAkV0qKuMCYq02wGTdIilKwXiYJFGGe6mWFpca473c973bp1oj6oIrwsjFEj9vf09GQ12NDD6kWiYHc0tqC2B9FN2WnEBmmJprhow6MBBtP4pUkbTChYhPEm0shoDURHRVNXNbVmcIgGEYqEwSKMFeGoibaE0c9ebUbWh0HyMPyWWox2bXlQFiETIxY1NNpla7OlqKrhaWdCLcYE5icEB2bijbwC/NFuLCHKsDvKxJCoQqMN9PX1Ne80bUJqKzb0WbsSmrKXE7aEzOJC0dEGGp4ONNsvW0ImhlwJlnBwcLDBGOKusNO8pYkwSIEIpbIlZD7chDMB2Lxio6OGcMq+niS0WIRMTCARmoAmjSqcd2i0HbMa20wm0zngSTpMbO9twSKMMdaCzrrdjSBbAhF2NoZEqOMou6NMjLgS3FHXdXt6emYtZvKESRtMKFiE8eZKCMxAVM1ZimalhS2hSBgcHY0zV4IIcQ/UfbQz3CZk4o0txKWqsctlBptBXh65+HZnE/VhTUkWIVvC2EJiqYVTAkv9a9WVdK5YbWhXHu3S0dHR5pOEC9Cko5SfgGgnp8rhO7Pq/+IKizC20Aplkf+Jw+N32+0hEVJUBiKcTh7qdUxjD4swthg7J6M2IrP2RDNrg2K7XC6LhMEiTDSXJ3KDVGHDnpk9eyzTcRRvK5XKzKIi9rAIY8u0vmTEf+WWAynChLtuNwy6TwIswtgCK+dLNKmi/xP39/eH35o2oYnohC1hbX+SqiaLMLZ06WnOO0zaPQ0ibMDkJyg6SrJMVM81zhPGlishU080twkbMJaQBHkl9La7nLAljCdXyCxPxPr16zs8EUyOvre3lywhmoVsCZk4MCdLuKhmc9YhhWFLSBMEJ0qEbAnjCVnCK6QuZ7NZE3RpuCVZn+zQBGYSOIqCRRhP5hFuWTzFhkXYTHj8hOkEx5aQiQPUJryUbqILBU2m1u5T44520xM1lnCbMJ40C68bHS6SVhtGCYYX7hUzBzGxJWTiA4mw2aR0toqLZ4I6nLllm5Cjo8yHns5ia/fR4nmtnUVolhBNZrKeLWE8mVVOl7OVWCqVZu00AxC/mZycpBRFovL1LMIYQpV4fjpcJHG6rtt8fuMzN0zxdIVkVi4b7I7GkyutHjf3XKM7NLEZ8khF3SomSodsCWNI92mJy1bXO8z1ZCxhuNdookTIljCeXEqbajEEYIYUhmO25kKUKiQDyHlCJg6EzWD3VnFRCVvC5psxbcKwLEViYBHOoLmqWm3K0AREnadvCZexOl6lxbFi/rRU3eVPS4TpMJrJjOtlS8i0RpKWrPB7/X8X9UQ2K6++J+wsLni7/EowfQ2Y6Gg7THSURZhEwrXV89RKzu+8sx+cPn06lUpt3br12muvRRVCrfa8WuifXr0u0gBGYPDHqtVqb28KjbVSqfLUH35/5uw5ZMbWrl1740duuHrVig53Faab6glzoueV8Vt91LobjVhklixZ0nI/OaImNJpMWITTHDly4ve///2BAwehuk2bNm3ZsmVkeLTie5P5sgwsZJz7stPj4gKrq8iHj0e8quF2sVCVtnXw8AfLl4/m84X/+uB/myrkjx079u677/78f/+fi5MT/3Tv1gceuJ+6WPo+TUot5k0gZLv7i8RIdrCErYZQ1Cw5XpKgTRYhre2OqiBOnDjx3x/+H7oHo02VoFSt2Fa6WKyUKsHhw0dvumGDsPy616TszazPb0v60KFUNjPARV7dtfeee+5OOel8Po8j11695uo1qz+19V6YxFOnTr178NB1112jZpt2rHkLUBnqKy++H24TNsx32NB7WyQvWZ/0PKEe/AqNiAsXJm+88Sb9GA5niu33T58OLLsa2CdOnpHCrc0nDzsoa72rOuMHAv8C5V66+WL15KnT5UpQrfr4p/CUuYKVgA+8bHT50pHR8+cnhBCR18EFl0G7PCElJzpYwiSQdEuIPzN8P8+rwieCtLADNiqd7nE1ga/GwvmeLBWrp8+MSctRDhL0hzbXHBJxKOoEvjxx/PTHb7k18PxCudybTUu1ki7U56HaofHpOOpvYVt2qeSnM86lhEevqI6jRIepR8PuqEgkSRdhoHXg+4FWoAIivHhxCvshvyWDw4goXBgvDg0NDg7mzp+/MDjQazuBbqx0c3rlaGhp24HvHjlyfMuWOzKu46RTjiur1UpJTfmuojs9PXDYbDPNUeA7l/CXsbQ7Lebk5iz2+An426LVRRsCM8Yd5W5rSYEmYtF+oW/+6sViEb5Tf3//1NSU+qDqDQ5kRVDatHHDseMn3XQ25WZs1+l+nSAdmBGoa6fPnBsa7E2nXF3nIGVR9YJKxStpEDs1N4PHgrgErsAa3G6x3s7R0YQokduE0x1K6oNoVBQBOqxUKvASK5Wy51dSjly/ftWxo4eFNp7AEo7VnuYL2Y6K/VQqVbocHF2cwXVTOpeAeqiUWfsouNTZCuckwsVWLP0a4ehow+9jJsBndzRxoPKFbeCZsXMwR9Rh4/zYOBSYTvUcPHiwPzeAKjI0NOyK4MzZk4EsO0jeIyqjQqOO1eq09H94py28sQsTy5YNIFo6NTUptOOJZiCctFx/f7lc7uvPwg3GRelBUCoVMqlh151PtcQhzcs5dB611LwhFk6c9I3gWeDJ0rw8U3goU8scZhJItCUkESI6Sm/R/BsaGkI9KGsQS1i1ahXeQpyqVWdb58+fQxMS5rEeu2sBnarZNu7+x6u5/p5CYSosfsdG4lFFZfAWIsQeOKUXLlxIpTK4LzFfmgcTzq9yL6CRJI2FT2te6fchR8BO3jK9IskiJMfP151gAqEG0Vj1OdjhO0EY0AP2QIqmc+Phgwd3bN9+8eJFHcxsTd2n1XFPFfLx6e2OP2//4IMPyuViqVL06pAacVHV9tRZC7xC/9iDT+ftk7a0bC3LNJu+BQ+KmF+v5TClBhEm0xImzh01f2mKgnh4kWivqWXxEJJxnBRel44MQGbnzp3DTl8G2IYk9u7de+jQoV/+8pf79+/funVry2Se8ayENrOoWDh23759//Effz908EihULj//vvHxsbIUkGwOkEmtA4tBGPJHe3vzyn9Sz+TSc8vbl8X0oyc+GK3/Tqj8j2tRIidZt5R2g4flRBJJrdNiCrhwUoFyMypBP3AwCAEQ1UeURlUGqXGpUudlFrJGar4wQ9+gIANKtDrr7/+1ltvQb/alVWgaTcwMLBu3ToccuzYMbJp0K2uWg42KPJ5/PjxJ5544pFHHsnnizgVdAFH19eBnlTKzfb0wSzjur1ZNJ8k0vhVZCqkOz8Rht/iS7WM9ISN3mJLNCxCc0UrNGyiwR1NlElMqAjrnV30hEKWi3dQBTX2yO5RtRC6MQNpfetb30JTDcYK+2Gv4DFCZZCWdhqDEydOoOSuXbuoWuNAcmgzGZX0p504P7afeuqpjRs3bt5818TERDabUc5q4OnaqQpAzCQYpDFQCasVD0nFuY5qCoLWA/bmp7dmPc9Prh0sYbM7Gq3RvvwksU2oRWEhSaA6oNm11WGpxwZEBYHBEYXkKJaADdjAd999F6KCcpA8pJweQVbOrGdC8qOGJbRqVAoKxSk/qELG3/zmN2FLITlcCPJGMZRRfq9f65VKjwA6Qyh/2f1Xa2zUyVZjC1uaQTlzKHDLS8zPRpHGmu9Hhtai4MBM4kBr0JO1KCKFSSg7jxgpvFC4l7BLiFg++eST0AzZw+HhYYTa3VDqwKr3PzbhB8jMdIYM90uG6nAJ7MeZv/e97yFIg48oLUFyxuHkx2Ij8MmgWfNYO7qDfi6FltZVdI2JjjbHSDkwk1QRWhCeT391M0TQ+FqW6vXl4/X4iaM7tv/FtZ3A8x3LrpRKCHoKnU0v5gt+1ZN+IFUHbaQdArzFzlKhiLc2DYTAmWHfpB7bpxuQol53f/SjH0GTkHRf30A63QPB45KpVFo7n8ogU7qiXK6IORJuerUzcWHo6xvpNmi4Xd+Dbj4N09PTg8eTbBWSbcgTJlCHyRShpaIyuqKLerNk+jPLQo2hbMHPfvYz8i3hOpIXSkkF8jPDaQaT+pM6DWjkTe6o0KYAr+VKERkOeKwI7TzzzDOU6jCnpfuh5KVylfWpxBzRl5u9HrfzUZu3u8fqODS+5SqFkpP1ibWEEJGxS2QKwlUHeoN4Xnvttbffftu4mrKeZCebFhZh+Axhk0LtulrjEG2/SmVyYqJYmIKkEQZ6/PHHx8fHcS1tBiWlTMxzge5ENyfFXNBtXZxN2M1m0KzTFN6QM1PnDYn+7tXYoJ/mt4g5N1tCQ5JFmNDoKLSjem+6doMnJurdTSCMX/ziF3h4I7lnYjAi1M3f6M2qT18rQ7PZytBQQ8r+kb2F/HDmYilfKatgDIzh57dtoxQZiZnS/doAwm7Y+mbEnGhQbUNMMqjLOqyu5uRB82lbxkVnLRkWFQWKG441Dy+TrggVEAkhgSK0YCaqiDsKK1U3gw1ShKJ++9vfIvEA7ZFbiLydr42frEfzVHWxKJtc055dq3yqPal6wkltPIO6mxrU+jFThgMpjKpX/suOP2+99x4cZ8KDou7OqYCtI1S20A/gvnb/9dqlBGc7blqWXZqjsNIaHkANJa36aCa44qJVNx3Tw4Hd0URAk1kYsxbMXEmTzBFcxB07dkCB+ChfmIThomy7cRpNdkvMNClWqM8alSe56pSkEjBlIxBoRWojk0kfOHBg+/bt1G2tYVCVMobSnmuAVH+7tlM5hR80hobAjGFWPXQvGKs+kKKlhTQtyVbqFUkgcSIkd8zU7LC3ZmT2/PPPozWIDxGerFTQPqxAVnhSI4ySTlMiEOV9ZedUqt3TooNtRXwFWvWoByhe4VqiPP7hQByS6Ukh4ppKI26qTKttSUQM//SnP+bzUz09GWhQjXDyTXdTGXIgu/XNZGg9o7C3vEi0O3nzfkv3wp3VILMlTAS1uIU2ZcYINDyMf/e739EgVOgBmkNsHW8RV0CKL5fL4ZV6dRvDGIKvx4AAABAASURBVA7YhLfVMEF9ONqWyEZAk729PVrMKbKKjmvBQ0MEiHxRGQrPhE0iWe+ukPhS0hJOuL0Xbus2R49amsHuCadMW+43P6zpFdiSZKbpieR2W2uofKam7tu37+DBg5Q+hvCQ3yIhmRES9XN0GbVEsQDG0MzvAA3DHdXDo9SIxLJX/sPT//eT9/4ntCkDbZ61MazNCV8qlRHZWZLr7UYjVKb2nWjab+0yy6boqDGYZo+JjoiZvTpDJ5+RPGzeGf5UtursRtPMmBV5TReZlIY62babnjTeJE6EukI0ipBsF4UHnn766XrrJYAB3Lbtvzz00EPr169HMWQUTKS0Ibs4K4ODgyRmvO7c+SIykCdPnoQUUf8OHz4M73fTpk3kmJBCwv285oo6UNd71XHHcfDVEApCW9R82oD5ZazQmhDNOmzGatOVtHm/1L1naSd+Afq16WumNXiLX6CsJt1JHMkU4YyYhNAGATUDNeDMmTMvvvhioGd5gkv4z//8P7/+9f9ljh0c7BULwf33f27Llju/9KUvHTp0hDKN//7v/++6665zXbo3m4ZBUeE5SdFIxnibiADBtv/whz/E9t13371161Y8DkRoUokGKbac8eUSm2okb4gwnJZ09NOBPHarPrhMJJKEOuKmNWiCMeQdQYFQBRQIQd5xxx1f+cpXxEIj9UCHpUsHv/Od78DbpclXEApCLKfZS6wd0rUMG0qqQVKuu3v3bphBND5h5L/xjW8g/0nZFzLpZO7Cw5HNjyNajf2dH5buh2T6tVO3dXoAme4QFLJOIIkTIT3TG/wx6piGSrBz505q/uGx/fDDD2ezrk741f4t7D3ccMMNDzzwAFke1Mu///3vYYsk5igA/S2mY6pqijdfZzeD4O19+xAawr8e2CLff2Hnzke/852f/OQnb7zxBo3iRxnKwZAUTRpmoRRI6CGULUY2NvftThoJn/JwOiqD6njq1CmEZLA9NTV1112bb7vtVjXmdqGx6iLMZOx7773XDIB65plnwvV+phr162zPAToEzUBkQXBCGslx7NgxY2FMtBZ6eOutt+Cjfve73/3Tn/504cIF6rWDiJFxDYxJFJcgj3DslEZUZjTUnxsbuCVsJDlTLxLZJlSvsh71l6E+ky+//LKa5iyT6evL3n///bq22IvxcKZz4kY2bty4bds2yAD17+jRo/l8HrXTcq35uYJ6RKMyOI7uKq36hXty3749SHVSkFaXUhvIYZJ/ePr06V//+tdPPvnk7bff/pnPfGbdunV4GFGYxDil4VUi5g2J0IzzMl8NN0niFAkm0VMehls+YNeuXZTL2rBhw7XXXgsF0oCEhX1AhyU1snTwU5+6d8eOHeYpsGXLlkxaJTOUBoTqD0DTac96D0YmWoRqQ0/ZJiAz6voj6tON06BhPZBLkiHCWzSGcfUbb7zxvvvuW7lyJbKa5hCxEL2rZX1uAaRqSITk9OKcFB0VCSaJIgz3sdaBAbUmxNjY2d27X4dxQJWFEoaGhnRRseBYM7evvvpqhObffPNNVPL9+/cjGkR+oOdXHE91rUn3QCTSstXToKvzqyUuRH2JNf/kyePUm6feeTugRqAM1BwCNKMc5QlsK/32vj34Nzw8fOedd95zzz3I2qnC9UmyTYrP9NrTv6RqL9fkadrb2KkyQQF9mk6pQFduoG/pyJDvS5r/ijKEuNbSkRGcuj6jeWDVjkoQSZ7oKahPx6S29+7dK3SAbnR0FCLM5fovT0WA2UHmYPfuN7D9yiuvPPLII4VCQdVRX8CNdFX3mgFdRbu+ndDCwnv27Dl//rzphWPcy/AIYzKPNNSD9kxMTCCH+cc//vHmm2/GQwEBpN7e3rC9CqcQww6F+XTG7eixI6R/fK/Vq6+ipim95nI5aJK6LswkQemKJLYJrXpvElMX8Qp/TJsIb9Om60dGhjKZFBVe7IhdNpvZvHnzv/3bLyCDs2fPInmw8qrVOkxioU1nq96qaTnftTLfeOMfhWLeDzwYJf19a/aQVqExxRpERakLBGnwm7z00ku0Hw+LtWvXrlq1atmyZUs1o5rJyUkzrETq3nbk8cpQZ0Cyn+fOnevr60PQCx7p97///VdffRUPCKgdLWF4v4XClHroKNSpdLuAYlGWFmScI4iJbhDXmyWqwQNLiO1UysGzH3ULeWxTSeVirheLC8Hq3nLLzc8993fUztdee23bfSsoxKJ7maq+psLqarB8M2gQ+pX6vDWyNvgjPHQ4HAI1TqaxbOEBHHCVX3/9dRrujLuD3467RTPvuuuuWzYT/Hp4FXoqVzoWh0CBMMvYQHQWDxo8WR566EF89/HxMhKYCM/29/dC2Por4w6FXieOPPD4m8SEihB/70OHDqkaWSnbMnXs8JGLF8ahtkxvz0c2bRocGLBNYmDxw+ZofyI4uX37DlRuVHQEZtUYC1t12alUyipealnWXERoydq/LXduRuYDtbzWflMjHVWddmhaKlXJ4fbW+ripS0i17mKtfVcfiFyzmb5aGNXRJ4agK8US5F2w7Ten8la90QhpQZm4YYgTjT18L5g46ql34MCBC+fGYAZxps9+9rMjSwZT6icWw4OZodzo6qtG67cuEIpSn3hCqtkeL8PPHz3JE6H+q7opOzy5y9NPP60aRba8557/DL8L8UVxGVkyNICwJKIg8ABhcJCuXL58dGwMTlrv1avXp1LuvAMVaG0+9thj0CEinzjtyZOnzEfag3RNKkLU/UbzanqxmFYfJRKou5np5CBnTkqAn5HyjWNjYzSPY1BfXwAFYCE/9rGPrVmz5r333sNzEELVnbdFLUPRQnBWEoI0CbWEeDqvXbfm8OHDbmCjZfLiSzuhQNS6m2++Cf6U0D3LCPq/1owUCw/1Ylu/fu3HP34L2mCwfn/+8x//5V8eQTYbdXT58qVijtTko4ycyPQ4d975idtv/wREUiiUkLhHs/P48eN4hX946tT78FexjUgMGmaFfAHioSy/kY2Y2aUToiKZUYQznU5N5S+ant+0kzKBiLiMLhuBYcSegYEBSA4NQjxoYCeXDOXOnjuNAwvFqR5N/Sibri5UJ+9aIFYkgESK0Ar06AIH7RnUwr/97a9q/goZDA+PwHSg9uhRv3h+62e8TUvnzf48rsch9LaYA6h1wyNDt9126wsvPI/Yyd69b0EViNYsHR0mT5BCFNbcHwJm4jXICi2466+/fuPGjSI09tcM/KdZjxGYpUgpTUxMIRZaowYqxTYKTGgQj8E2RWUo3UeTjpOAUbJXQ74o5EeZetDfPzA4OEhjMikrSy1z/ThydL6EokQJ6ssV8Tohl59KRdcq3X8YdQh1S9e2yl/+8heYxK9+9aumwxdVUEouh/dYsw1jbe7/KVoNIKKPUJVx8qmpAvy3H//4x7fccsuGDRuwB3HIlStXAJ2fMJeYXYj6tFZDXLc5sDTXvzrNrm+8UNO/FILEV1CGFKZWh21oSkhyX0mZ7jRps6fhVXdkc83IXty8nZhObIkTIUHfuVz2dXd+5V+hGplPjdiIBgXOKkITmm94bZDfzF/ervccsMl66Eh9LTAbvs6cRNghqLvYf3U83FruVyurhtC/qrrP8MB6+mFYhDGHvjN1INWaaOyoPS0w2dYvahJhyzKhi8rGjQ7Uk5lN+8XCMI+/uulBLtvMpzb9tuk2a8fKWX4xc4mF7ix4RZNoEYbetv8RrrAJaSMUYXenbX3ieTRoWYRMjUa5dmxoXQbiVDXlHCdZjCuJ7jHTJfyYWiQSq7oGWISzw1WFWVRYhLPT0hIulDLbmVlWfnJgEc6CNcf9cz4/iy3xJHqOmS5hnTCLCouwK1iHzOLB7mi3sA6ZRYJFyDAR82ESYcuO0US4i+ZCX1TMvJBgmIWlUYQvvPDC6dOnV65cOT4+Tn2aaVk5Gvx6ww03HD9+fGBgYN26daVSqb+//8KFC6Ojo9QL/qWXXlq2bFk2mz18+PDSpUtxEjW9gu9j4/333x8bG0P5oaEhFKAFVbD/5z//+ec+9zlajufgwYN4veqqq86ePfvOO+/cdNNNruueP38+nU6j5AcffGDbdm9vL3W6n5ycxOuePXs+/elP/+pXv7r77rtXrFiBwnrYgX3u3LkXX3zx6quvhixvu+023I/5gn/729+2bdv26quvfuITn6CJaCuVysTExODgIM6JL6uX0XVxe/gK+KhQKOEkL7/88oMPfkEwzCIwQ4TQFYT04IMPQga5XO7NN9/88pe//NRTT0E8qPGf//znn3/++TVr1mA/SkJdEN6+fftQcvny5ZDB0aNHsbF7927I4OTJkwcOHFi7du3U1NRzzz23detWVO6LFy+i/IYNG6Bw1PsvfvGLUOmRI0dGRkbwihPu378fh0DkOAMt6Q5t4NJvvfUWRHjjjTeeOHEC9wZd4XChZ6kQegYhCPiVV17BIwBPh2q1+tprr+EmcXvDw8NQOLQKJZPYoCicDfePu6XbKxaL//jHPyA/3AZOhScONo4dO4aHCz46f36cnjKRd1hj4orz7W9/27yBBUA9fvfdd2FPUK0/+clPQhV6kGsAGwh13XnnnTQPF03LuXr1apg1mC/IBjUVlvO6664TeoYf7Mc21AvZrF+/HmKDPFDgIx/5CBSIQ1atWkWH4FTXXHMNjsJpIRsUgPCmNLB7uBMUg0JgIXFvEBX24EGA80MqOBzmDuqF+PERjRBHeQj1oYcegpXGUTgb7gcFIGxYY9wGDoQm8QoziDvHaXFLH/3oRyE8umcY3i1btkCQuNA116z3vKptq0E3g4M5Wu6P+1sxC0iLDtw0g0h47Jw1c7FIGvZGqxehfqOu0+xarS8w81gzms6sxbMghEfomdnEzDyZuElc7r333oOYIf6Go8zAtnYnFKLFuuqsQ2ahmGEJwY4dO2D9ICrYAdgotAD37t1LSwjAjAhds+HIwYbgLcwIFAi3EyaRJpmFKwiDRmtfwRzBnP7mN7/ZtGkTbBRNlABzCr+URI5jYbhg8WCB8RHajVACTZoAtZw5c4bmhEUxOJAwnrRaAywbrohmHq6+a9cuGGpqbaIkTBnatLCNcIZx8/gKsKXYiVdcBb4ritGc8LgxnB/eNewnTkiXxkdwXGGNcT84A74jjoUbjPPgWocOHcJ+3BKts5fk5Z2ZhWWGJYQ80JSCY/b444+jmqJ2bt68eefOnbfccgvqIurx7bffDj/tscceg0jQQkP4BHsoQgOZUZsQkoDzCSXgKAgYlRWn+sIXvoCKDuXATMHHg8xwXVR0uH8o87WvfY3ket999+EGUOkfffTRJ554ApfA4wANPNR+uLW0rMK111571113vfHGGw888MBPf/pTuI64mVtvvRWtWcRann32WcgPheG14nmBYrgEhI22KEI4kBy+4+uvvw5Jw2s9deoUnFI4qDgzNIkzo2GJW8VR0DZ2wpFGcxElUQwPGtzSxo0bH374YZHsNdaZhaWxTQitD7zaAAACEElEQVRdodqhNqPaoQUIUwAjIPTUd6h/qI60jh+qIKIjsFGIWKB5BiVQtAYbqOgQD4VtIE7IEq84BIYRH+FA6IqmWEZFh1Qgddg3iBzCoBnX8QqhoiREAqNHjT2cBBeCUUVcBzqH8CA2nBP2DRq7/vrr0a5DGZwN4R8cC/1AfrDPuH/cGG4DTVw0EWEqYdUResWFcBtQIF0IV8SDAJfGSWDr8BZfATeG9ipunmI2OBxfDQ8jXD3hCwkxC0inQb3U/MPGX//6VygQxq3z4x86hPWjMtQwa154WdRXyRVzBOEiiJYyHDSNdLghJ0NrrNP5zZJ327dvh22H2mFFw6sphE/ODTwmQnhkPcNEDPtUDBMxLEKGiRgWIcNEDIuQYSKGRcgwEcMiZJiIYREyTMSwCBkmYliEDBMxLEKGiRgWIcNEDIuQYSKGRcgwEcMiZJiIYREyTMSwCBkmYliEDBMxLEKGiRgWIcNEDIuQYSKGRcgwEcMiZJiIYREyTMSwCBkmYliEDBMxLEKGiRgWIcNEDIuQYSKGRcgwEcMiZJiIYREyTMSwCBkmYliEDBMxLEKGiRgWIcNEDIuQYSKGRcgwEcMiZJiIYREyTMSwCBkmYliEDBMxLEKGiRgWIcNEDIuQYSKGRcgwEcMiZJiIYREyTMSwCBkmYliEDBMxLEKGiRgWIcNEDIuQYSKGRcgwEfP/AQAA//9/jqzBAAAABklEQVQDAKNuVKyqQkw8AAAAAElFTkSuQmCC",
+               leerFotoBase64("precarga/ps5.png"),
                null
             );
             productService.crearProductoPrecarga(
@@ -66,7 +77,7 @@ public class LoadDataBase {
             "figura goku",
               100000,
                3,
-              "iVBORw0KGgoAAAANSUhEUgAAAOEAAADhCAIAAACx0UUtAAAQAElEQVR4nOz9B5Rs13Udiu6zT06Vqzp3376hb8ANyJkgAkkAjEo0TVImFWhRktO3LMt+Du9Tw2G87/Hf8JdtyfZ3kP31ZFKiREmUqQCSAgiCIIkM3Jw6h8rh5LT3+Wuf6r4BAEU9ybTZYaFGo251d4WuWSvMufZaQpqmaM/27PvYBLRne/b9bXsY3bPvd9vD6J59v9seRvfs+932MLpn3++2h9E9+363PYzu2fe7YbRnfwYLgmB4ZUgnw9cwDKMoGt6eJMnwu4SQNDO0Z//jjNv7g/7pBvgTBAHAB1ckSUIZQDHG8JXjuOHPXLsOPwbfGt547bt79he0PT/6XQwACl95nocrQywOwTf0oL7vu647vGUwGNz4gd/78P+Psj0/+l2s3+8DOlVVhT/UEK8Q4uEK+EtK6dBrWpaVy+XgiuM4mqahG5zonjf9i9ueH/0uVigUDMMAPzoM971e77d/+7c/9rGPPfvss3EcD39GFEVwq+12G35yeMu1T/6eC/iL2x5Gv4tBNEeZ7xz60WKxCNd/4zd+44knnnjqqafAy25sbAB8FUWBHxiG+2t11fAe9qqov6DtYfS7GER5+ArVEqBweMuRI0empqYAqR/84Af/0T/6RxDf4Wc6nU61Wn2TH92D5v8Q28PodzFIOgFqUBhdu+Wee+759Kc/DZkoJAC/8iu/8tBDD505cwZSAvjWteh/zfZg+he3PYxu2jCmw9ch2QnQRFmIh6KI41JdB29KkziEr57jvvuxdx2ZO6yrmq4ajXrzr//s33j+uW+iFKUEAXahToL0FGcG9wZ3tVc5/UWM/8xnPoP2LDPwi1D9DEt18Ig8M44S4nlOHMVCxj8hViHJ5XL51VdffeHFF1RFg5vrmZVL1SNH56CUh+LqWmIA3x3e1R5M/9y2p4Vu2hBDEJrB7QGk4CtUQgAtiOg6yzI3A04UhnFEID3dv39/pVwRBAkKKfj5r33ta51Ob3Jy/Njxo9fuE7QoWZbhftCe/QVsz49uGs0swyXzeWtra6urqxsb64BcTVU4Dg81JHClkiTDzwAJBa4UklVwk5CMArhXVlYBrrffcYdh6LZtw50MqQD4gaFAtWd/Ptvzo5s25OeHBmD98pe/3Gw2+/2urmlpSqrVkXvvvffkyZMMx0mq6fqxY8cgW61UKoDFVqs1MjJSKJS++tWvHjo896M/+jFwn5CJDiVTyB/Qnv0FbE9nerOB24Pk8sd//MeBSEqSaNDvj4+PQhy/cOHC2NjYRz/60Xc99h6AJuDvwx/+MOQA4FO73S6A0rbdIPD27Z/95//8n95///2A5iFMh650D6l/btuL9ddtKMcD3wlU/D/4B/9A13XXdeDWc+fOdjrdUqkEjP3TTz/92quvAygBfOfPn3ddb319nWTm+0GhkG+2Wr7vPfrooxDfuZsN7dmfy/b86HUbtjjBV9DfoXLft29fr9fJ53K2PQAKHzzlsI9EkTVAJMT9lZWVo0dvAae7uLiYz+d13Ww265VatdHY+NKXvnT8+PHh3V6T9ffsz2d7f7vrWiUA1PM8iMvgMn/yJ38SkAe4BAFJYylpCmUQ6EkQssHRglN8/vnngWBqNBrwT2D44bcA2YBF+HmA7y/90i8B1Qr+ePgQQ7Z1+FjXyvyh90V79t1st2P0TWFkqHnCjR/5yEcg+wTyyDRNQBiURwBf+O6QQwVswXWI+IBRSADuuusuUEfhF+FnoMYHTmB5efmVV14ZSqMAaMAuVGCAWrgO9wBXhgTCHkb/LLarMXojQCGOD+kniPXgGh944AHIKQFzcDv8ExwqOFdgowC1gDz4RUDk0tISVPTwA3A7uNJxqK1GR8Ghws8D/l577TVAJNwDgBh8cK1Wg38O1Szwx0OJFX4M7dl3s93LPb2pfW7YEgreEf4JvhOg9mM/9mPnzp3ZWF/nOLnRaOdyzKHCt2zLgSsAzUceeURRNPgtAChgF9LT2dmZKImhugdf+8ILL0DhD9AcdpRC3Icr16r74ZWhN0V79qfaLq3r39rfOVSYhmo7/BP838zMDFz9/Od/G9ALYAIQAwkKLtOybSinPvjBD544ceKee+49cOAABPesba/keW5tpHbkyGEgp6DeB/cJjhburVgsgu8EOMLdgp8eAnSoQqE9+2626+r6tx7nGH4FAF1rp4fsc6gM+b77wz/0Q08//dVcriBktrq69p53Pw41+9zcHPzK8vIqqE3AUgEc45iwjpPAv/feuyHuQ4iHHHRjYwMoAkDzJz7xCUAq4BI+A8M7B098Tdbfsz/Fdi9G39TiOYy5gKFh5T7sBSkUcgvz83/zb/7155//FgR0CNa33Xbbhz74g/ADUBVdvXoV8lWonABz4IDz+WKn0xIkEX6rWq3ed999gOlz584BTKHYhzv89Kc//YM/+INwBe5q2MsH93Ot5XTPvpPtUoxuvWp87eUPjyK9+OKLqgoRWAbiCaAGgd8Z9KE2+pVf+ZUrC4sQr++888619TrEa3ZMmSBQ7eGHPZsVVaqqT89Ou77jeOwU3kMPPWTqBgAUFP719VWrPwDIAl3wYz/x45rGGIChEwUdCu3Zn2q7DqOhH8gAjhTqFcoLGIjLTm9QLufn55efeeaZSxcuFIq5Qs5sd5hYL4tCY6O+eHV+YXnJD0LK4SiOo4QRRpgT8mbBBWjblq4oPOJUWclXSkgTo5Q8/q7HJ8cnBt3e5UuXREE2dLXX7iQkWlhY+Jf/6l8+9q5HozAQRIxSDHcGfNe1fqsosyF1gPaO7GW26z7EIs831tdHxsfBEfYHNuhD1XL+t77wxd/9nS9OTo1Dyri2vvKHX3plZXUJkURV5E6zZTseTZEg8bKmo4wBAM1UxGIYR1nbHsrrGkfTVrPBK1KlNPZjn/xYa7156dKlhStXN9bqd915p8AJH3j/+0+fPu057m9+9nOCwM3smwI/3e32Na1QLleHp/akLQOYDuuqG0/x71rbfVpo9nLDIJIVqd3qVarFZ599/ld/9VdPnDi5vr526eLFxcV5y+ojAF0CPjMkUZx15fGCIiNeAD8aE9ZXr+pmY33j0MGDcRi1641iLg8gy5fyjzz5rlw5/8yXn27WGzRJpyemgQ0ol0rwFVJYkFUHdh9+bGxsFFwxUAdjo5OQJOzfv//o0aNb0Z+R1je+L7scprsOo61Gs1qrsWspVEjRU0899bWvfQ3g8vKLL0EZ3m63gcWXFfC2PE5RSiE+xwyWkBlgHosChtsF1qvv+mHBzIHftS2r22gBCiFb3bdvMiBBo1WHyF3MFTfWNkwjf3D24MjIGNwD8FaqofuhJ6kSLwjgquFXuh1rcnISajWQtQCyQGnBFSi5hjXc3jl9tDv9aJodMALQfP1rX/vCF74AdRJgU84UTqi4Pc8BLIJLg8IIiiFNlIc5ImSLChQ7msrxjC6FWx577DEorbrtDstETROi88R47bXXv61I4vraRrlYCYLI7rvvf/8HW60OALw36GOB79nWxPSUqiuQyi6tLBuaDkAfyqQoY/Xhbn/xF3/xmsS/B9Ndl4+GQSCrku+5IPz8+3//y1Cznz17xvMjPfNtUNoDYgCpjXoLMJEzDIAr1DQkSxFEWQK53fU9iNenTpx0HGvQA+JJ2KivFUvHJifHX33lRW/Qy9VKlbxeX10r5HNpEl46d2Zycsb1gomx8aXVtXvvvu/lN147dPhgEA5mpmd9zwHRHwh/eNBf+IVfOHnyJJCvw/PQKMPltZR011ZRuw6jrJpmirnWbtR//u/8HKSe/UEXIPLCN7/19Ne+vlFvAxByJhTiKkk5gZd6A9sE/KqQKTLHRmhMCbsU8ubqypLn2oBpAKssiylOV1YXjs2OdRqrAL79E+O333aXqpp/+Adfadc3eEGyUm59be2BBx7wHVeVtZWlFWAQ8jlWwgPJf//99//Vv/pXgfxHmco1fLZDgO7yymnXxfoo9CVZjn1PVOXWxkq1UnbsgQHyEi8QP5ifX/zmt19++pmvv/TiawvLK57vVfNlUOohQwXNyQtcyFbjhI103L9/3+joKJRBEOJB+Tx06NDp02cH7XXitscq5qmTt584egpkfF3LzS+uXbh4dX5xRTXyhUqVE6V2pzN3y9F6szWwB7oBfKwIEheU8yBWfepTn3r88cdBa33r/L3hlV0I1l2n1/MCD16QB3YeU93UktCLIz/0bWB6eEksj46euu32d77j4Xe+85F9+w5srNeXV1e4FCmy0m43s+NJVOCx50WKkPKYSgJuNTdAoIeCfW1tNXD7FR3ffvzowdlZQ9cFjMFxnjtzFuiC2X2zG/WN6empb3/7W5CVHjh0ABCJeeQH3nC82bCF73d/93e/+tWvDoEIwuywQ2oo8Q9z6F3YLr0Le0pSjgEUoSQMHMuxe3CBiA88vKAq4EpxyqlmvlIdmTty9H3v/8DoyNj8/NWBNVBkEfMppKAcjUxDiEO/kNPq6+sQrMvF/MrCYqteR3F87MDorcfnJkdGVUmEx/kP//4/P3D/PbpurC6vVKsVVdMuX7k4PjbGIW5jfZVQ1vm/uLQIKAT4Q2IKoAQn/Wu/9mtf+cpXAJFHjhwBPh/QCYV/dt5/NzZJ7bp8FDIbDqVQl4egWKJYknm779fXl8eqpXCQiqqJJIEw1V4fGSkViqWP/ejHP//bv9Fd7I5UizoU9hIny9zk2GilXPjG15+bHh2BMH37LccIFGGt+hzwTPtqcwdneE5M4nRhfuEz//jng4BC7R/51pG77+xZrsihfVPjEY3bzTWzUKj3eoViGYokyImHEiuUTf/sn/0zqO4h4gMJhbJeAsAufGt3tqHsNoxuEjoQQEWJ5zkpRiGHCObombOv3/3Iu1Aqx64r6iXfi3yfFErqt779bSNnnjh1PHStTnNN4EjByN9x6y0P3nfv6tULUeT/zE98QtfNszxnd5Of/dRPoLhlqEJ9vTEyMnHo4L5Bv5fP1Xrt+sPvfPDW244//8LLlYIxViuquvbKC9+MA6+UL6i6DhopPKuf/umf/tCHPgRs//T0NDAM8CSBfBh2DMoyKLjKnh/dFZaQROCRKArAJMWuV6+vD/ptRcK1WhW5DtIkUWOkj6pJ58+f/6W/829eePn5Xr9dMEBwbwBA86aKaJTTQaCPf/Ef/2/rq2vHj504c+acKnA/9YkPVHKG7/SA/VdlgUuhuPIeffhBRcqDm7x0eV5TpQMzk4TcOVrKGUW4MQAJtW63EoR+9md/FgBqmiaUXxDch2N40ZbmhLYOQu1OjO66BFzghWtUBiGx71p9iMSdtq5DIughuHDpwuVLj7/nvXfedeezzz2Xcgj4IODtZU2emhjP5U3GDPDo4L6pxHcfefD+Wjn/Ix9835HZfe966MG8rk5OjDVb64fmDsCdJ0kItVSztXH3HbcCQA/OTj3xxKOPPHQfInG3Wa8V+fc+/q5f+eVfgufzy7/8y4BOEJwAoMMafzjPLCOAJAAAEABJREFUDK4Pj5cMK6rh9d1mu7IxjBXICY8TSeTzebPXEtqtuuc6hXwFifzlN07/+m9+EVDy5HvfD/qT7XUTGoO7DTzb7bZCF1XzaHyk1trYWF9eOnH4sOdY7SD85F/5qOv4/UHr81/4T3/1pz45f3le1/JP/fHnJsen980cXFregAoNCAQQsdqtDVnkJCz9jZ/5qZ/9e/+ACnmoh8BrlkqlYcMewHR4gmrYX4KyQ9XDiL87e6J3V12fIs4LY4kdXaKIIxzyeBpEoRMG3vjYhG4WkGCUCrW5oyff8chj73n/Bx991yN//a/99NTk6MrSgsAlqsr5TgRU1Oy+at7M0Ti647ZTSRCIHHF6rf1HD+LEPn7ycL6QA3xFYTA2Pn7LkSNwfW1lFZzx/tnZy/NXzpw7VxupvX7mjUvz851e/9Dx23QzP4zpw/MkgEjAIjwKl904FEVFkceYY6QEt+tC3+7i8OGlJin7n4hDlPbd7tX5S6/Xlxd1RT956gHdHOWKU4jTCCc44LkELMPPhpEuAyxIc30JpcGLL3zjs//1vzr93ocef2Ju33TkDm45MFMy5bWlS0ngHDhxZH6jPrFvetAdXL18Ja+ZhKQiVs6dv3T3PQ80OoOXXj2Tr44srjWsMHz99PlGz17run//H/7jT3/604okDwY2SP8gMbiOl008hfeHDp8268PKXgJG/G7L0HZjrN9SaqgMvonGSeiIuu70O6pS4G0LgQuTDfjwkpQ4cVIGxNgOoUFldJT5NeGlluW0Npq//B//y6c/+VdOHTnEy1Bu45m5Q0FndfnKhf3HTkaUG/T6ULCzml3RXMs/cvgQxHEgksZnpn7ts1948fTlA0fnbrvz/kenZwTVZAK9ZUsl0dB05jKSVFdU8JjwHFCKAZ2ZWo+HeN2NJQTaZYavS4m8gEUUp6ETSGUgoDw+LyEcIzEWkAdsvCBKCRIsL9F0Q8aG5ff/+I++9Kv/6VdfOXd53/h4e71+5sqyqedUWXREOl7LKUZZDQlKJd+y7I5LCQndZHxkvNHqQyYZJfyv/NK/W1hv66Xa//dXf+2WW283CpWUbX1iw1EQ5eIwAXqJteOnCPPc0HlmX7dE0TS7wmWX3WS70Y/CW53GIcdoHD4lKPYDEdLT2EXWhusQfXQf0kt5SCgxijlOkIQgBtI/VdTCD/zgR37wB3+ER5RH2XwR30WBi1DcufhG1+7CPSQJ98xTX1UUzbFckPIBTUePnPCDWNYKBBNVy49P5Dpe5IUoVxw1iiVCEE4TTZTZDkfIJ5IEQAtuHmokPktGuSwFHfZls6941wEU7TaMZj4ISiWa0hiBr4IvlKdRwiWB1V1rbFxdWG0cu+3euRP3o/yohLg4iEMxn53a4GIAI9CWYipx2Pa8gmYiWYdaBg26YZSKvEqSmCTB6Zdfr5YruVyhu9HK54u+5ZnFqpYvHzxy6qF3fwhppaeeedan4J5jpCJVQm7PMnKaIEuAUBCfMHuOfJxSRo1mqfPWvsfsQnfjZJldqDOBC4y5lOV2sRcKEG5RSgMPxMvm6mJ7o75qyiIvzN7zHkgDRCKDo+MEVrBImB1pAhSKggCaaOQMgMNkWxqSmA0Ud/1+v5+T+HtvPcmBiCVIZGY6XygDyQUINxRFlkQg4gGV7/mhH0bgw3nBdmM/oUbOYM+KJvBAPHwSSEQh0osCyRzokLLn0s0jLrvTdtunEqAZMpiyhA+HbgiwULCQBF5B4YoGt28sl3jNS6dfQP11lPiSyOliqqZIp6GcenzQj3obfGxBmJc0HiVu3FhDdq+giIlvr1y5YrWbdx0/fGx2PC9xc1O1vMqHVs/tt9PQbW8sozSCJANFttNeI76ta8gwRCSk7MbYQySgaQwXKJrgGbKDq/AJ4BhSmS/dxYO5dl9PCXhQxj1y7LBSGIkISwJOI1+VQA4npoI32g0/8hAmQFAhSAl6GyifR1YX6ViSuFJORNRBHTdx/cjxWutrKkdrY9XRovmGZzeWO2Xek7i0V1/S8wWrMyBBxKeGqfFWfyNZJDlvoB04YlQNFDgk8OF5UN/ngZkX+SSOEiidJCAbwDlTzN4acKMCzcbrsoi/W2G6K1431MpxHG/OzOH4NAlR4CPXLtQqJA4xpZrCup6LpkECt6ArOUVCImSrAfJt5LVR0EYp+E578ekv/sfP/BxZOovsdXv9khB01y++JiYuuEbMRaeO7Os1V327mTchWnuYujQcjFS1iTFTl4mEg6XLr/7B7/za4OJLiPRR1OGViONdviAjIUZCIggxaAQ4tgXigxaQpm4SWzFUcuD1Mbp+2X22Y/3ojdOTb+4LhvxSRLqAwjTa6Fh2Lw4D145rpWLf84CLNHTTzFXpwlJC+pFLlt94/dvPPdsdNJbWF/Yf2Tc1M/ns73+ubzt33npXyEtet2E1laKGSeAIiOqa7Lg9JI9XKoVGp5vLK9Xxsq6Jp0+/kHBSsTZuufzzT3/JePX52UNzlxcWJqdmp6ZmRUGhHCVcquimpKng42UeklhWgsUJVGlwnQtCEB/A4fK78MjIjsUoIeTGKfTDFR+ITQILRUyA2Um6LQCoKHKqJoKMzqXVJIRCnpMUKZcrLi2uOV69sbB89stP8YF1z10nKrI3NlaYHC8NXGfUEDaWLh48cKRWK7Q7DVOXwFWWqhUjZwqaOL941bJdrVAoVUY2mp0gRWZeX1lteLFPElaydYNB7HfPnDvLx3djd5DPFR3fY0OgSkWjUAB6lFO0fHVczJVETUIUEmhQR2XAaJqiXXiuacdidAjKG0//ZNexophJOEDAj0IdLRBJ4bAAId13vVDkzSiyxECMEwZjjuOTwOdcG7ndK6++eMd9d07NTYIW1LGlc5euAsGpavKRY0f7vUGuWHQdW+Q5rOcGkSfwqYcEzIuxqCBFtwNISoNirXJ1YalQLE/Uaq7vLS1cOTE3W1Fw0F5VQid0nOX5eTQ9PUCs5I8R1gsVkKzw9AEQYBEnI4WthIwSIot7Pc47xXieH/ZcDpF6bbdHFCaBG5oSAdbej63+oGE7PaCfBoNIU3KQdHJcvtl085W8oOUPzx3tf+t5P7T87uDEyRNh4vb7g2KleuSYtu/YqYEdzC+tuWFcdyJg7Pftmzp4xwMXLrxCOArqlVwejyWTKtzGej0K49nZ0VzB0zS93e66jgWxvWQYfBiIlAo2yZNE6DVGJkddx9fNnBskg073YqtTnFwoz86JI5PwepCIZFHYhRzpTq7rr8X64dfhSQxF1ik719lyBh3b7ltu3/GdvKxEYSoJkigWXZc7e+VqSOeNUvneuYO3nrj19W6zN/ASxxdUwTTzAy8IKLKc0ApTrJfGJ8u6kQtF0yHxmk2IWuEwFVWOL4z6AFUuVgpj+0fHDF1V9JKIU3vQlycmTV2dv3LZrBRyKBV8Gz4kNT6tUKKRGC5yFAExO+h1Gg6kIf5Eysn7dcT4U4T2ekp2mN3Yxx6GIWAz8GJNFng2U5zwGYMfx5ELwhPi/QCJUuHqpZXFxfpqp414bC8t/ciRQ4fnbknF81evLE4cmY1SDrM9ttz8WmN8/1F1JKfoBV7WbhmZsVw7CpxuEOXKecwJi6sb1VJ59vhcTtOB5lJlObQGsgCcVxI5Vmtj1VBzFbPIdRt86CReMAnVUq+tAQQ7bTGkoGNJgtwniVNfWxWlcYzV0QnCK7xR3W1y6PbvHx0KMG9+2ygIPIxW5K6fUnchDXS8/+OffgbFTl5LI7cde1231xqwjiddUXMUtCSsvn7mbBTHSRj49sBp1LtXF2YnJ/u2BdH24KEj652eaJQurjReurhIjUqiFIVCre9zIZW8EMt6dXz22MJqt2/FWNTue+jdgGAs54loWpEQCiYVc2v17lN/9JXPf+437j51SgxdBXir0PP6VrVQgrwVm3kURAKHI98LXA8QrciyZVuLS8uu7aiGKRcqKXfjiRG6peinmwcKd5xtez+aXvtf1suWvUfwtlEQ5bMQT0nMGpzg1maj95l/+PdefvYPPv2RR3urCzmVEj/0ITfNs8WKq53m5KjWG2yMj5klUxzRUbce8VHS61t1y6qOTLQ2Wv2GPVGZafipnp8glvCffu+rVH2lOravVhwdK40VZU1XTKVUFgq3FUuxhMOz51ehYB/4xIpR000vX1kMLGvj4uvpxqVZo2RiRfQshU8iEsiq4kAeouVRzOq6wLE1RbR7rYmi4cYWSUXVwNH6mnnyLnilMbcZ7DNFCth+9kGkw0k7KeZAur1RON3+ecE2x2j2ZmwWEdffGOZaoihUVLbQg2ejaCEZReBYIQQriqKpBhLTfmdtdaXt+Tyhaq/TyxeKgzAZnZrJmUWr3rrw2huHpiZ7jUYQE3CiDWtgaApxfKpGhm7kFVEXPUMve1LeCnHravON0xtSzJlGwQd5iqMKcsSUcfhO6PcC0ieCQ1VB1txOu8ZL737gsWrUkCDRSCmws1EUuEGa+gkUUAovsbG5sReEcUkTQGYSSFzNlZqE8wn1B7ZSS1JJ7LsO5BumohJEfN/TVRUNO6Su/Vl2kD/d5hhlb8y1/sqbv3EtE0Wb/U5AXo5MTDmH7/DTXOhH9R5aa1NMNUL55cbGM7/xO3/rr//MdH6i10+skFPylUIx79oesOet1lpr2X7ng0dFFPO+rYlSHnHjvLRfK3hGNdUqtoY9P4lDKur5OESh7/m2TUMiYlnWCqNlY1QxeTWvKkrqDrjeymDjMnFX6PEJxwsAhSGhHvx+6Ph4IANRn1KQwkRIU0wD5P4OUqiOXrq62uGMq8IrP3DsTng12b4yBymsVx8kNKTq145lZ71SOyrib/+aiXuT22BeNUVUkZUMvRj0GShUOAEVK8XxqX26UbiyZtVXViDdbG6wQ/OW1V1bXr/trkd/+KOfhuLm6PF7GlcufPNPvnz5zOsFqGMcwep0+j00MzmSVwWS+Klj4Qhrfd+wPGdAB6KPAYeVUcLLspzTQL7y/NAA9sCXRKyrsqRogiQFcdRYmndby97KxWJYv/dgFWjU9qBnVFVegALO8z0LJ0kYE4/EqiiMjo/FNPGi0JW0Rs9+4epqXJpcvrw6/fq50amJcrmgyVrI1jnzhmFu/SmG3Xusu+8tf5ZtbNseozfmXteu0syL0mzYKLCj2RXkh57leWtt9wt//I32+rKMaeh0AaRh4HmuVPaVtsMLlOoSHjl45IE0lSV85dUXgDPyMJJlVCkaCLEMFVI/3eNurYDYlH+jE7xWbw+chAhyrKhcSCRg20FtVYtYL8JzcwLf6fRix164eLqskAL2C/Hg9oMTByeMzsbKvukpFNuiSkV+AIwYCTw2PSUmnKF2BxLOVQJVWvfiry2eP7PRHx89Cantf/utLxRN7YMf/MAtR+f8wAetQMJCQhJ8o0rKkU2Y7gjbEX500yi6IeANG0WH9QQAFPTuRmNjeXV1YaXvubFvdXkS8DRSBCwKeaOY61vJ4nJaNd4AABAASURBVErzrnfc0zz3SlFB1dnpJ0tP/pOn/6Cs64bM4SqgHSj8SECsqTOPhY31hZJY2a9ILYEsArW/eHEjJgSr47WZKKBhlGBOlKEUEngcU4WSu+ZmSGdxVBEOHT56fKZYEMPIqvfbjZGSgbHEURp5LvHdxKcCRAFRhjKraJb6qXh6ufHMy1fbSgUIKZrA56x/odM4eeI4YFQUZQKJNsdIDAlLm59X+Eim6IZwv+2Lpu2OUXrD12tvBmtgZ5tpEB4imGPHMCJWyqji9L6ZjfU2R2Kn5yPCQSkVBSFAKQmj57727B23zEmSmCT99spCNSfMHZjsnLkEHmlyXKBpHCYxRG2UOhzFYhSXZNmsTuSK++u8fNWPz7faqaKsrJyz3MT2SMpJplEu6noOFFeottpXZwvoSEU4NqH1V097sXXq1BEa+DyFsodGrm/17TRClCJdF8XypFoZD/WRl167/NpiC0ourTiy3urouXylqMrFQt4w2fk/+AAKUFNFwE+xboR0GOCz43rXP61ou8N0B3D4m6uL0836Hm9GfI4fvjNZfzAE07RWyR0+OHNlqbfk912rSSK3nNN5RMLENyQJSp5SQccoBLFdTENTTz1ro1zUzqzaYzqqztSAH2A+WaEocuMokgTeGSxFvlswq7JWS4Auom0oymv7C0GqJEjlJZPHSuJ6Tn05ac/no/oTd9zbW3qZ63Vmq3IQiLKUtltdRTVRDM8Ffh+wCiwEJ6k1XNznK6XLa/bnn/r2WsTz4/tVLXd+cWHfvn09Yh3ZPz05MZa9NIoZVwH5Ns54KHRDWHl73ng72s7Qmd4sYQ//DZQhl1I2YRFRAQMOBo88eFev++VyDgWdQBQRDdtR4OV1rZLHtcqk31/r1q/wSb/XX0dhq7122W6vTtVkjeJSqbS+sTE9UwyJx+NUnCjkXU73UL3dHKzVxWD0eLWWT/Cri68tNOxIKmC1AEz82kYbyKbpon7bTPHBwwcXX/3y8amc114QYzVXMCB5qNTKjcsrtXyl3bLml9DoFE6oeuDg7bg298xLZ5559Wwf5Y1axUpwZ2PjlpkpIABmxg58/GN/eWIMlH3HYGfwt1oQrx9u5rYAukOU/R2AUXrDNbw1KIH5JKiXcEo4dlo5QZEH9TaOnZNzE2NF6WKennn15TAaHJoamx4fg/KoWisAqRn0VssmCKVxv9NxOnUauqEXVotlkRfA7fm+LykEUkyUuOC+hVxuUjWV5mC9dcVqz9fy+cfnyrfsn/iD5195+aWvyVpxenxf9WhltmLM1Qx//czhcY36jf3Tta7Vq0yOtwcWJrhQHqtvNL2I6nlEJFMpjveI8vJLFy813NPLPc4sVkojBSD0Vdn3uorI/8iHnpicGFE0ESExqwlZ6gn0ExtXtnm4+Vo9v0Nk/R2AUbxFuNz0lnBZ1BfYQrsYxT7xLC5y+MSqaOTIHQePjEhV2XG7nQOzU0XD6A+6FahJXGfQWtKozgU9t9e0G3W33Yk8pI6KiR9KOdUeWAZIPjmNJjEuFZHjx0GiCNGoQcMwEMIw9SMnkX/88bvfcWTqmy+8mtPsR+8/pafR2W/9ybHJot1amRwt9q1evjaSivprF88hIk5opeXLy5xWLE8b6z0vxykNj75+deWpl183q1OF0fHJycnVtfnWWv0d999RGR156KF7WQ/UZoYDbFUsiHISx2xWwJDFZ41e6BrJsQOC/c6I9YBGTG/AKMfqCYR5tuyQnV2L/NR3UOhIJGgtX6wZhyfKyqnDk3aHNzWUkp6ErKAf0jiqL9OoLXGB7bQ3evV2p0EA/6Dcdxp+OT8ZB05EJSRroCVFvT6fiqIiioIgcambuDSwo9jjY3Ew6OwvVE598J2tbm/lpS8rPLntYIULLLNWcMOwNjVTmNj/7TOXHvnQJz03+e3/+Kte35+aHpF01Fo77w16JFpcaqxXq7XVbkvKGVcunZ4cK73vkSdR5ESJRZwOp+XgJWJJYYcNkhgJ4nAp3vBPga6fxr92y/a2HYDRN8e1oQfddCUpZZfQI4GDQxf8oSmkGgfsOPOpOLESn+UCOZVLIh/qlcS1E84gdhh5VObzY7Wo7QDb40Y2iscKXBDRhCKVYFPmOSHl+SRl2aBkmpIghJ1WC2TT+oA3873GypVOF1SkQg6PjJZ4v5PLGW4YqcUxpbJ/w1PaUfGb57sb9faCLxpmtQnSUkp8jiaBtbK6tlGP+xTNHdmnGsL09HheF0Jr/fihqUbfeumFr5+890FVNUjo8ZIKII0gA1HNdJjyDFmnm7inbW/b/UN201G09Mb/pVsYhXjs2aHTS3wAGtTyWrVg5GSBp8CPBkIaconHEU+DQlzg4zASeQVQRyPeVCuHDxzXDeT5Wc9mECphivug3wepRXmlxKWaE6ZWkABnjwxTzuUNVbv14MEyxqTVFR00LqMpExf4kIvcXrczOjWbqhWqj40fuW/Nkc2JW59+dWE1lPDYrCWq8BHx08QLrTiKR8vo1Fxexf7xufHp8QJc9k9Xeq2VckG+culsGHps7SmfZuN12CKHm/4kO+4k/g6J9W+9icYQ67M3LAxCxwmsQewMEhIkgQ9sOTA9cAXRKApB3/E4jhclImHV7vk6HgQ9B4oiHbOYLqkosdHEqMjOE0VpGie0E4ahT6NemjNlowzE0XqnEUEZpEiF6Vk6CGUkgOsTxVSC38FpnNIQvJpZFdVStTDzf/3e0+pY/Tf/+IVLVq6TmD4K9Ok55HbEuGcHqRAmoxU0NjWJ9YJg5Agku2Uppyme3S6X9BhT1xu0Wxv5fB44KkQJvEZJVhmtunMbn3dCzXTNcQx1lmGgB28kiVD2JjSK3TCwwxDwiNIoVzQS4g+sbhSz9YdcmmqKXq2MdLuDSrmCwn6UAKpwrjSqigqKrFTkJZ2MTo6CXEQCDtI/L0oSx1f0fKfeJYqk5XTEGz51Wg7hBM8AjbRcMoCOj73U6ViORTgOq1Cfjydq7r8//ezlpdWyUMnXyuevXsYyXxkpjk6Mhp1U8Lk4ZH6/OK7WSjm9WqayJOgml4LWQMv5HAp9kUvFOO6srIwUy2Ztgs00wQqUUElM+IwO5q79Hfb6nr5/7HppMBQCt8bOSMDOgNTECbhSQYNmww/CMKkUNAl7lPPsoO8ErgZioqD4fXtjeaNSGa0v1UVBBfI/4nCfploJsDZqLL0acRsD0Kn4ND9W6tfr851VQTODQb9teyAn5QvFcj7PpzRyrEsLaxidHh0pj45UVVGMQoHyBRCH4K4IUp959hsrG90eVEIjq2MT4mqnNTMzs2+kcGyi8CcvPzdiGqM5NU38QdtXjukJCdky3TBWZB1TgYsEiZpxgETXCddXrULFrE7yiKeZ3AuZdJrSobbEumYZCcXtmJi/vfvwr1HV2amlm30HzYbjAa3NI11TKKZeGDp2b6xidhqrkHfyHO61ekCB580iwNfUCz3LDaK00QaRVHjXBz546IGHlucvmXyiiyhfyANkgjhqWXbHpk4crbY8BPlriuutTrPVCQlJMe+TJEyTvmOD/4wIUkwAaCmkuG35f/L8C42+43M8B/VOtTwyMUpQMlorjJnKysWzq1fm7VanvrQeeChXUKvjFcZ+Spwg8SD4ixzU7aKMFVlUsQBwRLKsVGfnkKQCMhOSdTaz108wO92c9eZxm0Ms97in7z+71pOWZh4FEjVQMDV9YmoWvFKbQDIaj1UmTq+8trHSHB+ZonEy6Nlj4/vPXbgs67mJmf1TummWRmp33YMKxQOn7nj5wis8EX2P+EEqpanAg+dNghhpOQkBsS4q5Vze87y6NUj7RORRpWCosioaRR5SVUFt+XGvb3Vsp2F7UqkC0Rky4v7K+v58zdDMkplfvHRx9dLFWr6MVUMBfgEoU10duI4JJT3CMsbsBBT8GkixCqdq6qDrxknIRpaGPhLZTF0KOKUcxjt25cj2xih3XaZ/i8FtvMJa1CIXdCZZ1ifGZ0qqkDQXW6uLvpeAmN5o9nTVoIJ25vJyKum3PvDOQ8dOqsUqKtcYsv1Ev/s+9IX/pqpFIIYk8Go0UU1RTbBn+QMX6PpI1LRSbSRnaqSL+h3wk0iQIl7WYiy3XH+52elbAxtKNBAx49RIaIJ4zw8Hg+DK+Yt2GHuNFh20BNanHDqY7/m+YSgxS6h5oD55xElsZSRoupB4gidFki46a5apQx7BI9+nqU1ETQDta9iBn2ZyBusooTtpjtkO6HuieKubZPO2YXgbTpTNWvBJwsbQGOWaoUi2Y/fTOka6rIA4FPYd8FGIKrknP/ADs/fdj7Q88gOkmogXQj+WgZ2iKhcKUEtzSSBQUFaJF6VhTMMIYRHbftBdXjTzhmFCPqG1615IuXrb3mhZCZRr7JIdrQKmC/PBwOZkNYliQzLcThdjMaKpwfGl0THH9Wzf23dsbmVlUQSdSARZAEOyKbCJQAiYAYoSiqOEiyCDBm0J/GgSB1ihW2MDdvJR0Z0R69NN1Z7D1wJ9CngabtwSVCCWsrZfSPG8JJXUXKVjXQBBvjYy4tiOZBiPvuuJ2TvvQpyIsIpM3fVDRdM4FSfdulYdI6691rHTwEFRIAks2QsSpCjYJRSoyZiiwQCwakMCqOgojJM4JEHApjPC/fEyo8BoQlI+dV1LUiKgBkxQEQZeLicriEvCoNeJ/IRaQfATH/3I5z7/OcQTxFbepKznAGApCAIPyXMcAoUV2pVqcaNtNVsNcLSCYeCUZ22ronTzX2NH2Q7A6OaBpU3bykchQPJDX4q3DqNRNtWrMD51/uKFSNSxidYG/r7ZubvvfWBkagbQaVluTs6D1ClpRszEVV5Rcw9+4Afdsy/FkNh6A7u55lu9wPMBmp4HqEKpiIoFjpdEKKd4DpVy2qDt8aymySaIYvB+QGKyZSaWB84UnktQ1hUU+1rs0V7kUq5QKXVsWzDzLnVnDh+dOXpsY3UeqwpHo5RQSJchHwW9NeW5IHEil5TyFUg8IDcAhYmVRxjwy7PPJkU71XZSzXRTp3PWscYN1x5AjUEpJJQC0kxOFe5/4n2BqF++fPXkkWMnTt2WL5R5Iw/JXG58BOqPIKCCIsM9QCAG6hRNz+hep3Jwv8ERZyPfXVvrgXjvuAUsTUkycJ9Am/IiDwliGLmO5c6MVVw/9uERQS1VIInEMRT7cVSB5FKSnIGnirjfcscMKW/kZbPQhzy1Vjtw6tZ+FM2+4x2P+c7nfv2/gPiq6CIBhCYUtABgcTmOAFFAEuL5qqpJoqESwCi4a03FTHH6Ln+NbW3b/zzT9XbJm28Xt94eKMZBiUmHgmHM3rtC5dEf/vCjaZbCpsOWNoFNtkcCcDiAT5qxNyoEb6hbBAFNTraSOOZJz3cVUxuRxzobDZCmooTybG4EO70P+SkfxUCuJkEA6qSIGV2JIVoTYL1iHpGcrscxUeCa640WeF1REPHtTpAYlZDyf+lHfwzt3w/u99jt95DP/QZDU74OAAAQAElEQVTBkmzkreZKeaIKYTxKoiQgpbGR1XorknWopsB5Mj8qYng4+ERROuTtt47d33RkZtvDdGeUfje2lbw15mWH77nNr7EghoIUCnIsSDEvJbycCBJgIstWmdPl2AxFRo6LNPtdXkSjo9QsnF9dN2ujoP04QRiAVOWFkR9EfhgFURwmJE64hJ3wU1UoutmvJkkShWwrvSBIqqpHfhR6ga7KtUre0DVVFkxdk2V5vd/XKjVUG0UJsPGSMXngL33sJ9ea/UbXSQW10R3UG63hCsZBp1vKmaHvgqLLC4gtGWML++DTQHf2wMft7kfx21y/+Q3bLKIyN0O5NIFamZXamDU/A6sIiR7rXWIqFXdNqbp+HxTpOZTatz/82L965qtBvzehiUFEc6UqCWKo0KMIHCXNqEn4SwJkEgs0VwpOW4jZWThEXdBWKZvqELGzqsDCc0BeUZBlhSTlu4FvIemOxx5DpRGWwIYcZMMPvOcDL3/7hfmzL80AqSXjIAg7fRsLKdD5UPK7ccCrbFuE5zsGW83IRVGUYkhk8FvCyV4f/veLffe34VojVBYShax6wtnoHUwzmDLMbp3Ou949xSouCtoTplH15O3v+YEPX3zu6dOXzqlxgoMQHCdizaUcY9l5FJM48H0vYrQ7oD/NGo0Z65QCv4kybwoZh9r1UCNbSQ+0F8TqRDfueuLxhz/4AyhTpYCRRS5Fsv6RH/2Jz/86aS6fl2SpVh51B01FwGqu4FmOYehEAqySbrdjjDicockp8KPfqZrfCTDdKTPJhvYmMZR5T3amCW1tjeMy7YlndBDEfn7rkvHd3LDCQmxbAxtBD1p/wn5c0gE/tG8fPHlrVVLOvnaahIljB7aX+ARHWI5FKcSSTWjLD9s+ajhpy6VNO23ZKYRrO6JhKiZYzVenRL3csMNemAa8ttz15HL1yY9/8gOf+mljarYFaoJRRoKCEh5YAGNsdHZyfGHp6kZ9rVg0JR7zhMpM1kV2GKw2m6A75StjudK4IEGaC69H2OomyT563PVRJdweRv/X2/Wupxu+3vSNm0xgGOX4FLhTQCfe7D+99rtAo3KEqfwcxGoCXhYKE0YlcQzW+bGJew8fXbq6ODk9C0KmZBYiQCfFNkktmvqYh2RXyJV5PS9oBpIVIsiU0yivRZy6vNHb6DrLTTsUlFTLd8Lk2D0P/I1f/KfaxNQgBGbekCWVPeUII1UEllUfrYxXC/1Bp1VfS8PQlCQcxBp4Yt+aX1vNFWvHbr2zNDodpxJkwpIioWspypsxira7aL/j/Oj1sVzp5qSSrBcfvGnKOoJTnAocxRykodnbyG25z+HUuYzqp2yt7OaGJB4wGgacoSrIC5DjYk1fOH3GyBWxokHJZRM0SKiDuEgCmUnn9Hw/4GOsEIZL2U94L8ZOxHkxPwhSH0lUzon5iotli2CtOiFXqj6kmbqe04uMQPKzpyxkhC7185MjtYLeWF9aX7hqipIOmQdJKtPjMc+fvO2eoyfv5JQ8L+cktoEXvQWjm38R7sY/yva07b8b/MY6/iaM0q3ZTySL3wSnmGWg6bWTvje4Xi5LC1i5BKQ7fI9pj9kSO9kPJU1i50CVNPnD3/js03/w+ycOHqBRlM/l/Dj2oaAHipQXEoyB2U9izurHPAeyVkJIDNSTgEVNMVVJ6VsOlqBoQn2nN7+y0Oy1oOp3E/9v/8P/xyc+/sk4oBrPRw4y2cAehICfxT7iHGStX3zhuS/86n8w03TSLHihc/zhezYs++RdDxbG9rdsVBqbNYrjwEZhXtz8cwwBym020+6AWL/9a6bv8BZsvTfDMI6zTBRf51Jv7AIehkNuSLWK3BbUh00ZooA8N5U17upS8JXLvV755Oskb/e7qo3OvHEBWCFOVNyYcyFHUHLjE/vvu+0hU1fPXX2x3VmZnh1/+qtPa3zg2VBQhX27bVYFO2gDpFnHlF5YfHW+wOWAVQVuIAGV1UQWQZoO7wplBwmSCKmGaZS9CMoyPjRHS1OmWZnLTUiY02MnNnnBay2jwDWAvRL02AsgOZH1fBgmkqySrZew3YmpnT1rHF/7yr2JmXrr+5Z+x+9LQJZC6S4pVoyWW1bfo6zFr9vpeTSxHODykVqS8jWkFc3RWxY3wmbjUt1aefx977DsDpcvnzm9iAk/WqoIkhv4fY6GoA2VTYV41MioI9DnFZlzY+THiaoLyXAACY3ZllJedC13fHIGiICNgaNXa6ur7dpYrVRUVBF+MpXZKgePem3gExjbH7GpucAhUNZLRSVxj3vaBUbjQBB5UJk6a5eUqH1yKndgYjoFGr1fVpXbND3HqbmlrqdXp5c6Vr83OHv2xY2NhVT15y+bFy6eBw85MVrM8aqKSBkkrSQsFIHlB0bKX9rYMCPnwEQNFH2QUlWmdgnyMBMBty7IrGXA7b1x+jWBqWByq9GURWB4A0WkioDSyEkgZ5YkkHljP8hzAi7W2HxdQnheJNkOsj2M7gID9wvyJaJi7I+Y+NioNmh17Csv9ZttAfOLlt21YgdJZ5Zbj/3AX8a56oXTr/UX5+NgMFGtvfTcl1u9bjlXzkvFuN9YuXh6f00ranbV57pLq5Cn3jd16G9+8qN3nzoCdH4SAgcgqSzGIz9COYlPY0bdeo1GfX1teqw6XisLp45MTYyDeKVpCo1sL4r8GCQmgYJghsV6u3P0njLwCpAHs5VTnIR2iu1hdMvePmujYeKh2JcFYeZg7QMPHl89d95ptvjRcY4KPTc4v9QhRqk8Om7I9JXTL732wtePFNXYWo26XqNVL4yMBXaH9ToJ/H23TM2V+RyhEyUBT+2nKd/uer2LryCnjSogGKUJMKMCf+2JpBSYhwgk/sOHD992bL+m8OpIBYUBXJL+YNAfsLbXlPfAoxMu5ESQT4/efi+SpRTEgZjN97thMMT2th174PV/iKWssY7IqoRiu3fmWxtnv6F6q9OSt08nB0vS3Eg+L8QTldw77r2dBu7q0sWZEVMKG5MGEb2GkXrEGXAgmIbO1Ggp6m1MaPTkmJp318XWfN5pTMqJTqzf+ex/Svt1UeaFNKLZrBU+oxWwqELB5nlepVIpl4tcGrOC3x9AheRZPbhwJFZECPBpGLiuNbD7PVZmpWzB3pB92ikQ3fOj39GGKmLqxYEmiAjHxG3mOHuqzHjRJEq9KHBDOl4tGmMjDYo2VufB5xpibMSDA2M5XMxNjZQvNhwn8oPQb7fW7zu+f/+4eqqoyCPUUA8FMb1Sd15cW3nt6bUPfuKjfL4ocDKP1Shjy8IQ8TzBQVRvtM9fOF/UUKWgIKsP34usAcCeJiQKfdZRwoY/cXEUlEolxk0ApSvKYirSHXR8ec+PvtXojaN3dVUfON3l068mdjsvkKhf97prggIQihvNjerIaLFcuXz5YqO+dmBqTIy8fSWF623gXqsiCGO5nEzTUqFo5MyDhw+x7ZCRJyY+Im6/vuTZTR75Oo7ZflC3i5jTTdIAHCECxYDJYbohyuqlK4vzS8tYEHvdTug4CcW8rPFAeLlxf+ACXNmhkpQfGZ8A35vGEaPQ2K5UtGNsV2L02sKtG4zSITQphaIdguYmUrNOqTC0OvXQ6mo88XsNjkDMdaEqV/KlhJfXO4POwNJ1FX6moosFLpnUpElFVbxADKKibgJVWe/0FhqNiBcQLzWa7aVLl5aWF3iFv/e+O47Njn/2X/4L1FnP5KWEiZpxNgqQsblYz5filLtwdfGZ578Fipfjpz4VgetKsFEZmzWL45JaqNSmHD/ZN3uQbaQStc0JjzvIdh9Gv4ODieMQoAkARSwjHE7hYYpkbNuDjbXE7gskzBnK2GgtSeniylrDjYXCGNVLDcsfOJ416CV2N8/TkoQNLtWS2KCkIAg5RRMVFSh1H0ser74BTnGl4XphbXzs6IlbSmXz4GjJr698/Xd+O166CnwS1EoAU88jScLC/uxtd3ziJz+93ho4AVdvO41+2PMEKlaVwlSbNayIRMi1rSRfGTcKo2ygHzuuzfq1hqvwdoY33ctHNw14b4AF63MSxRta2YnbqA9WVwBzagLaZgBsO3DtA4pW7DhI+A0vvLDatP1AxdhQhemSlutJMlToJE7FNCcIgaxEigH3e3a5KViJemn1vumRmUMT+kgRVaudeqMg8uOKsHHhtPiJv4qsDtJALzV0jfW9sEFAdnDgyIk77n344ulXKaecOHarE8m2JZQqleLkVLFcAk52sXt5fPYW2SyzFeIpTdgQgM0XxUSA7Z+V7mF0aJRnTSZQhHCb+0nS7FhwFEqBR1t1OXZ54iSxI2CJgGMcKY+Vqi1kzHed5VbfccC5RQUuogNb4GLMEZEdOE4kEgk0YcdTFZ0zhaXO4kgoFKqzsmYSP167eMWOglazvrHa6HM6eeMV/s5HWPEO0EQ4iRNJwlQQKVHf/b4Pf+mPnq6MHnBTA0nlTt9bvtzu9LutTrPdaxfLhcdGZtyIM3WRZOPGr7eC7e1n2nk2PB2VsLWNKZNPQ0+PPKnfxlFXlBK2iBPjRJQ4vVYu3vLSK0tLfdeOUtd1K9ifzPOya4eph7lE5mKBBjQkBCsUEU5VeqCh8/k7H3rf8VPTtH7p6vlXv/LKRdVEExW5IvIH9x947o+/9M6jtwGBgGTZ92LNyDmea+i5BAt6vvrQu35geX7h1c89dWneGvgUEhDdUCUFqiWonNr/8J/9n5evXJCMMs6MnVQhVOAx3sPoTjJwnGEYKIqEOQxZqcQJURL2V1eSq5dykV/gkQb1dhL5nhdz5VjUOgk333ZabuKwDqdI4qMxwwAvFjtByKUqilKC04StqqM4AXcoarl8MTc2NXrh0uXVbz8XOOsyRQfHS4cmR0YPH0V6+VsLjfXnnx1/7H3wGQH8EaiARCGkKcfLiAj3P/zef/LPnpT1an7keHXf1OFScXysOrDarteTFZyvTdgB5xMQ7bMB1tnA8RRt/7a8zPa4p01jS2Q4UNcpoWTYr9hoNF769jfaC5dHRF5HBLk2dQae6xLM+ymGUinkxZATIBkVeU6kEbJbYa/OiyjhSUQBXYGIY1kEApN1xze6fccjjbZ76cKK3XELsnnvydm58cnRag0lydKFcyKJz732EvJt5FtAtfatHmj0PJZ4SRl4ie2lza5XHZtTizNuYnRctNYJBqHQ8+Cever4Ps0oilK2OW24QozPspYdcep+92H0xt67zDIaiu13kCWNh5SUEhHYpcgZLF85/61nZDIQoFzqt3trjdBFolCSpJGBzc3P1y0rsPo9q90q6cpEyTR5qiIiSUo2TJckKOakVFIE1oWUCvnShBeLr5y58uq5y25MzFzulpO3jEyOAaa6Vy9XVD6XWqi7+NX/8stufQkcdiFXCCDnoBQY0HxOmZqa+tm/9rdaPajWuHypWCgU1tdWrW67lDOLhnH7qVuLRQNKJdaencGSH6aidA+j289YqnbDhaZbRGgYAx0pAMHIbvaX4wAAEABJREFUBSFOCThFubX46LGJkuoRe833PYx1xzF6XTPyK5GXb65afs+Jex2QQ+WoL4UW6XW1VEwcjksNENNjgQtQbIUOO+VHJJ7PU2z2Cd9L0eTxIyOzE2yKtNX340jLqwppj6DGfqHNb7xOGguIwnMTCeXhiaiQYxBULuiPPPwgO8bvdqjfFpPe3KR564HquMGVlVQH9h+AH6LAQ1ImgW52ju4IrnQX5qPpW09LpkO0sjZ8Np0GRRayuqS9qhJHE4nV6eSL1XadOqFqAZk0Umx1bM8l1Pf5xJOoL+FQSkMMzD84PkAUByGWEA50SVZms90OSKKEjzkhUTSjWsF5MxK8OHLj2KeCBK6bi2wlDXKpoJPYbazmMn4To4zlZOPSfSQpU9OTt99xPEY6xwVFHatCajVXB/0OZbLV6re+PvmhDz8Bj8R01OyYqyLCk4gFQUbb3HYhRt++OR2Ub4BpGvishTNOw3a9121WWTbJR0mKczlwVvUOQcV814oW6t3uoO/5Do19EUU8F6WspTjhaJywsWccz6bgcxxBPElElEIhlnKUkQWaYtQqYkGMEtt2XUR8EsWGIbET+BlVJCBuY3lhLAmQGGuiyE4FUJokoaCoArjjxLcGbd9zqGtMj1WLeVTMFS5fvfzFL/7ewtrlx9//qKJJgGvMdHsW5Xm8E2L9bsMo/k7/BATQKBUgLwUtkketjbXYd2XwRZQzzYqTiEJ+pIu65fLU6/ONhWYX9E8v6nOJKyFfgrQhjdmshxSF1KNs5RyUXnEacwwlaSpDSgpqvcQnSObFQiTGVhDxsaNjYjmDvD7CZwegOF7QRGmlsYY6dWLKvFFF2ZlkNq2Ho0HoNevzX/van3zi4x/+xMd/+NZjczKDcHrp8pUTJw7ka2O6dn2BPbwY+HgJorADjtjvQj+62enO7MaV7+xLwikC8gZApPea6yobDQLeL9XMSt1WHKShkUJXKJxZv7LStezASxJfJrbEBxj5KYpiyCI5uMbmoWabnykXE3DPYopVcMYCcE2AX+xipR15kR8gYoua4DkWT0cAnSgCRpMzZIHzncHC5fyRCglkpGpsupoM8ZqWK7mHHrqznPd/6seeuOPWGc+qt9tt4CImx/If/8tPTh+5FSE/ZM35wFmx7lHAtMizWeVom9seP8psM/wz3ZBA/EW9jcDpGeDyGKcvRqlM5PJSO+Uq+99Ys1b9dMMNIAIL1JNRIGd7mhGL8mnMoyDjCNglgdvYNHtwoTKWwKVyguREQj9Ba1YQeBEmvgnfYSN8I54dSsUQpwVKcwLuLF3N3/lOHrwgW+EjImBso3h0rPIzP/WJp/8I75vQevVzSeAz6EcRClNg893uGhVNpVCVJBmogCFv4XmemdvLR7edpTccCr2hyRLKHHbcF6oTLu3NX+FpovIp8FApkgc+P+DkPtKbHvfCQqOXinaS6kIqkgQKHYApT+MUk5hDgNEwYcPNYgZTkDGBLAX/Kcqc2I8IlUUfyR0ibPgJF3BqnNgcHc0XEj+Esgg+IuD2Es8vV+W4W0f9JqpobMxuZn7ka5pWnii/474TFTNdvrps97qOPQCvuf/QcV4r0SRnjk6CnMvmWMDnRVRkWZPlnSA07da+pxsagoajSqIgG8DguQCu5uqyCpo7hG4CSpHoEKntC6k5cm6jv9h1bdArBZ7HKQieMheJNORpyObWYkx4DNVTmDLExUghgNFUxqkApVcSJTTFEVJcIvUjwY4FN8SeT4DpDMPQ84H6EnlejP2gAPE5dNuvvoAGLRSFiedAuFd1JQjtoL3mDpqLl88sz59tN5atTkOXuJFyIXSdACowxDmDPqWprhnZ2Er2CvZmO25zu8HLKJrMGFP42mjGri1xaU7iDVnt9EI7VmI5d2ap/vr8St3xVlstzVAp8SUuNgWq88CbJ44TdwfxRpeCF232gQ/NhZwu6FVO0hbnl3zbwST1XQjM0tWVToD0+iCpjR+67a779Vw+jCNZNzsDu9vrF8xcbPX81gayu2jQQRIbM24P+ilO49Ctr6+IHK2vroKDz+naWKU2PjpGCVFEyeo7KCJGDiR7KY6zFU0pUAJ7/Oj2Ne76/4ejydnJJTarhEaAjCgSkoiSMEywWZkZBLl+gHsB8TmMZDGNnTjyVaCHIHOlAU19kHZYKstDOsl1XVqsmZaPQ5/dYavblWpVkOA9y+IKBZQJTiFqPHjHO+bGMUdbaytLYRRr8MuiwmGJJAkKfE2WOsvzlXsfQWHEaXkF4yAI2p3G1cvn0WDRENCB2bmCadgDRwQRLKBhSDRDA6WM6RLg4rf6nQRhJ8T63YdR7uaUdNOyyVAxazHuNOooiXngF9lIZkGbHvMboM6H7YEXk0gQKavAowFPXD72U8Jm48dcttyEl1MBtE8SI7XtBqpirNf7ojpy5OjsqjugsZwGAgC7lq+6jXVRqzV7a831y1LQFUAgsmxCiKSLAgZtKdY4ut6qs4KJza3CoqKhGMmSYA0GnOXlyqDZKiAidDu2quGCSDEnBRFhi37Y7H0qiGx4FHzo+B3x9u7KmunG69wWyz3kFqOw12yDvi5BFhQBnZT4PtewSX3g910nAi4JEIBAXnIUlowSKZu8x5Y7w68SLgBJEse6UsCm+g//6f/7xK33PfUnz3/xD78KlXterw1C2/Hjsmj4ITl/6Wq7f6bkr+wrphKoTO0elERVWdVUJYrDCDja0E0unhdGjmyO9xX4WqWqSlLPi9OyIsk5XVU0Na8YBSRobtdbXduYvT0bCZGw0afDeVc7Y63YrvSjzOh1dDLLAArcu2X7jl3isUjYvGfwYQtrvZWW2LZ81/NIGIOUL1FHRb7OUy3lVSRBTQSw8GPqxYlDSWX/hIs4szY2c+oWaXbk/T/2gxaKPvv535d4R6EKBOPA6ldVbWNjibitWlVpW4OREhZkzayOyrrBeqSCJI0CPkYvfvP5+x74EHX8UGZDzlTwjvA0BSUiQs+CFDeIgjBt9LtOtLDeJkoJQj42DI45UyZZgaZL9vrwt63RrbGPQ9vajIO4Xn0jDkKMOShx4AJ00GqjX7cMG8qdKCKxD/ySTD0dJxqmwAzJnCQmQNUToEvB60Zp+r73f/AHPvGJRsgVpiagfnr+xW99+ev/fb1+STE8UR8r6LnYsVRTSlICrpHgGFiqfLlSGpkaGxlPnP7A6qLAjQWiaebi6hooA9goypIElCc8Q9M0UVjDgrTe7PXbjX6nG9M0pNgK033HRocT/wCVCY0ELABBQeKYxwra5rYLMUo3ByBuTYXMeoIhVAfwx1hfWYUyGadQREcCYSsO/QR7MdCTMYRgcIIgZ3JcnAX6zW5iNtIUfBYAR+JAFA2jJEjIzNwRokmn58/97C/8rEySqdmJbtdPQTuFqir27YFd5LlyrWwa3tRUfmb/jJqrCIbZ2lh1O50cEFYpDxK/JPLewqJ2ahSUJjZ0hAjHj93ypd/7YgQiEk4g/wQRnxLKloMbypFjhwUZ0BkgLKWb6TbJ8tE9LXTbGbd15BPx8IVkGzZ5KDBAeecFv7mqBZ6CQ9H3cZwIOMrjwKCxFvaUoGPEsci69EMxjUSWCrBmTVZcAeRBHOdFBXPPPv/tv/LzP4c0qdWtA5rbq1dvP7DfiKzpkdHFpTXbr/PwSF5zpiYemZs9MiJO5Hk9b8RulEZhp9dNPDefzwmI862BKZbPv/HNE9MzSakGjtrEZnH/HT/6t0+iyEOuRcMAcykFBw4fElAJlBwS4bmHkiZmTfjpkGlA2992HUbZTnuczfeEAljmQnbILZEQUbUkXbio9NZzg2YFPJnr4oIClNEBuQvR3VA9juuthR5NJKCn8poUerYmAWnPy5IIDHrK4XKlstju5EfGvYQaNCkakl0fFCJ3zPcmVK6adPYVXEuLfCDspQF27Hfe914U9iUliWM/jqNWq8lW2ShKGBEVnLNtiyLtrZyWhCcDwXQDxcQ59pEC3VVQUa54bW4lGz4GpJggphRDyQXIBIme21yXjnYABb7rMMrx2QpcgjCbes+usl4Q5Ohc4vfqkm9pocfWyqVsq5yIuBI3qEGNTYMG6bpJ7Cc8UO6EiipOMBvTwNqVKGXTQVwX0slurlSWND1NE1nkCpqCPSJ5Xmz1kTbQaCgKBGlcqFAB64HbT+H+aBI6Pb/ZsVoNx+rxMevsS8SETyUBSh631W8sCOUa4pXhavqUk8nbrQHHW70ym+jcQSubdmc+ms3CZ84GZa3EAQfJaBp319diz4aUkhFKIkCZoVDhEp0LTD7KC8mAj7gEJZFHWS6IoC7BbDBOorAlJSQKLSi0R0dHJd1MkkQQ+Fwu5/rASSX9fr/IAbeeJPCbHOfCo6Tkj770B2ni6wZOIyCsEhVjXZNyeRP4fDnFvhXEMY1se2P+8oHDt2lCCqkm0J7Aiu0k/P1ZbPfF+mw+Dj+kZFjtFOo8UqC4aA/6q+uxbVFgziFYShw7DCQkMiJ66ps4LkjEVVOJlUwxMERMjE+wwM7WASkpY1Hos13iaGxsDPgoAkoVwrKicMMh51jwAl/iaYwTWVJ4KHJ0rdWsSxg5FiCR7S4psHxSiDHyIjZZlKccTRIceJ3FxUOeY5qldFj97C58MttdGN08vcRRPouMbNkmT0Q2Shwla+tRu0VdO2W7PtmGHJpCxkokQjVqGYiWpCjROINiJQVEER109JQIlAuBPRLSBFKGJDQNYXxkNJu4lDVz8EKpIvCCaORzqe9n9U0kQ4EjCaVi0Y2oqUs08nygViPkhkiOIshuEaCfhGoq0Cg2wN92W2FjQzdHENtdK3FQBu350R1t4PWyC8c6LGnsyzzDBOp1O1euYMchvo84gS1jSkLWtJSkIjBNaSCnROOinAg+UOCpAGRTThUiz0EJxpREHPVDoKdIuTwyPj6OWNYrQqIKSD9y+GjaH+i6LlCK0wDo+RDEdRraXRx6DiSeEOmZ5Mma7RGre0QeeCz4fERA0YdRTeC9MGxdOa9P7GM+lPVoSW9bBm37/TDf2XZd31NWL6WshYTGbCYepsj3oguXulevaiDTJz67kU9DlpVy4ErZojEUCjTgaSCiUMKxjKmMiUCggAqSGEghNnMPaHxBEmf27QeQsgWMvMgOFAnSiVMngzgCvEYECP5UFAVVEjVZAtaolDNUEThNXpWQpiJR4YHJcj2/Z1t91/ajKPSRyWMTJY3zp1GviagN32er7N7O0M61XYfRYfULnCjQPexQMNT0A6t59bLfqGuASJJksxVTKHTQcOCjwGW7v9lPcuywZ5JdCABp0EcOa4gD3LPBTEouP7nvgFCqIcIS0GxrszA9uz8IYz8MmAiEkSyLCojuohCD2gmale/JAusjgcfxfGLbjufBT3KiJAUxO+EpY6RTYq0tIaeDiJMSj33Edpntxv5RHvJHlG2z0VV2Ir3b+fZTXylwOCdACgg6+ADcJ4AJKhvAqNXth+B4BUHVTWbBIU4AABAASURBVFlVSDZVIQrjXp9FXt3kipWCDSopL9cH3om77kWKTpg2moK7hAc5cfJkd9APYyKBDCVAqQYUgs9RInIocGyOpMxbEvZZoOw8nqCrkPpyrW5IeFQdRUVTw6Evhf7q6deQkvJAXaVsjMpb7U0O9drtaPvbbsMoZJpZpxIbjzBc/4pouwVyJbukAB0uTdm6bxAtcUZQCbLKSTLlBFDG/Zh4QRxELHjD9xSg2jkBMgPKi1RQWra/7/BREK0wSy3xcDeiohtmLsco1TQdSprCcON8SnVZLhaMKEKg2QNAgdXC4MGBJ0hY6wC4U0FTBJEHkVYCWn/QQ90WIuHNrTC7wnYXRrOTaJvrCSEeD3nQ5saKmBKeJlDiSDIQ5zSmoB/xrFsY8CfIERZ9iuwoHriB44ZekAQRwBJpBlT5ok/YNu+EE1NBmbjl1uyeBcbDswfE+UJhbGLcC4OUYZTNfmJsFNx/mqoSNnWNPQvw6AJSeaSyNTZIIOBv2SpIo1LkFfjsxHwceu2WV19lgsPOrY2+k+0yP5p1N/ObR5jYoXVwpXa3i1OWZYLyBCEeCKI4oZgT2BHROLUdf+CHlhdYTgDXvRB8KBtNqqgKcEggisMNvADpY3L0xElkmEwnFxjuCAMTzhdL+/btj7IKDGUhmO3TBbCCvyYJiUNNA08taopsSIoBwTxMxZiTBF4y5cLYKFKUOI6lFIVWv1/f2Bnzm/7v2u7LR7c2MgxHjcIXQWR7v5MYwmiqKApkfGESszW4wCc5frPdafV6Xcu2PbgBeCpITQVVVQ1dpQlLDeM4hCAO0fzxJ57YXHOcEe006z4SNG163z4+858gMiUJq+5BghIw24rjWANRBq/JixyGfIL3CLhreHgei6WRkVwNJFAuCIBPgAdIwoGVHWjZi/U724anRGIW8VN2ap3dVh0dgeoHlCHAlaRKFGDH5tXRwPYHPavTsyw7CCKUZMFbFHlNVXK6pkiCB/woJWwAPaQKHLrn3rvYjq/rIyYwyfqmJycnVVXPAAocFMAaYjknMiGVxW3QCWISJVGYghjghcgLxZQzVKM6MSGbhh+EfceBtFmgKQkjNjlt14X6XXl2GaoeNMQqI5hSY2YmWy3LboTwTTBisjqhnsMwGseM4wf/KIpIlRFQm4aqgBOFWB16wNJTWQSqNMoZeqmQz5YlbbYbARMP9T08TLla03SdUfeEARp+Aj4fTA7V9FK5AGoCyVpQIYeF6iwnaNVceXx0An6LCkLLAorLhipK4PgUnqHroN1nuwyjw4k5JMzESo45QdAtR8ZiHvusFYqyKAwZZZKkhAZh4noRmxMGgr6ANAkpElIlThU4FfRTEjNUgyQlSgBpxTAgUWWbxLf64SDgg0yFSCrrJq8ZXsK0AdajkgopAS1L0HWzXKliQYJ0FsuyoCt8ThPLufxIZWRqEqQpAC8QppbvBkDZckSAbMRzWRLBoa0V9dcvw9cHiE83C/+bbt/Wtsu0UDYM3FMLSspm3ySqnEeJj9L2qccee/V3/8u4LymhfXhqYn29YbW7smmmMgiPkcSzojth1TcvqWJM/G6r1+rEKY9iXgyRAPnjPXffVxoZz44RISDtZQ2oApZWQrY7fff9+shkE3hWIJ1SLPHY7dQFTexSe+bw3I+8810Q/2kUwgcDAjpDuYIRPGQanXvh5Va9rRfzPo7KGr9y5o3Rw6fU6SBUKc8em/W9DJ0MGykps9F8NMu1MZfNxKfXj2Zva9t1ej2S2CgmID4lTmQ1OPhRVe8FXnV6AguxLmheq67yfL/VmT5863Ejt9JccqJAidOSpGFJd6Ok07VA8AEJIF+UXJIiTel0e1MH5zhV3wz0OB3W8EBdMWpeEEdmZlcvXCQC9qMwJ3CapgOIOn3nlTdOd/2kMjoGeQIP/JMkMncd+X6n1Wg0goFHKSTHQHRBZhGjwB9srKuQvNKYRxk5tjVzhU1NyQTem17rMPne/pFy9812FFjfesrIT54ELmhJgIxBp1PN5e3GfBoNcBDKsgyMvaRIpVJeKWpuHIJ/SwW1DRrUwkqf1fhU1tk4u8SH2ApuT6qMjyFQrWJAJKvTs7F57CqrojjulltPfu2LvzNuFtIQJKdE5jGh7EBSvd5d3vhGbXSkVinpmgxJbSGnAaFv29a5c+d4dh6FlWSqrAAvEAfhxsrKKNsWQlleyzMpN82UUU5A6ZvHBeyMc8vMdulsR+A4RQBKFPFsamLkDPoTkCjyyPPckbzZqHcJUi5dPIdVfWputlouITXn2sFivQMh24uJqAlYUvt+kIq6myTlkREkSoBUdvfZuk5QAWh2JeGYAnri5K2W50c0b0hynIZpnGAS6gbU9kIQ0l6nNeg0FVkCd0lYFwHUZ5xtp0aeE2VZ07RasQwVFTC4NiiwEmZNqSzVldhSO274mEMXyhoL8HBUwA6yXedHhy2kBGRP+D/U9fAm93tp5L98+sUKHYzIXBhKQJuLmqaAcqnroHrKkgpuab3Zvjy/tFq3IyCU5EQAjTKjOr2E6Pm8mmdFfZxiMQNNpioB98QWOgFUS7P7JVUduJ6hQY4B9VgCyqeMUjFN2badgNVvwNKCB40CRnJJIsj9GQ4xqRZLI+VKu9dlIx6hTINAD4/D+mKAxBVBdiXZBArhhoP0Waaxc/Yu77oeZ5L5URYoU8rwlARobVkV8OTBfVxndUQX+40N+LFer0fFxO32a+AIXZCa4suLK+utNiNJ2TAdZDmhUsw7lIaUy+v6yL4ZKFUAXmxwMpflgVhk7kwQ2WPq+i0nTi298bLLSyLgjx2EgpqdhWqahIoI1RgXUQrlVCEbF0pIDMo+obEiy9VSVZFFu9sHCNM4QN0mKkAuraXAtrK0WszI3c2ubf4aQHeQ7S6M0q3ONjariyQcG3kXtlcWc4pQknP9FvipCMhRXpIgZQzZGi/0+ukzDuHsgDgxG/uh5VQsyYgX1trtkB0r4f04mZ7dny+XWYdyJlYC/w9BHGWNqozLAnfICY++58n/ev40cKQBVN8kVgU23dwAJ0o41skE3GlIPCjF0kyr4pCUhycp5vR8wcjFXtDaWGcbTV1n4cVvVU7ebU4cBE01BFJCEtkj8hy9duxus3JKN6W07W+7jsPP1KLsZZOYUVFJ4LQ3TFkkkQ/uiuNwuTZiuyHUTN2+zQtCykteQGwPUljmPruW32z1W72+nsv1bQcqFy8O547dwo6VIEAmg2aaplsjeNkOUvYvim6/625ZzyFBDkAC9SjmcalSOnLs6OTEBLhhVZYrlVKpoA9760xTjoNYwDhnGPAt1i/Y6dIoBvF08ezrXnMd0QAkCPDBhEZZn+H1FHTrGt0xsX7XYXTI2ERhyF66kKKFS4lnRXYfJQAA23Fds1DkZTFIEkmTIYNcawSWy+YyA0AJC908pIARSXoDK1cohFE0GARPPvmkXizajh2wQbhAbgIuN4f1MLcNwOV4STPmjh5ttbu5Ql7RePjBMImbzfrJk8cPHpgF4SoMPElU9u2bmJ4eUxStXK4aeu7kHXdDWvDaiy8DgSphrrG8zLtOb7hFPPJ0E2o3yHrTOM4yVJRudgkwgHKbnTPb3/jPfOYzaNdYptUPwRnjYIA2FpZf+SZpr8qxIyU+CTwoqxVFlbW8FycWkOW5Yq5S4DWJpEnEDoRAuE+hQIEriq4BV2oWS5/6a3/tyB33wL9T0ItEic8kIJaSbrqxzJECk5XL+esrZ197WcG0ktNp5FmDKIXg3emXi6UTJ06ArB8GUbPdJjExTSOXz99+6+1pHJ19441Ws9ntkCS0a+PjY/tmHT8cL9eQpCBNByqLZ0edgZCCzCXlrz/s1v/2ZpJtO+OYTJ8qrH2Opk7fbq+bacyFIDdGUPN3LC9K6pOzhzjLU01xYv/BbpgmLYjwcRokwP9A9BcpxPUEMlcOC6amv+/JJ5GhI9ZCAijd6m3eQgbj1ocdq3Hyrg986OIL35h//Vu+RPhsPzJbuBD5i4vznV63VqsdPnrk2Mnjvus5jjMzNY3LxTPP/MnCwgI8O1lEhZwxOzFGfMdu9c4/97WjH/0kO5QFahYyIZsVWZqBWaDntg6TbIqie7PGt6FBgQKRHRI3pkmSSMlWczE1Ekp4Ue4OvPbAGfgBlFReQvvWwHJsl508ZoeOtcxUVY3DBAK0a1tf/u+/j7o9SEI5uM+Yctk0keFqkWtAZVmi5aAJ8JXToihHIfBHfLXKOKskSQCg8/PzFy5eXFlbBejni8WpmRn4PCy/fvr8hUuyrPo+MjR0YP8+DD/d7Qiu9eJXv4JidlpaZ8NzKGZnC7KPR3ptrQ/7X3qtE3E7267zoyzQg6Te6yrYXTh/WgwsUPBFdgiPSpJUGx2L663VerPesYEQulLvJLzUd33XZ5WPJGRgYL14iabwmJJ2s/Ef/t2/Q0bl3R/9pCSZm2T65iGULWNowVypklw+d+XKFRCxdJxiYgvsgH4UxERVJJ4XPc974403zl24WCpVisV8r9Ppd7uDQaKPKYBRvswBG7Wyulodny4J6vNXLrsvvajf+SCSc1EUwGfnrbx9po5yePvzpLvOj0IglAVBAVlcwt6gJyEqYyAm2YoDqMpZaz0vAFFv+8iPaaMNcd7zfXZ2jWMLDknoB4HnBV4EwbrfBe+buAPrj3//97uLi4hNksr81o2uNB16NKbBLi8sddq9KIrhDrLm6LjViqOI2m4wsG2QpiRVwQLf7fcuXbm6srbGsSmoaH3dMU1UqVR833f6PYUSndKCJDz75acY3T88DJUZd82PZnjdMb3Quw6jYRBmnSUiCkJN4nVZ1CQx9DxFBHZddDxAJoUSXlQhgvK6yQplUMOlbMoSW1LjBUmUiDzLaiHxU0ShWiwsz189/drrKEqG2x9Q+hbXBaBxXfh10zShToeADg4Z4jbgvt8HAZa1qAKrys6HcozBglwCQnxCiSgy2E9N5XO5HDhaLqV5RdUxN1Yonn7lZW9tDdQIWRBj4HrfhrffLPK3u+2uWM+k8JQAOtGgFS9c5Hxf4CMRcbbVr+bzkI22bA+cWb4I9ZHQ7PpQAwlQKgsMdRwBmZ0Jj7KMFFkDmrNc1LtB1BuA4oTOnz/7ThIhoPfpVjNHJqbjbNQpK6GABwgjUPFz+aKek/i4FwXu+KgWul6aMIfousmw0YRkF1NBvQ7aPyOUJ3LFYqFvW1DVgdNUSpXUC2XMtZbmL51++dbjt0jC5nbmbPIj3lLvKTtosCNaS3aRH2XUehqbCs8TF3mDKy+/UBZ5IWQCuS4prW4HIJWvlgFjosRFvg+ipCZCYsDI/sBnNftoTZmcMA1dCkIPHCFwTUB8GsWCF8cRO2oUbZYtw1Ilo58SyBB41mQPDm9kYtoNE9uJBElJKacrkmt5EoZsVBmp1aamRg1DNFRULPIg/o+OFQ8f1mvsHAu2bJfHUhgkeq6IEhxlU57zIl45/zLqryDUT5FHUEjwkJJz3QMfAAAQAElEQVTNmv0pT9COqJh2Xc2UZmuVQzdpbCDPASQCm49wRAlpdtqUnaYD/SjHThPTDmYbFoer45GqA6vEZQePQMvkTUONEt4JAkGQ7JC1fiimzsvS5tLxLMAyUhQN9z5xbEM9JZOzM4phhlbLsf0cWzsLfECUr0pAIEVBxM6T8rxW0KB0c1yLUnamKo5DAQgvnmcjzMNY1XJAxJqyoSkb5ZxRX7xKe02UMwhLPkTWgZ+tDhtWaSlzx0hE2952H/cEETn06yuLQDQyvokkBDQn4DuDtN9tW4MBW7aZSTRQAimSXMzzwO/I4HF5TsS8yIh6Ea5IghgGAUY86PuQqrKRjmI23gzdVEgPQcuSRUK48fFytQI4CqKQZMc7Ie9wHQuEAwr3kiRQ6cts0A6GO89mjMBTC+H/EPw9n3WgFIvFFJStXn/Q7kICsrIwDxopZotw481HubYHdQfZbsMoZZHbtXuNNVCOeBoJKaSZkcRjVQRxMXDZ7hs3cL3Yj7N58kLezBVyuYKZy+ngvVRJYM1wcQTlDpf5uRiu6Kq2f/Yg85z0ukrOvalyysqumdkDkJUC/pMYfjcplbBnoziMuTQF9AuYDz0XngPkpRw7a4rhAxPFAVT0QC6Y+dzUvhnA9erKUr/dZjV/lHQ2NhBkHemwWBs+8HWRaWco9rvt7DJ4sSjuNxPfVjCRcQollJAmpgwiJgg0ICDFICoKWNQ1LQcRHeprHmBq1MoVgCkgKfACwCUEZZoQiYccMYZwD8z8/v0H0XBRQgaRTR79ml8bXouiU3fc1h70EjaDh+d4MZ8v1iqqqcrDUWcix45ZseU7Wfs9YJaQGOQDEBEgVyjVymqlkiRxp1FXRUmXxIKmnX/9NDyYyCaobxm3+XWntJTsxvP1pFtfVdh8RipD+gbkIqWqJBoKRPBMuiTseHEhX5wYnRipjFRKZQnzTm/QabYcy4baGRweRHvWBy2yiAyk6e133KVWR4AvH3bFX2uFx1mb/HA/TtZSyk+fOsValRIqKIxdShNyYHZ2fHQMPiNREMBDwzOBiyyCf0/YHBVKgQyA7yiaCn40HHRPnz69ttwEzosnqcYJr73wAmS18KHihw+0BdCdFO5329lliPVhY33FAFAgVuazHaEgdmNO4niI+AJbDgdEJZFFxpeyrYgJgfxvfW293XQJW9rJg9gErg4iNeZ4WVVdx3vwwXdkJ+vZklGCr5914za/Zn9kqJ1AdK+UamPjnCBEMWSgqQN8rOtVSoXxWhUenYQBn1KZZ7GbYZ+y6aY0K4SMvAlfX33t5fmFBVD5GZQFwZBlC2QGUFnTG1pJbsqG984ubztjjU+R1W2PlTSaAglPSBTygNSUem4ApI2sSkSQSYiYMO70V9c3eh4h2fCyvMETjKOE+MDkQ5UFiOQ5RVGcRu/ILceyzmQcsxPO11s48WaBj4Zzx4d7d0ZnplBryXY7GkFCGF25sjh2zx3j4+O9XqfZGSAOuAKBssMsaQqsaVaDQQ6s6zp47jfO1GdqasEURmoVISaSouSCEBwqcGOcor7Jde4YZ7rz/ehwDCe4o2yxFjv4IyuMkBmZHHddW4AAryl2v18sGoYmO5a1MF8/f67+ykvLly+tJgmrvxmvA8UzG9rEupUkUWKHnTgB5CLwp+9458N4cgqx2SccazbmOfaF/R9vXtBwLChDEvy9H3/ve9ebLczuji8XS8AEnD79euh7t91229R4LQ7Bu1Pw4jlNFjnMDjMrwMvmW42Nrz/3enWEC+LgwJGDh+bmFEk4dujQySNHL507i+gWGm/2o3s10/a0Trtcqdi2DVdd32Me0nUjkoBKaRiGzETITElSUHZFKuaUrE1eZr10LAtgY5si4IkAPhzfaHXug0CfsmGkYZyIkkLe4r02gcKGQergR8vjo1iSVc0AWbXX601MlPL5/OrqqmMP7rr7jttOHQaMwq8Efgh102i1nDf10A9MUz86Vx2fGBUUQdbZ3h1TN+AZV8plVuCr7BTU9RWom7NSMLcj3uDdNqeE6/cHoqb5KAXhHsoXD4roIPQhvez1QnbMmDdzOicQPwhpwkqWXL4QUOpBZhoSkMWjJI0gDtM0myqGOEm44+67spyT9wNfEpUhJjIFkl4v79FWcpriiekZo1DUDDmxeqw/X5HTOKi3On7kVirlgydOApO1tr7C5XN9q5cmMaQIsirPHToAn6JGsz0yNjG+byYeBGwONY+rpWLgu5unQNkgHXztzN3OACjajb15ktwZDMr5vDVocaLYdzoGSsIYRTjmJF4zdLWglgjgNgn9CCQkpiJl7jMEmEbsVFM2V5QDFYgTlcNHZnKlclYwcSAC+YhI2TbuTaH8hs3OMWtGpjiO9FJ5cnqKDppAPI2bYrO5asj8xPQY1GHPPPPMzL6pA/tm86YK2Wenny+UivkSqAg6POLSpUtnL1567w/9CMoVOivn4AFAkSpp5nKcjc7X9M01qGiz9QlfP3S/vW3XxfpcpdJ3AyiOBEWJaAr6Z5AQTmAuFpJPUIAAmdk8PTbIBBhKVngDre9DpcQ6P1gbFI+wIEFCCW537shhgDUUSZnmmS23vTHW39ApBymqB/komCQfODhnW66q6mNjEydOnlQNHep3RVegVLpyZeHcuXPtZitfKE6M1AqGzotAkaHe2hokzSdO3uJGHmi5nUHXzJucwBJfGegCmqRvUee3WIVtb7st1kN9XijUalZ3o2rmEoz1fAEgKOlK3wnY6pAEVMUEGFK2DMSFPBB0JN4nbPRnTLL2ZXZ+TmSDRAQpCUh1bBRVykyVB6KUrXe8odUofctjsxSWIB4fmDv06h9/EXJakDoPHt2fz6sXz521bA+qe9BXGxv1frezuHAV8uNKrQquVNaUfqcLLNjIyAgQ/ZB0DAJ3VBY7nU6Ld3K3TrDcecuGMsLws8FxO8EH7TaMsq3Ec8eOv/6VZUdIyyOj2Osqhpn4riQT5k4xwIitUwafilDI2uQ4MmxwhnjOfJXAeqFTgYfUD6L/2OQEUmTgCiAF8GkCKeqfQvfIrCnVhR+emp4BeTUMnbW1tSBonzhxGJLaKxcv2f0ejWIgDaAYClwnCIL11dWLF68KEqqM1MCAbJIq5V6n32jVp6YOOk7UEZRDo6PZHoqtlefXnwHeGY3Ou/A8E9VmD0ZIWelEpZkTPaKJlQkX6HpF8HFih77tgGDvx2kqKLKeU3kmjbKdCkIG4FQQE4GPeGGQUgul5ZlpUDiZoMSqFZap8pvDR6+dd8NDaXRg26xNH9IFXjRrVXN8zBKkxb691hlcmV8BEenYyVNazqB8Khvg1Ps++8iIRqnMybwdosrYxMiRY0jWEFY2es7Vpj/g+EjPIaMgTs5CosumjWbM7FDg2jlK6G7wo8OVRVuLixghE/f67/yxv/XF//OXlpbbJ2fuvLr2ilyu+YMNCafNK31DxVEEGpIEIdVxwsRhWxKDEAUcEotqBKKlqLhYbJPk1scfP/DYYzFw/0kKuqjJhounkDzyw+WzjLdnDzn0ayXTTEkI0hSLy7MHaG10uV6vVkcXN5YlvtvqfPPRh++/9f57EYl69SaQD5B1sJZ/yh04eRcvi2OHDwKPDx+wQYifefkiNzrelguRqL3nL38SERGFwMMC1cs8Ds26SPFmzwDeAVjldvCeybczH8V11lu/Ds5P/+Nf/c/N+deqek9BTS5opZF35ZwFcmnosx8BVh7YoakSRwm2Y6JWS+0olmtjSwNr1XKRWf5Pn/utwuwBRAQ/gULIiCnAgyUKWZvzcKT49VjL4JqAPOWzHUsSXvjWc//g7/7tB47MafVVYdDh0gAo0bvvPlmrFIr7ZlDfRqLGDqykIDEZmatmFZEdhP/qv37OIvzieucnfuZn3vGe92lHTiGssh9O+ZQTKDxoFhq3PpE7wZ/uuh1iMYvDPCqU4HLXw498+flv9ikXyXqXcn3CexLqEtQMkQXOs6gbYwIEU6lYxbl8qpheKvgU9/yIk7RPfOonCzP77E4PCHdFVgglvu/zb+e2hj4AEtwI5HxJZfAlaPaOu8ujk4sbja4XR6IcK6qTcl9/5Y1zy+uNpTrSi/AZQEYpIhz1E4rwxavLTz//rf/rC19sOaFH+Psefvg9H/gh7dgp5MVIkNkuh83JvNmLTDdnlHA7Ih/dbXPzcMSWzGAglzQRXWm2QlV/7vSZh+4+KBWqaRSWuFK/49l1e8BhmRcSgfODZGxkNEKCj8TRQ0f+8OvflIqlf/Fv//XBdzwcO54oq5AYyArb0AA6+2blwoze+Pln03sIZYMYWVnDc2wrKf7Ep37613/5Xwc8aXuBYai5sdzK8lW02jy7UJ+e3nfq5O2FkrzadZaWL6w31i9duZQrGUg12j69erV5x7vez+0/Ahqt5Vi5gohUPqU3jM7hUm4HNT7trlhP2Ph7P4XaPtVSL/4nf/8XLr7+LHXnjx4q/dD7Hu3W6zQSQ4+z7TiK4OLb/UFFynVaXUHTzl5dGN2//9R993/45/8uaxDBYn11fXR6FiosXpAlqGaACPBDTeG3ZtYJ6Y365ObgRepbfVURURwiRXj2c589/dWn3njuaU2HhJYWC/porSyKkj1wBn1XUY1ms82LYnWk4nj2Rmv90pJvU7TSR7ffeej3nvoKMksool5EtXyBXFPsGffE1jWgG+u27Wy7C6PAwXdSFwQig+0IQQ/d/WBO8qdGOBrU3/uedzz39NcG7YgmsqGXQY4nNHD7Vk4yrI690Wk99sQTf+9f/xvWTi+IKKFBFClQVvOy43kp5lVFZx0l8Bhpto0+G+c8PJl5g9jEFtJGgQPsErvmOxyISefPXjn9SrdXpyT41vPP3n77bdVKZdC3Oh1gDviFhcV2tw2aV6mUW1i+vLCaiKXcIMCrDaiqgjRKOEUHWcH1AgXucxjfMetK4YZiAiNLtz1Gd9v8UZwQXhaUlkVGcvzpC5cff/TOunX1+JE5j9MurvbWVwNwcLrmQU7HzhTRhDptQzcvN6NP3XFfaPuSwfbXxCkSNAbQbr+v5/KYE0C6lNkx0Zse7sZ/kaFcD5Kpbmbf4zt2WCnky0duKc/N9dYWBUz/93/5b0+vtkyo3wH1vOTYQavVgjTCzCm33H/iaqdd91t6zPtYdBG6cHF+ZHRSFdgxKj8m8rC9OpsFeE2y3xndebuOHzUEDV5zPse/8NLVscmpdq93eXGlPDo1v9ZcbgUhFZFSjHlzEIoOEaiSdwWl7icDhD748U/KYzNcrhylPAelDxYJ4vKFMvD2lLIjpRm79eYa5VplDS4WChvM9iywMZHgYiujEyH8wyggSSseusU8enLq2MlVO2rGwsXG4Oxqd8WOXNHoxtzZ5eYAQoBqlqY1N+UFs5yK2q/95m/rJRMoWydAhaL+5gfmdsb8B2a77Hw9O57JYgfExXOvn54YHZNE0TByR44e7w9Cz0OSXqWc4QYYizmKdStKB4Tr0kPLOQAAEABJREFUEfTuD32A0/MZLnksqxQLHKBjazcua+Dntoro70z2KFvniHFG8Scg3WsGElQqaUgxkpj7wMc+OaDiYscZEJFqxUEiwDMiisFp+nrfLk9NJbxMBGW91RM0Y7XJBp8zx6lAQbY5/fn6KTvWLJvujCXNu283eMw2xcPX+sqSAFyl74+PjkBpcuXqEkhFwNV7HhUkUwC+M+UcP4nBTUraRz/5KTehCeN3BLZmkRPTTYZnU1LawgbdPF93g1CO39x5zGyIHZLNibBD2rNcXjHnjt8epmKz76nFsYhTY14hok4Bl9lcNFE3ZV1nLYOiQDHf7nYbbQtlHlrcmkaCr2Ey3TmH7nYXRnmKCqCuR0jlUOxYo6WcgsmtJ46GgddptXVIMVN2xh08I+smiYHPTB0/Pn7rrU++//28KHtRci2kbm4Luw7Q6/uc0Vs6OfANSOVuhixEez1nYFV3EjK2b/+h47emoh5Q4HHFFCscrwD9CeG92euoul4ol0DEB0EJWK7GxtraylJCrz2Tt2KS2xmS6O7zoxTonyiEEB56wESR2BuplXvdVhiG7Ac43jTywLd7YYAFQZKZfeQvfZTnsSoDLeWz0bgskA7ZSMpt8uT0hj48/OZHvA7omy+Zz3PcEH5ZlWTXiwyz+K73PGnmSpAXUyRCOsHxbO4E1GTdTh9S3nK5BLQAeE2BT+E5txsbNEn4TYCys6fML28dptq8pHv9o9vLMhTpOgiWgSJSZ9CslPRSQW011vzAdTw3imMsSjEliqYKEt8f9O697+4n3vOuwPXhL2XoOs+GhjJnm00cuxGdN3ZvXsMhvfHCfiW9EbVs3bKhy8O7yOXMQs689+77CoWSomhZaS/CJwojzHOc59qR55ZyOqaJQCOZB/HfIZEj8YS1TrOhUjQ7ZELRcKLOteew/T3pbju7nLJGZYxETCQRuU5vYqIqStzS0tWUTQ3jINUMgb4niSiLA7tv2/7HP/qx0dpIwVADN1RFrIoCidhJI3Z87yZ0Xrvgt6lTshm82a+AwpRdUJJBKmVTIoOYbajP3owjR47dd+/9vhuwjAFSYTb0MWVAI7TTbppAw6oCaKnw/EWcyjwHF/hemoB3J9xbZpDtiLXLu457omyBZ+jWN5bjCNQkh1B/eeXqhSsboFPKqgxvqh/7ADPbs93If/d7H3783Y/x3Jb2nWFSBkJyCMObZ9Kirdvom2jJlN78o9cuzO1RkrJpUgCxhBXh5YL64R/+S2tra+y4fjZLB7FWFdBRuXa9LvBcpWCylcskkHiqK+DOY1ANeI5sPuzWAw9Xhu/lo98Xlq17ucF/vBUJWx4u5TKuRldCq+f0OwWBnzRM3SPxmiX1kGAhzk1j20fAhwucZ1umof38z/2daqUMjsv3Al1TA993BgPEc4ymYsZtVkjDE/RbquMNf9NrV9+Ela21IyAlcQj4VZymEKx5ttgM3XXXbcR3mYvl2CCIlFBMsYwVpxvIRKyopkaQHBENYRUkWfYHiLOJ0dmr26JFuSzms47W7c8+bW+MZnvlKJuYgDaHfN8Ue4cjt0kcRl6SBhDmUxx7Vg/e+M7KCur2jyjFfD2a/72XlS46KsxUg7wB2nsUJa7jOt3/7ed/4V0PP8plCriqK4ArSFKNfB7+aDLwmgyaOGN++GyC4vDCc28zK2R44W+4ZLfg7HroZWEacg8mpUoMdfGr596oN5bCyFFlIU2ILhdwoq4vDJyN8H33PKo5sRakeSQlA4/xAnyaJA5NY5pGaAjKYUsJZBSU7IBW/B3gR9P0re9Dmi1iomh4iBPEdyjYIbOLEqIViy+89PJ//S//+at/+CWZEMEPsR09MDW7sbHkWxYrUpIwibyimS/my/2e/ebHu45B/B0ubzX8p/0w21lDGVMQxUPKXRJ4U5X++s/+VH1tEeBHg9Dv9ffVJsWEtzZ6BcQbCZF8UPqt3nqLdZpCLivKbGgfzjLcG4/97Yh8dNvr9dwWXm68CWXYJeBZQHaXhGw+SRqShEapJOCRscn1Zmuj0zPHCkG3PXFs7MriqqxiUZckSeOSVBb1U3fc/s4HHiuYle/tx5jLZkNkESCIEj7FkgzVGi6a+pPvevT5rz61cuXSVKUaDPrzZ18ry+LC2Vcka8PkyKnbbwtSXDHyrMGZylD8STmNclzMEXb0astRo2vTprazbW+MctlhM3rzTZv/lzgecrzNLchcdkpexqATifj/+Bf/XDbVD3/yw3/pRz7wW//t//fZp175yIff4b5+oeuntm/1/YST1bm5uZn9+9gdpd9Tb7SZyyYJqFqbwhWkC7osQW105MB0TZVie5DyOaSLPEmP7p+5/87jly9OG+WJs/Mr4PER27wr62Y1Tlk/dJadgyNlGQDOEg9x+zvTHdD3hK9LLNwNDCW3OQ90s9BmWrZAueTzv/3ZiwtnH7rr5Nxtx6ip8JUSVB/Pnjnjc1I7sLte7MWp61opTtgIMZRtFfleWgK1HNTgmBdEHpSCIQMvcqhWLsztm/3W4gKKQwnRUqU0Xqkh4j73zT9Zb6xH9Ozo7DHb9ZFSiK3ETjy9YqTZWtMMpvDq+XSHhPrtHwjenl/hqOt7EYkJK5Q2y6feILwyf/V3fu/X98/VyuPFk/fdsWrZT337leJM9bWrvYZNnETAKmg9Jfbu4iQK+5R6Wb38vbI063Rhs/F4zEtA2mcvhs1zQPnamKZpr792mo3jAwjLaml05MvPfe2NxfPKiHFuY+0br3373/zn/7i0sCiqUqlSSKnA9t0xr0MElLCvkKdSxG3/un77+9Eb34NNtGbLEjgqCny6dWjDC9CZM2e++Y0/arQv33Zi33t/6D1eSp596TTSxwctXqvley54UCnFRBUleKvNnJRQi0a8Iqroe2lsWPPWc2fbmikrflifP4cvXV3Wi1U3AQ8rzN1632tvvFY7fOy9P3TPw+958Omvvfy53/ij+dWN3//qV37q0AEx66bGSOK4AHQwfjiSd3i/2z/Y7zAOf7h7hnW/K4p6Y8ORY/VPn3ntS3/4hbnDM0+879Gx6fGNTvf0laV2kIZ8od4ncmEcSwXfT0OgHlVlbGxMMwxe+N7+fYbNKJmYybKSlKY0IazPDhQFisZnDrhUdFJxgORvXVx65Wp97Nit5tRkoPL7bzssltWZY/u//PVnrGBzHRMHRRPhss8lG5yCdgLvxGxHYPRtwtnwfDnQgzFbY9Nvv/DCM1/64m8cnZuZGK/tm56dX1xeWq1jLd/sex7hBb3YHfhQTymqiTnJdcNHH3k8CqggaN9jL5SJ+Gz4M+GGfD4Yj9nRUbieK3WiNFALqDCx6JCxW++PjNrawA8IOnrb8eJoUcvJV5cuvfjyG/BSQfyynRgof5Y7QD6bRG/bCrUdbftj9MbjQsyyoMfOYUbwPQh0rc7y669849/+m/+XaSSqRB6854HQTS5fWnzt9XNdyy5UoCIGwdyOE7fbWQ98u9tpKbIxOXlQUsqej7/3f6JrRR0d1nybZzoFdPc7Hm27wSBBrigrI9OenPN403FRszFoNtrve/8Tftgfnyh9/vOfff31Xhgh3RQlWUsFkYV5lWfawp4f/b6wG4umG0YdQakcRC5JvUvnX/nF/+fPmVqoyc6H3vcwJsLyfPerf/xcv+eIothqr5s5rlDk8rmkVpFmp8oHZib/9f/nl+Ee+h1MaO5/Xm/bdeU2c60cOnxymlDa8X0XCArT6CZkvee4Azx/Zo0LSCWvFQ1BFpKrV8+/8OK32GEqEbVcJ0J8gFI7jWIB+fwOaM3b9hilm8p0ZjdO5AIiJ03iOLD/93/0dwwlsvsLf//nfqxopi9+4xu/9dnfagGJ32gnUTA+Xm5uzCNi10rSk+++t9tc+tQnP/7Rj3wE7sfMYVXD3/uyeKtBmbt+A/zbstnyusOnjkUkdCOna3djHINOtro0aK8HJOJ4jh69ZZqkFoej3//9L377hSb7KwhyMjxqgGkvjJG0EzzpDshHCbsMYToccZRR4VBAmJr26ivfdqxGtST8+Cc+qKvO5XPfeOPV501V9j2LRE5jbamxcvW243OHpmv7xoGA1Faunv27P/fXZFWC+xm4Wefc99JSNiJKgPxx8+RJdihqOGu8bLKGkU987Iemx3KKEPXbS5oSq6pYGZmtjR09c3F+Yt/kvkNjhYqkGnzfaf/CL/zCygo12DF/PkaxjCRVEXfCtKcdweEPPQV/vV8uMwHzg0Ff4smD99123z2Hf+SHH33mmS816hdpMpi/+vrRuRO56oSeq4qi6lr27OTYY/ffP3nksLe6IZZKg8ZafmwChEagV3n8vV1dTDafNWaT79hLIWwRbpaQpnH0A+9/pNFcXqyvX5hfStym7amX+2Rx6bIdvcSX3p8qpOVsLCy1aDjS3Aie/urXPvLxRyQJ5FGZMa2ECDy/A5wQ/5nPfAZtYyPDjdhv6ufg2J76yNDx0sKZQ4dGjx8b99yNOGoPeq37777/4UceOXLLLbWRsfW11vpa45H7H/6RH/pIzswhLGLXxSRWqhWQADhZybTv72GsoVsvYPismftPsxvgK43TxDMNpVjUdE2kxLcHjTggtic1+r3cRJobF2679wQSpauX2zg1x0f2t9Ybh2ZG90+PiIgNUBVjIHrxDmgi3e5+FG+9hGujjjb/r2hip7U2MzPbaicLS1cUKVhZ7R+Yu9XqCr31RpRaTsDfefddjzz8hKrkgk5fKeaQPeBHRtkYElDMDd0FlCAs4+9tvH/743IsycaiqiSuc98dt8sKEFI08ftRooahGkamrrkvPv9COc+/8747nvniy4KOiWuff/3Lbv8RlM6BwIp4lXVUsfPRaLvbDsDoTe5z691O4iTQTA1LY5woarkRz+3PaIdJRPLlgqqXCsVqvlgx9NLQUSq1EiIU5YusDGZJHOsK1bJDn99TH/SmTxgbksoL114UpTGQTkB4HpyZTaHCD6KLFy6trCxUc5LX76bUcy43cGnqR5+84zc/+7soFH/kQ+9QxbrXXdFKE2wQKofQ9zif/p9jO0gL3RJCs+BJeYFNYRJlwTBzVbSP0iQTxqE2hpIfVFIJCn/Kmk8pSUJKqZwNFWNnl7lhWzNTuvnvcZRkKEq3rl03vMlCpRxh0245VVZHy9XD+w8akvDexx68evXMKy9uOA7WUrWqFXLHDiTvf1DgtfGJg1MTBUnePFPtBwhI00IRbXfb/jPJ3gajjBKPEo/xjNloMC6bdZh9H24Yzhfhsm2HQ8/LZ7gcDl3ewij3ve7Ku/n5X3+gYQnIctQ4CQmNQdCH/6Ik7PV61qA3f+VCuWQaOh9FFgn6mItpHIAN+i7oDvsP3qZV96PUAD+6ecfbPx/dkXPz6DVvOvxn1q5G0mwtI+aEbF0dWxbLcWxoqIAlpk4N/w7/8zGK3vRAdOtrmkBqQkCo5di2skyDj2Lfc+xBv9nrNhENc4aoiKkzGPQ63VwBJLPp2psJUggAAAJwSURBVNgsp1QQ0pNYTLM1p3j7zyvZwRhFWz6K3vAVZZBli+rYBlE6HJXP/CjPZ2nPjRj9X2PXMZqyFdBMocCs4qckWwRpO4NS0cx67BMaWilNsp1lbKYqIRjophSrWDSwoJOsg1ba/ifsdypGERsocs1YuM9mxzLUXu8HTbOXT4fb4PBQN8T/qzGK3vQZA6QybGY+FVJqYDwlSaIkDjyHT6mmqixrjgmSZAgVNOVTHqgImTJ1AOPNwbzb23bLjNytGXIJvmmTwmY9jbJQOrzl5j0k/0uMYRScPN58DjQBiBKWoWI2RYdN37vpydE08X1B0ZjeMEy1sxNSw1l60ve88Pue247Rmd5MtF/76KU37ScUhn50GOvh/8By8/j78I+AgYjA/CYxhTHLQHgssuOu7HABaLTwtFnfDOsZhZRaG046Z9v54GdlTUuvT0rjtrvivQP86I0YvOHN+E4vixuWU9zb/9b3xdtJ33IFDQurrfx6WAvdMCJleBR2C5XpZpNzmp2547f70dBdt3d5a1TYta/fzzZ8etefLbcp+7Lb02uaRXpTbZhu/SJ3TWTd5rZzMTp0lG/vTa+pU9+fGMXf4ZYh8rYs3epF/I755o7YaLuTY/3Otuuzxzav0Jtuvn4bv/3XMe6E8/VvuYV+52/9Ge1/Ju7/bz7Wzboa97YHY//s97YdbGfno29i79GbelC2n6VvhST9U17gzjh1t8MwSt/uenrzjfgtEv/3vX3HdCzZOrI3NIxvZuK4dCeAdAcncN9p9ufWDdvozePeZoDpTYOD3i5A7IAJJUPb2TrT2x442+Yfy5uCwE58gW+x/z8AAAD//4oF2SoAAAAGSURBVAMA8LXYEz7OT/sAAAAASUVORK5CYII=",
+              leerFotoBase64("precarga/figura-goku.png"),
               null
             );
             productService.crearProductoPrecarga(
@@ -75,11 +86,21 @@ public class LoadDataBase {
             "Vendo psp",
               90000,
                3,
-              "iVBORw0KGgoAAAANSUhEUgAAASwAAAEsCAIAAAD2HxkiAAAQAElEQVR4nOy9adAtR33f3z3nPFdIYDBLAgIhhDbQhhYkI0GM2cIS40ARcKWcEKeSkConLxInjlMp/9/lbd7kZaqS+G3sVMWFsSniGGEDFgIhJCEhISTQwiIkY2yzabnPmf5/T3+e/t3fTM/MmfMs917h2yUu88zp6enp/u1bLz/4wQ8ucksprVYr/ds0zXK5fOqpp0IIMcbQberZu1P38U1D6V8NO7N/3er+/o4febDPtq+b2caG5b7Nyi60qmG/I2/8BHWwF/U69947vXT7WKttZzv4q262bTt/kHB429p77/zxxwBvzq+9ttzZ2dE+8Ur2ssntrLPOGlxfm/RWq2BQshE3et0Gh5r4c/onD6wbO++v9ca3hZ3z7BiAznlkDtHxP42964Drs7/9PQiNPmDb9+sm1mrjr733LuFUNM/ljIL2ZjnGCTcShpmsKeYWNrVtSUDY14NhnIONfW+PI9nr5gP3NCqOEalpbN/2LfN/GuPA083Dw9jjJxkbZ759kF74z9nHgiwFZGJufmtTaWEIoWtc2ojxc1Z84qcxJN8fHs5Z3K0GnNlnWyFt452t/hyb0sFZ0Pyd3dhtW7pwStqgPD+40fMhaukfgAuBgWOcsNZ2tgWvMGNlD0jRtxpz23Gmm+ecW4H4zIWag9gzV6kHJdDKg4hnE3/OfCoc3kbMbPt43UbI36hShe7iL0PBPd9QC8PQXL0iO5PSe1a2LSxuyxCsTYttR9d6IspWwsk+CNZMMXVwqDjECafXc2ICvT/3jYTznz3SNq3vTffxAD/WPH4t/S3DwFCQLY5IutsC93ydcKxtS2hnEoht37vtg3P2YytZdALZBm9O9B9UEw74vfvoNp+f+7at+rBtm0OMBrnLfnTCeogazeZA/DRVmICGfbQ5czus183ZjIn3TrOXma+b5mbTD9aYFsaRbaM4U7d9r/M+3nU6tJqqTssXY60jjo5Z/7YlbFuxpok23592uOMcUAzb9/3D+nWQAI+pedvKyeEI4GHswSPqv22bz2mn0XJsnAFxdGzowcltS0Sf1e2ov2tMPNvW7rU/ajj29vltjDOfbm1bInvU7/UdlttS7gO6Cvb91LOdsm47h22RcwwJxyj0zMcHxxl8cGyeG/ufnm1inoO69Lbf68X45amifAff7MMd/1SNEw7GuzZuxwE57cQ40932J5bPb/sD+vn9J94bt7EqjzXffxm2bNtSvoOPP31/23G27X/UFH2a+9U9p5FnTFkI22Pv/trEBKzD4P3TTdKZmOdWwSdzYlOXB1n9oxAtjmLMkzn+tu8dU7A3ip29P+f7RffHCWe2jZxw44Onf4uHEWnkH18eIoUIW757q/vbjnNY/Y96nLExD0sn3Hb8sbats37OHA7SDktN2Hb8cEg6of91P9bRrfqfqnaqxJ59tzm7NdE5bjLMzBz/gPve48zz21Ej55hYuG2A/rbvHWv9sLVDeZmPsPH/bpzEVrOfT79PE2QbA0p/fyumtHFtewMeFseb6Xcd+8ywXx617Xx6qXZpUz7n4PrXL02zk4RmPtjxEx4isO5DH9gWRPbX81S1OQRi2xU4oI53dOJibxphiEluNNscVvOgODNm0M8/DiUP7Y+IzEHOrcXROf3n0L9tdYltO59CFN03c55Gzm37b4WcW73LtzpMbzBwz6fpTIwz/73zp7o//KlFmKODqMPkhFv1n2n98/3jiCExHEY7iiXeHzYenFlNIOehf2aNbL07vV83jnMo8+mxgY3IP8E5N858f+1A4ugRGTwGd27ms/vucxRtK0oRZ7si5r+r9+thOeUPixOGLd871ubjc5wtkfr+PU54pOC03Mip9tHmzPhQgOMQl+ZUccIxMXKrMeP2fsWtxp/T/4CccNs2f5WmFdGNxOKAMx97tbfWHq1OGKsqWoP9/Z05ROF05oTTb58POtt+Y3yW64SH2LblhBODzF+9g9CXQ3NR+F+n0Wkfw+6v51bt6IBjGiH3jSRbMcxt+e1BZjLIluN+E0q3LUm4UVKYfipW0TCHrg323hisvEX9w/6clTy1Ldeqx5l/f7VaxVwNACqrV1O36qgp7hyOPXZnDseb/9Qg5+n1HHzL4Cu21fnHgH4M7XsVGza2wyUWvXWbcNLuD/7nt8PMojj0/ts2v7InQYc+eJs5vSMFjm0p3SG2MWJxStopnEOfE4YZ0sv8oWdiwmEhs5l6vdaxD4p+1C1uKRBOiFVj4t+cT5vGgZOJhOFgkte+39vTTo/6vXPaMs4Qjea0OGIcOzmLexAB+CBP7W+cfbyrt6o98PXiQK//xM24TTbAUeBnOlkBNKH62Imb9lPYpu3b9hMmxNF9cKq0TZ7Vxplt9d45N/c9/uD9g48/3bO3mLV1saZ60yPXN3ufcLgoMb1uPb50clo8jBKPhzgZu16OiQT7w59T8pE9Zj793qN46VE8OE3O4og1b+OD/uZWnPCo28lkieEI2kGGXXpxLs4owrXR1HuSdcI5v87peTIp39idOSMcok54KJLLtu2w1J9t26DQfjoohMEbZmo83KoNgsI+xMKjjtQ5rDEPKI7ug0gNIswE+u2DbJ1CJDwJ+ODxEP/EROeToBPai5b1W/fHc/i8eiqyXnrnoQlCE0mWW+l4vh1EuNqYL+eBPhxsk+K+QkZ7yzgthW68P7j+g4ooFzPXp352sFsNEtPDGs4YFo2dZ+g7cN5mLM0OPrKzAPXnYrFQN3+TbsvlkgtzbNKBzsEB/Ji/cXD+dVu/Kxxqi+Nmkjhu35seZH/k+Sg47UFaDcQ9rA7zvnTsjJDDci4PzmcfW7C/Xds4juHYzs5OcMhsF8ePHxdeLUszxPPXobABw0l/n8P/9CvvslMhQGm9l87+cTVDzokP8W/x67w8rMXyLwszYGIj/UuTgSAnufVUqbDfdrhfcXLWZOOGHopkO1P+sounn346VARdF8eOHQsZQyxwCiR58sknjSt6Tsg1HA9E4qfd3V0QUm0tMZYDp7lvrDXMkGwHv9FfH3LsaBiRMeZvSdxSt9y2xS3FtgPqfmOjbVyfkzOfsTZ/PvvuNkcWnRgZfuWR0At+HjG4fs5znuP/TCW88ZlnntFQoGJTmq7heMYAbXzd8Z3pI8ycOE4iuVKlg997+PmEcZ7utJGynj6cMI5YIw9lwJMA7mGb1otACvM0t/pdY0tkst9MItsDJPtTrMnLooZ1IInwSljEsMIi3RSyRdfsS5FddUeItMpNF+pvYmco6iLNK4G2VmMGjsHFMWS2nw6NE8aucjJB6dP2To59wP1hIe0gcdnH4GPU5HTTCe0z/ZqnGX78fQg78x+s1QGhiv/VUEviKOzLy5bct/62iVrMH/3oR6CrmWdCxpCf/OQnILOpiHDOs846C+6H0kj/aatVD6T9v7TTUSeM2zj9T06rgWDfbd9oXLejWJN65TdiYDxKnTB1z+oz6mB6XT3btjSPnCaCGq8DhYScQkJGE4I997nP1Z/69fnPf37IuKfO4qJP56brv/7rv4bN2mieJW78OvuWDhKGo2mxssL3FnHjvh4isPZGHrx/QNTa2MZK8Y1xyLHm55kOfPTqxPg2IBA2Xxc93C0zeO0Na/4DEyNNeRNenXPOOc973vNAp6eeegpZVMhz9tlnC9OkH56Tm66xsoJmoTBMjSlOaBwVpEV11DXj61qP6EEowhyJdGx9lvP3fqOcaT0Hf9q3BLK/dujiaO/OGI3Y93vjJgli+l2e8HvVxc5gDpVB3+7UXCU46DcVyB4PRZZDYPv+978viJdvQMCtf6VimfOt90jIOpjgmIl5/RArvyGSBtEdYYKuhSp6hfAH/ibQ1x0N8qIXvUiMSz1/5md+RtcvfOELdfGCF7xA09CFxnzwwQfVQYN8/etf1yO60Nv1K/8K/XRHo4m5yXaqAX/4wx8KqfRejSnU1SMgpy40DZwfelAddP+8885TNz37rW99Sx18Xqt5FNWQZlPXStRb6i04YZznII5Hlox8pO1QxKdD59vTI/c0jViZB+v9AvRDRoZeNy643/NrgyHR2TMwdegmXMVsj3TTv4JdoY2Yxm5uRhp0Hw9eypZJBmHAH//4xy996UvVWQggDFFPoZb+FYbrvkbTxcte9jKh2fNzU0/NVm9XZ2GIHofp/eVf/uUTTzyh1/3gBz9Qt/PPP//lL3+50FL3v/e97/3VX/2VUE7/fuc733nkkUfwQMDuNFthsib2F3/xFxpWA4JFmpvG59P4UxPWUJqJpqdvj0OukZgdG3MkiPjrv/7rYV7blpVNy5PzxZuT07ad58zH9/H2NBTtsPHOIEKGQhO9IEPrWQutP3BjwGQSLxKXASKwGzLW6RH9KzAV4AqU9SdYZ9YRngXlhDBoWbojpHrJS14iPNEjgn49rmsxPRlL9KdAXHd0IX4FSoDP6qA7V1xxxf333y9kg/EKE/TssdzgZhpcyKYJ6F+hinq+6lWv0mgaR8ipm+A/CqEuvvvd7z722GO6KXTVIBrWkJCVgW/zLbqp74Vk6E9e5IkaS8ojXhywTYlzDDM9FEqzy36OiaMbHzzcdnTiKG1bkjT/FXHSeNjbP7tp4p9Hv8FBIOSYBD3z5FcxE88w/UwEl4LOWOz+wB9isLACPORx3QSZ9a9ENd0RSvyt3DTs385NnA0Y1SMCd8mNuvPNb35TPWGSevC+++578YtfLJHvkksuUTcxKOGJUFR99Kt4kf792Z/9WSylLILY3fHcdGG+RA0u9FNP/Su05ys0SfRDXehfjf/nf/7n99xzz7333iv0Vjf1gcvpJzwZSKd8WsqOe1GHkCmRWCvkySQFT/imoWUKCQd3MW2yl8zsebqJrPvmzIeLgXYzzSh/4pe6J17WdNdb8IBywzTfDWWMOxY2qSZiD+AC4rwRD5v+xc6BMiZME6zDmoRCAn1hF4IoLxUWiRcJ8TSCUOVLX/rSnXfeqQfFqfTsVVddpW6PP/64ri+66CIN9Y1vfAMOLM6jPzUTIQ/zhGUJS82HrqeEcqh8umApmCEIry/ivt4C27QvfW1umtLtt9/++7//++i3KIG6ZrWFeDBz/aSZSGDmpvTJaYCPIyaS9eL++3//7wefgcKFSUnpKBDssJBzW9zYNxLuu/PgsxunMSGsDvLAHu6ZnCnEsDdaoDO2EGN0WFAQPs/KDaujEAauImjWhYBSnA3bjMBaPAFjhjBNzErQGTLjBYH1ExIdYK1pAOXf/va39ZNQSIMjQ+LBg98K1rGaqLMeEXrrcQ0rkVXv1eO6j7VGE4bRCcnR0xA4eR2WJKRxRNZQ/Pv6cPVEYBYefu5znxNXxOiir2ZB6MysNLhuinCog26KauDDgGaB1QSshk1QvcEwMyYpzRE1fzp0wpP8eByJgN94J7hISPszFMTzthY6CGgAF9NhsJcgFgq4fzY3QT+6mXBD0IaJP2RToalVwjSJkQ8//LBA9rLLLkPG05iS6yQ9Yo0Uez5YAQAAEABJREFUC9LI5557LjhgcqDGEdJqEPFMjaY36k/dRFfUe+msnrJG6gL005+aCaEw9gnCgZQDrL25SNfCFtNXvV1Kr5N8qw5SF81rr29hZDFk/StM1nzwJUK/uMA8oyYmrJkjFEAXYmm2sGnkhG3bplnlLTZKmINUPD6rzKRHwdWPopmdwDev3Zk/2nQ2gwa8zAIpXVx++eVIj+AbJn4EOUwdgLUaQC9GJGDVv1jzzUEH2xQgSn+TVKnBZTJ55StfqQG/8IUvfO1rX7vxxhtf97rXCedlUBGsC5GQS/G26e3Illj59e/FF18cijbE+JqVMET/gnVqhlGoqViGQvHyMbi+FORXT+ES6hw8VpgTsoyg+9ACrYA4Iaqm7qiDDKdaEOmi+i79pAEtslQLosloQIw3+oSQqRLLYh4atoDI78EtO3H9H/7Dfwhdfw7/9vwbW7XUdSiHTZPo3e9NZn9MZozwxHFLUhiRvY18+nBeMw+GyvljgU5eL9eDFhwchmxlgBd/ggMQXeuJFGTQiQQloBFi6I6AwKAETUYIJqIuAU/XAhQsE4IegF4XIVsU1ARPEh0R9gR86gAI6im52riPioXjQZANJuu9iJfIbMwQqUw3xbU0W70Ua6dmiMSIixz+xhz4OvEczRljI9FncFRkPxMCcXvgZMebpwu9Qm/UV+hawqSeEnrgqVdPIRU6IS9Cn2Q3UXHV7Se5QSDaklL46le/+qGHHpJSqpnoV62AZWMAGJASrYlIjJZL/6YSwqpv0XzwnSIGIzhgvPHqXr/a2r6B/rBa6tpz9z2ZMcQzq7E3YLDioWvip6EJQINZHEgsC2qqVHTxJVBEi/q1DQhOOEzOis1+oHeFrOWDGFBus++DyeqG60x/6l8xnFe84hUCdMlviJECd0E/RN2cWnAA86RpTPEo7rMCeKL1lN5+2223veMd75BgJlYm04hs9+KBctCFrORg7UTR0rOaAF+ESKY5aCZ8CAulnzQfI2QwCk2jyelF2EgEyvoofAx6Sp9jEp3fO5ZF+IbkKYjXr5obn6Axkah1oQ9RT/7Vi0A80FIys+5IENVTmoDFoOntKJ8pB4gKhdRfrxBX109y9+u79BY8oiZxWETOhRdeqEd0IVKCQIv/g09giUwjjc5OtkbCNGlrmS9SerSZgzkTHHJwStvy5KbKBqD58DE/1ej8acnFK4JOLF8qcVICWQvgsLewK8CoRfEfLw1JKTqlGoqIcV+bB+rabAVAyDZ6kXb3hblhe9RQF1xwgX4VyqUSegKigmkCHSlpuhCw6g70RS8SQwBS4WzmQ6MbYp782sJqjc8aaubiBsIK8Vu9nYmBNkBYU1IWeIsRlLYEZ5pIxk3+FVjr7TLn6F/hIa8OmRbwIZqSeuqlQjlMmvIf4EVEx8ObbwwWnZZwHN15Ijf1FC9COMTbzibqQzSUVg92qm64IoWZmrAYqUb7yle+olXSINJF1VkroA76KTj7Fg5PBFH1lCCtCWsoxGN1YKrMCu20qdJ/18D2G7/xG2GoxXGL6mD/thsbad3a2TF1vRfZaPtGwtQNzvLXfpImWoShwC4TJk0KZbMJ5KX1LJD2oB8KVmY4bANqg7XZgmzBov5FQ9OF/tW1qK+xaMQkngU69aeATG/HPm56ILQfZQnRMWZroSCYnpjXBbtIUwR/6VoXBKMIHPUrXA6pmA5IVuyp5SuELuUFJ5kGHDIW4wp/2lOAJmqbqIY+Gec7GQyaITis+cDcoHH6BMQ/TQCE+WFufCy+O3BSnwPQa4XVGUFaGKi3aBr6V3PQPrKeiNZ6CyGm+kn0ThdMQx+uGep1uoMszbohcSCXiqZI9RWn1fzFDxFu1QH5GcaIbNVjVANIGOe573ut7Z4xEMdN6tP3QwXH+0PCQe0uuVopPYk0VP40E+5jcV4zJlQQ6hsy8YaPhQx/gKn+JIoCjhGybwpx8cW5ITTiTDOrI/DNhulCUKJBACzQD/Yo9JPhUcZxXGRCFfNWB6e4MmeBggZHYTNxGpLM3AApPll3gDkQCdEXTQwd1cI+Udj0J6JXKHJmqEQhHIyYc9C79CdGSIGsUELwaoZZDKSiLFoo/Sqwlj4mSfjuu++WYCy3gSwl8hyIXWsEraGWQhZXTRKTEgivVdKY+lPjaM7EoAmF9BPERQisRYMJsxr6UxfIk9A73RRmakC9SP/CusXrtHd8qZmFQnFysKoxO/c1AenVYqeyD1slDg/JZmBb08RmMgsjTXr6x4B+jjga5wUJHEqLVS256Bp9TFEOXfwkfywUfxqyJXKI8UA4D64q1IkX5KYNExih6ghieF1bYvOBXQGKYAJtjc0T8EFxZe5X/z/4gz8QHLzzne98/etfL1gR/H3sYx+7+eabsTrqjkAB5qALxEIEQnAsFt8DoOPNiXixjGXB7sgPMC6HlEgHRgtFsAQVjVRBPoQP+gotkb7C3IaaGwEl+kyxF/XREumjhF36fEm/aHrCEP0kFVQXepdokASB73znO3BCvUVP6XWvec1rtJiiQam4ZNRfiKcHNVv9q5fqjhlLsKzqT01bz/KNKNtYidAMNR8kdkyvqVSyALc1cz2ojxKNANURmw0YdEe7ZloiAr8+TXNAtIaEsR0mB+3B53/8j/8xdHmFAW7vzlZto/g6/WA6sLcjTgZt1eKoRZy0XX8a5jIsASAYHjNBv/5FbsSQCFnVfRQbNAGhByGIgkLTIrRJmP4Zk/56VtsP9KubnNcCC+4ImQW7uk8kin4SqElVE3Rif4OhRVegwRBy8LtiiSwDecDbkLmZpqoPFOCi+OFha0oAN2pkzLHRmDowLaJ/YqyKJeyGT9PjCJPqAJfQdwk6b7/9dmmeMgLp0zD8ELymDlpSLCXob5rM+eefL8YiAiQRQPeFDCFbRC1cxt4FlSGcrc3uRD4cuVerwYqhK2pK5leEnWJuRbIgTs3okfpARDAvm5eyLYEHaKptzvMwxfvRRx/VZsUcloA5Sve1hh4s42/+5m/W0I/s3kOMOUA/gcyD/etWa2XT/afnU18b1Td2xCaBCalYOwFrCyzW0mOxIKSDjQnO/KP1JRRL1FQgogtIrwCF/fMzAQ3QJ0kFMMuKOSGIjQSx0dM0PgqJZiW0JMLDHFPeGMsC+tRVE6ftui0VHFKxDJsJCuAOWY/VspBPJDwB2vQr3wUwoXfVhhnZUUSY7r//frGsW2+9VcKkrhGnNTGtoZ7VYmKegffqjlYbhHzggQfEBokdlSSpz5dcKslTaytzJfKkHmFhNYLu6F+RPG0W+qGmbQkZ2g6wFMIXXWi1CQ5mvw3FWq758F2W3wTfQxOB4rD4bck25E+jpJq2FkqG6DZHq2sa6qNN1Awt03+9Z4aEG1tyjjsvyNUIM4gSpvCEzHa8jchGA3Sg4qE4BkKxJVoUVSgpM4TSYqvELIEBgNeZFwH+w7OWPRAyqdOeYQjRg9pvAjV0RzsqQPGyOsqYEENQInzA+yyJ/zu54ci2ZAK1K6+88t3vfrfkH27yamQV0A8zGh9oDjQCqQSL6qAJkB+gnkAtOicSlB5EidKDGPrFE/SglgLea355LKIgoQV26Fd8a20u5YAHBTuHZDm9VAYGcEbDCpH0gRpcQ730pS9VN+GJloKZS/N57Wtf+6d/+qeXXnqpOBV7oRlC+7WkGl/9jbkJOcUchJbS9IRXYnG6ozXEkCvs1eqhFuJtA6wJcOOLQmXossiBp555Ojh1A1bPahiRxdGC0hvadUxCW4KKTFzUu/SZmrxWCXDSt2gOpFlgRxWc6KahYlPKYXh41oS/mxt6DZtlZG4PDifQZowX2QtqXWuigatGrRGTeuOYDub5kjUQDCwCfDHxmc1Qq4lyxeqjp2EOsUxqUVDBlvBNFxhFAFDNB4sWUorgQ8ChtcbSpf0QWAgcCYxUf6IutMQIqDIY6F+9QiMTBaJXa7kFUmhTllGqt5+dG3qaflJ/nFqgBLRZn6aP0pjoe2AOBJW4YX0v2k7Kccm6EItAsVzmPFcEJP2pWentJB+In6inyAdyl0iJZoVOBYuDCuiNQhu9Rbhx7bXXfvWrX9VTGlCYqTnccccdQh65znBXMLgG1FT1iOgXVkHd0ZQkPMvKrxE0DT2OI/7BBx/UtRid3GvofnyafhLCY+GEWpkWjd7o3bPJRb0ak0ej81Zic12AA5qbdlPbpw3VzB99+BGZW37u534uFAaI5qaN1r6oGzulC7bJBHJtJTZVbx43IPcCHVKV8YbUzbQO07GjccgsOWj6n5AVvevCRCbNmy8JlUvD+CprF4vFz8LYTbKCdJn5Ds+PgIA8a6gmX8uvoBzbANxIzgHW4atQUx4RZHz5y18WlBCYi2Imyifgg2EKsLwnAGpNUC/KgH0yv2pKi1LBEqGIyEY2HuoOYqC0EEjFOuhPCHDI7j5T1ZizlUVhNIGLvlQUBMXjoYcekhQtzQQCJ/jTTISExmY1viRtfZEekZImtqYPFJLAXvT4Nddcc8sttwid9AroFBMWk1dP3RHaCCEFxwifWjqW91u5ffGLX7ziiiskXopO6dPETjEzCrjf8Y536BN0bQCKGUMjaCux64qKmTkXrANOCMqx9Q9ZOLIAbmy2qAbi2ISS46TBDLZmpEBmCpBF9TF/jP6FJiKU8iLUSK02eoHehSapnqxJD4BD8Shi+oYKQ2e96Bt7ETNjqJgqG2lPNJ14vHFl8CFFPIXzys/bRETT2eCHbYkhwjoCVdOwItXS1yUCIVWCXVogsf6HH35Y3yzAIvYC0qilF+mSHhK6Rey4BotAeI0mwJU8KQjTU7av2NNMt8a4j4AET6NBSpF2+NXw3HtNQVRcuuA5rnkMIagNGGNCEeDV4FR4hwUQYJcuhC1keUtClsQo/iNURAYmUkSwrpXRRwlLkQjuuusuLaB4vp6S3V8jSKr8whe+cNVVV4kBagX0lDiV3vWGN7xBWKFxhK4axDibugmm1U1YqmE///nP6y148ITkYPhb3/pWTU/CJ3iin2AvehYTKPhmfg6kG/yZCNgmc2LsgbymkupBTj2bq2e/9Z1v6+LPc9P2PZUpUa8tsjsEIejxx74rUmI2cN7CZpGHEbM5Sp9DERo+YVWSfTU3zLkiMXHIlsn+IowEF7HgmdmGpN4aD/2b4gy3RFsCdpCyjEVAYECD5Kx2Wrjg8muMw+gmMqT24Ee54fv6sz/7MyLxBXYkgOG8EgiSUKOnsGfqV22PuhFiz0aC5LwRX5auieunnoJ2iwkgPVpxLrZwUSJsTSxBp+VjkQYRvPkElsJgyHh+yMpVm0s8QDVNEBXvAkZ1oflIywcZxFvEljVndcOcKPqiZRFt0vi6lvlUrEkcTFCyhs5vfUsGEiGJ2DtZERJN9awASI8sSkj3L/7iL+paGKgFFJ7oRWJlYnp6ryYgnBer1JgSIvR2IQmcQcis733729+uDxFZbLJ3Wx+iwdVBrxam6XH2jgXEkT4uVwIAABAASURBVEDIKEI4ioY6qDMcHlhHFghZD9S7xLE1bb2ayQvnucaNETIYxsIkZbluStxvcNV0LEgg5Hwotolpa3EoAoAng7oYIm36Xk0VnVaLoP5iswirWqUx+Adp6WbW1KZ74MpcnTAOZU4kZ1Adm4R5eJHBDOhXpTBOKtZz/pRGQXC9AI7QWLi5KKIWWmAhLELP1tIDXri51QGcQbsIOeLBqkSykRpKW4giHtzRH2gOWm5eChMDx+B1QEAoyWlGmGGzrcsZSyVGxIISEUHRJDGI+4Q35BwgHkupPgrVX4AuRBLO8Dl6owiKHkRrEumFtElcFDfj7dLWxOv0iMBFj8sNoF8lW2pVxXNgTWJ3QlrNRxxP3eSN1AQI3cQnLoamFwkuBWR6l0aDz6AU3XDDDRrk6quvRnrXUJhSNO2U4zmBfo0MhdLg6kYKBcYnLjR+W3Lb+RD+5S2aj94u6qMHNYJeQbiPhVmblxKpCpvWWuhY7bYuzn7XlSe1+ya5rFM6njzhPknOn66eiJ0SEIjIESpqbrI/SbrW2zEB3HnnnVoispZTCWNousW10FAwp5mw2s4s/juoE9YoZ68PI0iYchZz6wIj1RkZgAzR55UGlADcGMfZAGyA+HMxixPEpKUhOFhjgrFml4vZiGwGHiBG/4poYR2BGXpnGkspgAs5wCWWdPJVtyyshSABZMuSXc4ucpNNJaZE0JZc5jvZaxpBXEUCs7iE7oiTSK3Cp6xvFM5oGgRwaI/FqYSiosTUd9DF5z73OelvIij6UyN89rOfleNenE3XlGMhBESsSd+IWK6V1IX66Ns1jiR2oTHj6BoXKHYXLFuajHijbpIE2OYQGSGGAJHoE4IzJZdiM4OagH4mhGPaxZiEngY8kKTLx+JEpXKMMBnaimZhJHsPWDPmLHJxp+CsAwAhtHXnrGNtN3jL4D6WuHOTv5gh6jHbyjdicdF8JHhLmpBMrj/11YTLkCQpmV9/fulLXxJE6UJrXts4YvEi4k0BCXtTCjPF0TH83Ngt5Ng8uA1Ja5a3xjpi7cR5DcQbtpjhi3GI7RJ0hiK4SmSSmKT9+4vcrF6D0FJCl0QmCKRpa4C+eEvqFjIKhSxhsrccGfaMunco603JeGCoRQnptk1FL8WLjWeWIE/NXOKc+mAhhASIpUty06/aY/UXSoh1CxV//ud/XnRHEKD7H//4x/WZeuQzn/nMW97yFsne+jrBqMQhuKtG0Iv+7t/9u5qe3vXmN79ZlFvv1VBig/pXwiQ+buGMOmsEMTHkbcG9BiHqQPipO+JyIg3CZ4JXdF/IT/Q2dhpIof4VpJpHG2MGyjPYy308pciWhPXgqddG6xM0B13rLVhKYgmghx8iuRh1M9NDW1p0oU7JxcQzq9paYZa8tiS4BJc9YwF3yErCN9EmLbXmrM+RSixU1FKIGd500036duHeG9/4RmxggG4PrzxPQj861i0BbtNb/x8RMxNoNrMBl4iXpHtpBM1SF5JwJCMRfEQ37bEe0b/ahp1cHAErPOGF5HcSjYHsToyYLgQfAikcStisBTTYx2F9elZL9gu/8Avae7LL0McIRwJztP1EKmsCmPKRGUjkwaeHSIkFDPM0pn9Ea3gmeWuoMdoYEReNLCwS7xKCCZEE7ljz9S79JPzXI3q1iKhkPImF6qMHdf+Tn/ykUE7jCHP01G233aZlERnWaOoGAxG2aA76fD0i6qPJEzkpgBDEIKhrKNlINJQgW6ukPzUChFyP6xGRJ1i9uKswgbwEFGChuv588umnLIYhOBcuMuSuK3jBuqHfmjMAezUxNEgxQn7UNlKQfvjXPzoBY4WVAf2DsLdqjxvghspPVrfUjjIVHIAmsOB4eOHPPv+3fuu38CpjcpOESf6EPkELq2WRRCBhQWQdnxCIh91LF8j2hlFNCZbA7+WtoIJVM5F0dMK4r4iWwfuE7WDGxVSlLX/Tm94kZq0/BTptidtCFKTiCClY2i19IX4Io6km0KsPPmgCI/QW8qOxB4LqIRtUhPCvf/3rQy7fAHwgymLfDzkfTLIfgEipcyvUp3HIJADJWS8cBsiQqD1adJBE+KAL4Z4AWv4M4QN22pD9bGJo+qLrr79erxMqqo8gQLgnjicLpPZDE/vYxz4mhNSwMk4C+igYelb39Qmy++MnEBzoKd2ULCQ2uJuz/rAwETwgJBSaCcmlsWgmWiWIAhKp7mMe0IcT56UFx61n0WRQdJzdodgwTJKHIyFZsDXkQOkbzfSvJjzHpLwX/YMwWUzQGu15Of7TYMyaFzt7HWoNaIJDbAW3Kedk6qPwuVuMUZuTrcQ5kFT1RcJGol4BGBxFDALhBtjCUMiXCU1EBdXzPLSzKGLxgMWcEhJy7SrBkF4vGMLYhaNJ2yYIEDBBNbHY4pDAaEb2jfkDUOUFOoJm7OZku2IUxWClpgHFH975zndScQh6A3PTNTKhlo944qYkCgh8cXCD9j/IjWxRXYi36I2av2BLg+sVeq/QSUtJTKOsGtobddN7BdDSzWA+uON+//d/X48LAz/96U8LrwSawh/WQQisiQlDNJqG/chHPqKR9SJJjLKLCH+ka8mgIjiQACk+LJFBHE+mFNzr+ld8Ugui++Kcmo/YHZEoTAzrsf606C2WAtULpzYRLSwmQcYwtFSMvYuSFhhz3oM6UyhNTctI4WrC2QJ44kJGzKDl2Wbu2Tm52eC1HTp5dz2TZms43Ko/1fItLEZ3LH2MmHvtCOE7LJFFCDL/xuWI14MbLwEJiT6trSeHdhYFiju1utBo5SDS50m8hvXp9RKsYSbImRgJjWXjjdC+4ijDyxmzXUTXIu3iBoJpwTfkRDChayRVwbGWTDAtTkLSNCEXABCGAUG/4IZIfC2rIF4rK2FDDEGYoKckCopqyHSBJIm0qReJ9Ym96FlhjnBMTIyizp/61Kc0H6lbYkpCDyEbDgOhjTAT2Rvjygc+8AEcD29729uw2ouyUudP6yNk0wcKUflT07j22msJJVNn9aQA7gc/+EFNSa/W4JSfINFJACRMQH/THSuFhP0A6QMzA1I3jhZtB2ILXundUkAgrAKcTViHso3Ohpyye/y47XjMsIjl1qTWHtdKJa/cDFrLxTH7ycNPrGI29u7PMNTPaT051ogChj2gEc2Q4qjaI0pOEdJk3KItpcd3XdmoppuMGrqJOG2JiUPLDcVgY3ObVaZ7zn2kqZ1ckFwIIyDWjCVJU45K8CFgpdQkX0hkbSoRaruldhDfQ508fTyp4oJOyXX6BkEGAr0gTNxAg2DcF2D9g3/wD8SsMGFpmQRzmAR0IeTXU7oviU6vE+YIiDWseLWYGCAi+JbkrLXWr+973/s0W32OcE/2Q/UUxMvCIaKg9wr3dF/TE7ZI9F3lMkdaFknCwkwBqx6X/iABVT43DSis1iTFAzVbrYYwVpgsZ4AG/Pt//+/L3afZ6hMkplLo9p/+038qpNI8dUfT0HxSDkwTPuhfAlY1JQQ/4pvhrtBaLR2yANImYYqY731ZF6gbWgBGV71ag3/7se+sMojZfocMU2fljB7w1lhBzy5lPoDkHL+m9e25VdMwa0uj0Vf9HLQw2dLsZAM6i8IGhzO7JXlSqwcN1bJApLT7WN1Cce2mUu8nOPmzRsLg4teWpSaVb8uNE535kYiRuDslpEkbBOyECWIdYjtEIWFfQYuzLTSXWlPqQy5LySrqDogHCp6EkCSSQ/uJFcJH/973vpeisfxK/QK9SECsP8VzNB/ikgXTgkUxTF3ADTS4EIbgUiGMpirg1iMaVjD6J3/yJ8IZXUvIFGppBHneNBm9/dd//dcxPAgVxceksOmlEiMJPRXmq8/NN9+sKUkW1R20WQ1CfOm/+lf/Srgn4qIHxZBTTtvRJDUmKquwNGXLu3CDYAP0N+KPifCOJbZY30527yrnqqJFY/zEx015eY0v4qU56xvJtIIHNiVL4Gde8HwvXHlZ0dhd62ooNq7gdCiWCR8mFbo+sVigqwdgbbcyg4PDAa/YBCqO4WDs+ttiIS5WwNssrhBlbQFMEjGegEez68Ru1LSRpFDphCiEq3KSB7Je7NZiPjSd0DzXL8sNzUGfITotcNTuEp0EhpD7jJy56yqIGUHFyU6+jDiMcAYfVMqHdWDmJhFBff7O3/k7Mt8TBSr4xlCp+3ovBwa9+93v1giy8gsNhHtiZWRqygEgrADTNJTs+8Rw6SmNoKE04Pvf/35m8o//8T8WrBPbJdjVHISWYmvqpin98R//8Y033qgOMr3IeK1PkHVE0C+ZHNQS0xNWSDTQTPRqPYsfTPggDETZEEERJqgzur5GQ2MUlloBTN3XqupP3KrqqY9C413m+g5aB7lDJPaLt4NyuoPcHhwJX5aUP/AZDLSgAtPiTPMxf8yq1LNghOQyFQ0EVyXXLnTlwPUu77axW8HJXhEqnOH3sE2bwzw8QgosEdH5CbOTJiPNkBxrS1sLWYFERrP0g6aU8Kj5WyioiCUfHojLvtft0JCQyBW9TDCqeQsBIN4St8i/wvewyEnKdjQPn7dwGRWW6Qxyyt5ANhCe97/MTeAL9RL+yGnxS7/0S4ACZkBiiOBp4gl/9Ed/pBGEXf/n//wfcUspq7qQwQOvoFBFKCf/mO6LY7/rXe/S4zKNSJzWIHpK6y6+Lf6m+Uvr0+TlKdKYBNARkay3f+hDH8JW9I53vEN0Rx8o0iAUhSnpTwnAba7eybFBuq8ZEl1wLBdjtwsgGMEPBRI3mhASL07I1lfNB6OImDBj6hU4XS18zwCryXk3lJduSw3plO119G9K7nxY7Xq7aCqRTLulgkZPpzLgM7HTOKRXFA2fF+6s+dDVo8baVjrhthKckNCkgFTCR2M2FyNT4MEnyhLIDDkEZVUyUS1EJlUGp1CyNE0LwIzfm0/8T//pP9Wzj+OpSWCaVZJDFYRSClbEZ2RUEKihvwocRcjNPmYu8uAUBr9D8FKBNTlEUr2kF6HXYXEVnrAQlBLQGv3ar/0atmOMV8IZDSJWIGFY17J5CNbxq+pdsmpoSsJALb0wSsipm1LthIoaTX4CcRURP6Gc+mgOoiBCKg1CcA9mVfUUc9aF7gurNbK4ouagkVOJL7dSTrHrPrINsNYsF8n5mhclGy0WNwA+N71Fn6wLrScJxMRwpUKkd5yVq3ElGGM3rSZtMgFs7DDW0rjO1rk5ohOOjh+3KxQ2Nn6Tz/SEMUDgiGv//37rP5HxGDK1srp4u6W0qdVJWJT6kaGgVsjOs5jjE7A5e2w0Wkahp5jD69QNg19yGVh7XLi3BBOUiTBcmDiFN7BDphzLL4WHUAxKcUjQon4rXxKKYBNLsVovvRgd4tQ4aXFig+bZxyERs2ccei858MMf/jDeMElokHk1sS/hKuso06KsI5qP0Em2ZvLoJPVJ/tS/gmMhkjBWZlXhqj5N09ZHCbUoMilupvvy/iO16l260B1MQXpcOif2SXybIQdA/safAAAQAElEQVSseVpj62moZREhMKjjqz0jG+sp6REPnpCNkiec47XOIGEBXTElDHo8Dv2mpe4Bgxu3daa6NfbsoM6WRg0tp6alUvkqugL1lJlLIyHQFt5s2BWzE5u6WARvwCrxMEfnqfd8JVXJgPAte9fW4qjEMHxEVqKL6QpKhIH6V4gntiBglW0Dcg7PXLjTGCEMVqeMSAWySzi5isCu3XxEuJXrIvZCzIpCOsIuYSn5rJgEpX0JqSSFIu9JJObZ//f//p9epD7CTwG31DxNkug58UaZVdRNQqa0NeGq5FL9dOutt4o9IvfqERICyLvBXLRbagQRdWnRajjrbbmNuVn4FTFAmiFhXI89/l29RSODeyTvsk9mZFju7FDYIpZzBRsXeIVeveiWx6/53syN3lac22qcNeiHU9O8hMzK4J/A+pBcVHNwnhWEi+jqoxM7FbNvJpX8RpRz03XHWBr8EwVy4SrcL2s5JE3agmM3FZB3E78rmIazA7UU/EA5oS7tyh0x2eQgTzBHDQwk6hfOKXzDxKcvlJmB0kMyUYgLqZt0MNkVOZOEB0lRk0iJ+K4PFpuiHp7GF2qJNEjT++Vf/mVZR97znvcI0ySRCqXF/cglFW8MWc/UhLXW6kYOlH4lJ5i8NW/pIpDSdG4r42UBXCRxk56PWVh3dI1ymBd0b2EtHzG4mEZrlnoDknteZ7pHdIaQnn0ybulw2qrnoM42Blentnkk0WISLrNyqfqmH0XnymtzEHbI8qolcAjYBJZNDtMVnCxLDTWvDBvO+7eDfl4RO7HTcZ4rBosl1JfkbsySFALTzKQgCWqJk0wllo0AKw7W4rQdXZhUFrK0SQgbdnMDKYrztCXzSHiiVRMPlFfdgv3ESQjXlP0T05PuC5f+9b/+1xrklltukTypDjK3YKgkqFrMUG8UvaCOZZvLmehxDYhGKoKCDYkwJdwtxLjaeQzmoEOAhHYI0x7PDcTzIrcZovQVZMSHJlrAVI+OWn9Ynx1Y6YHJxHszovgNHdzNsV2OXSP+4K9jbQJ44jY1UI60GV7tyf8ZgHdyJe/gZu79MdEZlggm0YMCcvWR3CebhfYdZ49VzTLHadM95jG4wkihu87L3izDDFMVNXZiDk9DOtLHkBgqyzvJZrJ5pBzoTFVWGF0s9UJSKRdt1SXaktNA2CGiFwGopE6jGcID3/nOd6LdoUNLpBTKia2RgdKWSqzCLoRA4YMUOaoMcoyOpZbqcU0Vl33MYcQUq0TTI/YKH2sqdUc1ghBYkxeVUWcxTIo+6M+dfMCdLZTJoqEkIi5KSvWqHA4RF42BBUTUsLEtLTlTlhVusw1OzkDnWxoy/afxs0f31+KM2M5On1OEhsmdCRHKDPEEWuxL6p5k5vmYpbwJA4V+sswJ4LXX0n0w2on3GDG1N/KilUudrZ2oa7SspzuNiqgfBJILBMWLMcZQyUPYqD/1r36VrgUfw8qH6cIaYifGVdignXeH3JVKui24qm+TV/0DH/iAJFIKKJANjTr6hS98gfRtYU4oPATjO9UQKBOmcYh5JxKCqFQqQWDg4nUUNSTDQ7+a6V8KJwEopBrZWuE9x1PHGZfe1MRiIj6sylmTi1zfZT3/dKL4IrtlIgDuO6/+pey7D84fMLZrPRGo1y12w6bq3T94S6MnPYdT0ryoaTSL0iE4h2xNsIVGp3JDTFOOW5JNRDxG1xK7LOcTY4Fnnn472pJKb0gYuvLIskfG4iZTNfYSvVhALIXqn/yTfyKw/u3f/m1infVViKmU7sIxQJSwRSfan2bK770XjoThJ+UEUBk2RXjk/AD5VznrGVlC7aMf/ahWgWhsRHwoBYoZPsaY7VoIzywx3HK3FHInn1WETd1E7fAKIJdSU6R1pzLpT85paEuR3zYn7xO5wod4VwH7Z9Ijd/YEisUepzLLDS+ychjQo1A4odUKMNWFt/ScxQYNNu3Q9fL5nr0HwwgQh5EWR/x4g6B1quTR5MJczC5CILGPvKMFV5+2LfmHZJn//M//PHACBMJdRMGtHlJwzgk/YHKBR6lrOl4ajgaHvn7bgovBAZTJB9e/Egula/23//bfZAiVj56qpvo88xAQFwYnxNu+KolqTakCsigFG7HuhOyKfE5u+jZObkCaxRxMWQQECS3K7/3e71nlYyz1bTmzylJIvDFqsbPGzB8/+ZPnnHP2T556UoP/wR/8wSc+8Yk9NLPgqYI/Z5+zDlDeOdbhPGuO9MyeK3zVrtbWlbhYterWkRXTCcIfm4xs/s76FZ5ltTHtPbQOWj7Rjf+VEVe7/NCUgWKbQxcl/FZwl3/G8pP2RMF04h0L380BaxhpY8jZ/7V3xwa0gZtu0ZfQjXqrXrBlGsVIg0QK6wxCFqWMHXp+IlahBBUdL4cKglECVCzzMafYi0wTzgYbIIsA0h9LiV3ckh3Yy32o6h1dQNLSI2tZtT0k9CzVcJITPDSKbPryp912223ys4lNYaqRvWiR8wkR7UJJUTcFyWpIM3s7vwHE0x3hNufdICuayIoGhU0VbvyV3JBdLRMsWspM1VKJ2LA+5PisCcTTT7/oxS82BczLFc88vRurc0vD4bW4pYYWt8yvO9Os4fiBWBO8gl0tON5FT4NYlBqBIlV2ZA6UCUAWOEprYxSUIEo+3SLXtpMwKG2FWiShjlZ1zd7YsY6O6RheogAfLrnkkiuvvFLUQl5vUQi9MuS6LBJNj5cjMvANUuSc9BmKuxD0SB1OKlCY/aPJCc6hHGqZSohjk/PfoDHEUkseEEFCr/PIE4otsXXFl6ytcc+dxcHI5HQb8+wtmQYzyX5srea0aTFvW1Q80/bRwD0iRWFTnFcRXc6xdaZYDlmXwivBmzgNaYc7uZSznpXV4OMf//gv/dIvYQjQUJ/97Gdlaac+CN12yik6wUGj2WaGxdHYPfDe5mQDUe1U6plQ7otf/KJUQc1G3yO01DUmfs1bYh7WDjVNkbwB6mqFroDutaZVrrPANCxGAcsNBzyIGon2ED7a5mDR3uQND3u8y7rh2ORbYM6a4WK59LJ7hyi65Usz6qweBDlnPhsPI7/ub1pLpRRaKCfYUdFvtbsm+t5YEvKSCgOpU9zmjAqrzijrAx5jgaJM7pgkySATxr7tbW/79Kc/fffdd1922WUpW+Ms5rYHqDaxaNZRrwHGSlP3Yp7+veCCC6QKigtJEMUDoT+lE1IhTzZMMUZeb05MFEKMIvA9Cy82exFygr62zXGnoiJ8KuVJqJCLVcbc/RamkIrCPQ2RyVWFa11J2dXurg+n8FJAak+QCaMLRwH3W40ZZ+fXnWm0tqTksn27xUl4/JmnvP2MzqmUERL4iX/Iw0wkZsrHaZDdIt6oEd761rdSVSjk4ujXXHONYP4P//AP5TWQNZ5E6jhi7DR0W/Z+9jBtd2Kxs0EYhG/CMbFBGWA4WEd/UrJSHNJOycAeQ0AJQXqwNeK/LVuH7BtNFxcFOh6GnFAyAHbywTo7+fAwxF0mycqGivWFCjpPMMN4YldSyXcO3fhVvw6LZqe3Dr0N67W4vXVxqxY3xWqeaYPNlmtPFMw1fC19Jzi9wGwKAkJhIIlvMooK6mSPOe+888T6dP3lL3+Zwse6KT5Bxrmc1UKBN7zhDfqV80J6PDZ0nTd74qifZQ249lMqeSuaBDWLcKCRHCi+LK74kY98hLNsYrYmSRs8lg8NP57P0yIh4MncYHTJlR7sGUXMb5OyR3E3Vz3jKVTqZTkgztzfY4DYoylticVJpR7WOnKlRN96xXLvqdSXDvYH7huR8wxnO9LWuAJnaP5Cwl5sYCjrj7QlwP7Yxz4m99gv//IvywmnzgJ+TqfiMBl46XXXXZdywZRj+ShYcSMhiLBA5hlxSI65j92s3x4eLmtB1BMDL4ty8/rrr1+Uuq4SkWUpkvwplijsRx9VZ/nrJZp+9atfFRPHZGT+wFRiZZbLE4ZZb6FelTMbTvCufJ9QbDsbAJ/10ulyYdIS1VvlUDhh6uaGJ+cjYsBF0zmn0VrTHI7pvNfmoOIZnXAfzS/aGsayqc9HUacS9sn+Smm69dZbpdq9/e1vv+WWWwRp99xzjyRMKtbpWSECAqod0CukJWpKg4iFiktxNrjNoSbf/No5YskDotW6JZubBzgoUzflHxdzQ+r93Oc+pym+973vFZFI2Z4prigMJDgTwTKVslM4tS3alVAY8o6Jm9ktx815JLT4r1Ti1v2d1C2k70XT1rVeB1RQ6pGmEuOaSoht6h4l6cmBhWsOtrA9cAwOkiabH4E79QTG7vvtn3NzYp4bv3fwEaN03ko3Z7Q585loFrrJ1guYDTIX5cxDYn2l+N133326eNe73iU3GMXC9ZSgmhg34kWpOkdyAqeGUBheiCAkpBotgSKhWASN99r36t+m91X2J+HRmENiDhPVnzKBClIlhT7wwAPigXqTXixRWBIzmlubKyZRkoj1tYMfdkulSuRS0Mk8EyRJULprENRC1/7pb4ZulMYYsPLrqrgocJwQbkbR6HA6Od/GIGmrEcLp11LXXp2OwPU61swAA23FNYWpAgMEHguJeHIGCqrf9773CeuEgXizSazhwC9KyJNuDiYTRIXjkUCrV7/61U3J2beC7qmcoOzbaKEni9bhgFKKl1188cUaRTMj30ciMt48yaIguibECR5tKaIKDu+Uk4wsPgaG1uaKDxabx3EiNoceCwqVgltP2x4ZA0GD5rYECsZy4m/4qRPtTmc8jJP2raN4KdZRgw2ZM7ApCLZxnlmZdlk+CU+j6LM4hHgjSeGS7zgLHai2gBN8AfpVj8s2I4MI3kghLQmosJ/kIkZsYgOZ9fTDLImgCLU4//zzRSrkIpcZRu/DWPKWt7yF8qmkC3IGg1UubHPtUIRMXKUEDZEGThAzTgKcp/jiQ2VNSV27SxoSyWJVxyF1FadUBR4YusLD/X0Q9aSBSN3SKbK+npzW24Vw9A09yEI4LNQ+lpogy3zMvcBVut/Fud18883CPY5zwz1OAjfJ6PASRLmYTxmgwIpw9aqrrhLuUXl5kY+vAbDtqd5Xj3JCy1Ijd05v0uh68q677hK3payL5iR3hSaKiZbCz7ul3nAdOwbz3cl54m2uxg2b5ihw8/KloRaqqLEaD+2iRkI/By+OL3K1Ra2saF7o2tAY6ozR43Bb7FrnJ2SWw20eHnASIk/K4s/BLyCSwEAuh1/91V+lvHLM+XQU4CN0mRKSJmcii3LYiZ4V+nF0pJyHMZdiQZa0hJjdco632SnDOg7YrY5fjtbVzCLDVS546Xv3338/OCauSK1iXPCwTfW0cwh5DfLqohzZZ9XR1Z9T40OOLyX2hSOcxjCwvhnGUS6N0FfvmbXsIStrF4eC9U5JiwfTCbftf5JbDxVPTrMwUQGqdCuyYayOE4exyaQpHiiDClUCscOjkcE/OSDRgDyWI5kF57JZCkfEAGXU0VO6LwQRhKccDRbKccuWZxOKJWcokwAAEABJREFUnW8ZuujnoRBvCRIpZwNpdI6DEkLrfRw9TaY5uecwNJ+4ZRqX5S8/+OCDcmVKuL3gggtk2qGmoBW88FMMjoB5p0WqNMPUdbxYn1hFsTVFMfBuybVxbN7Bw6dtSyeLpRxKSyddeI4l25tUBrGQphzoSYUUDPLCQEoNLfKBHxSC4AwFArL1Jy5uDszjRE1xPFL5OBIH/yEnPnDmJPoh5YObkt1rc+s460M3xpQHSACRXVR0QiYZXqxpUXgTuyLpheidNAuWZWRerw/Qtcyq//f//l95Fz/1qU/JrSk/jFwdVo0zdA1oNr1B9BvTKOK4prFyAdwYhAgr94twOrS0pU4YniV4mLq+3DTDtXsoDa1szwTYtuQDhFzBleK84o3yCuq+cO+KK66gcoKu0fRwzYcstSGLAtsYMoQOnMklJITfCB3EbPS4cOfqq68WnGObwQKEr8HmtjQ2uCrlQ1N2miE6Sm3TTZGHRS71qXGJnZPxRx554eH6hLcc50phslgMj8m5X7AmYYPRHU1XQH/RRRdpfr/7u78rZig8pJQL0nPo7pm3aNXbZvjWy3Lwnf2/oZX/fU0Cdxa5FtOTT7XPW60z+Uponlca99HiSNzftrQ/zgsTrwWBmS2N2JbrdZ4Wzrd9bxzyMM3vv7GlsBp8dn2K/TGBVnt89+kQ27/90pe0aXexjBSzfM1rXiMgl1InNkOMC0jCQQMIg0Q7Y70ngZCARyo/qKdQAGOpQOiOO+4Q3xJgf+ITn1jkw9VWuRQYhRKbbjGo0UqsCK8Yf6Rr6s977703ljpwEkTF0E3UJJqsrYpt8icHEmFiUh/SKTQtkQeOi7DyxlYtx6RZG9BOiu21MWDqfY5dm589FMPM3qGCToKtAXF+mzOf07/VRCQ8y5uX0UJOu6NqkzBQ2CJJUtLjo48+SmYgiIQZPxXLCAwwlEqWBBvEktxHakHMoV0aR1xHfJWjIIEx8vuMzyUXSdJYRoIlEds1zwvFpb9pcjLdUvBLzFBysz6D6DMOANotB1x7YRI/IQmElkiix4WHsj7p5oUXXihno8RRIrwtjKgtweI+iGd6iTdug+ecsZvB6Z310ZVwDds3Zhtdq+/4Fk6zVq/26TnPsVavfK3IhBI4Sm6hOIqYhOyZwh+4Dv0tN2DhCi7DeIBV8BAkJCK6zTUfOPBQWqJsKBL0Quac4HNv9/cwLlQecJMkEV6FIWIUX/va1zhKSfc5rBNGtMjlxHEStt20dIZSn+9973scYyLxVXfE9LG+6EHJtELRT37ykx/96Ec5/jJ1Y80MD42DN93mVzZVBhu/N6EbFptcaBtyRSqRNIcCc88u2LVWy9Lhp6LZdhgnoK6CBDoxGLEEgajgE5MpdfRSOacolfPAQ7EjmDxlUZB6hMgYtEeJprfccosgX5ii+4SvgMy75TB5W9tl64KnW1flsi0ZDEI5od9XvvIVDY2XT2yQIhc75WB6sNzzFgNx+TaEXRzQKaPo3XffranILnpfbiFHBcj3qPsc7tW4g368mmeYU2NX6ip+cShOMrksQS9gQCbWSOjcVvEIXFj746tn2uG2mG2EO8eOcZSqcMaqywqYJUYKFLVTklEloxGfjSGD4BgMKk23/h1FW77xjW+Io1D2Qthx4403CnvFY4UmGCwNCFHoPCQvF+WYC/vBwsp0X1ihoR966CEhkhgrwWsaGtjlyCHdbF016J4YIKasQfSd//2///dvfvObb3rTm2TUkfqrySGX68s16X/+z/+57KUE46XKmuIlijRiXrM2xgNDiZTHBOV5KTEN9bBrLN3yPJKxaTxbWo/upGeDxXVOa0tNe6EENR9IatWfnHYmRBKfEHjL4S5hTbAKV4zdMr5mOIwlnWBRjiGi6CbhbzErh/L7ExOnDoStYWLtVRg8UdYyutwCFFCNQv6ubCd2wLWsmhoRIw9s0Dx7PVQBM4kr1/fcdNNNYoAcGSs8lJQrv7/okMzBojoy3uCpt1WL3eiZ3v1emwnxxuU8b2zyycH+ddG7HMN2rSYNzy4gjiMxus+Wrxhb+VSCNgWunNbKWSAYVNh3/SRoF2RKtrQDbRFECa40HAGQQAoC09TETkAQLBoxpz0EF4bdluz+Ve8sCpSuUCK2LK4aD6GYnlBROmvIR1jLGwHCcB4TJyX1uF/osq9YDrJ54xvfqJsSjoWHunPDDTfoXxlIU666zfyIKa2XtWaDocvitt0n0zYZgergvT4FY7d2LdQUIU4698Lp12I3Ujc8+5VDg5bdfJJPyiZ96qyHcmoipYzEcj772c8Kl9SBcDbCZUKu/uTLwCIPgqXXXnutXPySYy06lDAseRY4VyuU9EAe8arWnsk1FQXM7KKiCoSqyTcorkrRb93RhViWcFWoT8oS0QBjkGdhN9QLVTfOnae8r1l0YKdEM9gIngfGyqppErZ/nX82DIVHgXJED+LtIeKHyEBOX2w6B2iNJu8OfvIgyB46pqVxH8xgh32PHPaLfmOoGw8pAL0ef+9OM+rP3AvXbFvxEvIKkBilcAGcxIIK4MVphDxUi0aCBUSxomOSjOXAJsRadZCtJOYKUfjYNRpHLBOSGQoJII7cz3xZm+PhAOonro3Gqccoo0YqU8g4TQ4uk+sNGqpQT+9soPWyqkLFQzz3S5WWONh/K3AxRp3Kcceo3SYq7K3DKpxpPwXNE3RTzCzaGQAQj+FcI+pWh6JJkqxEHAz+NtwSdtpPKDZP9bHDSwgsq9lAPbF+7KifMdZVcWdcgjKfSKkj4JXKS2Tvwzp6z5qppkY/Q8Le0vRwzHr2FjFtYgJz9iN0I2yshNTCncZaqvQcSRmLM+0kN+S7NTPMRwu25dQg8RghmPgNJR1gZUh2nB0kPsTJ6sJPnPuUiofdMSaQQ5186kehXnKGQujG09c8f++UJo+HoA3mExl8vvvd74qr6r5EU4rvp1wwnNTB6E51CxUDHGyhsnCGMBop2rvvW8360mztJTp/TJtLeGAcM0H0hDgazrSfhoYlfE36U4LgUh338ccE4N8VAGAhR0a18r6oJ/qJGC/JrhbEcnZujEnBQZlzmnyCHfjMyduGWU1VXziYYcazS9+JUtlf/OIXQ/b3azZig6HoeLBjvQY7auy6JVqXpuBf5lt0vrjUFTtDFwmDw640ZD4NQ7rBxi0xERpVcL0BueC5makglvt2UZxpp1WzAmJN9ihgy5CvQgqhsEtOOOTMkAVLdePIV87eEnOTcUVGGqljMlXKFKI/GZZ8QjvkUFiNRoMth6OEQsUJe5C8XJTSi9YP0Ce6RVZXIj/1p6RTsNmOH2pz/dzgUhM82vRQqP7Td2vdMUNphA3WVMQz0jCPB6biAPRIuBc+Wko8hREj55n27G0Wp0L1e47NExjIBsNRyqn4HtAYKdyE+VAmU+HnG97wBnXm2GYJqBzArmcZWff1IEfu6Q7Hh3EYhIFcT2sLBen2OGHrUlppwmlOnA05qEVGUc5/AvSZRCiKU+sORuwhjw89G2y9CaUhJTB2yzb6xd2HThhKjHx06SPrYvg50NY2o7zxjED6U9LYUwopYJMHknWHc6OBauCcOCr1FH7qp+uuu0488POf/7x4oAU5W+w0h8PYkU9AEab+6KqlRBdIbLPSn3uVYHqBmmoakfPWmZaQMORC38we1wKqIF57j3hpXLursdQw0JOKVFlrJrDXvyvM3g/7l81YUTO8HFs9GJt6pj17G+4EuAV5CD5RQfBM6b1Usg4ICBMK6PrSSy8VdNxxxx0YWtD0rLBFyoGjQhDOqNA4xMc05ayhweatMA3qEKmNRJGjZcpPcs899xiHlJHGImAkQ1OOCZ0wFVNnGBJHfUSbR3WrsRMyRbGcCUse2ZtfXiPq6rOUdsw1I2OJYjn4KqaEC9WqA/PNJjzjME05OIFXUCXAPBbeXTm9jr6FrvTv1yRu2QZ369DbVjPZx8jb9p//9vpX7gwSet1fHd9dNot2d/Wzz3/B2Wc95/jTz+ha/8LWqO8OTgq8sXDqptQ/cSPS5MUDY6kJBu9BC5Px8jWveU3ICQmAHKa+kLeeMYODf8MLaw2+vlSKjhGzhtCM21F39Cel4GI5I4m4gVjOVQ9dZtV2K9v75RhcTXJDQkYPZo/b1IoF6+1kIbLQHLQmQkU+sYy3mqeE8qZUxOHwXaKKmLMd+WTv7XHjWETT1iVPzWetvWFT14B0hqOe8mYJOpg0AaQmlzPEwplysoGASpqebkodI7xZsCcMFDYScRoyIyXHgmiTK6+8Uj/BJGxka8mpWmNzW4M+CituE2wtYncCZSmEqJXk+5kzBKtMGlLVeniYXN5QDy6hPVYcEdZqWixOmJDjV/XBnE0lesEcwCvESC2WLEbiY9iNKHiMvkrWJqW1oVtaX4YNDvFSN5spunSn9SvCImzT0kikzpl2apudnU6MtSEhIij+d+Ee9UJlLBVcCd7UGWCACd13332Io/Iu3nTTTeq/PshkZ4ejxEKxviR3oklbHScRKu/asnEFM0BCqIXgVdAP6+BoF4JmiHlFEI2ukkWabKHCQ/RdXh1zeB6jIZrq8+QVpcKHyIxI1Ote9zpjwvpXyuq3v/1tdXjiiSf+7M/+TDdFKS655JKLLrpInRH3NX9howgKdcRtKUPFBnVzHQhf8ptskmuPULMdEp7ButOzmUNPdv7gsrdhBhSegPWdd955uv7MZz4jaJFbDhTFaCfM/MM//EOB07vf/W7A6bHHHuMM7VTsCKEkSdBwdPXi0noS1tI0MYsAQPyTrgnWCdHttMSYA8MxAQ0O55vnhKHyTBAzzTFpFtgqsfuRRx4hZEHf9gu/8AvCvVe/+tXUJ0dVA53EG7/+9a9/7Wtf0yPnnnuusFF68wMPPHDXXXcJG2XL0r/kgwmfhbEQsB7u2VRNUjW/hadbW7XY9ZqkKizhTDtVDWgUErbudF5EJ+wggvzvfe97ApvXv/71+lfsjhxXjn/Xr4JJThazA1oWpZa8WfLabhKsl4zSiL9tSdmZhTtcBfjTbBhRLEJMGV8kPnqD1LabiGij1zwwDLkHOfteFiBdc4aM7sh5qiW44YYbZJLSe0M+Jo5KxgT74WYVmaBG25e+9CV1E66+5S1vEVkSZt55552f+MQnNM7ll1/+qle9Ch5LPJombwkTyfkDSbZKWVyxkvi2vgff+3AGCU91M1gVR7Hw65AVPArnQqMpESjxUsAjUUusSJoOTkVhxJe//OU3velN6v/ggw+KSYoBCC05/dafQh26NRxiN0uuRsgOBmIS5E9TCDVpCYR6nymEcFhmzKDeBGoMsO3WfQpd26kYlD5PU5f8/dnPflYmpte+9rXvec97LrvsMnE2Mr7Uh1ICwhxkS0ppMDJVPXTx6U9/WggprBO+vfGNb9Qy3X333Z/61KeEnw8//PA111wjYqZl1ddRq9wm43XCNa4652E6IbuHbVs6DE/mmXa4rS1JvRxBYVwLcRwDWqIAABAASURBVBRQ5wxtdEIBDNZBgI2wbMGP5DJsGZQCFZYijvaMIJ4lehwZRkLjqqlk8j8nNyrKpOyTIHqA2JyeXdSw3yPhtFGUm9LchMNS5/70T/9UeP4rv/IrwiLRHgR0fa1eoYUQLZByKA4J+rEo+BhC5uPUuRGr1LOanjiqlkkGK/FG4fYXvvCF22+//eKLL4bfCqsxw9bUQd+ohcZgbcHlawfGchm2aW037OEMBp4mLWVvAeBtCJnygdiCcEqhcaaSIE14FfIhTVJwBIrnn38+8WukJlkScMwlwjhQrHFlWUzh9Bn0PYzoGGYIcrNbmEY1LkUrBJfygWD9F4CKH2J4ZDheDBrXDhD+BEmoH477QYNT2ON3fud3tAQSI3/jN35DCPa7v/u78HSYnpoIEkdEIA+YxRILjX2nrgls50MkkYqvSr0WS5Q4KjyXoKvXidPGUrcHmxDB6JijcMZQpactqdNro9luP1rVNnVwsy3wLXWtwWP90ya1c2MH3w6C86lEVw2O2VbZaqGy8tVPHV2r+Ym/X98hLVCwjfvN6g6admfmSQMSdRY23n///fpJtnfBrR1nhL+amqBwAqRCQthC1qEsNNKURsOI2HVd7J1Tg6kTmGY2drghNn0eRpZLQ5Fl9TJxEx86h04B65I2hRVS2/S6f/tv/+0HPvAB8Tr9SbSB8FwPSuamXipMCZwE4dHfNCzBexQCwaMYS3FI/SuWKCH+iiuu+MVf/MU/+ZM/0Z/qJjy0CHdTFOHnz82NOcDtizjxN8vFtxXOP4taKo4oC51pyomaYchkgvFTsCqwEXwKMBBlCVuTgmbueMMg6JfP2U2lpFhv8FCIHY/vGSEIHDEg5hAM2LdAkz6kS/Ukz7QprEwD6gOQAeA2t912m0RQ8aj/+l//q0TQj3/848JJcTzOV+NwGGEg4bPMhJielG2qITsPSTviYIC2xNmYGJBy2J0GkWNH6yiWKKom86k+Te81OQHSg+F3udwBnw2Z90SLsF2boEdn2qlt2lxBhekjKceRwgZDlWbAuZpSlCDKEG4xQ2pe44JeuQNn+ZNUYKw75EY1rtj2GPfa89S1pfgMohq6n97EQba8zPTUULnmQ9GF2urYFmGCpGrUOX3SzTffLL703ve+9z//5//8ne9853/8j/8h0oJIQDkAkB9PCXYnqllJPxT2ivVde+218gfq2/SgHTJjnLAt505pTCnZ389N/FAqotBVYqqG0k4ggnp3AnTRVxCJB0ukeJZqgz+t9AIfGKeAGaUe2+WUcw4JSqHYIbEybU5nRxwLRc8MGevELVM2FloRbXweNiAXsXtqQyyBlnv9QEICwwWvDERhbLRS3j3IBsO4Z4JMqJRzo+QAlYb2oQ996Dd/8zcfffRRGTBlTXnZy16mV+jXH+QmDBG9eSo3vZFycSIw99xzDwr05z73OcmWV111FZUUjZOnYi6ClGgontU6SqyXteYNb3iDesrS0+QsaYy9oRT5IQq+6Z4ivA9n/Zl2ejZEHiJgQt50w6WePZwLCsmABfAk7A7m3ki5VBTHkGG3x6nOkUxtKawWXV0/Y4m+rRmAuSUwn/ADgq9GF/NlQiEjIVP07K4dChP1eIgJWMggLBISvutd7/rIRz4i3Pu93/s9dZA4agxW6EHmvvE0KJbQ9WMf+9i9996rFZRSp6eEVLK+iCsaXYCDpVKyMeYQHLyaRCCIB6qzjEyUDKc6CM+akoA4mlyAwT5iPtOzXByNIy08yxufIOILrJomErrhU/axZn5HHoQ/EeRtgR8CJGEKZw/K3yZzI0dugoeNqxFc+wv8n0vQ1GJY23JiG0UXiUwFKDGNeATrXYchfihU0fxk6hXfe9vb3vbhD3/43tyEnFSzIo1DWIpdRC/VlyBehkwOhLHi9RIp9a+Y1Vvf+laRBoyiBNM1LgHKLytBdpiwpEN+4xvfEBJeeumlEoM1K8T6VGLu9jKzujUBmgNk1o+Z7860U9IAJ1xf5t+e6C9oxEIBTwNaYj521zJ+ROgpQIF2A+KEcniR5U8E503wfwazjmJR9SQfqyuKFgaVULh5zylvI/qhU9fQJLR57LHHPvnJT0og/OAHPygVURiIKUnfoO+085Ual+1OVjJmmAsuuECYQ391EFpKzeMLEaEX5WAAWCJqcZuzwpDsY47z1tKIH1522WVSLxGwkTzBQH2pOi9zqLe3jm4bwP1sb/GQShKebs1s4LEbVD34XTGXe0IbDEWfNAOhpc4JPhEeAVc7YcZHqjTuAHaPOwt39tESGwb+jZTNj7v5vLWQYRT3JYzRvGftUHxMKAaSlI1OOBXOyu3WW2/VzV/91V8VoMu4guFIv1IQjoUgb4O0SP0LnyRIry1VSTE9BRcRj5BAOX3wivlzweB2jCkFz4XDRA/KgYFPlsVFYdjNgemIpntV0Bu/Sd71N7zZMTW97QyTfsJtgX5byTANufLSyIkdYVMwcKxS+MKmt/c7xy1Fi9RsHNmP3w5Nco1Fz6ydyZYMBKdqS+xXb+Q215gxGXJVzlQPJfPOwK9nICVrBy9acKJZqEoitS5KeRld8Rl7DCeh1xKNvcRugHLo4jfcDJMuVOcrX/mK+M+v/MqvSBy/8847CUkRMljyvzkDmpKnT1HkWPyW9p1QGlCX88SRKil9lYodiKVBXuWEcQ0ISrMBF110keZGjmYqcQ+MHyYd0Gfas7fBYPxxSMkFedIndoueNSV3PDhdEdQwfa8dqo00CD/2uvrO0tLPGRfri7nRQGhYHHqaOf5D5eJsy3EZ4IAQQ3LjXXfdJU3szW9+s/zvkktxV5CeixgJ8WDqBGfjMW9y/TmKmjbuRA5jnqDZeeedp5tUQIW/ycEoBMPyCQGTSKxu0pt1wWEY0jNFHV6UG2kWf+s5Z/VSCp/tAtiZ5pugV2wABcdgOI6cWZCcPdNYpeEPJvTgbPKL7pF+PTwPVW5N787ecdmG3Ib9PqQglkPnk2s2RO8m00Kzki1ET8krKCR55JFHKDVvPkA4IdImQTAIgRLHEUTNHIzGSCgQhik0Zom1VInUhW5+97vfldGFo4WxU/2t3GTIEe4hwcN4xZyFh5zCY6x4nc1UEsPCqW5nuPHhNsGY9w9Hd1BZTXDjeOivVVQyxc9zCFQhG98LmL3x/Z29nFrzBxg62R3GrfVAnu9dtKXui5rsHw899NDVV18tlBAb5CalVCVGkmEUCnMThqiblgldUdyMih2EOAjl4MkhkzQUTtyAFMWhzpx6iuu+PDe5H/UiShIg1uLSwfsitLz44ovvuOMORoavUviABTnDCX/KGiXkqerLnUF47rU4lAeYXOgZfyIkmr4Wu2dmTg8YSGVqusfYI4Wa19vHZ49NOhXd1GJV9a88Cvr3537u54RUxBNYnSUsN9g/IC2os8IQyQwvfelLKRlAxLqQDaKAToiHlFQPzVCDU8GO88Ff8YpXyJkhgyqRDeosAZXzBmySHAJlYjA89pz8IrPQtu2Zor8/bQ2CDrEexBNDgd6DsevNNxtMyMBsTv/WHSk9iNhj0u/Sim3GUqyb2m82FTuhwQucodKdjK1ZHJwwSq4FWSAlJaJSkr1OHEwsh1jEcjQ3P0lD09ulv3Ff+MPJapADcEPMjcyjkCuFqw/HMsriIg+E7jzxxBOShFNXZkZ+oGojHFJvQe7FzAOzxcoczlhofuoanNCbLn1Ei1f5/E89C6pxLCQyCxexWPCmm9xHqxnggE4YHKQmp5Um82KXFsfr8IZCJwgE1RSvu+46PS57DNF3/CT8EWPUrzLbYLGU3IgK1+SCcxhI1F939Kc6c5oxwXTCHCIALdZH93UtHnj++ecLf6TvSZqtCQTmIhK1MLESEAfFMavS2Ked5BZ/Sv11p6o1uZwMwp2H+di1iIaCnIZ4TbdiRVPS936cG8ZSao0mV9jS41EYN41yc5mKG8QwGGDlZcQKEFHeltjo4BirjY6nkUEE1jKQiAe+6lWvonyqGhX8hTDUTSO9EkFUEqO0R6HQtddeG4o/EHVUyCk/uwaBGULMxPeeyudG6HGxWSHVebkJP3kLdXvIompzmqbWCJRW55jPLdVQ6qY/RRT0yM5Za36om8TNhXL82+DChe0NJxO0cLAdIrKlLf17gyLTtt87SKDDuH917NlY3xlZyeRiUCwjL2WvOq5gAZLlBtFH1N8CHv0EYmXbNLwSVAhWBd4hH7Gmwan/AjbGEtMSCleLxeRpHA5RtnW1l/aOc2ncodmhmIAIOgH669UJXaaRsosPHoimp5uyx3z+858Xx4O5aUwh1eWXX65/8RyQrERtGHG8P/7jPxYe6pPEqXRfT8mEo5Epb8zJxvA9wnrUTVgkNVID6l+ORGXaeAv1uDjkbbfdJulUvkr/mSbNtyXzMnXNZW1VnuNvSItDB+88qxvshLqGqcQMNyUXqScxjY3Av9J0YADYBTGgGAMMQ9THJFsbqu1Wvlj6520eMJmUPQEcOh+GnJvByb4eubGIiBOK4YhBSU+TpYTqHcS2CoWot7PKZXnFCWWMueeeex544IHbb7/9wgsvFOYQaU3MjVgfHnwQzKKHdF8XckIICdVNyBwKgvkwbr1RtEAP/ot/8S+MzbIZGLWSi4qAVca/qQfCROcl690c6z94/1StXm/yppUg5pjVrS3x+sGxrN5QNaiHfEITUVmEnaB2CdrNeu9H8/JtcK6LASQM3VOKiNnhlchjnlr4N/n7Vi2Ck9zE1oR7Yl/nnnsup0xh8kGeVDdNXYyLIzjUhEjXX3+9MPaWW26h7Noll1yixymqQ/9FOQocNsjjMsZAjYSQ4nsanxnSmWq/oiNvectbXvnKV/6X//Jf/tk/+2feIGxBOYusE8KxG1eEP/zNaz8dnDB1zQHnPPdszga1smbUTIojttAw5JlIJSIlFnNJGjJShi4tSMXME7vFZuzPpSmg0AboBIEFKGyYK9rJQqPcxKUOB9OD4oSU7uawxVD4mPBTmpvwRxiyypUp7BgNYexNN90kmZuSjxJcqUhHBFzKCnHM5fphXCJLQm+Ju1TgAWeIWWVwqQHsgVix5kP1cpM/CQaAHMIwkVhipbWfaaeqpXGTxkR/a8ZXOOTMKr6bmmcVLicG9BiIW8sEKPqYGNiTbBGD7WaqAriDuSiMKYNCKeuydPJlnfxH9thgyBgIhcDbLvTAhonyKq4l4wqIJ/kTTx2m0VRK3yBn6kE53DkA4PHHHxdvpIaFCZCmrwpnxD/NTmUuEMNPO8RD6PdHf/RHX/jCF97//vdbMTXyhk0nxHFipzqGEnf/NxAPU6X5P4sWweOAMR9tpUQksvPoZlEoPUUsdo+sNdxLxcVlR2THEkbWDpXACmXdvGXB92xdHZrlopzSbkgYsmGQE7exgqQSm9PDaWtMCCQk6QOLrS7kMBBuSJ3llDVLWeCIxlTqLBJMA05SEUOmTvBW6IRL0EroWBQ89lWNr7eYKzZk2qE0d5FWAAAQAElEQVTXUdNNj3/zm98UBr7jHe+4+OKLyTAMWdImy2m1FyTeIuuGIYnib05LQy7sCV6RTj/NuTaQCGyoFsOfyKLmte896JvHQ9DJSh6aRGpKjcd8j8leCg2OCVv/ZeMq3jaluAMhmpgocZGbVTeNWEqDiz3HXSFYp2CpEEkmXXwGyAMaUwIn5bHRa0MJ1tE1ngMqsQrNQFdOvwB7EZv1LKq2JvmVr3xFtpyQkyGRh4m5IUhAg0gnlNOSbCZCVVuXjbJmxet4gYZ98jG7pyGQHXV7VnPCXjNVTfKURQ6HbDJAbRnbX89v/LUewUrvTSw+0a+nUiYXQ2Pe/NhL16A0TczRm9hIQDlexuGJsI62W0I4dOkEX4hMKCHwhMEjH8yyyufCCzeEXcKcz372sx/96EdJmGCuZA9T2Slk4dbkQ2I+TY0GfwiWBbHF8a688ko9KD+HsJ2EfTieBkEiveaaawhJxfgpPvnoo48S/rbn/zy+e/zpZ553znNDCs889fQ6L23VxtTf0d5Cz2/Jie5jd46ijc02jrTBn8LRt3oC3G/TbmxSswiLZVyX+4mt/kthxX1dr9rjuuZXXS9io2f4d9ks9N/uM8f1r8wKVFqB+GKBw8IJEHJUc1Pqffl8IM/3fG0xsDGV0M5UdEV7KhVri6GfGXVikZPXGpb/YL/ueCmQeoPL2khDTtJYZF/YJggMFzL7qljQbj476ctf/vIdd9whxuUjxSjrRF4fhy7JpiLNUN4Losw0IOsYyimfVPigyIU6xOy4J+JULNSOKOQTcGDyFAwZXy0SLEzbqhgsSsuE8xCOozjTZrZBOYvt5g5RlriIW1ewzKBcSGn1zkKBcjUBD3FX2nQATKClf2ULDCUrABmQujKcWwhrMeDhLeZhNl43phYGZzgFrVKl7ETE0ejilWM5thqnArwxlpT5OBTZ7HHYWL++AfWMg7WFgTFXcZS+Jzb4nve8RyZQufUoJIXMaefdaGlWucYUxAYM1Hvvv/9+sa+Uffcvf/nLEVax9OB7lAGG7A1qlnpR3lzwTT6STtzYCE2TK9xYdEUssUHB2YTPtKNuqfLI0cxl3ZY0BVDCKnGGEuYVMhIey3Z43HfofmoCITmfdZMoDqGWIEf2Pxn29AjHToTiYbY4Z6QtGIkFiiFewVHNhpIqx6CXFo3P9e7bn0vvCosuq5CUAk4jJBRmcI1iNzEZCBbVkSUG10LIZhKYnkaTKiih8Z3vfKfwBG2Nw7ehOnpcT4m/CQOFD5JjCU2QE1/OQ90U7nE4jHz6YpX6U/+2+TxtsvXVh4M0EGst6tX4W5uzEM0wjVkI3tjmCs2xe0hoaM54KU5SGxTO8TzB3EycA05CZozQTQSutYLzw71DhAQJIsoX5iaFhdgs5E9cXICBt//HUpQ9llxzU//wy6MurVyxJZMce38Gh3KD3+XxblmPwmOcYo8900LjepFc/hpbUyrWTs1V7J6yn7K16AKVTB7zN77xjTfffLO8hdLTRI2wwcZi8xRO6lqcCguK0Pjb3/62hlJP4ZtIGkFtYonCc9ljCBmlLDmOCl2IVbJ8cHJ4sjlg9CfHzWFQpRvURxsDbYvl6KzDUtriGZfjZEsjgWPaWc8GQ2EVVi6djTZrueBEu0/QFaScZ2GM5PUuStFR8UCThoILZow5zCMUYyGqIBVSzBwaS2Ex6EJwwUYeFcf2PToLal8ntB/IFSLhgHMCvUfRL5y/gPNogdRZmCP0IIwmlTMA5XuQofKuu+6SbEmMiwm66knwp/qoszCWuk8PPvigxAZ527W+Emg1Md3UHbkl7r33XqGi8Fb3haJYdDlQDSuReXJsnqCinb1qlBX6Aic0WrMmioszx82fjBZHQszhhCagGXzuljNYtGUyNMjSfumllwrxXvSzL1yUSnywEEbDaoB8p30/Ozczq1BIhZMwkTaxVkCvBZbEn5iHrMfiDCd7iJfGQ1JX7ujLpf9sr8tiBbGQ6Lbk+Fp/M43a46lYYylrJTIj9ECNttyiRx55RMNee+21FNgXHuoVGFcRwVGFKc5r0aEXXXTRTTfdJEwT0sI5tUZy+ok6SL4VV3z44Yclo4oEcob4quTRM20LsU25arL2w46RIU7ADvewC0PCxRkkPIktVl47vFDe5AjXkkFFQtAll1wi2Uocz3xOiKls9yIf4aJGUWltrpXH5uQFMDCVUBgz4/FqgYoAGNWmLUcaxnKou0U+Jldympl7Y0zoZmOkIS/0sv74VM6voZqLRW823QqKBql2bWsEWAu79AHCCqRB+Cr2X076FqZZtDQ+UCIbKOGoB4W66iNk03KL2kmCve++++xIJmGgeCYh7bqm6kzIHHs3Fy1n2+zjzWdoTlu0djOs4R21A6rimfz6k9jiiNOc8ENM7hKsxPFe/epXSw4SwWUrYWIWX0lwsn6i7l4sRQMp8IUcRGwWNNe0wd1y6gvQLglL4IfNRqNh54NJGBKifKZu/mGtEA5qhv4bl7GbWcyXwB8Q+fDOWbRXU6pWt+5kGKCWGGsqXos4fTc3LRYfj70UxCDDEOMnDr2YHYAYbyRYply1CYOn0O/qq6+WNZWjY6ALGkRUSgstishBjeKTfAVyLzXdOG28KcnEWlmJtexZU8oTML2UT/NAXME7iiC9szgWDq+l2YHR8cD5e/sbZ6z1IMkuCMdvu4ezhyryxtQkufK4gOqZYGm0L2RrGYrZGgBessY3EWLhnpDQgpDXvOGZ4/pP3c4+a80wYBuaj5U2xNkQisEiFAZD/Nrx0vQnAZUYIOVqFvrpX3CMDyTSCx3HGOCqHKOA9GtCab1uoXLYesF12VupUDBqlc+RgucY02tcHe96n5glojMFrfXs448/rnHw75mZBD87zpmUExHpT2Ae7gpyI0TAtAdaIK2LVT6O2RqG+BEy4RDO43K1NHk9RTIHGqYGl8iqbpbrGbqVCCBsGpwgHrPW/rTGy6R9xQnEyoAnGmfadSrZYeypqU/J+YqWO4u2nLXclFoqcKfjpWyu6KmETOkg0vFece7LTUvCzcuwsEFSanZKW+Ry1cfLOT9NyRjUI5Q1WZUC+J4BYoMRhMgEKDu8qL8vLJZc5pEtgmGUiYGNy8sJLnosduMfeuvPv8veXetKVjsRpK2r6T0oodlUTGLWWlB5vs3FZmSk4XQ0tDVWHFoloCcJGE8DdlSOwdC6iBOK/gmXzFdjMd+plN4gMpBCT1hcVjn3V9tz/vnns8TYwbSvOGEbV9vKPsHw0CBmTarDTysa7rPFrlPKirWagY3SkuhmRu9iqSS0WJ5gI1j86SD6qM2ScUVqnmQfRBL1/OFf/8BeDe6RD4GBVBd2yDn9sangaUDIoqeewtCQSnlry6lnqoIfucEkcAVXSCZVjvg4ElTUlFb/FIaQMNbiaG+VoRCggSYHy45Doq2XT0xbRbqAO8Vs9tQFLgdzgBLLh3kGzGlL2y1HI2oEicRYSs17g8DMv0i5BM2Y+m7+QFz5wmGJFrLfvP/979ckwdXoxKFQiEtbqlqYk3D9yWf8hLlNcE6DMDONpGwh975sW9If/+DHbTnaFo4nOVNYJ6eC9ccmmcqhkaAQ5nqPco2rlBtc0AwMEyiCMWJfNCMcfWCY+AkFFV/72tdk4dvNlRGh42h6rYu0Di6axRTOpttqLA1DwYMdJAwVbbNVW+ZjgcnnJ1l2EAMNjo01gWaI73pWa01dM9YilIPdjV/D4oyA6SZVDMkGFhdl+TC0xpIZDW/kdcjurKxfHb1a0oXciW9605uEk/oW2zYvwccSktqUKIVlOcH8TKP1IMTfNx5otR5CKRdvHSzuTGqCgEFMT5KmZCWM8HoKV4R5xo3FPe+c55q427jDxoi9pgEPcF2semiAwmTJUNTIBBqNdq/KEevSWfSnLIXCQEDueDlTKbh4lx6medxblFqBY+wuDqnlrT8ktO5tGqCmomX6+te/TtR1rOK2/aBNcYXTAf0Nrz1qsa2vmZvxRvQmzccTvMbmmT0mlrSjWLQCRBqCBOyMp1B8rDEbXW+77bY3vOENb3/722+++WZvDo1F0+gJ9Hbux94ehJ9OTpj2ZcipyfmipNcEF+IfyimcoKJIuSwr0gXW8YaveBniD6a+46UwHwoexhXCpOCly2bPpGmN8dEy7FsMqMBn3H24FqRVoYYAe0/mhnlCMtqPcpMUip2vyfZFS2o3HIMQeGlzWv4MXZyKzptvv9rNZegacIIL4dFspJKRWGSBAmM6IZh2vJwqYUsjeZL02ZRd4Vh6TCGE4PljOqBhEE6cp4uS2m+0EM0NVCcgm3wIY4mrHCYv8nb77bdfd911H/7wh7/4xS+GYgu1j/V0zoIPedx8jOFMy22QxoesomNXCyX3xeSal7/85YZ7Fqrygx/+Vcg8ikEEAEJR1EikTcAdDNQW7CxOmC3AK+NUxv1ScerqQptu1h0Juot8+pCsg3jL9EZK/mFfhUnKBSCTQShYh9xrdiNDwh4nNGj0qNhUaUphhB82Pmytt8rGymI5XpjygWZEDiNNS4OEADbCnYw+LUqSPyOjUptUyR2TEkMWZmBZ1FzDygJ1xHaqVdNya3GpZINcyhzI4XjkkUekZ7/xjW/8h//wH951110PPvgg5M2bRu1iUbKEYZWhMIo17UxnXIXrVtN4GktHPJc2SEKmsE7oJxMLe2EKGGreTrZlmjsBULGV9zGDyeUB+WakExu7xVIbJsgLJUSijmbK6TtSSXRBTBXxHil7HWCnOZJkQcQ2M1EHtBJjvzY+13BFQ8JY0nF7qzS2aKGbG7BnmPHiZSzxcqucYSRyIp2VavMmwgXnyQjOTxgrgZMc3FCyRSy2gLfUcjbJuMIrfBiMwE7LvnL//fdrnt/85jfFov/X//pf119//Y033ribc4jxasi4KlInlBN+vvvd737Xu96lyRPtrflrY8yaZx8L4VjsrF/UhvSil7x4nWWvuSwzBo6cj9dbN1vxFDuRfaHvhvZj5D5pu4icFIY11VgZkAoBPpHPFjwuxRNnejWucnusDiFCKFhTyVI5Qe5xCOvapr27EqMT4smNrgviCnE5SO36yY/XZo+1ZeU5ezoeWjcE3eRSQliQA9f7qMefWge4yA3IEe3AgB5kB4U86HIph4NKySS4KmYFhEwlwQB1T77//e9rzi94wQv1cZxjSXWVbAJs8wEN8djOc7SwcS8yLp599nMLsp0QR5GELe27RsJBQTR1syhsC7y9Z5m6KeS+N7xIJkpwwOOPN8kklyvVA76YjVGYg2H0UCChNKHSPbZuj8AeETxCqcL08dw+8pGP/Jt/8290IVvLP/pH/0hPIV002ckuDVaPiLZJBL3hhhtuueWWe++9VxirDrqJvhecLGrCc1v0+zUrLv4u3V80Gw6pjD3nzylSIev5cIcICriNGZAxHbfubL3ggMM6o1ygMoi0QUPVU/uoJRXTE/Rff93r6ZCK85ogBzzm1IARLwAAEABJREFUMBbUPP6MOTo/lnpnAAPHdRG/gYpuKozNUKQZFxefpgmI4IZ8Sq56IlgCqBKChKty+gF1SLySdglDY1hYBSlycA6+36CRa8134RI4uAiO6dXcr3cx1uypPSSMlczKl8PoRNuIOCP12CNhcFac3rP2Ji8lQwi5r6W3wKJQMBkhlmObsFORbov6LtwT4n3mM5/5d//u3wmGhIGLnD1IieWQ8xLFLWX1/pf/8l/q8d/5nd/RU4IVjj6Wgs42Dy7Kohid1zHcruTHWEtVbG65E05t600slip1x8vpN5ZOHos+E1zNBUsrieVIWmBXcKwFpNK5PAqSLESdtVNPfPdxCDT4aTYV+B7hY6BfUw7AXOSwKn5dlRQW6qYzMawmNn9q5KUcp6FXA5NU8aLxFcSvabbgJPgfCkA+88xTxGmlvZMansYdDT/TkqyFmIJXPd3P3wxdR3yPLYVKFQwjgOSx5sTJJ7FrGk3Ft0OpbC2E9qBxtqDQdRLWN2Mx5JhfAb2L2jASF7UKHI4t4w3hNUS9LHJUEcUItGrUUNOzMiK/9rWvFVLdeuut0jp08fDDD6ubJAr2WD0/9KEPCQk1+D333NPmzEY0ckoDS8Xt8XxrsUgXsOi0qbBKqvI4926GU9PSUNRYyOKM3QRVLKknlGB9/jVQRsyDronXXX311UI8CZxaXs6iM6uGSDP+Xgs6Qw/EyoJ9ZdH1MJO7ELIRwbirxoHxakyy/tpy1h92AT0lcTflOkvaR+yZ6kyBdgopkO6gZ0Uy2hxruiqh2BYmGdbkRn/KwPNj/IQwBptkXsM9sdO4X+ye3hkcd/HoYD+FITNyb7+ikz6WYaRhYoYuiuxJGUP1ipWbaGL04AoHmiDEF2prJR9KZhDCSMcTTAgVif8MmadxbL2a1he5ArlfGPX6179e/8qoFbOxi0forD+Fmffdd59eoQHZlVVO7RcRUQeSlWzyset3wVOUShXG9To02xlIxznkqUHP2PXrYBIL2cRv/GpVEkrWFDA2P/Pc54nGCetk4bBwzT0qs2qf/PHaqrH2IT/vZ7CuGfdjcB8FGl3MWiiUneAKXQsAQFf2RTKksEtEEESlFp42WrChfZeMox3Hn66tFMyEjNKEB6sDYVi6oV1Fc0PalC2CTJ09WXcR2tW6Gg1JFWvldhnR/fZWLHgv/DJ2W6jCZWydBy8GEaQ32rLuHUtSEoCoD9NOPPDAA5xLUdPa0A0mCF0n/qIcq2b0Rp9NQINQ7pprrtG1FhRvqXBSN9WZA9IgjYQ+iG1SQkpNu4I0gp6tDtLCsYlrq7SXshCIZhMcY6dBaf560JcI6CBG3PsTU0Fw5tMx4B5Zh1MT5jZGelcuDbx1EVjiHmbx19KJzqLjXXHZ5S/IzRIUEB3pBqPbcY38dDNmRmca8AYhbsJykRhjMU7oT+2+dg22iTQklY8gXkGF3viXuT3xxBPSPvQ60nHaUgTQBkSZzBHhCfNM/oSndLFmjO1xzEKZZGjO6wJCcb3v2mthHXyvsMSEZOQ5ZB8P/VLXzHC6dZz1PWCKXRELPJTIwTGApGOFKkY+dNMpTJlOxfiWuvExbAbueA3+ute97pJLLmGJhV1o2Fi91YdTb8AiZi/5E01Av8IPd/KZvtobgZHEUbQCPS60ZCdEO6lGQ8WNer1MuiCGzqY9hlM1ndu7E05xq0UV88RioEYv0rXWSn68888/XzRLUgPxK08/+RRLjViIIUDjSBlbltY4R5mHhGjlCLJ5xpAQrQT/MLyXvDMcBsIu7bWcSaFEhMu69sPcJFgSOKlGzT5hJkejk9vd5iO3LHM37/tT2Vn/I6vYIG/IGmPTLu7lrKXKG4lV/JnsitCzUoIihqSybhkkAnbjPuKFygs/hnhjP/WR0JtSTLszwR3Kp80AKyy6vH5Nb4o9+La3EAoIHGgDSNsVpglhJP+op4hi1qSfEUJSgYZkMI4u1J9imItSSVE4zPk4QkLEUfwcba4lI8bIodn6SRehqt1kEqlXjdqSlzih48XqcLhyM5ySFke0DmIPKCGrTyN8RCh33XXXadE4oWBVourX7oFmL/sOJx7sDqFx4cLHTK7xSWG7pWbZrjtinWkg1BC6KCppvxKtJt1Ej3z5y1/Wv5qe3qi9ZigRXGo78Ha4N6o+Qg21ZJFycwIq7pNIlmlmfevMGLHBTD6AQ1lxF3wXAeWLxnzx2tCIYWJNiCM0ZVTNm8A9LryAEJ39ZuHL4NtjqQrjXrjcQnkLZQ6hGDaOdWKCsGcisfCUGb5NHO1Ny8Y05NRQhFDoWtsPAmscXYOowqVYQu+hr4ucvgSIAASUjWlcaUfk55DN9I3LBAtD9Ak+qI2UPCysRrzx5KnX0pBLYL3QI/663lMnHg97LLctYeWhnOrRG4eF3TnWiWk0jWtZjltuXCmddXtm/UUXXvBqTFn6VwwQ+/OaOz31tP7DZPrcs88x+xauagwt8K5UUr1tPhy0SpAwv6JlNKVQHYZQIYx0Ge2g+C0MWS4EvYI6CSK42N51rX8ptIe5BVGZrxYq2scS3o2obDFoJnITfo2OVxwka+597CyCzrBFHW9LrTSQsKAfu0Cpy2zLaIjLWwRnNfA726PFdt/+9Lac0OVY1mevsLwfLjhemUpC/U6uG0dtiFRidhclrXhZCtTb+0wETbNjFOkv/uZnqR0S8UYcZQOOl0OzgRIv8PSko97IaZPBk1+bkkkYTgpns9Qbb8mIzrBhPVltaTiL4jQ376uaWAdeUGGCONpzn/c8yZmyal51xZV4F6hhSbyRYBonGx+LhYZpoBLD8eB+u6XwJIKf1adjnlindZ8DNwlXYjtw6AvlpGXIlgZpo76emm4C07qWL1cYKNNAylZZNpqIfHyPEBrkZLBO6Oq5Cp+wWEd+n41bge/K/+YgkGN7vE6D5WGPn1CgFnvJh5hkwBQ9usbSBtQ9gYRGlz0dT6Xohgekjc26LVM34KN1Z9MbQGghcNFIAfPFw9mh3VJLwo/euHN/p2fQawxlUYhtabHYWlNxCpsHJRQbbNutMhCdB7LGwzRyfi3kn7ob6chQ0F6NkEwkOhwe6IHMtd3SetgVUknbg70LKAk+1v219/z666Vgi+lp5PWG7u7FDEoOhG4uc5k57FXImRbBm/nBXuz7WkZ9al1UYZ3zedZzfvBXayvXmpXlCuXr/7J8cXy1NptJn1R/GboBdIRM8Trhp3jdjTfeqGc///nPNyUJUM+iohOPobeQ7iA5mT1FztIu6HtJhaPmGJ4GeLInH2ahXRepzJ9hMXFZ5csf1exxFD23u7sEFZE5QTZtvu3Ono03Yp6BrK//W7hTlgY3dOLOGCScOCKj/s3ksd1cmkVIKKrGWRGwPnu25sU1d7U2DdmmSDQuyyl000ON8VrQXP3ZY0swyBXtAyBpqKzpqJlgblihwHwTeOA2nifbZKS47eSCC0hrwiU50LQ1MrFQCgSLcbHXny2nAnIXuj2ipnkRzNZyghWnYAI/CE9QC24DPAe4JeA/u0+tJLx87Wtfw14thnnDDTdghpEISgi+Otx5550SR0UX7rrrLkLtqYdNgBsWNewoGgTtlG4EvpiXbycXWzBlFVA0yTPfJwFij9xkrCtB3u26gH5s1k4IUexiQER0iiQ8hpKSHzxsuCaumIaCpbZtySkmSzNmlnfscQPbe4N+yKfWyMrRsy6LcobM4Mt6hv7UrXvTY/Ge9jfdc+Qsqt14LLAC6R2Ldvcyw8RChIL8IKGdq5w77H+h63fVk8mG8r2vsxbKAW/RaX17OkL+Jsnn4nWyY0nmpLItIWBm1TRfPIEKPmCaMeGTfqP3yF864dP3fl0x25TzYNhQoY2wbq3Uff8vtOaajyajcWRcQeJdlexeKtDC6LCo4Xtscy6fZTyg9SF/Cmk1CAfIhiJtEidgYnMoZ4dZBDKoaATUxDEtm0TjbG5Zf+j6AAtJoM1Os7NsF+0zx5/Kq92W7VjkwI2FEDWsTeMnIDPsQW9n+zyvsjvTO163vmEmVQLbqiTO4v6W4E6FiFDOJFzm4xxi1z5RjxYqDBxsJo6ac3/ljoKKrvhkU8q6NS7py+NhjYFeQO29NxXXlnHCcFIagbI2BzPPmNGStSXMSJhz3euvEceTsie4b3MFBxiFZUtbAQhW5jnHzjJ3ggWyxGyC8i+l6VqGHNs7BD/DAV4klUTOJDZFb7nqqqtwFWpAqXlP5EYhBbZANzkyhLB7DSL4AeUInBDKyU8Ig5URLmUvBfGlZDkZx16U1uRjGkzr69EvD36GkGbm4MDsDCcaNtO4tCv3fQqrJnZyI9KQJ3xwE+NILcOJ1jiP+jIN8VabPYrWTj4RSdeSdrRklP0k0Mwy9FJl9wsdw/1mGTqVEsCeKTXF1uc5trd9x256Zc0GfatfV08JyS2d0IrDUTR7NacUo88g7O2WM0yFS9K1tOZCOcmc+lf2leNrRFijnGAd9AAoi1VwTyKwaBhcDgsX9ItoZ0Y1j4F6r3RI/LGEqmivpelp04mj0GT0IGGGmrOQ5JvfXifjCTPVhw8RygkD9ZNkVM7qEcpxPKA+1qzlqLIYRWGYWFYwnOIJQ+aMe7HUC9NgvSm4cWe/tM751iPcoieGpdyGjJ999nNlQdavkvm0nGD0iQ2K3Spy65SXE0pWDepjfw62VFtH7QdPSGwtiFLXrsgxQNklKJAT24bhzEFzqn8dfMr2qS1luXZLUeDgglpZ09blkoXCHpvxuL60KQgmFqU8HqVhxhpGRRJwCJp7cW5ynWmpSQ4y/5g4hqwLlo8HfwAP+RPFb+lKp1IurrWgrRKuDZezpDP70uNPP0NclJD80UcfJZBFXPfCCy8Eo8xJIJe6fn3qmacBBtJ29asmqdGEtHpKCImHHaO3QAghUxxPn8wbE0Fwz3++vgJHvD6ZLG20X7O+RGfl9/7qxhUBbLu5PiYZia8bCDn4WYB1kgwE5qA66Lw39BrrVut/tY6JYQdOy03u+GtrcVLoa11y2dKzRbsbnV2U4BVM0lo4OQxRD/DjE65ujrimHDMaSsCarU7I1J0gDHx6u+XcNcCInAlkDy6I5Rf5116GQtKMOtKfsqi2DbbonijGbjHfQUq2iA1g+uSPf/L85/2MGMKx5bp4abPciwthqsuSrOw5s0d1vcpuLtwZdyRrQ02o2kiR9t1nfihoe+HPvkBMRl5scTz9KygEJ/Xvj3+0Z9UUbj3nrOfBEEA2q/a3LKnoC1dicJ2dFdJuOdjZBA1wBid7zFEmwnmLpdY4P34yH04ewwNff1A+fRECRJ51wPSPf/TVr36V5HTdlHb3wueeY5BtdfTAamEaUKGbuCW0npzPBbibjmf2oZ1SQA3GDrKxvE23xHXjvFPRnVwAoBokG3gLxLJ5E9NLLFw02ro5jrd+KDOnEpEvxFsf5HxC4lu4JHWPVHHIJzyGlieI/iCmpnGTpvZMctHdd99N3JNPymJOkDdNKJ8AABAASURBVNhYkmXJcZYAox3iFHtCZHZL6StQHee4NgAwRfqlGreVBk7ZbQjm45vSnyK3Iq6Y2hiNwNxQeXIM/dKI1N7s2a/3ijXEcjTPshQXSc470owkkplbJZbcPLCOQs4xZ51qQbBP4McTyuFDx3aPzYNPQDk0fDOlzoqORZeOFCsrDiPgXkO7a8tBcbbIwijJjRy3cNNNNxFchsjHgTlElqVsJtUrHnzwQeRSRmDvMAitXIZ3ysYb7TXnqDxTDp8VDDSlZMux0lABmuK0LK6FPdyuhZpYDo2OLioruEJHXnMxzhm7IlJwjp9UFRe1F6W9rOtm8Nfg7O1hqMURMTV562jvmY042eTQJ8p1APrY8dpypl8saSB01g5pw54pZzNpjaSdE4Rtkfusfo87tTm2kAXSg6LWGgEZSQB62WWXyRynQagOApfGK8W7SIDqrVTsnsQYusiTim0GeczyelO3MY7l/kQXyaF/9d6me0KlFUrF0C975mte85qLLrpI67A2opz1HJyiAlktC2oepstFSXrwhk18A14479FjM2hxE4dbLBYsi5+mGKwhpwSc2267TcgvWkDdB3WTj0ErT5QmBlKsA+S/t7mirK1DU6qY60MYn6AW6BpVlcHtphshAC+CQjXu8LNYwgk9ztRgab+aetJDV7iulavwW1ZLlTbyHLxK4zph2OQw83eW9Vf1Wu8mGbRXXnmlpHyOQ4JAeoqS3KE5WMMIB9MdjKuYH7XBuIxD4e8ItKAfPLYpKWrSNIRvevDNb36zgLjJZzsKjELxkVDqV4Z7QZIQdadkshlBNf4ch1IKDQMZKpRiUzulzLtXRG0EQ91FOelp1zWWS9/ImTaiGnKjax12c3EU5iZe0ZSDopauEbli0mbTLWgZik/FbCpG+HtIaG4kYsS0a/gPUMBIN9HgHLwlG8xuqUKCsxExlUACbRzoZEm3rC2IhzPd4shIy+TboSMgALRg6aJSWVJ0PL8jbfeE9x4eNtXZD7YjjStDyIRBeI+EK3eKcw8rvLg4gY1xhuTZ6xCH5K8OJ5wQQf0dYvC1Z9pOPK10s1oyfCoWcG1AzO5XiaPCjYcfflh9Pv/5z4uPfeMb35B1+9JLL13mmPpYiuehEOJH4kL3BamCD8GxHhGpJhGRnaayCFCCQU8CDzXwQwnLsskbZ4tV3AzdgD+4WVsyZQyBm65XzUCHDiCeDBtrg/45z9USnXvuueIwmrZkAVTcNYv4q79uzOHZJqqHmK8Z8Qy5oHGFhnq452OJjOr5P+1j7SlypvWnJiPEkziDQYjFlBAhvqelozYsDnpkCqyprHbMCX7UR1JP3V/bZnJnPH5YdKGAzoG+g/AcsiHKxNGFKyUah2zXaSgcrPevfaAhsx98WSr6GUWOzt4RhlCip7DUeDiIYBt/nRhkPzohp15rewRn5IbapAHW3VwslDoxmLmEKnLjSqeXkU39tXMyP+BlNlJthpxVOWcD3kJKi6yFF198saDnkUce0Z/UpRMA4U7A0qCXijToJ+E8hm+A0msXYx/rscsOtFjmhNe2OKybUqg7Zbd1W2JZU9EkNaXX3XQVpykKAzkenfIQJixYyjliGFhHGQgTJSAooSLzRux3y7mLrfOjGm/01zFXEsGgKs2TnpqSSKGWSPKFcAyHvogFgaBaRopc0hmpMmSsw0Km3aTg3aLElxLZD7cJJUiAbzShuqeVNd2Ssz1eEZ1FLQ05vVqLwC62KGOwTfdkX/Mx2iBeyzCRocal3ns9Zg5KpGHSM5HG/Ydb64QIigYlPpA35A0jYEJiJwRVG499VXY2gab2WJutR3QN1pnHn/EhqNzn/ABRaw3y2te+VoMLaMjiNQgQuJA6aOVi0UxICfV6Xb1M/ru8wdPiQjKZjV6GYe/Pykd2g3hCOfLQUfNkZW3L0SVk/Zsb0KChpyP5rTUmadlAhmmexdmfdr3MoXy+D4hKHCZqHhqEmqQSTUMsS5QCWSPk4zpuvfVWM4CJghAghn64yocRSB5htkQyagQrJNWLQTXjZ3TePObZW/8eEeyxOC5SbVF0hRLZLGO8ccRHVS+OOdgGMSQOGVF6nNmmN/b49Mh73xK2bJxHj1FBhjL8BzEbaZgNACfSqF2U9S/mk4cpDSoWqguJQybhrEpNYSsHrPvae6xtIKFuCoE1CJWVQQMs/lTOghwQXxJKkXM4lfGxCYqVuhZt9DFTXRZxj2Ta+PouvfGaa9aRK/IoeI4nFrGIjYGgJ8NwdW+Oh4qnUv87lCAVJHkTlgxugKHje0UAO8ZepE3jiiYb7+bjx6FrQiFJIkJITVsyheZD9KnFf2sEbZAxZCRVzglDsSfjnkN7QtY19IhokIl//rvMgdmWkyeMxoUub4/FrOJ3x5Cnqeob8JOvF8w68NLYNXvau7yq7NencYblUHkRJlqc50aumWfdTsRhW0tDgoHdJ6USdiT4g/JJqYB74MbFBrhbCsMcK9XQCClGpPEWDg+CIQtLKQc3kmYmcCdTHooeXWXYkKvRGGFjiS2OBzmK2VpI4SpXQ+Vxc/rBRgAU4q0EZ+IMUArQ8sUvfBHhmkI8cQAGbHN+zfe/9xfgEgflGYU228OihLb46M1QxKpVKf5tnC0UJDQ2iG5D1c2mFGIiUR2BM7lSy8irSCVwKpJCJIZIG9c46k/tj7akL5tQTZAnVhbzHOqlayZfMjC8hGnUyhOX6CIuTORblRP8zCRuuw+ummBpGNi6yjTeTBVLyJvnhFBbOLmtpDG6tpzFawDfFjdSqKyjnl54XmqcsPdrM1QJJU0KlXHMOjrYemPxeiN4xjrMDc32R2fPGBwWd/yilEjwk4ul+ghCr415vBwaHl3ILOjds0kYvi1KnCGhj9QaMdWuLYXu4SRUQxVpl9iGZX99dkL24JGbR3431kJwFbgxqgxAeNOfrVKb7T3Lcs4MF/h4YolQB3lsp4VykhrAB01JMiQWVI6d0+v0OOeQhywfwkX51/vNUQdYW3IC0RJZJZihKCN6Pjfh5HoRyA+lWwyFxXmBs3ElyVal0pmH17abKGfwbVtmMGCAsSj1fnpIvlOOAbUFTM5enZySbHd2XTLqBF+yFjeFeRnXTTNYYq955jeqE6Yq9jp07fhGyZrsVSckFygkE2c5ebBR7BobGdkQkuUTGAnuCZqD97K1fs9ss3vz11MYaZrsq5TTQniIFScWGyxcjjkTCosBUzD3gQ98QK8WDogDYM4G8VI5mdXEyx1X4jaLr41JYo1z6DPtp37yJDLtHjClQLU/gxKzsGON1Ffffffdela04PLLLxdRkFVZ09BqUzCXZQlZQoFvm1BgAljIunrKwgVYqpuiR1iMOLIuFNtYU/KeyMww86z5JxfugJRF90CiGlQM05ITr5pST97AMXUPP7IFDAUhjaJ5VLe98ER5t+RhBidHQLuPuyPpF67G4USrpdM4Izt8bJzgMLYZPItiIz9NxSHWltQbvhwktHo7yxJ4ucjuuzEigfXFe7Q8XVyVEyQpni06jfrHs7VFqy1RpobDmM6FeOiHZ+VT1sQ3FrmoqUXVJKdQIZ1SlfiGG26gBoQkbeNslnUO0va0oD1LXTohaQdHX8xzaGXIEa1Xqe1FBbBoGFRkCpaTg6IsQjyRFQnDX//616WWw4pBPCtY7qPGAEEifhhcq0EUC6zVLBOYjrz1yGJZehKmpyxmrIpdUwrNc0XP5TxhSi64D+7K64y0pRLcY1Jo6JpMDdm8X9rsxra/kDYLsqlRYgxt0pB/L1Z+5jhpFJ0Ynzaa1DvGCWM5qSI4qqDdwhOIex3pC4A4dmz4zHe/UkYs2xJaFQrUAq8CHT9vv75t8WpYjfRQcNKGRaUMWYGkSAf7imVCKEcZK1ydHLEmSBWU646ogMGT53jofoaTBltptTc3A/FQwqxoiHz20/rEi0Kqg4u0xsisD5fkqZmIkwv35FYV+lHjCJRjHHtX64J1V6VAwY9LC7ncKAokyh45vpbfFLMbcHmiMEQngqxHXHog1UNCj2mGhLFbstoQO7rwIHtvKNS2x+7swtZw150GZR+eurqlwUZNHydajKMefN9nepxBHO6IoxMMcJATouhzB1qFNQ9uYzVI7AvbdvhUI2PKJhgYQwAViTAmNXu35LwGxwZN2EjuGEr7Qowx/AkbJEPv4YcfpnK+rCxCSMEcuqKc5rvuFPWYU/hI7sYy0SvnblAbnYNx/WHtHis2kmwdsCUgNzKZNZ16etcMM6FEe9NZzOpYLowr6ibD5kc/+tErrrhCrppQ0iDQ9JqSEpFcuBKKH6YpkBk9cJFzhTD/xm6KkAXHmbXDE8cdl8TgIWTRqV0de8CThkTTpTsNweRMro20Ne7MWQY0nd9IsNFxj4Qmh/N1S+f68mTCJtY0owf+hBE7So8T2ipNjBMmWevWOqHhmMkhRmYk7WDeMDnE7JCDrXHOt7b4XrmGTaENWhBZLMae4A5bNaJo2I5ZQj+JOetacqmQTYbce++99zOf+YwGueSSS2666SaZW+Aq1EEyZFuV4zeYm9TC6EKlzM6ZXPMKWEzB32xdqKpwSfKweJHehQVo7eD50Q+DS0EgJpPVk69VFyTR6lrLK9cCX2f8HwzEkUMtFgKmCRClJwoeKVGUn2Pld0ox34UrR4A/wxzrxpF2y1G7achW4ZcoVTpPcLaWRcm6CkUEtXd5DTM4A4QRF092bc1TUV7aEihCZ3i4QW9v5EFkqFs8yTphGGJ99cv4Nr5/WYJx+Vqf670sRWjGKE0oxAyaHTIv5Yw4s9HDCanXQC6FyZmgq79pbJDwRYEssVQyZoRsaRS0ffCDHxQnQf6UTWKZj00XEuoV5vvazaeWh1I9gc9cliLTqRi7V878nVzuwu4zxz1vNL5NCXNhnZwEukm5cSHMzll7RzsQUU1BZL1LeqAQVX2EukTAkVKEnB9clS1EcSEqrgVUzWPlvFukTSwrlqS3cG5Mb+rwJpNVicuJLjrfICl2o7qCU/Z6aBkKBpryjE/fwInXmX+iJ5wbjfaLv1uSIVvn92Mm+FrMqINmZHdsv0L3vPTpNrPbVq2traNj7xgkewABGZyhKDxwKu0xsYWIlAapO+XET4R+dDxkHjEHkXlK5V144YXiD2CyhXqoJ/l1NofWZaOG7KVoSygGaTVtqVkKvcCYKe1O0Iy3QxKp7lPiVq+mmIKJQ6FIStjxTbkyyDCwsHkuc9zc2iP6zNPBKT8/eepJIbksnFLtJExSVzPFcOlrX3PPPfc88b0/p7wKkUCgARI4XgGWC38Jn48lE7zVMoqUkC6USrKClWM1EnmsZKPrJx9F2XRPnLUdb4vz0PSOHXfGuMdA+9LgrCxs0E4JZly4k3ebHGxkeqCN4OVeAMbbV2wLTNxI2XIenBPSmmkuyTldY/c8QP+xNZczJPHUZA7PrCWFWKmU1jqcME26FOc3cEBLTLYEcdXEsq1KtBfsEYEWrBNWcMzGdw1IAAAQAElEQVQVL5X9XfiQikq9zAE04AzxcbYltivGchHnCKeClZmxO+Q1xTZjIiUmeK8I9QwPsVhTbNVS8TUhs6W9Q7aOgxJm/7QHIc8yqGhKkiTJYECk57BEYZc+DXMlPkOqiYsHQlm8IgTEUB9eT3HUXpODh0yqBP18np4pe6b+LcqZUzEOhw2lbiyLMbrejnsGGBwSGiSkUoHCm1g9722d29BcCyZzwu5wrhjNNX2kdRZyz9960xv7s25pUsze2AZ7TrBQf39W7OjGUfgTMMLUQbxFLPkNoVSSo6ZIyLXbqHogS4l4ha7JHF11qxjiUSAW1BaaC7bEdBXQG6anweFORuxDZt0Go2aRNz6wKFE49q8JY6gcJvHSn/DLJocE2Yt2y1GqfDux0eLzkoGFaZIY9bESRMXwYzkYZycnZFoBO1DU8DlkEkZ6nrCOwD1bGeogoWKZ+8Q7GKAsOyWrK7o0gp5aG7p6S82m/F5H1xbd+GkrMHWsZLj3+K01r+aFrMm37pw2I7KIl61rHt96zCd1fV1+wuEALQ4ZhAe7pZHCRXUbRUL/w8Qr04g/g1UTMImQk3AEJgBnbXE8CKTACklHd9555//+3/9bctrf+3t/74ILLkBPC8XonIpnEju7vSg6X4XBK8wN4EOtalzNCxyDlCdalmZDpRzs1vt8b1ZZnDgp+mmYHhIs0mPIMJSyOgoSEjOErkukAb4BKk9rcYAk+HNbBWSvipuUokmYWLhPULVFSxumeZdJz9W2cCe3BBeM2ltPz9DsounmOth6mlnbL+NOKX5jAmEo8qpnpD1xxlhfr/GTn7AnGe1IInzoxoGEeRqdR+wxKbQeMM6wjo61WPsJw2weWDNAG9QXdeUQMqprmRFlJ+eMo4YJYWR1EDj+2q/9miTSRY4RMX0sFCGWx4k+7dFCU7hNEAI00UWJsTQhc+FOewwFxzxh3i1VG1tndguFFVNSpcnVEOE/K5fWYNVxzAVnRVmoe/3QQw/t5BBqPc5pcLqPVdBOL2rLKZmgK6KEVYXAR4JXvSl1Vo3vLUrmuA8robUl0a7thmv1Pj84uS52jemgk6doTbfQq70RTmhc1yRGP7jndatuTlbrjMx2EV2AVM0kYtcBEBxZ8aSkZmWpEr/r1sNDe2Masaz22HKczX4PpBP6bpxGALbgAaeAhawOrcuINdFIDAGEBPcI+1iVaM/kDjwxZIjdaG9bo2OuIGxbciwWpSDSsZJYDY9dOadcculkq+LqNZMjr5DwrGcpAkAaF2lBHm2Mb1vUGP+izxzLeY8Iq/BbZAFO9lpl2yYmKLCd2CO+yzLTF+5cHUgYLN0jgOFDDQTJqXk9dtE472ty4lxyZ2tjaAmOB3rcs2uzuKTueTVGNFmx1mUSGbIFF7/h1eBQuRzr7/KI0aMsthRpsmKF//bgBNpBThjmIVia9GQMc0L/VXNaryc6tKHQbikWDFEHpABT9gBRyg4cRxGSFV5I66PsW+d7jU7M8PTJfE2hwNaiG/Vr1sJYOQ/SSJyhbYP0N7tvh+bpX01Vd4izIfwSWXRVjpRry4koqQiEskLp6zAFg5m7OdXIuB+cloI6BJobnixLgDgFQWwdFiWush062Cd2o0z8fi07h96cKOtqlpWmFN0ACQlg8GKF6Xhm6owutcoY2qCoabjn19w2xXbWI3PsJljU7Kh3Hbe0lNhL6wfjbJ1w5s0wbZgZ7DTnV7E1YkEwMIB45DRRV8a8qIAgsNvmPAlK6+snGS2QY72wZB9Tk7dgkdAFUnfKaZh29Dx8qXH1SO0Tkisgm4qWYhbFppy4JtZEFBuFpYU2+hxKRVCAA1MT1R/xZOAsbXOxHP2qjxKFosiaXiSfodUvC9lipNnKhbjjyslYopB5Glg3pH0rgGsb0bjIkuREMo/Jfhmbofy9WIpKhsyXFiVuu80HsMSqtrJ/NSgUC/erFTyTLwwDkxNQm27JszjExv2fzcgpSKky/E6Dcf1sb9g5Q8XKazrn1Xa9DNVHhqElqJ+PzjrSlgIQoVQWWpaSLcRqrPLJBE3JD1hlEz8bid5oNQ4xu0Pad0v1RBzNjSuRagBhHIBrTDI7+VQjI9ip5MIuusXCm+6ZM20JWzmWjxlK+Vg8/futb30LPi8PCm4VPSJTJwIh6iLgRbisxw2q+j7++OMainpqeCmwYaAML0rgmHkXTLlaFH+6iXyE8oSuZcIzjZ6wwApYN89CV6VQWluOIvMR6m2p0QZd2ynFdo0BtiUwpXUudcO35Jx7Pd6YqrqMsar4kpy/LmwC4p4k2QNjW5zgOKTd9LzXY29ydik/QlsV+fYDhgqPxubv2/51wgmk948L7DgOVtZ5sRHqNGPA6MkbiHDLch6lp5TwT68whC4tbEpViIVLe4GEr1z5LXSSMGTRSkUFwoYpVCF07o477tC08d1xcLcgFd9DKtE5FkjQumhyIjb1+bgB+a5FOdvUpsR51Dvd5rWsplvevx0p2VjDma2Mn1tycn4osSxGBajCtHRpxxZL3aNfprZhMFtVrgV2yge19lilh/6JNgZjcURotM/vdagxZOy61zZO0tPcOfOs21TEzPTM4pB43ZMZmARUlnQEQPZYKVTTtm2PVLcu5NLI9qqUluixwVhUTZrR3ZTNIWRLCHPa7AnAVgTLNSS0FbQIOIRPJrbKx3ETYwUhaMrxl+bVNOCGi1KRBXcoZhgzETXFsX7MVbA/5jLxzebZlKwFkxLDkPsuhFGfWK9ncsFlC1cJ0qIUWEmKtZr4ELoVB5Nrtk0o+R4Pzetg62OPpO6ZImFGm4+EoTLM+NVLM5zm/mbsCoOpUkFrrN53W469O427Inp30pDIbn9qj8l8A5ofe+wxSi0squSJ1FW+ffNY2lsOdLMddzwDAC0KzZHlYBeqprRTSYDRlUj1UGJekJAtKyQTgRJehIZd672rEs5GaUCURop3hMw6fMlNq6htmEZsJz3Nb9m4jFX7/OQMg011/DJ/NkOxnYZ4oZiX7UU75aCVnVJnnnULDm9T8cjZhalzdmHOdG+JaYfKmQUnnqVK94nzVKmxFivbgcdA/6sBkt2pEamHutMInPbFCdte7GgaNwH7l9n1IGEYnFbKQiYRXvClc8899/vf/750JGp4L0raROsqf9iF38LdcuK88UAaylsoJ2bDf3RBpjxKDpmsAnrOfDYg80DDs1gj2hIlvFsKlpnmg20G+ZNKcBS/sdACaukao+PCcM/cfaEEZ5oU3dN4a6LmMWqi2SrZhWetdr3jTjsKRS4N3SO7PCtblfikQY6XnAOwnnkaEfwOgn5pxFfhcc+/ZXrFNnZOXdGvvti2+Qen8gkH/6xvDi66XbeunHab66yQteD54cJVmmmGUk6C00lS9zw9GVThP6TwYJZMpQrjBRdccOWVV77kJS/hODHUTj+9VMrmEqGSSiT+qhz5Zkc048nk3OZVPsjSuxNRqKgiE53gZ8HT0A4LJwjOUxddCIGtatMNLeDmBHg1zvjZOC+ChQeFbvbmojrF0S5WVVUyW6Xdbr1Tz/QGMZDWjgd/28W20ByHhPBQaYahiz9pyJyTnAhWz9NDyyCK0mECe8Omtk+d0Dr0+HsPA1M2A5rPGn6of+U/3C0tuFME2uwUbrsFbdlsSl9i8MAcYrhBKFksZX8wWnJKjMwqd9111+WXX37jjTdKOqVaqQFWKBGn+DBWxV9vtRi5IzsN9XBpOCEwqBA5veNK3FrtDALEbX0kD/NRBvpwIZiqX7dQedJ729yDlVhcNcE505euItPCxT94n17Trc7SQ7xQzMXmV2hdLFHrzC2xmA1b5x3xFwYwcagwhP/wusUtDTMTwLlxnDhu2umtf5ohiE63Ziyf0LcxDhm7KkoaEZo9Kq7KSWmhBKYIROTsFmTLvGFHWbD3VG2Aoa1KCCVROKHrDrYtF+gLwajLYJXbcWpT/Ob2228XKl599dXXX389pvnWZS2CwwBcKkGwFkH217khVMPKqDZtoG/Fs8FDcV3P38xaa6tnEmBbmQc9eqSujmB42EMhe9exUvWM8c3laIKu2UVsI2wlvUweso3KIyHXqSoi2APBQSISu5EDRulqMJuPbGP3YyWdhq7ROAzphMExw+BIW5oUoXstbc8Jm+lUpuk7PUrWg5VQEfXdUhJq1xXzQ7aRXCokEYhz2IvGNBO5/NqSMwUuVGraLWezkGUn9FBnqqdRhtCMeFhi1YF0IXJkQTO94rbbbnvf+94nvVQoKscd+iG0P5ZqNIZ4OAAX5bBoM6hYKkbjAlm8XyS6LHKDxVXOumJNWlcJZtE5Ge9EHRezIVOpCaXUGKkNvuyWmfLBa0YIUtfOabiXnFe9DqRuXUulJKynraEixDb+qhTF60HRqlsabxBtNrZB2DMUWrpUqd7b686hgufg5I5BQtO7iF1FvUeJwnjrIPZv//ZvT/w88WdKfRtMGMLDtsr74tpwssk5BySnUlkYb7iQ8IEHHvjOd75DyWAYEee96E/iVNsSGhbLIYcahPx0RNZVKW4PDJHEKJYoRZG3CA/JeHjooYfw7GH2RKQUzhN3vtM9yBLJM5b0OdrCHTkSKqlmOV7pI3ZbKFZEQg5MO21LBX6Pb/bqputOjF1ps+2e3JRK9EKNdd7Iaf3bbjRZGOJgPWCdw8HiJpPJxAhxKO8RicBIUo1sfoT62rceYIchcde3MKRTxE3O+r0Z/s//+T/jkPejnnqvQ+9fT939tNqhI/5AP0w1cBLBhDAHHFBrcg3sRa5ai9EFIgerJHsIjQvMEVujYIwdVWkcaekKsIOr8LdXvvKVMtukbNrRs5ajcMydvxlLJaIeEtIzdsO4mvFyCSlHlgys/pB2xwgYeFg9csFSlgWw99asrwdYHplXVRhnW9zoPaYXXBR1DWQTYORho76/8cEwiQyD3WKlbdp+9ZBwsPPG97bdQ6bjkCNgDA/9yGkTh4+cRZHG6/z23hqGOGHvZk1CBicdSglT0zrIDMBMAggKqSiLwk9Cxd1yhJOQU0xSyPPtb3+7dQey2zES5pRPzhbSZtcFL9Wz4pkpW4yobmop6kt3HqAVve1xHu9SM6D3e9bjhL71OFVvhWkWtoLoC0yAgT1213QreYYi+LUuQaTXDAl7Rs7g7Cu9PfVAM3gdZnO2uMmmMv+p3mp7rPM9N2LCVu/ttVTJqPbnzAXZUGOmfpP/s7c99fXEsKTz7JQiLm0JAZXCJraGL26Rg7xCPovLymOTiMA5J20OLLbEVlM41VOCa1PCsmPJPU3FQsjELLneUhaMvXg1LxYdr3Gm/7EPp9Vg4R+pxUUDpqZ4EfDjhxzeTamIkJEwdA2bwYk9Hhp2S0n86GrsG9al6oRD/y2tK8ccxnFmmtLvGyG36lbz/2mOOocHjvX3T6VJpaw3yHRL9XHZY7Op/5yGQptxGhGpl6UsdFuCv4EMwdx5550nZBOjI/0C44SwzuoFNrkA9ln5gHtjiod42wAAEABJREFUC6Hk9SzKUUdmGLQOKR82hB21yYUwTNLTgESxWMajzdN2t3FBAr3v6sFrDQ1+89qSNBCK0TgUw2kveI0PgeumbhGx0N373VL9kYY5arcUbrEYTpq3c7aVkdbT1ugUsDkQPBOp6s7zkXnwjsfAetiJWU0gbewmT4VJpEojasgcRrpM45W2w/hb05AsGrteILtOQxWLF+V8bN9NkCFGJwgTyj388MPf+ta3iKUOmb8JLuUAwFwRSojMolTFbtzxMitXWmrZPZSLQ4XaHHomG4/wkJ+sCF8qtsRl92TJGPucLQzhnr+IXRHRj2McFY4Xi+sCDsyEcZnyjU3XaeFtm8zfGzlTKcW5262eFLryqn2vJ6zNZDHc6TYHS8eI8kzs3R/y+w+MI+x98KmZ3ba6738FGLY+n3BwLN9iZZwYxEPy4rBl+bOEBCvyJXzjG9/QvxwuS0gnAdmrkuSG5oYd38tmdo2ga8qboSVqIRwPKEf2a0soeY+z+W9pqiLw0yS2JqK8whtUj7lTjbxFAaEAvIIxtqVIT3Bnb/ioHRZw1a2N25SI857k4oHAzzBWTjP/68S+9749TLY5/K1+0WCfQQZYPzvW2hmpRr3XpSp7Yc6LBhtDLZturODg0IMLkYYsNLFSiM2FADGORQsithMEo4QmdSJ0R2Knnn3xi18cco1TTlbSOHIqhCKMgQ/wsTiUuurNFcFlJCxcKSRIQDMUKJe6dTRsKPvqRTkzo3FncSPcRteCw2ecio1Lljf52QvAhpCrcmx4KhUJ2m4hah+9SaSBV/P4FizJ9T72+LNtbhqSjHptGsf292s9Ey6ayVjZHhsfG9aTFR6ZGD8VNcEP3ns8Oa9PGEKK0I3CrZtfh/4hoU03/SxUyBYnw/w8MhvttzsGl23OQ6Na+9OlISDB7sw+uczVe2OxptSgY782Xee4NU/ym1L6CfUPdmowbatTb5LnDFzbQnmlzu43zoDJfcvwsPsm7jYupLO3mH7LV1XqkAWR+W61eXNwH0/nFmcrlrGS/8e4ZTOSiT8xchwqWZ+2kQhmtr5OODh6Dfob8dCum+rQU0g4VVUsBcFUOIyi5oWL7qR4D2r2IgNrD/dh/CwEDC3L7knLg2TYxql/NZQODt9SMb0aKzPsisV/5ZGQDquS3h5dWaRQnVZvKNdLHfLKXk2he+1QIOYgbDBs4oTz0W9szFpm6WHmzBk2rmSjIWQakv7CgRd2uegWve3ZytK4LTRtsojGrloVSwgVYZny0ZkZPZXMVx96sipl0doS1RkcQ7OltHS4eq2jkycbVwvMjJDB+dBiHDax1BQ0FmYenI5nC3Kse9qRRzBT+UJl0DP86bnvzK1n8wzFpOyZXuiWS5sDE/sA9zikyKWuwLbvFvdlp/H9B8EgdHla2FLArgesxzk4aVtO8LeJ99Wb3YzH+weHPJjOObokudqhZsYkByIVLWhRUlHbbjqMMaKFK1XaI4HWekiI560p5zq17rSTuMn8bYDelpqonnCkfKSZt7IYEoLnTTemsa3cBmZr8TJncm691LWOTuzR2GpMt5nQvxFn4r5wcv5TcaTMYZyUS8da2mQItW0KRyDP93VCm307UuF4IwO0P7nwyBNKzWwCMs1k15RTWkPhJIZ+C3dAZG+GfqF7exDcgR7B2XIW5QCgxh0GGIoWHoY2r4c80XFgM+0YHtr8a52wqQq99bDLAll2u/Vw2yrs07fBjfAXg5tywBYnpbuDo9+2hMDDQ+oa0qxN6HWDww6KfvWDh4KQy7Qp1jZtKicTh+Ll/Qixm7TGHdk8V+VYOVhTzDlEWB2TizULXYkidZWHpjoz3e73SGPjHAwm19GhcVXb4jiNN0yO5XA/UC4Wo2vsWmV729l2Sx715Mze/drE4oFgDAPHWqxkk31DTzwanXDm42OP1HvX+9JYlWO1Xz2cxxG7ThpSAutB9tf26HcPSepB4ybHSI88Jxdw0OPjjYtloeG186684Eput8WDN4iEZpysIbXemJQDqWPXqcjgvgqb/y5CxkBRc6YzN3I7Ujnl26ICBhekde711pWgTlUdTsM9L3+GTeb4ngEpVtEeYV/cptcOHYWmH4+TpvjpoTwF9BsRttSZPT3d93ym27KH0/aydsRFUVsL25Jcm1xFLVsCVK9UClSigwHH5BD5CNJYipf6YRclkWeMw9j9tqoJGbqMaBAoU6nBkZwBybrZ0bYLd85eLCnqPZkzlKzlUDasdWlBq245wFSOvEwuu89maxn3oWqDxCUMAXEakVDCjFo1W7W4SSid4MCxq2zHimlPvzQ6majplniOrlmNot40DMz8sLES6dtuzTiP0mFk5cc2pW7LWvfzD6fq7IeNrQccqaoyEF2GdeMqgvLxrYse9kMtS+0WP1QoqNUMnZ7XW03vOfBTopvfP9/NAqnN5WB/xq7w6dHe8z1fedoXw02VQ6JHEMMI6U0jCsLG7ThI22qc+Z0POD2PbHanh5z1/THG04OZMGSAHGszt2OwbTiLIjob1PSEPBeKlQgaXSy/wVDT9VnTrEOPbvk+PS4XK+YWu7FXoZQ2a4qfMHY1Pe54p4K5EyxlqelWK226tVKNOrYjRy+EkcOf05C8NLgF9ro4FNdyWMh2wLZvXD3q+TeTMbE9kKhbSgNWaA/hPdK58XN8/+VE78EXewSL8ySiWIKzKeZpAoA52WKWFswUEYbsXT1AtDmYN3yQgcRimWyGjqoMjhXHUieqcdUBzWrqrZ3JHW2ZKpfdrjtvKFUnz/g/7Wa94KEC0Jps1595pC2NEN99I9Kh8MDB+4M40LigkVAJemNPha5u7ymm/eovYiU2phkccvR8wok3zdkPa03JpvXaUSjSXSyWyR4G+hWJlb7nsa63dqmyyhiqL7tn90XnPFy4ahGx6MPcX7nCRB5zfIKCN29axnqNbB51QyWrh3HEC0NA01uHbduh4+38AeMmBZK2kb7ESuyc7pycydBeMYiEaci65vEwVJywN+BWbVQnrGfjL8ZeFoeyVPnJpLJYZNHkDtkwqDXMCeNSe2+2sVLwPAP0SGheBOOKXuykZ+jWxbGYVRMpDdmSEz7bbquR0A/rV6mGJL+YYUTOiUPmpTDUDgvZtuVyM+dzwOnVgBFdCxVRbrsnpdaPpCENfAz9wviyp20o49Y6YRjCzN4IBl722T7ppte/dXEh9XKkbuXpGgrb4pT3z5pIuXBt6Sph+3AWzxvtXWY4ia5MSw/lekhoH+5lzuBqDYaKg40tYOgCSprUCbfa76Nu2+JqfX24nxOHpKQwhH6xK+H7RybgPAxx7DSiVoy1ZU2ZBtlrqtJ807hh15MfOAba4ModQta4MDePtMGRds8rwsh3NlUGIBiVXKymxzpfjctbRI1A+K/wiGfI1kPC1h33Fbr6qm9tt2ZE6BLU3leHyc1L21hHD6sdNafdtsVxnbC+WQNtj5Qb7E2wnFBt2Zw2p//o+YRpSCgNFd578m945eW6ppzC27ojzTjzPTg2GIags+keCRS6nDBW2lGsCsvb55C7ZBGqi5I6ZO8yb6RHuVTsSYai3uJiN1MRVuNIibsx3lXTF290tZ/8djTdeAD/ijDUtkWSw+o/Z5w0JPttNUJwZNcztEGa3nNNhe7hjTZaLCpSqjTDMERke8ypnt7g/WZOBW5rE6ichtQVw8ngIkUpqZa6xtUwzjdiJbXX4hwdFi6dr9fsaxdVVVxPO+i26lakXlXnMYSCbJ6f+40Jk20mSG1kg70xN773dGsTSOs5fBwSDn2rGdTGXUiVqhW2bGOcaR/NE+t+xIy9YJpK1cS4lhUNZE0WbVwkTezWpQ2O5MchvblxiQ6ewjVDqUZx0nbfQ7bkNDf7yQRO8q1W3bMxgtMba7IShtpGjjG4vHFEM/SPb4W3p3Mb3P3p/mF2SyP2Lb/UHhfSUAuHJ5b7cWbVmJmmRoN4GBysG0BHdzCg90wkZ5JJQ1b40M1wry96M/ETBm2IAhNG2aGiPn4ldFOxfANR4YShWEftOhWLi31C2pJAxiHT10RL41LD2PjhMNrJQfL6LdPEywi0SaRhdmu6Z9GFLh7WuNdD0XCwNiyO9nApTXLCMAT3aSgO3WOafWfvU2MlQ/o/Jzamx1f9xLxytVuOUI8lV9jLnKEr34YRWthbBH8zdIXhsGUbw8M4aTMLpwf3Ox3mYC1OWrPCkJoThphHqPwQYzBwKJ9/wjDjJ1FDZK+N0YMe8WjLwWOtiy+pgdvo2SASDk5jAg+Nc6YuP/R9PGno6fS911lP/4E1yQib2kb4GOsWu1a7OQOezm1s2vUHpkkxO22vEwYH24PgNEZqa8q78UUbmx9ha50wDukwwUGnYZophKtSYDt1TXweoBsXmdnjgfM3Y85944SpuAFDpWeGrp3AE4tw2OLfGHFJFeUew9VnKTb2Wur6Pw0sJ75u3x8+B1cH28TjaUtdsYOEYV5Llf4aumsUnWk0VaEkoRLYvAl4UKCfuRlpRFJfudKDoStwpkqVjZN5yTXTqyeTDkMy2ccIJw0DT8KL0pBaMdZM3Wi6Z3KEeW+Z84rBZ9Ok2Li/dqJ2iw0aitzYu59GeKa/9gIetWhTdpqzRovukdeeE8ahI6NDZZ7pTTJt0pGSkypjV9b1aRltzsrtsbse+WhdOmIqRiYboZksMjmzjUkfcx6ZoA6DD84BnTk835va5/Qfa81QMloYElBDZYDw9L0ZOiowuAomoZL/PWynbpaZj8oIkyg3h+PV8gtvXI491rNG2kTbkYrFacRsYw/2hmpdMqXHsWYk5WQCHCc4s9+eMGTqCDPazG4npw1O5rSa4UloPWj2f7ZDZUrGWEgcyc7xcHt0zcbfqzHTIxKDNCNVUlxvxEE0s86ejfQ8E01Vl2VixoP3J/Cw12pq5P+s3xKHWPFEO8n4sPF1J20+B2GDc9pGqYfWliTvntgyxiRCxR48+qURZefgLfV0whrTxm76eacZcql1Nk9OcuKuYeAcad6vVBwy1qeuMDlII1J14Mkgb4xVOb3Bzqe8nSbziUMW3TFivb82HwF6W2aPT0wjVbZQj4oHxL04JE73Oowi4fTapXHtJVUO+uCWpvdhHgONboWRjxnEf0/tYuxbOHvdxv4MQ2Qlduvn1fgZTmk74AS2lThmjrNxnbdtY7JJGBFP/M3kdKI4Q1vu4V6NkIfYPLR3XBSpEinDuGY5Nq3aO+8f8d/Tg+8wuWdp0sNT/9sbcOIVM5nhKcc6WhyRsQ8dSvbRJqhe2ERk9/EKu+NbHQFvf8Yh254NkorJ43BxL47kKPYjZvzLDPJWpTJnD5fGviQ6a4+3K6au/GnfFru+wTCEQvXU65tjUfBjADFIGuzBCT7sryf25iTj6mlCGsLR64RhE5L71iP0TSn55wlBjWOD6HdwVIxDOUme242GrTXuQIzUjedMlUGpN2hbHXoeSlqT90yEbaSXNJJEV29Mzbhi13oWNtvLENcAABAASURBVCkJcUQnfDa2kzP5o8PAtKUjrscYDAnlMItdA2RPKOtxwjiedX0ozcPYMo0YiKxr6C6ihTL3houlWFPICGxhmVYety3psKE4bep83NCtJWNT6r0ujuTX+Ud6xp5UyduDralO1Gir06RDt6Z9/erp+YdDRYzeTtXX24LR2Ny2ve9bGtLhe3fM9dUbsOf3G5TI/FCrcsoVj1jKi4fw4LbJO5B9mkFbpWgDeGN+0ehixQzzbXwbMJTqSitXn7ZjmBmE5lAJ0HWHMJQEae9OQ+fmWZW0WCXshnHAjZVdJMZhptdj3XGoatvgK/yahiPQCQ8RAw/STpNpWIubRM1B9Kt7mh0+dMW0HiRY/zHe6K/HWuoqYmET8/A/+T/7saM1g06uhSFKRvP1Y6xzk49hSlULXUlvEPpTV1H0i+i/auzfNMMgNmfjfUsjxqH6qd6fg/zqTPOtXjS7rtlm718PS223CruHt0F4Hvt3sPWwoJ5eqE6eSTM0r1EkHCMJaYRt+k+11kOzQe4Uui12hZPULarf69ZDktCVq8em50eor+tu0yMPzj+ME8hez3RI4uK2Lc0wQZ0mLY6o/aFLyoPDIhMyPSiGyvQyDfwe8nvLksarDdZwkiqTSo+X9F0UvUHTuOweJsVXmk+eiFXetM24htQ4JHb2vtYKVfTwcHD+YxA/AXNxKKYpzGt+2oNPnTRYPw2RarCN7ZQ3EIYulA8S30U5gTw6TW/Oq3t7Hcfll3pJY1e3jEOhLIP4yfUoEtboV98P3bXrfa1HyF6cWuwGyvQG6S0rFz0DjD3usyXiEMPkpYP2lTgivqaKSzO4p237iHH1L93Yjhp5xsafT2hOWhvEulAJor55DxmtcXVu/cg1YExT2zjOFXoziZX+MjjV2OOEYYS5TaOo75acacjbl6anO/GpvTupq08aZg6KrPVsJzhhHJEumurowrTJxBrP6ITbt1jJnHWHmtXEIfbo3dTBsYE0rv6lrtg1xoE2/tl7nIm1ruz64AjD1tHUlaHDiEoautNtq0T1+mOMg02gdI9BhUqZHus8uIhzWpx0009Q3JPf4iFxsG37H3WbCev1LvT+9C4NA8KUS5yEcbVrZksjVpa6Q2+GppcNPr6sQ1uC0x1TyaTqhV/XKEFKXshmUiNF3OyFsJn/0M9y8Ht8h0Hi1BMLa3rmA+gGX5Gc7lG/PZVDrUPhip7hD465kYrP6T/RalLInUX3sFf7d2z8bcXpCSI1+OcgYbUpNdXh4WMDNiMnMds5lvauphyB7u+31YFz9RL599pQPa6TnMDVA/5YhDLD+daV2OVcRH8gXz2Bpf+M3nVvp6eBL1QIHN1hL/5mPFjYV+9LwtBU/YQnBjmKdnQjT7c0Yv45mfOZQ2gmWNng/Tgk6dSj9ZDfA3oal7km2hiU1kEFvKIZqdpszKaHAp6gL3vo7imo/WS9jd35ifrv9IhKTzsLLUxq0vOXxq7916auRO1nlUZI8uCf287h9GnTnzm/xUMSd8dGq2OSenS5h1S+Tz14D5x6cJiGFL80TyLtobc9VRsIQoXq/nEOqPZqai9zqM8J/b9i6ybh2NCpW/YiuWbiQSxpe2nIhNj7trrN3Owx8uYXK8wWoiba6YlydUvV0SB2PxxG8zDn79TXg3fiOLuLXXNXD0ImkDA4PByjuWmcH06vTP3G1HUz1J822MfjiL9j5yZEs472ngldI2+YvamG8anUemrKoRTh8ADaM+rp+VsbBIKZ8/E7HU91PuEYMnjeckTvrT9/DDHCkO7qfw1dqhFHjjmIFT+0cdK8FMH61zkYONhisSwagNmsBplND9lgaYNoPIqEPWj2VpnBr2qHDmE3dmoz2wglMznkNAbaRRzXJcL2Lc5I25s5/5PWDhEt44h5bPBO3MQnewjWuGMOwowti5US6H/1zGf6363Wx/Ntu9OzuPhPS1VS++DnLNNIIq/n8jUA1bHkXvwbnOvgVLZqMQ6L/taht/SD2zm9l1tN47RqsZKdwr6mOrYOg9kqG6nS2ATGcKzenTQeIBaGMDBtMgqkeZywBt3QFQybbiW03twMdzxX93TH/zlcgTtUKSTG33pWoDgk4htt8Pbi3tQ3BhPVH9a7M7gBNdWYAMTTE50OsaWjFFB7Lc4QN+K41jpBK9OmqrP+kVRJQ55k149PrE8asrW0rpCUdeu9KDrjpx/N8zaP28vYjS73i2KP1TdDxdM9UpkGKPssYWU2Dx9iN/jNaZwSh9lifXTBNJ509ch5bwtrIhq6JKkdqtkx+BXbNi87zFmHMZI0OHIYAsQ4JFvGcZXP9rd2zNp1HFHkBpcrdYN+UxUD7Kfau5nKmUJ1ylLrysN6f53BYW8+VkEiVAyKbLvkktQZXDbIlM+91fWxY8fU85lnnuEkdlsrg3P9dM4552goXYSSXvv0009zQf+ln8QgEvovDCObPXEzbinvxXmUO41rg6ErTvtlnYDvadD//5m72h3JbRxI+gbYRd7/TQMEQZIzzzeMKkUW5fZMZoPoR8NtyxJF8ZuS3DjzHygP8fCk/g1/6qNjc3juE0VnEzP7ZGea8LmL6tuJj5gUGm6yjuLF3639EZixeP0s3/gRoczF26Q8v337lveRPrhqfv/+nfnrjTcN8fvjUoM2jNjsdG6T5/VoGZNBPiTueKUAVZ7do54f+RRuveHJjzLJTVHB/4Xc/qQpr26PVYTYfqKtAt/QfsOBx/TRXNtYgAwAY8kmZ0SJLepuHtsTEo/xnL5TwgPBp519GVkmasze84TJt8mEWf/izEsxgr3fFIIsu9VeLgvcbONPj82Ow/YH295tL7mb9lNSsA0Yo1ixB3z+ifIhpv0EH96ou+d/W1Oq0PStdv2SCRs/qzSPTUStsZDLgTF4F3kyOBEnfcudoY1NctUqS/OjTL7HyoSnlcspAKsuQ0ynS7FtfFXefhDmnL5R0TDC6NjNrm8CXB8iyvZWbM7/5RIbH+NeHLanIwCf5sN/cwFNNKe9ZQ5afdtYlcyErQLPyw0k8cCXickliZon86UYNRgBOlH4benqxpbtXVS7mLD5nCh//PFHGqvnOl3J3peRpTOZ5e0l2dkzet1NUgN915Hvg9Gtwd2jkQnbFiflwCezy42Pg/2SsqOGh2VXf2eS+K2Hr6zlr5w6vTky4SFfXI69zX/z10hZNchVIiBWqePa4edYH3uyisOLqTjC95/3ctQjFZ3Wc/tavZ0tNJ2ZFf5KUTQyVaQzlYxWhE0WoKYiXOJyT3SLV+XehjF2zZxz1lMY7YHSa/1apcUnMD8pTgFnqyEl+2HlnnO0Ttz6hI1meEZ8YlTbcJTeUR7jToG3HR+ihYMOO9NOWVhYpe2YFMNlkeLwJOyr4N0eXDIKGjUwc6lB+IR/mqMuLhnzdCw7225jMw1oRoTtZ84fy3sGkjviU9t8b2+YWPn2waCFy0bpf1V5DpJXL6i9qAGG8cWbBn1voNpkg7TXueWQfa1jIzzRTVWo9LRX8tdpBx+/CHoDE2Kn3qUGk8dcTIDr/pWQuOpkRDR3Nl3XOBHCkKKwqrWt5oXw6KwfWmr4iskNg/5t+pa3cqBBn0KULhqVn7Zle8cqKah4MV3e5y/1ssjQrR6xLzfTrH93M81jUWTqdV4cm32A/kyccb9exaXCc0wHh/H8KqfFK9uyNYIWkCprbSbVNnxGVRJ80p9NHHs1cimf9m6ODhqJyc9ov2tUIR7vWb6Lqq8KmX4wyShmUyDFq1qsxGbmGH/++eeLD9F42UVx0oEUPnm0/morIE9PFuxo9mq3tGufPDeeNv7Lk2STN4iIcA7hv6soACFWh1ei9Feqzx8r84+WeKaInhefdE67iE1wcjS3TPbX7ZrFiHwvbnAnqpDFnRC992TIQWqTG+fAJtMtv2uUTclfaLBY2jIbT3oDlsDVusImWZEP0f5rxQwzWywbN+oGKt8vN2PJlIXXEHjdnWgTL92gNURzorsUQuz7NmmH7hC51sZtMjz06cO5b3z7nGIUqtbmp4vfWpI+2ZPtPodJmWRj4y5yO1lCjPkdB4ZoaTXBdvjZCXoWFgyARkpM3FrGku7o1/Hm9bFO4D7ev1ENXGUsh0nxzb2vRBv7sErcWkblmXw4Kj1eXuRTvuhlIckwGEVqvnp10P2Vihur+SuNPcL/fFA3MNin+Ll1vfs7MpKJnelTZggXu0asRhBcBDGEbKvJiqs1dV9GGWGk3O51AI+lwcDLzUyIUP82HejyAVNLc5Txgme87i6bOOl7gzcFwoxdz+eFweA7QYUrcC4Iw2O12fY12yuW2FEhY8meseWXlBvK/kQjN82OyNEZ9I2Z0J42cjIJjI0sp0Dy5lcTVflk4G1qWgLQN6nCm1EzU6EwnMyH6QTGCtIe6yCc1I35yptS9o6eYjmXNpVmrtgkNWOKX7mYDT7JUYbTakSEB49xWt1h3F43kfH3GNcp0ZkbB/tpzhmRcNOa3xqcT65dDHimJ0WdVTzwvJukpprw0t9mLjLLuZhL8UGLSQFw0fAjNkBUGB0zW9qZB50eqEyYlid7hgl/Gol/pig0KmXig/neGlFE+/LT9JFNCgRd3KOVo7hoKgu0/EFr6nlcWc563pSJuRLi/p31BPGXGEAFHq8S8ZPSoNLrz7W2u98u4lWkiv82qrWq9BqqlRKytDXMI53YpHtjb4Mw++WHwPiVNkC0yV1rUaHDRIgXW7K+JdIyep/O0f+Z8NyfHpUcHPtErSLR5Rv0I9Jj4wMoBdikP/n+77//jkGCLSF7fDImYx9LyAvo0mMd26wcGJMwjo9I6IfFPxINeviIidg2rLiTjDF5WY0DbQ8GSyju65wOQIm6IHsE/mXxahZyApCZik25qDEk3o7H+UAj2ZF5CIYQeg9Rw5NOD2U2fjumczuvchE3j8FeiWEAnZkA2MpW8Y6OGReMnZRYbUpYTDLWcvFBPuLz8DOjCpV4rk8jxoqGNZCsElAL6rBLmeWUzc08fzYRU0PXPaWOFVzkdLvPVGXL+WmJGZ576CueBSO7lKHNedH6TbbijuYYd0nmWJoq00i+LKlEO1IIjIqQQCsGxd/DZDmS2/8yv8egQkMCSKdgO9NGltwVkS8C2xDWGnqB/ZWZCa+CPmu+xWctnF1p+AU0dms5cImN/+CT/Mtp4ylPhoH5ChQctN7ghgdCggT+1crtnyyMGZ6IFjBwCm5pfavLG7idHXLgO3FrTkuvGhc1wcewjWRz1qMH8davv/6ac82rRMBsKY7zLZCEL+/O6BR5wAx1AvidzL1YWQebbFRbefyDVqI2xg7+XPZ9ecI5TdCetA3ZHpeoxicL1xCnIt4XQ+TYoOIgAoMKz72LV2NViY2CNiaN96NLTHp1LC7BEvx18das2gJN2I2966/CyY2o6LzHGNs+7IrzekmGJzbOoVVzqeEnpvU6sbQZXDCTk7/bkhWO/6XZxb1w4a9Ecadc8zWHfI7aYsoxLf+rAAAJEUlEQVTz+Cbz015s2Bw5kGE76/7L1gWzom2Oh3BJKNkmpqJ3fmjZ9eXixRnBpgzJxGpLVPFf3/C5k8VlH7Grj7oGFaWRPjfiVadx7zEZ58xXtmxCdkOs+n6pEphImoxgMFoSn2E4aCFn/mWb2cXS5ulAHWbyF5rw71BbTP63vVIjMelA2ygxlLN+d83efQAjvCBgq1HWG1Bf3vxxxSUqa5NoVybEX/iETahnyyqMFLd8p63PdDFfd8jheWxswy+Ok6sc6xu9xxHys56+iRebTZhiCJt0rTrJMHebOQrfsjFhM4/HmWoFc7RlwucyDz3FZAW1vJ9PTlfr5Z4a2h2fYgxtRlmajvDYxtBSSfYP82G7dlGAPknZeLDS2oTu8y8LqTahtjePQ8xF5QHct01kxSZRG2L7OOk91mbMJIiCgBs5YAPucpLOTiGT5EybzN2M63DQES00SPItaFTu1KvB8mU+YasGCmh3nrQ2VhuZxESOQugimpcFNKE+NHfRKIMfqR6wH1kUNr7wPRNynaSn8cWzLhVGR6xh+EUN2MTkUpp4IvE4bYPJOtaqy8arXvU8A2OVEnh+D/k8KFdAONQpHpshUIYN1vv379+hABkAl6Jweg2c4v4jJvwoB3IHY/7nhoidxDnu+GSSsUTxZWYgNn3KMfhjAeSnHGf8o9nsvjBsPgmgERv8ii/fJsStGjHg5OdoRyzInJyF5vs1eM71hbzWtQnnIyjCw7z+pgZTAogYAjPQeEFZLrC0v/uEnDbLHrF4RVHtknU41go1FhBYhtawOhaukxdDYCY2kaWXhZvGnEESR42bsabid3mLBwN61OVyXg2AWI54q2Bii2qcqtVnII0IzkhUn/X0rpt+UZrvFNV+U2JqaPEqWWNjKJoYBbp6KR9xuixvnuuzBSdtv7R3b5Cz1YAWqSCv5jr6NRKU6PfYpI7BJNxamoX8CkTtpZFyy6iT18NmJC8oi7W77ahnvWQ7efHbb7+d6yzTfAv1kRi0d/o81q4IzEje4UGhDlIaPFm+VPSfwST70hKT797q+K0abLyBZr0q/fYo4sU2GScLzSZzLn6w3tvBo4M9pq+LmIjFkclbzRtePacP5uwkkVUG86qsdBRefUvbGDgMpOJBx8jTxx9vNXJEj2nf41UzF3Vcb8Fp/Pbt2/X7yy+/5PZcHEnIuUQn1xFMBUa1qiFapwwz7qD+QauyPhCYeVi8WjicP9A6+hfjibpuRn8bnE3DhKxNc/IQ+BXMkz0enZLUriZKSzS1RhppumQaWrNRF9PZ5lg0poZG681NaNBGtWCdLFKr1AZU+8T/XuNwLimTIDvWRco0DANR5/RFpJiWfeMpTj3L7fDI3adFcHEmm5S5sIYdRXBdNtKY0Ktb1Oi5GV9eo7j+0Cf8RGHg2k3+i2vW40xnowIZ76gO5FnR6bwHw8QsZJWrKsJeFYVce+Q7jCtFWmuNbzJxa512v43OiNCjWt03cOpNo7UTVtWvzhdIZRwIkgEsqvQtTutF9R2yzrk21x51a95PP/10ceBliyaXgve4gPFa1w1avR+UO2lMyNj7YiZ0KbExNlDfKu74Eb8b4jSPpB9i7bT7Op0sjLmObQAGlncM6RtBcwPqIUcztk/K8cXY5oiWeBaZHNms3QzSeAD13KyhtQkVQbEf5cDYmOtW3WD4hGi5rSOzupKTb1pV5sdKsl+/l2eIrEb6wNn4sVZ4pn/oZGZbnQjdoc8GpzIt7seX+4QNDqsENLJcuxlit9he/AdtubJnpSFRqeRJIz7l0LSdJ9wI0eikiHacPHLjbuwjU7U2Q6JEu1ca2zQ4Q6yPFrAxYoM2tDYL7RGiLzHFBZhgXPQSqy9bCpMjKL58S5dyqUQGOFagseX9AAai0Lh/0GmIbYxOSv7/ESPblOdkPaLPyND3jfz2SXgzInhU5+ZEcN9wkfpgJj6JYufluGLycF6+pQA7iUPbiyrfMDNPvw4zNoa3veI0qwujYzIZ+MAEl4VN2nJD2knbW/3VqjSmHyM9Fit0abSC36vgZjUY78HzVH0ZgMldNb4Oz86/mSTMm1cgxyUw0ZiQo6+NoryqO584EHB+mSaM6jLhQqN2cWugHvUEDiYIf8wtVs0nI6ptCyYagm7I1yeH8GVhAmqcxnR80q7Occ5sb4UqPn0T1eAXR7q3OjvMh8fag2JVUujKGCNtib7QTqysCcIeyQDH5sQGfMAI4VDMLDYo2Aq04MvQLmcsZP49AzD59GKzK0iTjxQ5OGrR6KzRhBMoYiY0ylV4zaP6pH6c1v29nZ/6WKfi/ZBP/520CfAabY7qGkzGiH0pNw40HfUEHrbjscaPAThW5hRg8MoYDBWJL1+7OoJOkQMuDvoIoa9ToVigmLiLysBjlNKqaDdSCJjXhC2l8mULIZqHZpskajokX7FFQEk3J+3qgt6wRS7QBszJqRkyG8b8D70B8sJ8HZK6RBwfk36uE3JZ7UBA45BPr0ovf3llGa5zM3eCiiVpx1pxlvexe9BooRlmId73Pf3n/cuBqfpSQCSFpOYEErCQ4JwOBXbagpjkzUzbyABSA7T6lZoQF76JW4SYnbiOz1q/LLPtHdfnq4P374fAbBb78AwLi6Y9FDwTM/KQsLWWUYjuAANjoIuQr6CExFrsbxSfvEEdr9WxX7TOMhHmpVooI5AYwkXl2CXEyISw4JBm1C2CRqI/uY7lXZZjFRcP1iZPnmfWROZys4qiHxKYAUHYFLQIclVDjLSoEVEGt9UJSS5hnLFZH4yif6NuQXRhM6+uoE92pnYxTmFUK+WQ5YVHPUFoN1LGVUtnQdsftClW2e9DDBkb/5OvWSsyyR50UEijTqejKL2KKi5HzQeCbZBGtxVoeXsvzBJGKZMGQ2qkbKTB8CEmPCgMi8YhBVoLDQNfrAldjFUmoJ0mtE3s4QkLOYkiexDiy36juosjI6Gm3RYXKWOTHuCuTQwBq/THJapn5TWYgbfOeoy/VY/ANseZccv8tA3HNhzIf8/NivAkRAz/stZimbKg1La2juHBF9fZ12LiPmgTvb8zodc4DXRa1Phq84M4vMl12jCPySds2PCqM/h1pjr8/R8AAAD//0E/vAAAAAAGSURBVAMAV0KFO2RZgPEAAAAASUVORK5CYII=",
+              leerFotoBase64("precarga/psp.png"),
               null
             );
 
             System.out.println("Productos precargados correctamente");
         };
     }
+
+    // Las fotos de precarga viven en src/main/resources/precarga: como literales
+    // base64 superaban el limite de tamaño de constantes del compilador
+    private static String leerFotoBase64(String ruta) {
+        try (InputStream in = new ClassPathResource(ruta).getInputStream()) {
+            return Base64.getEncoder().encodeToString(in.readAllBytes());
+        } catch (IOException e) {
+            throw new UncheckedIOException("No se pudo leer la foto de precarga " + ruta, e);
+        }
+    }
 }
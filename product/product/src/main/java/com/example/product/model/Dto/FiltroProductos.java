@@ -0,0 +1,16 @@
+package com.example.product.model.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+// Filtros de GET /products/filter; los que vienen en null no se aplican
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FiltroProductos {
+    private Double precioMin;
+    private Double precioMax;
+    private Boolean conStock;
+    private Long iduser;
+}
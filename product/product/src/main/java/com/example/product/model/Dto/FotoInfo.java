@@ -0,0 +1,9 @@
+package com.example.product.model.Dto;
+
+// Proyeccion con los metadatos de la foto de un producto (sin el LONGBLOB)
+public interface FotoInfo {
+
+    String getPhotoHash();
+
+    String getPhotoContentType();
+}
@@ -0,0 +1,9 @@
+package com.example.product.model.Dto;
+
+// Bytes de la foto de un producto junto con su hash, leidos en la misma consulta
+public interface FotoOriginal {
+
+    String getPhotoHash();
+
+    byte[] getPhoto();
+}
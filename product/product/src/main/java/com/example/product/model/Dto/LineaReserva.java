@@ -0,0 +1,13 @@
+package com.example.product.model.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class LineaReserva {
+    private Long productId;
+    private int cantidad;
+}
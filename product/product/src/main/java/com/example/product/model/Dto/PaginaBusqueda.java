@@ -0,0 +1,18 @@
+package com.example.product.model.Dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaginaBusqueda {
+    private List<ProductoResumen> productos; // ordenados por relevancia
+    private String q;
+    private int page;
+    private int size;
+    private int total; // coincidencias en todas las paginas
+}
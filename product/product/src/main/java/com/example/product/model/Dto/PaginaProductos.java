@@ -0,0 +1,35 @@
+package com.example.product.model.Dto;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaginaProductos {
+    private List<ProductoResumen> productos;
+    private int size;
+    private String sort;
+    private String siguienteCursor; // null cuando no hay mas paginas
+
+    // ETag de la pagina: cambia si entra, sale o se modifica alguno de sus productos
+    public String etag() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (ProductoResumen producto : productos) {
+                digest.update((producto.getId() + ":" + producto.getVersion() + ";").getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update(String.valueOf(siguienteCursor).getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
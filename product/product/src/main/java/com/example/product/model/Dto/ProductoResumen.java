@@ -0,0 +1,35 @@
+package com.example.product.model.Dto;
+
+import com.example.product.model.TamanoFoto;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+// Proyeccion liviana de Product para listados: nunca selecciona la columna photo
+public interface ProductoResumen {
+
+    Long getId();
+
+    Long getIduser();
+
+    String getName();
+
+    String getDescription();
+
+    double getPrice();
+
+    int getStock();
+
+    String getPhotoHash();
+
+    // Solo para el ETag de la pagina
+    @JsonIgnore
+    long getVersion();
+
+    default String getPhotoUrl() {
+        return getPhotoHash() == null ? null : "/duodeal/products/" + getId() + "/photo";
+    }
+
+    // La grilla de productos usa la miniatura en lugar de la foto completa
+    default String getThumbnailUrl() {
+        return getPhotoHash() == null ? null : getPhotoUrl() + "?size=" + TamanoFoto.MINIATURA.getParametro();
+    }
+}
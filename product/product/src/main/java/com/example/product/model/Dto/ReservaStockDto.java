@@ -0,0 +1,15 @@
+package com.example.product.model.Dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservaStockDto {
+    private String status; // RESERVADO o RECHAZADO
+    private List<ResultadoLineaReserva> lineas;
+}
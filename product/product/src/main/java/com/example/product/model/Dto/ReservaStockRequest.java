@@ -0,0 +1,14 @@
+package com.example.product.model.Dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReservaStockRequest {
+    private List<LineaReserva> items;
+}
@@ -0,0 +1,15 @@
+package com.example.product.model.Dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ResultadoLineaReserva {
+    private Long productId;
+    private int cantidad;
+    private String status; // RESERVADO, ELIMINADO, SIN_STOCK, NO_EXISTE o NO_APLICADO
+    private Integer stockDisponible; // stock al momento del rechazo, null si la linea se aplico
+}
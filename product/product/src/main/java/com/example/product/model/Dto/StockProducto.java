@@ -0,0 +1,11 @@
+package com.example.product.model.Dto;
+
+// Proyeccion con solo el id, el stock y la version de un producto
+public interface StockProducto {
+
+    Long getId();
+
+    int getStock();
+
+    long getVersion();
+}
@@ -0,0 +1,68 @@
+package com.example.product.model;
+
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.Lob;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+
+// Foto de un producto reducida a un tamaño fijo (MEDIANA o MINIATURA), en una tabla aparte para
+// que leer un producto no traiga tambien sus variantes
+@Entity
+@Table(name = "producto_foto_variante", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_foto_variante_producto_tamano", columnNames = {"producto_id", "tamano"})
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class FotoVariante {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // ON DELETE CASCADE: la base borra las variantes con el producto, tambien en los DELETE
+    // masivos de productos sin stock o de un usuario
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "producto_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private Product producto;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TamanoFoto tamano;
+
+    // photo_hash de la foto de la que salio; si la foto cambia la variante deja de servirse
+    @Column(name = "hash_original", nullable = false, length = 64)
+    private String hashOriginal;
+
+    @Column(name = "content_type", nullable = false, length = 50)
+    private String contentType;
+
+    private int ancho;
+
+    private int alto;
+
+    @Lob
+    @Column(nullable = false, columnDefinition = "LONGBLOB")
+    @ToString.Exclude
+    private byte[] datos;
+}
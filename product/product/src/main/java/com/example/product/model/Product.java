@@ -1,19 +1,34 @@
 package com.example.product.model;
 
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Lob;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "producto")
+@Table(name = "producto", indexes = {
+    // Soporta la paginacion por cursor ordenada por precio
+    @Index(name = "idx_producto_price_id", columnList = "price, id"),
+    // Productos de un vendedor por rango de precio, ya ordenados por precio e id (GET /products/filter).
+    // No cubre el resumen: name, description y stock se leen de la fila
+    @Index(name = "idx_producto_iduser_price_id", columnList = "iduser, price, id")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -48,6 +63,74 @@ public class Product {
     
     @Lob
     @Column(name = "photo", columnDefinition = "LONGBLOB")
-    @Schema(description = "Foto del producto en formato binario (LONGBLOB)")
+    @JsonProperty(access = JsonProperty.Access.WRITE_ONLY)
+    @Schema(description = "Foto del producto en base64; solo se recibe, para leerla usar GET /duodeal/products/{id}/photo")
     private byte[] photo;
+
+    @Column(name = "photo_hash", length = 64)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "SHA-256 de la foto, se usa como ETag del endpoint de la foto")
+    private String photoHash;
+
+    @Column(name = "photo_content_type", length = 50)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "Content-Type de la foto", example = "image/png")
+    private String photoContentType;
+
+    // Sube con cada cambio de la fila, incluidos los UPDATE de stock; es el ETag del detalle
+    @Version
+    @Column(nullable = false)
+    @JsonIgnore
+    private long version;
+
+    // Al asignar la foto se recalculan hash y tipo, asi el JSON y el endpoint
+    // de la foto no necesitan leer el LONGBLOB para armar URL, ETag y Content-Type
+    public void setPhoto(byte[] photo) {
+        this.photo = photo;
+        if (photo == null || photo.length == 0) {
+            this.photoHash = null;
+            this.photoContentType = null;
+        } else {
+            this.photoHash = calcularHash(photo);
+            this.photoContentType = detectarTipo(photo);
+        }
+    }
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "URL para descargar la foto", example = "/duodeal/products/1/photo")
+    public String getPhotoUrl() {
+        return photoHash == null ? null : "/duodeal/products/" + id + "/photo";
+    }
+
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    @Schema(description = "URL de la foto reducida para listados", example = "/duodeal/products/1/photo?size=thumb")
+    public String getThumbnailUrl() {
+        return photoHash == null ? null : getPhotoUrl() + "?size=" + TamanoFoto.MINIATURA.getParametro();
+    }
+
+    private static String calcularHash(byte[] datos) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(datos));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+
+    // Tipo de imagen segun los primeros bytes (magic numbers)
+    private static String detectarTipo(byte[] datos) {
+        if (datos.length >= 3 && (datos[0] & 0xFF) == 0xFF && (datos[1] & 0xFF) == 0xD8 && (datos[2] & 0xFF) == 0xFF) {
+            return "image/jpeg";
+        }
+        if (datos.length >= 8 && (datos[0] & 0xFF) == 0x89 && datos[1] == 'P' && datos[2] == 'N' && datos[3] == 'G') {
+            return "image/png";
+        }
+        if (datos.length >= 6 && datos[0] == 'G' && datos[1] == 'I' && datos[2] == 'F') {
+            return "image/gif";
+        }
+        if (datos.length >= 12 && datos[0] == 'R' && datos[1] == 'I' && datos[2] == 'F' && datos[3] == 'F'
+                && datos[8] == 'W' && datos[9] == 'E' && datos[10] == 'B' && datos[11] == 'P') {
+            return "image/webp";
+        }
+        return "application/octet-stream";
+    }
 }
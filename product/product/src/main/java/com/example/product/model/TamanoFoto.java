@@ -0,0 +1,43 @@
+package com.example.product.model;
+
+import java.util.List;
+
+// Tamaños en que se sirve la foto de un producto (GET /duodeal/products/{id}/photo?size=...).
+// "ladoMaximo" es el lado mas largo en pixeles; las variantes nunca agrandan la foto
+public enum TamanoFoto {
+    ORIGINAL("original", 0),
+    MEDIANA("medium", 800),
+    MINIATURA("thumb", 200);
+
+    // Variantes que se generan, de mayor a menor: cada una sale de la anterior
+    public static final List<TamanoFoto> VARIANTES = List.of(MEDIANA, MINIATURA);
+
+    private final String parametro;
+    private final int ladoMaximo;
+
+    TamanoFoto(String parametro, int ladoMaximo) {
+        this.parametro = parametro;
+        this.ladoMaximo = ladoMaximo;
+    }
+
+    public String getParametro() {
+        return parametro;
+    }
+
+    public int getLadoMaximo() {
+        return ladoMaximo;
+    }
+
+    // Valor del parametro "size"; sin parametro es la original
+    public static TamanoFoto desde(String parametro) {
+        if (parametro == null || parametro.isBlank()) {
+            return ORIGINAL;
+        }
+        for (TamanoFoto tamano : values()) {
+            if (tamano.parametro.equalsIgnoreCase(parametro.trim())) {
+                return tamano;
+            }
+        }
+        throw new IllegalArgumentException("Tamaño de foto inválido: " + parametro + " (usar original, medium o thumb)");
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.product.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.example.product.model.FotoVariante;
+import com.example.product.model.TamanoFoto;
+
+public interface FotoVarianteRepository extends JpaRepository<FotoVariante, Long> {
+
+    // Content-Type de la variante, solo si se genero a partir de la foto con ese hash
+    @Query("select v.contentType from FotoVariante v "
+            + "where v.producto.id = :id and v.tamano = :tamano and v.hashOriginal = :hash")
+    Optional<String> findContentType(@Param("id") long id, @Param("tamano") TamanoFoto tamano, @Param("hash") String hash);
+
+    // Solo los bytes de la variante
+    @Query("select v.datos from FotoVariante v "
+            + "where v.producto.id = :id and v.tamano = :tamano and v.hashOriginal = :hash")
+    Optional<byte[]> findDatos(@Param("id") long id, @Param("tamano") TamanoFoto tamano, @Param("hash") String hash);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from FotoVariante v where v.producto.id = :id")
+    int borrarDeProducto(@Param("id") long id);
+}
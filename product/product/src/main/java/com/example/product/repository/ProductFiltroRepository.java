@@ -0,0 +1,16 @@
+package com.example.product.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.product.model.Product;
+import com.example.product.model.Dto.ProductoResumen;
+
+// Consultas con Criteria que devuelven solo las columnas del resumen (nunca la foto)
+public interface ProductFiltroRepository {
+
+    // Resumenes que cumplen la condicion, en el orden pedido y como maximo "limite"
+    List<ProductoResumen> buscarResumenes(Specification<Product> spec, Sort orden, int limite);
+}
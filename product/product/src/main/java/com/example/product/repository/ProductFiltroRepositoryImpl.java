@@ -0,0 +1,63 @@
+package com.example.product.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import com.example.product.model.Product;
+import com.example.product.model.Dto.ProductoResumen;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import lombok.Value;
+
+public class ProductFiltroRepositoryImpl implements ProductFiltroRepository {
+
+    private final EntityManager entityManager;
+
+    public ProductFiltroRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Value
+    private static class Resumen implements ProductoResumen {
+        Long id;
+        Long iduser;
+        String name;
+        String description;
+        double price;
+        int stock;
+        String photoHash;
+        long version;
+    }
+
+    // Mismas columnas que ProductRepository.SELECT_RESUMEN
+    @Override
+    public List<ProductoResumen> buscarResumenes(Specification<Product> spec, Sort orden, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Product> root = query.from(Product.class);
+        query.multiselect(root.get("id"), root.get("iduser"), root.get("name"), root.get("description"),
+                root.get("price"), root.get("stock"), root.get("photoHash"), root.get("version"));
+
+        Predicate condicion = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (condicion != null) {
+            query.where(condicion);
+        }
+        query.orderBy(QueryUtils.toOrders(orden, root, cb));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limite)
+                .getResultStream()
+                .<ProductoResumen>map(fila -> new Resumen(fila.get(0, Long.class), fila.get(1, Long.class),
+                        fila.get(2, String.class), fila.get(3, String.class), fila.get(4, Double.class),
+                        fila.get(5, Integer.class), fila.get(6, String.class), fila.get(7, Long.class)))
+                .toList();
+    }
+}
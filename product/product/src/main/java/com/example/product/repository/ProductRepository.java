@@ -1,13 +1,26 @@
 package com.example.product.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import com.example.product.model.Product;
+import com.example.product.model.Dto.FotoInfo;
+import com.example.product.model.Dto.FotoOriginal;
+import com.example.product.model.Dto.ProductoResumen;
+import com.example.product.model.Dto.StockProducto;
+
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductStockRepository, ProductFiltroRepository {
+
+    String SELECT_RESUMEN = "select p.id as id, p.iduser as iduser, p.name as name, p.description as description, "
+            + "p.price as price, p.stock as stock, p.photoHash as photoHash, p.version as version from Product p ";
 
-public interface ProductRepository extends JpaRepository<Product, Long> {
     Optional<Product> findByName(String name);
     
     void deleteByIduser(Long iduser);
@@ -16,4 +29,87 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 
     long countByIduser(Long iduser);
 
-}
\ No newline at end of file
+    // Solo los ids de los productos de un usuario
+    @Query("select p.id from Product p where p.iduser = :iduser")
+    List<Long> findIdsByIduser(@Param("iduser") Long iduser);
+
+    // Hash y tipo de la foto sin leer la columna photo
+    @Query("select p.photoHash as photoHash, p.photoContentType as photoContentType from Product p where p.id = :id")
+    Optional<FotoInfo> findFotoInfoById(@Param("id") Long id);
+
+    // El producto sin la columna photo, armado desde la consulta: no queda en el contexto de
+    // persistencia y getPhoto() es null. Para leer o devolver el producto sin traer el LONGBLOB
+    @Query("select new com.example.product.model.Product(p.id, p.iduser, p.name, p.description, p.price, p.stock, "
+            + "null, p.photoHash, p.photoContentType, p.version) from Product p where p.id = :id")
+    Optional<Product> findSinFotoById(@Param("id") Long id);
+
+    // Actualiza los datos editables sin tocar la foto. Solo si la version no cambio desde que se
+    // leyo; devuelve 0 si el producto no existe o lo modifico otra transaccion
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.name = :name, p.description = :description, p.price = :price, "
+            + "p.stock = :stock, p.version = p.version + 1 where p.id = :id and p.version = :version")
+    int actualizarDatos(@Param("id") Long id, @Param("version") long version, @Param("name") String name,
+            @Param("description") String description, @Param("price") double price, @Param("stock") int stock);
+
+    // Reemplaza la foto con su hash y tipo ya calculados
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.photo = :photo, p.photoHash = :hash, p.photoContentType = :tipo where p.id = :id")
+    int actualizarFoto(@Param("id") Long id, @Param("photo") byte[] photo, @Param("hash") String hash,
+            @Param("tipo") String tipo);
+
+    // Solo los bytes de la foto, sin el resto del producto
+    @Query("select p.photo from Product p where p.id = :id")
+    Optional<byte[]> findFotoById(@Param("id") Long id);
+
+    // Bytes y hash de la foto en una sola lectura, para generar sus variantes
+    @Query("select p.photoHash as photoHash, p.photo as photo from Product p where p.id = :id")
+    Optional<FotoOriginal> findFotoOriginalById(@Param("id") Long id);
+
+    // Resumenes de varios productos (sin foto), en cualquier orden
+    @Query(SELECT_RESUMEN + "where p.id in :ids")
+    List<ProductoResumen> findResumenesByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Paginacion por cursor (keyset): cada pagina arranca despues de la ultima clave vista,
+    // el Pageable solo se usa como LIMIT
+    @Query(SELECT_RESUMEN + "where p.id > :id order by p.id asc")
+    List<ProductoResumen> findPaginaPorIdAsc(@Param("id") long id, Pageable limite);
+
+    @Query(SELECT_RESUMEN + "where p.id < :id order by p.id desc")
+    List<ProductoResumen> findPaginaPorIdDesc(@Param("id") long id, Pageable limite);
+
+    @Query(SELECT_RESUMEN + "where p.price > :precio or (p.price = :precio and p.id > :id) "
+            + "order by p.price asc, p.id asc")
+    List<ProductoResumen> findPaginaPorPrecioAsc(@Param("precio") double precio, @Param("id") long id, Pageable limite);
+
+    @Query(SELECT_RESUMEN + "where p.price < :precio or (p.price = :precio and p.id < :id) "
+            + "order by p.price desc, p.id desc")
+    List<ProductoResumen> findPaginaPorPrecioDesc(@Param("precio") double precio, @Param("id") long id, Pageable limite);
+
+    // Descuento atomico: la condicion stock >= cantidad la evalua la base de datos sobre la fila
+    // bloqueada, asi dos compras concurrentes nunca venden mas de lo que hay.
+    // Devuelve 1 si se desconto y 0 si el producto no existe o no alcanza el stock.
+    // Sube la version a mano: Hibernate solo la maneja al guardar la entidad
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Product p set p.stock = p.stock - :cantidad, p.version = p.version + 1 "
+            + "where p.id = :id and p.stock >= :cantidad")
+    int restarStockSiAlcanza(@Param("id") Long id, @Param("cantidad") int cantidad);
+
+    // Borra el producto solo si quedo sin stock; devuelve 1 si lo borro
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Product p where p.id = :id and p.stock = 0")
+    int eliminarSiSinStock(@Param("id") Long id);
+
+    // Stock y version actuales de varios productos, sin cargar las entidades
+    @Query("select p.id as id, p.stock as stock, p.version as version from Product p where p.id in :ids")
+    List<StockProducto> findStockByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Borra los productos del lote que quedaron sin stock
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("delete from Product p where p.id in :ids and p.stock = 0")
+    int eliminarSinStock(@Param("ids") Collection<Long> ids);
+
+    // Productos con foto guardada antes de existir photo_hash
+    @Query("select p.id from Product p where p.photo is not null and p.photoHash is null")
+    List<Long> findIdsConFotoSinHash();
+
+}
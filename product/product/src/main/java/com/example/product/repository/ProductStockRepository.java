@@ -0,0 +1,12 @@
+package com.example.product.repository;
+
+import java.util.List;
+
+import com.example.product.model.Dto.LineaReserva;
+
+// Operaciones de stock que se ejecutan con JDBC en lote
+public interface ProductStockRepository {
+
+    // Descuenta el stock de todas las lineas en un solo batch; devuelve las filas afectadas por linea
+    int[] restarStockEnLote(List<LineaReserva> lineas);
+}
@@ -0,0 +1,30 @@
+package com.example.product.repository;
+
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.product.model.Dto.LineaReserva;
+
+public class ProductStockRepositoryImpl implements ProductStockRepository {
+
+    private static final String RESTAR_STOCK =
+            "UPDATE producto SET stock = stock - ?, version = version + 1 WHERE id = ? AND stock >= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public ProductStockRepositoryImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    // Con rewriteBatchedStatements=true el driver de MySQL envia el lote en un solo viaje
+    // y sigue devolviendo el conteo real de filas de cada UPDATE
+    @Override
+    public int[] restarStockEnLote(List<LineaReserva> lineas) {
+        return jdbcTemplate.batchUpdate(RESTAR_STOCK, lineas, lineas.size(), (ps, linea) -> {
+            ps.setInt(1, linea.getCantidad());
+            ps.setLong(2, linea.getProductId());
+            ps.setInt(3, linea.getCantidad());
+        })[0];
+    }
+}
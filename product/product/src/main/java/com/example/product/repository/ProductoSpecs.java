@@ -0,0 +1,57 @@
+package com.example.product.repository;
+
+import org.springframework.data.jpa.domain.Specification;
+
+import com.example.product.model.Product;
+import com.example.product.model.Dto.FiltroProductos;
+
+// Condiciones de los filtros de productos. Estan pensadas para los indices de la tabla producto:
+// vendedor + rango de precio usa idx_producto_iduser_price_id y el rango de precio solo usa
+// idx_producto_price_id; en los dos el orden por precio e id sale del indice
+public final class ProductoSpecs {
+
+    private ProductoSpecs() {
+    }
+
+    public static Specification<Product> de(FiltroProductos filtro) {
+        Specification<Product> spec = Specification.unrestricted();
+        if (filtro.getIduser() != null) {
+            spec = spec.and(deVendedor(filtro.getIduser()));
+        }
+        if (filtro.getPrecioMin() != null) {
+            spec = spec.and(precioDesde(filtro.getPrecioMin()));
+        }
+        if (filtro.getPrecioMax() != null) {
+            spec = spec.and(precioHasta(filtro.getPrecioMax()));
+        }
+        if (Boolean.TRUE.equals(filtro.getConStock())) {
+            spec = spec.and(conStock());
+        }
+        return spec;
+    }
+
+    public static Specification<Product> deVendedor(Long iduser) {
+        return (root, query, cb) -> cb.equal(root.get("iduser"), iduser);
+    }
+
+    public static Specification<Product> precioDesde(double precio) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("price"), precio);
+    }
+
+    public static Specification<Product> precioHasta(double precio) {
+        return (root, query, cb) -> cb.lessThanOrEqualTo(root.get("price"), precio);
+    }
+
+    public static Specification<Product> conStock() {
+        return (root, query, cb) -> cb.greaterThan(root.get("stock"), 0);
+    }
+
+    // Cursor (keyset) para el orden por precio e id: lo que viene despues de (precio, id)
+    public static Specification<Product> despuesDe(double precio, long id, boolean ascendente) {
+        return (root, query, cb) -> ascendente
+                ? cb.or(cb.greaterThan(root.get("price"), precio),
+                        cb.and(cb.equal(root.get("price"), precio), cb.greaterThan(root.get("id"), id)))
+                : cb.or(cb.lessThan(root.get("price"), precio),
+                        cb.and(cb.equal(root.get("price"), precio), cb.lessThan(root.get("id"), id)));
+    }
+}
@@ -1,35 +1,81 @@
 package com.example.product.webclient;
 
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import reactor.core.publisher.Mono;
+
 @Component
 public class usuarioclient {
 
+    private static final ParameterizedTypeReference<Map<String, Object>> MAPA =
+            new ParameterizedTypeReference<>() {};
+
+    private static final ParameterizedTypeReference<Map<String, Map<String, List<Map<String, Object>>>>> COLECCION =
+            new ParameterizedTypeReference<>() {};
+
     private final WebClient webClient;
+    private final AgrupadorUsuarios agrupador;
 
-    public usuarioclient(@Value("${usuario-service.url}") String usuarioServidor) {
+    public usuarioclient(@Value("${usuario-service.url}") String usuarioServidor,
+                         @Value("${usuario-service.lote.ventana:5ms}") Duration ventana,
+                         @Value("${usuario-service.lote.max:100}") int maxLote) {
         this.webClient = WebClient.builder()
                 .baseUrl(usuarioServidor)
                 .build();
+        this.agrupador = new AgrupadorUsuarios(this::obtenerUsuarios, ventana, maxLote);
+    }
+
+    // Datos de un usuario (id, username, correo, rol). Los pedidos concurrentes con el mismo token
+    // se juntan en una sola llamada a /users?ids=...; falla si el usuario no existe
+    public Mono<Map<String, Object>> obtenerUsuarioPorId(Long id, String token) {
+        return agrupador.pedir(id, token);
+    }
+
+    // Varios usuarios en una llamada (como mucho usuario-service.lote.max ids), por id.
+    // Los que no existen no vienen en el mapa
+    public Mono<Map<Long, Map<String, Object>>> obtenerUsuarios(List<Long> ids, String token) {
+        return this.webClient.get()
+                .uri(uri -> uri.path("/users")
+                        .queryParam("ids", ids.stream().map(String::valueOf).collect(Collectors.joining(",")))
+                        .build())
+                .headers(headers -> headers.setBearerAuth(token))
+                .retrieve()
+                .onStatus(status -> status.isError(),
+                    response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
+                        .map(body -> new RuntimeException("Error " + response.statusCode().value() + ": " + body)))
+                .bodyToMono(COLECCION)
+                .map(cuerpo -> cuerpo.getOrDefault("_embedded", Map.of())
+                        .getOrDefault("usuarioResumenList", List.of()).stream()
+                        .collect(Collectors.toMap(u -> ((Number) u.get("id")).longValue(), Function.identity())));
     }
 
-    public Map<String, Object> obtenerUsuarioPorId(Long id, String token) {
+    // Verifica que el usuario exista con /users/{id}/exists, que no carga el usuario y devuelve
+    // solo {id, existe}; 404 si no existe.
+    // No bloquea; quien lo use decide dónde esperar el resultado
+    public Mono<Map<String, Object>> existeUsuario(Long id, String token) {
         return this.webClient.get()
-                .uri("/users/{id}", id)
+                .uri("/users/{id}/exists", id)
                 .headers(headers -> headers.setBearerAuth(token))
                 .retrieve()
                 .onStatus(status -> status.is4xxClientError(),
                     response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
                         .map(body -> new RuntimeException("Error 4xx: " + body)))
                 .onStatus(status -> status.is5xxServerError(),
                     response -> response.bodyToMono(String.class)
+                        .defaultIfEmpty("")
                         .map(body -> new RuntimeException("Error 5xx: " + body)))
-                .bodyToMono(Map.class) // <--- aquí WebClient parsea JSON a Map automáticamente
-                .doOnNext(user -> System.out.println("Usuario obtenido: " + user))
-                .block(); // Bloquea para obtener resultado
+                .bodyToMono(MAPA) // <--- aquí WebClient parsea JSON a Map automáticamente
+                .doOnNext(user -> System.out.println("Usuario obtenido: " + user));
     }
-}
\ No newline at end of file
+}
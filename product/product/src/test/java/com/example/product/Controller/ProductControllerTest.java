@@ -1,11 +1,15 @@
 package com.example.product.Controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -15,9 +19,20 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.example.product.Service.ProductService;
+import com.example.product.Service.ReservaStockException;
 import com.example.product.model.Product;
+import com.example.product.model.TamanoFoto;
 import com.example.product.model.Dto.DeleteByiduserDto;
+import com.example.product.model.Dto.FiltroProductos;
+import com.example.product.model.Dto.FotoInfo;
+import com.example.product.model.Dto.PaginaBusqueda;
+import com.example.product.model.Dto.LineaReserva;
+import com.example.product.model.Dto.PaginaProductos;
 import com.example.product.model.Dto.ProductoDTO;
+import com.example.product.model.Dto.ProductoResumen;
+import com.example.product.model.Dto.ReservaStockDto;
+import com.example.product.model.Dto.ReservaStockRequest;
+import com.example.product.model.Dto.ResultadoLineaReserva;
 import com.example.product.model.Dto.UpdateStockDto;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -37,22 +52,102 @@ class ProductControllerTest {
     //ok
     @Test
     void listarProductos_ok() throws Exception {
-        when(productService.listarProductos())
-                .thenReturn(List.of(new Product()));
+        when(productService.listarProductosPaginado(null, null, null))
+                .thenReturn(new PaginaProductos(List.of(resumen(1L, 1000)), 20, "id,asc", null));
 
         mockMvc.perform(get("/duodeal/products"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("_embedded").exists());
+                .andExpect(jsonPath("_embedded").exists())
+                .andExpect(jsonPath("$..photo").isEmpty())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+    }
+    //con pagina siguiente
+    @Test
+    void listarProductos_conSiguientePagina() throws Exception {
+        when(productService.listarProductosPaginado(1, "price,desc", null))
+                .thenReturn(new PaginaProductos(List.of(resumen(3L, 500)), 1, "price,desc", "abc"));
+
+        mockMvc.perform(get("/duodeal/products").param("size", "1").param("sort", "price,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._links.next.href").value(org.hamcrest.Matchers.containsString("cursor=abc")));
+    }
+    //no modificada
+    @Test
+    void listarProductos_noModificada() throws Exception {
+        PaginaProductos pagina = new PaginaProductos(List.of(resumen(1L, 1000)), 20, "id,asc", null);
+        when(productService.listarProductosPaginado(null, null, null)).thenReturn(pagina);
+
+        String etag = mockMvc.perform(get("/duodeal/products"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/duodeal/products").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+    //parametros invalidos
+    @Test
+    void listarProductos_cursorInvalido() throws Exception {
+        when(productService.listarProductosPaginado(null, null, "xx"))
+                .thenThrow(new IllegalArgumentException("Cursor inválido"));
+
+        mockMvc.perform(get("/duodeal/products").param("cursor", "xx"))
+                .andExpect(status().isBadRequest());
     }
     //error
     @Test
     void listarProductos_error() throws Exception {
-        when(productService.listarProductos())
+        when(productService.listarProductosPaginado(null, null, null))
                 .thenReturn(null);
 
         mockMvc.perform(get("/duodeal/products"))
                 .andExpect(status().isInternalServerError());
     }
+    // ---------------- FILTRAR PRODUCTOS ----------------
+    //ok
+    @Test
+    void filtrarProductos_ok() throws Exception {
+        when(productService.filtrarProductos(new FiltroProductos(null, 150000.0, true, 3L), null, null, null))
+                .thenReturn(new PaginaProductos(List.of(resumen(2L, 150000)), 20, "price,asc", "abc"));
+
+        mockMvc.perform(get("/duodeal/products/filter")
+                        .param("precioMax", "150000").param("conStock", "true").param("iduser", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.*[0].id").value(2))
+                .andExpect(jsonPath("$..photo").isEmpty())
+                .andExpect(jsonPath("$._links.next.href").value(org.hamcrest.Matchers.containsString("cursor=abc")))
+                .andExpect(jsonPath("$._links.next.href").value(org.hamcrest.Matchers.containsString("iduser=3")));
+    }
+    //filtros invalidos
+    @Test
+    void filtrarProductos_invalido() throws Exception {
+        when(productService.filtrarProductos(any(), any(), any(), any()))
+                .thenThrow(new IllegalArgumentException("El precio mínimo no puede ser mayor que el máximo"));
+
+        mockMvc.perform(get("/duodeal/products/filter").param("precioMin", "10").param("precioMax", "1"))
+                .andExpect(status().isBadRequest());
+    }
+    // ---------------- BUSCAR PRODUCTOS ----------------
+    //ok
+    @Test
+    void buscarProductos_ok() throws Exception {
+        when(productService.buscarProductos("ps4", null, 1))
+                .thenReturn(new PaginaBusqueda(List.of(resumen(2L, 1000)), "ps4", 0, 1, 2));
+
+        mockMvc.perform(get("/duodeal/products/search").param("q", "ps4").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.*[0].id").value(2))
+                .andExpect(jsonPath("$._links.next.href").value(org.hamcrest.Matchers.containsString("page=1")));
+    }
+    //busqueda vacia
+    @Test
+    void buscarProductos_vacia() throws Exception {
+        when(productService.buscarProductos(null, null, null))
+                .thenThrow(new IllegalArgumentException("La búsqueda no puede estar vacía"));
+
+        mockMvc.perform(get("/duodeal/products/search"))
+                .andExpect(status().isBadRequest());
+    }
     // ---------------- OBTENER PRODUCTO ----------------
     //ok
     @Test
@@ -66,6 +161,34 @@ class ProductControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("id").value(1L));
     }
+    //no modificado: no se carga el producto
+    @Test
+    void obtenerProducto_noModificado() throws Exception {
+        when(productService.obtenerVersion(1L)).thenReturn(7L);
+
+        mockMvc.perform(get("/duodeal/products/{id}", 1L)
+                .header("If-None-Match", "\"7\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(content().string(""));
+
+        verify(productService, never()).getProducto(anyLong());
+    }
+    //con etag
+    @Test
+    void obtenerProducto_devuelveEtag() throws Exception {
+        Product product = new Product();
+        product.setId(1L);
+        product.setVersion(7);
+        when(productService.obtenerVersion(1L)).thenReturn(7L);
+        when(productService.getProducto(1L)).thenReturn(product);
+
+        mockMvc.perform(get("/duodeal/products/{id}", 1L)
+                .header("If-None-Match", "\"6\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"7\""))
+                .andExpect(jsonPath("version").doesNotExist());
+    }
     //error
     @Test
     void obtenerProducto_error() throws Exception {
@@ -76,6 +199,104 @@ class ProductControllerTest {
     mockMvc.perform(get("/duodeal/products/{id}", 1L))
             .andExpect(status().isNotFound());
 }
+    @Test
+    void obtenerProducto_noIncluyeBytesDeFoto() throws Exception {
+        Product product = new Product();
+        product.setId(1L);
+        product.setPhoto("foto".getBytes());
+
+        when(productService.getProducto(1L)).thenReturn(product);
+
+        mockMvc.perform(get("/duodeal/products/{id}", 1L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("photo").doesNotExist())
+                .andExpect(jsonPath("photoUrl").value("/duodeal/products/1/photo"))
+                .andExpect(jsonPath("photoHash").value(product.getPhotoHash()));
+    }
+
+    // ---------------- FOTO ----------------
+    //ok
+    @Test
+    void obtenerFoto_ok() throws Exception {
+        when(productService.obtenerInfoFoto(1L)).thenReturn(fotoInfo("abc123", "image/png"));
+        when(productService.obtenerBytesFoto(1L)).thenReturn(new byte[] {1, 2, 3});
+
+        mockMvc.perform(get("/duodeal/products/{id}/photo", 1L))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "image/png"))
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().exists("Cache-Control"))
+                .andExpect(content().bytes(new byte[] {1, 2, 3}));
+    }
+    //no modificada
+    @Test
+    void obtenerFoto_noModificada() throws Exception {
+        when(productService.obtenerInfoFoto(1L)).thenReturn(fotoInfo("abc123", "image/png"));
+
+        mockMvc.perform(get("/duodeal/products/{id}/photo", 1L)
+                .header("If-None-Match", "\"abc123\""))
+                .andExpect(status().isNotModified());
+
+        verify(productService, never()).obtenerBytesFoto(anyLong());
+    }
+    //miniatura lista
+    @Test
+    void obtenerFoto_miniatura() throws Exception {
+        when(productService.obtenerInfoFoto(1L)).thenReturn(fotoInfo("abc123", "image/png"));
+        when(productService.obtenerTipoVariante(1L, TamanoFoto.MINIATURA, "abc123")).thenReturn(Optional.of("image/jpeg"));
+        when(productService.obtenerBytesVariante(1L, TamanoFoto.MINIATURA, "abc123")).thenReturn(new byte[] {4, 5});
+
+        mockMvc.perform(get("/duodeal/products/{id}/photo", 1L).param("size", "thumb"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "image/jpeg"))
+                .andExpect(header().string("ETag", "\"abc123-thumb\""))
+                .andExpect(header().string("Cache-Control", containsString("max-age=3600")))
+                .andExpect(content().bytes(new byte[] {4, 5}));
+
+        verify(productService, never()).obtenerBytesFoto(anyLong());
+    }
+    //miniatura todavia no generada: la original, sin max-age
+    @Test
+    void obtenerFoto_miniaturaPendiente() throws Exception {
+        when(productService.obtenerInfoFoto(1L)).thenReturn(fotoInfo("abc123", "image/png"));
+        when(productService.obtenerTipoVariante(1L, TamanoFoto.MINIATURA, "abc123")).thenReturn(Optional.empty());
+        when(productService.obtenerBytesFoto(1L)).thenReturn(new byte[] {1, 2, 3});
+
+        mockMvc.perform(get("/duodeal/products/{id}/photo", 1L).param("size", "thumb"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Type", "image/png"))
+                .andExpect(header().string("ETag", "\"abc123\""))
+                .andExpect(header().string("Cache-Control", "no-cache"))
+                .andExpect(content().bytes(new byte[] {1, 2, 3}));
+    }
+    //tamano invalido
+    @Test
+    void obtenerFoto_tamanoInvalido() throws Exception {
+        mockMvc.perform(get("/duodeal/products/{id}/photo", 1L).param("size", "gigante"))
+                .andExpect(status().isBadRequest());
+
+        verify(productService, never()).obtenerInfoFoto(anyLong());
+    }
+    //error
+    @Test
+    void obtenerFoto_sinFoto() throws Exception {
+        when(productService.obtenerInfoFoto(1L))
+                .thenThrow(new RuntimeException("El producto con ID 1 no tiene foto"));
+
+        mockMvc.perform(get("/duodeal/products/{id}/photo", 1L))
+                .andExpect(status().isNotFound());
+    }
+
+    private static FotoInfo fotoInfo(String hash, String contentType) {
+        return new FotoInfo() {
+            @Override
+            public String getPhotoHash() { return hash; }
+
+            @Override
+            public String getPhotoContentType() { return contentType; }
+        };
+    }
+
     // ---------------- CREAR PRODUCTO ----------------
 
     @Test
@@ -148,6 +369,37 @@ class ProductControllerTest {
                 .andExpect(jsonPath("mensaje").value("Producto eliminado"));
     }
 
+    // ---------------- RESERVAR STOCK ----------------
+
+    @Test
+    void reservarStock_ok() throws Exception {
+        ReservaStockRequest request = new ReservaStockRequest(List.of(new LineaReserva(1L, 2)));
+        when(productService.reservarStock(anyList()))
+                .thenReturn(new ReservaStockDto("RESERVADO",
+                        List.of(new ResultadoLineaReserva(1L, 2, "RESERVADO", null))));
+
+        mockMvc.perform(post("/duodeal/products/stock/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("status").value("RESERVADO"))
+                .andExpect(jsonPath("$.lineas[0].productId").value(1));
+    }
+
+    @Test
+    void reservarStock_sinStock() throws Exception {
+        ReservaStockRequest request = new ReservaStockRequest(List.of(new LineaReserva(1L, 20)));
+        when(productService.reservarStock(anyList()))
+                .thenThrow(new ReservaStockException(new ReservaStockDto("RECHAZADO",
+                        List.of(new ResultadoLineaReserva(1L, 20, "SIN_STOCK", 3)))));
+
+        mockMvc.perform(post("/duodeal/products/stock/reserve")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.lineas[0].stockDisponible").value(3));
+    }
+
     // ---------------- ELIMINAR PRODUCTOS POR USUARIO ----------------
 
     @Test
@@ -165,4 +417,17 @@ class ProductControllerTest {
                 .andExpect(jsonPath("mensaje")
                         .value("Productos eliminados correctamente"));
     }
+
+    private ProductoResumen resumen(Long id, double precio) {
+        return new ProductoResumen() {
+            public Long getId() { return id; }
+            public Long getIduser() { return 10L; }
+            public String getName() { return "Producto " + id; }
+            public String getDescription() { return null; }
+            public double getPrice() { return precio; }
+            public int getStock() { return 1; }
+            public String getPhotoHash() { return null; }
+            public long getVersion() { return 0; }
+        };
+    }
 }
@@ -3,7 +3,7 @@ package com.example.product;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "jwt.secret=defaultSecretKeyForDevelopmentOnlyNotForProduction")
 class ProductApplicationTests {
 
 	@Test
@@ -0,0 +1,88 @@
+package com.example.product.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.nullable;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.product.model.Product;
+import com.example.product.repository.ProductRepository;
+import com.example.product.webclient.usuarioclient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Con el contexto real: la carga del arranque tiene que pasar por el proxy de ProductService
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=defaultSecretKeyForDevelopmentOnlyNotForProduction"
+})
+@Import({ProductService.class, CargaIndiceBusqueda.class, JwtVerifier.class, ProductoCache.class,
+        IndiceBusqueda.class, VariantesFoto.class, CargaIndiceBusquedaTest.Metricas.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CargaIndiceBusquedaTest {
+
+    @Autowired
+    private CargaIndiceBusqueda cargaIndiceBusqueda;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @SpyBean
+    private IndiceBusqueda indiceBusqueda;
+
+    @MockBean
+    private usuarioclient usuarioClient;
+
+    @TestConfiguration
+    static class Metricas {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @AfterEach
+    void limpiar() {
+        productRepository.deleteAll();
+    }
+
+    @Test
+    void cargaAlArrancar_indexaSinTransaccion() {
+        Product product = new Product();
+        product.setIduser(10L);
+        product.setName("Ps4 usada");
+        product.setPrice(1000);
+        product.setStock(1);
+        productRepository.save(product);
+
+        List<Boolean> conTransaccion = new ArrayList<>();
+        doAnswer(inv -> {
+            conTransaccion.add(TransactionSynchronizationManager.isActualTransactionActive());
+            return inv.callRealMethod();
+        }).when(indiceBusqueda).cargar(anyLong(), anyString(), nullable(String.class));
+
+        cargaIndiceBusqueda.afterSingletonsInstantiated();
+
+        assertEquals(List.of(false), conTransaccion);
+        assertEquals(1, indiceBusqueda.buscar("ps4", 0, 10).total());
+    }
+}
@@ -0,0 +1,110 @@
+package com.example.product.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class IndiceBusquedaTest {
+
+    private IndiceBusqueda indice;
+
+    @BeforeEach
+    void setup() {
+        indice = new IndiceBusqueda();
+        indice.indexar(1L, "Minecraft Ps4", "Vendo minecraft de ps4");
+        indice.indexar(2L, "Ps4", "Vendo ps4 con dos controles");
+        indice.indexar(3L, "Ps5", "Consola nueva");
+        indice.indexar(4L, "Pokémon Rojo", "Cartucho original de Game Boy");
+    }
+
+    // ================= COINCIDENCIAS =================
+
+    @Test
+    void buscar_sinTildesNiMayusculas() {
+        assertEquals(List.of(4L), indice.buscar("POKEMON", 0, 10).ids());
+        assertEquals(List.of(4L), indice.buscar("pokémon", 0, 10).ids());
+    }
+
+    @Test
+    void buscar_porPrefijo() {
+        IndiceBusqueda.Resultado resultado = indice.buscar("ps", 0, 10);
+
+        assertEquals(3, resultado.total());
+        assertTrue(resultado.ids().containsAll(List.of(1L, 2L, 3L)));
+    }
+
+    @Test
+    void buscar_todasLasPalabras() {
+        assertEquals(List.of(1L), indice.buscar("minecraft ps4", 0, 10).ids());
+        assertTrue(indice.buscar("minecraft ps5", 0, 10).ids().isEmpty());
+    }
+
+    // ================= ORDEN Y PAGINAS =================
+
+    @Test
+    void buscar_nombreExactoPrimero() {
+        // Los dos tienen "ps4" en el nombre: empatan y va primero el mas nuevo
+        assertEquals(List.of(2L, 1L), indice.buscar("ps4", 0, 10).ids());
+        assertEquals(List.of(1L), indice.buscar("vendo minecraft", 0, 10).ids());
+        // En el 3 "consola" solo aparece en la descripcion
+        indice.indexar(5L, "Consola retro", null);
+        assertEquals(List.of(5L, 3L), indice.buscar("consola", 0, 10).ids());
+    }
+
+    @Test
+    void buscar_paginado() {
+        IndiceBusqueda.Resultado primera = indice.buscar("ps", 0, 2);
+        IndiceBusqueda.Resultado segunda = indice.buscar("ps", 2, 2);
+
+        assertEquals(2, primera.ids().size());
+        assertEquals(1, segunda.ids().size());
+        assertEquals(3, segunda.total());
+        assertFalse(primera.ids().contains(segunda.ids().get(0)));
+    }
+
+    // ================= CAMBIOS =================
+
+    @Test
+    void indexar_reemplazaLoAnterior() {
+        indice.indexar(3L, "Xbox Series", "Consola nueva");
+
+        assertTrue(indice.buscar("ps5", 0, 10).ids().isEmpty());
+        assertEquals(List.of(3L), indice.buscar("xbox", 0, 10).ids());
+        assertEquals(4, indice.tamano());
+    }
+
+    @Test
+    void quitar_yaNoAparece() {
+        indice.quitar(2L);
+
+        assertEquals(List.of(1L), indice.buscar("ps4", 0, 10).ids());
+        assertEquals(3, indice.tamano());
+    }
+
+    @Test
+    void terminos_normaliza() {
+        assertEquals(List.of("cancion", "del", "nino", "ps4"), IndiceBusqueda.terminos("¡Canción del Niño! (PS4)"));
+        assertTrue(IndiceBusqueda.terminos("  ").isEmpty());
+    }
+
+    @Test
+    void cargar_noPisaLoQuitadoNiLoActualizadoDuranteLaCarga() {
+        IndiceBusqueda nuevo = new IndiceBusqueda();
+        nuevo.iniciarCarga();
+        // Cambios confirmados despues de leer la pagina y antes de cargarla
+        nuevo.indexar(1L, "Ps5", null);
+        nuevo.quitar(2L);
+
+        assertFalse(nuevo.cargar(1L, "Ps4", null));
+        assertFalse(nuevo.cargar(2L, "Ps4", null));
+        assertTrue(nuevo.cargar(3L, "Ps4", null));
+        nuevo.terminarCarga();
+
+        assertEquals(List.of(3L), nuevo.buscar("ps4", 0, 10).ids());
+        assertEquals(List.of(1L), nuevo.buscar("ps5", 0, 10).ids());
+        assertEquals(2, nuevo.tamano());
+    }
+}
@@ -3,6 +3,7 @@ package com.example.product.Service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.ArrayList;
 import java.util.Base64;
 import java.util.List;
 import java.util.Map;
@@ -13,14 +14,31 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.product.Service.ProductService;
 import com.example.product.model.Product;
+import com.example.product.model.TamanoFoto;
+import com.example.product.model.Dto.FiltroProductos;
+import com.example.product.model.Dto.LineaReserva;
+import com.example.product.model.Dto.PaginaBusqueda;
+import com.example.product.model.Dto.PaginaProductos;
+import com.example.product.model.Dto.ProductoResumen;
+import com.example.product.model.Dto.ReservaStockDto;
+import com.example.product.model.Dto.StockProducto;
 import com.example.product.model.Dto.UpdateStockDto;
+import com.example.product.repository.FotoVarianteRepository;
 import com.example.product.repository.ProductRepository;
 import com.example.product.webclient.usuarioclient;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import reactor.core.publisher.Mono;
+
 @ExtendWith(MockitoExtension.class)
 class ProductServiceTest {
 
@@ -30,6 +48,21 @@ class ProductServiceTest {
     @Mock
     private usuarioclient usuarioClient;
 
+    @Mock
+    private JwtVerifier jwtVerifier;
+
+    @Spy
+    private ProductoCache productoCache = new ProductoCache(1_000_000, 1000, new SimpleMeterRegistry());
+
+    @Spy
+    private IndiceBusqueda indiceBusqueda = new IndiceBusqueda();
+
+    @Mock
+    private VariantesFoto variantesFoto;
+
+    @Mock
+    private FotoVarianteRepository fotoVarianteRepository;
+
     @InjectMocks
     private ProductService productService;
 
@@ -51,8 +84,8 @@ class ProductServiceTest {
 
     @Test
     void crearProducto_ok() {
-        when(usuarioClient.obtenerUsuarioPorId(10L, "token"))
-                .thenReturn(Map.of("id", 10L));
+        when(usuarioClient.existeUsuario(10L, "token"))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
 
         when(productRepository.save(any(Product.class)))
                 .thenReturn(producto);
@@ -63,12 +96,28 @@ class ProductServiceTest {
         assertNotNull(result);
         assertEquals("Producto Test", result.getName());
         verify(productRepository).save(any(Product.class));
+        assertEquals(List.of(1L), indiceBusqueda.buscar("producto", 0, 10).ids());
+        verify(variantesFoto).validar(any(byte[].class));
+        verify(variantesFoto).programar(1L, producto.getPhotoHash());
+    }
+
+    @Test
+    void crearProducto_fotoInvalida() {
+        when(usuarioClient.existeUsuario(10L, "token"))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
+        when(variantesFoto.validar(any(byte[].class)))
+                .thenThrow(new IllegalArgumentException("Formato de imagen no soportado: bmp"));
+
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.crearProducto(10L, "token", "Producto", "Desc", 1000, 5, "foto".getBytes()));
+        verify(productRepository, never()).save(any(Product.class));
+        verify(variantesFoto, never()).programar(anyLong(), anyString());
     }
 
     @Test
     void crearProducto_usuarioNoExiste() {
-        when(usuarioClient.obtenerUsuarioPorId(anyLong(), anyString()))
-                .thenThrow(RuntimeException.class);
+        when(usuarioClient.existeUsuario(anyLong(), anyString()))
+                .thenReturn(Mono.error(new RuntimeException("Error 4xx: ")));
 
         assertThrows(RuntimeException.class, () ->
                 productService.crearProducto(
@@ -95,7 +144,7 @@ class ProductServiceTest {
 
     @Test
     void getProducto_ok() {
-        when(productRepository.findById(1L))
+        when(productRepository.findSinFotoById(1L))
                 .thenReturn(Optional.of(producto));
 
         Product result = productService.getProducto(1L);
@@ -105,13 +154,101 @@ class ProductServiceTest {
 
     @Test
     void getProducto_noExiste() {
-        when(productRepository.findById(1L))
+        when(productRepository.findSinFotoById(1L))
                 .thenReturn(Optional.empty());
 
         assertThrows(RuntimeException.class, () ->
                 productService.getProducto(1L));
     }
 
+    @Test
+    void getProducto_segundaLecturaDesdeCache() {
+        when(productRepository.findSinFotoById(1L))
+                .thenReturn(Optional.of(producto));
+
+        productService.getProducto(1L);
+        Product result = productService.getProducto(1L);
+
+        assertEquals("Producto Test", result.getName());
+        assertEquals(5, result.getStock());
+        verify(productRepository, times(1)).findSinFotoById(1L);
+    }
+
+    @Test
+    void getProducto_restarStockSoloRecargaElStock() {
+        when(productRepository.findSinFotoById(1L))
+                .thenReturn(Optional.of(producto));
+        when(productRepository.restarStockSiAlcanza(1L, 2)).thenReturn(1);
+        when(productRepository.eliminarSiSinStock(1L)).thenReturn(0);
+        StockProducto stock = mock(StockProducto.class);
+        when(stock.getStock()).thenReturn(3);
+        when(productRepository.findStockByIdIn(List.of(1L))).thenReturn(List.of(stock));
+
+        productService.getProducto(1L);
+        productService.restarStockProducto(1L, 2);
+        Product result = productService.getProducto(1L);
+
+        assertEquals(3, result.getStock());
+        // Una lectura del detalle y otra de restarStockProducto; el segundo get no lee el producto
+        verify(productRepository, times(2)).findSinFotoById(1L);
+        verify(productRepository, times(1)).findStockByIdIn(List.of(1L));
+    }
+
+    @Test
+    void getProducto_actualizarInvalidaElDetalle() {
+        when(productRepository.findSinFotoById(1L))
+                .thenReturn(Optional.of(producto));
+        when(productRepository.actualizarDatos(eq(1L), anyLong(), anyString(), any(), anyDouble(), anyInt())).thenReturn(1);
+
+        productService.getProducto(1L);
+        Product nuevo = new Product();
+        nuevo.setName("Nuevo nombre");
+        nuevo.setPrice(2000);
+        nuevo.setStock(5);
+        productService.actualizarProducto(1L, nuevo);
+
+        assertEquals("Nuevo nombre", productService.getProducto(1L).getName());
+    }
+
+    @Test
+    void obtenerVersion_noCargaElProducto() {
+        when(productRepository.findStockByIdIn(List.of(1L))).thenReturn(List.of(stock(1L, 5, 4)));
+
+        assertEquals(4, productService.obtenerVersion(1L));
+        assertEquals(4, productService.obtenerVersion(1L));
+
+        verify(productRepository, never()).findSinFotoById(anyLong());
+        verify(productRepository, times(1)).findStockByIdIn(List.of(1L));
+    }
+
+    @Test
+    void obtenerVersion_noExiste() {
+        when(productRepository.findStockByIdIn(List.of(1L))).thenReturn(List.of());
+
+        assertThrows(RuntimeException.class, () -> productService.obtenerVersion(1L));
+    }
+
+    @Test
+    void crearProducto_tokenConUserId_noLlamaAlServicioDeUsuarios() {
+        when(jwtVerifier.obtenerUserId("token")).thenReturn(Optional.of(10L));
+        when(productRepository.save(any(Product.class))).thenReturn(producto);
+
+        productService.crearProducto(10L, "token", "Producto Test", "Descripcion", 1000, 5, null);
+
+        verifyNoInteractions(usuarioClient);
+    }
+
+    @Test
+    void crearProducto_tokenInvalido() {
+        when(jwtVerifier.obtenerUserId("token"))
+                .thenThrow(new JwtVerifier.TokenInvalidoException("Token inválido o expirado"));
+
+        assertThrows(RuntimeException.class, () ->
+                productService.crearProducto(10L, "token", "Producto Test", "Descripcion", 1000, 5, null));
+        verifyNoInteractions(usuarioClient);
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
     // ---------------- LISTAR ----------------
 
     @Test
@@ -124,14 +261,66 @@ class ProductServiceTest {
         assertEquals(1, productos.size());
     }
 
+    @Test
+    void listarProductosPaginado_primeraPaginaConCursor() {
+        when(productRepository.findPaginaPorIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(resumen(1L, 100), resumen(2L, 200), resumen(3L, 300)));
+
+        PaginaProductos pagina = productService.listarProductosPaginado(2, null, null);
+
+        assertEquals(2, pagina.getProductos().size());
+        assertNotNull(pagina.getSiguienteCursor());
+        verify(productRepository).findPaginaPorIdAsc(0L, PageRequest.of(0, 3));
+
+        // La siguiente pagina arranca despues del ultimo id devuelto
+        when(productRepository.findPaginaPorIdAsc(eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(resumen(3L, 300)));
+
+        PaginaProductos siguiente = productService.listarProductosPaginado(2, null, pagina.getSiguienteCursor());
+
+        assertEquals(1, siguiente.getProductos().size());
+        assertNull(siguiente.getSiguienteCursor());
+    }
+
+    @Test
+    void listarProductosPaginado_porPrecioDesc() {
+        when(productRepository.findPaginaPorPrecioDesc(eq(Double.MAX_VALUE), eq(Long.MAX_VALUE), any(Pageable.class)))
+                .thenReturn(List.of(resumen(5L, 900)));
+
+        PaginaProductos pagina = productService.listarProductosPaginado(10, "price,desc", null);
+
+        assertEquals("price,desc", pagina.getSort());
+        assertEquals(1, pagina.getProductos().size());
+        assertNull(pagina.getSiguienteCursor());
+    }
+
+    @Test
+    void listarProductosPaginado_cursorDeOtroOrden() {
+        when(productRepository.findPaginaPorIdAsc(eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(resumen(1L, 100), resumen(2L, 200)));
+        String cursor = productService.listarProductosPaginado(1, "id,asc", null).getSiguienteCursor();
+
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.listarProductosPaginado(1, "price,asc", cursor));
+    }
+
+    @Test
+    void listarProductosPaginado_parametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.listarProductosPaginado(0, null, null));
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.listarProductosPaginado(10, "name,asc", null));
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.listarProductosPaginado(10, null, "no-es-un-cursor"));
+    }
+
     // ---------------- ACTUALIZAR ----------------
 
     @Test
     void actualizarProducto_ok() {
-        when(productRepository.findById(1L))
+        when(productRepository.findSinFotoById(1L))
                 .thenReturn(Optional.of(producto));
-        when(productRepository.save(any(Product.class)))
-                .thenReturn(producto);
+        when(productRepository.actualizarDatos(1L, 0L, "Nuevo", "Nueva desc", 2000, 10)).thenReturn(1);
 
         Product nuevo = new Product();
         nuevo.setName("Nuevo");
@@ -142,7 +331,26 @@ class ProductServiceTest {
         Product result = productService.actualizarProducto(1L, nuevo);
 
         assertEquals("Nuevo", result.getName());
-        verify(productRepository).save(producto);
+        assertEquals(1L, result.getVersion());
+        // Sin foto nueva no se lee ni se reescribe la foto
+        verify(productRepository, never()).findById(anyLong());
+        verify(productRepository, never()).actualizarFoto(anyLong(), any(), any(), any());
+        verify(productRepository, never()).save(any(Product.class));
+    }
+
+    @Test
+    void actualizarProducto_modificadoPorOtraTransaccion() {
+        when(productRepository.findSinFotoById(1L))
+                .thenReturn(Optional.of(producto));
+        when(productRepository.actualizarDatos(eq(1L), anyLong(), anyString(), any(), anyDouble(), anyInt())).thenReturn(0);
+
+        Product nuevo = new Product();
+        nuevo.setName("Nuevo");
+        nuevo.setPrice(2000);
+        nuevo.setStock(10);
+
+        assertThrows(ObjectOptimisticLockingFailureException.class, () -> productService.actualizarProducto(1L, nuevo));
+        verify(indiceBusqueda, never()).indexar(anyLong(), any(), any());
     }
 
     // ---------------- ELIMINAR ----------------
@@ -155,14 +363,109 @@ class ProductServiceTest {
 
         assertTrue(mensaje.contains("eliminado"));
         verify(productRepository).deleteById(1L);
+        verify(indiceBusqueda).quitar(1L);
+    }
+
+    // ---------------- FILTRAR ----------------
+
+    @Test
+    void filtrarProductos_conSiguientePagina() {
+        when(productRepository.buscarResumenes(any(), any(), eq(3)))
+                .thenReturn(List.of(resumen(1L, 100), resumen(2L, 200), resumen(3L, 300)));
+
+        PaginaProductos pagina = productService.filtrarProductos(
+                new FiltroProductos(50.0, 500.0, true, 10L), 2, null, null);
+
+        assertEquals(2, pagina.getProductos().size());
+        assertEquals("price,asc", pagina.getSort());
+        assertNotNull(pagina.getSiguienteCursor());
+
+        // El cursor de esta pagina sirve para pedir la siguiente con los mismos filtros
+        when(productRepository.buscarResumenes(any(), any(), eq(3))).thenReturn(List.of(resumen(3L, 300)));
+        PaginaProductos siguiente = productService.filtrarProductos(
+                new FiltroProductos(50.0, 500.0, true, 10L), 2, "price,asc", pagina.getSiguienteCursor());
+        assertNull(siguiente.getSiguienteCursor());
+    }
+
+    @Test
+    void filtrarProductos_parametrosInvalidos() {
+        FiltroProductos sinFiltros = new FiltroProductos();
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.filtrarProductos(new FiltroProductos(500.0, 100.0, null, null), null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.filtrarProductos(new FiltroProductos(-1.0, null, null, null), null, null, null));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.filtrarProductos(sinFiltros, null, "id,asc", null));
+        assertThrows(IllegalArgumentException.class,
+                () -> productService.filtrarProductos(sinFiltros, 0, null, null));
+        verify(productRepository, never()).buscarResumenes(any(), any(), anyInt());
+    }
+
+    // ---------------- BUSCAR ----------------
+
+    @Test
+    void buscarProductos_ordenDelIndice() {
+        indiceBusqueda.indexar(1L, "Ps4", null);
+        indiceBusqueda.indexar(2L, "Juego", "Para ps4");
+        indiceBusqueda.indexar(3L, "Ps4 slim", null);
+        // La base los devuelve en otro orden
+        when(productRepository.findResumenesByIdIn(List.of(3L, 1L)))
+                .thenReturn(List.of(resumen(1L, 100), resumen(3L, 200)));
+
+        PaginaBusqueda pagina = productService.buscarProductos("PS4", 0, 2);
+
+        assertEquals(List.of(3L, 1L), pagina.getProductos().stream().map(ProductoResumen::getId).toList());
+        assertEquals(3, pagina.getTotal());
+    }
+
+    @Test
+    void buscarProductos_sinResultadosNoConsultaLaBase() {
+        PaginaBusqueda pagina = productService.buscarProductos("nada", null, null);
+
+        assertTrue(pagina.getProductos().isEmpty());
+        assertEquals(ProductService.TAMANO_PAGINA_DEFECTO, pagina.getSize());
+        verify(productRepository, never()).findResumenesByIdIn(any());
+    }
+
+    @Test
+    void buscarProductos_parametrosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () -> productService.buscarProductos(" ", null, null));
+        assertThrows(IllegalArgumentException.class, () -> productService.buscarProductos("ps4", -1, null));
+        assertThrows(IllegalArgumentException.class, () -> productService.buscarProductos("ps4", 0, 1000));
+    }
+
+    @Test
+    void indexarCatalogo_porLotes() {
+        List<ProductoResumen> lote = new ArrayList<>();
+        for (long id = 1; id <= ProductService.LOTE_INDEXACION; id++) {
+            lote.add(resumen(id, 100));
+        }
+        when(productRepository.findPaginaPorIdAsc(eq(0L), any())).thenReturn(lote);
+        when(productRepository.findPaginaPorIdAsc(eq((long) ProductService.LOTE_INDEXACION), any()))
+                .thenReturn(List.of(resumen(5000L, 100)));
+
+        assertEquals(ProductService.LOTE_INDEXACION + 1, productService.indexarCatalogo());
+        assertEquals(ProductService.LOTE_INDEXACION + 1, indiceBusqueda.tamano());
+    }
+
+    @Test
+    void indexarCatalogo_noVuelveAAgregarUnProductoBorradoMientrasIndexa() {
+        when(productRepository.findPaginaPorIdAsc(eq(0L), any())).thenAnswer(invocacion -> {
+            // El borrado se confirma despues de leer la pagina y antes de indexarla
+            indiceBusqueda.quitar(1L);
+            return List.of(resumen(1L, 100), resumen(2L, 100));
+        });
+
+        assertEquals(1, productService.indexarCatalogo());
+        assertEquals(1, indiceBusqueda.tamano());
     }
 
     // ---------------- ELIMINAR POR USUARIO ----------------
 
     @Test
     void eliminarPorUserId_ok() {
-        when(usuarioClient.obtenerUsuarioPorId(10L, "token"))
-                .thenReturn(Map.of("id", 10L));
+        when(usuarioClient.existeUsuario(10L, "token"))
+                .thenReturn(Mono.just(Map.of("id", 10L)));
         when(productRepository.countByIduser(10L)).thenReturn(2L);
 
         String result = productService.eliminarporUserid(10L, "token");
@@ -175,27 +478,159 @@ class ProductServiceTest {
 
     @Test
     void restarStock_actualizado() {
-        when(productRepository.findById(1L))
+        when(productRepository.restarStockSiAlcanza(1L, 2)).thenReturn(1);
+        when(productRepository.eliminarSiSinStock(1L)).thenReturn(0);
+        when(productRepository.findSinFotoById(1L))
                 .thenReturn(Optional.of(producto));
-        when(productRepository.save(any(Product.class)))
-                .thenReturn(producto);
 
         UpdateStockDto result = productService.restarStockProducto(1L, 2);
 
         assertEquals("ACTUALIZADO", result.getStatus());
+        verify(productRepository, never()).save(any(Product.class));
     }
 
     @Test
     void restarStock_eliminado() {
-        producto.setStock(2);
-
-        when(productRepository.findById(1L))
-                .thenReturn(Optional.of(producto));
+        when(productRepository.restarStockSiAlcanza(1L, 2)).thenReturn(1);
+        when(productRepository.eliminarSiSinStock(1L)).thenReturn(1);
 
         UpdateStockDto result = productService.restarStockProducto(1L, 2);
 
         assertEquals("ELIMINADO", result.getStatus());
-        verify(productRepository).deleteById(1L);
+        assertNull(result.getProducto());
+    }
+
+    @Test
+    void restarStock_insuficiente() {
+        when(productRepository.restarStockSiAlcanza(1L, 10)).thenReturn(0);
+        when(productRepository.findSinFotoById(1L))
+                .thenReturn(Optional.of(producto));
+
+        UpdateStockDto result = productService.restarStockProducto(1L, 10);
+
+        assertEquals("ERROR", result.getStatus());
+        assertEquals(5, result.getProducto().getStock());
+        verify(productRepository, never()).eliminarSiSinStock(anyLong());
+    }
+
+    // ---------------- RESERVAR STOCK ----------------
+
+    @Test
+    void reservarStock_ok_sumaLineasRepetidas() {
+        when(productRepository.restarStockEnLote(anyList())).thenReturn(new int[] {1, 1});
+        when(productRepository.findStockByIdIn(anyCollection()))
+                .thenReturn(List.of(stock(1L, 3), stock(2L, 0)));
+
+        ReservaStockDto result = productService.reservarStock(List.of(
+                new LineaReserva(1L, 1), new LineaReserva(2L, 2), new LineaReserva(1L, 1)));
+
+        assertEquals("RESERVADO", result.getStatus());
+        assertEquals(2, result.getLineas().size());
+        assertEquals(2, result.getLineas().get(0).getCantidad());
+        assertEquals("RESERVADO", result.getLineas().get(0).getStatus());
+        assertEquals("ELIMINADO", result.getLineas().get(1).getStatus());
+        verify(productRepository).eliminarSinStock(anyCollection());
+    }
+
+    @Test
+    void reservarStock_sinStock_lanzaConDetalle() {
+        when(productRepository.restarStockEnLote(anyList())).thenReturn(new int[] {1, 0, 0});
+        when(productRepository.findStockByIdIn(anyCollection()))
+                .thenReturn(List.of(stock(1L, 4), stock(2L, 1)));
+
+        ReservaStockException e = assertThrows(ReservaStockException.class, () ->
+                productService.reservarStock(List.of(
+                        new LineaReserva(1L, 1), new LineaReserva(2L, 5), new LineaReserva(3L, 1))));
+
+        assertEquals("RECHAZADO", e.getResultado().getStatus());
+        assertEquals("NO_APLICADO", e.getResultado().getLineas().get(0).getStatus());
+        assertEquals(5, e.getResultado().getLineas().get(0).getStockDisponible());
+        assertEquals("SIN_STOCK", e.getResultado().getLineas().get(1).getStatus());
+        assertEquals("NO_EXISTE", e.getResultado().getLineas().get(2).getStatus());
+        verify(productRepository, never()).eliminarSinStock(anyCollection());
+    }
+
+    @Test
+    void reservarStock_datosInvalidos() {
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.reservarStock(List.of()));
+        assertThrows(IllegalArgumentException.class, () ->
+                productService.reservarStock(List.of(new LineaReserva(1L, 0))));
+    }
+
+    // ---------------- FOTO ----------------
+
+    @Test
+    void setPhoto_calculaHashYTipo() {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', 0x0D, 0x0A, 0x1A, 0x0A};
+        producto.setPhoto(png);
+
+        assertEquals("image/png", producto.getPhotoContentType());
+        assertEquals(64, producto.getPhotoHash().length());
+        assertEquals("/duodeal/products/1/photo", producto.getPhotoUrl());
+
+        producto.setPhoto(null);
+        assertNull(producto.getPhotoHash());
+        assertNull(producto.getPhotoUrl());
+    }
+
+    @Test
+    void obtenerInfoFoto_sinFoto() {
+        when(productRepository.findFotoInfoById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(RuntimeException.class, () ->
+                productService.obtenerInfoFoto(1L));
+        verify(productRepository, never()).findFotoById(anyLong());
+    }
+
+    @Test
+    void completarMetadatosFotos_calculaHashFaltante() {
+        Product legado = new Product();
+        legado.setId(2L);
+        legado.setName("Legado");
+        // simula una fila antigua: la foto existe pero photo_hash quedo en null
+        ReflectionTestUtils.setField(legado, "photo", "foto".getBytes());
+
+        when(productRepository.findIdsConFotoSinHash()).thenReturn(List.of(2L));
+        when(productRepository.findById(2L)).thenReturn(Optional.of(legado));
+
+        int completados = productService.completarMetadatosFotos();
+
+        assertEquals(1, completados);
+        assertNotNull(legado.getPhotoHash());
+        verify(productRepository).save(legado);
+    }
+
+    @Test
+    void obtenerTipoVariante_faltante_laPideYDevuelveVacio() {
+        when(fotoVarianteRepository.findContentType(1L, TamanoFoto.MINIATURA, "abc")).thenReturn(Optional.empty());
+
+        assertTrue(productService.obtenerTipoVariante(1L, TamanoFoto.MINIATURA, "abc").isEmpty());
+        verify(variantesFoto).programar(1L, "abc");
+    }
+
+    @Test
+    void obtenerTipoVariante_original_noConsulta() {
+        assertTrue(productService.obtenerTipoVariante(1L, TamanoFoto.ORIGINAL, "abc").isEmpty());
+        verifyNoInteractions(fotoVarianteRepository, variantesFoto);
+    }
+
+    @Test
+    void actualizarProducto_fotoNueva_programaVariantes() {
+        when(productRepository.findSinFotoById(1L)).thenReturn(Optional.of(producto));
+        when(productRepository.actualizarDatos(eq(1L), anyLong(), anyString(), any(), anyDouble(), anyInt())).thenReturn(1);
+
+        Product nuevo = new Product();
+        nuevo.setName("Nuevo");
+        nuevo.setPrice(2000);
+        nuevo.setStock(10);
+        nuevo.setPhoto("otra foto".getBytes());
+
+        productService.actualizarProducto(1L, nuevo);
+
+        verify(variantesFoto).validar(nuevo.getPhoto());
+        verify(productRepository).actualizarFoto(1L, nuevo.getPhoto(), nuevo.getPhotoHash(), nuevo.getPhotoContentType());
+        verify(variantesFoto).programar(1L, nuevo.getPhotoHash());
     }
 
     // ---------------- FOTO BASE64 ----------------
@@ -205,4 +640,29 @@ class ProductServiceTest {
         String base64 = productService.obtenerFotoBase64(producto);
         assertNotNull(base64);
     }
+
+    private ProductoResumen resumen(Long id, double precio) {
+        return new ProductoResumen() {
+            public Long getId() { return id; }
+            public Long getIduser() { return 10L; }
+            public String getName() { return "Producto " + id; }
+            public String getDescription() { return null; }
+            public double getPrice() { return precio; }
+            public int getStock() { return 1; }
+            public String getPhotoHash() { return null; }
+            public long getVersion() { return 0; }
+        };
+    }
+
+    private StockProducto stock(Long id, int stock) {
+        return stock(id, stock, 0);
+    }
+
+    private StockProducto stock(Long id, int stock, long version) {
+        return new StockProducto() {
+            public Long getId() { return id; }
+            public int getStock() { return stock; }
+            public long getVersion() { return version; }
+        };
+    }
 }
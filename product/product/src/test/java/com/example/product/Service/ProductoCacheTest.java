@@ -0,0 +1,142 @@
+package com.example.product.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.product.model.Product;
+import com.example.product.model.Dto.StockProducto;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ProductoCacheTest {
+
+    private SimpleMeterRegistry registry;
+    private ProductoCache cache;
+    private AtomicInteger lecturas;
+    private AtomicInteger lecturasStock;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        cache = new ProductoCache(100_000, 1000, registry);
+        lecturas = new AtomicInteger();
+        lecturasStock = new AtomicInteger();
+    }
+
+    private Product cargar(long id) {
+        lecturas.incrementAndGet();
+        Product p = new Product();
+        p.setId(id);
+        p.setIduser(10L);
+        p.setName("Producto " + id);
+        p.setPrice(1000);
+        p.setStock(5);
+        p.setPhoto(new byte[] {1, 2, 3});
+        p.setVersion(2);
+        return p;
+    }
+
+    // Como si se hubiera restado stock: cambia el stock y sube la version
+    private StockProducto cargarStock(long id) {
+        lecturasStock.incrementAndGet();
+        return new StockProducto() {
+            public Long getId() { return id; }
+            public int getStock() { return 4; }
+            public long getVersion() { return 3; }
+        };
+    }
+
+    // ================= DETALLE =================
+
+    @Test
+    void obtener_guardaElDetalleSinFoto() {
+        Product primero = cache.obtener(1L, this::cargar, this::cargarStock);
+        Product segundo = cache.obtener(1L, this::cargar, this::cargarStock);
+
+        assertEquals("Producto 1", segundo.getName());
+        assertNull(segundo.getPhoto());
+        assertNotNull(segundo.getPhotoHash());
+        assertNotSame(primero, segundo);
+        assertEquals(1, lecturas.get());
+        assertEquals(0, lecturasStock.get());
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "productos").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void obtener_noExisteNoSeGuarda() {
+        assertNull(cache.obtener(1L, id -> null, this::cargarStock));
+        assertNotNull(cache.obtener(1L, this::cargar, this::cargarStock));
+    }
+
+    @Test
+    void invalidarStock_mantieneElDetalle() {
+        cache.obtener(1L, this::cargar, this::cargarStock);
+
+        cache.invalidarStock(1L);
+        Product p = cache.obtener(1L, this::cargar, this::cargarStock);
+
+        assertEquals(4, p.getStock());
+        assertEquals(3, p.getVersion());
+        assertEquals(1, lecturas.get());
+        assertEquals(1, lecturasStock.get());
+    }
+
+    // ================= VERSION =================
+
+    @Test
+    void version_usaElStockSembradoPorElDetalle() {
+        cache.obtener(1L, this::cargar, this::cargarStock);
+
+        assertEquals(2L, cache.version(1L, this::cargarStock));
+        assertEquals(0, lecturasStock.get());
+    }
+
+    @Test
+    void version_sinDetalleNoCargaElProducto() {
+        assertEquals(3L, cache.version(1L, this::cargarStock));
+        assertNull(cache.version(2L, id -> null));
+        assertEquals(0, lecturas.get());
+    }
+
+    @Test
+    void invalidar_vuelveALeerElDetalle() {
+        cache.obtener(1L, this::cargar, this::cargarStock);
+
+        cache.invalidar(1L);
+        cache.obtener(1L, this::cargar, this::cargarStock);
+
+        assertEquals(2, lecturas.get());
+    }
+
+    // ================= FOTO =================
+
+    @Test
+    void foto_seGuardaJuntoAlDetalle() {
+        AtomicInteger lecturasFoto = new AtomicInteger();
+        cache.obtener(1L, this::cargar, this::cargarStock);
+
+        cache.foto(1L, id -> { lecturasFoto.incrementAndGet(); return new byte[] {1, 2, 3}; });
+        byte[] foto = cache.foto(1L, id -> { lecturasFoto.incrementAndGet(); return new byte[] {1, 2, 3}; });
+
+        assertArrayEquals(new byte[] {1, 2, 3}, foto);
+        assertEquals(1, lecturasFoto.get());
+    }
+
+    @Test
+    void foto_cuentaEnElPeso() {
+        cache.obtener(1L, this::cargar, this::cargarStock);
+        cache.obtener(2L, this::cargar, this::cargarStock);
+
+        // Una foto mas grande que toda la cache desaloja las entradas
+        cache.foto(1L, id -> new byte[200_000]);
+        cache.mantenimiento();
+        cache.obtener(2L, this::cargar, this::cargarStock);
+        cache.obtener(1L, this::cargar, this::cargarStock);
+
+        assertTrue(lecturas.get() > 2);
+    }
+}
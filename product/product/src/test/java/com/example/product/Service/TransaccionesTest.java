@@ -0,0 +1,52 @@
+package com.example.product.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class TransaccionesTest {
+
+    private final AtomicInteger ejecutadas = new AtomicInteger();
+
+    @AfterEach
+    void limpiar() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void sinTransaccion_seEjecutaEnElMomento() {
+        Transacciones.despuesDelCommit(ejecutadas::incrementAndGet);
+
+        assertEquals(1, ejecutadas.get());
+    }
+
+    @Test
+    void conTransaccion_esperaAlCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        Transacciones.despuesDelCommit(ejecutadas::incrementAndGet);
+        assertEquals(0, ejecutadas.get());
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertEquals(1, ejecutadas.get());
+    }
+
+    @Test
+    void conTransaccion_siSeRevierteNoSeEjecuta() {
+        TransactionSynchronizationManager.initSynchronization();
+        Transacciones.despuesDelCommit(ejecutadas::incrementAndGet);
+
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(0, ejecutadas.get());
+    }
+}
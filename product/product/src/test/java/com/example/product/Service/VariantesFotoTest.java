@@ -0,0 +1,244 @@
+package com.example.product.Service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+
+import javax.imageio.ImageIO;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.example.product.model.FotoVariante;
+import com.example.product.model.TamanoFoto;
+import com.example.product.model.Dto.FotoInfo;
+import com.example.product.model.Dto.FotoOriginal;
+import com.example.product.repository.FotoVarianteRepository;
+import com.example.product.repository.ProductRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class VariantesFotoTest {
+
+    private ProductRepository productRepository;
+    private FotoVarianteRepository fotoVarianteRepository;
+    private SimpleMeterRegistry registry;
+    private VariantesFoto variantes;
+
+    @BeforeEach
+    void setup() {
+        productRepository = mock(ProductRepository.class);
+        fotoVarianteRepository = mock(FotoVarianteRepository.class);
+        registry = new SimpleMeterRegistry();
+        variantes = new VariantesFoto(productRepository, fotoVarianteRepository,
+                mock(PlatformTransactionManager.class), 1, 10, registry);
+    }
+
+    @AfterEach
+    void cerrar() {
+        variantes.cerrar();
+    }
+
+    // ================= VALIDAR =================
+
+    @Test
+    void validar_leeFormatoYDimensiones() throws IOException {
+        VariantesFoto.Imagen imagen = variantes.validar(png(320, 240, false));
+
+        assertEquals("png", imagen.formato());
+        assertEquals(320, imagen.ancho());
+        assertEquals(240, imagen.alto());
+        assertNull(variantes.validar(null));
+    }
+
+    @Test
+    void validar_rechazaBytesQueNoSonImagen() {
+        assertThrows(IllegalArgumentException.class, () -> variantes.validar("foto".getBytes()));
+    }
+
+    @Test
+    void validar_rechazaFormatosNoSoportados() throws IOException {
+        ByteArrayOutputStream bmp = new ByteArrayOutputStream();
+        ImageIO.write(new BufferedImage(10, 10, BufferedImage.TYPE_INT_RGB), "bmp", bmp);
+
+        assertThrows(IllegalArgumentException.class, () -> variantes.validar(bmp.toByteArray()));
+    }
+
+    @Test
+    void validar_rechazaDemasiadosPixelesSinDecodificar() {
+        // Solo el encabezado de un PNG de 20000x20000: la validacion no necesita los pixeles
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> variantes.validar(encabezadoPng(20_000, 20_000)));
+
+        assertTrue(e.getMessage().contains("demasiado grande"));
+    }
+
+    // ================= RENDERIZAR =================
+
+    @Test
+    void renderizar_reduceManteniendoProporcion() throws IOException {
+        List<VariantesFoto.Variante> generadas = VariantesFoto.renderizar(png(2000, 1000, false));
+
+        assertEquals(List.of(TamanoFoto.MEDIANA, TamanoFoto.MINIATURA),
+                generadas.stream().map(VariantesFoto.Variante::tamano).toList());
+        assertDimensiones(generadas.get(0), 800, 400);
+        assertDimensiones(generadas.get(1), 200, 100);
+        // Sin transparencia se guardan en JPEG
+        assertEquals("image/jpeg", generadas.get(0).contentType());
+    }
+
+    @Test
+    void renderizar_noAgrandaFotosChicas() throws IOException {
+        List<VariantesFoto.Variante> generadas = VariantesFoto.renderizar(png(300, 150, false));
+
+        assertDimensiones(generadas.get(0), 300, 150);
+        assertDimensiones(generadas.get(1), 200, 100);
+    }
+
+    @Test
+    void renderizar_conTransparenciaQuedaEnPng() throws IOException {
+        List<VariantesFoto.Variante> generadas = VariantesFoto.renderizar(png(1000, 1000, true));
+
+        assertEquals("image/png", generadas.get(1).contentType());
+        BufferedImage miniatura = ImageIO.read(new ByteArrayInputStream(generadas.get(1).datos()));
+        assertTrue(miniatura.getColorModel().hasAlpha());
+    }
+
+    // ================= PROGRAMAR =================
+
+    @Test
+    void programar_generaEnSegundoPlanoYGuardaConElHash() throws IOException {
+        when(productRepository.findFotoOriginalById(1L)).thenReturn(Optional.of(original("h1", png(1600, 1200, false))));
+        when(productRepository.findFotoInfoById(1L)).thenReturn(Optional.of(info("h1")));
+
+        variantes.programar(1L, "h1");
+
+        verify(fotoVarianteRepository, timeout(5000).times(2)).save(argThat(v -> "h1".equals(v.getHashOriginal())));
+        verify(fotoVarianteRepository).borrarDeProducto(1L);
+    }
+
+    @Test
+    void programar_mientrasSeGenera_noEncolaOtraDecodificacion() throws Exception {
+        CountDownLatch leyendo = new CountDownLatch(1);
+        CountDownLatch seguir = new CountDownLatch(1);
+        byte[] foto = png(400, 300, false);
+        when(productRepository.findFotoOriginalById(1L)).thenAnswer(invocacion -> {
+            leyendo.countDown();
+            seguir.await();
+            return Optional.of(original("h1", foto));
+        });
+        when(productRepository.findFotoInfoById(1L)).thenReturn(Optional.of(info("h1")));
+
+        variantes.programar(1L, "h1");
+        assertTrue(leyendo.await(5, TimeUnit.SECONDS));
+        // Pedidos de la variante mientras la primera sigue generandose
+        variantes.programar(1L, "h1");
+        variantes.programar(1L, "h1");
+        seguir.countDown();
+
+        verify(fotoVarianteRepository, timeout(5000).times(2)).save(any(FotoVariante.class));
+        verify(productRepository, after(200).times(1)).findFotoOriginalById(1L);
+    }
+
+    @Test
+    void programar_siLaFotoCambioMientrasSeGeneraba_noGuarda() throws IOException {
+        when(productRepository.findFotoOriginalById(1L)).thenReturn(Optional.of(original("h1", png(400, 300, false))));
+        when(productRepository.findFotoInfoById(1L)).thenReturn(Optional.of(info("h2")));
+
+        variantes.programar(1L, "h1");
+
+        verify(productRepository, timeout(5000)).findFotoInfoById(1L);
+        verify(fotoVarianteRepository, never()).save(any(FotoVariante.class));
+    }
+
+    @Test
+    void programar_fotoQueNoSeDecodifica_noSeReintenta() {
+        // Encabezado valido pero sin pixeles: pasa la validacion y falla al decodificar
+        when(productRepository.findFotoOriginalById(1L)).thenReturn(Optional.of(original("roto", encabezadoPng(100, 100))));
+
+        variantes.programar(1L, "roto");
+        verify(productRepository, timeout(5000)).findFotoOriginalById(1L);
+        await(() -> registry.counter("productos.fotos.errores").count() == 1);
+
+        variantes.programar(1L, "roto");
+        verify(productRepository, after(200).times(1)).findFotoOriginalById(1L);
+        verify(fotoVarianteRepository, never()).save(any(FotoVariante.class));
+    }
+
+    private static void assertDimensiones(VariantesFoto.Variante variante, int ancho, int alto) throws IOException {
+        BufferedImage imagen = ImageIO.read(new ByteArrayInputStream(variante.datos()));
+        assertEquals(ancho, imagen.getWidth());
+        assertEquals(alto, imagen.getHeight());
+        assertEquals(ancho, variante.ancho());
+        assertEquals(alto, variante.alto());
+    }
+
+    private static byte[] png(int ancho, int alto, boolean alfa) throws IOException {
+        BufferedImage imagen = new BufferedImage(ancho, alto, alfa ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = imagen.createGraphics();
+        g.setColor(Color.BLUE);
+        g.fillRect(0, 0, ancho / 2, alto / 2);
+        g.dispose();
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+        ImageIO.write(imagen, "png", salida);
+        return salida.toByteArray();
+    }
+
+    // Firma PNG y chunk IHDR, sin datos de imagen
+    private static byte[] encabezadoPng(int ancho, int alto) {
+        ByteBuffer ihdr = ByteBuffer.allocate(17);
+        ihdr.put("IHDR".getBytes()).putInt(ancho).putInt(alto).put((byte) 8).put((byte) 2).put((byte) 0).put((byte) 0).put((byte) 0);
+        CRC32 crc = new CRC32();
+        crc.update(ihdr.array());
+
+        ByteBuffer png = ByteBuffer.allocate(8 + 4 + 17 + 4);
+        png.put(new byte[] {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        png.putInt(13).put(ihdr.array()).putInt((int) crc.getValue());
+        return png.array();
+    }
+
+    private static FotoOriginal original(String hash, byte[] foto) {
+        return new FotoOriginal() {
+            @Override
+            public String getPhotoHash() { return hash; }
+
+            @Override
+            public byte[] getPhoto() { return foto; }
+        };
+    }
+
+    private static FotoInfo info(String hash) {
+        return new FotoInfo() {
+            @Override
+            public String getPhotoHash() { return hash; }
+
+            @Override
+            public String getPhotoContentType() { return "image/png"; }
+        };
+    }
+
+    private static void await(java.util.function.BooleanSupplier condicion) {
+        long limite = System.currentTimeMillis() + 5000;
+        while (!condicion.getAsBoolean()) {
+            if (System.currentTimeMillis() > limite) {
+                fail("La condicion no se cumplio a tiempo");
+            }
+            Thread.onSpinWait();
+        }
+    }
+}
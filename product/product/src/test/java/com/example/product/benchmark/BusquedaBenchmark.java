@@ -0,0 +1,59 @@
+package com.example.product.benchmark;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import com.example.product.Service.IndiceBusqueda;
+
+// Latencia de IndiceBusqueda.buscar con un catalogo sintetico (por defecto 100.000 productos),
+// sin base de datos ni HTTP: mide solo el indice. Imprime p50 y p99 por consulta.
+//
+// Ejecutar con: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.product.benchmark.BusquedaBenchmark
+// Opciones: -Dbusqueda.productos=100000 -Dbusqueda.repeticiones=2000
+public class BusquedaBenchmark {
+
+    private static final String[] MARCAS = {"Sony", "Nintendo", "Sega", "Microsoft", "Atari", "Pokémon", "Zelda", "Mario"};
+    private static final String[] COSAS = {"Ps4", "Ps5", "Ps3", "Switch", "Xbox", "Game Boy", "Control", "Juego", "Cartucho", "Consola"};
+    private static final String[] ESTADOS = {"nuevo", "usado", "como nuevo", "con caja", "sin caja", "edición especial"};
+
+    private static final List<String> CONSULTAS = List.of(
+            "ps4", "ps", "pokemon rojo", "consola nueva", "nintendo switch usado", "zel", "game boy caja", "xyz");
+
+    public static void main(String[] args) {
+        int productos = Integer.getInteger("busqueda.productos", 100_000);
+        int repeticiones = Integer.getInteger("busqueda.repeticiones", 2000);
+
+        IndiceBusqueda indice = new IndiceBusqueda();
+        Random random = new Random(42);
+        long inicio = System.nanoTime();
+        for (long id = 1; id <= productos; id++) {
+            String nombre = elegir(random, MARCAS) + " " + elegir(random, COSAS) + " " + (id % 500);
+            String descripcion = "Vendo " + elegir(random, COSAS).toLowerCase() + " " + elegir(random, ESTADOS)
+                    + " " + elegir(random, MARCAS) + " modelo " + id;
+            indice.indexar(id, nombre, descripcion);
+        }
+        System.out.printf("Indexados %d productos en %d ms%n", indice.tamano(), (System.nanoTime() - inicio) / 1_000_000);
+
+        for (String consulta : CONSULTAS) {
+            // Calentamiento del JIT
+            for (int i = 0; i < repeticiones / 4; i++) {
+                indice.buscar(consulta, 0, 20);
+            }
+            long[] tiempos = new long[repeticiones];
+            int total = 0;
+            for (int i = 0; i < repeticiones; i++) {
+                long t = System.nanoTime();
+                total = indice.buscar(consulta, 0, 20).total();
+                tiempos[i] = System.nanoTime() - t;
+            }
+            Arrays.sort(tiempos);
+            System.out.printf("%-24s coincidencias=%-7d p50=%8.3f ms  p99=%8.3f ms%n", "\"" + consulta + "\"", total,
+                    tiempos[tiempos.length / 2] / 1e6, tiempos[(int) (tiempos.length * 0.99)] / 1e6);
+        }
+    }
+
+    private static String elegir(Random random, String[] opciones) {
+        return opciones[random.nextInt(opciones.length)];
+    }
+}
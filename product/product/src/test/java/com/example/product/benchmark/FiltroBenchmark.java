@@ -0,0 +1,176 @@
+package com.example.product.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+// Plan y latencia de las consultas de GET /duodeal/products/filter con un catalogo grande
+// (por defecto 1.000.000 de filas) en la base MySQL del servicio. La tabla y sus indices los
+// crea el servicio al arrancar (ddl-auto=update); si faltan filas se insertan productos sin foto.
+//
+// Para cada combinacion de filtros imprime el EXPLAIN y la latencia, y falla si alguna consulta
+// no usa idx_producto_iduser_price_id o idx_producto_price_id o si el Extra dice "Using filesort".
+// Los indices no son cubrientes: el resumen lleva name y description, que no estan en el indice,
+// asi que MySQL lee cada fila de la tabla. Lo que da el indice es el rango y el orden por precio
+// e id: recorre el rango en orden y se detiene al juntar las filas del LIMIT (a lo sumo 21 lecturas
+// de la tabla), sin importar el tamaño del catalogo. Las consultas tienen la misma forma que las
+// que arma ProductFiltroRepositoryImpl: solo columnas del resumen, nunca la foto.
+//
+// FiltroPlanTest hace la misma verificacion del plan dentro de mvn test cuando se pasa -Dfiltro.url.
+//
+// Ejecutar con: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.product.benchmark.FiltroBenchmark
+// Opciones: -Dfiltro.url=... -Dfiltro.usuario=root -Dfiltro.clave= -Dfiltro.filas=1000000 -Dfiltro.repeticiones=200
+public class FiltroBenchmark {
+
+    private static final String COLUMNAS =
+            "select id, iduser, name, description, price, stock, photo_hash, version from producto ";
+
+    private static final List<String> INDICES = List.of("idx_producto_iduser_price_id", "idx_producto_price_id");
+
+    record Escenario(String nombre, String sql, Object... parametros) {}
+
+    static final List<Escenario> ESCENARIOS = List.of(
+            new Escenario("vendedor + precio max + stock",
+                    COLUMNAS + "where iduser = ? and price <= ? and stock > 0 order by price asc, id asc limit 21",
+                    42L, 150000.0),
+            new Escenario("rango de precio + stock",
+                    COLUMNAS + "where price >= ? and price <= ? and stock > 0 order by price asc, id asc limit 21",
+                    100000.0, 150000.0),
+            new Escenario("vendedor, precio desc",
+                    COLUMNAS + "where iduser = ? order by price desc, id desc limit 21",
+                    42L),
+            new Escenario("rango de precio, pagina siguiente (cursor)",
+                    COLUMNAS + "where price <= ? and (price > ? or (price = ? and id > ?)) "
+                            + "order by price asc, id asc limit 21",
+                    150000.0, 120000.0, 120000.0, 500000L));
+
+    public static void main(String[] args) throws SQLException {
+        int repeticiones = Integer.getInteger("filtro.repeticiones", 200);
+
+        List<String> problemas = new ArrayList<>();
+        try (Connection conexion = conectar()) {
+            preparar(conexion);
+            for (Escenario escenario : ESCENARIOS) {
+                System.out.println("== " + escenario.nombre());
+                problemas.addAll(explicar(conexion, escenario));
+                medir(conexion, escenario, repeticiones);
+            }
+        }
+        if (!problemas.isEmpty()) {
+            throw new IllegalStateException("Plan inesperado:\n" + String.join("\n", problemas));
+        }
+    }
+
+    static Connection conectar() throws SQLException {
+        String url = System.getProperty("filtro.url", "jdbc:mysql://localhost:3306/db_duodeal_productos?rewriteBatchedStatements=true");
+        String usuario = System.getProperty("filtro.usuario", "root");
+        String clave = System.getProperty("filtro.clave", "");
+        return DriverManager.getConnection(url, usuario, clave);
+    }
+
+    // Completa el catalogo y actualiza las estadisticas, para que el optimizador elija con datos reales
+    static void preparar(Connection conexion) throws SQLException {
+        completarFilas(conexion, Integer.getInteger("filtro.filas", 1_000_000));
+        try (Statement st = conexion.createStatement()) {
+            st.execute("analyze table producto");
+        }
+    }
+
+    private static void completarFilas(Connection conexion, int filas) throws SQLException {
+        long actuales;
+        try (Statement st = conexion.createStatement(); ResultSet rs = st.executeQuery("select count(*) from producto")) {
+            rs.next();
+            actuales = rs.getLong(1);
+        }
+        if (actuales >= filas) {
+            System.out.printf("producto ya tiene %d filas%n", actuales);
+            return;
+        }
+        System.out.printf("insertando %d productos...%n", filas - actuales);
+        Random random = new Random(42);
+        conexion.setAutoCommit(false);
+        try (PreparedStatement ps = conexion.prepareStatement(
+                "insert into producto (iduser, name, description, price, stock, version) values (?, ?, ?, ?, ?, 0)")) {
+            for (long i = actuales; i < filas; i++) {
+                ps.setLong(1, 1 + random.nextInt(1000));
+                ps.setString(2, "Producto " + i);
+                ps.setString(3, "Descripcion del producto " + i);
+                ps.setDouble(4, 1000 + random.nextInt(500_000));
+                // Una parte sin stock, para que el filtro descarte algo
+                ps.setInt(5, random.nextInt(10) == 0 ? 0 : 1 + random.nextInt(20));
+                ps.addBatch();
+                if (i % 5000 == 4999) {
+                    ps.executeBatch();
+                    conexion.commit();
+                }
+            }
+            ps.executeBatch();
+            conexion.commit();
+        } finally {
+            conexion.setAutoCommit(true);
+        }
+    }
+
+    // Imprime el EXPLAIN y devuelve lo que no cumple: sin uno de los dos indices o con filesort
+    static List<String> explicar(Connection conexion, Escenario escenario) throws SQLException {
+        List<String> problemas = new ArrayList<>();
+        try (PreparedStatement ps = conexion.prepareStatement("explain " + escenario.sql())) {
+            asignar(ps, escenario.parametros());
+            try (ResultSet rs = ps.executeQuery()) {
+                ResultSetMetaData meta = rs.getMetaData();
+                while (rs.next()) {
+                    StringBuilder linea = new StringBuilder("   ");
+                    for (int i = 1; i <= meta.getColumnCount(); i++) {
+                        String columna = meta.getColumnLabel(i);
+                        if (List.of("type", "key", "rows", "filtered", "Extra").contains(columna)) {
+                            linea.append(columna).append('=').append(rs.getString(i)).append("  ");
+                        }
+                    }
+                    System.out.println(linea);
+                    String clave = rs.getString("key");
+                    String extra = rs.getString("Extra");
+                    if (clave == null || !INDICES.contains(clave)) {
+                        problemas.add(escenario.nombre() + ": usa el indice " + clave);
+                    }
+                    if (extra != null && extra.contains("filesort")) {
+                        problemas.add(escenario.nombre() + ": ordena con filesort (" + extra + ")");
+                    }
+                }
+            }
+        }
+        return problemas;
+    }
+
+    private static void medir(Connection conexion, Escenario escenario, int repeticiones) throws SQLException {
+        long[] tiempos = new long[repeticiones];
+        try (PreparedStatement ps = conexion.prepareStatement(escenario.sql())) {
+            asignar(ps, escenario.parametros());
+            for (int i = 0; i < repeticiones; i++) {
+                long t = System.nanoTime();
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        rs.getLong(1);
+                    }
+                }
+                tiempos[i] = System.nanoTime() - t;
+            }
+        }
+        Arrays.sort(tiempos);
+        System.out.printf("   p50=%.3f ms  p99=%.3f ms%n",
+                tiempos[tiempos.length / 2] / 1e6, tiempos[(int) (tiempos.length * 0.99)] / 1e6);
+    }
+
+    private static void asignar(PreparedStatement ps, Object[] parametros) throws SQLException {
+        for (int i = 0; i < parametros.length; i++) {
+            ps.setObject(i + 1, parametros[i]);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.product.benchmark;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+// El plan solo se puede comprobar en MySQL: H2 no usa (iduser, price, id) para ordenar por precio.
+// Corre con mvn test -Dfiltro.url=jdbc:mysql://... (mismas opciones que FiltroBenchmark); sin esa
+// propiedad se omite. Usa las mismas consultas que el benchmark, sin medir latencia.
+@EnabledIfSystemProperty(named = "filtro.url", matches = ".+")
+class FiltroPlanTest {
+
+    @Test
+    void consultasDelFiltro_usanElIndiceSinFilesort() throws Exception {
+        List<String> problemas = new ArrayList<>();
+        try (Connection conexion = FiltroBenchmark.conectar()) {
+            FiltroBenchmark.preparar(conexion);
+            for (FiltroBenchmark.Escenario escenario : FiltroBenchmark.ESCENARIOS) {
+                problemas.addAll(FiltroBenchmark.explicar(conexion, escenario));
+            }
+        }
+
+        assertTrue(problemas.isEmpty(), () -> String.join("\n", problemas));
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.product.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.example.product.model.FotoVariante;
+import com.example.product.model.Product;
+import com.example.product.model.TamanoFoto;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class FotoVarianteRepositoryTest {
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private FotoVarianteRepository fotoVarianteRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Product producto;
+
+    @BeforeEach
+    void setup() {
+        producto = new Product();
+        producto.setIduser(3L);
+        producto.setName("Ps4");
+        producto.setPrice(150000);
+        producto.setStock(0);
+        producto.setPhoto(new byte[] {(byte) 0x89, 'P', 'N', 'G', 0, 0, 0, 0});
+        producto = productRepository.save(producto);
+
+        fotoVarianteRepository.save(new FotoVariante(null, producto, TamanoFoto.MINIATURA, producto.getPhotoHash(),
+                "image/jpeg", 200, 100, new byte[] {1, 2}));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void soloDevuelveLaVarianteDeLaFotoActual() {
+        assertEquals("image/jpeg", fotoVarianteRepository
+                .findContentType(producto.getId(), TamanoFoto.MINIATURA, producto.getPhotoHash()).orElseThrow());
+        assertArrayEquals(new byte[] {1, 2}, fotoVarianteRepository
+                .findDatos(producto.getId(), TamanoFoto.MINIATURA, producto.getPhotoHash()).orElseThrow());
+
+        assertTrue(fotoVarianteRepository.findContentType(producto.getId(), TamanoFoto.MINIATURA, "otro-hash").isEmpty());
+        assertTrue(fotoVarianteRepository.findContentType(producto.getId(), TamanoFoto.MEDIANA, producto.getPhotoHash()).isEmpty());
+    }
+
+    @Test
+    void seBorranConElProducto_tambienEnBorradosMasivos() {
+        // El mismo DELETE masivo que usa la reserva de stock
+        productRepository.eliminarSinStock(List.of(producto.getId()));
+
+        assertEquals(0, fotoVarianteRepository.count());
+    }
+}
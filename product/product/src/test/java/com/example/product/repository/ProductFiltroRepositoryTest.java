@@ -0,0 +1,95 @@
+package com.example.product.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import com.example.product.model.Product;
+import com.example.product.model.Dto.FiltroProductos;
+import com.example.product.model.Dto.ProductoResumen;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class ProductFiltroRepositoryTest {
+
+    private static final Sort PRECIO_ASC = Sort.by(Sort.Order.asc("price"), Sort.Order.asc("id"));
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    private Product ps4;
+    private Product ps5;
+    private Product ps3;
+    private Product juego;
+
+    @BeforeEach
+    void setup() {
+        ps4 = guardar(3L, "Ps4", 150000, 2);
+        ps5 = guardar(3L, "Ps5", 450000, 1);
+        ps3 = guardar(3L, "Ps3", 100000, 0);
+        juego = guardar(7L, "Minecraft Ps4", 12000, 5);
+    }
+
+    // ================= FILTROS =================
+
+    @Test
+    void vendedorRangoDePrecioYStock() {
+        List<ProductoResumen> filas = productRepository.buscarResumenes(
+                ProductoSpecs.de(new FiltroProductos(null, 200000.0, true, 3L)), PRECIO_ASC, 10);
+
+        assertEquals(List.of(ps4.getId()), ids(filas));
+        assertEquals("Ps4", filas.get(0).getName());
+        assertEquals(ps4.getPhotoHash(), filas.get(0).getPhotoHash());
+    }
+
+    @Test
+    void sinFiltros_ordenadoPorPrecio() {
+        List<ProductoResumen> filas = productRepository.buscarResumenes(
+                ProductoSpecs.de(new FiltroProductos()), PRECIO_ASC, 10);
+
+        assertEquals(List.of(juego.getId(), ps3.getId(), ps4.getId(), ps5.getId()), ids(filas));
+    }
+
+    @Test
+    void precioMinimoDescendenteConLimite() {
+        List<ProductoResumen> filas = productRepository.buscarResumenes(
+                ProductoSpecs.de(new FiltroProductos(100000.0, null, null, null)),
+                Sort.by(Sort.Order.desc("price"), Sort.Order.desc("id")), 2);
+
+        assertEquals(List.of(ps5.getId(), ps4.getId()), ids(filas));
+    }
+
+    // ================= CURSOR =================
+
+    @Test
+    void despuesDe_continuaDondeQuedo() {
+        List<ProductoResumen> filas = productRepository.buscarResumenes(
+                ProductoSpecs.de(new FiltroProductos(null, null, true, null))
+                        .and(ProductoSpecs.despuesDe(12000, juego.getId(), true)),
+                PRECIO_ASC, 10);
+
+        assertEquals(List.of(ps4.getId(), ps5.getId()), ids(filas));
+    }
+
+    private Product guardar(Long iduser, String nombre, double precio, int stock) {
+        Product product = new Product();
+        product.setIduser(iduser);
+        product.setName(nombre);
+        product.setPrice(precio);
+        product.setStock(stock);
+        product.setPhoto(new byte[] {(byte) 0x89, 'P', 'N', 'G', 0, 0, 0, 0});
+        return productRepository.save(product);
+    }
+
+    private static List<Long> ids(List<ProductoResumen> filas) {
+        return filas.stream().map(ProductoResumen::getId).toList();
+    }
+}
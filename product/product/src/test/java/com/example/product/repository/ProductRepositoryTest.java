@@ -0,0 +1,74 @@
+package com.example.product.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.example.product.model.Product;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false"
+})
+class ProductRepositoryTest {
+
+    private static final byte[] FOTO = {(byte) 0x89, 'P', 'N', 'G', 0, 0, 0, 0};
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Product producto;
+
+    @BeforeEach
+    void setup() {
+        producto = new Product();
+        producto.setIduser(3L);
+        producto.setName("Ps4");
+        producto.setDescription("Con dos controles");
+        producto.setPrice(150000);
+        producto.setStock(2);
+        producto.setPhoto(FOTO);
+        producto = productRepository.save(producto);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void findSinFotoById_traeTodoMenosLosBytes() {
+        Product leido = productRepository.findSinFotoById(producto.getId()).orElseThrow();
+
+        assertEquals("Ps4", leido.getName());
+        assertEquals(2, leido.getStock());
+        assertEquals(producto.getPhotoHash(), leido.getPhotoHash());
+        assertEquals("image/png", leido.getPhotoContentType());
+        assertEquals(producto.getVersion(), leido.getVersion());
+        assertNull(leido.getPhoto());
+        assertTrue(productRepository.findSinFotoById(producto.getId() + 1).isEmpty());
+    }
+
+    @Test
+    void actualizarDatos_noTocaLaFotoYSubeLaVersion() {
+        assertEquals(1, productRepository.actualizarDatos(producto.getId(), producto.getVersion(), "Ps5", null, 200000, 1));
+
+        Product leido = productRepository.findById(producto.getId()).orElseThrow();
+        assertEquals("Ps5", leido.getName());
+        assertNull(leido.getDescription());
+        assertEquals(producto.getVersion() + 1, leido.getVersion());
+        assertArrayEquals(FOTO, leido.getPhoto());
+    }
+
+    @Test
+    void actualizarDatos_conVersionVieja_noActualiza() {
+        productRepository.actualizarDatos(producto.getId(), producto.getVersion(), "Ps5", null, 200000, 1);
+
+        assertEquals(0, productRepository.actualizarDatos(producto.getId(), producto.getVersion(), "Xbox", null, 1, 1));
+        assertEquals("Ps5", productRepository.findSinFotoById(producto.getId()).orElseThrow().getName());
+    }
+}
@@ -0,0 +1,175 @@
+package com.example.product.repository;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.product.Service.JwtVerifier;
+import com.example.product.Service.IndiceBusqueda;
+import com.example.product.Service.ProductService;
+import com.example.product.Service.ProductoCache;
+import com.example.product.Service.ReservaStockException;
+import com.example.product.Service.VariantesFoto;
+import com.example.product.model.Product;
+import com.example.product.model.Dto.LineaReserva;
+import com.example.product.model.Dto.ReservaStockDto;
+import com.example.product.model.Dto.UpdateStockDto;
+import com.example.product.webclient.usuarioclient;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Cada hilo corre su propia transaccion contra H2, como compras concurrentes reales
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.show-sql=false",
+        "jwt.secret=defaultSecretKeyForDevelopmentOnlyNotForProduction"
+})
+@Import({ProductService.class, JwtVerifier.class, ProductoCache.class, IndiceBusqueda.class, VariantesFoto.class,
+        ProductStockConcurrencyTest.Metricas.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ProductStockConcurrencyTest {
+
+    private static final int HILOS = 16;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockBean
+    private usuarioclient usuarioClient;
+
+    // @DataJpaTest no configura metricas; ProductoCache y VariantesFoto necesitan un registro
+    @TestConfiguration
+    static class Metricas {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @AfterEach
+    void limpiar() {
+        productRepository.deleteAll();
+    }
+
+    // ---------------- RESTAR STOCK CONCURRENTE ----------------
+
+    @Test
+    void restarStock_concurrente_noVendeDeMas() throws Exception {
+        Product product = guardarProducto(50);
+
+        List<UpdateStockDto> resultados = comprarEnParalelo(product.getId(), 1, 200);
+
+        long exitosas = resultados.stream().filter(r -> !"ERROR".equals(r.getStatus())).count();
+        long eliminados = resultados.stream().filter(r -> "ELIMINADO".equals(r.getStatus())).count();
+
+        assertEquals(50, exitosas);
+        assertEquals(1, eliminados);
+        assertFalse(productRepository.existsById(product.getId()));
+    }
+
+    @Test
+    void restarStock_concurrente_cantidadMayorAUno() throws Exception {
+        Product product = guardarProducto(10);
+
+        List<UpdateStockDto> resultados = comprarEnParalelo(product.getId(), 3, 40);
+
+        long exitosas = resultados.stream().filter(r -> "ACTUALIZADO".equals(r.getStatus())).count();
+
+        // 10 alcanza para 3 compras de 3 unidades; queda 1 y el producto no se borra
+        assertEquals(3, exitosas);
+        assertEquals(1, productRepository.findById(product.getId()).orElseThrow().getStock());
+    }
+
+    // ---------------- RESERVA EN LOTE ----------------
+
+    @Test
+    void reservarStock_todoONada() {
+        Product a = guardarProducto(5);
+        Product b = guardarProducto(1);
+
+        assertThrows(ReservaStockException.class, () -> productService.reservarStock(List.of(
+                new LineaReserva(a.getId(), 2), new LineaReserva(b.getId(), 2))));
+
+        // La linea que alcanzaba tambien se revirtio
+        assertEquals(5, productRepository.findById(a.getId()).orElseThrow().getStock());
+        assertEquals(1, productRepository.findById(b.getId()).orElseThrow().getStock());
+
+        ReservaStockDto ok = productService.reservarStock(List.of(
+                new LineaReserva(a.getId(), 2), new LineaReserva(b.getId(), 1)));
+
+        assertEquals("RESERVADO", ok.getStatus());
+        assertEquals(3, productRepository.findById(a.getId()).orElseThrow().getStock());
+        assertFalse(productRepository.existsById(b.getId()));
+    }
+
+    // ---------------- VERSION (ETAG) ----------------
+
+    @Test
+    void restarYReservarStock_subenLaVersion() {
+        Product product = guardarProducto(10);
+        long inicial = productService.obtenerVersion(product.getId());
+
+        productService.restarStockProducto(product.getId(), 1);
+        long trasRestar = productService.obtenerVersion(product.getId());
+        productService.reservarStock(List.of(new LineaReserva(product.getId(), 1)));
+        long trasReservar = productService.obtenerVersion(product.getId());
+
+        assertTrue(trasRestar > inicial);
+        assertTrue(trasReservar > trasRestar);
+        assertEquals(trasReservar, productService.getProducto(product.getId()).getVersion());
+    }
+
+    private Product guardarProducto(int stock) {
+        Product product = new Product();
+        product.setIduser(10L);
+        product.setName("Producto concurrente");
+        product.setPrice(1000);
+        product.setStock(stock);
+        return productRepository.save(product);
+    }
+
+    private List<UpdateStockDto> comprarEnParalelo(Long id, int cantidad, int compras) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(HILOS);
+        CountDownLatch largada = new CountDownLatch(1);
+        try {
+            List<Future<UpdateStockDto>> futuros = new ArrayList<>();
+            for (int i = 0; i < compras; i++) {
+                Callable<UpdateStockDto> compra = () -> {
+                    largada.await();
+                    return productService.restarStockProducto(id, cantidad);
+                };
+                futuros.add(executor.submit(compra));
+            }
+            largada.countDown();
+
+            List<UpdateStockDto> resultados = new ArrayList<>();
+            for (Future<UpdateStockDto> futuro : futuros) {
+                resultados.add(futuro.get());
+            }
+            return resultados;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.product.webclient;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import reactor.core.publisher.Mono;
+
+class AgrupadorUsuariosTest {
+
+    private List<List<Long>> lotes;
+    private List<String> tokens;
+
+    @BeforeEach
+    void setup() {
+        lotes = new CopyOnWriteArrayList<>();
+        tokens = new CopyOnWriteArrayList<>();
+    }
+
+    private AgrupadorUsuarios agrupador(Duration ventana, int maxLote) {
+        return new AgrupadorUsuarios((ids, token) -> {
+            lotes.add(ids);
+            tokens.add(token);
+            // El usuario 99 no existe
+            return Mono.just(ids.stream()
+                    .filter(id -> id != 99L)
+                    .collect(Collectors.toMap(id -> id, id -> Map.<String, Object>of("id", id))));
+        }, ventana, maxLote);
+    }
+
+    @Test
+    void pedir_juntaLosPedidosDeLaVentanaEnUnLote() {
+        AgrupadorUsuarios agrupador = agrupador(Duration.ofMillis(50), 100);
+
+        // zip se suscribe a los tres a la vez, como tres pedidos concurrentes
+        var resultado = Mono.zip(agrupador.pedir(1L, "t1"), agrupador.pedir(2L, "t1"), agrupador.pedir(1L, "t1"))
+                .block(Duration.ofSeconds(2));
+
+        assertEquals(1L, resultado.getT1().get("id"));
+        assertEquals(2L, resultado.getT2().get("id"));
+        assertEquals(1L, resultado.getT3().get("id"));
+        assertEquals(List.of(List.of(1L, 2L)), lotes);
+    }
+
+    @Test
+    void pedir_noMezclaTokens() {
+        AgrupadorUsuarios agrupador = agrupador(Duration.ofMillis(50), 100);
+
+        Mono.zip(agrupador.pedir(1L, "t1"), agrupador.pedir(2L, "t2")).block(Duration.ofSeconds(2));
+
+        assertEquals(2, lotes.size());
+        assertTrue(tokens.containsAll(List.of("t1", "t2")));
+    }
+
+    @Test
+    void pedir_loteLlenoSeEnviaSinEsperarLaVentana() {
+        AgrupadorUsuarios agrupador = agrupador(Duration.ofMinutes(5), 2);
+
+        assertNotNull(Mono.zip(agrupador.pedir(1L, "t1"), agrupador.pedir(2L, "t1")).block(Duration.ofSeconds(2)));
+        assertEquals(List.of(List.of(1L, 2L)), lotes);
+    }
+
+    @Test
+    void pedir_usuarioQueNoVieneEnElLoteFalla() {
+        AgrupadorUsuarios agrupador = agrupador(Duration.ofMillis(10), 100);
+
+        RuntimeException ex = assertThrows(RuntimeException.class,
+                () -> agrupador.pedir(99L, "t1").block(Duration.ofSeconds(2)));
+
+        assertTrue(ex.getMessage().contains("99"));
+    }
+}
@@ -2,6 +2,7 @@ package com.example.user.config;
 
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
+import com.example.user.service.JwtPrincipal;
 import com.example.user.service.JwtUtil;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,10 +18,14 @@ import java.util.Collections;
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
+    public static final String ATRIBUTO_PRINCIPAL = JwtAuthenticationFilter.class.getName() + ".principal";
+
     private final JwtUtil jwtUtil;
+    private final TokenVerificadoCache tokenCache;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil) {
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, TokenVerificadoCache tokenCache) {
         this.jwtUtil = jwtUtil;
+        this.tokenCache = tokenCache;
     }
 
     @Override
@@ -30,17 +35,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
             
-            if (token != null && jwtUtil.esTokenValido(token)) {
-                String username = jwtUtil.obtenerUsername(token);
-                String rol = jwtUtil.obtenerRol(token);
-                
+            // Un token ya verificado se resuelve desde la cache; si no, un solo parseo
+            // valida el token y entrega usuario, rol, id y expiración
+            JwtPrincipal principal = token != null ? tokenCache.obtener(token) : null;
+            if (principal != null) {
                 Authentication auth = new UsernamePasswordAuthenticationToken(
-                    username, 
+                    principal, 
                     null, 
-                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + rol))
+                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + principal.rol()))
                 );
                 
                 SecurityContextHolder.getContext().setAuthentication(auth);
+                // El controlador lo lee de aquí en vez de volver a validar el token
+                request.setAttribute(ATRIBUTO_PRINCIPAL, principal);
             }
         } catch (Exception e) {
             logger.error("Error procesando JWT: " + e.getMessage());
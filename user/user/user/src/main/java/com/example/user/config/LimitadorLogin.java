@@ -0,0 +1,266 @@
+package com.example.user.config;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Limite de intentos de login antes de tocar la base o BCrypt. Cada email y cada IP tienen un
+// balde de fichas que se recarga con el tiempo; un intento gasta una ficha y sin fichas se
+// rechaza (429). Ademas, N fallos seguidos de un mismo email dentro de la ventana lo bloquean
+// un rato. El estado vive en franjas con su propio lock (ReentrantLock, no synchronized, para
+// no fijar hilos virtuales), asi que logins de emails distintos casi nunca compiten
+@Component
+public class LimitadorLogin {
+
+    public record Decision(boolean permitido, long reintentarEnSegundos) {
+        static final Decision PERMITIDO = new Decision(true, 0);
+    }
+
+    private record Cuota(double capacidad, double recargaPorNano) {}
+
+    private static final class Estado {
+        final Cuota cuota;
+        double fichas;
+        long ultimaRecarga;
+        int fallos;
+        long inicioFallos;
+        long bloqueadoHasta;
+
+        Estado(Cuota cuota, long ahora) {
+            this.cuota = cuota;
+            this.fichas = cuota.capacidad();
+            this.ultimaRecarga = ahora;
+            this.bloqueadoHasta = ahora;
+        }
+    }
+
+    private static final class Franja {
+        final ReentrantLock lock = new ReentrantLock();
+        final HashMap<String, Estado> estados = new HashMap<>();
+    }
+
+    private final LongSupplier reloj;
+    private final Franja[] franjas;
+    private final Cuota porCorreo;
+    private final Cuota porIp;
+    private final int maxFallos;
+    private final long ventanaFallos;
+    private final long bloqueo;
+
+    private final Counter permitidos;
+    private final Counter rechazadosIp;
+    private final Counter rechazadosCorreo;
+    private final Counter rechazadosBloqueo;
+    private final Counter fallos;
+    private final Counter bloqueos;
+
+    @Autowired
+    public LimitadorLogin(@Value("${seguridad.login.por-correo:10}") int porCorreo,
+                          @Value("${seguridad.login.por-ip:60}") int porIp,
+                          @Value("${seguridad.login.max-fallos:5}") int maxFallos,
+                          @Value("${seguridad.login.ventana-fallos:15m}") Duration ventanaFallos,
+                          @Value("${seguridad.login.bloqueo:5m}") Duration bloqueo,
+                          @Value("${seguridad.login.franjas:64}") int franjas,
+                          MeterRegistry registry) {
+        this(System::nanoTime, porCorreo, porIp, maxFallos, ventanaFallos, bloqueo, franjas, registry);
+    }
+
+    // porCorreo / porIp: intentos por minuto, que tambien son el maximo de una rafaga
+    LimitadorLogin(LongSupplier reloj, int porCorreo, int porIp, int maxFallos,
+                   Duration ventanaFallos, Duration bloqueo, int franjas, MeterRegistry registry) {
+        this.reloj = reloj;
+        this.porCorreo = new Cuota(porCorreo, porCorreo / (double) TimeUnit.MINUTES.toNanos(1));
+        this.porIp = new Cuota(porIp, porIp / (double) TimeUnit.MINUTES.toNanos(1));
+        this.maxFallos = maxFallos;
+        this.ventanaFallos = ventanaFallos.toNanos();
+        this.bloqueo = bloqueo.toNanos();
+        // Potencia de dos para elegir la franja con una mascara
+        this.franjas = new Franja[Integer.highestOneBit(Math.max(1, franjas - 1)) << 1];
+        for (int i = 0; i < this.franjas.length; i++) {
+            this.franjas[i] = new Franja();
+        }
+
+        this.permitidos = contador(registry, "permitido");
+        this.rechazadosIp = contador(registry, "ip");
+        this.rechazadosCorreo = contador(registry, "correo");
+        this.rechazadosBloqueo = contador(registry, "bloqueado");
+        this.fallos = Counter.builder("login.fallos")
+                .description("Inicios de sesión con credenciales incorrectas")
+                .register(registry);
+        this.bloqueos = Counter.builder("login.bloqueos")
+                .description("Emails bloqueados temporalmente por fallos seguidos")
+                .register(registry);
+        Gauge.builder("login.limitador.claves", this, LimitadorLogin::tamano)
+                .description("Emails e IPs con estado en el limitador")
+                .register(registry);
+    }
+
+    /**
+     * Decide si se atiende un intento de login. Si se permite, gasta una ficha del email y otra de la IP
+     */
+    public Decision verificar(String correo, String ip) {
+        long ahora = reloj.getAsLong();
+        String claveCorreo = claveCorreo(correo);
+
+        // El bloqueo se revisa primero y no gasta fichas
+        long espera = bloqueoRestante(claveCorreo, ahora);
+        if (espera > 0) {
+            rechazadosBloqueo.increment();
+            return rechazo(espera);
+        }
+        // La IP antes que el email: probar emails al azar desde una IP no llena el mapa
+        if (ip != null) {
+            espera = consumir("i:" + ip, porIp, ahora);
+            if (espera > 0) {
+                rechazadosIp.increment();
+                return rechazo(espera);
+            }
+        }
+        espera = consumir(claveCorreo, porCorreo, ahora);
+        if (espera > 0) {
+            rechazadosCorreo.increment();
+            return rechazo(espera);
+        }
+        permitidos.increment();
+        return Decision.PERMITIDO;
+    }
+
+    public void registrarFallo(String correo) {
+        long ahora = reloj.getAsLong();
+        String clave = claveCorreo(correo);
+        fallos.increment();
+        Franja franja = franja(clave);
+        franja.lock.lock();
+        try {
+            Estado estado = franja.estados.computeIfAbsent(clave, k -> new Estado(porCorreo, ahora));
+            if (estado.fallos == 0 || ahora - estado.inicioFallos > ventanaFallos) {
+                estado.fallos = 0;
+                estado.inicioFallos = ahora;
+            }
+            if (++estado.fallos >= maxFallos) {
+                estado.fallos = 0;
+                estado.bloqueadoHasta = ahora + bloqueo;
+                bloqueos.increment();
+            }
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    public void registrarExito(String correo) {
+        String clave = claveCorreo(correo);
+        Franja franja = franja(clave);
+        franja.lock.lock();
+        try {
+            Estado estado = franja.estados.get(clave);
+            if (estado != null) {
+                estado.fallos = 0;
+            }
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    /**
+     * Quita las claves que volverian a crearse igual: balde lleno, sin bloqueo y sin fallos vigentes
+     */
+    @Scheduled(fixedDelayString = "${seguridad.login.limpieza:60000}")
+    public void limpiar() {
+        for (Franja franja : franjas) {
+            franja.lock.lock();
+            try {
+                long ahora = reloj.getAsLong();
+                franja.estados.values().removeIf(estado -> {
+                    recargar(estado, ahora);
+                    return estado.fichas >= estado.cuota.capacidad()
+                            && estado.bloqueadoHasta - ahora <= 0
+                            && (estado.fallos == 0 || ahora - estado.inicioFallos > ventanaFallos);
+                });
+            } finally {
+                franja.lock.unlock();
+            }
+        }
+    }
+
+    int tamano() {
+        int total = 0;
+        for (Franja franja : franjas) {
+            franja.lock.lock();
+            try {
+                total += franja.estados.size();
+            } finally {
+                franja.lock.unlock();
+            }
+        }
+        return total;
+    }
+
+    private long bloqueoRestante(String clave, long ahora) {
+        Franja franja = franja(clave);
+        franja.lock.lock();
+        try {
+            Estado estado = franja.estados.get(clave);
+            return estado == null ? 0 : Math.max(0, estado.bloqueadoHasta - ahora);
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    // 0 si habia ficha; si no, nanos hasta la proxima
+    private long consumir(String clave, Cuota cuota, long ahora) {
+        Franja franja = franja(clave);
+        franja.lock.lock();
+        try {
+            Estado estado = franja.estados.computeIfAbsent(clave, k -> new Estado(cuota, ahora));
+            recargar(estado, ahora);
+            if (estado.fichas >= 1) {
+                estado.fichas -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - estado.fichas) / cuota.recargaPorNano());
+        } finally {
+            franja.lock.unlock();
+        }
+    }
+
+    private static void recargar(Estado estado, long ahora) {
+        long transcurrido = ahora - estado.ultimaRecarga;
+        if (transcurrido > 0) {
+            estado.fichas = Math.min(estado.cuota.capacidad(),
+                    estado.fichas + transcurrido * estado.cuota.recargaPorNano());
+            estado.ultimaRecarga = ahora;
+        }
+    }
+
+    private Franja franja(String clave) {
+        int h = clave.hashCode();
+        return franjas[(h ^ (h >>> 16)) & (franjas.length - 1)];
+    }
+
+    private static String claveCorreo(String correo) {
+        return "c:" + correo.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Decision rechazo(long esperaNanos) {
+        return new Decision(false, Math.max(1, Math.ceilDiv(esperaNanos, TimeUnit.SECONDS.toNanos(1))));
+    }
+
+    private static Counter contador(MeterRegistry registry, String resultado) {
+        return Counter.builder("login.limitador")
+                .description("Intentos de login según la decisión del limitador")
+                .tag("resultado", resultado)
+                .register(registry);
+    }
+}
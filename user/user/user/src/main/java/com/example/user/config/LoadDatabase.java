@@ -6,40 +6,35 @@ import org.springframework.context.annotation.Configuration;
 
 import com.example.user.model.Rol;
 import com.example.user.repository.RoleRepository;
+import com.example.user.service.RoleService;
 import com.example.user.service.UserService;
 
 @Configuration
 public class LoadDatabase {
 
     @Bean
-    CommandLineRunner initDatabase(RoleRepository roleRepo, UserService usuarioService) {
+    CommandLineRunner initDatabase(RoleRepository roleRepo, RoleService roleService, UserService usuarioService) {
         return args -> {
             if (roleRepo.count() == 0) {
                 // Crear roles
                 Rol admin = new Rol();
                 admin.setNombre("ADMIN");
-                roleRepo.save(admin);
+                roleService.guardarRol(admin);
 
                 Rol user = new Rol();
                 user.setNombre("USER");
-                roleRepo.save(user);
+                roleService.guardarRol(user);
 
                 Rol dealer = new Rol();
                 dealer.setNombre("DEALER");
-                roleRepo.save(dealer);
+                roleService.guardarRol(dealer);
             }
 
-            if (usuarioService.buscarUsuarios().isEmpty()) {
+            if (!usuarioService.existenUsuarios()) {
                 // Obtener IDs de roles
-                Long adminRoleId = roleRepo.findByNombre("ADMIN")
-                        .orElseThrow(() -> new RuntimeException("Rol ADMIN no encontrado"))
-                        .getId();
-                Long userRoleId = roleRepo.findByNombre("USER")
-                        .orElseThrow(() -> new RuntimeException("Rol USER no encontrado"))
-                        .getId();
-                Long dealerRoleId = roleRepo.findByNombre("DEALER")
-                        .orElseThrow(() -> new RuntimeException("Rol DEALER no encontrado"))
-                        .getId();
+                Long adminRoleId = roleService.obtenerRolPorNombre("ADMIN").getId();
+                Long userRoleId = roleService.obtenerRolPorNombre("USER").getId();
+                Long dealerRoleId = roleService.obtenerRolPorNombre("DEALER").getId();
 
                 // Crear usuarios usando el servicio (con contraseña cifrada, etc)
                 usuarioService.crearUsuario("admin", "admin123", "admin@gmail.com", adminRoleId);
@@ -0,0 +1,99 @@
+package com.example.user.config;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+// BCrypt en un pool propio y acotado. El hash usa CPU a proposito; si corre en el hilo de la
+// peticion, una ola de logins se come todos los nucleos y endpoints como /users/{id} (que cart y
+// product llaman en cada escritura) quedan esperando. Aqui como mucho "hilos" hashes corren a la vez,
+// los demas esperan en una cola acotada y, si la cola esta llena, se rechaza enseguida
+// (HashingSaturadoException -> 503) en vez de acumular peticiones
+public class PasswordEncoderAcotado implements PasswordEncoder {
+
+    private static final Pattern COSTO_BCRYPT = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final BCryptPasswordEncoder bcrypt;
+    private final int costo;
+    private final ThreadPoolExecutor executor;
+    private final Duration espera;
+
+    public static class HashingSaturadoException extends RuntimeException {
+        public HashingSaturadoException(String mensaje) {
+            super(mensaje);
+        }
+    }
+
+    public PasswordEncoderAcotado(int costo, int hilos, int cola, Duration espera, MeterRegistry registry) {
+        this.bcrypt = new BCryptPasswordEncoder(costo);
+        this.costo = costo;
+        this.espera = espera;
+        this.executor = new ThreadPoolExecutor(hilos, hilos, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(cola),
+                Thread.ofPlatform().name("bcrypt-", 0).daemon(true).factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        ExecutorServiceMetrics.monitor(registry, executor, "bcrypt");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return ejecutar(() -> bcrypt.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return ejecutar(() -> bcrypt.matches(rawPassword, encodedPassword));
+    }
+
+    // true si el hash guardado tiene otro costo que el configurado (mas bajo o mas alto):
+    // al iniciar sesion se vuelve a hashear con el costo actual
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher m = COSTO_BCRYPT.matcher(encodedPassword);
+        return m.find() && Integer.parseInt(m.group(1)) != costo;
+    }
+
+    public void cerrar() {
+        executor.shutdown();
+    }
+
+    private <T> T ejecutar(Callable<T> tarea) {
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(tarea);
+        } catch (RejectedExecutionException e) {
+            throw new HashingSaturadoException("Demasiadas operaciones de contraseña simultáneas, intenta de nuevo en unos segundos");
+        }
+        try {
+            return futuro.get(espera.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            throw new HashingSaturadoException("Demasiadas operaciones de contraseña simultáneas, intenta de nuevo en unos segundos");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Hash de contraseña interrumpido", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException re) {
+                throw re;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.example.user.config;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Semaphore;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+// Conexiones SMTP abiertas que se reutilizan entre envios. JavaMailSender abre (TCP + STARTTLS + AUTH)
+// y cierra una conexion en cada send(); aqui la conexion vuelve al pool y el siguiente envio la usa.
+// Las que pasan mas de max-inactiva sin usarse se cierran, antes de que el servidor las corte
+@Component
+public class PoolSesionesSmtp {
+
+    private final JavaMailSenderImpl mailSender;
+    private final Semaphore permisos;
+    private final Duration maxInactiva;
+    private final int precalentadas;
+
+    // LIFO: se usa primero la ultima devuelta y las del fondo van venciendo por inactividad
+    private final ConcurrentLinkedDeque<Sesion> libres = new ConcurrentLinkedDeque<>();
+
+    private final Counter enviados;
+    private final Counter fallidos;
+    private final Counter sesionesNuevas;
+    private final Counter sesionesReusadas;
+
+    private static final class Sesion {
+        private final Transport transporte;
+        // Lo lee tambien el hilo de cerrarInactivas
+        private volatile long ultimoUso = System.nanoTime();
+
+        private Sesion(Transport transporte) {
+            this.transporte = transporte;
+        }
+    }
+
+    public PoolSesionesSmtp(JavaMailSenderImpl mailSender,
+                            MeterRegistry registry,
+                            @Value("${correo.smtp.max-sesiones:4}") int maxSesiones,
+                            @Value("${correo.smtp.max-inactiva:60s}") Duration maxInactiva,
+                            @Value("${correo.smtp.precalentadas:1}") int precalentadas) {
+        this.mailSender = mailSender;
+        this.permisos = new Semaphore(maxSesiones, true);
+        this.maxInactiva = maxInactiva;
+        this.precalentadas = Math.min(precalentadas, maxSesiones);
+
+        // correo.enviados es un contador: el backend de metricas lo expone como correos/seg
+        this.enviados = Counter.builder("correo.enviados").tag("resultado", "ok").register(registry);
+        this.fallidos = Counter.builder("correo.enviados").tag("resultado", "error").register(registry);
+        this.sesionesNuevas = Counter.builder("correo.smtp.sesiones").tag("tipo", "nueva").register(registry);
+        this.sesionesReusadas = Counter.builder("correo.smtp.sesiones").tag("tipo", "reusada").register(registry);
+        Gauge.builder("correo.smtp.reuso", this, PoolSesionesSmtp::tasaReuso)
+                .description("Fraccion de envios que reutilizaron una conexion SMTP abierta")
+                .register(registry);
+        Gauge.builder("correo.smtp.sesiones.libres", libres, ConcurrentLinkedDeque::size).register(registry);
+    }
+
+    /**
+     * Envia los mensajes por una sola conexion del pool. Si alguno falla lanza MailSendException
+     * con los mensajes que no se enviaron (igual que JavaMailSender.send)
+     */
+    public void enviar(List<MimeMessage> mensajes) {
+        Map<Object, Exception> noEnviados = new LinkedHashMap<>();
+        try {
+            permisos.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MailSendException("Envio interrumpido", e);
+        }
+
+        Sesion sesion = null;
+        try {
+            sesion = tomar();
+            for (int i = 0; i < mensajes.size(); i++) {
+                MimeMessage mensaje = mensajes.get(i);
+                try {
+                    preparar(mensaje);
+                    try {
+                        sesion.transporte.sendMessage(mensaje, mensaje.getAllRecipients());
+                    } catch (MessagingException e) {
+                        if (sesion.transporte.isConnected()) {
+                            throw e;
+                        }
+                        // El servidor cerro la conexion: se reconecta y se reintenta una vez
+                        cerrar(sesion);
+                        sesion = null;
+                        sesion = conectar();
+                        sesion.transporte.sendMessage(mensaje, mensaje.getAllRecipients());
+                    }
+                    enviados.increment();
+                } catch (MessagingException e) {
+                    fallidos.increment();
+                    noEnviados.put(mensaje, e);
+                    if (sesion == null) {
+                        // No se pudo reconectar: los que siguen tampoco pueden salir
+                        fallar(mensajes.subList(i + 1, mensajes.size()), e, noEnviados);
+                        break;
+                    }
+                }
+            }
+        } catch (MessagingException e) {
+            // No se pudo conectar: ningun mensaje salio
+            fallar(mensajes, e, noEnviados);
+        } finally {
+            devolver(sesion);
+            permisos.release();
+        }
+
+        if (!noEnviados.isEmpty()) {
+            throw new MailSendException(noEnviados);
+        }
+    }
+
+    private static void preparar(MimeMessage mensaje) throws MessagingException {
+        if (mensaje.getSentDate() == null) {
+            mensaje.setSentDate(new Date());
+        }
+        mensaje.saveChanges();
+    }
+
+    private void fallar(List<MimeMessage> mensajes, Exception causa, Map<Object, Exception> noEnviados) {
+        for (MimeMessage mensaje : mensajes) {
+            fallidos.increment();
+            noEnviados.put(mensaje, causa);
+        }
+    }
+
+    private Sesion tomar() throws MessagingException {
+        Sesion sesion;
+        while ((sesion = libres.pollFirst()) != null) {
+            if (!vencida(sesion) && sesion.transporte.isConnected()) {
+                sesionesReusadas.increment();
+                return sesion;
+            }
+            cerrar(sesion);
+        }
+        return conectar();
+    }
+
+    private Sesion conectar() throws MessagingException {
+        // Mismo criterio que JavaMailSenderImpl para elegir el protocolo
+        String protocolo = mailSender.getProtocol();
+        if (protocolo == null) {
+            protocolo = mailSender.getSession().getProperty("mail.transport.protocol");
+        }
+        Transport transporte = mailSender.getSession().getTransport(protocolo == null ? "smtp" : protocolo);
+        transporte.connect(mailSender.getHost(), mailSender.getPort(), mailSender.getUsername(), mailSender.getPassword());
+        sesionesNuevas.increment();
+        return new Sesion(transporte);
+    }
+
+    private void devolver(Sesion sesion) {
+        if (sesion == null) {
+            return;
+        }
+        // Si quedo cortada se detecta en tomar() con isConnected (NOOP) y se descarta
+        sesion.ultimoUso = System.nanoTime();
+        libres.offerFirst(sesion);
+    }
+
+    private boolean vencida(Sesion sesion) {
+        return System.nanoTime() - sesion.ultimoUso > maxInactiva.toNanos();
+    }
+
+    private void cerrar(Sesion sesion) {
+        try {
+            sesion.transporte.close();
+        } catch (MessagingException e) {
+            // la conexion ya estaba cortada
+        }
+    }
+
+    private double tasaReuso() {
+        double total = sesionesNuevas.count() + sesionesReusadas.count();
+        return total == 0 ? 0 : sesionesReusadas.count() / total;
+    }
+
+    // Abre conexiones al arrancar para que el primer correo no pague el handshake.
+    // Se hace en un hilo aparte: si el SMTP no responde el servicio igual arranca
+    @EventListener(ApplicationReadyEvent.class)
+    public void precalentar() {
+        Thread.ofVirtual().name("smtp-precalentar").start(() -> {
+            for (int i = 0; i < precalentadas; i++) {
+                try {
+                    libres.offerLast(conectar());
+                } catch (MessagingException e) {
+                    System.err.println("No se pudo precalentar la conexion SMTP: " + e.getMessage());
+                    return;
+                }
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${correo.smtp.revision-inactivas:30000}")
+    public void cerrarInactivas() {
+        Iterator<Sesion> it = libres.descendingIterator();
+        while (it.hasNext()) {
+            Sesion sesion = it.next();
+            if (vencida(sesion) && libres.removeFirstOccurrence(sesion)) {
+                cerrar(sesion);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void cerrarTodas() {
+        Sesion sesion;
+        while ((sesion = libres.pollFirst()) != null) {
+            cerrar(sesion);
+        }
+    }
+}
@@ -1,16 +1,20 @@
 package com.example.user.config;
 
+import java.time.Duration;
+
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import io.micrometer.core.instrument.MeterRegistry;
+
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
@@ -18,9 +22,18 @@ public class SecurityConfig {
     @Autowired
     private JwtAuthenticationFilter jwtAuthenticationFilter;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    // BCrypt con costo configurable, en un pool acotado (ver PasswordEncoderAcotado)
+    @Bean(destroyMethod = "cerrar")
+    public PasswordEncoder passwordEncoder(
+            @Value("${seguridad.bcrypt.costo:10}") int costo,
+            @Value("${seguridad.bcrypt.hilos:0}") int hilos,
+            @Value("${seguridad.bcrypt.cola:200}") int cola,
+            @Value("${seguridad.bcrypt.espera:5s}") Duration espera,
+            MeterRegistry registry) {
+        // Por defecto deja un nucleo libre para el resto de los endpoints
+        int nucleos = Runtime.getRuntime().availableProcessors();
+        int hilosEfectivos = hilos > 0 ? hilos : Math.max(1, nucleos - 1);
+        return new PasswordEncoderAcotado(costo, hilosEfectivos, cola, espera, registry);
     }
 
     @Bean
@@ -32,6 +45,8 @@ public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
             .requestMatchers("/duodeal/users").permitAll()
             .requestMatchers("/duodeal/users/**").permitAll()
             .requestMatchers("/duodeal/roles/**").hasRole("ADMIN")
+            .requestMatchers("/actuator/health").permitAll()
+            .requestMatchers("/actuator/**").hasRole("ADMIN")
 
             .requestMatchers(
                 "/v3/api-docs/**",
@@ -0,0 +1,98 @@
+package com.example.user.config;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.user.service.JwtPrincipal;
+import com.example.user.service.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Tokens ya verificados: SHA-256 del token -> principal. La firma HMAC se verifica
+// una sola vez por token y cada entrada vence exactamente con el exp del token.
+// Los tokens invalidos no se guardan.
+@Component
+public class TokenVerificadoCache {
+
+    private static final String NOMBRE = "jwt-verificados";
+
+    private final JwtUtil jwtUtil;
+    private final Cache<String, JwtPrincipal> cache;
+
+    public TokenVerificadoCache(
+            JwtUtil jwtUtil,
+            @Value("${jwt.cache.max-entries:10000}") long maxEntradas,
+            MeterRegistry registry) {
+        this.jwtUtil = jwtUtil;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long ahora) {
+                        return vidaRestante(principal);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long ahora, long restante) {
+                        return vidaRestante(principal);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long ahora, long restante) {
+                        return restante;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, cache, NOMBRE);
+        Gauge.builder("cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .tag("cache", NOMBRE)
+                .description("Proporción de tokens resueltos sin verificar la firma")
+                .register(registry);
+    }
+
+    // Principal del token, verificándolo solo si no está en la cache; null si no es válido
+    public JwtPrincipal obtener(String token) {
+        String clave = digest(token);
+        JwtPrincipal principal = cache.getIfPresent(clave);
+        if (principal != null) {
+            return principal;
+        }
+        principal = jwtUtil.obtenerPrincipal(token);
+        if (principal != null && principal.expiracion().isAfter(Instant.now())) {
+            cache.put(clave, principal);
+        }
+        return principal;
+    }
+
+    public long tamano() {
+        cache.cleanUp();
+        return cache.estimatedSize();
+    }
+
+    private static long vidaRestante(JwtPrincipal principal) {
+        return Math.max(0, Duration.between(Instant.now(), principal.expiracion()).toNanos());
+    }
+
+    private static String digest(String token) {
+        try {
+            // La clave guarda el hash y no el token, asi la cache no retiene credenciales
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible", e);
+        }
+    }
+}
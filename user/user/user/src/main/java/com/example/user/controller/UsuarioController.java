@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -21,14 +22,22 @@ import com.example.user.model.Rol;
 import com.example.user.model.SolicitarResetRequest;
 import com.example.user.model.User;
 import com.example.user.model.Dto.ChangeusernameRequest;
+import com.example.user.model.Dto.PaginaUsuarios;
 import com.example.user.model.Dto.UserUpdateResponse;
+import com.example.user.model.Dto.UsuarioResumen;
+import com.example.user.config.JwtAuthenticationFilter;
+import com.example.user.config.LimitadorLogin;
+import com.example.user.config.PasswordEncoderAcotado;
+import com.example.user.service.CredencialesInvalidasException;
 import com.example.user.service.JwtPasswordReset;
+import com.example.user.service.JwtPrincipal;
 import com.example.user.service.JwtUtil;
 import com.example.user.service.RoleService;
 import com.example.user.service.UserService;
 import com.example.user.webclient.ProductClient;
 
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -55,6 +64,8 @@ public class UsuarioController {
     private ProductClient productClient;
     @Autowired
     private JwtPasswordReset JwtUtilPassword;
+    @Autowired
+    private LimitadorLogin limitadorLogin;
 
     @Operation(summary = "Iniciar sesión", description = "Autentica un usuario y devuelve un token JWT")
     @ApiResponses(value = {
@@ -62,31 +73,51 @@ public class UsuarioController {
             content = @Content(schema = @Schema(implementation = AuthResponse.class))),
         @ApiResponse(responseCode = "400", description = "Datos de login inválidos"),
         @ApiResponse(responseCode = "401", description = "Credenciales incorrectas"),
-        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+        @ApiResponse(responseCode = "429", description = "Demasiados intentos para el email o la IP, reintentar más tarde"),
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor"),
+        @ApiResponse(responseCode = "503", description = "Demasiados inicios de sesión simultáneos, reintentar")
     })
     @PostMapping("/auth/login")
-    public ResponseEntity<?> iniciarSesion(@RequestBody InicioSesion loginRequest) {
+    public ResponseEntity<?> iniciarSesion(@RequestBody InicioSesion loginRequest, HttpServletRequest request) {
         try {
             if (loginRequest.getMail() == null || loginRequest.getPassword() == null) {
                 return ResponseEntity.badRequest().body("Username y password son requeridos");
             }
 
+            // Antes de buscar el usuario o comparar el hash
+            LimitadorLogin.Decision decision = limitadorLogin.verificar(loginRequest.getMail(), request.getRemoteAddr());
+            if (!decision.permitido()) {
+                return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                        .header(HttpHeaders.RETRY_AFTER, String.valueOf(decision.reintentarEnSegundos()))
+                        .body(new ErrorResponse("Demasiados intentos", "Demasiados intentos de inicio de sesión, intenta más tarde"));
+            }
+
             AuthResponse authResponse = usuarioService.autenticarUsuario(
                 loginRequest.getMail(), 
                 loginRequest.getPassword()
             );
+            limitadorLogin.registrarExito(loginRequest.getMail());
             
             EntityModel<AuthResponse> authModel = EntityModel.of(authResponse);
             authModel.add(linkTo(methodOn(UsuarioController.class).cambiarContrasena(null)).withRel("change-password"));
             authModel.add(linkTo(methodOn(UsuarioController.class).cerrarSesion(null)).withRel("logout"));
-            authModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("users"));
+            authModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("users"));
             
             return ResponseEntity.ok(authModel);
             
-        } catch (RuntimeException e) {
+        } catch (PasswordEncoderAcotado.HashingSaturadoException e) {
+            // Lo responde servicioSaturado; tampoco cuenta como intento fallido
+            throw e;
+        } catch (CredencialesInvalidasException e) {
+            // Solo las credenciales incorrectas cuentan como intento fallido
+            limitadorLogin.registrarFallo(loginRequest.getMail());
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new ErrorResponse("Error de autenticación", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest()
+                    .body(new ErrorResponse("Datos de login inválidos", e.getMessage()));
         } catch (Exception e) {
+            // Base de datos caida, usuario sin rol, etc.: no es culpa de la cuenta, no se bloquea
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                     .body(new ErrorResponse("Error interno del servidor", "Ocurrió un error inesperado"));
         }
@@ -95,7 +126,8 @@ public class UsuarioController {
     @Operation(summary = "Cambiar contraseña", description = "Permite a un usuario cambiar su contraseña actual")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Contraseña cambiada exitosamente"),
-        @ApiResponse(responseCode = "400", description = "Error en los datos proporcionados o contraseña actual incorrecta")
+        @ApiResponse(responseCode = "400", description = "Error en los datos proporcionados o contraseña actual incorrecta"),
+        @ApiResponse(responseCode = "503", description = "Demasiadas operaciones de contraseña simultáneas, reintentar")
     })
     @PostMapping("/auth/change-password")
     public ResponseEntity<?> cambiarContrasena(@RequestBody CambioContrasena cambioContrasena) {
@@ -104,10 +136,12 @@ public class UsuarioController {
             
             SuccessResponse response = new SuccessResponse(mensaje);
             EntityModel<SuccessResponse> responseModel = EntityModel.of(response);
-            responseModel.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null)).withRel("login"));
+            responseModel.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null, null)).withRel("login"));
             responseModel.add(linkTo(methodOn(UsuarioController.class).cerrarSesion(null)).withRel("logout"));
             
             return ResponseEntity.ok(responseModel);
+        } catch (PasswordEncoderAcotado.HashingSaturadoException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new ErrorResponse("Error al cambiar contraseña", e.getMessage()));
@@ -122,28 +156,34 @@ public class UsuarioController {
     public ResponseEntity<?> cerrarSesion(HttpServletRequest request) {
         SuccessResponse response = new SuccessResponse("Sesión cerrada exitosamente");
         EntityModel<SuccessResponse> responseModel = EntityModel.of(response);
-        responseModel.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null)).withRel("login"));
+        responseModel.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null, null)).withRel("login"));
         
         return ResponseEntity.ok(responseModel);
     }
 
-    @Operation(summary = "Obtener todos los usuarios", description = "Devuelve una lista con todos los usuarios registrados")
+    @Operation(summary = "Listar usuarios", description = "Devuelve los usuarios por páginas (id, username, correo y rol), opcionalmente filtrados por rol o por prefijo del username. Para la página siguiente se sigue el link \"next\"")
     @ApiResponses(value = {
-        @ApiResponse(responseCode = "200", description = "Lista de usuarios obtenida correctamente"),
+        @ApiResponse(responseCode = "200", description = "Página de usuarios obtenida correctamente"),
+        @ApiResponse(responseCode = "401", description = "Token inválido o faltante"),
         @ApiResponse(responseCode = "500", description = "Error interno del servidor")
     })
     @GetMapping("/users")
-    public ResponseEntity<?> obtenerUsuarios(HttpServletRequest request) {
+    public ResponseEntity<?> obtenerUsuarios(
+            @Parameter(description = "Cursor: devuelve los usuarios con id mayor a este") @RequestParam(required = false) Long despues,
+            @Parameter(description = "Nombre del rol, por ejemplo ADMIN") @RequestParam(required = false) String rol,
+            @Parameter(description = "Prefijo del username") @RequestParam(required = false) String username,
+            @Parameter(description = "Usuarios por página (por defecto " + UserService.POR_PAGINA + ", máximo " + UserService.MAX_POR_PAGINA + ")") @RequestParam(required = false) Integer limite,
+            HttpServletRequest request) {
         try {
-            String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-            if (token == null || !jwtUtil.esTokenValido(token)) {
+            JwtPrincipal principal = principalDe(request);
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
             }
 
-            List<User> users = usuarioService.buscarUsuarios();
+            PaginaUsuarios pagina = usuarioService.listarUsuarios(despues, rol, username, limite);
             
-            if(users.isEmpty()){
+            if(pagina.getUsuarios().isEmpty() && despues == null){
                 // Crear un mapa para la respuesta
                 Map<String, Object> response = new HashMap<>();
                 response.put("mensaje", "No hay usuarios registrados");
@@ -151,16 +191,16 @@ public class UsuarioController {
                 
                 // Crear el modelo HATEOAS
                 EntityModel<Map<String, Object>> model = EntityModel.of(response);
-                model.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withSelfRel());
+                model.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, rol, username, limite, null)).withSelfRel());
                 model.add(linkTo(methodOn(UsuarioController.class).crearUsuario(null)).withRel("create-user"));
                 model.add(linkTo(methodOn(UsuarioController.class).obtenerRoles(null)).withRel("roles"));
                 
                 return ResponseEntity.ok(model);
             }
 
-            List<EntityModel<User>> userModels = users.stream()
+            List<EntityModel<UsuarioResumen>> userModels = pagina.getUsuarios().stream()
                 .map(user -> {
-                    EntityModel<User> userModel = EntityModel.of(user);
+                    EntityModel<UsuarioResumen> userModel = EntityModel.of(user);
                     userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuario(user.getId(), null)).withSelfRel());
                     userModel.add(linkTo(methodOn(UsuarioController.class).actualizarUsuario(user.getId(), null, null)).withRel("update"));
                     userModel.add(linkTo(methodOn(UsuarioController.class).eliminarUsuario(user.getId(), null)).withRel("delete"));
@@ -168,8 +208,11 @@ public class UsuarioController {
                 })
                 .collect(Collectors.toList());
 
-            CollectionModel<EntityModel<User>> collectionModel = CollectionModel.of(userModels);
-            collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withSelfRel());
+            CollectionModel<EntityModel<UsuarioResumen>> collectionModel = CollectionModel.of(userModels);
+            collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(despues, rol, username, limite, null)).withSelfRel());
+            if (pagina.getSiguiente() != null) {
+                collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(pagina.getSiguiente(), rol, username, limite, null)).withRel("next"));
+            }
             collectionModel.add(linkTo(methodOn(UsuarioController.class).crearUsuario(null)).withRel("create-user"));
             collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerRoles(null)).withRel("roles"));
 
@@ -180,6 +223,36 @@ public class UsuarioController {
         }
     }
 
+    @Operation(summary = "Buscar varios usuarios por ID", description = "Devuelve id, username, correo y rol de los usuarios pedidos (máximo " + UserService.MAX_IDS_POR_CONSULTA + " ids) con una sola consulta. Los ids que no existen se omiten")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Usuarios encontrados"),
+        @ApiResponse(responseCode = "400", description = "Demasiados ids"),
+        @ApiResponse(responseCode = "401", description = "Token inválido o faltante")
+    })
+    @GetMapping(value = "/users", params = "ids")
+    public ResponseEntity<?> obtenerUsuariosPorIds(
+            @Parameter(description = "Ids separados por coma, por ejemplo 1,2,3") @RequestParam List<Long> ids,
+            HttpServletRequest request) {
+        try {
+            if (principalDe(request) == null) {
+                return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                        .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
+            }
+
+            List<EntityModel<UsuarioResumen>> userModels = usuarioService.buscarUsuariosPorIds(ids).stream()
+                .map(user -> EntityModel.of(user,
+                        linkTo(methodOn(UsuarioController.class).obtenerUsuario(user.getId(), null)).withSelfRel()))
+                .collect(Collectors.toList());
+
+            CollectionModel<EntityModel<UsuarioResumen>> collectionModel = CollectionModel.of(userModels);
+            collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("all-users"));
+            return ResponseEntity.ok(collectionModel);
+        } catch (RuntimeException e) {
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST)
+                    .body(new ErrorResponse("Error al obtener usuarios", e.getMessage()));
+        }
+    }
+
     @Operation(summary = "Buscar usuario por ID", description = "Devuelve los datos del usuario solicitado")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuario encontrado correctamente"),
@@ -189,8 +262,8 @@ public class UsuarioController {
     @GetMapping("/users/{id}")
     public ResponseEntity<?> obtenerUsuario(@PathVariable Long id, HttpServletRequest request) {
         try {
-            String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-            if (token == null || !jwtUtil.esTokenValido(token)) {
+            JwtPrincipal principal = principalDe(request);
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
             }
@@ -201,7 +274,7 @@ public class UsuarioController {
             userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuario(id, null)).withSelfRel());
             userModel.add(linkTo(methodOn(UsuarioController.class).actualizarUsuario(id, null, null)).withRel("update"));
             userModel.add(linkTo(methodOn(UsuarioController.class).eliminarUsuario(id, null)).withRel("delete"));
-            userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("all-users"));
+            userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("all-users"));
             
             return ResponseEntity.ok(userModel);
         } catch (RuntimeException e) {
@@ -213,6 +286,34 @@ public class UsuarioController {
         }
     }
 
+    @Operation(summary = "Verificar si existe un usuario", description = "Pensado para cart y product: responde solo si el usuario existe, sin cargarlo ni devolver sus datos")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "El usuario existe"),
+        @ApiResponse(responseCode = "401", description = "Token inválido o faltante"),
+        @ApiResponse(responseCode = "404", description = "El usuario no existe")
+    })
+    @GetMapping("/users/{id}/exists")
+    public ResponseEntity<?> existeUsuario(@PathVariable Long id, HttpServletRequest request) {
+        if (principalDe(request) == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
+                    .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
+        }
+        boolean existe = usuarioService.existeUsuario(id);
+        return ResponseEntity.status(existe ? HttpStatus.OK : HttpStatus.NOT_FOUND)
+                .body(Map.of("id", id, "existe", existe));
+    }
+
+    @Operation(summary = "Verificar si existe un usuario (HEAD)", description = "Igual que /users/{id}/exists pero sin cuerpo: 200 si existe, 404 si no")
+    @RequestMapping(value = "/users/{id}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> existeUsuarioHead(@PathVariable Long id, HttpServletRequest request) {
+        if (principalDe(request) == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        return usuarioService.existeUsuario(id)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
  @Operation(summary = "Buscar usuario por username", description = "Devuelve el ID del usuario por su username")
 @ApiResponses(value = {
     @ApiResponse(responseCode = "200", description = "ID del usuario encontrado"),
@@ -222,8 +323,8 @@ public class UsuarioController {
 @GetMapping("/users/id-by-username/{username}")
 public ResponseEntity<?> obtenerIdUsuarioPorUsername(@PathVariable String username, HttpServletRequest request) {
     try {
-        String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-        if (token == null || !jwtUtil.esTokenValido(token)) {
+        JwtPrincipal principal = principalDe(request);
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
         }
@@ -251,8 +352,8 @@ public ResponseEntity<?> obtenerIdUsuarioPorUsername(@PathVariable String userna
     @GetMapping("/roles")
     public ResponseEntity<?> obtenerRoles(HttpServletRequest request) {
         try {
-            String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-            if (token == null || !jwtUtil.esTokenValido(token)) {
+            JwtPrincipal principal = principalDe(request);
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
             }
@@ -263,7 +364,7 @@ public ResponseEntity<?> obtenerIdUsuarioPorUsername(@PathVariable String userna
                 SuccessResponse response = new SuccessResponse("No hay roles registrados", roles);
                 EntityModel<SuccessResponse> responseModel = EntityModel.of(response);
                 responseModel.add(linkTo(methodOn(UsuarioController.class).obtenerRoles(null)).withSelfRel());
-                responseModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("users"));
+                responseModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("users"));
                 return ResponseEntity.ok(responseModel);
             }
 
@@ -277,7 +378,7 @@ public ResponseEntity<?> obtenerIdUsuarioPorUsername(@PathVariable String userna
 
             CollectionModel<EntityModel<Rol>> collectionModel = CollectionModel.of(roleModels);
             collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerRoles(null)).withSelfRel());
-            collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("users"));
+            collectionModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("users"));
 
             return ResponseEntity.ok(collectionModel);
         } catch (Exception e) {
@@ -290,7 +391,8 @@ public ResponseEntity<?> obtenerIdUsuarioPorUsername(@PathVariable String userna
 @ApiResponses(value = {
     @ApiResponse(responseCode = "201", description = "Usuario creado correctamente"),
     @ApiResponse(responseCode = "400", description = "Error en los datos proporcionados"),
-    @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    @ApiResponse(responseCode = "500", description = "Error interno del servidor"),
+    @ApiResponse(responseCode = "503", description = "Demasiadas operaciones de contraseña simultáneas, reintentar")
 })
 @PostMapping("/users")
 public ResponseEntity<?> crearUsuario(@RequestBody User user) {
@@ -311,10 +413,12 @@ public ResponseEntity<?> crearUsuario(@RequestBody User user) {
         userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuario(newUser.getId(), null)).withSelfRel());
         userModel.add(linkTo(methodOn(UsuarioController.class).actualizarUsuario(newUser.getId(), null, null)).withRel("update"));
         userModel.add(linkTo(methodOn(UsuarioController.class).eliminarUsuario(newUser.getId(), null)).withRel("delete"));
-        userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("all-users"));
+        userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("all-users"));
 
         return ResponseEntity.status(HttpStatus.CREATED).body(userModel);
 
+    } catch (PasswordEncoderAcotado.HashingSaturadoException e) {
+        throw e;
     } catch (RuntimeException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse("Error al crear usuario", e.getMessage()));
@@ -334,22 +438,23 @@ public ResponseEntity<?> crearUsuario(@RequestBody User user) {
 public ResponseEntity<?> eliminarUsuario(@PathVariable Long id, HttpServletRequest request) {
     try {
         // Validar token
-        String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-        if (token == null || !jwtUtil.esTokenValido(token)) {
+        JwtPrincipal principal = principalDe(request);
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
         }
 
         // Validar rol
-        String rol = jwtUtil.obtenerRol(token);
-        if (!"ADMIN".equals(rol)) {
+        if (!principal.esAdmin()) {
             return ResponseEntity.status(HttpStatus.FORBIDDEN)
                     .body(new ErrorResponse("Acceso denegado", "Se requiere rol de ADMIN"));
         }
 
         // 👉 NUEVO: eliminar los productos del usuario ANTES de eliminarlo
         try {
-            String respuestaProductos = productClient.eliminarProductosPorUserId(id, token);
+            String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
+            // Se espera aquí: el pedido corre en un hilo virtual, donde bloquear no ocupa un hilo de Tomcat
+            String respuestaProductos = productClient.eliminarProductosPorUserId(id, token).block();
             System.out.println("Productos eliminados: " + respuestaProductos);
         } catch (Exception e) {
             System.out.println("Advertencia: No se pudieron eliminar productos del usuario " + id +
@@ -363,7 +468,7 @@ public ResponseEntity<?> eliminarUsuario(@PathVariable Long id, HttpServletReque
         SuccessResponse response = new SuccessResponse(mensaje);
         EntityModel<SuccessResponse> responseModel = EntityModel.of(response);
 
-        responseModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("all-users"));
+        responseModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("all-users"));
         responseModel.add(linkTo(methodOn(UsuarioController.class).crearUsuario(null)).withRel("create-user"));
 
         return ResponseEntity.ok(responseModel);
@@ -396,7 +501,7 @@ public ResponseEntity<?> solicitarRestablecimiento(@RequestBody SolicitarResetRe
         SuccessResponse response = new SuccessResponse("Correo enviado correctamente para restablecer la contraseña");
 
         EntityModel<SuccessResponse> model = EntityModel.of(response);
-        model.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null)).withRel("login"));
+        model.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null, null)).withRel("login"));
 
         return ResponseEntity.ok(model);
 
@@ -417,7 +522,8 @@ public ResponseEntity<?> solicitarRestablecimiento(@RequestBody SolicitarResetRe
     @ApiResponse(responseCode = "400", description = "Contraseñas no coinciden"),
     @ApiResponse(responseCode = "401", description = "Token inválido o faltante"),
     @ApiResponse(responseCode = "404", description = "Usuario no encontrado"),
-    @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+    @ApiResponse(responseCode = "500", description = "Error interno del servidor"),
+    @ApiResponse(responseCode = "503", description = "Demasiadas operaciones de contraseña simultáneas, reintentar")
 })
 @PostMapping("/auth/reset-password")
 public ResponseEntity<?> restablecerContrasena(
@@ -434,10 +540,12 @@ public ResponseEntity<?> restablecerContrasena(
 
         SuccessResponse response = new SuccessResponse("Contraseña restablecida correctamente");
         EntityModel<SuccessResponse> model = EntityModel.of(response);
-        model.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null)).withRel("login"));
+        model.add(linkTo(methodOn(UsuarioController.class).iniciarSesion(null, null)).withRel("login"));
 
         return ResponseEntity.ok(model);
 
+    } catch (PasswordEncoderAcotado.HashingSaturadoException e) {
+        throw e;
     } catch (RuntimeException e) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                 .body(new ErrorResponse("Error al restablecer contraseña", e.getMessage()));
@@ -452,19 +560,19 @@ public ResponseEntity<?> restablecerContrasena(
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Usuario actualizado correctamente"),
         @ApiResponse(responseCode = "400", description = "Error en los datos proporcionados"),
-        @ApiResponse(responseCode = "500", description = "Error interno del servidor")
+        @ApiResponse(responseCode = "500", description = "Error interno del servidor"),
+        @ApiResponse(responseCode = "503", description = "Demasiadas operaciones de contraseña simultáneas, reintentar")
     })
     @PutMapping("/users/{id}")
     public ResponseEntity<?> actualizarUsuario(@PathVariable Long id, @RequestBody User datosnuevos, HttpServletRequest request) {
         try {
-            String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-            if (token == null || !jwtUtil.esTokenValido(token)) {
+            JwtPrincipal principal = principalDe(request);
+            if (principal == null) {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                         .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
             }
 
-            String rol = jwtUtil.obtenerRol(token);
-            if (!"ADMIN".equals(rol)) {
+            if (!principal.esAdmin()) {
                 return ResponseEntity.status(HttpStatus.FORBIDDEN)
                         .body(new ErrorResponse("Acceso denegado", "Se requiere rol de ADMIN"));
             }
@@ -474,9 +582,11 @@ public ResponseEntity<?> restablecerContrasena(
             EntityModel<User> userModel = EntityModel.of(usuarioModificado);
             userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuario(id, null)).withSelfRel());
             userModel.add(linkTo(methodOn(UsuarioController.class).eliminarUsuario(id, null)).withRel("delete"));
-            userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null)).withRel("all-users"));
+            userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, null)).withRel("all-users"));
             
             return ResponseEntity.ok(userModel);
+        } catch (PasswordEncoderAcotado.HashingSaturadoException e) {
+            throw e;
         } catch (RuntimeException e) {
             return ResponseEntity.status(HttpStatus.BAD_REQUEST)
                     .body(new ErrorResponse("Error al actualizar usuario", e.getMessage()));
@@ -505,8 +615,8 @@ public ResponseEntity<?> cambiarNombreUsuario(
 
     try {
         // Validar token
-        String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
-        if (token == null || !jwtUtil.esTokenValido(token)) {
+        JwtPrincipal principal = principalDe(request);
+        if (principal == null) {
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
                     .body(new ErrorResponse("Acceso no autorizado", "Token inválido o faltante"));
         }
@@ -517,7 +627,7 @@ public ResponseEntity<?> cambiarNombreUsuario(
 
         EntityModel<UserUpdateResponse> userModel = EntityModel.of(usuarioActualizado);
         userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuario(id, request)).withSelfRel());
-        userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(request)).withRel("all-users"));
+        userModel.add(linkTo(methodOn(UsuarioController.class).obtenerUsuarios(null, null, null, null, request)).withRel("all-users"));
 
         return ResponseEntity.ok(userModel);
 
@@ -540,6 +650,26 @@ public ResponseEntity<?> cambiarNombreUsuario(
 
 
 
+    // Usuario autenticado de la petición. JwtAuthenticationFilter ya validó el token y lo dejó
+    // como atributo; si no pasó por el filtro se valida aquí con un solo parseo. null si no es válido
+    private JwtPrincipal principalDe(HttpServletRequest request) {
+        Object atributo = request.getAttribute(JwtAuthenticationFilter.ATRIBUTO_PRINCIPAL);
+        if (atributo instanceof JwtPrincipal principal) {
+            return principal;
+        }
+        String token = jwtUtil.extraerTokenDelHeader(request.getHeader("Authorization"));
+        return token != null ? jwtUtil.obtenerPrincipal(token) : null;
+    }
+
+    // Todos los endpoints que calculan o comparan un hash de BCrypt (login, registro, cambio y
+    // restablecimiento de contraseña, actualizacion de usuario) dejan pasar esta excepcion hasta aqui
+    @ExceptionHandler(PasswordEncoderAcotado.HashingSaturadoException.class)
+    public ResponseEntity<ErrorResponse> servicioSaturado(PasswordEncoderAcotado.HashingSaturadoException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "2")
+                .body(new ErrorResponse("Servicio saturado", e.getMessage()));
+    }
+
     @Schema(description = "Respuesta de error estandarizada")
     public static class ErrorResponse {
         @Schema(description = "Tipo de error", example = "Error de autenticación")
@@ -0,0 +1,76 @@
+package com.example.user.model;
+
+import java.time.LocalDateTime;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "correo_pendiente", indexes = {
+    // El despachador busca los pendientes cuyo proximo intento ya llego
+    @Index(name = "idx_correo_estado_proximo", columnList = "estado, proximo_intento"),
+    // LimpiezaCorreos busca los enviados o descartados mas viejos que la retencion
+    @Index(name = "idx_correo_estado_creado", columnList = "estado, creado_en")
+})
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Correo en la bandeja de salida (outbox), se guarda en la misma transaccion que lo origina")
+public class CorreoPendiente {
+
+    public enum Estado { PENDIENTE, ENVIADO, FALLIDO }
+
+    @Schema(description = "ID autoincrementable")
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private long id;
+
+    @Schema(description = "correo de destino")
+    @Column(nullable = false)
+    private String destinatario;
+
+    @Schema(description = "asunto del correo")
+    @Column(nullable = false)
+    private String asunto;
+
+    @Schema(description = "cuerpo HTML del correo; se vacia al enviarlo o descartarlo")
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String cuerpo;
+
+    @Schema(description = "estado del envio")
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private Estado estado;
+
+    @Schema(description = "intentos de envio fallidos")
+    @Column(nullable = false)
+    private int intentos;
+
+    @Schema(description = "desde cuando se puede (re)intentar el envio")
+    @Column(name = "proximo_intento", nullable = false)
+    private LocalDateTime proximoIntento;
+
+    @Schema(description = "fecha en que se encolo")
+    @Column(nullable = false)
+    private LocalDateTime creadoEn;
+
+    @Schema(description = "fecha en que se envio")
+    @Column
+    private LocalDateTime enviadoEn;
+
+    @Schema(description = "ultimo error de envio")
+    @Column(length = 500)
+    private String ultimoError;
+}
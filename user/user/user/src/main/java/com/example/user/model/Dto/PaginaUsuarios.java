@@ -0,0 +1,16 @@
+package com.example.user.model.Dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class PaginaUsuarios {
+    private List<UsuarioResumen> usuarios;
+    // id a pasar como "despues" para pedir la pagina siguiente; null si no hay mas
+    private Long siguiente;
+}
@@ -0,0 +1,22 @@
+package com.example.user.model.Dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Schema(description = "Datos básicos de un usuario para listados (sin contraseña)")
+public class UsuarioResumen {
+
+    @Schema(description = "ID del usuario", example = "1")
+    private long id;
+    @Schema(description = "Nombre de usuario", example = "ryoka")
+    private String username;
+    @Schema(description = "Correo del usuario", example = "ryoka@gmail.com")
+    private String correo;
+    @Schema(description = "Nombre del rol del usuario", example = "USER")
+    private String rol;
+}
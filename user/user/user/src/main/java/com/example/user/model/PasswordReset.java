@@ -11,13 +11,21 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "recuperacion_contrasena")
+@Table(name = "recuperacion_contrasena", indexes = {
+    // findByEmailAndRecoveryCode
+    @Index(name = "idx_recuperacion_email_codigo", columnList = "email, recovery_code"),
+    // findTopByEmailOrderByCreatedAtDesc
+    @Index(name = "idx_recuperacion_email_creacion", columnList = "email, created_at"),
+    // Limpieza de solicitudes vencidas (LimpiezaRecuperaciones)
+    @Index(name = "idx_recuperacion_expiracion", columnList = "expires_at")
+})
 @Data
 @AllArgsConstructor
 @NoArgsConstructor
@@ -0,0 +1,42 @@
+package com.example.user.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.user.model.CorreoPendiente;
+
+@Repository
+public interface CorreoPendienteRepository extends JpaRepository<CorreoPendiente, Long> {
+
+    // Pendientes listos para enviar, los mas antiguos primero
+    @Query("SELECT c FROM CorreoPendiente c WHERE c.estado = com.example.user.model.CorreoPendiente.Estado.PENDIENTE "
+            + "AND c.proximoIntento <= :ahora ORDER BY c.id")
+    List<CorreoPendiente> buscarListos(@Param("ahora") LocalDateTime ahora, Pageable pageable);
+
+    // Reserva el correo moviendo su proximo intento al fin del plazo: si otra instancia ya lo
+    // reservo devuelve 0, y si el proceso muere a mitad del envio se reintenta al vencer el plazo
+    @Modifying
+    @Transactional
+    @Query("UPDATE CorreoPendiente c SET c.proximoIntento = :plazo WHERE c.id = :id "
+            + "AND c.estado = com.example.user.model.CorreoPendiente.Estado.PENDIENTE AND c.proximoIntento <= :ahora")
+    int reservar(@Param("id") Long id, @Param("ahora") LocalDateTime ahora, @Param("plazo") LocalDateTime plazo);
+
+    // Ids de correos ya enviados o descartados encolados antes del limite, de a un lote
+    @Query("SELECT c.id FROM CorreoPendiente c WHERE c.estado <> com.example.user.model.CorreoPendiente.Estado.PENDIENTE "
+            + "AND c.creadoEn < :limite ORDER BY c.id")
+    List<Long> buscarIdsTerminados(@Param("limite") LocalDateTime limite, Pageable pageable);
+
+    // Borra un lote por clave primaria en su propia transaccion corta, sin cargar las entidades
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM CorreoPendiente c WHERE c.id IN :ids")
+    int eliminarPorIds(@Param("ids") List<Long> ids);
+}
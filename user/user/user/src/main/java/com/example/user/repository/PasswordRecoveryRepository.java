@@ -1,9 +1,15 @@
 package com.example.user.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.example.user.model.PasswordReset;
 
@@ -22,5 +28,15 @@ public interface PasswordRecoveryRepository extends JpaRepository<PasswordReset,
     // Opcional: elimina peticiones viejas
     void deleteByExpiresAtBefore(LocalDateTime now);
 
+    // Ids de solicitudes vencidas, de a un lote (usa idx_recuperacion_expiracion)
+    @Query("SELECT p.id FROM PasswordReset p WHERE p.expiresAt < :ahora ORDER BY p.id")
+    List<Long> buscarIdsVencidos(@Param("ahora") LocalDateTime ahora, Pageable pageable);
+
+    // Borra un lote por clave primaria en su propia transaccion corta, sin cargar las entidades
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM PasswordReset p WHERE p.id IN :ids")
+    int eliminarPorIds(@Param("ids") List<Long> ids);
+
 
 }
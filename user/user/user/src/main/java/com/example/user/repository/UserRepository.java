@@ -1,15 +1,32 @@
 package com.example.user.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.example.user.model.User;
+import com.example.user.model.Dto.UsuarioResumen;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // Las consultas que devuelven usuarios traen el rol en el mismo select (join),
+    // sin una consulta extra por rol
+
+    @Override
+    @EntityGraph(attributePaths = "rol")
+    List<User> findAll();
+
+    @Override
+    @EntityGraph(attributePaths = "rol")
+    Optional<User> findById(Long id);
  
     // Método existente para verificar username único
     boolean existsByUsername(String username);
@@ -18,9 +35,26 @@ public interface UserRepository extends JpaRepository<User, Long> {
     boolean existsByCorreo(String correo);
 
     // busca un usuario por su correo (retorna Optional para manejar nulls)
+    @EntityGraph(attributePaths = "rol")
     Optional<User> findByCorreo(String correo);
 
     // Busca un usuario por su username (retorna Optional para manejar nulls)
+    @EntityGraph(attributePaths = "rol")
     Optional<User> findByUsername(String username);
 
+    // Pagina por cursor (ids mayores a "despues", en orden) con solo las columnas del listado;
+    // rol y prefijo son opcionales (null = sin filtro). El prefijo ya viene con sus % y _ escapados con !
+    @Query("SELECT new com.example.user.model.Dto.UsuarioResumen(u.id, u.username, u.correo, r.nombre) "
+            + "FROM User u LEFT JOIN u.rol r WHERE u.id > :despues "
+            + "AND (:rol IS NULL OR r.nombre = :rol) "
+            + "AND (:prefijo IS NULL OR u.username LIKE :prefijo ESCAPE '!') "
+            + "ORDER BY u.id")
+    List<UsuarioResumen> buscarPagina(@Param("despues") long despues, @Param("rol") String rol,
+                                      @Param("prefijo") String prefijo, Pageable pageable);
+
+    // Varios usuarios por id en una sola consulta (IN sobre la clave primaria), con las mismas columnas del listado
+    @Query("SELECT new com.example.user.model.Dto.UsuarioResumen(u.id, u.username, u.correo, r.nombre) "
+            + "FROM User u LEFT JOIN u.rol r WHERE u.id IN :ids ORDER BY u.id")
+    List<UsuarioResumen> buscarResumenes(@Param("ids") Collection<Long> ids);
+
 }
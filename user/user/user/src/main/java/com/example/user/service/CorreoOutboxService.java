@@ -0,0 +1,38 @@
+package com.example.user.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import com.example.user.model.CorreoPendiente;
+import com.example.user.repository.CorreoPendienteRepository;
+
+import jakarta.transaction.Transactional;
+
+@Service
+@Transactional
+public class CorreoOutboxService {
+
+    @Autowired
+    private CorreoPendienteRepository correoPendienteRepository;
+
+    /**
+     * Deja el correo en la bandeja de salida. Participa de la transaccion de quien lo llama:
+     * si esa transaccion hace rollback el correo no se envia. El envio real lo hace DespachadorCorreos
+     */
+    public CorreoPendiente encolar(String correoDestino, String asunto, String mensaje) {
+        LocalDateTime ahora = LocalDateTime.now();
+
+        CorreoPendiente correo = new CorreoPendiente();
+        correo.setDestinatario(correoDestino);
+        correo.setAsunto(asunto);
+        correo.setCuerpo(mensaje);
+        correo.setEstado(CorreoPendiente.Estado.PENDIENTE);
+        correo.setIntentos(0);
+        correo.setProximoIntento(ahora);
+        correo.setCreadoEn(ahora);
+
+        return correoPendienteRepository.save(correo);
+    }
+}
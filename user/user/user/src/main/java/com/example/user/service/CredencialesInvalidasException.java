@@ -0,0 +1,10 @@
+package com.example.user.service;
+
+// Correo inexistente o contraseña incorrecta. Es el unico error de login que cuenta como
+// intento fallido en LimitadorLogin; los errores de datos o de infraestructura no
+public class CredencialesInvalidasException extends RuntimeException {
+
+    public CredencialesInvalidasException() {
+        super("Credenciales inválidas");
+    }
+}
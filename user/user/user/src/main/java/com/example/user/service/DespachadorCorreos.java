@@ -0,0 +1,183 @@
+package com.example.user.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.user.model.CorreoPendiente;
+import com.example.user.repository.CorreoPendienteRepository;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+// Envia en segundo plano los correos de la bandeja de salida (correo_pendiente).
+// Cada ciclo toma un lote, lo reparte entre un numero fijo de trabajadores y cada uno manda
+// su parte por una sola conexion SMTP. Los fallos se reintentan con espera exponencial
+@Service
+public class DespachadorCorreos {
+
+    // El cuerpo puede traer un codigo de recuperacion en claro: una vez enviado o descartado el
+    // correo ya no se guarda (la columna es NOT NULL, queda vacia)
+    static final String CUERPO_DESCARTADO = "";
+
+    private final CorreoPendienteRepository correoPendienteRepository;
+    private final EmailService emailService;
+    private final ExecutorService trabajadores;
+    private final int hilos;
+    private final int lote;
+    private final int maxIntentos;
+    private final Duration esperaBase;
+    private final Duration esperaMaxima;
+    private final Duration plazoReserva;
+
+    public DespachadorCorreos(CorreoPendienteRepository correoPendienteRepository,
+                              EmailService emailService,
+                              @Value("${correo.outbox.hilos:4}") int hilos,
+                              @Value("${correo.outbox.lote:50}") int lote,
+                              @Value("${correo.outbox.max-intentos:5}") int maxIntentos,
+                              @Value("${correo.outbox.espera-base:30s}") Duration esperaBase,
+                              @Value("${correo.outbox.espera-maxima:30m}") Duration esperaMaxima,
+                              @Value("${correo.outbox.plazo-reserva:5m}") Duration plazoReserva) {
+        this.correoPendienteRepository = correoPendienteRepository;
+        this.emailService = emailService;
+        this.hilos = hilos;
+        this.lote = lote;
+        this.maxIntentos = maxIntentos;
+        this.esperaBase = esperaBase;
+        this.esperaMaxima = esperaMaxima;
+        this.plazoReserva = plazoReserva;
+        // Acotado: el servidor SMTP limita las conexiones simultaneas por cuenta
+        this.trabajadores = Executors.newFixedThreadPool(hilos, Thread.ofVirtual().name("correo-", 0).factory());
+    }
+
+    @Scheduled(fixedDelayString = "${correo.outbox.intervalo:2000}")
+    public void programado() {
+        despachar();
+    }
+
+    /**
+     * Envia un lote de correos pendientes y devuelve cuantos se enviaron
+     */
+    public int despachar() {
+        LocalDateTime ahora = LocalDateTime.now();
+
+        List<CorreoPendiente> reservados = new ArrayList<>();
+        for (CorreoPendiente correo : correoPendienteRepository.buscarListos(ahora, PageRequest.of(0, lote))) {
+            if (correoPendienteRepository.reservar(correo.getId(), ahora, ahora.plus(plazoReserva)) == 1) {
+                reservados.add(correo);
+            }
+        }
+        if (reservados.isEmpty()) {
+            return 0;
+        }
+
+        int porTrabajador = (reservados.size() + hilos - 1) / hilos;
+        List<Callable<Integer>> tareas = new ArrayList<>();
+        for (int i = 0; i < reservados.size(); i += porTrabajador) {
+            List<CorreoPendiente> parte = reservados.subList(i, Math.min(i + porTrabajador, reservados.size()));
+            tareas.add(() -> enviar(parte));
+        }
+
+        int enviados = 0;
+        try {
+            for (Future<Integer> resultado : trabajadores.invokeAll(tareas)) {
+                enviados += resultado.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            // Lo no registrado queda reservado y se reintenta al vencer el plazo de reserva
+            System.err.println("Error al despachar correos: " + e.getCause().getMessage());
+        }
+        return enviados;
+    }
+
+    private int enviar(List<CorreoPendiente> correos) {
+        Map<MimeMessage, CorreoPendiente> porMensaje = new LinkedHashMap<>();
+        List<CorreoPendiente> actualizados = new ArrayList<>();
+
+        for (CorreoPendiente correo : correos) {
+            try {
+                porMensaje.put(emailService.crearMensaje(correo.getDestinatario(), correo.getAsunto(), correo.getCuerpo()), correo);
+            } catch (MessagingException e) {
+                actualizados.add(registrarFallo(correo, e.getMessage()));
+            }
+        }
+
+        Map<Object, Exception> fallidos = Map.of();
+        String errorGeneral = null;
+        if (!porMensaje.isEmpty()) {
+            try {
+                emailService.enviarLote(new ArrayList<>(porMensaje.keySet()));
+            } catch (MailSendException e) {
+                fallidos = e.getFailedMessages();
+                if (fallidos.isEmpty()) {
+                    errorGeneral = e.getMessage();
+                }
+            } catch (MailException e) {
+                errorGeneral = e.getMessage();
+            }
+        }
+
+        int enviados = 0;
+        LocalDateTime ahora = LocalDateTime.now();
+        for (Map.Entry<MimeMessage, CorreoPendiente> entrada : porMensaje.entrySet()) {
+            CorreoPendiente correo = entrada.getValue();
+            Exception error = fallidos.get(entrada.getKey());
+            if (errorGeneral != null || error != null) {
+                actualizados.add(registrarFallo(correo, errorGeneral != null ? errorGeneral : error.getMessage()));
+            } else {
+                correo.setEstado(CorreoPendiente.Estado.ENVIADO);
+                correo.setEnviadoEn(ahora);
+                correo.setUltimoError(null);
+                correo.setCuerpo(CUERPO_DESCARTADO);
+                actualizados.add(correo);
+                enviados++;
+            }
+        }
+
+        correoPendienteRepository.saveAll(actualizados);
+        return enviados;
+    }
+
+    // Espera base * 2^(intentos - 1), con tope; al llegar al maximo de intentos queda FALLIDO
+    private CorreoPendiente registrarFallo(CorreoPendiente correo, String error) {
+        int intentos = correo.getIntentos() + 1;
+        correo.setIntentos(intentos);
+        correo.setUltimoError(error == null ? null : error.substring(0, Math.min(error.length(), 500)));
+
+        if (intentos >= maxIntentos) {
+            correo.setEstado(CorreoPendiente.Estado.FALLIDO);
+            correo.setCuerpo(CUERPO_DESCARTADO);
+            System.err.println("Correo " + correo.getId() + " descartado tras " + intentos + " intentos: " + error);
+        } else {
+            Duration espera = esperaBase.multipliedBy(1L << Math.min(intentos - 1, 20));
+            if (espera.compareTo(esperaMaxima) > 0) {
+                espera = esperaMaxima;
+            }
+            correo.setProximoIntento(LocalDateTime.now().plus(espera));
+        }
+        return correo;
+    }
+
+    @PreDestroy
+    public void detener() {
+        trabajadores.shutdown();
+    }
+}
@@ -1,10 +1,14 @@
 package com.example.user.service;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
+import com.example.user.config.PoolSesionesSmtp;
+
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
@@ -12,26 +16,22 @@ import jakarta.mail.internet.MimeMessage;
 public class EmailService {
 
     private final JavaMailSender mailSender;
+    private final PoolSesionesSmtp poolSesionesSmtp;
 
 
     @Value("${spring.mail.username}")
     private String correoEmisor;
 
-    public EmailService(JavaMailSender mailSender) {
+    public EmailService(JavaMailSender mailSender, PoolSesionesSmtp poolSesionesSmtp) {
         this.mailSender = mailSender;
+        this.poolSesionesSmtp = poolSesionesSmtp;
     }
 
     public void enviarCorreo(String correoDestino, String asunto, String mensaje) {
         try {
-            MimeMessage mimeMessage = mailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
-
-            helper.setFrom(correoEmisor); 
-            helper.setTo(correoDestino);
-            helper.setSubject(asunto);
-            helper.setText(mensaje, true); 
+            MimeMessage mimeMessage = crearMensaje(correoDestino, asunto, mensaje);
 
-            mailSender.send(mimeMessage);
+            poolSesionesSmtp.enviar(List.of(mimeMessage));
 
             System.out.println("Correo enviado a: " + correoDestino);
 
@@ -40,4 +40,23 @@ public class EmailService {
             throw new RuntimeException("No se pudo enviar el correo");
         }
     }
+
+    // Arma el mensaje HTML sin enviarlo
+    public MimeMessage crearMensaje(String correoDestino, String asunto, String mensaje) throws MessagingException {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+
+        helper.setFrom(correoEmisor);
+        helper.setTo(correoDestino);
+        helper.setSubject(asunto);
+        helper.setText(mensaje, true);
+
+        return mimeMessage;
+    }
+
+    // Envia varios mensajes por una conexion SMTP del pool. Si alguno falla lanza
+    // MailSendException, cuyo getFailedMessages() indica cuales no se enviaron
+    public void enviarLote(List<MimeMessage> mensajes) {
+        poolSesionesSmtp.enviar(mensajes);
+    }
 }
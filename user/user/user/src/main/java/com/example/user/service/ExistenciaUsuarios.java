@@ -0,0 +1,55 @@
+package com.example.user.service;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+// Ids de usuarios que existen, para las validaciones de cart y product. Solo se guardan los
+// positivos (un id que no existe puede crearse en cualquier momento); la consulta es un
+// count sobre la clave primaria, que se resuelve con el indice sin leer la fila.
+// Al eliminar un usuario se olvida su id, tambien despues del commit por si una lectura
+// concurrente lo volvio a guardar antes; el TTL acota cualquier otro caso
+@Component
+public class ExistenciaUsuarios {
+
+    private final UserRepository usuarioRepository;
+    private final Cache<Long, Boolean> existentes;
+
+    public ExistenciaUsuarios(
+            UserRepository usuarioRepository,
+            @Value("${usuarios.existencia.max-entries:100000}") long maxEntradas,
+            @Value("${usuarios.existencia.ttl:5m}") Duration ttl,
+            MeterRegistry registry) {
+        this.usuarioRepository = usuarioRepository;
+        this.existentes = Caffeine.newBuilder()
+                .maximumSize(maxEntradas)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(registry, existentes, "usuarios-existentes");
+    }
+
+    public boolean existe(long id) {
+        if (existentes.getIfPresent(id) != null) {
+            return true;
+        }
+        boolean existe = usuarioRepository.existsById(id);
+        if (existe) {
+            existentes.put(id, Boolean.TRUE);
+        }
+        return existe;
+    }
+
+    public void olvidar(long id) {
+        existentes.invalidate(id);
+        Transacciones.despuesDelCommit(() -> existentes.invalidate(id));
+    }
+}
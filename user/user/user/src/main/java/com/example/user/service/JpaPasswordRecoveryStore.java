@@ -0,0 +1,56 @@
+package com.example.user.service;
+
+import java.time.LocalDateTime;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.user.model.PasswordReset;
+import com.example.user.repository.PasswordRecoveryRepository;
+
+// Códigos en la tabla recuperacion_contrasena; sirve con varias instancias del servicio
+@Component
+@ConditionalOnProperty(name = "recuperacion.store", havingValue = "jpa", matchIfMissing = true)
+public class JpaPasswordRecoveryStore implements PasswordRecoveryStore {
+
+    private final PasswordRecoveryRepository repo;
+
+    public JpaPasswordRecoveryStore(PasswordRecoveryRepository repo) {
+        this.repo = repo;
+    }
+
+    @Override
+    public PasswordReset guardar(PasswordReset solicitud) {
+        return repo.save(solicitud);
+    }
+
+    @Override
+    public PasswordReset buscarUltima(String email) {
+        return repo.findTopByEmailOrderByCreatedAtDesc(email);
+    }
+
+    @Override
+    public boolean validar(String email, String codigo) {
+
+        PasswordReset registro = repo.findByEmailAndRecoveryCode(email, codigo);
+
+        if (registro == null) {
+            return false; // no existe ese código para ese email
+        }
+
+        // Verificar expiración
+        if (registro.getExpiresAt().isBefore(LocalDateTime.now())) {
+            return false; // ya expiró
+        }
+
+        return true;
+    }
+
+    @Override
+    public void eliminar(String email, String codigo) {
+        PasswordReset registro = repo.findByEmailAndRecoveryCode(email, codigo);
+        if (registro != null) {
+            repo.delete(registro);
+        }
+    }
+}
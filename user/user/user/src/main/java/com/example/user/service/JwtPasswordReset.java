@@ -21,7 +21,7 @@ import java.util.function.Function;
 public class JwtPasswordReset {
 
     // Clave secreta para firmar los tokens (debe estar en Base64 y ser segura)
-    @Value("${jwt.secret:defaultSecretKeyForDevelopmentOnlyNotForProduction}")
+    @Value("${jwt.secret}")
     private String secret;
 
     // Tiempo de expiración del token de recuperación (15 minutos)
@@ -0,0 +1,18 @@
+package com.example.user.service;
+
+import java.security.Principal;
+import java.time.Instant;
+
+// Datos del usuario autenticado, leidos una sola vez del JWT
+public record JwtPrincipal(Long userId, String username, String rol, Instant expiracion) implements Principal {
+
+    // Spring Security usa getName() como nombre del usuario autenticado
+    @Override
+    public String getName() {
+        return username;
+    }
+
+    public boolean esAdmin() {
+        return "ADMIN".equals(rol);
+    }
+}
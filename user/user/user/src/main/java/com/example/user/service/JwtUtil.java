@@ -2,6 +2,7 @@ package com.example.user.service;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.UnsupportedJwtException;
@@ -11,7 +12,7 @@ import io.jsonwebtoken.security.Keys;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
+import javax.crypto.SecretKey;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -19,19 +20,23 @@ import java.util.function.Function;
 
 @Component
 public class JwtUtil {
-    
-    // Clave secreta para firmar los tokens (debe estar en Base64 y ser segura)
-    @Value("${jwt.secret:defaultSecretKeyForDevelopmentOnlyNotForProduction}")
-    private String secret;
-    
+
+    // Clave para firmar los tokens, decodificada una sola vez al iniciar
+    private final SecretKey signingKey;
+
+    // Parser inmutable y thread-safe, se reutiliza en todas las validaciones
+    private final JwtParser parser;
+
     // Tiempo de expiración del token en milisegundos (por defecto 24 horas)
-    @Value("${jwt.expiration:86400000}")
-    private Long jwtExpiration;
+    private final long jwtExpiration;
 
-    // Convierte la clave secreta en Base64 a un objeto Key para firmar
-    private Key getSigningKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        return Keys.hmacShaKeyFor(keyBytes);
+    public JwtUtil(
+            // Clave secreta para firmar los tokens (debe estar en Base64 y ser segura)
+            @Value("${jwt.secret}") String secret,
+            @Value("${jwt.expiration:86400000}") long jwtExpiration) {
+        this.signingKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret));
+        this.parser = Jwts.parser().verifyWith(signingKey).build();
+        this.jwtExpiration = jwtExpiration;
     }
 
     // Genera un token JWT con el username y rol proporcionados
@@ -41,6 +46,15 @@ public class JwtUtil {
         return createToken(claims, username);
     }
 
+    // Genera un token JWT que ademas lleva el id del usuario; cart y product lo leen
+    // al verificar el token localmente, sin llamar a este servicio
+    public String generarToken(String username, String rol, Long userId) {
+        Map<String, Object> claims = new HashMap<>();
+        claims.put("rol", rol);
+        claims.put("userId", userId);
+        return createToken(claims, username);
+    }
+
     // Crea el token JWT con los claims y subject (username) proporcionados
     private String createToken(Map<String, Object> claims, String subject) {
         return Jwts.builder()
@@ -48,10 +62,25 @@ public class JwtUtil {
                 .subject(subject) // Subject (normalmente el username)
                 .issuedAt(new Date(System.currentTimeMillis())) // Fecha de creación
                 .expiration(new Date(System.currentTimeMillis() + jwtExpiration)) // Fecha de expiración
-                .signWith(getSigningKey()) // Firma con la clave secreta
+                .signWith(signingKey) // Firma con la clave secreta
                 .compact(); // Genera el token como string
     }
 
+    // Valida el token (firma, formato, expiración) y devuelve sus datos con un solo parseo.
+    // Devuelve null si el token no es válido
+    public JwtPrincipal obtenerPrincipal(String token) {
+        Claims claims = parsearSiValido(token);
+        if (claims == null) {
+            return null;
+        }
+        Object id = claims.get("userId");
+        return new JwtPrincipal(
+                id instanceof Number numero ? numero.longValue() : null,
+                claims.getSubject(),
+                claims.get("rol", String.class),
+                claims.getExpiration().toInstant());
+    }
+
     // Extrae el username (subject) del token
     public String obtenerUsername(String token) {
         return obtenerClaim(token, Claims::getSubject);
@@ -75,11 +104,7 @@ public class JwtUtil {
 
     // Obtiene todos los claims del token
     private Claims obtenerTodasLasClaims(String token) {
-        return Jwts.parser()
-                .setSigningKey(getSigningKey()) // Configura la clave de verificación
-                .build() // Construye el parser
-                .parseClaimsJws(token) // Parsea el token
-                .getBody(); // Obtiene los claims
+        return parser.parseSignedClaims(token).getPayload();
     }
 
     // Verifica si el token ha expirado
@@ -99,12 +124,13 @@ public class JwtUtil {
 
     // Verifica la validez general del token (firma, formato, expiración)
     public boolean esTokenValido(String token) {
+        return parsearSiValido(token) != null;
+    }
+
+    // Parsea el token una vez; devuelve null (y deja el motivo en el log) si no es válido
+    private Claims parsearSiValido(String token) {
         try {
-            Jwts.parser()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token);
-            return true;
+            return obtenerTodasLasClaims(token);
         } catch (SignatureException e) {
             System.err.println("Firma JWT inválida: " + e.getMessage());
         } catch (MalformedJwtException e) {
@@ -116,7 +142,7 @@ public class JwtUtil {
         } catch (IllegalArgumentException e) {
             System.err.println("JWT claims string está vacío: " + e.getMessage());
         }
-        return false;
+        return null;
     }
 
     // Extrae el token del encabezado Authorization (elimina "Bearer ")
@@ -126,4 +152,4 @@ public class JwtUtil {
         }
         return null;
     }
-}
\ No newline at end of file
+}
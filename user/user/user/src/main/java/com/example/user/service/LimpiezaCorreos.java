@@ -0,0 +1,90 @@
+package com.example.user.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.user.repository.CorreoPendienteRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Borra de la bandeja de salida (correo_pendiente) los correos enviados o fallidos mas viejos que
+// la retencion; los pendientes no se tocan. Igual que LimpiezaRecuperaciones: lotes chicos, cada
+// uno en su propia transaccion, con una pausa entre lotes para no frenar al despachador
+@Service
+public class LimpiezaCorreos {
+
+    private final CorreoPendienteRepository correoPendienteRepository;
+    private final Duration retencion;
+    private final int lote;
+    private final int maxLotes;
+    private final Duration pausa;
+    private final Counter purgados;
+
+    public LimpiezaCorreos(CorreoPendienteRepository correoPendienteRepository,
+                           MeterRegistry registry,
+                           @Value("${correo.limpieza.retencion:7d}") Duration retencion,
+                           @Value("${correo.limpieza.lote:500}") int lote,
+                           @Value("${correo.limpieza.max-lotes:200}") int maxLotes,
+                           @Value("${correo.limpieza.pausa:50ms}") Duration pausa) {
+        this.correoPendienteRepository = correoPendienteRepository;
+        this.retencion = retencion;
+        this.lote = lote;
+        this.maxLotes = maxLotes;
+        this.pausa = pausa;
+        this.purgados = Counter.builder("correo.purgados")
+                .description("Correos enviados o fallidos borrados de la bandeja de salida")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${correo.limpieza.intervalo:3600000}",
+               initialDelayString = "${correo.limpieza.intervalo:3600000}")
+    public void programada() {
+        purgarTerminados();
+    }
+
+    /**
+     * Borra los correos terminados encolados antes de ahora - retencion, como maximo max-lotes
+     * lotes por corrida. Devuelve cuantas filas borro
+     */
+    public int purgarTerminados() {
+        LocalDateTime limite = LocalDateTime.now().minus(retencion);
+        int total = 0;
+
+        for (int i = 0; i < maxLotes; i++) {
+            List<Long> ids = correoPendienteRepository.buscarIdsTerminados(limite, PageRequest.of(0, lote));
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += correoPendienteRepository.eliminarPorIds(ids);
+            if (ids.size() < lote) {
+                break;
+            }
+            if (!pausar()) {
+                break;
+            }
+        }
+
+        purgados.increment(total);
+        return total;
+    }
+
+    private boolean pausar() {
+        if (pausa.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pausa);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.user.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.example.user.repository.PasswordRecoveryRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// Borra periodicamente las solicitudes de recuperacion vencidas (recuperacion_contrasena).
+// Se borra de a lotes chicos, cada uno en su propia transaccion, con una pausa entre lotes:
+// asi ningun DELETE mantiene bloqueos largos sobre la tabla mientras se piden o validan codigos
+@Service
+public class LimpiezaRecuperaciones {
+
+    private final PasswordRecoveryRepository passwordRecoveryRepository;
+    private final int lote;
+    private final int maxLotes;
+    private final Duration pausa;
+    private final Counter purgadas;
+    private final DistributionSummary purgadasPorCorrida;
+
+    public LimpiezaRecuperaciones(PasswordRecoveryRepository passwordRecoveryRepository,
+                                  MeterRegistry registry,
+                                  @Value("${recuperacion.limpieza.lote:500}") int lote,
+                                  @Value("${recuperacion.limpieza.max-lotes:200}") int maxLotes,
+                                  @Value("${recuperacion.limpieza.pausa:50ms}") Duration pausa) {
+        this.passwordRecoveryRepository = passwordRecoveryRepository;
+        this.lote = lote;
+        this.maxLotes = maxLotes;
+        this.pausa = pausa;
+        this.purgadas = Counter.builder("recuperacion.purgadas")
+                .description("Solicitudes de recuperacion vencidas borradas")
+                .register(registry);
+        this.purgadasPorCorrida = DistributionSummary.builder("recuperacion.purga.filas")
+                .description("Filas borradas en cada corrida de la limpieza")
+                .register(registry);
+    }
+
+    @Scheduled(fixedDelayString = "${recuperacion.limpieza.intervalo:600000}",
+               initialDelayString = "${recuperacion.limpieza.intervalo:600000}")
+    public void programada() {
+        purgarVencidas();
+    }
+
+    /**
+     * Borra las solicitudes vencidas, como maximo max-lotes lotes por corrida; lo que quede
+     * se borra en la siguiente. Devuelve cuantas filas borro
+     */
+    public int purgarVencidas() {
+        LocalDateTime ahora = LocalDateTime.now();
+        int total = 0;
+
+        for (int i = 0; i < maxLotes; i++) {
+            List<Long> ids = passwordRecoveryRepository.buscarIdsVencidos(ahora, PageRequest.of(0, lote));
+            if (ids.isEmpty()) {
+                break;
+            }
+            total += passwordRecoveryRepository.eliminarPorIds(ids);
+            if (ids.size() < lote) {
+                break;
+            }
+            if (!pausar()) {
+                break;
+            }
+        }
+
+        purgadas.increment(total);
+        purgadasPorCorrida.record(total);
+        return total;
+    }
+
+    private boolean pausar() {
+        if (pausa.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(pausa);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.user.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.user.model.PasswordReset;
+
+// Códigos en memoria, uno por email (una solicitud nueva reemplaza la anterior): pedir y validar
+// un código no toca la base. Solo sirve con una instancia del servicio y se pierde al reiniciar.
+// Los vencidos se liberan con una rueda de tiempo: cada ranura junta los emails que vencen en
+// ese tick y avanzar() solo revisa la ranura del tick que paso, sin recorrer todo el mapa.
+// Ademas cada lectura revisa la expiracion, asi que un codigo vencido nunca valida
+@Component
+@ConditionalOnProperty(name = "recuperacion.store", havingValue = "memoria")
+public class MemoriaPasswordRecoveryStore implements PasswordRecoveryStore {
+
+    private final Clock reloj;
+    private final int maxIntentos;
+    private final long tickMillis;
+    private final ConcurrentHashMap<String, Entrada> porEmail = new ConcurrentHashMap<>();
+    private final Set<String>[] ranuras;
+    private long ultimoTick;
+
+    private record Entrada(PasswordReset solicitud, AtomicInteger fallidos) {}
+
+    @Autowired
+    public MemoriaPasswordRecoveryStore(@Value("${recuperacion.memoria.max-intentos:5}") int maxIntentos,
+                                        @Value("${recuperacion.memoria.tick:15000}") long tickMillis,
+                                        @Value("${recuperacion.memoria.ranuras:64}") int ranuras) {
+        this(Clock.systemDefaultZone(), maxIntentos, Duration.ofMillis(tickMillis), ranuras);
+    }
+
+    @SuppressWarnings("unchecked")
+    MemoriaPasswordRecoveryStore(Clock reloj, int maxIntentos, Duration tick, int ranuras) {
+        this.reloj = reloj;
+        this.maxIntentos = maxIntentos;
+        this.tickMillis = tick.toMillis();
+        this.ranuras = new Set[ranuras];
+        for (int i = 0; i < ranuras; i++) {
+            this.ranuras[i] = ConcurrentHashMap.newKeySet();
+        }
+        this.ultimoTick = reloj.millis() / tickMillis;
+    }
+
+    @Override
+    public PasswordReset guardar(PasswordReset solicitud) {
+        String clave = clave(solicitud.getEmail());
+        porEmail.put(clave, new Entrada(solicitud, new AtomicInteger()));
+        programar(clave, solicitud.getExpiresAt());
+        return solicitud;
+    }
+
+    @Override
+    public PasswordReset buscarUltima(String email) {
+        Entrada entrada = vigente(clave(email));
+        return entrada == null ? null : entrada.solicitud();
+    }
+
+    @Override
+    public boolean validar(String email, String codigo) {
+        String clave = clave(email);
+        Entrada entrada = vigente(clave);
+        if (entrada == null || codigo == null) {
+            return false;
+        }
+
+        boolean coincide = MessageDigest.isEqual(
+                entrada.solicitud().getRecoveryCode().getBytes(StandardCharsets.UTF_8),
+                codigo.getBytes(StandardCharsets.UTF_8));
+        if (coincide) {
+            return true;
+        }
+
+        // Demasiados intentos fallidos: el código se invalida y hay que pedir otro
+        if (entrada.fallidos().incrementAndGet() >= maxIntentos) {
+            porEmail.remove(clave, entrada);
+        }
+        return false;
+    }
+
+    @Override
+    public void eliminar(String email, String codigo) {
+        porEmail.computeIfPresent(clave(email),
+                (k, entrada) -> entrada.solicitud().getRecoveryCode().equals(codigo) ? null : entrada);
+    }
+
+    /**
+     * Libera los códigos de las ranuras cuyos ticks ya pasaron. Spring no la ejecuta dos veces a la vez
+     */
+    @Scheduled(fixedRateString = "${recuperacion.memoria.tick:15000}")
+    public void avanzar() {
+        long actual = reloj.millis() / tickMillis;
+        // Si paso mas de una vuelta alcanza con revisar cada ranura una vez
+        long desde = Math.max(ultimoTick + 1, actual - ranuras.length + 1);
+        for (long t = desde; t <= actual; t++) {
+            Iterator<String> it = ranuras[(int) (t % ranuras.length)].iterator();
+            while (it.hasNext()) {
+                String clave = it.next();
+                it.remove();
+                Entrada entrada = porEmail.get(clave);
+                if (entrada == null) {
+                    continue;
+                }
+                if (vencida(entrada)) {
+                    porEmail.remove(clave, entrada);
+                } else {
+                    // Vence mas alla de una vuelta de la rueda (o fue reemplazado): se reprograma
+                    programar(clave, entrada.solicitud().getExpiresAt());
+                }
+            }
+        }
+        ultimoTick = actual;
+    }
+
+    int tamano() {
+        return porEmail.size();
+    }
+
+    private void programar(String clave, LocalDateTime expira) {
+        long tick = Math.ceilDiv(expira.atZone(reloj.getZone()).toInstant().toEpochMilli(), tickMillis);
+        long actual = reloj.millis() / tickMillis;
+        // Nunca en la ranura del tick actual (ya se reviso) ni mas alla de una vuelta
+        tick = Math.min(Math.max(tick, actual + 1), actual + ranuras.length - 1);
+        ranuras[(int) (tick % ranuras.length)].add(clave);
+    }
+
+    private Entrada vigente(String clave) {
+        Entrada entrada = porEmail.get(clave);
+        if (entrada != null && vencida(entrada)) {
+            porEmail.remove(clave, entrada);
+            return null;
+        }
+        return entrada;
+    }
+
+    private boolean vencida(Entrada entrada) {
+        return !entrada.solicitud().getExpiresAt().isAfter(LocalDateTime.now(reloj));
+    }
+
+    private static String clave(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -7,7 +7,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 
 import com.example.user.model.PasswordReset;
-import com.example.user.repository.PasswordRecoveryRepository;
 
 import jakarta.transaction.Transactional;
 
@@ -15,8 +14,9 @@ import jakarta.transaction.Transactional;
 @Transactional
 public class PasswordRecoveryService {
 
+    // JpaPasswordRecoveryStore o MemoriaPasswordRecoveryStore segun recuperacion.store
     @Autowired
-    private PasswordRecoveryRepository repo;
+    private PasswordRecoveryStore store;
 
     /**
      * Genera un código de recuperación de 5 dígitos
@@ -41,33 +41,28 @@ public class PasswordRecoveryService {
         reset.setExpiresAt(ahora.plusMinutes(10)); // expira en 10 minutos
         reset.setRecoveryCode(codigo);
 
-        return repo.save(reset);
+        return store.guardar(reset);
     }
 
     /**
      * Obtiene la última solicitud de recuperación hecha por ese email
      */
     public PasswordReset obtenerUltimaSolicitud(String email) {
-        return repo.findTopByEmailOrderByCreatedAtDesc(email);
+        return store.buscarUltima(email);
     }
 
     /**
      * Verifica si el código ingresado por el usuario es correcto
      */
     public boolean validarCodigo(String email, String codigo) {
+        return store.validar(email, codigo);
+    }
 
-        PasswordReset registro = repo.findByEmailAndRecoveryCode(email, codigo);
-
-        if (registro == null) {
-            return false; // no existe ese código para ese email
-        }
-
-        // Verificar expiración
-        if (registro.getExpiresAt().isBefore(LocalDateTime.now())) {
-            return false; // ya expiró
-        }
-
-        return true;
+    /**
+     * Elimina el código una vez usado
+     */
+    public void consumirCodigo(String email, String codigo) {
+        store.eliminar(email, codigo);
     }
 
 }
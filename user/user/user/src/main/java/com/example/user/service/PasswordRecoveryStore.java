@@ -0,0 +1,30 @@
+package com.example.user.service;
+
+import com.example.user.model.PasswordReset;
+
+/**
+ * Donde se guardan los códigos de recuperación de contraseña. Se elige con recuperacion.store:
+ * "jpa" (por defecto, tabla recuperacion_contrasena) o "memoria" (solo para un único nodo)
+ */
+public interface PasswordRecoveryStore {
+
+    /**
+     * Guarda una solicitud nueva
+     */
+    PasswordReset guardar(PasswordReset solicitud);
+
+    /**
+     * Última solicitud del email, o null si no hay
+     */
+    PasswordReset buscarUltima(String email);
+
+    /**
+     * true si el código corresponde al email y no expiró
+     */
+    boolean validar(String email, String codigo);
+
+    /**
+     * Elimina el código una vez usado
+     */
+    void eliminar(String email, String codigo);
+}
@@ -0,0 +1,85 @@
+package com.example.user.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Service;
+
+// Plantillas HTML de correo (src/main/resources/templates/correo/<nombre>.html) con variables {{nombre}}.
+// Cada plantilla se lee y se compila una sola vez; renderizar solo concatena los trozos fijos con los valores
+@Service
+public class PlantillasCorreo {
+
+    public static final String RECUPERACION = "recuperacion";
+
+    private final Map<String, Plantilla> compiladas = new ConcurrentHashMap<>();
+
+    // Trozos de texto fijo intercalados con nombres de variables: texto[0] var[0] texto[1] ... texto[n]
+    private record Plantilla(String[] textos, String[] variables, int largoFijo) {}
+
+    /**
+     * Devuelve la plantilla con las variables reemplazadas; los valores se escapan como HTML
+     */
+    public String renderizar(String nombre, Map<String, String> valores) {
+        Plantilla plantilla = compiladas.computeIfAbsent(nombre, PlantillasCorreo::compilar);
+
+        StringBuilder sb = new StringBuilder(plantilla.largoFijo() + 64);
+        for (int i = 0; i < plantilla.variables().length; i++) {
+            sb.append(plantilla.textos()[i]);
+            String valor = valores.get(plantilla.variables()[i]);
+            if (valor == null) {
+                throw new IllegalArgumentException("Falta la variable " + plantilla.variables()[i] + " de la plantilla " + nombre);
+            }
+            escaparHtml(valor, sb);
+        }
+        sb.append(plantilla.textos()[plantilla.variables().length]);
+        return sb.toString();
+    }
+
+    private static Plantilla compilar(String nombre) {
+        String fuente;
+        try (InputStream in = new ClassPathResource("templates/correo/" + nombre + ".html").getInputStream()) {
+            fuente = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("No existe la plantilla de correo " + nombre, e);
+        }
+
+        List<String> textos = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+        int desde = 0;
+        int inicio;
+        while ((inicio = fuente.indexOf("{{", desde)) >= 0) {
+            int fin = fuente.indexOf("}}", inicio);
+            if (fin < 0) {
+                break;
+            }
+            textos.add(fuente.substring(desde, inicio));
+            variables.add(fuente.substring(inicio + 2, fin).trim());
+            desde = fin + 2;
+        }
+        textos.add(fuente.substring(desde));
+
+        int largoFijo = textos.stream().mapToInt(String::length).sum();
+        return new Plantilla(textos.toArray(new String[0]), variables.toArray(new String[0]), largoFijo);
+    }
+
+    private static void escaparHtml(String valor, StringBuilder sb) {
+        for (int i = 0; i < valor.length(); i++) {
+            char c = valor.charAt(i);
+            switch (c) {
+                case '<' -> sb.append("&lt;");
+                case '>' -> sb.append("&gt;");
+                case '&' -> sb.append("&amp;");
+                case '"' -> sb.append("&quot;");
+                case '\'' -> sb.append("&#39;");
+                default -> sb.append(c);
+            }
+        }
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.user.service;
 
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 
 import com.example.user.model.Rol;
@@ -10,21 +16,84 @@ import com.example.user.repository.RoleRepository;
 
 import jakarta.transaction.Transactional;
 
+// Los roles son tres (ADMIN, USER, DEALER) y casi nunca cambian: se cargan una vez y se sirven
+// desde un mapa inmutable que se reemplaza entero al confirmarse el guardado de un rol. Si piden un id o un nombre
+// que no esta (un rol creado por fuera del servicio) se recarga una vez antes de fallar.
+// Se devuelven copias sin la lista de usuarios, asi nadie modifica el rol compartido
 @Service
 @Transactional
 public class RoleService {
     @Autowired
     private RoleRepository roleRepository;
 
+    private volatile Roles roles;
+
+    private record Roles(Map<Long, Rol> porId, Map<String, Rol> porNombre) {}
+
     //metodo para buscar todos los roles
     public List<Rol> buscarRoles(){
-        return roleRepository.findAll();
+        return cargados().porId().values().stream()
+                .sorted(Comparator.comparingLong(Rol::getId))
+                .map(RoleService::copia)
+                .toList();
     }
 
     //metodo para buscar un rol por su id
     public Rol obtenerRolPorId(Long id){
-        return roleRepository.findById(id)
-        .orElseThrow(()-> new RuntimeException("Rol no encontrado ID: " + id));
+        if (id == null) {
+            throw new RuntimeException("Rol no encontrado ID: null");
+        }
+        Rol rol = cargados().porId().get(id);
+        if (rol == null) {
+            rol = recargar().porId().get(id);
+        }
+        if (rol == null) {
+            throw new RuntimeException("Rol no encontrado ID: " + id);
+        }
+        return copia(rol);
+    }
+
+    //metodo para buscar un rol por su nombre
+    public Rol obtenerRolPorNombre(String nombre){
+        Rol rol = cargados().porNombre().get(nombre);
+        if (rol == null) {
+            rol = recargar().porNombre().get(nombre);
+        }
+        if (rol == null) {
+            throw new RuntimeException("Rol " + nombre + " no encontrado");
+        }
+        return copia(rol);
     }
 
-}
\ No newline at end of file
+    //metodo para guardar un rol; la cache se vuelve a cargar despues del commit
+    //(si la transaccion se revierte la cache no ve un rol que no existe)
+    public Rol guardarRol(Rol rol){
+        Rol guardado = roleRepository.save(rol);
+        Transacciones.despuesDelCommit(this::recargar);
+        return copia(guardado);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void cargarAlIniciar() {
+        recargar();
+    }
+
+    private Roles cargados() {
+        Roles actuales = roles;
+        return actuales != null ? actuales : recargar();
+    }
+
+    // Dos recargas a la vez solo hacen la misma consulta dos veces
+    private Roles recargar() {
+        List<Rol> todos = roleRepository.findAll().stream().map(RoleService::copia).toList();
+        Roles nuevos = new Roles(
+                todos.stream().collect(Collectors.toUnmodifiableMap(Rol::getId, Function.identity())),
+                todos.stream().collect(Collectors.toUnmodifiableMap(Rol::getNombre, Function.identity())));
+        roles = nuevos;
+        return nuevos;
+    }
+
+    private static Rol copia(Rol rol) {
+        return new Rol(rol.getId(), rol.getNombre(), null);
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.user.service;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 import com.example.user.model.AuthResponse;
@@ -11,9 +17,9 @@ import com.example.user.model.PasswordReset;
 import com.example.user.model.Rol;
 import com.example.user.model.User;
 import com.example.user.model.Dto.ChangeusernameRequest;
+import com.example.user.model.Dto.PaginaUsuarios;
 import com.example.user.model.Dto.UserUpdateResponse;
-import com.example.user.repository.PasswordRecoveryRepository;
-import com.example.user.repository.RoleRepository;
+import com.example.user.model.Dto.UsuarioResumen;
 import com.example.user.repository.UserRepository;
 
 import jakarta.transaction.Transactional;
@@ -22,8 +28,12 @@ import jakarta.transaction.Transactional;
 @Service
 @Transactional
 public class UserService {
+    public static final int POR_PAGINA = 20;
+    public static final int MAX_POR_PAGINA = 100;
+    public static final int MAX_IDS_POR_CONSULTA = 100;
+
     @Autowired
-    private RoleRepository roleRepository;
+    private RoleService roleService;
     @Autowired
     private UserRepository usuarioRepository;
     @Autowired
@@ -31,15 +41,19 @@ public class UserService {
     @Autowired
     private PasswordRecoveryService passwordRecoveryService;
     @Autowired
-    private PasswordRecoveryRepository  passwordRecoveryRepository;
-    @Autowired
     private JwtUtil jwtUtil;
 
      @Autowired
     private JwtPasswordReset jwtPasswordReset;
 
      @Autowired
-    private EmailService emailService;
+    private CorreoOutboxService correoOutboxService;
+
+     @Autowired
+    private PlantillasCorreo plantillasCorreo;
+
+     @Autowired
+    private ExistenciaUsuarios existenciaUsuarios;
 
    // función de solicitud de cambio de contraseña (manda email con código)
    public String solicitarRecuperacionContrasena(String correo) {
@@ -52,21 +66,13 @@ public class UserService {
     PasswordReset solicitud = passwordRecoveryService.crearSolicitud(user.getCorreo());
     String codigo = solicitud.getRecoveryCode();
 
-    // 3. Construir mensaje HTML
-    String mensaje = "<html>" +
-            "<body>" +
-            "<p>Hola <strong>" + user.getCorreo() + "</strong>,</p>" +
-            "<p>Para recuperar tu contraseña, usa este código:</p>" +
-            "<h2 style='font-size:22px;'>" + codigo + "</h2>" +
-            "<p>Este código expira en 10 minutos.</p>" +
-            "<p>Si no solicitaste este cambio, ignora este correo.</p>" +
-            "<br>" +
-            "<p>Saludos,<br>Equipo Duodeal</p>" +
-            "</body>" +
-            "</html>";
-
-    // 4. Enviar correo
-    emailService.enviarCorreo(user.getCorreo(), "Recuperación de contraseña DuoDeal", mensaje);
+    // 3. Construir mensaje HTML con la plantilla ya compilada
+    String mensaje = plantillasCorreo.renderizar(PlantillasCorreo.RECUPERACION,
+            Map.of("correo", user.getCorreo(), "codigo", codigo));
+
+    // 4. Dejar el correo en la bandeja de salida, en esta misma transaccion;
+    //    DespachadorCorreos lo envia en segundo plano
+    correoOutboxService.encolar(user.getCorreo(), "Recuperación de contraseña DuoDeal", mensaje);
 
     return "Se ha enviado un correo con instrucciones para recuperar la contraseña.";
 }
@@ -101,10 +107,7 @@ public String confirmarRecuperacionContrasena(String correo, String codigo, Stri
     usuarioRepository.save(user);
 
     // 6. Eliminar el registro usado (buena práctica)
-    PasswordReset registro = passwordRecoveryRepository.findByEmailAndRecoveryCode(correo, codigo);
-    if (registro != null) {
-        passwordRecoveryRepository.delete(registro);
-    }
+    passwordRecoveryService.consumirCodigo(correo, codigo);
 
     return "Contraseña actualizada exitosamente.";
 }
@@ -114,19 +117,25 @@ public String confirmarRecuperacionContrasena(String correo, String codigo, Stri
     public AuthResponse autenticarUsuario(String mail, String password) {
         // Validaciones de entrada
         if (mail == null || mail.trim().isEmpty()) {
-            throw new RuntimeException("El mail de usuario no puede estar vacío");
+            throw new IllegalArgumentException("El mail de usuario no puede estar vacío");
         }
         if (password == null || password.trim().isEmpty()) {
-            throw new RuntimeException("La contraseña no puede estar vacía");
+            throw new IllegalArgumentException("La contraseña no puede estar vacía");
         }
 
         // Buscar usuario por username
         User user = usuarioRepository.findByCorreo(mail.trim())
-                .orElseThrow(() -> new RuntimeException("Credenciales inválidas"));
+                .orElseThrow(CredencialesInvalidasException::new);
 
         // Validar contraseña encriptada
         if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new RuntimeException("Credenciales inválidas");
+            throw new CredencialesInvalidasException();
+        }
+
+        // Si el hash se genero con otro costo de BCrypt se vuelve a generar con el actual
+        if (passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.setPassword(passwordEncoder.encode(password));
+            usuarioRepository.save(user);
         }
 
         // Validar que el usuario tenga un rol asignado
@@ -135,7 +144,7 @@ public String confirmarRecuperacionContrasena(String correo, String codigo, Stri
         }
 
         // Generar token JWT
-        String token = jwtUtil.generarToken(user.getUsername(), user.getRol().getNombre());
+        String token = jwtUtil.generarToken(user.getUsername(), user.getRol().getNombre(), user.getId());
 
         // Retornar respuesta con datos del usuario, su rol y el token
         return new AuthResponse(
@@ -191,6 +200,47 @@ public String confirmarRecuperacionContrasena(String correo, String codigo, Stri
         return usuarioRepository.findAll();
     }
 
+    //metodo para buscar varios usuarios por id con una sola consulta; los que no existen no vienen
+    public List<UsuarioResumen> buscarUsuariosPorIds(Collection<Long> ids){
+        Set<Long> distintos = ids.stream()
+                .filter(id -> id != null && id > 0)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (distintos.size() > MAX_IDS_POR_CONSULTA) {
+            throw new RuntimeException("Se pueden consultar como máximo " + MAX_IDS_POR_CONSULTA + " usuarios a la vez");
+        }
+        if (distintos.isEmpty()) {
+            return List.of();
+        }
+        return usuarioRepository.buscarResumenes(distintos);
+    }
+
+    //metodo para saber si existe un usuario, sin cargarlo
+    public boolean existeUsuario(Long id){
+        return id != null && id > 0 && existenciaUsuarios.existe(id);
+    }
+
+    //metodo para saber si hay algun usuario registrado
+    public boolean existenUsuarios(){
+        return usuarioRepository.count() > 0;
+    }
+
+    //metodo para listar usuarios por paginas, sin cargar las entidades completas
+    public PaginaUsuarios listarUsuarios(Long despues, String rol, String prefijoUsername, Integer limite){
+        int tamano = limite == null ? POR_PAGINA : Math.max(1, Math.min(limite, MAX_POR_PAGINA));
+        String filtroRol = rol == null || rol.isBlank() ? null : rol.trim().toUpperCase();
+        String filtroPrefijo = prefijoUsername == null || prefijoUsername.isBlank() ? null
+                : prefijoUsername.trim().toLowerCase().replaceAll("([!%_])", "!$1") + "%";
+
+        // Se pide uno de mas para saber si hay pagina siguiente
+        List<UsuarioResumen> usuarios = usuarioRepository.buscarPagina(
+                despues == null ? 0 : despues, filtroRol, filtroPrefijo, PageRequest.of(0, tamano + 1));
+        if (usuarios.size() <= tamano) {
+            return new PaginaUsuarios(usuarios, null);
+        }
+        List<UsuarioResumen> pagina = usuarios.subList(0, tamano);
+        return new PaginaUsuarios(List.copyOf(pagina), pagina.get(tamano - 1).getId());
+    }
+
     //metodo para crear un nuevo usuario
     public User crearUsuario(String username, String password, String correo, Long roleid){
         // Validaciones de entrada
@@ -221,8 +271,7 @@ public String confirmarRecuperacionContrasena(String correo, String codigo, Stri
         }
 
         //verificar si el rol existe para poder crear el usuario
-        Rol role = roleRepository.findById(roleid)
-        .orElseThrow(()-> new RuntimeException("Rol no encontrado con ID: " + roleid));
+        Rol role = roleService.obtenerRolPorId(roleid);
         
         User user = new User();
         user.setUsername(username);
@@ -245,6 +294,7 @@ public String eliminarusuarioporid(Long id) {
     }
 
     usuarioRepository.deleteById(id);
+    existenciaUsuarios.olvidar(id);
 
     return "El usuario con ID " + id + " se ha eliminado exitosamente";
 }
@@ -335,8 +385,7 @@ public UserUpdateResponse cambiarNombreUsuario(Long id, ChangeusernameRequest re
             throw new RuntimeException("El rol no es válido");
         }
 
-        Rol rol = roleRepository.findById(datosnuevos.getRol().getId())
-            .orElseThrow(() -> new RuntimeException("Rol no encontrado con ID: " + datosnuevos.getRol().getId()));
+        Rol rol = roleService.obtenerRolPorId(datosnuevos.getRol().getId());
 
         usuarioExistente.setUsername(nuevoUsername);
         usuarioExistente.setCorreo(nuevoCorreo);
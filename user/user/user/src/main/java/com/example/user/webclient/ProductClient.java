@@ -7,6 +7,8 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.reactive.function.BodyInserters;
 
+import reactor.core.publisher.Mono;
+
 @Component
 public class ProductClient {
 
@@ -18,7 +20,8 @@ public class ProductClient {
                 .build();
     }
 
-    public String eliminarProductosPorUserId(Long idusuario, String token) {
+    // No bloquea; quien lo use decide dónde esperar el resultado
+    public Mono<String> eliminarProductosPorUserId(Long idusuario, String token) {
 
         TokenRequest body = new TokenRequest(token);
 
@@ -37,7 +40,6 @@ public class ProductClient {
                         response -> response.bodyToMono(String.class)
                                 .map(msg -> new RuntimeException("Error 5xx del servidor de productos: " + msg))
                 )
-                .bodyToMono(String.class)
-                .block();
+                .bodyToMono(String.class);
     }
 }
@@ -3,7 +3,7 @@ package com.example.user;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
-@SpringBootTest
+@SpringBootTest(properties = "jwt.secret=defaultSecretKeyForDevelopmentOnlyNotForProduction")
 class UserApplicationTests {
 
 	@Test
@@ -0,0 +1,80 @@
+package com.example.user.benchmark;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import com.example.user.config.PasswordEncoderAcotado;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// Logins por segundo (matches de BCrypt) con 16 hilos pidiendo a la vez, segun el costo.
+// "directo" es el flujo anterior (BCrypt en el hilo de la peticion, usa todos los nucleos);
+// "acotado" pasa por PasswordEncoderAcotado, que deja libre un nucleo para el resto del servicio.
+// El throughput de login de los dos deberia ser parecido: lo que cambia es que con "acotado"
+// nunca hay mas de nucleos - 1 hashes compitiendo por CPU.
+//
+// Ejecutar con: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.user.benchmark.BCryptBenchmark
+// Para la prueba HTTP de /duodeal/auth/login ver PruebaCargaLogin.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 3)
+@Threads(16)
+@Fork(1)
+public class BCryptBenchmark {
+
+    @Param({"10", "12"})
+    public int costo;
+
+    private BCryptPasswordEncoder directo;
+    private PasswordEncoderAcotado acotado;
+    private String hash;
+
+    @Setup
+    public void setup() {
+        directo = new BCryptPasswordEncoder(costo);
+        int hilos = Math.max(1, Runtime.getRuntime().availableProcessors() - 1);
+        acotado = new PasswordEncoderAcotado(costo, hilos, 1000, Duration.ofMinutes(1), new SimpleMeterRegistry());
+        hash = directo.encode("123456");
+    }
+
+    @TearDown
+    public void cerrar() {
+        acotado.cerrar();
+    }
+
+    @Benchmark
+    public boolean directo() {
+        return directo.matches("123456", hash);
+    }
+
+    @Benchmark
+    public boolean acotado() {
+        return acotado.matches("123456", hash);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BCryptBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
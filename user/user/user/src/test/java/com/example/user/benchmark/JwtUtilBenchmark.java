@@ -0,0 +1,78 @@
+package com.example.user.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.crypto.SecretKey;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.example.user.service.JwtPrincipal;
+import com.example.user.service.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+// Costo por petición de validar un JWT en JwtAuthenticationFilter.
+// "antes" reproduce el flujo anterior: clave y parser nuevos en cada llamada y tres parseos
+// (esTokenValido, obtenerUsername, obtenerRol). "despues" es un solo obtenerPrincipal.
+//
+// Ejecutar con: mvn test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.example.user.benchmark.JwtUtilBenchmark
+// o desde el IDE ejecutando main.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET = "defaultSecretKeyForDevelopmentOnlyNotForProduction";
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setup() {
+        jwtUtil = new JwtUtil(SECRET, 3_600_000);
+        token = jwtUtil.generarToken("matias", "ADMIN", 1L);
+    }
+
+    @Benchmark
+    public void antes(Blackhole bh) {
+        bh.consume(parsearComoAntes(token) != null);
+        bh.consume(parsearComoAntes(token).getSubject());
+        bh.consume(parsearComoAntes(token).get("rol", String.class));
+    }
+
+    @Benchmark
+    public JwtPrincipal despues() {
+        return jwtUtil.obtenerPrincipal(token);
+    }
+
+    // Lo que hacía getSigningKey() + Jwts.parser() en cada llamada
+    private static Claims parsearComoAntes(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        return Jwts.parser().verifyWith(key).build().parseSignedClaims(token).getPayload();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtUtilBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
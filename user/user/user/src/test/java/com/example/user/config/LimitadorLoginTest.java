@@ -0,0 +1,120 @@
+package com.example.user.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class LimitadorLoginTest {
+
+    private long ahora;
+    private SimpleMeterRegistry registry;
+    private LimitadorLogin limitador;
+
+    @BeforeEach
+    void setup() {
+        ahora = 0;
+        registry = new SimpleMeterRegistry();
+        // 3 intentos por minuto por email, 5 por IP, bloqueo tras 3 fallos
+        limitador = new LimitadorLogin(() -> ahora, 3, 5, 3,
+                Duration.ofMinutes(15), Duration.ofMinutes(5), 4, registry);
+    }
+
+    // ================= FICHAS =================
+
+    @Test
+    void verificar_agotaLasFichasDelEmail() {
+        for (int i = 0; i < 3; i++) {
+            assertTrue(limitador.verificar("Test@Correo.com", "10.0.0.1").permitido());
+        }
+
+        LimitadorLogin.Decision decision = limitador.verificar("test@correo.com", "10.0.0.2");
+
+        assertFalse(decision.permitido());
+        assertEquals(20, decision.reintentarEnSegundos());
+        assertEquals(1.0, registry.get("login.limitador").tag("resultado", "correo").counter().count());
+    }
+
+    @Test
+    void verificar_lasFichasSeRecargan() {
+        for (int i = 0; i < 3; i++) {
+            limitador.verificar("test@correo.com", "10.0.0.1");
+        }
+
+        ahora += Duration.ofSeconds(20).toNanos();
+
+        assertTrue(limitador.verificar("test@correo.com", "10.0.0.1").permitido());
+        assertFalse(limitador.verificar("test@correo.com", "10.0.0.1").permitido());
+    }
+
+    @Test
+    void verificar_limitaPorIpConEmailsDistintos() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limitador.verificar("u" + i + "@correo.com", "10.0.0.1").permitido());
+        }
+
+        assertFalse(limitador.verificar("otro@correo.com", "10.0.0.1").permitido());
+        assertTrue(limitador.verificar("otro@correo.com", "10.0.0.2").permitido());
+        assertEquals(1.0, registry.get("login.limitador").tag("resultado", "ip").counter().count());
+    }
+
+    // ================= FALLOS =================
+
+    @Test
+    void registrarFallo_bloqueaTrasMaxFallos() {
+        for (int i = 0; i < 3; i++) {
+            limitador.registrarFallo("test@correo.com");
+        }
+
+        LimitadorLogin.Decision decision = limitador.verificar("test@correo.com", "10.0.0.1");
+
+        assertFalse(decision.permitido());
+        assertEquals(300, decision.reintentarEnSegundos());
+        assertEquals(1.0, registry.get("login.bloqueos").counter().count());
+
+        ahora += Duration.ofMinutes(5).toNanos();
+        assertTrue(limitador.verificar("test@correo.com", "10.0.0.1").permitido());
+    }
+
+    @Test
+    void registrarExito_reiniciaLosFallos() {
+        limitador.registrarFallo("test@correo.com");
+        limitador.registrarFallo("test@correo.com");
+        limitador.registrarExito("test@correo.com");
+        limitador.registrarFallo("test@correo.com");
+
+        assertTrue(limitador.verificar("test@correo.com", "10.0.0.1").permitido());
+    }
+
+    @Test
+    void registrarFallo_fueraDeLaVentanaEmpiezaDeNuevo() {
+        limitador.registrarFallo("test@correo.com");
+        limitador.registrarFallo("test@correo.com");
+
+        ahora += Duration.ofMinutes(16).toNanos();
+        limitador.registrarFallo("test@correo.com");
+
+        assertTrue(limitador.verificar("test@correo.com", "10.0.0.1").permitido());
+    }
+
+    // ================= LIMPIEZA =================
+
+    @Test
+    void limpiar_quitaLasClavesSinEstadoPendiente() {
+        limitador.verificar("a@correo.com", "10.0.0.1");
+        for (int i = 0; i < 3; i++) {
+            limitador.registrarFallo("b@correo.com");
+        }
+        assertEquals(3, limitador.tamano());
+
+        ahora += Duration.ofMinutes(1).toNanos();
+        limitador.limpiar();
+
+        // b sigue bloqueado
+        assertEquals(1, limitador.tamano());
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.user.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class PasswordEncoderAcotadoTest {
+
+    private SimpleMeterRegistry registry;
+    private PasswordEncoderAcotado encoder;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+        encoder = new PasswordEncoderAcotado(5, 2, 10, Duration.ofSeconds(5), registry);
+    }
+
+    @AfterEach
+    void cerrar() {
+        encoder.cerrar();
+    }
+
+    // ================= HASH =================
+
+    @Test
+    void encodeYMatches() {
+        String hash = encoder.encode("123456");
+
+        assertTrue(hash.startsWith("$2a$05$"));
+        assertTrue(encoder.matches("123456", hash));
+        assertFalse(encoder.matches("otra", hash));
+        // Las tareas corren en el pool propio, que expone metricas
+        assertNotNull(registry.find("executor.pool.max").tag("name", "bcrypt").gauge());
+    }
+
+    @Test
+    void upgradeEncoding_siElCostoEsDistinto() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("x")));
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("x")));
+        assertFalse(encoder.upgradeEncoding(encoder.encode("x")));
+        assertFalse(encoder.upgradeEncoding("no-es-bcrypt"));
+    }
+
+    // ================= SATURACIÓN =================
+
+    @Test
+    void matches_superaLaEspera_rechazaConSaturado() {
+        PasswordEncoderAcotado lento = new PasswordEncoderAcotado(12, 1, 1, Duration.ofMillis(1), registry);
+        try {
+            String hash = new BCryptPasswordEncoder(12).encode("x");
+            assertThrows(PasswordEncoderAcotado.HashingSaturadoException.class, () -> lento.matches("x", hash));
+        } finally {
+            lento.cerrar();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.user.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+
+class PoolSesionesSmtpTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl mailSender;
+    private SimpleMeterRegistry registry;
+    private PoolSesionesSmtp pool;
+
+    @BeforeEach
+    void setup() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(smtp.getSmtp().getPort());
+        registry = new SimpleMeterRegistry();
+        pool = new PoolSesionesSmtp(mailSender, registry, 2, Duration.ofMinutes(1), 0);
+    }
+
+    @AfterEach
+    void cerrar() {
+        pool.cerrarTodas();
+    }
+
+    // ================= REUSO =================
+
+    @Test
+    void enviar_reutilizaLaConexionEntreEnvios() throws Exception {
+        pool.enviar(List.of(mensaje("a@test.com")));
+        pool.enviar(List.of(mensaje("b@test.com")));
+        pool.enviar(List.of(mensaje("c@test.com"), mensaje("d@test.com")));
+
+        assertEquals(4, smtp.getReceivedMessages().length);
+        assertEquals(1.0, registry.get("correo.smtp.sesiones").tag("tipo", "nueva").counter().count());
+        assertEquals(2.0, registry.get("correo.smtp.sesiones").tag("tipo", "reusada").counter().count());
+        assertEquals(4.0, registry.get("correo.enviados").tag("resultado", "ok").counter().count());
+        assertEquals(2.0 / 3, registry.get("correo.smtp.reuso").gauge().value(), 0.001);
+    }
+
+    @Test
+    void enviar_conexionVencida_abreUnaNueva() throws Exception {
+        pool = new PoolSesionesSmtp(mailSender, registry, 2, Duration.ZERO, 0);
+
+        pool.enviar(List.of(mensaje("a@test.com")));
+        pool.enviar(List.of(mensaje("b@test.com")));
+
+        assertEquals(2, smtp.getReceivedMessages().length);
+        assertEquals(2.0, registry.get("correo.smtp.sesiones").tag("tipo", "nueva").counter().count());
+    }
+
+    // ================= ERROR =================
+
+    @Test
+    void enviar_smtpCaido_informaTodosLosMensajesComoFallidos() throws Exception {
+        mailSender.setPort(1);
+        MimeMessage m1 = mensaje("a@test.com");
+        MimeMessage m2 = mensaje("b@test.com");
+
+        MailSendException ex = assertThrows(MailSendException.class, () -> pool.enviar(List.of(m1, m2)));
+
+        assertEquals(2, ex.getFailedMessages().size());
+        assertTrue(ex.getFailedMessages().containsKey(m1));
+        assertEquals(2.0, registry.get("correo.enviados").tag("resultado", "error").counter().count());
+    }
+
+    @Test
+    void enviar_conexionCortadaSinPoderReconectar_fallanLosRestantes() throws Exception {
+        JavaMailSenderImpl sender = mock(JavaMailSenderImpl.class);
+        Session session = mock(Session.class);
+        Transport cortada = mock(Transport.class);
+        Transport sinRed = mock(Transport.class);
+        when(sender.getSession()).thenReturn(session);
+        when(session.getTransport("smtp")).thenReturn(cortada, sinRed);
+        // El primer mensaje sale; despues el servidor corta y no se puede volver a conectar
+        doNothing().doThrow(new MessagingException("conexion cerrada")).when(cortada).sendMessage(any(), any());
+        when(cortada.isConnected()).thenReturn(false);
+        doThrow(new MessagingException("sin red")).when(sinRed).connect(any(), anyInt(), any(), any());
+        pool = new PoolSesionesSmtp(sender, registry, 2, Duration.ofMinutes(1), 0);
+
+        MimeMessage m1 = mensajeSimple("a@test.com");
+        MimeMessage m2 = mensajeSimple("b@test.com");
+        MimeMessage m3 = mensajeSimple("c@test.com");
+        MailSendException ex = assertThrows(MailSendException.class, () -> pool.enviar(List.of(m1, m2, m3)));
+
+        assertEquals(Set.of(m2, m3), ex.getFailedMessages().keySet());
+        assertEquals(1.0, registry.get("correo.enviados").tag("resultado", "ok").counter().count());
+        assertEquals(2.0, registry.get("correo.enviados").tag("resultado", "error").counter().count());
+        // La sesion cerrada no vuelve al pool
+        assertEquals(0.0, registry.get("correo.smtp.sesiones.libres").gauge().value());
+        verify(cortada, times(2)).sendMessage(any(), any());
+    }
+
+    private static MimeMessage mensajeSimple(String destino) throws Exception {
+        MimeMessage mimeMessage = new MimeMessage(Session.getInstance(new Properties()));
+        mimeMessage.setRecipients(Message.RecipientType.TO, destino);
+        mimeMessage.setText("hola");
+        return mimeMessage;
+    }
+
+    private MimeMessage mensaje(String destino) throws Exception {
+        MimeMessage mimeMessage = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(mimeMessage, true, "UTF-8");
+        helper.setFrom("noreply@duodeal.com");
+        helper.setTo(destino);
+        helper.setSubject("Prueba");
+        helper.setText("<p>hola</p>", true);
+        return mimeMessage;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.user.config;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Instant;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.user.service.JwtPrincipal;
+import com.example.user.service.JwtUtil;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class TokenVerificadoCacheTest {
+
+    private JwtUtil jwtUtil;
+    private SimpleMeterRegistry registry;
+    private TokenVerificadoCache tokenCache;
+
+    @BeforeEach
+    void setup() {
+        jwtUtil = spy(new JwtUtil("defaultSecretKeyForDevelopmentOnlyNotForProduction", 60_000));
+        registry = new SimpleMeterRegistry();
+        tokenCache = new TokenVerificadoCache(jwtUtil, 100, registry);
+    }
+
+    // ================= CACHE =================
+
+    @Test
+    void obtener_verificaUnaSolaVezPorToken() {
+        String token = jwtUtil.generarToken("matias", "ADMIN", 1L);
+
+        JwtPrincipal primero = tokenCache.obtener(token);
+        JwtPrincipal segundo = tokenCache.obtener(token);
+
+        assertSame(primero, segundo);
+        verify(jwtUtil, times(1)).obtenerPrincipal(token);
+        assertEquals(1, tokenCache.tamano());
+        assertEquals(0.5, registry.get("cache.hit.ratio").tag("cache", "jwt-verificados").gauge().value());
+    }
+
+    @Test
+    void obtener_tokenInvalidoNoSeGuarda() {
+        assertNull(tokenCache.obtener("no-es-un-token"));
+        assertNull(tokenCache.obtener("no-es-un-token"));
+
+        verify(jwtUtil, times(2)).obtenerPrincipal("no-es-un-token");
+        assertEquals(0, tokenCache.tamano());
+    }
+
+    @Test
+    void obtener_principalVencidoNoSeGuarda() {
+        doReturn(new JwtPrincipal(1L, "matias", "USER", Instant.now().minusSeconds(1)))
+                .when(jwtUtil).obtenerPrincipal("token");
+
+        tokenCache.obtener("token");
+
+        assertEquals(0, tokenCache.tamano());
+    }
+}
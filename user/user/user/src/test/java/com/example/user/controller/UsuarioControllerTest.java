@@ -1,5 +1,6 @@
 package com.example.user.controller;
 
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -7,18 +8,25 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 
 import java.util.List;
 
+import com.example.user.config.LimitadorLogin;
+import com.example.user.config.PasswordEncoderAcotado;
+import com.example.user.config.TokenVerificadoCache;
 import com.example.user.model.*;
 import com.example.user.model.Dto.ChangeusernameRequest;
+import com.example.user.model.Dto.PaginaUsuarios;
 import com.example.user.model.Dto.UserUpdateResponse;
+import com.example.user.model.Dto.UsuarioResumen;
 import com.example.user.service.*;
 import com.example.user.webclient.ProductClient;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -43,6 +51,15 @@ class UsuarioControllerTest {
     private ProductClient productClient;
     @MockBean
     private JwtPasswordReset jwtPasswordReset;
+    @MockBean
+    private TokenVerificadoCache tokenVerificadoCache;
+    @MockBean
+    private LimitadorLogin limitadorLogin;
+
+    @BeforeEach
+    void permitirLogin() {
+        when(limitadorLogin.verificar(anyString(), any())).thenReturn(new LimitadorLogin.Decision(true, 0));
+    }
 
     // ================= LOGIN =================
 
@@ -74,7 +91,7 @@ class UsuarioControllerTest {
     @Test
     void iniciarSesion_credencialesInvalidas() throws Exception {
         when(usuarioService.autenticarUsuario(anyString(), anyString()))
-                .thenThrow(new RuntimeException("Credenciales inválidas"));
+                .thenThrow(new CredencialesInvalidasException());
 
         mockMvc.perform(post("/duodeal/auth/login")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -86,6 +103,119 @@ class UsuarioControllerTest {
                 """))
                 .andExpect(status().isUnauthorized())
                 .andExpect(jsonPath("$.error").value("Error de autenticación"));
+
+        verify(limitadorLogin).registrarFallo("test@correo.com");
+    }
+
+    @Test
+    void iniciarSesion_errorDeBaseDeDatos_noCuentaComoFallo() throws Exception {
+        when(usuarioService.autenticarUsuario(anyString(), anyString()))
+                .thenThrow(new DataAccessResourceFailureException("Sin conexión a MySQL"));
+
+        mockMvc.perform(post("/duodeal/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "mail": "test@correo.com",
+                      "password": "123456"
+                    }
+                """))
+                .andExpect(status().isInternalServerError());
+
+        verify(limitadorLogin, never()).registrarFallo(anyString());
+    }
+
+    @Test
+    void iniciarSesion_datosVacios_noCuentaComoFallo() throws Exception {
+        when(usuarioService.autenticarUsuario(anyString(), anyString()))
+                .thenThrow(new IllegalArgumentException("La contraseña no puede estar vacía"));
+
+        mockMvc.perform(post("/duodeal/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "mail": "test@correo.com",
+                      "password": " "
+                    }
+                """))
+                .andExpect(status().isBadRequest());
+
+        verify(limitadorLogin, never()).registrarFallo(anyString());
+    }
+
+    @Test
+    void iniciarSesion_limiteSuperado() throws Exception {
+        when(limitadorLogin.verificar(anyString(), any())).thenReturn(new LimitadorLogin.Decision(false, 30));
+
+        mockMvc.perform(post("/duodeal/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "mail": "test@correo.com",
+                      "password": "123456"
+                    }
+                """))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "30"));
+
+        verify(usuarioService, never()).autenticarUsuario(anyString(), anyString());
+    }
+
+    @Test
+    void iniciarSesion_hashingSaturado() throws Exception {
+        when(usuarioService.autenticarUsuario(anyString(), anyString()))
+                .thenThrow(new PasswordEncoderAcotado.HashingSaturadoException("saturado"));
+
+        mockMvc.perform(post("/duodeal/auth/login")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "mail": "test@correo.com",
+                      "password": "123456"
+                    }
+                """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+
+        verify(limitadorLogin, never()).registrarFallo(anyString());
+    }
+
+    @Test
+    void cambiarContrasena_hashingSaturado() throws Exception {
+        when(usuarioService.cambiarContrasena(any(CambioContrasena.class)))
+                .thenThrow(new PasswordEncoderAcotado.HashingSaturadoException("saturado"));
+
+        mockMvc.perform(post("/duodeal/auth/change-password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "username": "matias",
+                      "contrasenaActual": "123456",
+                      "contrasenaNueva": "654321",
+                      "confirmarContrasena": "654321"
+                    }
+                """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
+    @Test
+    void restablecerContrasena_hashingSaturado() throws Exception {
+        when(usuarioService.confirmarRecuperacionContrasena(anyString(), anyString(), anyString(), anyString()))
+                .thenThrow(new PasswordEncoderAcotado.HashingSaturadoException("saturado"));
+
+        mockMvc.perform(post("/duodeal/auth/reset-password")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "correo": "test@correo.com",
+                      "codigo": "123456",
+                      "nuevaContrasena": "654321",
+                      "confirmarContrasena": "654321"
+                    }
+                """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
     }
 
     // ================= OBTENER USUARIOS =================
@@ -93,18 +223,40 @@ class UsuarioControllerTest {
     @Test
     void obtenerUsuarios_ok() throws Exception {
         when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
-        when(jwtUtil.esTokenValido("token")).thenReturn(true);
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
 
-        User user = new User();
-        user.setId(1L);
-        user.setUsername("matias");
+        UsuarioResumen user = new UsuarioResumen(1L, "matias", "matias@test.com", "USER");
 
-        when(usuarioService.buscarUsuarios()).thenReturn(List.of(user));
+        when(usuarioService.listarUsuarios(null, null, null, null))
+                .thenReturn(new PaginaUsuarios(List.of(user), null));
 
         mockMvc.perform(get("/duodeal/users")
                 .header("Authorization", "Bearer token"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$._embedded").exists());
+                .andExpect(jsonPath("$._embedded").exists())
+                .andExpect(jsonPath("$._links.next").doesNotExist());
+    }
+
+    @Test
+    void obtenerUsuarios_paginaConSiguiente() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("ADMIN"));
+
+        UsuarioResumen user = new UsuarioResumen(7L, "matias", "matias@test.com", "USER");
+
+        when(usuarioService.listarUsuarios(5L, "USER", "ma", 1))
+                .thenReturn(new PaginaUsuarios(List.of(user), 7L));
+
+        mockMvc.perform(get("/duodeal/users")
+                .param("despues", "5")
+                .param("rol", "USER")
+                .param("username", "ma")
+                .param("limite", "1")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.usuarioResumenList[0].rol").value("USER"))
+                .andExpect(jsonPath("$._embedded.usuarioResumenList[0].password").doesNotExist())
+                .andExpect(jsonPath("$._links.next.href").value(containsString("despues=7")));
     }
 
     @Test
@@ -116,12 +268,43 @@ class UsuarioControllerTest {
                 .andExpect(jsonPath("$.error").value("Acceso no autorizado"));
     }
 
+    @Test
+    void obtenerUsuariosPorIds_ok() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
+        when(usuarioService.buscarUsuariosPorIds(List.of(1L, 2L, 3L))).thenReturn(List.of(
+                new UsuarioResumen(1L, "matias", "matias@test.com", "USER"),
+                new UsuarioResumen(3L, "ana", "ana@test.com", "DEALER")));
+
+        mockMvc.perform(get("/duodeal/users")
+                .param("ids", "1,2,3")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$._embedded.usuarioResumenList.length()").value(2))
+                .andExpect(jsonPath("$._embedded.usuarioResumenList[1].username").value("ana"));
+
+        verify(usuarioService, never()).listarUsuarios(any(), any(), any(), any());
+    }
+
+    @Test
+    void obtenerUsuariosPorIds_demasiados() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
+        when(usuarioService.buscarUsuariosPorIds(anyList()))
+                .thenThrow(new RuntimeException("Se pueden consultar como máximo 100 usuarios a la vez"));
+
+        mockMvc.perform(get("/duodeal/users")
+                .param("ids", "1,2")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isBadRequest());
+    }
+
     // ================= OBTENER USUARIO POR ID =================
 
     @Test
     void obtenerUsuario_ok() throws Exception {
         when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
-        when(jwtUtil.esTokenValido("token")).thenReturn(true);
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
 
         User user = new User();
         user.setId(1L);
@@ -135,6 +318,48 @@ class UsuarioControllerTest {
                 .andExpect(jsonPath("$.username").value("matias"));
     }
 
+    // ================= EXISTENCIA =================
+
+    @Test
+    void existeUsuario_ok() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
+        when(usuarioService.existeUsuario(1L)).thenReturn(true);
+
+        mockMvc.perform(get("/duodeal/users/1/exists")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.existe").value(true))
+                .andExpect(jsonPath("$._links").doesNotExist());
+
+        verify(usuarioService, never()).getUsuario(anyLong());
+    }
+
+    @Test
+    void existeUsuario_noExiste() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
+        when(usuarioService.existeUsuario(9L)).thenReturn(false);
+
+        mockMvc.perform(get("/duodeal/users/9/exists")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.existe").value(false));
+    }
+
+    @Test
+    void existeUsuarioHead_ok() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
+        when(usuarioService.existeUsuario(1L)).thenReturn(true);
+
+        mockMvc.perform(head("/duodeal/users/1")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isOk());
+
+        verify(usuarioService, never()).getUsuario(anyLong());
+    }
+
     // ================= CREAR USUARIO =================
 
     @Test
@@ -161,13 +386,31 @@ class UsuarioControllerTest {
                 .andExpect(jsonPath("$.username").value("nuevo"));
     }
 
+    @Test
+    void crearUsuario_hashingSaturado() throws Exception {
+        when(usuarioService.crearUsuario(anyString(), anyString(), anyString(), anyLong()))
+                .thenThrow(new PasswordEncoderAcotado.HashingSaturadoException("saturado"));
+
+        mockMvc.perform(post("/duodeal/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                      "username": "nuevo",
+                      "password": "123456",
+                      "correo": "nuevo@test.com",
+                      "rol": { "id": 1 }
+                    }
+                """))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string("Retry-After", "2"));
+    }
+
     // ================= ELIMINAR =================
 
     @Test
     void eliminarUsuario_ok_admin() throws Exception {
         when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
-        when(jwtUtil.esTokenValido("token")).thenReturn(true);
-        when(jwtUtil.obtenerRol("token")).thenReturn("ADMIN");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("ADMIN"));
 
         when(usuarioService.eliminarusuarioporid(1L))
                 .thenReturn("Usuario eliminado");
@@ -178,12 +421,24 @@ class UsuarioControllerTest {
                 .andExpect(jsonPath("$.mensaje").exists());
     }
 
+    @Test
+    void eliminarUsuario_sinRolAdmin() throws Exception {
+        when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
+
+        mockMvc.perform(delete("/duodeal/users/1")
+                .header("Authorization", "Bearer token"))
+                .andExpect(status().isForbidden());
+
+        verify(usuarioService, never()).eliminarusuarioporid(anyLong());
+    }
+
     // ================= CAMBIAR NOMBRE =================
 
     @Test
     void cambiarNombreUsuario_ok() throws Exception {
         when(jwtUtil.extraerTokenDelHeader(anyString())).thenReturn("token");
-        when(jwtUtil.esTokenValido("token")).thenReturn(true);
+        when(jwtUtil.obtenerPrincipal("token")).thenReturn(principal("USER"));
 
         UserUpdateResponse response =
                 new UserUpdateResponse(1L, "nuevoNombre", "test@test.com");
@@ -200,4 +455,8 @@ class UsuarioControllerTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.username").value("nuevoNombre"));
     }
+
+    private JwtPrincipal principal(String rol) {
+        return new JwtPrincipal(1L, "matias", rol, java.time.Instant.now().plusSeconds(3600));
+    }
 }
@@ -0,0 +1,159 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.example.user.config.PoolSesionesSmtp;
+import com.example.user.model.CorreoPendiente;
+import com.example.user.repository.CorreoPendienteRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import jakarta.mail.internet.MimeMessage;
+
+// Prueba el despacho contra un servidor SMTP en memoria (GreenMail)
+@ExtendWith(MockitoExtension.class)
+class DespachadorCorreosTest {
+
+    @RegisterExtension
+    static GreenMailExtension smtp = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @Mock
+    private CorreoPendienteRepository correoPendienteRepository;
+
+    private DespachadorCorreos despachador;
+    private PoolSesionesSmtp pool;
+
+    @BeforeEach
+    void setup() {
+        despachador = nuevoDespachador(smtp.getSmtp().getPort());
+    }
+
+    @AfterEach
+    void cerrar() {
+        despachador.detener();
+        pool.cerrarTodas();
+    }
+
+    // ================= ENVÍO OK =================
+
+    @Test
+    void despachar_enviaElLoteYMarcaEnviados() throws Exception {
+        List<CorreoPendiente> pendientes = List.of(pendiente(1L, 0), pendiente(2L, 0), pendiente(3L, 0));
+        when(correoPendienteRepository.buscarListos(any(), any())).thenReturn(pendientes);
+        when(correoPendienteRepository.reservar(anyLong(), any(), any())).thenReturn(1);
+
+        int enviados = despachador.despachar();
+
+        assertEquals(3, enviados);
+        MimeMessage[] recibidos = smtp.getReceivedMessages();
+        assertEquals(3, recibidos.length);
+        List<String> asuntos = new ArrayList<>();
+        for (MimeMessage recibido : recibidos) {
+            asuntos.add(recibido.getSubject());
+        }
+        assertTrue(asuntos.containsAll(List.of("Codigo 1", "Codigo 2", "Codigo 3")));
+        assertTrue(guardados().stream().allMatch(c -> c.getEstado() == CorreoPendiente.Estado.ENVIADO));
+        // Enviado el correo no queda el codigo en claro en la tabla
+        assertTrue(guardados().stream().allMatch(c -> c.getCuerpo().isEmpty()));
+    }
+
+    @Test
+    void despachar_noEnviaLosQueOtraInstanciaReservo() {
+        when(correoPendienteRepository.buscarListos(any(), any()))
+                .thenReturn(List.of(pendiente(1L, 0), pendiente(2L, 0)));
+        when(correoPendienteRepository.reservar(eq(1L), any(), any())).thenReturn(0);
+        when(correoPendienteRepository.reservar(eq(2L), any(), any())).thenReturn(1);
+
+        assertEquals(1, despachador.despachar());
+        assertEquals(1, smtp.getReceivedMessages().length);
+    }
+
+    // ================= REINTENTOS =================
+
+    @Test
+    void despachar_smtpCaido_programaReintentoConEspera() {
+        cerrar();
+        despachador = nuevoDespachador(1);
+        when(correoPendienteRepository.buscarListos(any(), any())).thenReturn(List.of(pendiente(1L, 1)));
+        when(correoPendienteRepository.reservar(anyLong(), any(), any())).thenReturn(1);
+
+        assertEquals(0, despachador.despachar());
+
+        CorreoPendiente correo = guardados().get(0);
+        assertEquals(CorreoPendiente.Estado.PENDIENTE, correo.getEstado());
+        assertEquals(2, correo.getIntentos());
+        assertNotNull(correo.getUltimoError());
+        assertEquals("<p>1</p>", correo.getCuerpo());
+        // segundo fallo: espera base (1s) * 2
+        assertTrue(correo.getProximoIntento().isAfter(LocalDateTime.now().plusSeconds(1)));
+    }
+
+    @Test
+    void despachar_smtpCaido_alcanzaMaxIntentosYQuedaFallido() {
+        cerrar();
+        despachador = nuevoDespachador(1);
+        when(correoPendienteRepository.buscarListos(any(), any())).thenReturn(List.of(pendiente(1L, 2)));
+        when(correoPendienteRepository.reservar(anyLong(), any(), any())).thenReturn(1);
+
+        despachador.despachar();
+
+        assertEquals(CorreoPendiente.Estado.FALLIDO, guardados().get(0).getEstado());
+        assertEquals("", guardados().get(0).getCuerpo());
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<CorreoPendiente> guardados() {
+        ArgumentCaptor<Iterable<CorreoPendiente>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(correoPendienteRepository, atLeastOnce()).saveAll(captor.capture());
+        List<CorreoPendiente> todos = new ArrayList<>();
+        captor.getAllValues().forEach(lote -> lote.forEach(todos::add));
+        return todos;
+    }
+
+    private DespachadorCorreos nuevoDespachador(int puertoSmtp) {
+        JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(puertoSmtp);
+        mailSender.getJavaMailProperties().put("mail.smtp.connectiontimeout", "1000");
+
+        pool = new PoolSesionesSmtp(mailSender, new SimpleMeterRegistry(), 2, Duration.ofMinutes(1), 0);
+        EmailService emailService = new EmailService(mailSender, pool);
+        ReflectionTestUtils.setField(emailService, "correoEmisor", "noreply@duodeal.com");
+
+        return new DespachadorCorreos(correoPendienteRepository, emailService,
+                2, 50, 3, Duration.ofSeconds(1), Duration.ofMinutes(1), Duration.ofMinutes(5));
+    }
+
+    private CorreoPendiente pendiente(Long id, int intentos) {
+        CorreoPendiente correo = new CorreoPendiente();
+        correo.setId(id);
+        correo.setDestinatario("usuario" + id + "@test.com");
+        correo.setAsunto("Codigo " + id);
+        correo.setCuerpo("<p>" + id + "</p>");
+        correo.setEstado(CorreoPendiente.Estado.PENDIENTE);
+        correo.setIntentos(intentos);
+        correo.setProximoIntento(LocalDateTime.now());
+        correo.setCreadoEn(LocalDateTime.now());
+        return correo;
+    }
+}
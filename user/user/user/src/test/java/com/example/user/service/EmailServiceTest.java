@@ -4,6 +4,8 @@ import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
+import java.util.List;
+
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 
@@ -16,12 +18,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.example.user.config.PoolSesionesSmtp;
+
 @ExtendWith(MockitoExtension.class)
 class EmailServiceTest {
 
     @Mock
     private JavaMailSender mailSender;
 
+    @Mock
+    private PoolSesionesSmtp poolSesionesSmtp;
+
     @InjectMocks
     private EmailService emailService;
 
@@ -52,7 +59,7 @@ class EmailServiceTest {
                 )
         );
 
-        verify(mailSender).send(mimeMessage);
+        verify(poolSesionesSmtp).enviar(List.of(mimeMessage));
     }
 
     // ================= ERROR =================
@@ -73,7 +80,7 @@ class EmailServiceTest {
 
     assertEquals("No se pudo enviar el correo", ex.getMessage());
 
-    verify(mailSender, never()).send(any(MimeMessage.class));
+    verify(poolSesionesSmtp, never()).enviar(any());
 }
 
 }
@@ -0,0 +1,53 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.user.repository.UserRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+class ExistenciaUsuariosTest {
+
+    private UserRepository usuarioRepository;
+    private ExistenciaUsuarios existencia;
+
+    @BeforeEach
+    void setup() {
+        usuarioRepository = mock(UserRepository.class);
+        existencia = new ExistenciaUsuarios(usuarioRepository, 100, Duration.ofMinutes(5), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void existe_consultaUnaVezLosPositivos() {
+        when(usuarioRepository.existsById(1L)).thenReturn(true);
+
+        assertTrue(existencia.existe(1L));
+        assertTrue(existencia.existe(1L));
+
+        verify(usuarioRepository, times(1)).existsById(1L);
+    }
+
+    @Test
+    void existe_noGuardaLosNegativos() {
+        when(usuarioRepository.existsById(2L)).thenReturn(false, true);
+
+        assertFalse(existencia.existe(2L));
+        assertTrue(existencia.existe(2L));
+    }
+
+    @Test
+    void olvidar_vuelveAConsultar() {
+        when(usuarioRepository.existsById(1L)).thenReturn(true, false);
+
+        assertTrue(existencia.existe(1L));
+        existencia.olvidar(1L);
+
+        assertFalse(existencia.existe(1L));
+    }
+}
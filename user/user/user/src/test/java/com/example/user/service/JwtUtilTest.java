@@ -0,0 +1,46 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class JwtUtilTest {
+
+    private static final String SECRET = "defaultSecretKeyForDevelopmentOnlyNotForProduction";
+
+    private final JwtUtil jwtUtil = new JwtUtil(SECRET, 60_000);
+
+    // ================= PRINCIPAL =================
+
+    @Test
+    void obtenerPrincipal_unSoloParseo() {
+        String token = jwtUtil.generarToken("matias", "ADMIN", 7L);
+
+        JwtPrincipal principal = jwtUtil.obtenerPrincipal(token);
+
+        assertEquals(7L, principal.userId());
+        assertEquals("matias", principal.getName());
+        assertEquals("ADMIN", principal.rol());
+        assertTrue(principal.esAdmin());
+        assertNotNull(principal.expiracion());
+    }
+
+    @Test
+    void obtenerPrincipal_tokenSinUserId() {
+        JwtPrincipal principal = jwtUtil.obtenerPrincipal(jwtUtil.generarToken("matias", "USER"));
+
+        assertNull(principal.userId());
+        assertFalse(principal.esAdmin());
+    }
+
+    @Test
+    void obtenerPrincipal_tokenInvalido() {
+        JwtUtil otraClave = new JwtUtil("otraClaveSecretaDeDesarrolloQueNoEsLaDelServicioDeUsuarios", 60_000);
+        JwtUtil vencido = new JwtUtil(SECRET, -1_000);
+
+        assertNull(jwtUtil.obtenerPrincipal(otraClave.generarToken("matias", "USER", 1L)));
+        assertNull(jwtUtil.obtenerPrincipal(vencido.generarToken("matias", "USER", 1L)));
+        assertNull(jwtUtil.obtenerPrincipal("no-es-un-token"));
+        assertFalse(jwtUtil.esTokenValido("no-es-un-token"));
+    }
+}
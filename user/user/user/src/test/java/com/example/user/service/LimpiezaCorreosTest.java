@@ -0,0 +1,79 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.user.repository.CorreoPendienteRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LimpiezaCorreosTest {
+
+    @Mock
+    private CorreoPendienteRepository correoPendienteRepository;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    // ================= PURGA =================
+
+    @Test
+    void purgarTerminados_borraDeALotesLoAnteriorALaRetencion() {
+        LimpiezaCorreos limpieza = new LimpiezaCorreos(correoPendienteRepository, registry,
+                Duration.ofDays(7), 3, 10, Duration.ZERO);
+        when(correoPendienteRepository.buscarIdsTerminados(any(), any()))
+                .thenReturn(ids(1, 3), ids(4, 5));
+        when(correoPendienteRepository.eliminarPorIds(anyList()))
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        assertEquals(5, limpieza.purgarTerminados());
+
+        ArgumentCaptor<LocalDateTime> limite = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(correoPendienteRepository, times(2)).buscarIdsTerminados(limite.capture(), any());
+        assertTrue(limite.getValue().isBefore(LocalDateTime.now().minusDays(7).plusMinutes(1)));
+        assertEquals(5.0, registry.get("correo.purgados").counter().count());
+    }
+
+    @Test
+    void purgarTerminados_respetaElMaximoDeLotesPorCorrida() {
+        LimpiezaCorreos limpieza = new LimpiezaCorreos(correoPendienteRepository, registry,
+                Duration.ofDays(7), 2, 2, Duration.ZERO);
+        when(correoPendienteRepository.buscarIdsTerminados(any(), any())).thenReturn(ids(1, 2));
+        when(correoPendienteRepository.eliminarPorIds(anyList())).thenReturn(2);
+
+        assertEquals(4, limpieza.purgarTerminados());
+        verify(correoPendienteRepository, times(2)).eliminarPorIds(anyList());
+    }
+
+    @Test
+    void purgarTerminados_sinTerminados() {
+        LimpiezaCorreos limpieza = new LimpiezaCorreos(correoPendienteRepository, registry,
+                Duration.ofDays(7), 500, 10, Duration.ZERO);
+        when(correoPendienteRepository.buscarIdsTerminados(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, limpieza.purgarTerminados());
+        verify(correoPendienteRepository, never()).eliminarPorIds(anyList());
+    }
+
+    private List<Long> ids(long desde, long hasta) {
+        return LongStream.rangeClosed(desde, hasta).boxed().toList();
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.user.repository.PasswordRecoveryRepository;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+class LimpiezaRecuperacionesTest {
+
+    @Mock
+    private PasswordRecoveryRepository passwordRecoveryRepository;
+
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setup() {
+        registry = new SimpleMeterRegistry();
+    }
+
+    // ================= PURGA =================
+
+    @Test
+    void purgarVencidas_borraDeALotesHastaVaciar() {
+        LimpiezaRecuperaciones limpieza = new LimpiezaRecuperaciones(passwordRecoveryRepository, registry, 3, 10, Duration.ZERO);
+        when(passwordRecoveryRepository.buscarIdsVencidos(any(), any()))
+                .thenReturn(ids(1, 3), ids(4, 6), ids(7, 7));
+        when(passwordRecoveryRepository.eliminarPorIds(anyList()))
+                .thenAnswer(inv -> ((List<?>) inv.getArgument(0)).size());
+
+        int borradas = limpieza.purgarVencidas();
+
+        assertEquals(7, borradas);
+        verify(passwordRecoveryRepository, times(3)).eliminarPorIds(anyList());
+        assertEquals(7.0, registry.get("recuperacion.purgadas").counter().count());
+        assertEquals(1, registry.get("recuperacion.purga.filas").summary().count());
+        assertEquals(7.0, registry.get("recuperacion.purga.filas").summary().totalAmount());
+    }
+
+    @Test
+    void purgarVencidas_respetaElMaximoDeLotesPorCorrida() {
+        LimpiezaRecuperaciones limpieza = new LimpiezaRecuperaciones(passwordRecoveryRepository, registry, 2, 2, Duration.ZERO);
+        when(passwordRecoveryRepository.buscarIdsVencidos(any(), any())).thenReturn(ids(1, 2));
+        when(passwordRecoveryRepository.eliminarPorIds(anyList())).thenReturn(2);
+
+        assertEquals(4, limpieza.purgarVencidas());
+        verify(passwordRecoveryRepository, times(2)).eliminarPorIds(anyList());
+    }
+
+    @Test
+    void purgarVencidas_sinVencidas() {
+        LimpiezaRecuperaciones limpieza = new LimpiezaRecuperaciones(passwordRecoveryRepository, registry, 500, 10, Duration.ZERO);
+        when(passwordRecoveryRepository.buscarIdsVencidos(any(), any())).thenReturn(List.of());
+
+        assertEquals(0, limpieza.purgarVencidas());
+        verify(passwordRecoveryRepository, never()).eliminarPorIds(anyList());
+        assertEquals(1, registry.get("recuperacion.purga.filas").summary().count());
+    }
+
+    private List<Long> ids(long desde, long hasta) {
+        return LongStream.rangeClosed(desde, hasta).boxed().toList();
+    }
+}
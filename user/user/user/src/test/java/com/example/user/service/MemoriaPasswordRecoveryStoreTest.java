@@ -0,0 +1,144 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.example.user.model.PasswordReset;
+
+class MemoriaPasswordRecoveryStoreTest {
+
+    private RelojManual reloj;
+    private MemoriaPasswordRecoveryStore store;
+
+    @BeforeEach
+    void setup() {
+        reloj = new RelojManual(Instant.parse("2025-01-01T10:00:00Z"));
+        store = new MemoriaPasswordRecoveryStore(reloj, 3, Duration.ofSeconds(15), 8);
+    }
+
+    // ================= VALIDAR =================
+
+    @Test
+    void validar_codigoCorrecto() {
+        store.guardar(solicitud("Test@Correo.com", "12345", Duration.ofMinutes(10)));
+
+        assertTrue(store.validar("test@correo.com", "12345"));
+        assertEquals("12345", store.buscarUltima("test@correo.com").getRecoveryCode());
+    }
+
+    @Test
+    void validar_solicitudNuevaReemplazaLaAnterior() {
+        store.guardar(solicitud("test@correo.com", "11111", Duration.ofMinutes(10)));
+        store.guardar(solicitud("test@correo.com", "22222", Duration.ofMinutes(10)));
+
+        assertFalse(store.validar("test@correo.com", "11111"));
+        assertTrue(store.validar("test@correo.com", "22222"));
+    }
+
+    @Test
+    void validar_expirado() {
+        store.guardar(solicitud("test@correo.com", "12345", Duration.ofMinutes(10)));
+
+        reloj.avanzar(Duration.ofMinutes(10));
+
+        assertFalse(store.validar("test@correo.com", "12345"));
+        assertNull(store.buscarUltima("test@correo.com"));
+    }
+
+    @Test
+    void validar_demasiadosIntentosInvalidanElCodigo() {
+        store.guardar(solicitud("test@correo.com", "12345", Duration.ofMinutes(10)));
+
+        assertFalse(store.validar("test@correo.com", "00000"));
+        assertFalse(store.validar("test@correo.com", "00001"));
+        assertFalse(store.validar("test@correo.com", "00002"));
+
+        assertFalse(store.validar("test@correo.com", "12345"));
+    }
+
+    @Test
+    void eliminar_consumeElCodigo() {
+        store.guardar(solicitud("test@correo.com", "12345", Duration.ofMinutes(10)));
+
+        store.eliminar("test@correo.com", "12345");
+
+        assertFalse(store.validar("test@correo.com", "12345"));
+    }
+
+    // ================= RUEDA DE TIEMPO =================
+
+    @Test
+    void avanzar_liberaLosVencidosSinLeerlos() {
+        store.guardar(solicitud("a@correo.com", "1", Duration.ofSeconds(20)));
+        store.guardar(solicitud("b@correo.com", "2", Duration.ofMinutes(10)));
+
+        reloj.avanzar(Duration.ofSeconds(30));
+        store.avanzar();
+
+        assertEquals(1, store.tamano());
+    }
+
+    @Test
+    void avanzar_reprogramaLosQueVencenMasAllaDeUnaVuelta() {
+        // 8 ranuras de 15 s = 2 minutos por vuelta; el código vive 10 minutos
+        store.guardar(solicitud("test@correo.com", "12345", Duration.ofMinutes(10)));
+
+        for (int i = 0; i < 36; i++) {
+            reloj.avanzar(Duration.ofSeconds(15));
+            store.avanzar();
+        }
+        assertEquals(1, store.tamano());
+
+        for (int i = 0; i < 6; i++) {
+            reloj.avanzar(Duration.ofSeconds(15));
+            store.avanzar();
+        }
+        assertEquals(0, store.tamano());
+    }
+
+    private PasswordReset solicitud(String email, String codigo, Duration vigencia) {
+        LocalDateTime ahora = LocalDateTime.now(reloj);
+        PasswordReset reset = new PasswordReset();
+        reset.setEmail(email);
+        reset.setRecoveryCode(codigo);
+        reset.setCreatedAt(ahora);
+        reset.setExpiresAt(ahora.plus(vigencia));
+        return reset;
+    }
+
+    private static class RelojManual extends Clock {
+        private Instant ahora;
+
+        RelojManual(Instant inicio) {
+            this.ahora = inicio;
+        }
+
+        void avanzar(Duration d) {
+            ahora = ahora.plus(d);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return ahora;
+        }
+    }
+}
@@ -5,11 +5,12 @@ import static org.mockito.Mockito.*;
 
 import java.time.LocalDateTime;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import com.example.user.model.PasswordReset;
 import com.example.user.repository.PasswordRecoveryRepository;
@@ -17,12 +18,18 @@ import com.example.user.repository.PasswordRecoveryRepository;
 @ExtendWith(MockitoExtension.class)
 class PasswordRecoveryServiceTest {
 
-    @InjectMocks
     private PasswordRecoveryService service;
 
     @Mock
     private PasswordRecoveryRepository repo;
 
+    @BeforeEach
+    void setup() {
+        // Store por defecto (recuperacion.store=jpa)
+        service = new PasswordRecoveryService();
+        ReflectionTestUtils.setField(service, "store", new JpaPasswordRecoveryStore(repo));
+    }
+
     // ================= GENERAR CÓDIGO =================
 
     @Test
@@ -111,4 +118,17 @@ class PasswordRecoveryServiceTest {
 
         assertFalse(valido);
     }
+
+    // ================= CONSUMIR CÓDIGO =================
+
+    @Test
+    void consumirCodigo_eliminaElRegistro() {
+        PasswordReset reset = new PasswordReset();
+        when(repo.findByEmailAndRecoveryCode("test@correo.com", "12345"))
+                .thenReturn(reset);
+
+        service.consumirCodigo("test@correo.com", "12345");
+
+        verify(repo).delete(reset);
+    }
 }
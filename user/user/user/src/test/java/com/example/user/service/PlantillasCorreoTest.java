@@ -0,0 +1,36 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+class PlantillasCorreoTest {
+
+    private final PlantillasCorreo plantillas = new PlantillasCorreo();
+
+    @Test
+    void renderizar_reemplazaLasVariables() {
+        String html = plantillas.renderizar(PlantillasCorreo.RECUPERACION,
+                Map.of("correo", "matias@test.com", "codigo", "12345"));
+
+        assertTrue(html.startsWith("<html><body><p>Hola <strong>matias@test.com</strong>,</p>"));
+        assertTrue(html.contains("<h2 style='font-size:22px;'>12345</h2>"));
+        assertFalse(html.contains("{{"));
+    }
+
+    @Test
+    void renderizar_escapaHtmlDeLosValores() {
+        String html = plantillas.renderizar(PlantillasCorreo.RECUPERACION,
+                Map.of("correo", "<script>x</script>", "codigo", "1"));
+
+        assertTrue(html.contains("&lt;script&gt;x&lt;/script&gt;"));
+    }
+
+    @Test
+    void renderizar_faltaVariable() {
+        assertThrows(IllegalArgumentException.class, () ->
+                plantillas.renderizar(PlantillasCorreo.RECUPERACION, Map.of("correo", "a@test.com")));
+    }
+}
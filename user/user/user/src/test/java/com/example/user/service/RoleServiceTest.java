@@ -0,0 +1,144 @@
+package com.example.user.service;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import com.example.user.model.Rol;
+import com.example.user.repository.RoleRepository;
+
+@ExtendWith(MockitoExtension.class)
+class RoleServiceTest {
+
+    @InjectMocks
+    private RoleService roleService;
+
+    @Mock
+    private RoleRepository roleRepository;
+
+    private List<Rol> enBase;
+
+    @BeforeEach
+    void setup() {
+        enBase = new ArrayList<>(List.of(
+                new Rol(2L, "USER", null),
+                new Rol(1L, "ADMIN", null),
+                new Rol(3L, "DEALER", null)));
+        lenient().when(roleRepository.findAll()).thenAnswer(i -> List.copyOf(enBase));
+    }
+
+    @AfterEach
+    void limpiar() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    // ================= LECTURAS =================
+
+    @Test
+    void obtenerRolPorId_cargaUnaSolaVez() {
+        assertEquals("ADMIN", roleService.obtenerRolPorId(1L).getNombre());
+        assertEquals("USER", roleService.obtenerRolPorId(2L).getNombre());
+        assertEquals(3L, roleService.obtenerRolPorNombre("DEALER").getId());
+        assertEquals(List.of("ADMIN", "USER", "DEALER"),
+                roleService.buscarRoles().stream().map(Rol::getNombre).toList());
+
+        verify(roleRepository, times(1)).findAll();
+        verify(roleRepository, never()).findById(any());
+    }
+
+    @Test
+    void obtenerRolPorId_devuelveCopias() {
+        roleService.obtenerRolPorId(1L).setNombre("CAMBIADO");
+
+        assertEquals("ADMIN", roleService.obtenerRolPorId(1L).getNombre());
+    }
+
+    @Test
+    void obtenerRolPorId_noExiste() {
+        RuntimeException ex = assertThrows(RuntimeException.class, () -> roleService.obtenerRolPorId(9L));
+
+        assertEquals("Rol no encontrado ID: 9", ex.getMessage());
+    }
+
+    @Test
+    void obtenerRolPorId_rolNuevoEnLaBaseRecargaUnaVez() {
+        roleService.obtenerRolPorId(1L);
+        enBase.add(new Rol(4L, "SOPORTE", null));
+
+        assertEquals("SOPORTE", roleService.obtenerRolPorId(4L).getNombre());
+        verify(roleRepository, times(2)).findAll();
+    }
+
+    // ================= ESCRITURA =================
+
+    @Test
+    void guardarRol_recargaLaCache() {
+        roleService.buscarRoles();
+        when(roleRepository.save(any(Rol.class))).thenAnswer(i -> {
+            Rol rol = i.getArgument(0);
+            rol.setId(4L);
+            enBase.add(rol);
+            return rol;
+        });
+
+        Rol rol = new Rol();
+        rol.setNombre("SOPORTE");
+        roleService.guardarRol(rol);
+
+        assertEquals(4, roleService.buscarRoles().size());
+        assertEquals(4L, roleService.obtenerRolPorNombre("SOPORTE").getId());
+    }
+
+    @Test
+    void guardarRol_conTransaccion_recargaRecienAlCommit() {
+        roleService.buscarRoles();
+        when(roleRepository.save(any(Rol.class))).thenAnswer(i -> {
+            Rol rol = i.getArgument(0);
+            rol.setId(4L);
+            enBase.add(rol);
+            return rol;
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        roleService.guardarRol(new Rol(0L, "SOPORTE", null));
+        assertEquals(3, roleService.buscarRoles().size());
+
+        TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+
+        assertEquals(4, roleService.buscarRoles().size());
+    }
+
+    @Test
+    void guardarRol_siSeRevierteLaCacheNoCambia() {
+        roleService.buscarRoles();
+        when(roleRepository.save(any(Rol.class))).thenAnswer(i -> {
+            Rol rol = i.getArgument(0);
+            rol.setId(4L);
+            return rol;
+        });
+
+        TransactionSynchronizationManager.initSynchronization();
+        roleService.guardarRol(new Rol(0L, "SOPORTE", null));
+        TransactionSynchronizationUtils.invokeAfterCompletion(TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertEquals(3, roleService.buscarRoles().size());
+        verify(roleRepository, times(1)).findAll();
+    }
+}
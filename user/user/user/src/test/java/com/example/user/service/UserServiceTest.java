@@ -3,22 +3,27 @@ package com.example.user.service;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
+import java.util.Arrays;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import com.example.user.model.*;
 import com.example.user.model.Dto.ChangeusernameRequest;
+import com.example.user.model.Dto.PaginaUsuarios;
 import com.example.user.model.Dto.UserUpdateResponse;
-import com.example.user.repository.PasswordRecoveryRepository;
-import com.example.user.repository.RoleRepository;
+import com.example.user.model.Dto.UsuarioResumen;
 import com.example.user.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,19 +35,21 @@ class UserServiceTest {
     @Mock
     private UserRepository usuarioRepository;
     @Mock
-    private RoleRepository roleRepository;
+    private RoleService roleService;
     @Mock
     private PasswordEncoder passwordEncoder;
     @Mock
     private PasswordRecoveryService passwordRecoveryService;
     @Mock
-    private PasswordRecoveryRepository passwordRecoveryRepository;
-    @Mock
     private JwtUtil jwtUtil;
     @Mock
     private JwtPasswordReset jwtPasswordReset;
     @Mock
-    private EmailService emailService;
+    private CorreoOutboxService correoOutboxService;
+    @Mock
+    private ExistenciaUsuarios existenciaUsuarios;
+    @Spy
+    private PlantillasCorreo plantillasCorreo = new PlantillasCorreo();
 
     private User user;
     private Rol rol;
@@ -61,6 +68,21 @@ class UserServiceTest {
         user.setRol(rol);
     }
 
+    // ================= RECUPERAR CONTRASEÑA =================
+
+    @Test
+    void solicitarRecuperacionContrasena_encolaCorreo() {
+        PasswordReset solicitud = new PasswordReset();
+        solicitud.setRecoveryCode("12345");
+        when(usuarioRepository.findByCorreo("matias@test.com")).thenReturn(Optional.of(user));
+        when(passwordRecoveryService.crearSolicitud("matias@test.com")).thenReturn(solicitud);
+
+        userService.solicitarRecuperacionContrasena("matias@test.com");
+
+        verify(correoOutboxService).encolar(
+                eq("matias@test.com"), eq("Recuperación de contraseña DuoDeal"), contains("12345"));
+    }
+
     // ================= LOGIN =================
 
     @Test
@@ -69,7 +91,7 @@ class UserServiceTest {
                 .thenReturn(Optional.of(user));
         when(passwordEncoder.matches("123456", "encodedPass"))
                 .thenReturn(true);
-        when(jwtUtil.generarToken("matias", "ROLE_USER"))
+        when(jwtUtil.generarToken("matias", "ROLE_USER", 1L))
                 .thenReturn("token123");
 
         AuthResponse response = userService.autenticarUsuario(
@@ -80,6 +102,21 @@ class UserServiceTest {
         assertEquals("token123", response.getToken());
     }
 
+    @Test
+    void autenticarUsuario_rehasheaSiCambioElCosto() {
+        when(usuarioRepository.findByCorreo("matias@test.com"))
+                .thenReturn(Optional.of(user));
+        when(passwordEncoder.matches("123456", "encodedPass"))
+                .thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPass")).thenReturn(true);
+        when(passwordEncoder.encode("123456")).thenReturn("rehash");
+
+        userService.autenticarUsuario("matias@test.com", "123456");
+
+        assertEquals("rehash", user.getPassword());
+        verify(usuarioRepository).save(user);
+    }
+
     @Test
     void autenticarUsuario_passwordIncorrecta() {
         when(usuarioRepository.findByCorreo(anyString()))
@@ -87,7 +124,7 @@ class UserServiceTest {
         when(passwordEncoder.matches(anyString(), anyString()))
                 .thenReturn(false);
 
-        RuntimeException ex = assertThrows(RuntimeException.class,
+        RuntimeException ex = assertThrows(CredencialesInvalidasException.class,
                 () -> userService.autenticarUsuario("matias@test.com", "bad"));
 
         assertEquals("Credenciales inválidas", ex.getMessage());
@@ -99,7 +136,7 @@ class UserServiceTest {
     void crearUsuario_ok() {
         when(usuarioRepository.existsByUsername("matias")).thenReturn(false);
         when(usuarioRepository.existsByCorreo("matias@test.com")).thenReturn(false);
-        when(roleRepository.findById(1L)).thenReturn(Optional.of(rol));
+        when(roleService.obtenerRolPorId(1L)).thenReturn(rol);
         when(passwordEncoder.encode("123456")).thenReturn("encoded");
         when(usuarioRepository.save(any(User.class)))
                 .thenAnswer(i -> i.getArgument(0));
@@ -156,6 +193,7 @@ class UserServiceTest {
 
         assertTrue(msg.contains("eliminado"));
         verify(usuarioRepository).deleteById(1L);
+        verify(existenciaUsuarios).olvidar(1L);
     }
 
     // ================= CAMBIAR NOMBRE =================
@@ -190,6 +228,50 @@ class UserServiceTest {
         assertEquals(1, users.size());
     }
 
+    @Test
+    void listarUsuarios_pideUnoDeMasParaElCursor() {
+        when(usuarioRepository.buscarPagina(0L, "ADMIN", "ma!_x%", PageRequest.of(0, 3)))
+                .thenReturn(List.of(
+                        new UsuarioResumen(1L, "ma_x1", "a@test.com", "ADMIN"),
+                        new UsuarioResumen(4L, "ma_x2", "b@test.com", "ADMIN"),
+                        new UsuarioResumen(9L, "ma_x3", "c@test.com", "ADMIN")));
+
+        PaginaUsuarios pagina = userService.listarUsuarios(null, " admin ", "MA_x", 2);
+
+        assertEquals(2, pagina.getUsuarios().size());
+        assertEquals(4L, pagina.getSiguiente());
+    }
+
+    @Test
+    void buscarUsuariosPorIds_unaConsultaSinRepetidos() {
+        when(usuarioRepository.buscarResumenes(new LinkedHashSet<>(List.of(3L, 1L))))
+                .thenReturn(List.of(new UsuarioResumen(1L, "matias", "c@test.com", "USER")));
+
+        List<UsuarioResumen> usuarios = userService.buscarUsuariosPorIds(Arrays.asList(3L, 1L, 3L, null, -2L));
+
+        assertEquals(1, usuarios.size());
+        verify(usuarioRepository, times(1)).buscarResumenes(anyCollection());
+    }
+
+    @Test
+    void buscarUsuariosPorIds_demasiados() {
+        List<Long> ids = LongStream.rangeClosed(1, UserService.MAX_IDS_POR_CONSULTA + 1).boxed().toList();
+
+        assertThrows(RuntimeException.class, () -> userService.buscarUsuariosPorIds(ids));
+        verify(usuarioRepository, never()).buscarResumenes(anyCollection());
+    }
+
+    @Test
+    void listarUsuarios_ultimaPagina() {
+        when(usuarioRepository.buscarPagina(4L, null, null, PageRequest.of(0, UserService.MAX_POR_PAGINA + 1)))
+                .thenReturn(List.of(new UsuarioResumen(9L, "matias", "c@test.com", "USER")));
+
+        PaginaUsuarios pagina = userService.listarUsuarios(4L, null, "", 5000);
+
+        assertEquals(1, pagina.getUsuarios().size());
+        assertNull(pagina.getSiguiente());
+    }
+
     @Test
     void getUsuario_ok() {
         when(usuarioRepository.findById(1L))